@@ -9,7 +9,7 @@ fi
 config=$1
 
 # Create the compacted topics.
-for topic in "$1"
+for topic in "$1" "${1}Snapshot"
 do
     kafka/bin/kafka-topics.sh  --bootstrap-server localhost:9092 --create --replication-factor 1 --partitions 1 --topic $topic
     kafka/bin/kafka-configs.sh --bootstrap-server localhost:9092 --entity-type topics --alter --entity-name $topic \
@@ -123,6 +123,12 @@ public class AlarmSystem extends AlarmSystemConstants
 
     @Preference public static int max_block_ms;
 
+    /** Period in seconds for publishing snapshots, 0 to disable */
+    @Preference public static int snapshot_secs;
+
+    /** Should clients start from the last snapshot? */
+    @Preference public static boolean use_snapshot;
+
     /** Macros used in UI display/command/web links */
     public static MacroValueProvider macros;
 
@@ -33,4 +33,7 @@ public class AlarmSystemConstants {
 
     /** Suffix for the topic that contains non compacted aggregate of other topics. */
     public static final String LONG_TERM_TOPIC_SUFFIX = "LongTerm";
+
+    /** Suffix for the topic that server uses to publish snapshots of the configuration and state */
+    public static final String SNAPSHOT_TOPIC_SUFFIX = "Snapshot";
 }
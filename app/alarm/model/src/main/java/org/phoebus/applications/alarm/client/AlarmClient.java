@@ -12,6 +12,7 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.record.TimestampType;
 import org.phoebus.applications.alarm.AlarmSystem;
 import org.phoebus.applications.alarm.model.AlarmTreeItem;
@@ -24,6 +25,7 @@ import org.phoebus.util.time.TimestampFormats;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -45,6 +47,11 @@ import static org.phoebus.applications.alarm.AlarmSystem.logger;
  * of the complete alarm information,
  * updating listeners with all changes.
  *
+ * <p>When the alarm server publishes snapshots,
+ * the client starts with the latest snapshot
+ * and then reads the topic from the offset of that snapshot,
+ * instead of reading all messages in the topic.
+ *
  * @author Kay Kasemir
  */
 @SuppressWarnings("nls")
@@ -54,6 +61,16 @@ public class AlarmClient {
      */
     private final String config_topic, command_topic;
 
+    /**
+     * Kafka servers and properties file, used to read snapshot
+     */
+    private final String server, kafka_properties_file;
+
+    /**
+     * Offsets in config topic where to start reading after snapshot
+     */
+    private final Map<TopicPartition, Long> start_offsets = new ConcurrentHashMap<>();
+
     /**
      * Listeners to this client
      */
@@ -131,10 +148,12 @@ public class AlarmClient {
 
         config_topic = config_name;
         command_topic = config_name + AlarmSystem.COMMAND_TOPIC_SUFFIX;
+        this.server = server;
+        this.kafka_properties_file = kafka_properties_file;
 
         root = new AlarmClientNode(null, config_name);
         final List<String> topics = List.of(config_topic);
-        consumer = KafkaHelper.connectConsumer(server, topics, topics, kafka_properties_file);
+        consumer = KafkaHelper.connectConsumer(server, topics, topics, start_offsets, kafka_properties_file);
         producer = KafkaHelper.connectProducer(server, kafka_properties_file);
 
         thread = new Thread(this::run, "AlarmClientModel " + config_name);
@@ -237,6 +256,8 @@ public class AlarmClient {
         // to be cleared once we receive data from server.
         checkServerState();
         try {
+            if (AlarmSystem.use_snapshot)
+                loadSnapshot();
             while (running.get()) {
                 checkUpdates();
                 checkServerState();
@@ -251,6 +272,36 @@ public class AlarmClient {
         }
     }
 
+    /**
+     * Load latest snapshot
+     *
+     * <p>Must be called before the first poll of the consumer,
+     * which then continues at the offsets of the snapshot.
+     */
+    private void loadSnapshot() {
+        final long start = System.currentTimeMillis();
+        final AlarmSnapshot snapshot;
+        try {
+            snapshot = AlarmSnapshot.read(server, config_topic, kafka_properties_file);
+        } catch (final Exception ex) {
+            logger.log(Level.WARNING, "Cannot read alarm snapshot for " + config_topic, ex);
+            return;
+        }
+        if (snapshot == null) {
+            logger.log(Level.INFO, "No alarm snapshot for " + config_topic);
+            return;
+        }
+
+        for (final AlarmSnapshot.Message message : snapshot.getMessages())
+            handleUpdate(config_topic, message.key, message.value, message.timestamp);
+        for (final Map.Entry<Integer, Long> offset : snapshot.getOffsets().entrySet())
+            start_offsets.put(new TopicPartition(config_topic, offset.getKey()), offset.getValue());
+        logger.log(Level.INFO, () -> "Loaded alarm snapshot for " + config_topic + " from " +
+                                     TimestampFormats.MILLI_FORMAT.format(Instant.ofEpochMilli(snapshot.getCreated())) +
+                                     " with " + snapshot.getMessages().size() + " messages in " +
+                                     (System.currentTimeMillis() - start) + " ms");
+    }
+
     /**
      * Time spent in checkUpdates() waiting for, well, updates
      */
@@ -275,22 +326,32 @@ public class AlarmClient {
      * @param record Kafka record
      */
     private void handleUpdate(final ConsumerRecord<String, String> record) {
-        final int sep = record.key().indexOf(':');
+        if (record.timestampType() != TimestampType.CREATE_TIME)
+            logger.log(Level.WARNING, "Expect updates with CreateTime, got " + record.timestampType() + ": " + record.timestamp() + " " + record.key() + " = " + record.value());
+        handleUpdate(record.topic(), record.key(), record.value(), record.timestamp());
+    }
+
+    /**
+     * Handle one update
+     *
+     * @param topic     Topic of the update
+     * @param key       Key, "type:path"
+     * @param value     Value, <code>null</code> when deleted
+     * @param timestamp Time stamp in millisecs
+     */
+    private void handleUpdate(final String topic, final String key, final String value, final long timestamp) {
+        final int sep = key.indexOf(':');
         if (sep < 0) {
-            logger.log(Level.WARNING, "Invalid key, expecting type:path, got " + record.key());
+            logger.log(Level.WARNING, "Invalid key, expecting type:path, got " + key);
             return;
         }
 
-        final String type = record.key().substring(0, sep + 1);
-        final String path = record.key().substring(sep + 1);
-        final long timestamp = record.timestamp();
-        final String node_config = record.value();
-
-        if (record.timestampType() != TimestampType.CREATE_TIME)
-            logger.log(Level.WARNING, "Expect updates with CreateTime, got " + record.timestampType() + ": " + record.timestamp() + " " + path + " = " + node_config);
+        final String type = key.substring(0, sep + 1);
+        final String path = key.substring(sep + 1);
+        final String node_config = value;
 
         logger.log(Level.FINE, () ->
-                record.topic() + " @ " +
+                topic + " @ " +
                         TimestampFormats.MILLI_FORMAT.format(Instant.ofEpochMilli(timestamp)) + " " +
                         type + path + " = " + node_config);
 
@@ -309,7 +370,7 @@ public class AlarmClient {
                     }
                 } else {   // Configuration update
                     if (JsonModelReader.isStateUpdate(json))
-                        logger.log(Level.WARNING, "Got config update with state content: " + record.key() + " " + node_config);
+                        logger.log(Level.WARNING, "Got config update with state content: " + key + " " + node_config);
                     else {
                         AlarmTreeItem<?> node = findNode(path);
                         // New node? Will need to send update. Otherwise update when there's a change
@@ -321,14 +382,14 @@ public class AlarmClient {
                 }
             } else if (type.equals(AlarmSystem.STATE_PREFIX)) {   // State update
                 if (json == null) {   // State update for deleted node, ignore
-                    logger.log(Level.FINE, () -> "Got state update for deleted node: " + record.key() + " " + node_config);
+                    logger.log(Level.FINE, () -> "Got state update for deleted node: " + key + " " + node_config);
                     return;
                 } else if (!JsonModelReader.isStateUpdate(json)) {
-                    logger.log(Level.WARNING, "Got state update with config content: " + record.key() + " " + node_config);
+                    logger.log(Level.WARNING, "Got state update with config content: " + key + " " + node_config);
                     return;
                 } else if (deleted_paths.contains(path)) {
                     // It it _deleted_??
-                    logger.log(Level.FINE, () -> "Ignoring state for deleted item: " + record.key() + " " + node_config);
+                    logger.log(Level.FINE, () -> "Ignoring state for deleted item: " + key + " " + node_config);
                     return;
                 } else {
                     AlarmTreeItem<?> node = findNode(path);
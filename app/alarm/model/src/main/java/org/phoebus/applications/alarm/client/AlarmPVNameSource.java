@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.applications.alarm.client;
+
+import java.util.function.Consumer;
+
+import org.phoebus.applications.alarm.AlarmSystem;
+import org.phoebus.applications.alarm.model.AlarmTreeItem;
+import org.phoebus.framework.spi.PVNameSource;
+
+/** Provides the PV names of all alarm configurations for the local PV name index
+ *
+ *  <p>Reads each configuration, waiting for a pause in configuration
+ *  updates like {@link AlarmConfigMonitor}, then lists the PVs.
+ */
+@SuppressWarnings("nls")
+public class AlarmPVNameSource implements PVNameSource
+{
+    @Override
+    public String getName()
+    {
+        return "Alarm configuration";
+    }
+
+    @Override
+    public void collectPVNames(final Consumer<String> names) throws Exception
+    {
+        final String[] configs = AlarmSystem.config_names.length > 0
+                               ? AlarmSystem.config_names
+                               : new String[] { AlarmSystem.config_name };
+        for (String config : configs)
+        {
+            final AlarmClient client = new AlarmClient(AlarmSystem.server, config, AlarmSystem.kafka_properties);
+            final AlarmConfigMonitor monitor = new AlarmConfigMonitor(10, 4, client);
+            try
+            {
+                client.start();
+                monitor.waitForPauseInUpdates(60);
+                collect(client.getRoot(), names);
+            }
+            finally
+            {
+                monitor.dispose();
+                client.shutdown();
+            }
+        }
+    }
+
+    private void collect(final AlarmTreeItem<?> item, final Consumer<String> names)
+    {
+        if (item instanceof AlarmClientLeaf)
+            names.accept(item.getName());
+        else
+            for (AlarmTreeItem<?> child : item.getChildren())
+                collect(child, names);
+    }
+}
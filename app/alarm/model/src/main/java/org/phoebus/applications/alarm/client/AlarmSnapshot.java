@@ -0,0 +1,348 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.applications.alarm.client;
+
+import static org.phoebus.applications.alarm.AlarmSystem.logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.phoebus.applications.alarm.AlarmSystem;
+
+/** Snapshot of the alarm configuration and state
+ *
+ *  <p>Holds the most recent config and state message for each path,
+ *  as found in the configuration topic up to the offsets of the snapshot.
+ *  A client that handles these messages and then reads the
+ *  configuration topic from those offsets on
+ *  has the same information as a client that reads
+ *  the complete configuration topic.
+ *
+ *  <p>The snapshot is published by the alarm server as compressed binary data,
+ *  split into chunks that fit into Kafka messages.
+ *  The "...Snapshot" topic is compacted, keeping the latest message for each chunk.
+ */
+@SuppressWarnings("nls")
+public class AlarmSnapshot
+{
+    /** Message in the configuration topic */
+    public static class Message
+    {
+        /** Key, "config:/path" or "state:/path" */
+        public final String key;
+
+        /** Value, <code>null</code> for deleted path */
+        public final String value;
+
+        /** Time stamp in millisecs */
+        public final long timestamp;
+
+        /** @param key Key
+         *  @param value Value, <code>null</code> for deleted path
+         *  @param timestamp Time stamp in millisecs
+         */
+        public Message(final String key, final String value, final long timestamp)
+        {
+            this.key = key;
+            this.value = value;
+            this.timestamp = timestamp;
+        }
+    }
+
+    /** Marker for snapshot data and chunks */
+    private static final int MAGIC = 0x414C534E;
+
+    /** Encoding version */
+    private static final int VERSION = 1;
+
+    /** Size of chunk header: MAGIC, ID, index, count */
+    private static final int CHUNK_HEADER = 4 + 8 + 4 + 4;
+
+    /** Size of a chunk, below Kafka's default limit of 1MB per message */
+    public static final int CHUNK_SIZE = 512 * 1024;
+
+    /** Prefix for the key of each chunk */
+    public static final String CHUNK_PREFIX = "chunk:";
+
+    /** Timeout for reading the snapshot */
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final long created;
+    private final Map<Integer, Long> offsets;
+    private final List<Message> messages;
+
+    /** @param created Creation time in millisecs, also used to identify the snapshot
+     *  @param offsets Offsets in configuration topic by partition
+     *  @param messages Messages, in the order in which they were received
+     */
+    public AlarmSnapshot(final long created, final Map<Integer, Long> offsets, final List<Message> messages)
+    {
+        this.created = created;
+        this.offsets = Collections.unmodifiableMap(offsets);
+        this.messages = Collections.unmodifiableList(messages);
+    }
+
+    /** @return Creation time in millisecs */
+    public long getCreated()
+    {
+        return created;
+    }
+
+    /** @return Offset of the next message in the configuration topic by partition */
+    public Map<Integer, Long> getOffsets()
+    {
+        return offsets;
+    }
+
+    /** @return Messages, in the order in which they were received */
+    public List<Message> getMessages()
+    {
+        return messages;
+    }
+
+    /** @param out Stream
+     *  @param text Text to write as UTF-8, may be <code>null</code>
+     *  @throws IOException on error
+     */
+    private static void writeText(final DataOutputStream out, final String text) throws IOException
+    {
+        if (text == null)
+            out.writeInt(-1);
+        else
+        {
+            final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    /** @param in Stream
+     *  @return Text or <code>null</code>
+     *  @throws IOException on error
+     */
+    private static String readText(final DataInputStream in) throws IOException
+    {
+        final int length = in.readInt();
+        if (length < 0)
+            return null;
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** @return Compressed snapshot data
+     *  @throws IOException on error
+     */
+    public byte[] toBytes() throws IOException
+    {
+        final ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(buf, 64 * 1024)))
+        {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(created);
+            out.writeInt(offsets.size());
+            for (Map.Entry<Integer, Long> offset : offsets.entrySet())
+            {
+                out.writeInt(offset.getKey());
+                out.writeLong(offset.getValue());
+            }
+            out.writeInt(messages.size());
+            for (Message message : messages)
+            {
+                writeText(out, message.key);
+                writeText(out, message.value);
+                out.writeLong(message.timestamp);
+            }
+        }
+        return buf.toByteArray();
+    }
+
+    /** @param data Compressed snapshot data
+     *  @return {@link AlarmSnapshot}
+     *  @throws IOException on error
+     */
+    public static AlarmSnapshot fromBytes(final byte[] data) throws IOException
+    {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(data), 64 * 1024)))
+        {
+            if (in.readInt() != MAGIC)
+                throw new IOException("Invalid alarm snapshot");
+            final int version = in.readInt();
+            if (version != VERSION)
+                throw new IOException("Unknown alarm snapshot version " + version);
+            final long created = in.readLong();
+            int N = in.readInt();
+            final Map<Integer, Long> offsets = new HashMap<>(N);
+            for (int i=0; i<N; ++i)
+                offsets.put(in.readInt(), in.readLong());
+            N = in.readInt();
+            final List<Message> messages = new ArrayList<>(N);
+            for (int i=0; i<N; ++i)
+                messages.add(new Message(readText(in), readText(in), in.readLong()));
+            return new AlarmSnapshot(created, offsets, messages);
+        }
+    }
+
+    /** @param chunk_size Size of each chunk's data
+     *  @return Chunks that each hold part of the compressed snapshot data
+     *  @throws IOException on error
+     */
+    public List<byte[]> toChunks(final int chunk_size) throws IOException
+    {
+        final byte[] data = toBytes();
+        final int count = Math.max(1, (data.length + chunk_size - 1) / chunk_size);
+        final List<byte[]> chunks = new ArrayList<>(count);
+        for (int i=0; i<count; ++i)
+        {
+            final int start = i * chunk_size;
+            final int length = Math.min(chunk_size, data.length - start);
+            final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_HEADER + length);
+            chunk.putInt(MAGIC);
+            chunk.putLong(created);
+            chunk.putInt(i);
+            chunk.putInt(count);
+            chunk.put(data, start, length);
+            chunks.add(chunk.array());
+        }
+        return chunks;
+    }
+
+    /** Assemble snapshot from chunks
+     *
+     *  <p>The chunks may include outdated chunks of an older snapshot,
+     *  or only some chunks of a snapshot that's currently being published.
+     *
+     *  @param chunks Chunks in any order
+     *  @return {@link AlarmSnapshot} or <code>null</code> if chunks do not form a complete snapshot
+     *  @throws IOException on error
+     */
+    public static AlarmSnapshot fromChunks(final Collection<byte[]> chunks) throws IOException
+    {
+        // Chunk 0 identifies the snapshot
+        final Map<Integer, ByteBuffer> by_index = new HashMap<>();
+        for (byte[] data : chunks)
+        {
+            final ByteBuffer chunk = ByteBuffer.wrap(data);
+            if (data.length < CHUNK_HEADER  ||  chunk.getInt() != MAGIC)
+                throw new IOException("Invalid alarm snapshot chunk");
+            final long id = chunk.getLong();
+            final int index = chunk.getInt();
+            chunk.getInt();
+            if (by_index.put(index, chunk.rewind()) != null)
+                logger.log(Level.FINE, () -> "Duplicate snapshot chunk " + index + " of " + id);
+        }
+        final ByteBuffer first = by_index.get(0);
+        if (first == null)
+            return null;
+        final long id = first.getLong(4);
+        final int count = first.getInt(16);
+
+        final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        for (int i=0; i<count; ++i)
+        {
+            final ByteBuffer chunk = by_index.get(i);
+            if (chunk == null  ||  chunk.getLong(4) != id  ||  chunk.getInt(16) != count)
+            {
+                logger.log(Level.FINE, "Incomplete alarm snapshot " + id + ", missing chunk " + i + " of " + count);
+                return null;
+            }
+            data.write(chunk.array(), CHUNK_HEADER, chunk.capacity() - CHUNK_HEADER);
+        }
+        return fromBytes(data.toByteArray());
+    }
+
+    /** Read latest snapshot
+     *
+     *  @param kafka_servers Kafka servers
+     *  @param config_name Name of alarm tree root
+     *  @param properties_file File name to load additional settings for the kafka consumer
+     *  @return {@link AlarmSnapshot} or <code>null</code> if there is no complete snapshot
+     *  @throws Exception on error
+     */
+    public static AlarmSnapshot read(final String kafka_servers, final String config_name,
+                                     final String properties_file) throws Exception
+    {
+        final String topic = config_name + AlarmSystem.SNAPSHOT_TOPIC_SUFFIX;
+        final Properties kafka_props = KafkaHelper.loadPropsFromFile(properties_file);
+        kafka_props.put("bootstrap.servers", kafka_servers);
+        // Partitions are assigned, no group or committed offsets
+        kafka_props.remove("group.id");
+        kafka_props.put("enable.auto.commit", "false");
+        // Don't create the topic when server doesn't publish snapshots
+        kafka_props.put("allow.auto.create.topics", "false");
+
+        try (Consumer<String, byte[]> consumer = new KafkaConsumer<>(kafka_props, new StringDeserializer(), new ByteArrayDeserializer()))
+        {
+            final List<PartitionInfo> infos = consumer.partitionsFor(topic, TIMEOUT);
+            if (infos == null  ||  infos.isEmpty())
+                return null;
+            final List<TopicPartition> parts = new ArrayList<>();
+            for (PartitionInfo info : infos)
+                parts.add(new TopicPartition(topic, info.partition()));
+            consumer.assign(parts);
+            consumer.seekToBeginning(parts);
+            final Map<TopicPartition, Long> end = consumer.endOffsets(parts, TIMEOUT);
+
+            // Keep latest message for each chunk
+            final Map<String, byte[]> chunks = new LinkedHashMap<>();
+            final long timeout = System.currentTimeMillis() + TIMEOUT.toMillis();
+            while (! isAtEnd(consumer, end))
+            {
+                if (System.currentTimeMillis() > timeout)
+                    throw new Exception("Timeout reading " + topic);
+                for (ConsumerRecord<String, byte[]> record : consumer.poll(Duration.ofMillis(100)))
+                {
+                    if (record.key() == null  ||  ! record.key().startsWith(CHUNK_PREFIX))
+                        continue;
+                    if (record.value() == null)
+                        chunks.remove(record.key());
+                    else
+                        chunks.put(record.key(), record.value());
+                }
+            }
+            return fromChunks(chunks.values());
+        }
+    }
+
+    /** @param consumer Consumer
+     *  @param end End offsets
+     *  @return <code>true</code> if consumer has read all partitions up to the end offset
+     */
+    private static boolean isAtEnd(final Consumer<?, ?> consumer, final Map<TopicPartition, Long> end)
+    {
+        for (Map.Entry<TopicPartition, Long> part : end.entrySet())
+            if (consumer.position(part.getKey(), TIMEOUT) < part.getValue())
+                return false;
+        return true;
+    }
+}
@@ -12,7 +12,9 @@ import static org.phoebus.applications.alarm.AlarmSystem.logger;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
 import java.util.logging.Level;
@@ -23,6 +25,7 @@ import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serdes;
 import org.apache.kafka.common.serialization.Serializer;
@@ -59,6 +62,24 @@ public class KafkaHelper
      *  @return {@link Consumer}
      */
     public static Consumer<String, String> connectConsumer(final String kafka_servers, final List<String> topics, final List<String> from_beginning, final String properties_file)
+    {
+        return connectConsumer(kafka_servers, topics, from_beginning, Collections.emptyMap(), properties_file);
+    }
+
+    /** Create a consumer for alarm-type topics
+     *
+     *  <p>De-serialize as strings.
+     *
+     *  @param kafka_servers Servers to read
+     *  @param topics Topics to which to subscribe
+     *  @param from_beginning Topics to read from the beginning
+     *  @param start_offsets Offsets at which to start reading partitions of 'from_beginning' topics.
+     *                       Checked when partitions are assigned, so map may be updated until first poll.
+     *  @param properties_file File name to load additional settings for the kafka consumer
+     *  @return {@link Consumer}
+     */
+    public static Consumer<String, String> connectConsumer(final String kafka_servers, final List<String> topics, final List<String> from_beginning,
+                                                           final Map<TopicPartition, Long> start_offsets, final String properties_file)
     {
         Properties kafka_props = loadPropsFromFile(properties_file);
         kafka_props.put("bootstrap.servers", kafka_servers);
@@ -87,8 +108,17 @@ public class KafkaHelper
                 for (TopicPartition part : parts)
                     if (from_beginning.contains(part.topic()))
                     {
-                        consumer.seekToBeginning(List.of(part));
-                        logger.info("Reading from start of " + part.topic());
+                        final Long offset = start_offsets.get(part);
+                        if (offset != null)
+                        {
+                            consumer.seek(part, offset);
+                            logger.info("Reading " + part.topic() + " from offset " + offset);
+                        }
+                        else
+                        {
+                            consumer.seekToBeginning(List.of(part));
+                            logger.info("Reading from start of " + part.topic());
+                        }
                     }
                     else
                         logger.info("Reading updates for " + part.topic());
@@ -124,6 +154,19 @@ public class KafkaHelper
         return new KafkaProducer<>(kafka_props, serializer, serializer);
     }
 
+    /** Create producer for binary data
+     *  @param kafka_servers Kafka servers
+     *  @param properties_file File name to load additional settings for the kafka producer
+     *  @return {@link Producer}
+     */
+    public static Producer<String, byte[]> connectBinaryProducer(final String kafka_servers, final String properties_file)
+    {
+        Properties kafka_props = loadPropsFromFile(properties_file);
+        kafka_props.put("bootstrap.servers", kafka_servers);
+        kafka_props.put("max.block.ms", AlarmSystem.max_block_ms == 0 ? 10000 : AlarmSystem.max_block_ms);
+        return new KafkaProducer<>(kafka_props, new StringSerializer(), new ByteArraySerializer());
+    }
+
     /**
      * Aggregate multiple topics into a single topic using KafkaStreams.
      * @param kafka_servers - Sever to connect to.
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.applications.alarm;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.phoebus.applications.alarm.client.AlarmClient;
+import org.phoebus.applications.alarm.client.AlarmClientListener;
+import org.phoebus.applications.alarm.client.AlarmSnapshot;
+import org.phoebus.applications.alarm.model.AlarmTreeItem;
+
+/** Demo of the {@link AlarmClient} start time
+ *
+ *  <p>Compares the time until a client has received the complete
+ *  configuration and state with and without the {@link AlarmSnapshot}.
+ *
+ *  <p>Requires Kafka and an alarm server that published a snapshot,
+ *  for example with a large configuration created by AlarmConfigProducerDemo
+ *  and <code>snapshot_secs=10</code>.
+ */
+@SuppressWarnings("nls")
+public class AlarmClientStartupDemo
+{
+    /** @return Millisecs until client stops receiving updates */
+    private static long measureStartup() throws Exception
+    {
+        final AtomicInteger updates = new AtomicInteger();
+        final AtomicLong last_update = new AtomicLong();
+        final AlarmClient client = new AlarmClient(AlarmDemoSettings.SERVERS, AlarmDemoSettings.ROOT, AlarmDemoSettings.KAFKA_PROPERTIES_FILE);
+        client.addListener(new AlarmClientListener()
+        {
+            @Override
+            public void serverStateChanged(final boolean alive)
+            {
+            }
+
+            @Override
+            public void serverModeChanged(final boolean maintenance_mode)
+            {
+            }
+
+            @Override
+            public void serverDisableNotifyChanged(final boolean disable_notify)
+            {
+            }
+
+            @Override
+            public void itemAdded(final AlarmTreeItem<?> item)
+            {
+                updates.incrementAndGet();
+                last_update.set(System.currentTimeMillis());
+            }
+
+            @Override
+            public void itemRemoved(final AlarmTreeItem<?> item)
+            {
+                itemAdded(item);
+            }
+
+            @Override
+            public void itemUpdated(final AlarmTreeItem<?> item)
+            {
+                itemAdded(item);
+            }
+        });
+
+        final long start = System.currentTimeMillis();
+        client.start();
+        // Wait until there have been no updates for 2 seconds
+        do
+            TimeUnit.MILLISECONDS.sleep(500);
+        while (last_update.get() == 0  ||  System.currentTimeMillis() - last_update.get() < 2000);
+        client.shutdown();
+
+        final long ms = last_update.get() - start;
+        System.out.println((AlarmSystem.use_snapshot ? "With snapshot   : " : "Without snapshot: ") +
+                           updates.get() + " updates in " + ms + " ms");
+        return ms;
+    }
+
+    @Test
+    public void testStartup() throws Exception
+    {
+        for (int run=0; run<3; ++run)
+        {
+            AlarmSystem.use_snapshot = false;
+            measureStartup();
+            AlarmSystem.use_snapshot = true;
+            measureStartup();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.applications.alarm.client;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.phoebus.applications.alarm.AlarmSystem;
+import org.phoebus.applications.alarm.model.SeverityLevel;
+import org.phoebus.applications.alarm.model.json.JsonModelWriter;
+
+/** JUnit test of the {@link AlarmSnapshot}
+ *
+ *  <p>Encodes a snapshot for a configuration with 80000 PVs
+ *  and compares the size with that of the messages in the configuration topic.
+ */
+@SuppressWarnings("nls")
+public class AlarmSnapshotTest
+{
+    /** @param pvs Number of PVs
+     *  @return Config and state messages for PVs in 100 areas
+     *  @throws Exception on error
+     */
+    private static List<AlarmSnapshot.Message> createMessages(final int pvs) throws Exception
+    {
+        final List<AlarmSnapshot.Message> messages = new ArrayList<>();
+        final long now = System.currentTimeMillis();
+        for (int i=0; i<pvs; ++i)
+        {
+            final String area = "/Accelerator/Area" + (i % 100);
+            final AlarmClientLeaf pv = new AlarmClientLeaf(area, "Sys" + (i % 7) + ":Device" + i + ":Value");
+            pv.setDescription("Value of device " + i + " is out of range");
+            pv.setDelay(5);
+            final String path = pv.getPathName();
+            messages.add(new AlarmSnapshot.Message(AlarmSystem.CONFIG_PREFIX + path, JsonModelWriter.toJsonString(pv), now));
+
+            final SeverityLevel severity = i % 50 == 0 ? SeverityLevel.MAJOR : SeverityLevel.OK;
+            final ClientState state = new ClientState(severity, "", Double.toString(i * 0.1), Instant.ofEpochMilli(now),
+                                                      severity, "");
+            messages.add(new AlarmSnapshot.Message(AlarmSystem.STATE_PREFIX + path,
+                                                   new String(JsonModelWriter.toJsonBytes(state, false, false)), now));
+        }
+        return messages;
+    }
+
+    private static void assertSame(final AlarmSnapshot copy, final AlarmSnapshot original)
+    {
+        assertThat(copy.getCreated(), equalTo(original.getCreated()));
+        assertThat(copy.getOffsets(), equalTo(original.getOffsets()));
+        assertThat(copy.getMessages().size(), equalTo(original.getMessages().size()));
+        for (int i=0; i<original.getMessages().size(); ++i)
+        {
+            final AlarmSnapshot.Message a = original.getMessages().get(i), b = copy.getMessages().get(i);
+            assertThat(b.key, equalTo(a.key));
+            assertThat(b.value, equalTo(a.value));
+            assertThat(b.timestamp, equalTo(a.timestamp));
+        }
+    }
+
+    @Test
+    public void testChunks() throws Exception
+    {
+        final List<AlarmSnapshot.Message> messages = new ArrayList<>(createMessages(1000));
+        // Deleted item
+        messages.add(new AlarmSnapshot.Message(AlarmSystem.CONFIG_PREFIX + "/Accelerator/Gone", null, 42));
+        final AlarmSnapshot snapshot = new AlarmSnapshot(1000, Map.of(0, 2001L), messages);
+
+        // Small chunks, in any order
+        final List<byte[]> chunks = snapshot.toChunks(1000);
+        assertThat(chunks.size(), greaterThan(5));
+        Collections.reverse(chunks);
+        final AlarmSnapshot copy = AlarmSnapshot.fromChunks(chunks);
+        assertSame(copy, snapshot);
+        assertThat(copy.getMessages().get(messages.size()-1).value, nullValue());
+
+        // Missing chunk
+        final List<byte[]> incomplete = new ArrayList<>(chunks);
+        incomplete.remove(2);
+        assertThat(AlarmSnapshot.fromChunks(incomplete), nullValue());
+
+        // Chunk 0 of a newer snapshot, other chunks still from the old one
+        final AlarmSnapshot newer = new AlarmSnapshot(2000, Map.of(0, 2005L), messages);
+        final List<byte[]> mixed = new ArrayList<>(chunks);
+        mixed.remove(mixed.size()-1);
+        mixed.add(newer.toChunks(1000).get(0));
+        assertThat(AlarmSnapshot.fromChunks(mixed), nullValue());
+
+        // No snapshot at all
+        assertThat(AlarmSnapshot.fromChunks(List.of()), nullValue());
+    }
+
+    @Test
+    public void testLargeConfiguration() throws Exception
+    {
+        final int pvs = 80000;
+        final List<AlarmSnapshot.Message> messages = createMessages(pvs);
+        long raw = 0;
+        for (AlarmSnapshot.Message message : messages)
+            raw += message.key.length() + message.value.length();
+        final AlarmSnapshot snapshot = new AlarmSnapshot(System.currentTimeMillis(), Map.of(0, 123456L), messages);
+
+        long start = System.nanoTime();
+        final List<byte[]> chunks = snapshot.toChunks(AlarmSnapshot.CHUNK_SIZE);
+        final long encode_ms = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long compressed = 0;
+        for (byte[] chunk : chunks)
+            compressed += chunk.length;
+
+        start = System.nanoTime();
+        final AlarmSnapshot copy = AlarmSnapshot.fromChunks(chunks);
+        final long decode_ms = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertSame(copy, snapshot);
+
+        System.out.println(pvs + " PVs: " + messages.size() + " messages with " + raw / 1024 + " kB, " +
+                           "snapshot " + compressed / 1024 + " kB in " + chunks.size() + " chunks, " +
+                           "encoded in " + encode_ms + " ms, decoded in " + decode_ms + " ms");
+        assertThat(compressed, lessThan(raw / 5));
+    }
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.applications.alarm.ui.table;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.phoebus.applications.alarm.client.AlarmClientLeaf;
+
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+
+/** Changes to the rows of one alarm table
+ *
+ *  <p>Created by the {@link AlarmTableModel} with the alarms
+ *  that were added, updated or removed since the last update,
+ *  then applied to the rows of the table on the UI thread.
+ *
+ *  <p>Only the changed rows are removed from the list of rows,
+ *  and their replacements are added.
+ *  The {@link SortedList} of the table inserts each added row
+ *  at its sorted position, so the table does not need to be re-sorted.
+ *  For large changes, sorting once is faster, so the comparator
+ *  is detached while the rows are updated.
+ */
+public class AlarmTableDelta
+{
+    /** Size of change, relative to number of rows, that is applied by sorting all rows */
+    private static final int RESORT_FACTOR = 16;
+
+    /** Rows for alarms that were added or updated */
+    public final List<AlarmInfoRow> updated = new ArrayList<>();
+
+    /** Alarms that are no longer shown */
+    public final List<AlarmClientLeaf> removed = new ArrayList<>();
+
+    /** Total number of alarms, including those that are not shown */
+    public int total = 0;
+
+    /** @return <code>true</code> if there are no added, updated or removed rows */
+    public boolean isEmpty()
+    {
+        return updated.isEmpty()  &&  removed.isEmpty();
+    }
+
+    /** Apply changes to the rows of a table
+     *
+     *  <p>Must be called on the UI thread.
+     *
+     *  @param items Rows of the table, source of the sorted list
+     *  @param rows Rows in <code>items</code> by alarm, will be updated
+     *  @param sorted Sorted list shown in the table
+     *  @param comparator Comparator to which the sorted list is bound
+     *  @param selected Rows that are currently selected
+     *  @return Rows that replaced a selected row
+     */
+    public List<AlarmInfoRow> apply(final ObservableList<AlarmInfoRow> items,
+                                    final Map<AlarmClientLeaf, AlarmInfoRow> rows,
+                                    final SortedList<AlarmInfoRow> sorted,
+                                    final ObservableValue<Comparator<AlarmInfoRow>> comparator,
+                                    final Set<AlarmInfoRow> selected)
+    {
+        // AlarmInfoRow does not implement equals(),
+        // so removeAll() with a hash set only removes the exact rows
+        final Set<AlarmInfoRow> old_rows = Collections.newSetFromMap(new IdentityHashMap<>());
+        final List<AlarmInfoRow> reselect = new ArrayList<>();
+        for (AlarmClientLeaf leaf : removed)
+        {
+            final AlarmInfoRow old = rows.remove(leaf);
+            if (old != null)
+                old_rows.add(old);
+        }
+        for (AlarmInfoRow row : updated)
+        {
+            final AlarmInfoRow old = rows.put(row.item, row);
+            if (old != null)
+            {
+                old_rows.add(old);
+                if (selected.contains(old))
+                    reselect.add(row);
+            }
+        }
+
+        // Each row that's added to or removed from the sorted list
+        // costs O(N), re-sorting all rows costs O(N log N).
+        final boolean resort = (old_rows.size() + updated.size()) * RESORT_FACTOR > items.size();
+        if (resort)
+        {
+            sorted.comparatorProperty().unbind();
+            sorted.setComparator(null);
+        }
+        try
+        {
+            if (! old_rows.isEmpty())
+                items.removeAll(old_rows);
+            if (! updated.isEmpty())
+                items.addAll(updated);
+        }
+        finally
+        {
+            if (resort)
+                sorted.comparatorProperty().bind(comparator);
+        }
+        return reselect;
+    }
+}
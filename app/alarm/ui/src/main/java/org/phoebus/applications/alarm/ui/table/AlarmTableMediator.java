@@ -7,12 +7,9 @@
  *******************************************************************************/
 package org.phoebus.applications.alarm.ui.table;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.phoebus.applications.alarm.client.AlarmClient;
-import org.phoebus.applications.alarm.client.AlarmClientLeaf;
 import org.phoebus.applications.alarm.client.AlarmClientListener;
 import org.phoebus.applications.alarm.model.AlarmTreeItem;
 import org.phoebus.ui.javafx.UpdateThrottle;
@@ -25,6 +22,9 @@ import javafx.application.Platform;
  *  {@link AlarmTableModel}, updating the {@link AlarmTableUI}
  *  as necessary.
  *
+ *  <p>Only the rows of alarms that changed since the last
+ *  update are passed to the UI.
+ *
  *  @author Kay Kasemir
  */
 public class AlarmTableMediator implements AlarmClientListener
@@ -87,12 +87,9 @@ public class AlarmTableMediator implements AlarmClientListener
 
     private void throttledUpdate()
     {
-        final List<AlarmInfoRow> active = new ArrayList<>(),
-                                 acknowledged = new ArrayList<>();
-        for (AlarmClientLeaf pv : model.getActiveAlarms())
-            active.add(new AlarmInfoRow(pv));
-        for (AlarmClientLeaf pv : model.getAcknowledgedAlarms())
-            acknowledged.add(new AlarmInfoRow(pv));
-        Platform.runLater(() -> ui.update(active, acknowledged));
+        final AlarmTableDelta active = new AlarmTableDelta(),
+                              acknowledged = new AlarmTableDelta();
+        if (model.getChanges(active, acknowledged))
+            Platform.runLater(() -> ui.update(active, acknowledged));
     }
 }
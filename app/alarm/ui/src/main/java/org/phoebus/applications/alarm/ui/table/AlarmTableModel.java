@@ -7,25 +7,58 @@
  *******************************************************************************/
 package org.phoebus.applications.alarm.ui.table;
 
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.phoebus.applications.alarm.AlarmSystem;
 import org.phoebus.applications.alarm.client.AlarmClientLeaf;
 import org.phoebus.applications.alarm.client.ClientState;
 import org.phoebus.applications.alarm.model.AlarmTreeItem;
 import org.phoebus.applications.alarm.model.SeverityLevel;
 
 /** Alarm Table Model, i.e. PVs in alarm or acknowledged
+ *
+ *  <p>Tracks the alarms that changed since the last call to
+ *  {@link #getChanges(AlarmTableDelta, AlarmTableDelta)}
+ *  so that the table only needs to update those rows.
+ *
  *  @author Kay Kasemir
  */
 public class AlarmTableModel
 {
+    /** Maximum number of rows shown in each table */
+    private final int max_rows;
+
     /** Active alarms and their last known state */
     private final ConcurrentHashMap<AlarmClientLeaf, ClientState> active = new ConcurrentHashMap<>();
 
     /** Ack'ed alarms and their last known state */
     private final ConcurrentHashMap<AlarmClientLeaf, ClientState> acknowledged = new ConcurrentHashMap<>();
 
+    /** Alarms that changed since the last call to getChanges */
+    private final Set<AlarmClientLeaf> changed = ConcurrentHashMap.newKeySet();
+
+    /** Active alarms shown in the table. SYNC on this */
+    private final Set<AlarmClientLeaf> shown_active = new HashSet<>();
+
+    /** Ack'ed alarms shown in the table. SYNC on this */
+    private final Set<AlarmClientLeaf> shown_acknowledged = new HashSet<>();
+
+    /** Create model that shows up to 'alarm_table_max_rows' in each table */
+    public AlarmTableModel()
+    {
+        this(AlarmSystem.alarm_table_max_rows);
+    }
+
+    /** @param max_rows Maximum number of rows shown in each table */
+    public AlarmTableModel(final int max_rows)
+    {
+        this.max_rows = max_rows;
+    }
+
     /** @param item Item for which update has been received
      *  @return <code>true</code> If this changed the alarm table
      */
@@ -57,6 +90,9 @@ public class AlarmTableModel
             changes |= !state.equals(acknowledged.put(leaf, state));
         }
 
+        // Mark as changed _after_ updating the maps, see getChanges
+        if (changes)
+            changed.add(leaf);
         return changes;
     }
 
@@ -76,6 +112,8 @@ public class AlarmTableModel
         changes |= active.remove(leaf) != null;
         changes |= acknowledged.remove(leaf) != null;
 
+        if (changes)
+            changed.add(leaf);
         return changes;
     }
 
@@ -90,4 +128,74 @@ public class AlarmTableModel
     {
         return acknowledged.keySet();
     }
+
+    /** Get changes since the last call
+     *
+     *  <p>The first call returns all alarms.
+     *  Each table shows at most 'max_rows' alarms.
+     *  When alarms are removed, other alarms that had not been shown
+     *  take their place.
+     *
+     *  @param active_delta Receives changes to the active alarms
+     *  @param acknowledged_delta Receives changes to the ack'ed alarms
+     *  @return <code>true</code> if there are changes
+     */
+    public synchronized boolean getChanges(final AlarmTableDelta active_delta,
+                                           final AlarmTableDelta acknowledged_delta)
+    {
+        final Iterator<AlarmClientLeaf> leaves = changed.iterator();
+        while (leaves.hasNext())
+        {
+            final AlarmClientLeaf leaf = leaves.next();
+            // Remove before checking the maps:
+            // An update that's concurrently added will be handled by next call
+            leaves.remove();
+            getChange(leaf, active, shown_active, active_delta);
+            getChange(leaf, acknowledged, shown_acknowledged, acknowledged_delta);
+        }
+        fill(active, shown_active, active_delta);
+        fill(acknowledged, shown_acknowledged, acknowledged_delta);
+        active_delta.total = active.size();
+        acknowledged_delta.total = acknowledged.size();
+        return !(active_delta.isEmpty()  &&  acknowledged_delta.isEmpty());
+    }
+
+    /** @param leaf Alarm that changed
+     *  @param alarms Alarms for a table
+     *  @param shown Alarms shown in that table
+     *  @param delta Changes to that table
+     */
+    private void getChange(final AlarmClientLeaf leaf, final Map<AlarmClientLeaf, ClientState> alarms,
+                           final Set<AlarmClientLeaf> shown, final AlarmTableDelta delta)
+    {
+        if (alarms.containsKey(leaf))
+        {
+            if (shown.contains(leaf)  ||  shown.size() < max_rows)
+            {
+                shown.add(leaf);
+                delta.updated.add(new AlarmInfoRow(leaf));
+            }
+        }
+        else if (shown.remove(leaf))
+            delta.removed.add(leaf);
+    }
+
+    /** Show alarms that were not shown while the table was full
+     *  @param alarms Alarms for a table
+     *  @param shown Alarms shown in that table
+     *  @param delta Changes to that table
+     */
+    private void fill(final Map<AlarmClientLeaf, ClientState> alarms,
+                      final Set<AlarmClientLeaf> shown, final AlarmTableDelta delta)
+    {
+        if (shown.size() >= max_rows  ||  shown.size() >= alarms.size())
+            return;
+        for (AlarmClientLeaf leaf : alarms.keySet())
+        {
+            if (shown.size() >= max_rows)
+                break;
+            if (shown.add(leaf))
+                delta.updated.add(new AlarmInfoRow(leaf));
+        }
+    }
 }
@@ -23,6 +23,7 @@ import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 import org.phoebus.applications.alarm.AlarmSystem;
 import org.phoebus.applications.alarm.client.AlarmClient;
+import org.phoebus.applications.alarm.client.AlarmClientLeaf;
 import org.phoebus.applications.alarm.model.AlarmTreeItem;
 import org.phoebus.applications.alarm.model.SeverityLevel;
 import org.phoebus.applications.alarm.ui.AlarmContextMenuHelper;
@@ -110,6 +111,11 @@ public class AlarmTableUI extends BorderPane
     private final ObservableList<AlarmInfoRow> active_rows = FXCollections.observableArrayList(AlarmInfoRow.CHANGING_PROPERTIES);
     private final ObservableList<AlarmInfoRow> acknowledged_rows = FXCollections.observableArrayList(AlarmInfoRow.CHANGING_PROPERTIES);
 
+    /** Rows in active_rows by alarm */
+    private final Map<AlarmClientLeaf, AlarmInfoRow> active_by_leaf = new HashMap<>();
+    /** Rows in acknowledged_rows by alarm */
+    private final Map<AlarmClientLeaf, AlarmInfoRow> acknowledged_by_leaf = new HashMap<>();
+
     private final SplitPane split;
 
     private final Label active_count = new Label("Active Alarms");
@@ -668,6 +674,74 @@ public class AlarmTableUI extends BorderPane
         /* Now that the table has been appropriately updated, select any still valid pvs */
         selectPvs(this.active, active_selection);
         selectPvs(this.acknowledged, acknowledged_selection);
+
+        indexRows(active_rows, active_by_leaf);
+        indexRows(acknowledged_rows, acknowledged_by_leaf);
+    }
+
+    /** @param items Rows
+     *  @param rows Map that will be set to the rows by alarm
+     */
+    private static void indexRows(final List<AlarmInfoRow> items, final Map<AlarmClientLeaf, AlarmInfoRow> rows)
+    {
+        rows.clear();
+        for (AlarmInfoRow row : items)
+            rows.put(row.item, row);
+    }
+
+    /** Update the alarm information to show
+     *
+     *  <p>Only the rows of the changed alarms are replaced,
+     *  the table keeps its sort order and selection.
+     *
+     *  @param active Changes to the active alarms
+     *  @param acknowledged Changes to the acknowledged alarms
+     */
+    public void update(final AlarmTableDelta active,
+                       final AlarmTableDelta acknowledged)
+    {
+        final Pattern pattern = getSearchPattern();
+        update(this.active, active_rows, active_by_leaf, active, pattern);
+        update(this.acknowledged, acknowledged_rows, acknowledged_by_leaf, acknowledged, pattern);
+        showAlarmCount(active_count, "Active Alarms: ", active.total, active_rows.size());
+        showAlarmCount(acknowledged_count, "Acknowledged Alarms: ", acknowledged.total, acknowledged_rows.size());
+    }
+
+    /** Apply changes to a table
+     *  @param table Table
+     *  @param items Rows of the table
+     *  @param rows Rows by alarm
+     *  @param delta Changes
+     *  @param pattern Search pattern for rows to select, may be <code>null</code>
+     */
+    private void update(final TableView<AlarmInfoRow> table,
+                        final ObservableList<AlarmInfoRow> items,
+                        final Map<AlarmClientLeaf, AlarmInfoRow> rows,
+                        final AlarmTableDelta delta,
+                        final Pattern pattern)
+    {
+        // Removing a row also removes it from the selection
+        final Set<AlarmInfoRow> selected = Collections.newSetFromMap(new IdentityHashMap<>());
+        selected.addAll(table.getSelectionModel().getSelectedItems());
+
+        @SuppressWarnings("unchecked")
+        final SortedList<AlarmInfoRow> sorted = (SortedList<AlarmInfoRow>) table.getItems();
+        final Set<AlarmInfoRow> select = Collections.newSetFromMap(new IdentityHashMap<>());
+        select.addAll(delta.apply(items, rows, sorted, table.comparatorProperty(), selected));
+        if (pattern != null)
+            for (AlarmInfoRow row : delta.updated)
+                if (matches(pattern, row))
+                    select.add(row);
+
+        if (select.isEmpty())
+            return;
+        int i = 0;
+        for (AlarmInfoRow row : sorted)
+        {
+            if (select.contains(row))
+                table.getSelectionModel().select(i);
+            ++i;
+        }
     }
 
     /** Limit the number of alarms
@@ -679,13 +753,23 @@ public class AlarmTableUI extends BorderPane
                                  final Label alarm_count, final String message)
     {
         final int N = alarms.size();
-        final StringBuilder buf = new StringBuilder();
-        buf.append(message).append(N);
         if (N > AlarmSystem.alarm_table_max_rows)
-        {
-            buf.append(" (").append(N - AlarmSystem.alarm_table_max_rows).append(" not shown)");
             alarms.subList(AlarmSystem.alarm_table_max_rows, N).clear();
-        }
+        showAlarmCount(alarm_count, message, N, alarms.size());
+    }
+
+    /** @param alarm_count Label where count will be shown
+     *  @param message Message to use for the count
+     *  @param total Total number of alarms
+     *  @param shown Number of alarms shown in the table
+     */
+    private void showAlarmCount(final Label alarm_count, final String message,
+                                final int total, final int shown)
+    {
+        final StringBuilder buf = new StringBuilder();
+        buf.append(message).append(total);
+        if (total > shown)
+            buf.append(" (").append(total - shown).append(" not shown)");
         alarm_count.setText(buf.toString());
     }
 
@@ -740,27 +824,40 @@ public class AlarmTableUI extends BorderPane
         active.getSelectionModel().clearSelection();
         acknowledged.getSelectionModel().clearSelection();
 
-        final String glob = search.getText().trim();
-        if(glob.isEmpty())
-        {
+        final Pattern pattern = getSearchPattern();
+        if (pattern == null)
             return;
-        }
-
-        final Pattern pattern = Pattern.compile(RegExHelper.fullRegexFromGlob(glob),
-                Pattern.CASE_INSENSITIVE);
 
         selectRows(active, pattern);
         selectRows(acknowledged, pattern);
     }
 
+    /** @return Pattern for the 'search' text, <code>null</code> if there is no search text */
+    private Pattern getSearchPattern()
+    {
+        final String glob = search.getText().trim();
+        if (glob.isEmpty())
+            return null;
+        return Pattern.compile(RegExHelper.fullRegexFromGlob(glob), Pattern.CASE_INSENSITIVE);
+    }
+
+    /** @param pattern Search pattern
+     *  @param row Row
+     *  @return <code>true</code> if PV name or description match the pattern
+     */
+    private static boolean matches(final Pattern pattern, final AlarmInfoRow row)
+    {
+        return pattern.matcher(row.pv.get()).matches()  ||
+               pattern.matcher(row.description.get()).matches();
+    }
+
     private void selectRows(final TableView<AlarmInfoRow> table, final Pattern pattern)
     {
 
         int i = 0;
         for (AlarmInfoRow row : table.getItems())
         {
-            if (pattern.matcher(row.pv.get()).matches()  ||
-                pattern.matcher(row.description.get()).matches())
+            if (matches(pattern, row))
                 table.getSelectionModel().select(i);
             ++i;
         }
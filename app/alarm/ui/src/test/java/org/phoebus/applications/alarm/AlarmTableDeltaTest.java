@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.applications.alarm;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.phoebus.applications.alarm.client.AlarmClientLeaf;
+import org.phoebus.applications.alarm.client.ClientState;
+import org.phoebus.applications.alarm.model.SeverityLevel;
+import org.phoebus.applications.alarm.ui.table.AlarmInfoRow;
+import org.phoebus.applications.alarm.ui.table.AlarmTableDelta;
+import org.phoebus.applications.alarm.ui.table.AlarmTableModel;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+
+/** JUnit test of the {@link AlarmTableDelta}
+ *
+ *  <p>Compares the time spent on the UI thread to update
+ *  a table with 1000 or 10000 active alarms
+ *  when only the changed rows are updated
+ *  versus the previous approach of updating all rows.
+ *
+ *  <p>Like the AlarmTableUpdatePerformanceTest,
+ *  only uses javafx.base classes which work headlessly.
+ */
+@SuppressWarnings("nls")
+public class AlarmTableDeltaTest
+{
+    /** Number of alarms that change between updates */
+    private static final int CHANGES = 50;
+
+    private static final int UPDATES = 40;
+
+    /** Sort by time, then name, as when user sorts the table by time */
+    private static final Comparator<AlarmInfoRow> COMPARATOR =
+        Comparator.comparing((AlarmInfoRow row) -> row.time.get())
+                  .thenComparing(row -> row.pv.get());
+
+    /** Rows of a table */
+    private static class Table
+    {
+        final ObservableList<AlarmInfoRow> items = FXCollections.observableArrayList(AlarmInfoRow.CHANGING_PROPERTIES);
+        final Map<AlarmClientLeaf, AlarmInfoRow> rows = new HashMap<>();
+        final SimpleObjectProperty<Comparator<AlarmInfoRow>> comparator = new SimpleObjectProperty<>(COMPARATOR);
+        final SortedList<AlarmInfoRow> sorted = new SortedList<>(items);
+
+        Table()
+        {
+            sorted.comparatorProperty().bind(comparator);
+        }
+
+        /** Update all rows, as done by AlarmTableUI.update(List, List) */
+        void updateAll(final List<AlarmInfoRow> input)
+        {
+            sorted.comparatorProperty().unbind();
+            sorted.setComparator(null);
+            int N = Math.min(items.size(), input.size());
+            for (int i=0; i<N; ++i)
+                items.get(i).copy(input.get(i));
+            N = input.size();
+            if (N > items.size())
+                for (int i=items.size(); i<N; ++i)
+                    items.add(input.get(i));
+            else
+                items.remove(N, items.size());
+            sorted.comparatorProperty().bind(comparator);
+        }
+
+        void checkOrder(final Set<AlarmClientLeaf> alarms)
+        {
+            assertThat(sorted.size(), equalTo(alarms.size()));
+            final List<AlarmInfoRow> expected = new ArrayList<>(sorted);
+            expected.sort(COMPARATOR);
+            for (int i=0; i<expected.size(); ++i)
+                assertThat(sorted.get(i), equalTo(expected.get(i)));
+            for (AlarmInfoRow row : sorted)
+                assertThat(alarms.contains(row.item), equalTo(true));
+        }
+    }
+
+    private static void setState(final AlarmClientLeaf leaf, final SeverityLevel severity, final int second)
+    {
+        leaf.setState(new ClientState(severity, "msg", "1.0",
+                                      Instant.ofEpochSecond(1700000000 + second),
+                                      severity, "msg"));
+    }
+
+    /** Change some alarms: Update, clear, new alarm
+     *  @return Alarms that changed
+     */
+    private static List<AlarmClientLeaf> changeAlarms(final List<AlarmClientLeaf> leaves, final Random random, final int update)
+    {
+        final List<AlarmClientLeaf> changed = new ArrayList<>();
+        for (int i=0; i<CHANGES; ++i)
+        {
+            final AlarmClientLeaf leaf = leaves.get(random.nextInt(leaves.size()));
+            final int choice = random.nextInt(3);
+            setState(leaf,
+                     choice == 0 ? SeverityLevel.OK : (choice == 1 ? SeverityLevel.MINOR : SeverityLevel.MAJOR),
+                     leaves.size() + update * CHANGES + i);
+            changed.add(leaf);
+        }
+        return changed;
+    }
+
+    /** @param alarms Number of alarms
+     *  @return [ delta ms, full update ms ] per update
+     */
+    private static double[] run(final int alarms)
+    {
+        final Random random = new Random(42);
+        final List<AlarmClientLeaf> leaves = new ArrayList<>();
+        for (int i=0; i<alarms; ++i)
+        {
+            final AlarmClientLeaf leaf = new AlarmClientLeaf("/Test/Area", "pv" + String.format("%05d", i));
+            setState(leaf, SeverityLevel.MAJOR, random.nextInt(alarms));
+            leaves.add(leaf);
+        }
+        final AlarmTableModel model = new AlarmTableModel(alarms);
+        for (AlarmClientLeaf leaf : leaves)
+            model.handleUpdate(leaf);
+
+        final Table delta_table = new Table(), full_table = new Table();
+        AlarmTableDelta delta = new AlarmTableDelta();
+        model.getChanges(delta, new AlarmTableDelta());
+        delta.apply(delta_table.items, delta_table.rows, delta_table.sorted, delta_table.comparator, Set.of());
+        // Full update modifies rows, so it needs its own rows
+        final List<AlarmInfoRow> initial = new ArrayList<>();
+        for (AlarmClientLeaf leaf : model.getActiveAlarms())
+            initial.add(new AlarmInfoRow(leaf));
+        full_table.updateAll(initial);
+
+        long delta_nanos = 0, full_nanos = 0;
+        for (int update=0; update<UPDATES; ++update)
+        {
+            for (AlarmClientLeaf leaf : changeAlarms(leaves, random, update))
+                model.handleUpdate(leaf);
+
+            // Delta
+            delta = new AlarmTableDelta();
+            model.getChanges(delta, new AlarmTableDelta());
+            long start = System.nanoTime();
+            delta.apply(delta_table.items, delta_table.rows, delta_table.sorted, delta_table.comparator, Set.of());
+            delta_nanos += System.nanoTime() - start;
+
+            // Full update
+            final List<AlarmInfoRow> all = new ArrayList<>();
+            for (AlarmClientLeaf leaf : model.getActiveAlarms())
+                all.add(new AlarmInfoRow(leaf));
+            start = System.nanoTime();
+            full_table.updateAll(all);
+            full_nanos += System.nanoTime() - start;
+        }
+
+        delta_table.checkOrder(model.getActiveAlarms());
+        full_table.checkOrder(model.getActiveAlarms());
+        return new double[]
+        {
+            delta_nanos / 1e6 / UPDATES,
+            full_nanos / 1e6 / UPDATES
+        };
+    }
+
+    @Test
+    public void testDeltaUpdates()
+    {
+        // Warm up
+        run(1000);
+        for (int alarms : new int[] { 1000, 10000 })
+        {
+            final double[] ms = run(alarms);
+            System.out.format("%5d alarms, %d changes per update: Delta %6.2f ms, full update %6.2f ms per update\n",
+                              alarms, CHANGES, ms[0], ms[1]);
+            assertThat(ms[0], lessThan(ms[1]));
+        }
+    }
+}
@@ -12,12 +12,15 @@ import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.phoebus.applications.alarm.client.AlarmClientLeaf;
 import org.phoebus.applications.alarm.client.AlarmClientNode;
 import org.phoebus.applications.alarm.client.ClientState;
 import org.phoebus.applications.alarm.model.SeverityLevel;
+import org.phoebus.applications.alarm.ui.table.AlarmTableDelta;
 import org.phoebus.applications.alarm.ui.table.AlarmTableModel;
 
 /** JUnit test of the {@link AlarmTableModel}
@@ -84,4 +87,72 @@ public class AlarmTableModelTest
         assertThat(model.getActiveAlarms().size(), equalTo(0));
         assertThat(model.getAcknowledgedAlarms().size(), equalTo(0));
     }
+
+    private static List<String> names(final AlarmTableDelta delta)
+    {
+        return delta.updated.stream().map(row -> row.pv.get()).sorted().collect(Collectors.toList());
+    }
+
+    @Test
+    public void testChanges() throws Exception
+    {
+        // Show at most 2 rows per table
+        final AlarmTableModel model = new AlarmTableModel(2);
+        final AlarmClientLeaf pv1 = new AlarmClientLeaf("/Test", "pv1");
+        final AlarmClientLeaf pv2 = new AlarmClientLeaf("/Test", "pv2");
+        final AlarmClientLeaf pv3 = new AlarmClientLeaf("/Test", "pv3");
+
+        AlarmTableDelta active = new AlarmTableDelta(), acknowledged = new AlarmTableDelta();
+        assertThat(model.getChanges(active, acknowledged), equalTo(false));
+
+        for (AlarmClientLeaf pv : List.of(pv1, pv2))
+        {
+            pv.setState(new ClientState(SeverityLevel.MAJOR, "High", "10.0", Instant.now(), SeverityLevel.MAJOR, "High"));
+            model.handleUpdate(pv);
+        }
+        assertThat(model.getChanges(active, acknowledged), equalTo(true));
+        assertThat(names(active), equalTo(List.of("pv1", "pv2")));
+        assertThat(active.total, equalTo(2));
+        assertThat(acknowledged.isEmpty(), equalTo(true));
+
+        // Table is full, pv3 is not shown
+        active = new AlarmTableDelta();
+        acknowledged = new AlarmTableDelta();
+        pv3.setState(new ClientState(SeverityLevel.MAJOR, "High", "10.0", Instant.now(), SeverityLevel.MAJOR, "High"));
+        model.handleUpdate(pv3);
+        assertThat(model.getChanges(active, acknowledged), equalTo(false));
+        assertThat(active.total, equalTo(3));
+
+        // Acknowledge pv1, i.e. move it from active to ack'ed table.
+        // Hidden pv3 takes its place in the active table
+        pv1.setState(new ClientState(SeverityLevel.MAJOR_ACK, "High", "10.0", Instant.now(), SeverityLevel.MAJOR, "High"));
+        model.handleUpdate(pv1);
+        assertThat(model.getChanges(active, acknowledged), equalTo(true));
+        assertThat(active.removed, equalTo(List.of(pv1)));
+        assertThat(names(active), equalTo(List.of("pv3")));
+        assertThat(active.total, equalTo(2));
+        assertThat(names(acknowledged), equalTo(List.of("pv1")));
+        assertThat(acknowledged.removed.size(), equalTo(0));
+        assertThat(acknowledged.total, equalTo(1));
+
+        // Update of shown alarm
+        active = new AlarmTableDelta();
+        acknowledged = new AlarmTableDelta();
+        pv2.setState(new ClientState(SeverityLevel.MINOR, "Low", "2.0", Instant.now(), SeverityLevel.MINOR, "Low"));
+        model.handleUpdate(pv2);
+        assertThat(model.getChanges(active, acknowledged), equalTo(true));
+        assertThat(names(active), equalTo(List.of("pv2")));
+        assertThat(active.updated.get(0).severity.get(), equalTo(SeverityLevel.MINOR));
+        assertThat(active.removed.size(), equalTo(0));
+        assertThat(acknowledged.isEmpty(), equalTo(true));
+
+        // Removal
+        active = new AlarmTableDelta();
+        acknowledged = new AlarmTableDelta();
+        model.remove(pv1);
+        assertThat(model.getChanges(active, acknowledged), equalTo(true));
+        assertThat(active.isEmpty(), equalTo(true));
+        assertThat(acknowledged.removed, equalTo(List.of(pv1)));
+        assertThat(acknowledged.total, equalTo(0));
+    }
 }
@@ -10,6 +10,7 @@ import org.phoebus.channelfinder.Channel.Builder;
 import javax.ws.rs.core.MultivaluedMap;
 import java.util.Collection;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * A Client object to query the channelfinder service for channels based on
@@ -305,6 +306,49 @@ public interface ChannelFinderClient extends AutoCloseable {
     Collection<Channel> find(MultivaluedMap<String, String> map)
             throws ChannelFinderException;
 
+    /**
+     * Query for channels page by page, based on the Query string <code>query</code>,
+     * see {@link #find(String)}.
+     * <p>
+     * Channels are requested in pages of <code>pageSize</code> channels using the
+     * <code>~size</code> and <code>~from</code> search parameters, so that the first
+     * channels can be handled while the remaining pages are still being fetched.
+     * A <code>~size</code> in the query limits the total number of channels instead of
+     * <code>maxChannels</code>, and a <code>~from</code> skips the first channels.
+     * The page handler is called at least once, with an empty page if no channel
+     * matches. No further pages are requested once the calling thread is interrupted.
+     *
+     * @param query - channelfinder query
+     * @param pageSize - number of channels per page
+     * @param maxChannels - maximum number of channels to fetch, 0 for no limit
+     * @param pageHandler - called with each page of channels, in order
+     * @return <code>true</code> if fetching stopped at the maximum number of channels,
+     *         so there may be more matching channels
+     * @throws ChannelFinderException - channelfinder exception
+     */
+    default boolean find(String query, int pageSize, int maxChannels, Consumer<Collection<Channel>> pageHandler)
+            throws ChannelFinderException {
+        pageHandler.accept(find(query));
+        return false;
+    }
+
+    /**
+     * Query for channels page by page, based on the criteria specified in the map,
+     * see {@link #find(Map)} and {@link #find(String, int, int, Consumer)}.
+     *
+     * @param map - search map
+     * @param pageSize - number of channels per page
+     * @param maxChannels - maximum number of channels to fetch, 0 for no limit
+     * @param pageHandler - called with each page of channels, in order
+     * @return <code>true</code> if fetching stopped at the maximum number of channels
+     * @throws ChannelFinderException - channelfinder exception
+     */
+    default boolean find(Map<String, String> map, int pageSize, int maxChannels, Consumer<Collection<Channel>> pageHandler)
+            throws ChannelFinderException {
+        pageHandler.accept(find(map));
+        return false;
+    }
+
     /**
      * Completely Delete {tag} with name = tagName from all channels and the
      * channelfinder service.
@@ -8,6 +8,7 @@ package org.phoebus.channelfinder;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.phoebus.util.http.QueryParamsHelper;
 
@@ -20,6 +21,7 @@ import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.Socket;
 import java.net.URI;
@@ -45,6 +47,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.prefs.BackingStoreException;
@@ -749,6 +752,116 @@ public class ChannelFinderClientImpl implements ChannelFinderClient {
         return wrappedSubmit(new FindByMap(map));
     }
 
+    @Override
+    public boolean find(String query, int pageSize, int maxChannels, Consumer<Collection<Channel>> pageHandler) throws ChannelFinderException {
+        return findPages(buildSearchMap(query), pageSize, maxChannels, pageHandler);
+    }
+
+    @Override
+    public boolean find(Map<String, String> map, int pageSize, int maxChannels, Consumer<Collection<Channel>> pageHandler) throws ChannelFinderException {
+        return findPages(toMultivaluedMap(map), pageSize, maxChannels, pageHandler);
+    }
+
+    /**
+     * Fetch the channels page by page.
+     * <p>
+     * Runs on the calling thread instead of the executor,
+     * so that interrupting the caller cancels the query.
+     * A <code>~size</code> in the search map limits the total number of channels,
+     * and <code>~from</code> is the offset of the first channel.
+     *
+     * @return <code>true</code> if fetching stopped because the limit was reached
+     */
+    private boolean findPages(MultivaluedMap<String, String> searchMap, int pageSize, int maxChannels,
+                              Consumer<Collection<Channel>> pageHandler) throws ChannelFinderException {
+        MultivaluedMap<String, String> map = new MultivaluedHashMap<>();
+        map.putAll(searchMap);
+        int limit = maxChannels > 0 ? maxChannels : Integer.MAX_VALUE;
+        int from = 0;
+        try {
+            String size = map.getFirst("~size");
+            if (size != null) {
+                limit = Integer.parseInt(size.trim());
+            }
+            String offset = map.getFirst("~from");
+            if (offset != null) {
+                from = Integer.parseInt(offset.trim());
+            }
+        } catch (NumberFormatException e) {
+            throw new ChannelFinderException("Invalid ~size or ~from: " + e.getMessage());
+        }
+        long start = System.currentTimeMillis();
+        int total = 0;
+        String firstOfPreviousPage = null;
+        while (!Thread.currentThread().isInterrupted()) {
+            int requested = Math.min(pageSize, limit - total);
+            map.putSingle("~size", Integer.toString(requested));
+            map.putSingle("~from", Integer.toString(from));
+            List<Channel> page = findPage(map);
+            if (page == null) {
+                break;
+            }
+            // Older services ignore "~from" and return the same page again
+            if (total > 0 && (page.isEmpty() || page.get(0).getName().equals(firstOfPreviousPage))) {
+                break;
+            }
+            firstOfPreviousPage = page.isEmpty() ? null : page.get(0).getName();
+            if (page.size() > limit - total) {
+                page = page.subList(0, limit - total);
+            }
+            if (total == 0) {
+                log.log(Level.FINE, "First page of " + page.size() + " channels. (Time: " + (System.currentTimeMillis() - start) + " ms)");
+            }
+            total += page.size();
+            from += page.size();
+            pageHandler.accept(Collections.unmodifiableList(page));
+            if (total >= limit) {
+                log.log(Level.FINE, "Stopped fetching at limit of " + limit + " channels. (Time: " + (System.currentTimeMillis() - start) + " ms)");
+                return true;
+            }
+            if (page.size() < requested) {
+                break;
+            }
+        }
+        log.log(Level.FINE, "Finished fetching " + total + " channels. (Time: " + (System.currentTimeMillis() - start) + " ms)");
+        return false;
+    }
+
+    /**
+     * @return Channels of one page in the order of the response, or <code>null</code> when interrupted
+     */
+    private List<Channel> findPage(MultivaluedMap<String, String> map) throws ChannelFinderException {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(org.phoebus.channelfinder.Preferences.serviceURL + "/" + resourceChannels + "?" + QueryParamsHelper.mapToQueryParams(map)))
+                .header("Content-Type", MediaType.APPLICATION_JSON)
+                .GET()
+                .build();
+        try {
+            HttpResponse<InputStream> httpResponse = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = httpResponse.body()) {
+                if (httpResponse.statusCode() != 200) {
+                    throw new ChannelFinderException(httpResponse.statusCode(), new String(body.readAllBytes(), StandardCharsets.UTF_8));
+                }
+                // Create the channels while parsing the response, without holding the complete response in memory
+                List<Channel> channels = new ArrayList<>();
+                try (MappingIterator<XmlChannel> xmlchannels = mapper.readerFor(XmlChannel.class).readValues(body)) {
+                    while (xmlchannels.hasNext()) {
+                        channels.add(new Channel(xmlchannels.next()));
+                    }
+                }
+                return channels;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (IOException e) {
+            if (Thread.currentThread().isInterrupted()) {
+                return null;
+            }
+            throw new ChannelFinderException(e);
+        }
+    }
+
     private class FindByChannelName implements Callable<Channel> {
 
         private final String channelName;
@@ -793,14 +906,7 @@ public class ChannelFinderClientImpl implements ChannelFinderClient {
         private final ObjectMapper mapper = new ObjectMapper();
 
         FindByMap(Map<String, String> map) {
-            MultivaluedMap<String, String> multivaluedMap = new MultivaluedHashMap<>();
-            for (Entry<String, String> entry : map.entrySet()) {
-                String key = entry.getKey();
-                for (String value : entry.getValue().split(",")) {
-                    multivaluedMap.put(key, List.of(value.trim()));
-                }
-            }
-            this.multivaluedMap = multivaluedMap;
+            this.multivaluedMap = toMultivaluedMap(map);
         }
 
         FindByMap(MultivaluedMap<String, String> map) {
@@ -838,6 +944,17 @@ public class ChannelFinderClientImpl implements ChannelFinderClient {
         }
     }
 
+    private static MultivaluedMap<String, String> toMultivaluedMap(Map<String, String> map) {
+        MultivaluedMap<String, String> multivaluedMap = new MultivaluedHashMap<>();
+        for (Entry<String, String> entry : map.entrySet()) {
+            String key = entry.getKey();
+            for (String value : entry.getValue().split(",")) {
+                multivaluedMap.put(key, List.of(value.trim()));
+            }
+        }
+        return multivaluedMap;
+    }
+
     public static MultivaluedMap<String, String> buildSearchMap(String searchPattern) {
         MultivaluedMap<String, String> map = new MultivaluedHashMap<>();
         searchPattern = searchPattern.replaceAll(", ", ",");
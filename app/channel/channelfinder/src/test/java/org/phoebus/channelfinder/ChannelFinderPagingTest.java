@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.channelfinder;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * JUnit test of the paged find of the {@link ChannelFinderClientImpl}
+ *
+ * <p>Uses a local stand-in for the channelfinder service
+ * that serves a number of channels for any query.
+ */
+public class ChannelFinderPagingTest {
+
+    private HttpServer server;
+    private ChannelFinderClient client;
+
+    /** Number of channels served */
+    private volatile int channels = 0;
+
+    /** Mimic an older service that ignores "~from"? */
+    private volatile boolean ignore_from = false;
+
+    /** Requests as "from size" */
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void start() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            Map<String, String> query = new HashMap<>();
+            for (String param : exchange.getRequestURI().getRawQuery().split("&")) {
+                String[] pair = param.split("=", 2);
+                query.put(URLDecoder.decode(pair[0], StandardCharsets.UTF_8),
+                          pair.length > 1 ? URLDecoder.decode(pair[1], StandardCharsets.UTF_8) : "");
+            }
+            int from = ignore_from ? 0 : Integer.parseInt(query.getOrDefault("~from", "0"));
+            int size = Integer.parseInt(query.getOrDefault("~size", "10000"));
+            requests.add(query.get("~from") + " " + size);
+
+            StringBuilder json = new StringBuilder("[");
+            for (int i = from; i < Math.min(channels, from + size); ++i) {
+                if (i > from) {
+                    json.append(',');
+                }
+                json.append("{\"name\":\"").append(name(i)).append("\",\"owner\":\"test\",\"properties\":[],\"tags\":[]}");
+            }
+            json.append(']');
+            byte[] body = json.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        Preferences.serviceURL = "http://localhost:" + server.getAddress().getPort() + "/ChannelFinder";
+        client = new ChannelFinderClientImpl(URI.create(Preferences.serviceURL), Executors.newSingleThreadExecutor());
+    }
+
+    @AfterEach
+    public void stop() {
+        client.close();
+        server.stop(0);
+    }
+
+    private static String name(int i) {
+        return String.format("ch%05d", i);
+    }
+
+    /** @return Names of the channels in the pages */
+    private static List<String> names(List<Collection<Channel>> pages) {
+        List<String> names = new ArrayList<>();
+        for (Collection<Channel> page : pages) {
+            for (Channel channel : page) {
+                names.add(channel.getName());
+            }
+        }
+        return names;
+    }
+
+    @Test
+    public void testShortPage() throws Exception {
+        channels = 25;
+        List<Collection<Channel>> pages = new ArrayList<>();
+        boolean limited = client.find("*", 10, 0, pages::add);
+        assertThat(limited, equalTo(false));
+        assertThat(pages.size(), equalTo(3));
+        assertThat(names(pages).size(), equalTo(25));
+        assertThat(names(pages).get(24), equalTo(name(24)));
+        // Third page is short, no further request
+        assertThat(requests, equalTo(List.of("0 10", "10 10", "20 10")));
+    }
+
+    @Test
+    public void testEmptyResult() throws Exception {
+        channels = 0;
+        List<Collection<Channel>> pages = new ArrayList<>();
+        assertThat(client.find("*", 10, 0, pages::add), equalTo(false));
+        // Handler is called once with the empty page
+        assertThat(pages.size(), equalTo(1));
+        assertThat(pages.get(0).size(), equalTo(0));
+    }
+
+    @Test
+    public void testOlderService() throws Exception {
+        channels = 25;
+        ignore_from = true;
+        List<Collection<Channel>> pages = new ArrayList<>();
+        assertThat(client.find("*", 10, 0, pages::add), equalTo(false));
+        // Second request returns the first page again, which is ignored
+        assertThat(pages.size(), equalTo(1));
+        assertThat(names(pages).size(), equalTo(10));
+        assertThat(requests.size(), equalTo(2));
+    }
+
+    @Test
+    public void testLimit() throws Exception {
+        channels = 100;
+        List<Collection<Channel>> pages = new ArrayList<>();
+        // Last page is only requested for the remaining channels
+        assertThat(client.find("*", 10, 25, pages::add), equalTo(true));
+        assertThat(names(pages).size(), equalTo(25));
+        assertThat(requests, equalTo(List.of("0 10", "10 10", "20 5")));
+
+        // Exactly the available number of channels
+        requests.clear();
+        pages.clear();
+        channels = 20;
+        assertThat(client.find("*", 10, 20, pages::add), equalTo(true));
+        assertThat(names(pages).size(), equalTo(20));
+    }
+
+    @Test
+    public void testUserSize() throws Exception {
+        channels = 100;
+        List<Collection<Channel>> pages = new ArrayList<>();
+        // "~size" of the query is the total limit, replacing the maximum,
+        // "~from" is the start
+        assertThat(client.find("* ~size=15 ~from=50", 10, 1000, pages::add), equalTo(true));
+        assertThat(names(pages).size(), equalTo(15));
+        assertThat(names(pages).get(0), equalTo(name(50)));
+        assertThat(requests, equalTo(List.of("50 10", "60 5")));
+    }
+
+    @Test
+    public void testInterrupt() throws Exception {
+        channels = 100;
+        List<Collection<Channel>> pages = new ArrayList<>();
+        try {
+            // Interrupted while handling the first page, no further request
+            assertThat(client.find("*", 10, 0, page -> {
+                pages.add(page);
+                Thread.currentThread().interrupt();
+            }), equalTo(false));
+        } finally {
+            assertThat(Thread.interrupted(), equalTo(true));
+        }
+        assertThat(pages.size(), equalTo(1));
+        assertThat(requests.size(), equalTo(1));
+    }
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.channelfinder.autocomplete;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.phoebus.channelfinder.Channel;
+import org.phoebus.channelfinder.ChannelFinderClient;
+import org.phoebus.channelfinder.ChannelFinderService;
+import org.phoebus.framework.spi.PVNameSource;
+
+/**
+ * Provides all channel names known to channelfinder for the local PV name index
+ *
+ * Channels are fetched in pages to limit the size of each response.
+ */
+@SuppressWarnings("nls")
+public class CFPVNameSource implements PVNameSource {
+
+    private static final int PAGE_SIZE = 10000;
+
+    @Override
+    public String getName() {
+        return "Channel finder";
+    }
+
+    @Override
+    public void collectPVNames(Consumer<String> names) throws Exception {
+        final ChannelFinderClient client = ChannelFinderService.getInstance().getClient();
+        if (client == null) {
+            throw new Exception("No channelfinder client");
+        }
+        final Map<String, String> searchMap = new HashMap<>();
+        searchMap.put("~name", "*");
+        client.find(searchMap, PAGE_SIZE, 0, page -> {
+            for (Channel channel : page) {
+                names.accept(channel.getName());
+            }
+        });
+        // Client stops fetching pages when interrupted, don't treat that as the complete list
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException();
+        }
+    }
+}
@@ -23,6 +23,11 @@ public class ChannelSearchJob extends JobRunnableWithCancel {
     private final String pattern;
     private final Consumer<Collection<Channel>> channelHandler;
     private final BiConsumer<String, Exception> errorHandler;
+    /** Number of channels per page, 0 to fetch all channels with one request */
+    private final int pageSize;
+    /** Maximum number of channels to fetch page by page, 0 for no limit */
+    private final int maxChannels;
+    private final Consumer<Boolean> completionHandler;
 
     /**
      * Submit search job
@@ -49,25 +54,61 @@ public class ChannelSearchJob extends JobRunnableWithCancel {
                              final BiConsumer<String, Exception> errorHandler)
     {
         return JobManager.schedule(NAME + pattern,
-                new ChannelSearchJob(client, pattern, channel_handler, errorHandler));
+                new ChannelSearchJob(client, pattern, 0, 0, channel_handler, limited -> {}, errorHandler));
+    }
+
+    /**
+     * Submit search job which fetches the channels page by page
+     *
+     * <p>Cancelling the job stops requesting further pages.
+     *
+     * @param client            client to use for making REST requests to channelfinder
+     * @param pattern           Space seperated search criterias, see {@link #submit(ChannelFinderClient, String, Consumer, BiConsumer)}
+     * @param pageSize          Number of channels per page
+     * @param maxChannels       Maximum number of channels, 0 for no limit. A <code>~size</code> in the pattern takes precedence.
+     * @param page_handler      Invoked with each page of channels, at least once
+     * @param completionHandler Invoked after the last page has been handled,
+     *                          with <code>true</code> if fetching stopped at the maximum number of channels
+     * @param errorHandler      Invoked with URL and Exception when the job failed
+     * @return {@link Job}
+     */
+    public static Job submit(ChannelFinderClient client,
+                             final String pattern,
+                             final int pageSize,
+                             final int maxChannels,
+                             final Consumer<Collection<Channel>> page_handler,
+                             final Consumer<Boolean> completionHandler,
+                             final BiConsumer<String, Exception> errorHandler)
+    {
+        return JobManager.schedule(NAME + pattern,
+                new ChannelSearchJob(client, pattern, pageSize, maxChannels, page_handler, completionHandler, errorHandler));
     }
 
     /**
      * private constructor
      * @param client - client to be used for searching
      * @param pattern - search pattern
+     * @param pageSize - number of channels per page, 0 for a single request
+     * @param maxChannels - maximum number of channels to fetch page by page, 0 for no limit
      * @param channelHandler - handler for matching channels
+     * @param completionHandler - invoked when all channels have been handled, with <code>true</code> when limited
      * @param errorHandler - error handler
      */
     private ChannelSearchJob(ChannelFinderClient client,
                              String pattern,
+                             int pageSize,
+                             int maxChannels,
                              Consumer<Collection<Channel>> channelHandler,
+                             Consumer<Boolean> completionHandler,
                              BiConsumer<String, Exception> errorHandler)
     {
         super();
         this.client = client;
         this.pattern = pattern;
+        this.pageSize = pageSize;
+        this.maxChannels = maxChannels;
         this.channelHandler = channelHandler;
+        this.completionHandler = completionHandler;
         this.errorHandler = errorHandler;
     }
 
@@ -80,9 +121,27 @@ public class ChannelSearchJob extends JobRunnableWithCancel {
     @Override
     public Runnable getRunnable()
     {
+        if (pageSize > 0)
+        {
+            return () -> {
+                try
+                {
+                    final boolean limited = client.find(pattern, pageSize, maxChannels, channelHandler);
+                    // Cancelled while fetching pages?
+                    if (! Thread.currentThread().isInterrupted())
+                        completionHandler.accept(limited);
+                }
+                catch (Exception ex)
+                {
+                    if (! Thread.currentThread().isInterrupted())
+                        errorHandler.accept(pattern, ex);
+                }
+            };
+        }
         return () -> {
             Collection<Channel> channels = client.find(pattern);
             channelHandler.accept(channels);
+            completionHandler.accept(false);
         };
     }
 
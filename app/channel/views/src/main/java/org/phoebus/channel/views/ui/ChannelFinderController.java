@@ -1,12 +1,16 @@
 package org.phoebus.channel.views.ui;
 
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 import org.phoebus.channelfinder.Channel;
 import org.phoebus.channelfinder.ChannelFinderClient;
 import org.phoebus.channelfinder.utility.ChannelSearchJob;
 import org.phoebus.framework.jobs.Job;
+import org.phoebus.framework.preferences.AnnotatedPreferences;
+import org.phoebus.framework.preferences.Preference;
 import org.phoebus.ui.dialog.ExceptionDetailsErrorDialog;
 
 import javafx.application.Platform;
@@ -14,8 +18,8 @@ import javafx.application.Platform;
 /**
  * A basic controller for any UI performing channelfinder queries. The
  * controller takes care of performing the query off the UI thread using
- * {@link Job}s and then invokes the setChannels method on the UI thread after
- * the query has been completed.
+ * {@link Job}s and then invokes the setChannels method on the UI thread with
+ * the first page of the query result, followed by addChannels for each further page.
  * 
  * @author Kunal Shroff
  *
@@ -27,6 +31,17 @@ public abstract class ChannelFinderController {
 
     private Job channelSearchJob;
 
+    /** Incremented for each search, so that pages of a cancelled search are ignored */
+    private final AtomicLong searchCount = new AtomicLong();
+
+    @Preference(name="page_size") public static int pageSize;
+    @Preference(name="max_channels") public static int maxChannels;
+
+    static
+    {
+        AnnotatedPreferences.initialize(ChannelFinderController.class, "/cv_preferences.properties");
+    }
+
     public void setClient(ChannelFinderClient client) {
         this.client = client;
     }
@@ -37,17 +52,53 @@ public abstract class ChannelFinderController {
 
     public void search(String searchString) {
         if (channelSearchJob != null) {
+            // Stop fetching the pages of the previous query
             channelSearchJob.cancel();
         }
-        channelSearchJob = ChannelSearchJob.submit(this.client, searchString,
-                channels -> Platform.runLater(() -> setChannels(channels)),
+        final long id = searchCount.incrementAndGet();
+        final AtomicBoolean firstPage = new AtomicBoolean(true);
+        channelSearchJob = ChannelSearchJob.submit(this.client, searchString, pageSize, maxChannels,
+                page -> {
+                    final boolean first = firstPage.getAndSet(false);
+                    Platform.runLater(() -> {
+                        // Ignore pages of a cancelled search
+                        if (id != searchCount.get()) {
+                            return;
+                        }
+                        if (first) {
+                            setChannels(page);
+                        } else {
+                            addChannels(page);
+                        }
+                    });
+                },
+                limited -> Platform.runLater(() -> {
+                    if (id == searchCount.get()) {
+                        searchCompleted(limited);
+                    }
+                }),
                 (url, ex) -> ExceptionDetailsErrorDialog.openError("ChannelFinder Query Error", ex));
 
     }
 
     /**
-     * Set a new list of channels. This method is called after the successful execution of a channelfinder query. 
+     * Set a new list of channels. This method is called with the first page of channels after the successful
+     * execution of a channelfinder query.
      * @param channels - the new list of channels
      */
     public abstract void setChannels(Collection<Channel> channels);
+
+    /**
+     * Add channels of a following page. This method is called after {@link #setChannels(Collection)}
+     * for each further page of the channelfinder query result.
+     * @param channels - additional channels
+     */
+    public abstract void addChannels(Collection<Channel> channels);
+
+    /**
+     * Called after all pages of the channelfinder query result have been handled.
+     * @param limited - <code>true</code> if the query stopped at the maximum number of channels,
+     *                  so there may be more matching channels
+     */
+    public abstract void searchCompleted(boolean limited);
 }
@@ -1,9 +1,10 @@
 package org.phoebus.channel.views.ui;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 
@@ -277,15 +278,51 @@ public class ChannelTableController extends ChannelFinderController {
         tableView.setContextMenu(contextMenu);
     }
 
+    /** Names of the property and tag columns, sorted */
+    private final List<String> propertyColumns = new ArrayList<>();
+    private final List<String> tagColumns = new ArrayList<>();
+
     @Override
     public void setChannels(Collection<Channel> channels) {
         initialize();
-        List<String> allProperties = ChannelUtil.getPropertyNames(channels).stream().sorted().collect(Collectors.toList());
-        List<String> allTags = ChannelUtil.getAllTagNames(channels).stream().sorted().collect(Collectors.toList());
-        List<TableColumn<Channel, String>> propColumns = allProperties.parallelStream().map(new Function<String, TableColumn<Channel, String>>() {
+        propertyColumns.clear();
+        tagColumns.clear();
+        addColumns(channels);
+        tableView.setItems(FXCollections.observableArrayList(channels));
+        // More channels may follow
+        count.setText(channels.size() + "+");
+    }
+
+    @Override
+    public void addChannels(Collection<Channel> channels) {
+        addColumns(channels);
+        tableView.getItems().addAll(channels);
+        count.setText(tableView.getItems().size() + "+");
+    }
+
+    @Override
+    public void searchCompleted(boolean limited) {
+        count.setText(tableView.getItems().size() + (limited ? "+" : ""));
 
-            @Override
-            public TableColumn<Channel, String> apply(String propName) {
+        // If this is the result of a 'refresh', restore row selection
+        if (selected_row_after_refresh >= 0)
+        {
+            tableView.getSelectionModel().clearAndSelect(selected_row_after_refresh);
+            tableView.scrollTo(selected_row_after_refresh);
+            selected_row_after_refresh = -1;
+        }
+    }
+
+    /**
+     * Add columns for properties and tags of the channels that don't have a column, yet.
+     * Columns are kept sorted by name, property columns before tag columns.
+     */
+    private void addColumns(Collection<Channel> channels) {
+        for (String propName : ChannelUtil.getPropertyNames(channels)) {
+            int index = Collections.binarySearch(propertyColumns, propName);
+            if (index < 0) {
+                index = -index - 1;
+                propertyColumns.add(index, propName);
                 TableColumn<Channel, String> propCol = new TableColumn<>(propName);
                 propCol.setCellValueFactory(new Callback<CellDataFeatures<Channel, String>, ObservableValue<String>>() {
 
@@ -295,14 +332,15 @@ public class ChannelTableController extends ChannelFinderController {
                         return new SimpleStringProperty(prop != null ? prop.getValue(): "");
                     }
                 });
-                return propCol;
+                // After the name and owner columns
+                tableView.getColumns().add(2 + index, propCol);
             }
-        }).collect(Collectors.toList());
-
-        List<TableColumn<Channel, String>> tagColumns = allTags.parallelStream().map(new Function<String, TableColumn<Channel, String>>() {
-
-            @Override
-            public TableColumn<Channel, String> apply(String tagName) {
+        }
+        for (String tagName : ChannelUtil.getAllTagNames(channels)) {
+            int index = Collections.binarySearch(tagColumns, tagName);
+            if (index < 0) {
+                index = -index - 1;
+                tagColumns.add(index, tagName);
                 TableColumn<Channel, String> tagCol = new TableColumn<>(tagName);
                 tagCol.setCellValueFactory(new Callback<CellDataFeatures<Channel, String>, ObservableValue<String>>() {
 
@@ -311,27 +349,8 @@ public class ChannelTableController extends ChannelFinderController {
                         return new SimpleStringProperty(channel.getValue().getTag(tagName) != null ? "tagged" : "");
                     }
                 });
-                return tagCol;
+                tableView.getColumns().add(2 + propertyColumns.size() + index, tagCol);
             }
-        }).collect(Collectors.toList());
-        tableView.getColumns().addAll(propColumns);
-        tableView.getColumns().addAll(tagColumns);
-        tableView.setItems(FXCollections.observableArrayList(channels));
-
-        // the channel finder queries are limited to 10k by default
-        // TODO update check for the situation where the max size is set up user
-        if(channels.size() >= 10000) {
-            count.setText(String.valueOf(channels.size() + "+"));
-        } else {
-            count.setText(String.valueOf(channels.size()));
-        }
-
-        // If this is the result of a 'refresh', restore row selection
-        if (selected_row_after_refresh >= 0)
-        {
-            tableView.getSelectionModel().clearAndSelect(selected_row_after_refresh);
-            tableView.scrollTo(selected_row_after_refresh);
-            selected_row_after_refresh = -1;
         }
     }
 
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
@@ -64,7 +65,9 @@ public class ChannelTreeController extends ChannelFinderController {
     TreeTableColumn<ChannelTreeByPropertyNode, String> value;
 
     private List<String> orderedProperties = Collections.emptyList();
-    private Collection<Channel> channels = Collections.emptyList();
+    private List<Channel> channels = new ArrayList<>();
+    /** Number of channels in the current tree model */
+    private int treeChannelCount = 0;
     private ChannelTreeByPropertyModel model;
 
     @FXML
@@ -110,16 +113,29 @@ public class ChannelTreeController extends ChannelFinderController {
 
     @Override
     public void setChannels(Collection<Channel> channels) {
-        this.channels = channels;
+        this.channels = new ArrayList<>(channels);
         reconstructTree();
+        // More channels may follow
+        count.setText(channels.size() + "+");
+    }
 
-        // the channel finder queries are limited to 10k by default
-        // TODO update check for the situation where the max size is set up user
-        if(channels.size() >= 10000) {
-            count.setText(String.valueOf(channels.size() + "+"));
-        } else {
-            count.setText(String.valueOf(channels.size()));
+    @Override
+    public void addChannels(Collection<Channel> channels) {
+        this.channels.addAll(channels);
+        // Rebuilding the tree for each page would be quadratic,
+        // so only rebuild once the number of channels doubled
+        if (this.channels.size() >= 2 * treeChannelCount) {
+            reconstructTree();
         }
+        count.setText(this.channels.size() + "+");
+    }
+
+    @Override
+    public void searchCompleted(boolean limited) {
+        if (channels.size() != treeChannelCount) {
+            reconstructTree();
+        }
+        count.setText(channels.size() + (limited ? "+" : ""));
     }
 
     /**
@@ -129,6 +145,7 @@ public class ChannelTreeController extends ChannelFinderController {
     private void reconstructTree() {
         dispose();
         model = new ChannelTreeByPropertyModel(query.getText(), channels, orderedProperties, true, connect.isSelected());
+        treeChannelCount = channels.size();
         ChannelTreeItem root = new ChannelTreeItem(model.getRoot());
         treeTableView.setRoot(root);
         refreshPvValues();
@@ -150,13 +167,17 @@ public class ChannelTreeController extends ChannelFinderController {
     }
 
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    private ScheduledFuture<?> refreshTask;
 
     /**
      * Refreshes the values of the leaf pv's and append their live values to the tree view of the
      * channels.
      */
     public void refreshPvValues() {
-        scheduler.scheduleAtFixedRate(treeTableView::refresh, 0, 400, TimeUnit.MILLISECONDS);
+        // One periodic refresh is enough, also when the tree is rebuilt
+        if (refreshTask == null) {
+            refreshTask = scheduler.scheduleAtFixedRate(treeTableView::refresh, 0, 400, TimeUnit.MILLISECONDS);
+        }
     }
 
     /**
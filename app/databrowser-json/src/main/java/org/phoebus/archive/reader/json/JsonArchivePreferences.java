@@ -30,9 +30,14 @@ import java.util.logging.Logger;
  *  zero shall be printed without any fractional digits (<code>true</code>) or
  *  whether such a value should be printed using a default format
  *  (<code>false</code>).
+ * @param binary_formats
+ *  flag indicating whether the reader shall offer to receive samples in a
+ *  binary encoding (CBOR or Smile) instead of JSON text. If the server does
+ *  not support a binary encoding, it still responds with JSON.
  */
 public record JsonArchivePreferences(
-        boolean honor_zero_precision) {
+        boolean honor_zero_precision,
+        boolean binary_formats) {
 
     private final static JsonArchivePreferences DEFAULT_INSTANCE;
 
@@ -40,6 +45,17 @@ public record JsonArchivePreferences(
         DEFAULT_INSTANCE = loadPreferences();
     }
 
+    /**
+     * Creates preferences that offer binary sample encodings to the server.
+     *
+     * @param honor_zero_precision
+     *  flag indicating whether a floating-point value specifying a precision
+     *  of zero shall be printed without any fractional digits.
+     */
+    public JsonArchivePreferences(boolean honor_zero_precision) {
+        this(honor_zero_precision, true);
+    }
+
     /**
      * Returns the default instance of the preferences. This is the instance
      * that is automatically configured through Phoebus’s
@@ -60,7 +76,11 @@ public record JsonArchivePreferences(
         final var honor_zero_precision = preference_reader.getBoolean(
                 "honor_zero_precision");
         logger.config("honor_zero_precision = " + honor_zero_precision);
-        return new JsonArchivePreferences(honor_zero_precision);
+        final var binary_formats = preference_reader.getBoolean(
+                "binary_formats");
+        logger.config("binary_formats = " + binary_formats);
+        return new JsonArchivePreferences(
+                honor_zero_precision, binary_formats);
     }
 
 }
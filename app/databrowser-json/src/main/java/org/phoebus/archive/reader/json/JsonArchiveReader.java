@@ -13,6 +13,8 @@ import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.phoebus.archive.reader.ArchiveReader;
 import org.phoebus.archive.reader.UnknownChannelException;
 import org.phoebus.archive.reader.ValueIterator;
@@ -25,11 +27,13 @@ import java.io.InputStream;
 import java.lang.ref.Cleaner;
 import java.math.BigInteger;
 import java.net.URL;
+import java.net.URLConnection;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.WeakHashMap;
@@ -46,14 +50,41 @@ import java.util.zip.GZIPInputStream;
  * </p>
  *
  * <p>
+ * Unless disabled through the {@link JsonArchivePreferences}, the reader
+ * offers to receive the response in the binary CBOR or Smile encoding of the
+ * same data model. The server selects the encoding based on the
+ * <code>Accept</code> header and the reader parses the response based on its
+ * <code>Content-Type</code>. Either way, samples are parsed while they are
+ * received, so the response is never buffered as a whole.
+ * </p>
+ *
+ * <p>
  * Instances of this class are thread-safe.
  * </p>
  */
 public class JsonArchiveReader implements ArchiveReader {
 
+    /**
+     * Content type for the CBOR encoding.
+     */
+    public final static String CONTENT_TYPE_CBOR = "application/cbor";
+
+    /**
+     * Content type for the JSON encoding.
+     */
+    public final static String CONTENT_TYPE_JSON = "application/json";
+
+    /**
+     * Content type for the Smile encoding.
+     */
+    public final static String CONTENT_TYPE_SMILE =
+            "application/x-jackson-smile";
+
     private final static BigInteger ONE_BILLION = BigInteger
             .valueOf(1000000000L);
 
+    private final String accept;
+    private final CBORFactory cbor_factory;
     private final Cleaner cleaner;
     private final String description;
     private final String http_url;
@@ -62,6 +93,7 @@ public class JsonArchiveReader implements ArchiveReader {
     private final int key;
     private final Logger logger;
     private final JsonArchivePreferences preferences;
+    private final SmileFactory smile_factory;
 
     /**
      * <p>
@@ -140,8 +172,20 @@ public class JsonArchiveReader implements ArchiveReader {
         // closing a parser. This should be the default, but it is better to be
         // sure.
         this.json_factory.enable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        this.cbor_factory = new CBORFactory();
+        this.cbor_factory.enable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        this.smile_factory = new SmileFactory();
+        this.smile_factory.enable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
         this.key = key;
         this.preferences = Objects.requireNonNull(preferences);
+        // The binary encodings are preferred when enabled, but the server may
+        // always respond with JSON.
+        if (preferences.binary_formats()) {
+            this.accept = CONTENT_TYPE_CBOR + ", " + CONTENT_TYPE_SMILE
+                    + ", " + CONTENT_TYPE_JSON + ";q=0.9";
+        } else {
+            this.accept = CONTENT_TYPE_JSON;
+        }
         // We have to initialize most fields before we can retrieve the
         // description.
         this.description = retrieveArchiveDescription();
@@ -241,60 +285,58 @@ public class JsonArchiveReader implements ArchiveReader {
     /**
      *  <p>
      *  Sends a <code>GET</code> request to the archive source and returns the
-     *  response.
+     *  connection, so that the response can be read.
      *  </p>
      *
      * @param url
      *  URL which shall be requested. Must start with a forward slash and be
      *  relative to the base HTTP url configured for this reader.
      * @return
-     *  input stream that provides the HTTP server’s response.
+     *  connection to the HTTP server.
      * @throws IOException
-     *  if the URL is malformed, the connection cannot be opened, or the input
-     *  stream cannot be retrieved.
+     *  if the URL is malformed or the connection cannot be opened.
      */
-    private InputStream doGet(String url) throws IOException {
+    private URLConnection doGet(String url) throws IOException {
         final var request_url = this.http_url + "archive" + url;
         final var connection = new URL(request_url).openConnection();
+        connection.addRequestProperty("Accept", accept);
         connection.addRequestProperty("Accept-Encoding", "gzip, deflate");
         connection.connect();
-        final var content_encoding = connection.getHeaderField(
-                "Content-Encoding");
-        final var input_stream = connection.getInputStream();
-        try {
-            if (content_encoding != null) {
-                if (content_encoding.equals("gzip")) {
-                    return new GZIPInputStream(input_stream);
-                } else if (content_encoding.equals("deflate")) {
-                    return new DeflaterInputStream(input_stream);
-                }
-            }
-            return input_stream;
-        } catch (IOException | RuntimeException e) {
-            input_stream.close();
-            throw e;
-        }
+        return connection;
     }
 
     /**
      *  <p>
      *  Sends a <code>GET</code> request to the archive source and returns a
-     *  JSON parser for the response.
+     *  parser for the response. Depending on the content type of the
+     *  response, this is a parser for JSON, CBOR, or Smile. All of them
+     *  provide the same tokens for the same data.
      *  </p>
      *
      * @param url
      *  URL which shall be requested. Must start with a forward slash and be
      *  relative to the base HTTP url configured for this reader.
      * @return
-     *  JSON parser that parses HTTP server’s response.
+     *  parser that parses HTTP server’s response.
      * @throws IOException
-     *  if the URL is malformed, the connection cannot be opened, or the JSON
+     *  if the URL is malformed, the connection cannot be opened, or the
      *  parser cannot be created.
      */
     private JsonParser doGetJson(String url) throws IOException {
-        final var input_stream = doGet(url);
+        final var connection = doGet(url);
+        final var content_encoding = connection.getHeaderField(
+                "Content-Encoding");
+        final var content_type = connection.getContentType();
+        var input_stream = connection.getInputStream();
         try {
-            return json_factory.createParser(input_stream);
+            if (content_encoding != null) {
+                if (content_encoding.equals("gzip")) {
+                    input_stream = new GZIPInputStream(input_stream);
+                } else if (content_encoding.equals("deflate")) {
+                    input_stream = new DeflaterInputStream(input_stream);
+                }
+            }
+            return getFactory(content_type).createParser(input_stream);
         } catch (IOException | RuntimeException e) {
             // If we could not create the parser, we have to close the input
             // stream. Otherwise, the input stream is going to be closed when
@@ -304,6 +346,33 @@ public class JsonArchiveReader implements ArchiveReader {
         }
     }
 
+    /**
+     * Returns the parser factory for a content type.
+     *
+     * @param content_type
+     *  content type of the server’s response, including optional parameters
+     *  like the charset. May be <code>null</code>.
+     * @return
+     *  factory for the binary encoding if the content type specifies one of
+     *  the supported binary encodings, the JSON factory otherwise.
+     */
+    private JsonFactory getFactory(String content_type) {
+        if (content_type == null) {
+            return json_factory;
+        }
+        final var semicolon_index = content_type.indexOf(';');
+        if (semicolon_index != -1) {
+            content_type = content_type.substring(0, semicolon_index);
+        }
+        content_type = content_type.trim().toLowerCase(Locale.ROOT);
+        if (content_type.equals(CONTENT_TYPE_CBOR)) {
+            return cbor_factory;
+        } else if (content_type.equals(CONTENT_TYPE_SMILE)) {
+            return smile_factory;
+        }
+        return json_factory;
+    }
+
     /**
      * Sends a request for samples to the archive server and returns an
      * iterator providing the samples.
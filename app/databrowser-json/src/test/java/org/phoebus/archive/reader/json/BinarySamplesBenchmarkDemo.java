@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 aquenos GmbH.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+
+package org.phoebus.archive.reader.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the time needed for reading one million raw samples from a local
+ * test server when the server responds in the JSON, CBOR, or Smile encoding.
+ * The server generates the samples while sending the response, so the time
+ * includes generating, transferring, and parsing the samples.
+ */
+public class BinarySamplesBenchmarkDemo extends HttpServerTestBase {
+
+    private final static int SAMPLES = 1_000_000;
+
+    private final static int RUNS = 3;
+
+    /**
+     * Writes the samples.
+     *
+     * @param factory factory for the encoding.
+     * @param output_stream stream to which the samples are written.
+     * @throws IOException if the samples cannot be written.
+     */
+    private static void writeSamples(
+            final JsonFactory factory, final OutputStream output_stream)
+            throws IOException {
+        try (final JsonGenerator generator = factory.createGenerator(
+                output_stream)) {
+            generator.writeStartArray();
+            for (int i = 0; i < SAMPLES; ++i) {
+                generator.writeStartObject();
+                generator.writeNumberField(
+                        "time", 1_700_000_000_000_000_000L + i * 1_000_000L);
+                generator.writeObjectFieldStart("severity");
+                generator.writeStringField("level", "OK");
+                generator.writeBooleanField("hasValue", true);
+                generator.writeEndObject();
+                generator.writeStringField("status", "NO_ALARM");
+                generator.writeStringField("quality", "Original");
+                generator.writeObjectFieldStart("metaData");
+                generator.writeStringField("type", "numeric");
+                generator.writeNumberField("precision", 3);
+                generator.writeStringField("units", "mA");
+                generator.writeNumberField("displayLow", 0.0);
+                generator.writeNumberField("displayHigh", 300.0);
+                generator.writeNumberField("warnLow", 5.0);
+                generator.writeNumberField("warnHigh", 100.0);
+                generator.writeNumberField("alarmLow", 2.0);
+                generator.writeNumberField("alarmHigh", 200.0);
+                generator.writeEndObject();
+                generator.writeStringField("type", "double");
+                generator.writeArrayFieldStart("value");
+                generator.writeNumber(Math.sin(i / 1000.0) * 100.0);
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Reads all samples, serving them in the specified encoding.
+     *
+     * @param content_type content type for the encoding.
+     * @param factory factory for the encoding.
+     * @return time in milliseconds.
+     */
+    private static long readSamples(
+            final String content_type, final JsonFactory factory) {
+        final var channel_name = "benchmark-channel";
+        final var preferences = new JsonArchivePreferences(true);
+        final long[] millis = new long[1];
+        withSamples(
+                1,
+                channel_name,
+                content_type,
+                (output_stream) -> writeSamples(factory, output_stream),
+                (base_url) -> {
+                    try (final var reader = new JsonArchiveReader(
+                            "json:" + base_url, preferences)) {
+                        final var start_time = System.nanoTime();
+                        var count = 0;
+                        try (final var iterator = reader.getRawValues(
+                                channel_name,
+                                Instant.EPOCH,
+                                Instant.now())) {
+                            while (iterator.hasNext()) {
+                                iterator.next();
+                                ++count;
+                            }
+                        }
+                        millis[0] = TimeUnit.NANOSECONDS.toMillis(
+                                System.nanoTime() - start_time);
+                        assertEquals(SAMPLES, count);
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+        return millis[0];
+    }
+
+    /**
+     * Runs the benchmark.
+     */
+    @Test
+    public void benchmark() {
+        final var formats = List.of(
+                JsonArchiveReader.CONTENT_TYPE_JSON,
+                JsonArchiveReader.CONTENT_TYPE_CBOR,
+                JsonArchiveReader.CONTENT_TYPE_SMILE);
+        final var factories = List.of(
+                new JsonFactory(), new CBORFactory(), new SmileFactory());
+        for (int run = 1; run <= RUNS; ++run) {
+            for (int i = 0; i < formats.size(); ++i) {
+                final var millis = readSamples(
+                        formats.get(i), factories.get(i));
+                System.out.printf(
+                        "Run %d, %-28s: %d samples in %5d ms, %8.0f samples/s%n",
+                        run,
+                        formats.get(i),
+                        SAMPLES,
+                        millis,
+                        SAMPLES * 1000.0 / millis);
+            }
+        }
+    }
+
+}
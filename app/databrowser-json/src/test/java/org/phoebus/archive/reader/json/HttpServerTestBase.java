@@ -15,6 +15,7 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
@@ -46,6 +47,22 @@ public class HttpServerTestBase {
             URI uri) {
     }
 
+    /**
+     * Writes the body of an HTTP response.
+     */
+    @FunctionalInterface
+    public interface ResponseWriter {
+
+        /**
+         * Writes the response.
+         *
+         * @param output_stream stream to which the response is written.
+         * @throws IOException if the response cannot be written.
+         */
+        void write(OutputStream output_stream) throws IOException;
+
+    }
+
     private static HttpServer http_server;
 
     /**
@@ -179,6 +196,50 @@ public class HttpServerTestBase {
             final String channel_name,
             final String samples_json,
             final Consumer<String> request_func) {
+        return withSamples(
+                archive_key,
+                channel_name,
+                "application/json;charset=UTF-8",
+                (output_stream) -> {
+                    try (final var writer = new OutputStreamWriter(
+                            output_stream, StandardCharsets.UTF_8)) {
+                        writer.write(samples_json);
+                    }
+                },
+                request_func);
+    }
+
+    /**
+     * Runs a function while providing an HTTP service providing archived
+     * samples in an arbitrary encoding. This only works when the HTTP server
+     * has previously been started and has not been stopped yet. In addition
+     * to providing samples, this function also provides rudimentary archive
+     * information for the specified <code>archive_key</code>.
+     *
+     * @param archive_key
+     *  numerical key that identifies the archive that is provided.
+     * @param channel_name
+     *  channel name for which samples are provided.
+     * @param content_type
+     *  content type that is sent with the samples.
+     * @param samples_writer
+     *  writer for the content that is returned by the HTTP handler that serves
+     *  the path
+     *  <code>/archive/&lt;archive_key&gt;/samples/&lt;channel_name&gt;</code>
+     *  below the base URL that is passed to the
+     * @param request_func
+     *  function that is called, passing the base URL of the provided archive
+     *  service.
+     * @return
+     *  list with information about the requests that were made to the samples
+     *  service. Requests to the archive-info service are not included.
+     */
+    protected static List<HttpRequest> withSamples(
+            final int archive_key,
+            final String channel_name,
+            final String content_type,
+            final ResponseWriter samples_writer,
+            final Consumer<String> request_func) {
         final LinkedList<HttpRequest> http_requests = new LinkedList<>();
         final HttpHandler samples_handler = (http_exchange) -> {
             http_requests.add(new HttpRequest(
@@ -186,11 +247,10 @@ public class HttpServerTestBase {
                     http_exchange.getRequestMethod(),
                     http_exchange.getRequestURI()));
             http_exchange.getResponseHeaders().add(
-                    "Content-Type", "application/json;charset=UTF-8");
+                    "Content-Type", content_type);
             http_exchange.sendResponseHeaders(200, 0);
-            try (final var writer = new OutputStreamWriter(
-                    http_exchange.getResponseBody(), StandardCharsets.UTF_8)) {
-                writer.write(samples_json);
+            try (final var output_stream = http_exchange.getResponseBody()) {
+                samples_writer.write(output_stream);
             }
         };
         final var samples_path =
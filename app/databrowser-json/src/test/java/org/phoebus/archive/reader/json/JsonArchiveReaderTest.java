@@ -8,6 +8,9 @@
 
 package org.phoebus.archive.reader.json;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.epics.util.stats.Range;
 import org.epics.vtype.AlarmSeverity;
 import org.epics.vtype.VDouble;
@@ -24,9 +27,11 @@ import org.epics.vtype.VStringArray;
 import org.junit.jupiter.api.Test;
 import org.phoebus.archive.reader.UnknownChannelException;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -38,6 +43,35 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 public class JsonArchiveReaderTest extends HttpServerTestBase {
 
+    /**
+     * Tests that no binary encoding is requested when
+     * {@link JsonArchivePreferences#binary_formats()} is not set.
+     */
+    @Test
+    public void binaryFormatsDisabled() {
+        final var channel_name = "some-channel";
+        final var start = Instant.ofEpochMilli(123L);
+        final var end = Instant.ofEpochMilli(456L);
+        final var preferences = new JsonArchivePreferences(true, false);
+        final var requests = withSamples(
+                1, channel_name, "[]", (base_url) -> {
+                    try (
+                            final var reader = new JsonArchiveReader(
+                                    "json:" + base_url, preferences);
+                            final var iterator = reader.getRawValues(
+                                    channel_name, start, end)
+                    ) {
+                        assertFalse(iterator.hasNext());
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+        assertEquals(1, requests.size());
+        assertEquals(
+                JsonArchiveReader.CONTENT_TYPE_JSON,
+                requests.get(0).headers().getFirst("Accept"));
+    }
+
     /**
      * Tests the {@link JsonArchiveReader#cancel()} method.
      */
@@ -378,6 +412,120 @@ public class JsonArchiveReaderTest extends HttpServerTestBase {
         assertEquals("10", query_params.get("count"));
     }
 
+    /**
+     * Tests the
+     * {@link JsonArchiveReader#getRawValues(String, Instant, Instant)}
+     * function with samples that the server sends in the CBOR or Smile
+     * encoding.
+     */
+    @Test
+    public void getRawValuesWithBinarySamples() throws IOException {
+        final var samples_json = """
+                [ {
+                   "time" : 123457000001,
+                   "severity" : {
+                     "level" : "OK",
+                     "hasValue" : true
+                   },
+                   "status" : "NO_ALARM",
+                   "quality" : "Original",
+                   "metaData" : {
+                     "type" : "numeric",
+                     "precision" : 3,
+                     "units" : "mA",
+                     "displayLow" : 0.0,
+                     "displayHigh" : 300.0,
+                     "warnLow" : 5.0,
+                     "warnHigh" : 100.0,
+                     "alarmLow" : 2.0,
+                     "alarmHigh" : "NaN"
+                   },
+                   "type" : "double",
+                   "value" : [ 27.2, 48.3 ]
+                 }, {
+                   "time" : 123457000002,
+                   "severity" : {
+                     "level" : "MAJOR",
+                     "hasValue" : true
+                   },
+                   "status" : "TEST_STATUS",
+                   "quality" : "Original",
+                   "type" : "string",
+                   "value" : [ "some text" ]
+                 } ]
+                """;
+        final var channel_name = "binary-channel";
+        final var start = Instant.ofEpochMilli(123456L);
+        final var end = Instant.ofEpochMilli(456789L);
+        final var preferences = new JsonArchivePreferences(true);
+        final var formats = List.of(
+                JsonArchiveReader.CONTENT_TYPE_CBOR,
+                JsonArchiveReader.CONTENT_TYPE_SMILE);
+        for (final var content_type : formats) {
+            final JsonFactory factory =
+                    content_type.equals(JsonArchiveReader.CONTENT_TYPE_CBOR)
+                            ? new CBORFactory() : new SmileFactory();
+            // Convert the JSON document into the binary encoding.
+            final var samples_binary = new ByteArrayOutputStream();
+            try (
+                    final var parser = new JsonFactory().createParser(
+                            samples_json);
+                    final var generator = factory.createGenerator(
+                            samples_binary)
+            ) {
+                parser.nextToken();
+                generator.copyCurrentStructure(parser);
+            }
+            final var requests = withSamples(
+                    1,
+                    channel_name,
+                    content_type,
+                    (output_stream) -> output_stream.write(
+                            samples_binary.toByteArray()),
+                    (base_url) -> {
+                        try (
+                                final var reader = new JsonArchiveReader(
+                                        "json:" + base_url, preferences);
+                                final var iterator = reader.getRawValues(
+                                        channel_name, start, end)
+                        ) {
+                            assertTrue(iterator.hasNext());
+                            final var double_array =
+                                    (VDoubleArray) iterator.next();
+                            assertEquals(2, double_array.getData().size());
+                            assertEquals(
+                                    27.2, double_array.getData().getDouble(0));
+                            assertEquals(
+                                    48.3, double_array.getData().getDouble(1));
+                            assertEquals(
+                                    Double.POSITIVE_INFINITY,
+                                    double_array
+                                            .getDisplay()
+                                            .getAlarmRange()
+                                            .getMaximum());
+                            assertEquals(
+                                    Instant.ofEpochSecond(123L, 457000001L),
+                                    double_array.getTime().getTimestamp());
+                            assertTrue(iterator.hasNext());
+                            final var string_scalar =
+                                    (VString) iterator.next();
+                            assertEquals(
+                                    "some text", string_scalar.getValue());
+                            assertEquals(
+                                    AlarmSeverity.MAJOR,
+                                    string_scalar.getAlarm().getSeverity());
+                            assertFalse(iterator.hasNext());
+                        } catch (Exception e) {
+                            throw new RuntimeException(e);
+                        }
+                    });
+            assertEquals(1, requests.size());
+            final var accept = requests.get(0).headers().getFirst("Accept");
+            assertTrue(accept.contains(content_type));
+            assertTrue(accept.contains(JsonArchiveReader.CONTENT_TYPE_JSON));
+        }
+    }
+
     /**
      * Tests the
      * {@link JsonArchiveReader#getRawValues(String, Instant, Instant)}
@@ -529,5 +529,61 @@ $$;
 -- Get optimized data for that channel ID:
 -- SELECT * FROM auto_optimize(33, '2021-01-01', '2021-06-02', 1000);
 
+
+-------------------------
+-- Continuous aggregates for optimized readout (optional)
+-------------------------
+
+-- The archive reader computes min/max/avg/count 'time_bucket's
+-- from the sample table, so the functions above are no longer required.
+-- For plots that span months, it can instead combine pre-computed buckets
+-- from continuous aggregates, which are listed in the
+-- org.csstudio.archive.ts/continuous_aggregates preference
+-- as "name:bucket seconds":
+--
+--   org.csstudio.archive.ts/continuous_aggregates=sample_1min:60, sample_1h:3600
+--
+-- The aggregate must provide the columns bucket, channel_id, min_val, max_val, avg_val, n.
+-- With materialized_only=false, the most recent data that has not been
+-- materialized, yet, is computed from the sample table when queried.
+--
+-- To use them, remove the '-- ' comment prefix from the following statements.
+
+-- CREATE MATERIALIZED VIEW sample_1min
+-- WITH (timescaledb.continuous, timescaledb.materialized_only=false) AS
+--   SELECT time_bucket(INTERVAL '1 minute', smpl_time) AS bucket,
+--          channel_id,
+--          MIN(float_val) AS min_val,
+--          MAX(float_val) AS max_val,
+--          AVG(float_val) AS avg_val,
+--          COUNT(*) AS n
+--   FROM sample
+--   WHERE float_val IS NOT NULL
+--   GROUP BY channel_id, bucket;
+
+-- CREATE MATERIALIZED VIEW sample_1h
+-- WITH (timescaledb.continuous, timescaledb.materialized_only=false) AS
+--   SELECT time_bucket(INTERVAL '1 hour', smpl_time) AS bucket,
+--          channel_id,
+--          MIN(float_val) AS min_val,
+--          MAX(float_val) AS max_val,
+--          AVG(float_val) AS avg_val,
+--          COUNT(*) AS n
+--   FROM sample
+--   WHERE float_val IS NOT NULL
+--   GROUP BY channel_id, bucket;
+
+-- Keep them updated
+-- SELECT add_continuous_aggregate_policy('sample_1min',
+--   start_offset => INTERVAL '1 day', end_offset => INTERVAL '1 minute', schedule_interval => INTERVAL '10 minutes');
+-- SELECT add_continuous_aggregate_policy('sample_1h',
+--   start_offset => INTERVAL '7 days', end_offset => INTERVAL '1 hour', schedule_interval => INTERVAL '1 hour');
+
+-- Fill with existing data, for example after a CopyRDBToTimestampDB import
+-- CALL refresh_continuous_aggregate('sample_1min', NULL, NULL);
+-- CALL refresh_continuous_aggregate('sample_1h', NULL, NULL);
+
+-- GRANT SELECT ON sample_1min, sample_1h TO report;
+
    
 
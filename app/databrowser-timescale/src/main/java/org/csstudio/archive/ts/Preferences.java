@@ -24,6 +24,14 @@ public class Preferences
     @Preference
     public static int timeout_secs, fetch_size;
 
+    /** Setting */
+    @Preference
+    public static String stored_function, continuous_aggregates;
+
+    /** Setting */
+    @Preference
+    public static double min_bucket_secs;
+
     static
     {
         AnnotatedPreferences.initialize(Preferences.class, "/archive_ts_preferences.properties");
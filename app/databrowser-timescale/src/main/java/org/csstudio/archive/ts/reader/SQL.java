@@ -48,4 +48,84 @@ public class SQL
                                                      "   WHERE channel_id=?" +
                                                      "     AND smpl_time BETWEEN ? AND ?" +
                                                      "   ORDER BY smpl_time, nanosecs";
+
+    /** Count samples between start and end time */
+    public final String sample_count_by_id_start_end = "SELECT COUNT(*) FROM " + prefix + "sample" +
+                                                       "   WHERE channel_id=? AND smpl_time BETWEEN ? AND ?";
+
+    /** Non-float samples 'as is', the same columns as the optimized buckets */
+    private final String sample_sel_non_float =
+        //      1                   2            3          4            5            6            7        8        9
+        "SELECT smpl_time AS bucket, severity_id, status_id, NULL AS min, NULL AS max, NULL AS avg, num_val, str_val, 1 AS n" +
+        "   FROM " + prefix + "sample" +
+        "   WHERE channel_id=? AND smpl_time BETWEEN ? AND ? AND float_val IS NULL";
+
+    /** Optimized samples: Non-float samples 'as is', min/max/avg/count of float samples in 'time_bucket's.
+     *  Parameters are channel ID, start, end for the non-float samples,
+     *  then bucket size in seconds, channel ID, start, end for the buckets.
+     */
+    public final String sample_sel_time_bucket = sample_sel_non_float +
+        " UNION ALL" +
+        "  SELECT time_bucket(make_interval(secs=>?), smpl_time) AS bucket, NULL, NULL," +
+        "         MIN(float_val), MAX(float_val), AVG(float_val), NULL, NULL, COUNT(*)" +
+        "   FROM " + prefix + "sample" +
+        "   WHERE channel_id=? AND smpl_time BETWEEN ? AND ? AND float_val IS NOT NULL" +
+        "   GROUP BY 1" +
+        " ORDER BY bucket";
+
+    /** Optimized samples from a continuous aggregate, with "%s" for the name of the aggregate.
+     *  Same parameters as {@link #sample_sel_time_bucket}.
+     *  The pre-computed buckets are combined into buckets of the requested size.
+     */
+    public final String sample_sel_aggregate = sample_sel_non_float +
+        " UNION ALL" +
+        "  SELECT time_bucket(make_interval(secs=>?), bucket) AS bucket, NULL, NULL," +
+        "         MIN(min_val), MAX(max_val), SUM(avg_val * n) / SUM(n), NULL, NULL, SUM(n)::BIGINT" +
+        "   FROM %s" +
+        "   WHERE channel_id=? AND bucket BETWEEN ? AND ?" +
+        "   GROUP BY 1" +
+        " ORDER BY bucket";
+
+    /** Find channels by names, with "%s" for the name placeholders */
+    public final String channel_sel_by_names = "SELECT channel_id, name FROM " + prefix + "channel WHERE name IN (%s)";
+
+    /** Find samples between start and end time for several channels,
+     *  with "%s" for the channel and start time placeholders
+     */
+    public final String sample_sel_by_ids_start_end = "SELECT smpl_time, severity_id, status_id, num_val, float_val, str_val, nanosecs, datatype, array_val, channel_id FROM " + prefix + "sample" +
+                                                      "   WHERE (%s)" +
+                                                      "     AND smpl_time<=?" +
+                                                      "   ORDER BY channel_id, smpl_time, nanosecs";
+
+    /** @param statement Statement with "%s" placeholder for list of channels
+     *  @param count Number of channels
+     *  @return Statement with "?, ?, ..." for the channels
+     */
+    static String forChannels(final String statement, final int count)
+    {
+        final StringBuilder buf = new StringBuilder();
+        for (int i=0; i<count; ++i)
+        {
+            if (i > 0)
+                buf.append(", ");
+            buf.append('?');
+        }
+        return String.format(statement, buf.toString());
+    }
+
+    /** @param statement Statement with "%s" placeholder for list of channels
+     *  @param count Number of channels
+     *  @return Statement with "(channel_id=? AND smpl_time>=?) OR ..." for the channels
+     */
+    static String forChannelsFrom(final String statement, final int count)
+    {
+        final StringBuilder buf = new StringBuilder();
+        for (int i=0; i<count; ++i)
+        {
+            if (i > 0)
+                buf.append(" OR ");
+            buf.append("(channel_id=? AND smpl_time>=?)");
+        }
+        return String.format(statement, buf.toString());
+    }
 }
@@ -14,10 +14,14 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
@@ -38,12 +42,15 @@ import org.phoebus.archive.reader.UnknownChannelException;
 import org.phoebus.archive.reader.ValueIterator;
 import org.phoebus.framework.rdb.RDBConnectionPool;
 import org.phoebus.pv.PVPool;
+import org.phoebus.util.time.TimeDuration;
 import org.phoebus.util.time.TimestampFormats;
 
 /** Archive reader for TimestampDB
  *
  *  <p>Supports raw readout.
- *  Calls SQL function for optimized readout.
+ *  Optimized readout computes min/max/average buckets in the database,
+ *  using 'time_bucket' on the sample table or continuous aggregates,
+ *  or calls a configured SQL function.
  *  Adds "#1234" for name lookup by channel name.
  *
  *  @author Kay Kasemir
@@ -65,6 +72,67 @@ public class TSArchiveReader implements ArchiveReader
     /** Map of status IDs to Status strings */
     private static final ConcurrentHashMap<Integer, String> stati = new ConcurrentHashMap<>();
 
+    /** Continuous aggregate with pre-computed buckets */
+    private static class ContinuousAggregate
+    {
+        final String name;
+        final double bucket_secs;
+
+        ContinuousAggregate(final String name, final double bucket_secs)
+        {
+            this.name = name;
+            this.bucket_secs = bucket_secs;
+        }
+    }
+
+    /** Names that are placed into SQL must be plain identifiers, optionally with schema */
+    private static final String IDENTIFIER = "[A-Za-z0-9_.]+";
+
+    /** Continuous aggregates from preferences */
+    private static final List<ContinuousAggregate> aggregates = parseAggregates(Preferences.continuous_aggregates);
+
+    /** Stored function from preferences, empty if not used */
+    private static final String stored_function = parseStoredFunction(Preferences.stored_function);
+
+    /** @param setting "name:seconds, name:seconds"
+     *  @return {@link ContinuousAggregate}s
+     */
+    private static List<ContinuousAggregate> parseAggregates(final String setting)
+    {
+        final List<ContinuousAggregate> result = new ArrayList<>();
+        for (String spec : setting.split("\\s*,\\s*"))
+        {
+            if (spec.isBlank())
+                continue;
+            final String[] name_secs = spec.trim().split("\\s*:\\s*");
+            try
+            {
+                // Name is placed into SQL, so only allow plain identifiers
+                if (name_secs.length != 2  ||  ! name_secs[0].matches(IDENTIFIER))
+                    throw new Exception("Expecting 'name:seconds'");
+                result.add(new ContinuousAggregate(name_secs[0], Double.parseDouble(name_secs[1])));
+            }
+            catch (Exception ex)
+            {
+                logger.log(Level.WARNING, "Ignoring continuous aggregate '" + spec + "'", ex);
+            }
+        }
+        return result;
+    }
+
+    /** @param setting Name of stored function
+     *  @return Validated name, or empty
+     */
+    private static String parseStoredFunction(final String setting)
+    {
+        final String name = setting.trim();
+        // Name is placed into SQL, so only allow plain identifiers
+        if (name.isEmpty()  ||  name.matches(IDENTIFIER))
+            return name;
+        logger.log(Level.WARNING, "Ignoring stored function '" + setting + "', expecting plain name");
+        return "";
+    }
+
     /** @param url Database URL
      *  @throws Exception on error
      */
@@ -271,6 +339,130 @@ public class TSArchiveReader implements ArchiveReader
         return new TSRawSampleIterator(this, channel_id, start, end);
     }
 
+    /** Maximum number of channels in one SQL 'IN (...)' clause */
+    private static final int MAX_CHANNELS_PER_QUERY = 500;
+
+    @Override
+    public boolean supportsMultiChannelRequests(final boolean optimized)
+    {
+        // Optimized requests are computed per channel
+        return ! optimized;
+    }
+
+    /** {@inheritDoc}
+     *
+     *  <p>Reads the samples of all channels with one query
+     *  for each block of up to {@link #MAX_CHANNELS_PER_QUERY} channels,
+     *  starting each channel at its last sample at-or-before 'start'.
+     *  Samples are streamed as the iterators are read.
+     *  The channels are returned in the order of the names,
+     *  but each query returns its samples sorted by channel ID.
+     *  Reading the iterators in a different order, or several of them at once,
+     *  buffers the samples of channels that are earlier in the query.
+     */
+    @Override
+    public Map<String, ValueIterator> getRawValues(final List<String> names,
+                                                   final Instant start, final Instant end) throws Exception
+    {
+        // Names by channel ID. Usually one name per ID, but name variants may share an ID
+        final Map<Integer, List<String>> by_id = new LinkedHashMap<>();
+        final Map<String, Integer> ids = getChannelIDs(names);
+        for (Map.Entry<String, Integer> entry : ids.entrySet())
+            by_id.computeIfAbsent(entry.getValue(), id -> new ArrayList<>()).add(entry.getKey());
+        final List<Integer> unique_ids = new ArrayList<>(by_id.keySet());
+
+        final Map<String, ValueIterator> iterators = new HashMap<>();
+        try
+        {
+            for (int i=0; i<unique_ids.size(); i+=MAX_CHANNELS_PER_QUERY)
+            {
+                // Query returns the samples ordered by channel ID
+                final List<Integer> block = new ArrayList<>(unique_ids.subList(i, Math.min(i+MAX_CHANNELS_PER_QUERY, unique_ids.size())));
+                block.sort(null);
+                final TSSampleStream stream = new TSSampleStream(this, block, start, end);
+                for (int id : block)
+                {
+                    final List<String> id_names = by_id.get(id);
+                    iterators.put(id_names.get(0), stream.getIterator(id));
+                    // Additional names for the same channel use their own query
+                    for (int n=1; n<id_names.size(); ++n)
+                        iterators.put(id_names.get(n), new TSRawSampleIterator(this, id, determineActualStart(id, start), end));
+                }
+            }
+        }
+        catch (Exception ex)
+        {
+            for (ValueIterator iter : iterators.values())
+                iter.close();
+            throw ex;
+        }
+        final Map<String, ValueIterator> result = new LinkedHashMap<>();
+        for (String name : ids.keySet())
+            result.put(name, iterators.get(name));
+        return result;
+    }
+
+    /** @param names Channel names
+     *  @return Numeric channel IDs by name, in order of the names, omitting unknown channels
+     *  @throws Exception on error
+     */
+    private Map<String, Integer> getChannelIDs(final List<String> names) throws Exception
+    {
+        // Look for exact names in one query per block of channels
+        final Map<String, Integer> found = new HashMap<>();
+        for (int i=0; i<names.size(); i+=MAX_CHANNELS_PER_QUERY)
+        {
+            final List<String> block = names.subList(i, Math.min(i+MAX_CHANNELS_PER_QUERY, names.size()));
+            final Connection connection = pool.getConnection();
+            try (final PreparedStatement statement = connection.prepareStatement(SQL.forChannels(sql.channel_sel_by_names, block.size())))
+            {
+                addForCancellation(statement);
+                try
+                {
+                    if (Preferences.timeout_secs > 0)
+                        statement.setQueryTimeout(Preferences.timeout_secs);
+                    int p = 0;
+                    for (String name : block)
+                        statement.setString(++p, name);
+                    try (final ResultSet result = statement.executeQuery())
+                    {
+                        while (result.next())
+                            found.put(result.getString(2), result.getInt(1));
+                    }
+                }
+                finally
+                {
+                    removeFromCancellation(statement);
+                }
+            }
+            finally
+            {
+                pool.releaseConnection(connection);
+            }
+        }
+
+        // Check name variants for the remaining channels
+        final Map<String, Integer> ids = new LinkedHashMap<>();
+        for (String name : names)
+        {
+            Integer id = found.get(name);
+            if (id == null)
+            {
+                try
+                {
+                    id = getChannelID(name);
+                }
+                catch (UnknownChannelException ex)
+                {
+                    logger.log(Level.FINE, "Unknown channel {0}", name);
+                    continue;
+                }
+            }
+            ids.put(name, id);
+        }
+        return ids;
+    }
+
     // [org.csstudio.archive.timescaledb.reader] Optimized request found 28627028 raw samples
     // [org.csstudio.trends.databrowser3] Ended Read data: BTF_MEBT_Mag:PS_DCH01:I, 2018-12-16 17:34:40.059307490 - 2020-01-04 02:36:06.394053358 with 6748 samples in 168 secs
     // --> RDB handled ~170000 raw samples/sec, reducing them to just ~7000 min/max/average values
@@ -287,13 +479,86 @@ public class TSArchiveReader implements ArchiveReader
 
         logger.log(Level.FINE, () -> name + ": " + count + " buckets");
 
-        final List<VType> values = new ArrayList<>();
+        if (! stored_function.isEmpty())
+            return new ArrayValueIterator(readStoredFunction(channel_id, display, start, end, count));
+
+        // Size of one bucket based on original start..end range and count
+        final double bucket_secs = TimeDuration.toSecondsDouble(Duration.between(start, end)) / count;
+
+        // Like raw data, start with the last sample at-or-before 'start'
+        start = determineActualStart(channel_id, start);
+
+        if (bucket_secs < Preferences.min_bucket_secs)
+        {
+            logger.log(Level.FINE, () -> name + ": " + bucket_secs + " second buckets -> returning raw data");
+            return new TSRawSampleIterator(this, channel_id, start, end);
+        }
+
+        // Use coarsest continuous aggregate that still fits the requested bucket size
+        ContinuousAggregate aggregate = null;
+        for (ContinuousAggregate candidate : aggregates)
+            if (candidate.bucket_secs <= bucket_secs  &&
+                (aggregate == null  ||  candidate.bucket_secs > aggregate.bucket_secs))
+                aggregate = candidate;
+
+        final String statement_sql;
+        if (aggregate != null)
+            statement_sql = String.format(sql.sample_sel_aggregate, aggregate.name);
+        else
+        {   // Fewer samples than requested buckets? Then return raw data
+            final long samples = countSamples(channel_id, start, end);
+            if (samples <= count)
+            {
+                logger.log(Level.FINE, () -> name + ": " + samples + " samples -> returning raw data");
+                return new TSRawSampleIterator(this, channel_id, start, end);
+            }
+            statement_sql = sql.sample_sel_time_bucket;
+        }
+        if (logger.isLoggable(Level.FINE))
+            logger.log(Level.FINE, name + ": " + bucket_secs + " second buckets from " +
+                                   (aggregate == null ? "sample table" : aggregate.name));
+
+        final List<VType> values;
+        final Connection connection = pool.getConnection();
+        try (final PreparedStatement statement = connection.prepareStatement(statement_sql))
+        {
+            statement.setFetchDirection(ResultSet.FETCH_FORWARD);
+            statement.setFetchSize(Preferences.fetch_size);
+            statement.setInt(1, channel_id);
+            statement.setTimestamp(2, Timestamp.from(start));
+            statement.setTimestamp(3, Timestamp.from(end));
+            statement.setDouble(4, bucket_secs);
+            statement.setInt(5, channel_id);
+            statement.setTimestamp(6, Timestamp.from(start));
+            statement.setTimestamp(7, Timestamp.from(end));
+            values = readOptimized(statement, display);
+        }
+        finally
+        {
+            pool.releaseConnection(connection);
+        }
+        return new ArrayValueIterator(values);
+    }
+
+    /** Read optimized data via stored function
+     *  @param channel_id Channel ID
+     *  @param display Display info of the channel
+     *  @param start Start time
+     *  @param end End time
+     *  @param count Number of buckets
+     *  @return Optimized values
+     *  @throws Exception on error
+     */
+    private List<VType> readStoredFunction(final int channel_id, final DisplayInfo display,
+                                           final Instant start, final Instant end, final int count) throws Exception
+    {
         final Connection connection = pool.getConnection();
         try
         (
             final PreparedStatement statement = connection.prepareStatement(
             //      1       2            3          4    5    6    7        8        9
-            "SELECT bucket, severity_id, status_id, min, max, avg, num_val, str_val, n FROM auto_optimize(?, ?::TIMESTAMPTZ, ?::TIMESTAMPTZ, ?)")
+            "SELECT bucket, severity_id, status_id, min, max, avg, num_val, str_val, n FROM " +
+            stored_function + "(?, ?::TIMESTAMPTZ, ?::TIMESTAMPTZ, ?)")
         )
         {
             statement.setFetchDirection(ResultSet.FETCH_FORWARD);
@@ -302,71 +567,110 @@ public class TSArchiveReader implements ArchiveReader
             statement.setTimestamp(2, Timestamp.from(start));
             statement.setTimestamp(3, Timestamp.from(end));
             statement.setLong(4, count);
+            return readOptimized(statement, display);
+        }
+        finally
+        {
+            pool.releaseConnection(connection);
+        }
+    }
 
+    /** @param channel_id Channel ID
+     *  @param start Start time
+     *  @param end End time
+     *  @return Number of samples in time range
+     *  @throws Exception on error
+     */
+    private long countSamples(final int channel_id, final Instant start, final Instant end) throws Exception
+    {
+        final Connection connection = pool.getConnection();
+        try (final PreparedStatement statement = connection.prepareStatement(sql.sample_count_by_id_start_end))
+        {
             addForCancellation(statement);
-
-            // final VTypeFormat format = DoubleVTypeFormat.get();
-            try (final ResultSet result = statement.executeQuery())
+            try
             {
-                while (result.next())
+                statement.setInt(1, channel_id);
+                statement.setTimestamp(2, Timestamp.from(start));
+                statement.setTimestamp(3, Timestamp.from(end));
+                try (final ResultSet result = statement.executeQuery())
                 {
-                    final Instant stamp = result.getTimestamp(1).toInstant();
-                    final int N = result.getInt(9);
-                    final VType value;
+                    return result.next() ? result.getLong(1) : 0;
+                }
+            }
+            finally
+            {
+                removeFromCancellation(statement);
+            }
+        }
+        finally
+        {
+            pool.releaseConnection(connection);
+        }
+    }
 
-                    // Is there a string?
-                    final String text = result.getString(8);
-                    if (!result.wasNull() && text != null)
+    /** Decode optimized data
+     *  @param statement Statement that returns bucket, severity_id, status_id, min, max, avg, num_val, str_val, n
+     *  @param display Display info of the channel
+     *  @return Values
+     *  @throws Exception on error
+     */
+    private List<VType> readOptimized(final PreparedStatement statement, final DisplayInfo display) throws Exception
+    {
+        final List<VType> values = new ArrayList<>();
+        addForCancellation(statement);
+        try (final ResultSet result = statement.executeQuery())
+        {
+            while (result.next())
+            {
+                final Instant stamp = result.getTimestamp(1).toInstant();
+                final int N = result.getInt(9);
+                final VType value;
+
+                // Is there a string?
+                final String text = result.getString(8);
+                if (!result.wasNull() && text != null)
+                {
+                    // Read severity, status unless statistics
+                    final Alarm alarm = decodeAlarm(result.getInt(2), result.getInt(3));
+                    value = VString.of(text, alarm, Time.of(stamp));
+                }
+                else
+                {   // Is it an integer?
+                    final int num_val = result.getInt(7);
+                    if (!result.wasNull())
                     {
-                        // Read severity, status unless statistics
                         final Alarm alarm = decodeAlarm(result.getInt(2), result.getInt(3));
-                        value = VString.of(text, alarm, Time.of(stamp));
+                        // Check for enum or numeric
+                        if (display.getLabels() != null)
+                            value = VEnum.of(num_val, display.getLabels(), alarm, Time.of(stamp));
+                        else
+                            value = VInt.of(num_val, alarm, Time.of(stamp), display.getDisplay());
                     }
+                    else if (N==1)
+                        // 'raw' double sample
+                        value = VDouble.of(result.getDouble(6),
+                                           Alarm.none(),
+                                           Time.of(stamp),
+                                           display.getDisplay());
                     else
-                    {   // Is it an integer?
-                        final int num_val = result.getInt(7);
-                        if (!result.wasNull())
-                        {
-                            final Alarm alarm = decodeAlarm(result.getInt(2), result.getInt(3));
-                            // Check for enum or numeric
-                            if (display.getLabels() != null)
-                                value = VEnum.of(num_val, display.getLabels(), alarm, Time.of(stamp));
-                            else
-                                value = VInt.of(num_val, alarm, Time.of(stamp), display.getDisplay());
-                        }
-                        else if (N==1)
-                            // 'raw' double sample
-                            value = VDouble.of(result.getDouble(6),
+                        // Optimized min/max/avg sample
+                        value = VStatistics.of(result.getDouble(6),
+                                               Double.NaN,
+                                               result.getDouble(4),
+                                               result.getDouble(5),
+                                               N,
                                                Alarm.none(),
                                                Time.of(stamp),
                                                display.getDisplay());
-                        else
-                            // Optimized min/max/avg sample
-                            value = VStatistics.of(result.getDouble(6),
-                                                   Double.NaN,
-                                                   result.getDouble(4),
-                                                   result.getDouble(5),
-                                                   N,
-                                                   Alarm.none(),
-                                                   Time.of(stamp),
-                                                   display.getDisplay());
-                    }
-                    values.add(value);
-                    // System.out.println(TimestampFormats.FULL_FORMAT.format(((TimeProvider)value).getTime().getTimestamp()) +
-                    //                    " " + format.format(value));
                 }
-            }
-            finally
-            {
-                removeFromCancellation(statement);
+                values.add(value);
             }
         }
         finally
         {
-            pool.releaseConnection(connection);
+            removeFromCancellation(statement);
         }
-
-        return new ArrayValueIterator(values);
+        return values;
     }
 
     /** @param name Channel name
@@ -425,6 +729,29 @@ public class TSArchiveReader implements ArchiveReader
 
         // Get time of initial sample
         Connection connection = pool.getConnection();
+        try
+        {
+            start = determineActualStart(connection, channel_id, start);
+        }
+        finally
+        {
+            pool.releaseConnection(connection);
+        }
+
+        if (logger.isLoggable(Level.FINE))
+            logger.log(Level.FINE, "Actual start time  : " + TimestampFormats.FULL_FORMAT.format(start));
+        return start;
+    }
+
+    /** Determine time of the last sample at-or-before the start time
+     *  @param connection Connection to use
+     *  @param channel_id Channel ID
+     *  @param start Start time
+     *  @return Time of initial sample, or the start time
+     *  @throws Exception on error, including cancellation
+     */
+    Instant determineActualStart(final Connection connection, final int channel_id, final Instant start) throws Exception
+    {
         try (final PreparedStatement statement = connection.prepareStatement(sql.sample_sel_initial_time))
         {
             addForCancellation(statement);
@@ -439,7 +766,7 @@ public class TSArchiveReader implements ArchiveReader
                     if (actual_start != null  &&  !result.wasNull())
                     {
                         actual_start.setNanos(result.getInt(2));
-                        start = actual_start.toInstant();
+                        return actual_start.toInstant();
                     }
                 }
             }
@@ -448,13 +775,6 @@ public class TSArchiveReader implements ArchiveReader
                 removeFromCancellation(statement);
             }
         }
-        finally
-        {
-            pool.releaseConnection(connection);
-        }
-
-        if (logger.isLoggable(Level.FINE))
-            logger.log(Level.FINE, "Actual start time  : " + TimestampFormats.FULL_FORMAT.format(start));
         return start;
     }
 
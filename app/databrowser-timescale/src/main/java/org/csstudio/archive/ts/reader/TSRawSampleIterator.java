@@ -149,6 +149,19 @@ public class TSRawSampleIterator implements ValueIterator
      *  @throws Exception on error, including cancellation
      */
     protected VType decodeSampleTableValue(final ResultSet result) throws Exception
+    {
+        return decodeSample(reader, display, result);
+    }
+
+    /** Extract value from SQL result
+     *  @param reader Reader
+     *  @param display Display info of the channel
+     *  @param result ResultSet that must contain contain time, severity, ..., value
+     *  @return IValue Decoded IValue
+     *  @throws Exception on error, including cancellation
+     */
+    static VType decodeSample(final TSArchiveReader reader, final DisplayInfo display,
+                              final ResultSet result) throws Exception
     {
         // 1          2            3          4        5          6        7         8         9
         // smpl_time, severity_id, status_id, num_val, float_val, str_val, nanosecs, datatype, array_val
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.csstudio.archive.ts.reader;
+
+import static org.phoebus.archive.reader.ArchiveReaders.logger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.logging.Level;
+
+import org.csstudio.archive.ts.Preferences;
+import org.epics.vtype.VType;
+import org.phoebus.archive.reader.MultiChannelSampleStream;
+import org.phoebus.archive.reader.rdb.RDBArchiveReader;
+
+/** Stream of the raw samples for a block of channels
+ *
+ *  <p>Reads the samples of all channels with one query,
+ *  where each channel starts at its last sample at-or-before the start time.
+ */
+@SuppressWarnings("nls")
+class TSSampleStream extends MultiChannelSampleStream
+{
+    private final TSArchiveReader reader;
+    private final List<Integer> ids;
+    private final Instant start, end;
+
+    private Connection connection = null;
+    private PreparedStatement statement = null;
+    private ResultSet result = null;
+
+    /** Display info of the current channel */
+    private int channel_id = -1;
+    private DisplayInfo display = null;
+
+    /** @param reader {@link TSArchiveReader}
+     *  @param ids Channel IDs, sorted
+     *  @param start Start time
+     *  @param end End time
+     */
+    TSSampleStream(final TSArchiveReader reader, final List<Integer> ids,
+                   final Instant start, final Instant end)
+    {
+        super(ids);
+        this.reader = reader;
+        this.ids = ids;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    protected void open() throws Exception
+    {
+        connection = reader.getPool().getConnection();
+        final Timestamp[] starts = new Timestamp[ids.size()];
+        for (int i=0; i<starts.length; ++i)
+            starts[i] = Timestamp.from(reader.determineActualStart(connection, ids.get(i), start));
+
+        // PostgreSQL only streams the result with auto-commit disabled
+        connection.setAutoCommit(false);
+        statement = connection.prepareStatement(SQL.forChannelsFrom(reader.getSQL().sample_sel_by_ids_start_end, ids.size()),
+                                                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchDirection(ResultSet.FETCH_FORWARD);
+        statement.setFetchSize(Preferences.fetch_size);
+        reader.addForCancellation(statement);
+        int p = 0;
+        for (int i=0; i<starts.length; ++i)
+        {
+            statement.setInt(++p, ids.get(i));
+            statement.setTimestamp(++p, starts[i]);
+        }
+        statement.setTimestamp(++p, Timestamp.from(end));
+        result = statement.executeQuery();
+    }
+
+    @Override
+    protected int next() throws Exception
+    {
+        return result.next() ? result.getInt(10) : -1;
+    }
+
+    @Override
+    protected VType decode(final int channel_id) throws Exception
+    {
+        if (display == null  ||  this.channel_id != channel_id)
+        {
+            this.channel_id = channel_id;
+            display = DisplayInfo.forChannel(channel_id, reader);
+        }
+        return TSRawSampleIterator.decodeSample(reader, display, result);
+    }
+
+    @Override
+    protected boolean isCancellation(final Exception ex)
+    {
+        return RDBArchiveReader.isCancellation(ex);
+    }
+
+    @Override
+    protected void close()
+    {
+        try
+        {
+            if (result != null)
+                result.close();
+            if (statement != null)
+            {
+                reader.removeFromCancellation(statement);
+                statement.close();
+            }
+            if (connection != null)
+            {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        }
+        catch (Exception ex)
+        {
+            logger.log(Level.WARNING, "Error closing sample stream", ex);
+        }
+        if (connection != null)
+            reader.getPool().releaseConnection(connection);
+    }
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.csstudio.archive.ts.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import org.csstudio.archive.ts.reader.SQL;
+import org.phoebus.framework.rdb.RDBInfo;
+
+/** Compare query times of the optimized readouts
+ *
+ *  <p>Runs the 'auto_optimize' stored function,
+ *  a 'time_bucket' query on the sample table
+ *  and optionally a query on a continuous aggregate
+ *  for the same channel and time range.
+ *
+ *  Run from within IDE, or start product as
+ *
+ *  phoebus.sh -main org.csstudio.archive.ts.util.OptimizedReadoutTiming url user password channel_id start end count [aggregate:seconds]
+ */
+@SuppressWarnings("nls")
+public class OptimizedReadoutTiming
+{
+    private final Connection connection;
+    private final int channel_id;
+    private final Timestamp start, end;
+    private final int count;
+
+    OptimizedReadoutTiming(final Connection connection, final int channel_id,
+                           final Timestamp start, final Timestamp end, final int count)
+    {
+        this.connection = connection;
+        this.channel_id = channel_id;
+        this.start = start;
+        this.end = end;
+        this.count = count;
+    }
+
+    /** Time a query
+     *  @param title Title to show
+     *  @param sql Query that needs channel ID, start, end, bucket size in seconds, channel ID, start, end
+     *  @param function Use stored function parameters channel ID, start, end, count?
+     */
+    private void time(final String title, final String sql, final boolean function)
+    {
+        final double bucket_secs = (end.getTime() - start.getTime()) / 1000.0 / count;
+        final long t0 = System.nanoTime();
+        long rows = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql))
+        {
+            statement.setFetchSize(10000);
+            statement.setInt(1, channel_id);
+            statement.setTimestamp(2, start);
+            statement.setTimestamp(3, end);
+            if (function)
+                statement.setLong(4, count);
+            else
+            {
+                statement.setDouble(4, bucket_secs);
+                statement.setInt(5, channel_id);
+                statement.setTimestamp(6, start);
+                statement.setTimestamp(7, end);
+            }
+            try (ResultSet result = statement.executeQuery())
+            {
+                while (result.next())
+                    ++rows;
+            }
+        }
+        catch (Exception ex)
+        {
+            System.out.println(title + ": " + ex.getMessage());
+            return;
+        }
+        final long ms = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0);
+        System.out.println(String.format("%-30s: %6d rows in %6d ms", title, rows, ms));
+    }
+
+    public static void main(final String[] args) throws Exception
+    {
+        if (args.length < 7)
+        {
+            System.out.println("Usage: OptimizedReadoutTiming url user password channel_id start end count [aggregate:seconds]");
+            System.out.println("Example: OptimizedReadoutTiming jdbc:postgresql://localhost:5432/tsarch report '$report' 33 '2021-01-01 00:00:00' '2021-06-01 00:00:00' 1000 sample_1h:3600");
+            return;
+        }
+        final RDBInfo info = new RDBInfo(args[0], args[1], args[2]);
+        final SQL sql = new SQL();
+        try (Connection connection = info.connect())
+        {
+            final OptimizedReadoutTiming timing = new OptimizedReadoutTiming(connection, Integer.parseInt(args[3]),
+                                                                             Timestamp.valueOf(args[4]),
+                                                                             Timestamp.valueOf(args[5]),
+                                                                             Integer.parseInt(args[6]));
+            // Run each query twice: First run reads from disk, second run tends to find data in cache
+            for (int run=1; run<=2; ++run)
+            {
+                System.out.println("Run " + run);
+                timing.time("auto_optimize()",
+                            "SELECT bucket, severity_id, status_id, min, max, avg, num_val, str_val, n FROM auto_optimize(?, ?::TIMESTAMPTZ, ?::TIMESTAMPTZ, ?)",
+                            true);
+                timing.time("time_bucket on sample table", sql.sample_sel_time_bucket, false);
+                if (args.length > 7)
+                {
+                    final String name = args[7].split(":")[0];
+                    timing.time("time_bucket on " + name, String.format(sql.sample_sel_aggregate, name), false);
+                }
+            }
+        }
+    }
+}
@@ -10,13 +10,21 @@ package org.csstudio.trends.databrowser3.archive;
 import static org.csstudio.trends.databrowser3.Activator.logger;
 
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 
@@ -55,12 +63,43 @@ public class ArchiveFetchJob implements JobRunnable
     /** Limit the number of concurrently running jobs */
     private static final Semaphore concurrent_requests = new Semaphore(Preferences.concurrent_requests, true);
 
+    /** Limit the number of concurrent requests per archive data source */
+    private static final ArchiveFetchScheduler scheduler = new ArchiveFetchScheduler(Preferences.concurrent_requests_per_source);
+
+    /** Archive engines write samples with some delay.
+     *  Data this close to 'now' is fetched, but not marked as loaded,
+     *  so it will be requested again once the archive caught up.
+     */
+    private static final Duration RECENT_DATA_MARGIN = Duration.ofMinutes(1);
+
+    /** Total number of samples fetched by all jobs, for diagnostics */
+    private static final AtomicLong fetched_samples = new AtomicLong();
+
+    /** Request of a job that another job may fetch as part of a batch */
+    private static class BatchRequest
+    {
+        final String name;
+
+        /** Samples, or completed exceptionally with the error.
+         *  Cancelled when the request needs to be submitted again.
+         */
+        final CompletableFuture<List<VType>> samples = new CompletableFuture<>();
+
+        BatchRequest(final String name)
+        {
+            this.name = name;
+        }
+    }
+
     /** Item for which to fetch samples */
     private final PVItem item;
 
     /** Start/End time */
     private final Instant start, end;
 
+    /** Number of bins for optimized request */
+    private final int bins;
+
     /** Listener that's notified when (if) we completed OK */
     private final ArchiveFetchJobListener listener;
 
@@ -106,17 +145,9 @@ public class ArchiveFetchJob implements JobRunnable
             final long start_time = System.currentTimeMillis();
             long samples = 0;
 
-            // Number of bins. Negative values are scaling factor for display width
-            int bins = Preferences.plot_bins;
-            if (bins < 0)
-                bins = DataBrowserInstance.display_pixel_width * (-bins);
-            // Bins could be 0 when display_pixel_width has not been initialed
-            // (no DB instance had been opened)
-            if (bins <= 0)
-                bins = 800;
-
             final Collection<ArchiveDataSource> archives = item.getArchiveDataSources();
             final List<ArchiveDataSource> archives_without_channel = new ArrayList<>();
+            boolean failed = false;
             int i = 0;
             for (ArchiveDataSource archive : archives)
             {
@@ -127,51 +158,45 @@ public class ArchiveFetchJob implements JobRunnable
                 message = MessageFormat.format(Messages.ArchiveFetchDetailFmt,
                                                archive.getName(), ++i, archives.size());
                 try
-                (
-                    final ArchiveReader the_reader = ArchiveReaders.createReader(url);
-                )
                 {
-                    reader.set(the_reader);
-                    try
-                    (
-                        final ValueIterator value_iter = (item.getRequestType() == RequestType.RAW)
-                                            ? the_reader.getRawValues(item.getResolvedName(), start, end)
-                                            : the_reader.getOptimizedValues(item.getResolvedName(), start, end, bins)
-                    )
-                    {
-                        // Get samples into array
-                        final List<VType> result = new ArrayList<>();
-                        while (value_iter.hasNext())
-                            result.add(value_iter.next());
-                        samples += result.size();
-                        item.mergeArchivedSamples(archive.getName(), result);
-                    }
-                    catch (UnknownChannelException e)
-                    {
-                        // Do not immediately notify about unknown channels. First search for the data in all archive
-                        // sources and only report this kind of errors at the end
-                        archives_without_channel.add(archive);
-                    }
-                    finally
-                    {
-                        reader.set(null);
-                    }
+                    final List<VType> result = fetch(url);
+                    if (result == null)
+                        break;
+                    samples += result.size();
+                    item.mergeArchivedSamples(archive.getName(), result);
+                }
+                catch (UnknownChannelException e)
+                {
+                    // Do not immediately notify about unknown channels. First search for the data in all archive
+                    // sources and only report this kind of errors at the end
+                    archives_without_channel.add(archive);
                 }
                 catch (Exception ex)
                 {   // Tell listener unless it's the result of a 'cancel'?
+                    failed = true;
                     if (! cancelled)
                         listener.archiveFetchFailed(ArchiveFetchJob.this, archive, ex);
                     // Continue with the next data source
                 }
             }
             final long end_time = System.currentTimeMillis();
+            final long total = fetched_samples.addAndGet(samples);
             logger.log(Level.FINE,
-                    "Ended {0} with {1} samples in {2} secs",
-                    new Object[] { ArchiveFetchJob.this, samples, (end_time - start_time)/1000 });
+                    "Ended {0} with {1} samples in {2} secs, {3} samples fetched in total",
+                    new Object[] { ArchiveFetchJob.this, samples, (end_time - start_time)/1000, total });
 
             if (cancelled)
                 return;
 
+            // Remember what's been loaded, except for the most recent data
+            // which might not have been written to the archive, yet.
+            // After errors, allow the next request to try again.
+            if (! failed)
+            {
+                final Instant recent = Instant.ofEpochMilli(start_time).minus(RECENT_DATA_MARGIN);
+                item.getSamples().getArchiveCoverage().add(start, end.isAfter(recent) ? recent : end, getResolution());
+            }
+
             if (archives_without_channel.size() > 0)
                 listener.channelNotFound(ArchiveFetchJob.this,
                         archives_without_channel.size() < archives.size(),
@@ -180,6 +205,194 @@ public class ArchiveFetchJob implements JobRunnable
             listener.fetchCompleted(ArchiveFetchJob.this);
         }
 
+        /** Fetch samples from one archive data source
+         *
+         *  <p>Either performs the request,
+         *  possibly together with compatible requests of other jobs,
+         *  or receives the samples from another job.
+         *
+         *  @param url Archive data source URL
+         *  @return Samples, <code>null</code> when cancelled
+         *  @throws Exception on error
+         */
+        private List<VType> fetch(final String url) throws Exception
+        {
+            final boolean optimized = item.getRequestType() != RequestType.RAW;
+            // Requests for the same time range and bins can be combined
+            final Object key = List.of(start, end, optimized ? bins : 0);
+            while (! cancelled)
+            {
+                final BatchRequest request = new BatchRequest(item.getResolvedName());
+                final ArchiveFetchScheduler.Permit permit;
+                try
+                {
+                    permit = scheduler.acquire(url, item.isVisible(), key, request, () -> cancelled);
+                }
+                catch (InterruptedException ex)
+                {
+                    return null;
+                }
+                if (permit == null)
+                    return null;
+                try (permit)
+                {
+                    if (! permit.isBatched())
+                        return fetch(url, optimized, permit);
+                }
+
+                // Another job fetches the samples
+                try
+                {
+                    return awaitBatch(request);
+                }
+                catch (CancellationException ex)
+                {
+                    // That job was cancelled, submit again
+                }
+            }
+            return null;
+        }
+
+        /** @param url Archive data source URL
+         *  @param optimized Optimized or raw request?
+         *  @param permit Permit to access the data source
+         *  @return Samples, <code>null</code> when cancelled
+         *  @throws Exception on error
+         */
+        private List<VType> fetch(final String url, final boolean optimized,
+                                  final ArchiveFetchScheduler.Permit permit) throws Exception
+        {
+            try (final ArchiveReader the_reader = ArchiveReaders.createReader(url))
+            {
+                reader.set(the_reader);
+                final List<BatchRequest> batch = new ArrayList<>();
+                try
+                {
+                    if (Preferences.archive_fetch_batch_size > 1  &&  the_reader.supportsMultiChannelRequests(optimized))
+                        for (Object request : permit.takeBatch(Preferences.archive_fetch_batch_size - 1))
+                            batch.add((BatchRequest) request);
+                    if (batch.isEmpty())
+                    {
+                        try
+                        (
+                            final ValueIterator value_iter = optimized
+                                                ? the_reader.getOptimizedValues(item.getResolvedName(), start, end, bins)
+                                                : the_reader.getRawValues(item.getResolvedName(), start, end)
+                        )
+                        {
+                            // Get samples into array
+                            final List<VType> result = new ArrayList<>();
+                            while (value_iter.hasNext())
+                                result.add(value_iter.next());
+                            return result;
+                        }
+                    }
+                    return fetchBatch(the_reader, optimized, batch);
+                }
+                finally
+                {
+                    // Requests that did not receive samples need to be submitted again
+                    for (BatchRequest request : batch)
+                        request.samples.cancel(false);
+                    reader.set(null);
+                }
+            }
+        }
+
+        /** Fetch samples for this job and a batch of requests from other jobs
+         *  @param the_reader Reader
+         *  @param optimized Optimized or raw request?
+         *  @param batch Requests of other jobs
+         *  @return Samples for this job, <code>null</code> when cancelled
+         *  @throws Exception on error
+         */
+        private List<VType> fetchBatch(final ArchiveReader the_reader, final boolean optimized,
+                                       final List<BatchRequest> batch) throws Exception
+        {
+            final List<String> names = new ArrayList<>();
+            names.add(item.getResolvedName());
+            for (BatchRequest request : batch)
+                if (! names.contains(request.name))
+                    names.add(request.name);
+            logger.log(Level.FINE, "{0} fetches {1} channels", new Object[] { ArchiveFetchJob.this, names.size() });
+
+            final Map<String, List<VType>> results = new HashMap<>();
+            try
+            {
+                final Map<String, ValueIterator> iters = optimized
+                    ? the_reader.getOptimizedValues(names, start, end, bins)
+                    : the_reader.getRawValues(names, start, end);
+                try
+                {
+                    // Read in the order of the returned map, which may stream the samples
+                    for (Map.Entry<String, ValueIterator> entry : iters.entrySet())
+                    {
+                        final List<VType> result = new ArrayList<>();
+                        final ValueIterator value_iter = entry.getValue();
+                        while (value_iter.hasNext())
+                            result.add(value_iter.next());
+                        results.put(entry.getKey(), result);
+                    }
+                }
+                finally
+                {
+                    for (ValueIterator iter : iters.values())
+                        iter.close();
+                }
+            }
+            catch (Exception ex)
+            {
+                if (! cancelled)
+                    for (BatchRequest request : batch)
+                        request.samples.completeExceptionally(ex);
+                throw ex;
+            }
+            // Samples may be incomplete when cancelled
+            if (cancelled)
+                return null;
+
+            for (BatchRequest request : batch)
+            {
+                final List<VType> result = results.get(request.name);
+                if (result == null)
+                    request.samples.completeExceptionally(new UnknownChannelException(request.name));
+                else
+                    request.samples.complete(result);
+            }
+            final List<VType> result = results.get(item.getResolvedName());
+            if (result == null)
+                throw new UnknownChannelException(item.getResolvedName());
+            return result;
+        }
+
+        /** @param request Request that another job fetches
+         *  @return Samples, <code>null</code> when cancelled
+         *  @throws CancellationException when the other job was cancelled
+         *  @throws Exception on error
+         */
+        private List<VType> awaitBatch(final BatchRequest request) throws Exception
+        {
+            message = "Batched";
+            while (! cancelled)
+            {
+                try
+                {
+                    return request.samples.get(POLL_PERIOD_MS, TimeUnit.MILLISECONDS);
+                }
+                catch (TimeoutException ex)
+                {
+                    // Check for cancellation, then wait again
+                }
+                catch (ExecutionException ex)
+                {
+                    if (ex.getCause() instanceof Exception)
+                        throw (Exception) ex.getCause();
+                    throw ex;
+                }
+            }
+            return null;
+        }
+
         @Override
         public String toString()
         {
@@ -197,14 +410,64 @@ public class ArchiveFetchJob implements JobRunnable
     public ArchiveFetchJob(final PVItem item, final Instant start,
                            final Instant end,
                            final ArchiveFetchJobListener listener)
+    {
+        this(item, start, end, getDefaultBinCount(), listener);
+    }
+
+    /** Schedule a new job.
+     *
+     *  @param item the item for which the data are fetched
+     *  @param start the lower time boundary for the historic data
+     *  @param end the upper time boundary for the history data
+     *  @param bins number of bins for an optimized request
+     *  @param listener the listener notified when the job is complete or an error happens
+     */
+    public ArchiveFetchJob(final PVItem item, final Instant start,
+                           final Instant end, final int bins,
+                           final ArchiveFetchJobListener listener)
     {
         this.item = item;
         this.start = start;
         this.end = end;
+        this.bins = Math.max(1, bins);
         this.listener = listener;
         this.job = JobManager.schedule(toString(), this);
     }
 
+    /** @return Number of bins to request for the full plot width */
+    public static int getDefaultBinCount()
+    {
+        // Negative values are scaling factor for display width
+        int bins = Preferences.plot_bins;
+        if (bins < 0)
+            bins = DataBrowserInstance.display_pixel_width * (-bins);
+        // Bins could be 0 when display_pixel_width has not been initialed
+        // (no DB instance had been opened)
+        if (bins <= 0)
+            bins = 800;
+        return bins;
+    }
+
+    /** @return Scheduler that handles the requests to each archive data source */
+    public static ArchiveFetchScheduler getScheduler()
+    {
+        return scheduler;
+    }
+
+    /** @return Total number of samples fetched by all jobs */
+    public static long getFetchedSampleCount()
+    {
+        return fetched_samples.get();
+    }
+
+    /** @return Time resolution of the requested data, zero for raw data */
+    private Duration getResolution()
+    {
+        if (item.getRequestType() == RequestType.RAW)
+            return Duration.ZERO;
+        return Duration.between(start, end).dividedBy(bins);
+    }
+
     /** @return PVItem for which this job was created */
     public PVItem getPVItem()
     {
@@ -0,0 +1,304 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.csstudio.trends.databrowser3.archive;
+
+import static org.csstudio.trends.databrowser3.Activator.logger;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Level;
+
+/** Scheduler for archive requests
+ *
+ *  <p>Limits the number of concurrent requests per archive data source.
+ *  When more requests are pending, those for visible traces are handled
+ *  first, otherwise requests are handled in the order they were submitted.
+ *
+ *  <p>A request that obtained a permit may take compatible requests
+ *  for the same data source from the queue to handle them as one batch.
+ *  Those requests then receive a 'batched' permit without waiting
+ *  for a free slot.
+ *
+ *  <p>Keeps statistics of queue and fetch times per data source.
+ */
+@SuppressWarnings("nls")
+public class ArchiveFetchScheduler
+{
+    /** Period for checking if a waiting request has been cancelled */
+    private static final long CANCEL_POLL_MS = 100;
+
+    /** Order waiting requests: Visible first, then by submission */
+    private static final Comparator<Waiter> PRIORITY =
+        Comparator.comparing((Waiter w) -> !w.visible).thenComparingLong(w -> w.sequence);
+
+    /** Pending request */
+    private static class Waiter
+    {
+        final boolean visible;
+        final long sequence;
+        final Object key, request;
+        final long queued = System.nanoTime();
+        /** Has the request been taken into a batch? */
+        boolean batched = false;
+
+        Waiter(final boolean visible, final long sequence, final Object key, final Object request)
+        {
+            this.visible = visible;
+            this.sequence = sequence;
+            this.key = key;
+            this.request = request;
+        }
+    }
+
+    /** Requests for one archive data source */
+    private static class Source
+    {
+        final String url;
+        final PriorityQueue<Waiter> waiting = new PriorityQueue<>(PRIORITY);
+        int active = 0;
+        long requests = 0, batched = 0;
+        long queue_ns = 0, max_queue_ns = 0;
+        long fetch_ns = 0, max_fetch_ns = 0;
+
+        Source(final String url)
+        {
+            this.url = url;
+        }
+    }
+
+    /** Snapshot of the statistics for one archive data source */
+    public static class Metrics
+    {
+        /** Archive data source URL */
+        public final String url;
+        /** Number of currently active, waiting requests */
+        public final int active, waiting;
+        /** Number of completed requests, and of requests handled in a batch */
+        public final long requests, batched;
+        /** Average and maximum time in queue and fetching, milliseconds */
+        public final double avg_queue_ms, max_queue_ms, avg_fetch_ms, max_fetch_ms;
+
+        private Metrics(final Source source)
+        {
+            url = source.url;
+            active = source.active;
+            waiting = source.waiting.size();
+            requests = source.requests;
+            batched = source.batched;
+            final double scale = TimeUnit.MILLISECONDS.toNanos(1);
+            avg_queue_ms = requests > 0 ? source.queue_ns / scale / requests : 0.0;
+            max_queue_ms = source.max_queue_ns / scale;
+            avg_fetch_ms = requests > 0 ? source.fetch_ns / scale / requests : 0.0;
+            max_fetch_ms = source.max_fetch_ns / scale;
+        }
+
+        @Override
+        public String toString()
+        {
+            return String.format("%s: %d active, %d waiting, %d requests, %d batched, queue avg %.1f max %.1f ms, fetch avg %.1f max %.1f ms",
+                                 url, active, waiting, requests, batched,
+                                 avg_queue_ms, max_queue_ms, avg_fetch_ms, max_fetch_ms);
+        }
+    }
+
+    /** Permission to access an archive data source.
+     *  Must be closed when the request is done.
+     */
+    public class Permit implements AutoCloseable
+    {
+        private final Source source;
+        private final Object key;
+        private final boolean batched;
+        private final long queue_ns;
+        private final long start = System.nanoTime();
+        private boolean released = false;
+
+        private Permit(final Source source, final Object key, final boolean batched, final long queue_ns)
+        {
+            this.source = source;
+            this.key = key;
+            this.batched = batched;
+            this.queue_ns = queue_ns;
+        }
+
+        /** @return <code>true</code> if another request took this one into its batch
+         *          and will provide the result.
+         *          <code>false</code> if this request needs to be performed.
+         */
+        public boolean isBatched()
+        {
+            return batched;
+        }
+
+        /** Take compatible requests from the queue
+         *
+         *  <p>The caller must then perform those requests
+         *  and provide their results.
+         *
+         *  @param max Maximum number of requests to take
+         *  @return Requests that were waiting with the same key, in order of their priority
+         */
+        public List<Object> takeBatch(final int max)
+        {
+            return ArchiveFetchScheduler.this.takeBatch(this, max);
+        }
+
+        /** Release the permit. OK to call more than once. */
+        @Override
+        public void close()
+        {
+            release(this);
+        }
+    }
+
+    /** Maximum number of concurrent requests per data source, &le;0 for no limit */
+    private final int limit;
+
+    /** Sources by URL. Synchronize on 'this' */
+    private final Map<String, Source> sources = new HashMap<>();
+
+    /** Counter for request order. Synchronize on 'this' */
+    private long sequence = 0;
+
+    /** @param limit Maximum number of concurrent requests per data source, &le;0 for no limit */
+    public ArchiveFetchScheduler(final int limit)
+    {
+        this.limit = limit;
+    }
+
+    /** Wait for permission to access an archive data source
+     *
+     *  @param url Archive data source URL
+     *  @param visible Is the request for a visible trace?
+     *  @param cancelled Checked while waiting, returns <code>true</code> when request has been cancelled
+     *  @return {@link Permit} that must be closed when done, or <code>null</code> when cancelled
+     *  @throws InterruptedException when interrupted while waiting
+     */
+    public Permit acquire(final String url, final boolean visible,
+                          final BooleanSupplier cancelled) throws InterruptedException
+    {
+        return acquire(url, visible, null, null, cancelled);
+    }
+
+    /** Wait for permission to access an archive data source
+     *
+     *  @param url Archive data source URL
+     *  @param visible Is the request for a visible trace?
+     *  @param key Requests with equal keys can be combined into a batch, <code>null</code> if request cannot be batched
+     *  @param request Request that is passed to {@link Permit#takeBatch(int)}
+     *  @param cancelled Checked while waiting, returns <code>true</code> when request has been cancelled
+     *  @return {@link Permit} that must be closed when done, or <code>null</code> when cancelled
+     *  @throws InterruptedException when interrupted while waiting
+     */
+    public synchronized Permit acquire(final String url, final boolean visible,
+                                       final Object key, final Object request,
+                                       final BooleanSupplier cancelled) throws InterruptedException
+    {
+        final Source source = sources.computeIfAbsent(url, Source::new);
+        final Waiter waiter = new Waiter(visible, sequence++, key, request);
+        source.waiting.add(waiter);
+        try
+        {
+            while (source.waiting.peek() != waiter  ||
+                   (limit > 0  &&  source.active >= limit))
+            {
+                // Taken into a batch, no need for a slot
+                if (waiter.batched)
+                    return new Permit(source, key, true, System.nanoTime() - waiter.queued);
+                if (cancelled.getAsBoolean())
+                {
+                    source.waiting.remove(waiter);
+                    notifyAll();
+                    return null;
+                }
+                wait(CANCEL_POLL_MS);
+            }
+        }
+        catch (InterruptedException ex)
+        {
+            if (waiter.batched)
+                return new Permit(source, key, true, System.nanoTime() - waiter.queued);
+            source.waiting.remove(waiter);
+            notifyAll();
+            throw ex;
+        }
+        source.waiting.poll();
+        ++source.active;
+        // Next waiter might also be able to proceed
+        notifyAll();
+        return new Permit(source, key, false, System.nanoTime() - waiter.queued);
+    }
+
+    /** @param permit Permit of the request that takes the batch
+     *  @param max Maximum number of requests to take
+     *  @return Requests
+     */
+    private synchronized List<Object> takeBatch(final Permit permit, final int max)
+    {
+        if (permit.key == null  ||  permit.batched  ||  permit.released  ||  max <= 0)
+            return List.of();
+        final List<Waiter> compatible = new ArrayList<>();
+        for (Waiter waiter : permit.source.waiting)
+            if (permit.key.equals(waiter.key))
+                compatible.add(waiter);
+        if (compatible.isEmpty())
+            return List.of();
+        compatible.sort(PRIORITY);
+        final List<Object> requests = new ArrayList<>();
+        for (Waiter waiter : compatible.subList(0, Math.min(max, compatible.size())))
+        {
+            permit.source.waiting.remove(waiter);
+            waiter.batched = true;
+            requests.add(waiter.request);
+        }
+        permit.source.batched += requests.size();
+        notifyAll();
+        return requests;
+    }
+
+    /** @param permit Permit to release */
+    private void release(final Permit permit)
+    {
+        final Metrics metrics;
+        synchronized (this)
+        {
+            if (permit.released)
+                return;
+            permit.released = true;
+            // Batched request did not occupy a slot
+            if (permit.batched)
+                return;
+            final Source source = permit.source;
+            --source.active;
+            final long fetch_ns = System.nanoTime() - permit.start;
+            ++source.requests;
+            source.queue_ns += permit.queue_ns;
+            source.max_queue_ns = Math.max(source.max_queue_ns, permit.queue_ns);
+            source.fetch_ns += fetch_ns;
+            source.max_fetch_ns = Math.max(source.max_fetch_ns, fetch_ns);
+            metrics = new Metrics(source);
+            notifyAll();
+        }
+        logger.log(Level.FINE, "Archive fetch metrics {0}", metrics);
+    }
+
+    /** @return Statistics for all archive data sources */
+    public synchronized List<Metrics> getMetrics()
+    {
+        final List<Metrics> result = new ArrayList<>(sources.size());
+        for (Source source : sources.values())
+            result.add(new Metrics(source));
+        return result;
+    }
+}
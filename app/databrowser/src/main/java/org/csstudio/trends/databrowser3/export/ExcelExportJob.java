@@ -302,7 +302,8 @@ public class ExcelExportJob extends ExportJob
         for (ModelItem item : model.getItems())
         {
             monitor.beginTask(MessageFormat.format("Fetching data for {0}", item.getName()));
-            iters.add(createValueIterator(item));
+            // Items are read together, so don't prefetch
+            iters.add(createValueIterator(item, false));
         }
         final SpreadsheetIterator iter = new SpreadsheetIterator(iters.toArray(new ValueIterator[iters.size()]));
         // Dump the spreadsheet lines
@@ -7,16 +7,21 @@
  ******************************************************************************/
 package org.csstudio.trends.databrowser3.export;
 
+import static org.csstudio.trends.databrowser3.Activator.logger;
+
 import java.io.PrintStream;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.logging.Level;
-import java.util.logging.Logger;
 
 import org.csstudio.trends.databrowser3.Activator;
 import org.csstudio.trends.databrowser3.model.ArchiveDataSource;
@@ -50,8 +55,23 @@ abstract public class ExportJob implements JobRunnable
     final protected Consumer<Exception> error_handler;
     /** Active readers, used to cancel and close them */
     final private CopyOnWriteArrayList<ArchiveReader> archive_readers = new CopyOnWriteArrayList<ArchiveReader>();
+    /** Maximum number of channels to fetch ahead of time in one request */
+    final private static int PREFETCH_CHANNELS = 50;
+    /** Samples fetched ahead of time, by archive URL */
+    final private Map<String, Prefetch> prefetched = new HashMap<>();
     final protected boolean unixTimeStamp;
 
+    /** Samples of one archive that were fetched ahead of time */
+    private static class Prefetch
+    {
+        /** Reader for the archive, <code>null</code> if multi-channel requests are not supported or failed */
+        ArchiveReader reader;
+        /** Names of channels that have been requested */
+        final Set<String> requested = new HashSet<>();
+        /** Samples that have not been used, by channel name */
+        final Map<String, ValueIterator> iters = new HashMap<>();
+    }
+
     /** Thread that polls a progress monitor and cancels active archive readers
      *  if the user requests the export job to end via the progress monitor
      */
@@ -150,6 +170,18 @@ abstract public class ExportJob implements JobRunnable
         {
             error_handler.accept(ex);
         }
+        // Close prefetched samples that were not used
+        for (Prefetch prefetch : prefetched.values())
+            for (ValueIterator iter : prefetch.iters.values())
+                try
+                {
+                    iter.close();
+                }
+                catch (Exception ex)
+                {
+                    // Ignore
+                }
+        prefetched.clear();
         for (ArchiveReader reader : archive_readers)
             reader.close();
         monitor.done();
@@ -209,6 +241,20 @@ abstract public class ExportJob implements JobRunnable
      *  @throws Exception on error
      */
     protected ValueIterator createValueIterator(final ModelItem item) throws Exception
+    {
+        return createValueIterator(item, true);
+    }
+
+    /** @param item ModelItem
+     *  @param prefetch Fetch the following items ahead of time?
+     *                  Suitable when items are read one after the other.
+     *                  Exporters that read all items at once should not prefetch,
+     *                  because multi-channel requests then buffer the samples
+     *                  of most channels in memory.
+     *  @return ValueIterator for samples in the item
+     *  @throws Exception on error
+     */
+    protected ValueIterator createValueIterator(final ModelItem item, final boolean prefetch) throws Exception
     {
         if (source == Source.PLOT || !(item instanceof PVItem))
             return new ModelSampleIterator(item, start, end);
@@ -219,27 +265,28 @@ abstract public class ExportJob implements JobRunnable
         Exception error = null;
         for (ArchiveDataSource archive : archives)
         {
-            // Create reader, remember to close it when done
-            final ArchiveReader reader = ArchiveReaders.createReader(archive.getUrl());
-            archive_readers.add(reader);
             // Create ValueIterator
             try
             {
-                ValueIterator iter;
-                if (source == Source.OPTIMIZED_ARCHIVE  &&  optimize_parameter > 1)
-                    iter = reader.getOptimizedValues(item.getResolvedName(), start, end, (int)optimize_parameter);
-                else
+                ValueIterator iter = prefetch ? getPrefetched(archive.getUrl(), item.getResolvedName()) : null;
+                if (iter == null)
                 {
-                    iter = reader.getRawValues(item.getResolvedName(), start, end);
-                    if (source == Source.LINEAR_INTERPOLATION && optimize_parameter >= 1)
-                        iter = new LinearValueIterator(iter, TimeDuration.ofSeconds(optimize_parameter));
+                    // Create reader, remember to close it when done
+                    final ArchiveReader reader = ArchiveReaders.createReader(archive.getUrl());
+                    archive_readers.add(reader);
+                    if (source == Source.OPTIMIZED_ARCHIVE  &&  optimize_parameter > 1)
+                        iter = reader.getOptimizedValues(item.getResolvedName(), start, end, (int)optimize_parameter);
+                    else
+                        iter = reader.getRawValues(item.getResolvedName(), start, end);
                 }
+                if (source == Source.LINEAR_INTERPOLATION && optimize_parameter >= 1)
+                    iter = new LinearValueIterator(iter, TimeDuration.ofSeconds(optimize_parameter));
 
                 iters.add(iter);
             }
             catch (Exception ex)
             {
-                Logger.getLogger(getClass().getName()).log(Level.FINE, "Export error for " + item.getResolvedName(), ex);
+                logger.log(Level.FINE, "Export error for " + item.getResolvedName(), ex);
                 if (error == null)
                     error = ex;
             }
@@ -250,4 +297,75 @@ abstract public class ExportJob implements JobRunnable
         // Return a merging iterator
         return new MergingValueIterator(iters.toArray(new ValueIterator[iters.size()]));
     }
+
+    /** Get samples that were fetched ahead of time
+     *
+     *  <p>When a channel has not been requested, yet,
+     *  the samples for the next {@link #PREFETCH_CHANNELS} items in the model
+     *  that use the archive are fetched with one multi-channel request,
+     *  starting with the requested channel.
+     *  Archives that do not handle multi-channel requests
+     *  with a single request are read channel by channel.
+     *
+     *  @param url Archive URL
+     *  @param name Channel name
+     *  @return {@link ValueIterator} for the channel, or <code>null</code> if it needs to be read on its own
+     */
+    private ValueIterator getPrefetched(final String url, final String name)
+    {
+        Prefetch prefetch = prefetched.get(url);
+        if (prefetch == null)
+        {
+            prefetch = new Prefetch();
+            try
+            {
+                final ArchiveReader reader = ArchiveReaders.createReader(url);
+                archive_readers.add(reader);
+                if (reader.supportsMultiChannelRequests(source == Source.OPTIMIZED_ARCHIVE  &&  optimize_parameter > 1))
+                    prefetch.reader = reader;
+            }
+            catch (Exception ex)
+            {
+                logger.log(Level.FINE, "Export error for " + url + ", reading channels one by one", ex);
+            }
+            prefetched.put(url, prefetch);
+        }
+
+        if (prefetch.reader != null  &&  ! prefetch.requested.contains(name))
+        {
+            // Fetch the requested channel and the following ones in the model
+            final List<String> names = new ArrayList<>();
+            names.add(name);
+            for (ModelItem item : model.getItems())
+            {
+                if (names.size() >= PREFETCH_CHANNELS)
+                    break;
+                if (item instanceof PVItem  &&  ! prefetch.requested.contains(item.getResolvedName())  &&
+                    ! names.contains(item.getResolvedName()))
+                    for (ArchiveDataSource archive : ((PVItem)item).getArchiveDataSources())
+                        if (archive.getUrl().equals(url))
+                        {
+                            names.add(item.getResolvedName());
+                            break;
+                        }
+            }
+            prefetch.requested.addAll(names);
+            try
+            {
+                final Map<String, ValueIterator> iters;
+                if (source == Source.OPTIMIZED_ARCHIVE  &&  optimize_parameter > 1)
+                    iters = prefetch.reader.getOptimizedValues(names, start, end, (int)optimize_parameter);
+                else
+                    iters = prefetch.reader.getRawValues(names, start, end);
+                logger.log(Level.FINE, "Fetched " + iters.size() + " of " + names.size() + " channels from " + url);
+                prefetch.iters.putAll(iters);
+            }
+            catch (Exception ex)
+            {
+                logger.log(Level.FINE, "Export error for " + url + ", reading channels one by one", ex);
+                prefetch.reader = null;
+            }
+        }
+        return prefetch.iters.remove(name);
+    }
 }
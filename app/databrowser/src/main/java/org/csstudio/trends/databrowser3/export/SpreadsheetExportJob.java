@@ -71,7 +71,8 @@ public class SpreadsheetExportJob extends PlainExportJob
         for (ModelItem item : model.getItems())
         {
             monitor.beginTask(MessageFormat.format("Fetching data for {0}", item.getName()));
-            iters.add(createValueIterator(item));
+            // Items are read together, so don't prefetch
+            iters.add(createValueIterator(item, false));
         }
         final SpreadsheetIterator sheet = new SpreadsheetIterator(iters.toArray(new ValueIterator[iters.size()]));
         // Dump the spreadsheet lines
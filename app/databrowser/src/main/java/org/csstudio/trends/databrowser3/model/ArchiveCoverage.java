@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.csstudio.trends.databrowser3.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.phoebus.util.time.TimeInterval;
+
+/** Time ranges for which archived data has already been loaded.
+ *
+ *  <p>Each loaded range remembers the resolution at which it was fetched,
+ *  i.e. the bin size of an 'optimized' request or zero for 'raw' data.
+ *  When the time axis is panned or zoomed, only those parts of the new
+ *  time range need to be fetched that are not yet covered, or that
+ *  were fetched at a resolution that is too coarse for the new range.
+ *
+ *  <p>Synchronized because archive fetch jobs record coverage
+ *  while the controller queries it.
+ */
+@SuppressWarnings("nls")
+public class ArchiveCoverage
+{
+    /** Loaded data may be this much coarser than requested
+     *  and is still considered good enough.
+     *  Avoids re-fetching everything on minor zoom steps.
+     */
+    private static final long RESOLUTION_TOLERANCE = 2;
+
+    /** Loaded range */
+    private static class Segment
+    {
+        final Instant start, end;
+        final Duration resolution;
+
+        Segment(final Instant start, final Instant end, final Duration resolution)
+        {
+            this.start = start;
+            this.end = end;
+            this.resolution = resolution;
+        }
+
+        @Override
+        public String toString()
+        {
+            return start + " - " + end + " @ " + resolution;
+        }
+    }
+
+    /** Loaded ranges, sorted by time, not overlapping */
+    private final List<Segment> segments = new ArrayList<>();
+
+    /** @return <code>true</code> if nothing has been loaded */
+    public synchronized boolean isEmpty()
+    {
+        return segments.isEmpty();
+    }
+
+    /** Determine which parts of a time range still need to be fetched
+     *  @param start Start of requested time range
+     *  @param end End of requested time range
+     *  @param resolution Requested resolution, {@link Duration#ZERO} for raw data
+     *  @return Time ranges that are not yet loaded at sufficient resolution, may be empty
+     */
+    public synchronized List<TimeInterval> getMissing(final Instant start, final Instant end,
+                                                      final Duration resolution)
+    {
+        final List<TimeInterval> missing = new ArrayList<>();
+        final Duration acceptable = resolution.multipliedBy(RESOLUTION_TOLERANCE);
+        Instant cursor = start;
+        for (Segment segment : segments)
+        {
+            if (! segment.end.isAfter(cursor))
+                continue;
+            if (! segment.start.isBefore(end))
+                break;
+            if (segment.resolution.compareTo(acceptable) > 0)
+                continue;
+            if (segment.start.isAfter(cursor))
+                missing.add(TimeInterval.between(cursor, segment.start));
+            cursor = segment.end;
+            if (! cursor.isBefore(end))
+                return missing;
+        }
+        if (cursor.isBefore(end))
+            missing.add(TimeInterval.between(cursor, end));
+        return missing;
+    }
+
+    /** Record that data has been loaded
+     *
+     *  <p>Replaces any previous coverage within the time range,
+     *  because newly merged samples replace older samples.
+     *
+     *  @param start Start of loaded time range
+     *  @param end End of loaded time range
+     *  @param resolution Resolution of loaded data, {@link Duration#ZERO} for raw data
+     */
+    public synchronized void add(final Instant start, final Instant end, final Duration resolution)
+    {
+        if (! end.isAfter(start))
+            return;
+        remove(start, end);
+        int i = 0;
+        while (i < segments.size()  &&  segments.get(i).start.isBefore(start))
+            ++i;
+        segments.add(i, new Segment(start, end, resolution));
+        coalesce();
+    }
+
+    /** Drop coverage outside of a time range
+     *  @param start Start of time range to keep
+     *  @param end End of time range to keep
+     */
+    public synchronized void retain(final Instant start, final Instant end)
+    {
+        final List<Segment> kept = new ArrayList<>();
+        for (Segment segment : segments)
+        {
+            final Instant s = segment.start.isBefore(start) ? start : segment.start;
+            final Instant e = segment.end.isAfter(end) ? end : segment.end;
+            if (e.isAfter(s))
+                kept.add(new Segment(s, e, segment.resolution));
+        }
+        segments.clear();
+        segments.addAll(kept);
+    }
+
+    /** Forget all coverage, so next request will fetch everything */
+    public synchronized void clear()
+    {
+        segments.clear();
+    }
+
+    /** Cut time range out of segments */
+    private void remove(final Instant start, final Instant end)
+    {
+        final List<Segment> result = new ArrayList<>();
+        for (Segment segment : segments)
+        {
+            if (! segment.end.isAfter(start)  ||  ! segment.start.isBefore(end))
+            {   // No overlap
+                result.add(segment);
+                continue;
+            }
+            if (segment.start.isBefore(start))
+                result.add(new Segment(segment.start, start, segment.resolution));
+            if (segment.end.isAfter(end))
+                result.add(new Segment(end, segment.end, segment.resolution));
+        }
+        segments.clear();
+        segments.addAll(result);
+    }
+
+    /** Join adjacent segments of same resolution */
+    private void coalesce()
+    {
+        for (int i=segments.size()-1; i > 0; --i)
+        {
+            final Segment prev = segments.get(i-1);
+            final Segment next = segments.get(i);
+            if (prev.end.equals(next.start)  &&  prev.resolution.equals(next.resolution))
+            {
+                segments.set(i-1, new Segment(prev.start, next.end, prev.resolution));
+                segments.remove(i);
+            }
+        }
+    }
+
+    @Override
+    public synchronized String toString()
+    {
+        return "ArchiveCoverage " + segments;
+    }
+}
@@ -8,6 +8,7 @@
 package org.csstudio.trends.databrowser3.model;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -153,6 +154,31 @@ public class HistoricSamples extends PlotSamples
         computeVisibleSize();
     }
 
+    /** Drop samples outside of a time range
+     *
+     *  <p>Keeps one sample before and after the time range
+     *  so that lines still extend to the edges of the range.
+     *
+     *  @param start Start of time range to keep
+     *  @param end End of time range to keep
+     */
+    public void retain(final Instant start, final Instant end)
+    {
+        if (samples.length <= 0)
+            return;
+        final HistoricSampleAccess all = new HistoricSampleAccess();
+        final int first = Math.max(0, searcher.findSampleLessThan(all, start));
+        int last = searcher.findSampleGreaterThan(all, end);
+        if (last < 0)
+            last = samples.length - 1;
+        final int keep = last - first + 1;
+        if (keep >= samples.length)
+            return;
+        samples = (keep > 0) ? Arrays.copyOfRange(samples, first, last + 1) : new PlotSample[0];
+        have_new_samples.set(true);
+        computeVisibleSize();
+    }
+
     /** Delete all samples */
     public void clear()
     {
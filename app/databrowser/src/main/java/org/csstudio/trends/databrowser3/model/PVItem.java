@@ -310,6 +310,9 @@ public class PVItem extends ModelItem
      */
     private void fireItemDataConfigChanged(final boolean archive_invalid)
     {
+        // Previously loaded archive data no longer reflects the configuration
+        if (archive_invalid)
+            samples.getArchiveCoverage().clear();
         if (model.isPresent())
             model.get().fireItemDataConfigChanged(this, archive_invalid);
     }
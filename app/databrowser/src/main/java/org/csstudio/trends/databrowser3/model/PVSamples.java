@@ -58,6 +58,9 @@ public class PVSamples extends PlotSamples
     /** Live samples. Should start after end of historic samples */
     final private LiveSamples live;
 
+    /** Time ranges covered by historic samples */
+    final private ArchiveCoverage coverage = new ArchiveCoverage();
+
     private boolean emptyHistoryOnAdd = false;
     private int samplesAddedSinceLastRefresh = 0;
 
@@ -188,6 +191,31 @@ public class PVSamples extends PlotSamples
         }
     }
 
+    /** @return Time ranges for which archived data has been loaded */
+    public ArchiveCoverage getArchiveCoverage()
+    {
+        return coverage;
+    }
+
+    /** Drop historic samples outside of a time range
+     *  @param start Start of time range to keep
+     *  @param end End of time range to keep
+     */
+    public void retainArchivedData(final Instant start, final Instant end)
+    {
+        if (! lockForWriting())
+            return;
+        try
+        {
+            history.retain(start, end);
+            coverage.retain(start, end);
+        }
+        finally
+        {
+            unlockForWriting();
+        }
+    }
+
     /** Add another 'live' sample
      *  @param value 'Live' sample
      */
@@ -233,6 +261,7 @@ public class PVSamples extends PlotSamples
         {
             history.clear();
             live.clear();
+            coverage.clear();
         }
         finally
         {
@@ -289,6 +318,7 @@ public class PVSamples extends PlotSamples
             if (historyLast.getPosition().compareTo(first.getPosition()) < 0) {
                 samplesAddedSinceLastRefresh = 0;
                 emptyHistoryOnAdd = true;
+                coverage.clear();
                 return true;
             }
             //maybe we are looking at live data with a window extending into the future:
@@ -296,6 +326,7 @@ public class PVSamples extends PlotSamples
             if (samplesAddedSinceLastRefresh > live.getCapacity()) {
                 samplesAddedSinceLastRefresh = 0;
                 emptyHistoryOnAdd = true;
+                coverage.clear();
                 return true;
             }
         }
@@ -56,6 +56,10 @@ public class Preferences
     /** Setting */
     @Preference public static int concurrent_requests;
     /** Setting */
+    @Preference public static int concurrent_requests_per_source;
+    /** Setting */
+    @Preference public static int archive_fetch_batch_size;
+    /** Setting */
     @Preference public static ArchiveRescale archive_rescale;
     /** Setting */
     public static List<ArchiveDataSource> archive_urls;
@@ -72,6 +76,8 @@ public class Preferences
     /** Setting */
     @Preference public static int plot_bins;
     /** Setting */
+    @Preference public static int archive_retain_spans;
+    /** Setting */
     @Preference public static double scan_period;
     /** Setting */
     public static Duration scroll_step;
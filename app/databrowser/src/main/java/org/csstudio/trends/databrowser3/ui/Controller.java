@@ -33,6 +33,7 @@ import org.csstudio.trends.databrowser3.model.Model;
 import org.csstudio.trends.databrowser3.model.ModelItem;
 import org.csstudio.trends.databrowser3.model.ModelListener;
 import org.csstudio.trends.databrowser3.model.PVItem;
+import org.csstudio.trends.databrowser3.model.RequestType;
 import org.csstudio.trends.databrowser3.preferences.Preferences;
 import org.csstudio.trends.databrowser3.ui.plot.ModelBasedPlot;
 import org.csstudio.trends.databrowser3.ui.plot.PlotListener;
@@ -697,6 +698,21 @@ public class Controller
         if (pv_item.getArchiveDataSources().isEmpty())
             return;
 
+        // Drop archived samples far outside of the time range
+        final Duration span = Duration.between(start, end);
+        if (Preferences.archive_retain_spans > 0)
+        {
+            final Duration margin = span.multipliedBy(Preferences.archive_retain_spans);
+            pv_item.getSamples().retainArchivedData(start.minus(margin), end.plus(margin));
+        }
+
+        // Only fetch what's not already loaded at sufficient resolution
+        final int bins = ArchiveFetchJob.getDefaultBinCount();
+        final Duration resolution = pv_item.getRequestType() == RequestType.RAW
+                                  ? Duration.ZERO
+                                  : span.dividedBy(bins);
+        final List<TimeInterval> missing = pv_item.getSamples().getArchiveCoverage().getMissing(start, end, resolution);
+
         synchronized (archive_fetch_jobs)
         {
             // Cancel ongoing jobs for this item
@@ -710,9 +726,17 @@ public class Controller
                 }
             }
 
-            // Track new job
-            final ArchiveFetchJob new_job = new ArchiveFetchJob(pv_item, start, end, archive_fetch_job_listener);
-            archive_fetch_jobs.add(new_job);
+            // Track new jobs, using the same bin size for each gap
+            for (TimeInterval gap : missing)
+            {
+                final Duration gap_span = Duration.between(gap.getStart(), gap.getEnd());
+                final int gap_bins = span.isZero()
+                                   ? bins
+                                   : (int) Math.ceil(bins * (double) gap_span.toMillis() / span.toMillis());
+                final ArchiveFetchJob new_job = new ArchiveFetchJob(pv_item, gap.getStart(), gap.getEnd(),
+                                                                    gap_bins, archive_fetch_job_listener);
+                archive_fetch_jobs.add(new_job);
+            }
         }
     }
 }
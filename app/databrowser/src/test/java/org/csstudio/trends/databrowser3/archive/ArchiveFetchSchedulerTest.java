@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.csstudio.trends.databrowser3.archive;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/** JUnit test of {@link ArchiveFetchScheduler} */
+@SuppressWarnings("nls")
+public class ArchiveFetchSchedulerTest
+{
+    private static final String URL = "pbraw://localhost:17665/retrieval";
+
+    private static int waiting(final ArchiveFetchScheduler scheduler)
+    {
+        return scheduler.getMetrics().stream().mapToInt(m -> m.waiting).sum();
+    }
+
+    @Test
+    public void testPriority() throws Exception
+    {
+        final ArchiveFetchScheduler scheduler = new ArchiveFetchScheduler(1);
+        final List<String> order = new CopyOnWriteArrayList<>();
+        final ExecutorService pool = Executors.newCachedThreadPool();
+
+        // Occupy the one permit
+        final ArchiveFetchScheduler.Permit first = scheduler.acquire(URL, true, () -> false);
+
+        // Queue hidden, then visible request
+        pool.submit(() ->
+        {
+            try (ArchiveFetchScheduler.Permit permit = scheduler.acquire(URL, false, () -> false))
+            {
+                order.add("hidden");
+            }
+            return null;
+        });
+        while (waiting(scheduler) < 1)
+            TimeUnit.MILLISECONDS.sleep(10);
+        pool.submit(() ->
+        {
+            try (ArchiveFetchScheduler.Permit permit = scheduler.acquire(URL, true, () -> false))
+            {
+                order.add("visible");
+            }
+            return null;
+        });
+        while (waiting(scheduler) < 2)
+            TimeUnit.MILLISECONDS.sleep(10);
+
+        // Release: Visible request is handled first
+        first.close();
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+        assertThat(order, equalTo(List.of("visible", "hidden")));
+
+        final ArchiveFetchScheduler.Metrics metrics = scheduler.getMetrics().get(0);
+        assertThat(metrics.requests, equalTo(3L));
+        assertThat(metrics.active, equalTo(0));
+    }
+
+    @Test
+    public void testCancel() throws Exception
+    {
+        final ArchiveFetchScheduler scheduler = new ArchiveFetchScheduler(1);
+        final ArchiveFetchScheduler.Permit first = scheduler.acquire(URL, true, () -> false);
+        // Waiting request is cancelled instead of waiting forever
+        assertThat(scheduler.acquire(URL, true, () -> true), nullValue());
+        // Other sources are not affected
+        final ArchiveFetchScheduler.Permit other = scheduler.acquire("jdbc:other", true, () -> false);
+        other.close();
+        first.close();
+        assertThat(waiting(scheduler), equalTo(0));
+    }
+
+    @Test
+    public void testBatch() throws Exception
+    {
+        final ArchiveFetchScheduler scheduler = new ArchiveFetchScheduler(1);
+        final ExecutorService pool = Executors.newCachedThreadPool();
+
+        // Occupy the one permit
+        final ArchiveFetchScheduler.Permit first = scheduler.acquire(URL, true, "A", "first", () -> false);
+        assertFalse(first.isBatched());
+
+        // Queue compatible requests 'a1', 'a2' and a different 'b'
+        final Future<Boolean> a1 = pool.submit(() ->
+        {
+            try (ArchiveFetchScheduler.Permit permit = scheduler.acquire(URL, false, "A", "a1", () -> false))
+            {
+                return permit.isBatched();
+            }
+        });
+        final Future<Boolean> b = pool.submit(() ->
+        {
+            try (ArchiveFetchScheduler.Permit permit = scheduler.acquire(URL, true, "B", "b", () -> false))
+            {
+                return permit.isBatched();
+            }
+        });
+        final Future<Boolean> a2 = pool.submit(() ->
+        {
+            try (ArchiveFetchScheduler.Permit permit = scheduler.acquire(URL, true, "A", "a2", () -> false))
+            {
+                return permit.isBatched();
+            }
+        });
+        while (waiting(scheduler) < 3)
+            TimeUnit.MILLISECONDS.sleep(10);
+
+        // First request takes the compatible ones, visible request first
+        assertThat(first.takeBatch(10), equalTo(List.of("a2", "a1")));
+        assertTrue(a1.get(5, TimeUnit.SECONDS));
+        assertTrue(a2.get(5, TimeUnit.SECONDS));
+        assertThat(first.takeBatch(10), equalTo(List.of()));
+
+        // 'b' still needs the permit
+        assertThat(waiting(scheduler), equalTo(1));
+        first.close();
+        assertFalse(b.get(5, TimeUnit.SECONDS));
+        pool.shutdown();
+
+        final ArchiveFetchScheduler.Metrics metrics = scheduler.getMetrics().get(0);
+        assertThat(metrics.requests, equalTo(2L));
+        assertThat(metrics.batched, equalTo(2L));
+        assertThat(metrics.active, equalTo(0));
+
+        // Requests without key are not batched
+        final ArchiveFetchScheduler.Permit plain = scheduler.acquire(URL, true, () -> false);
+        assertThat(plain.takeBatch(10), equalTo(List.of()));
+        plain.close();
+    }
+}
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.csstudio.trends.databrowser3.model;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.phoebus.util.time.TimeInterval;
+
+/** JUnit test of {@link ArchiveCoverage} */
+@SuppressWarnings("nls")
+public class ArchiveCoverageTest
+{
+    private static final Instant T0 = Instant.ofEpochSecond(1_000_000);
+
+    private static Instant t(final long hours)
+    {
+        return T0.plus(Duration.ofHours(hours));
+    }
+
+    @Test
+    public void testEmpty()
+    {
+        final ArchiveCoverage coverage = new ArchiveCoverage();
+        final List<TimeInterval> missing = coverage.getMissing(t(0), t(24), Duration.ZERO);
+        assertThat(missing.size(), equalTo(1));
+        assertThat(missing.get(0).getStart(), equalTo(t(0)));
+        assertThat(missing.get(0).getEnd(), equalTo(t(24)));
+    }
+
+    @Test
+    public void testPan()
+    {
+        final ArchiveCoverage coverage = new ArchiveCoverage();
+        coverage.add(t(0), t(24), Duration.ZERO);
+
+        // Fully covered
+        assertThat(coverage.getMissing(t(2), t(20), Duration.ZERO).size(), equalTo(0));
+
+        // Pan right by one hour: Only the new hour is missing
+        List<TimeInterval> missing = coverage.getMissing(t(1), t(25), Duration.ZERO);
+        assertThat(missing.size(), equalTo(1));
+        assertThat(missing.get(0).getStart(), equalTo(t(24)));
+        assertThat(missing.get(0).getEnd(), equalTo(t(25)));
+
+        // Pan left
+        missing = coverage.getMissing(t(-1), t(23), Duration.ZERO);
+        assertThat(missing.size(), equalTo(1));
+        assertThat(missing.get(0).getStart(), equalTo(t(-1)));
+        assertThat(missing.get(0).getEnd(), equalTo(t(0)));
+    }
+
+    @Test
+    public void testGaps()
+    {
+        final ArchiveCoverage coverage = new ArchiveCoverage();
+        coverage.add(t(2), t(4), Duration.ZERO);
+        coverage.add(t(6), t(8), Duration.ZERO);
+        final List<TimeInterval> missing = coverage.getMissing(t(0), t(10), Duration.ZERO);
+        assertThat(missing.size(), equalTo(3));
+        assertThat(missing.get(0).getEnd(), equalTo(t(2)));
+        assertThat(missing.get(1).getStart(), equalTo(t(4)));
+        assertThat(missing.get(1).getEnd(), equalTo(t(6)));
+        assertThat(missing.get(2).getStart(), equalTo(t(8)));
+
+        // Filling the gap joins the segments
+        coverage.add(t(4), t(6), Duration.ZERO);
+        assertThat(coverage.getMissing(t(2), t(8), Duration.ZERO).size(), equalTo(0));
+    }
+
+    @Test
+    public void testResolution()
+    {
+        final ArchiveCoverage coverage = new ArchiveCoverage();
+        coverage.add(t(0), t(24), Duration.ofMinutes(10));
+
+        // Zoom out: Data is more detailed than needed
+        assertThat(coverage.getMissing(t(0), t(24), Duration.ofMinutes(20)).size(), equalTo(0));
+        // Slight zoom in is still acceptable
+        assertThat(coverage.getMissing(t(0), t(24), Duration.ofMinutes(5)).size(), equalTo(0));
+        // Zoom in further: Need better data
+        assertThat(coverage.getMissing(t(10), t(12), Duration.ofMinutes(1)).size(), equalTo(1));
+
+        // Once fetched, detailed data replaces the coarse segment
+        coverage.add(t(10), t(12), Duration.ofMinutes(1));
+        assertThat(coverage.getMissing(t(10), t(12), Duration.ofMinutes(1)).size(), equalTo(0));
+        final List<TimeInterval> missing = coverage.getMissing(t(9), t(13), Duration.ofMinutes(1));
+        assertThat(missing.size(), equalTo(2));
+        assertThat(missing.get(0).getEnd(), equalTo(t(10)));
+        assertThat(missing.get(1).getStart(), equalTo(t(12)));
+    }
+
+    @Test
+    public void testRetain()
+    {
+        final ArchiveCoverage coverage = new ArchiveCoverage();
+        coverage.add(t(0), t(24), Duration.ZERO);
+        coverage.retain(t(10), t(12));
+        final List<TimeInterval> missing = coverage.getMissing(t(0), t(24), Duration.ZERO);
+        assertThat(missing.size(), equalTo(2));
+        assertThat(missing.get(0).getEnd(), equalTo(t(10)));
+        assertThat(missing.get(1).getStart(), equalTo(t(12)));
+
+        coverage.retain(t(30), t(40));
+        assertThat(coverage.isEmpty(), equalTo(true));
+    }
+
+    /** Compare the requested time range for a typical pan/zoom session
+     *  against fetching the full visible range on every change
+     */
+    @Test
+    public void testSession()
+    {
+        final ArchiveCoverage coverage = new ArchiveCoverage();
+        final int bins = 800;
+        Duration full = Duration.ZERO, incremental = Duration.ZERO;
+        Instant start = t(0);
+        Duration span = Duration.ofDays(1);
+        for (int step=0; step<100; ++step)
+        {
+            // Mostly pan by an hour, sometimes zoom in or out
+            if (step % 10 == 3)
+                span = span.dividedBy(2);
+            else if (step % 10 == 7)
+                span = span.multipliedBy(2);
+            else
+                start = start.plus(Duration.ofHours(step % 2 == 0 ? 1 : -2));
+            final Instant end = start.plus(span);
+            final Duration resolution = span.dividedBy(bins);
+
+            full = full.plus(span);
+            for (TimeInterval gap : coverage.getMissing(start, end, resolution))
+            {
+                incremental = incremental.plus(Duration.between(gap.getStart(), gap.getEnd()));
+                coverage.add(gap.getStart(), gap.getEnd(), resolution);
+            }
+            coverage.retain(start.minus(span.multipliedBy(3)), end.plus(span.multipliedBy(3)));
+        }
+        System.out.println("Fetched " + incremental.toHours() + " hours instead of " + full.toHours() +
+                           " hours (" + (100 * incremental.toMinutes() / full.toMinutes()) + " %)");
+        assertThat(incremental.toMinutes(), lessThan(full.toMinutes() / 4));
+    }
+}
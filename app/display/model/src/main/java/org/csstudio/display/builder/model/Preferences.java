@@ -26,7 +26,7 @@ public class Preferences
     /** Preference setting */
     @Preference public static String[] class_files, color_files, font_files;
     /** Preference setting */
-    @Preference public static int read_timeout, cache_timeout, max_reparse_iterations;
+    @Preference public static int read_timeout, cache_timeout, model_cache_size, max_reparse_iterations;
     /** Preference setting */
     @Preference public static double legacy_font_calibration;
     /** Preference setting */
@@ -34,6 +34,8 @@ public class Preferences
     /** Preference setting */
     @Preference public static boolean skip_defaults;
     /** Preference setting */
+    @Preference public static boolean streaming_reader;
+    /** Preference setting */
     @Preference(name="macros") private static String macro_spec;
     /** Preference setting */
     @Preference public static boolean enable_saved_on_comments;
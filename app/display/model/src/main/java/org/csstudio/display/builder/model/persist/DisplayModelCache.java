@@ -0,0 +1,374 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.csstudio.display.builder.model.persist;
+
+import static org.csstudio.display.builder.model.ModelPlugin.logger;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.csstudio.display.builder.model.ArrayWidgetProperty;
+import org.csstudio.display.builder.model.ChildrenProperty;
+import org.csstudio.display.builder.model.DisplayModel;
+import org.csstudio.display.builder.model.MacroizedWidgetProperty;
+import org.csstudio.display.builder.model.Preferences;
+import org.csstudio.display.builder.model.StructuredWidgetProperty;
+import org.csstudio.display.builder.model.Widget;
+import org.csstudio.display.builder.model.WidgetDescriptor;
+import org.csstudio.display.builder.model.WidgetFactory;
+import org.csstudio.display.builder.model.WidgetProperty;
+import org.csstudio.display.builder.model.WidgetPropertyCategory;
+import org.csstudio.display.builder.model.properties.Points;
+import org.phoebus.framework.macros.Macros;
+
+/** Cache of parsed display models
+ *
+ *  <p>Displays that embed the same file many times,
+ *  for example via a template instance or embedded display widgets
+ *  with different macros, would otherwise read and parse
+ *  that file for each instance.
+ *  The cache keeps the parsed model, and hands out copies.
+ *
+ *  <p>A copy is created by transferring the property values
+ *  of each widget, which is much faster than parsing the XML.
+ *  Property values are immutable except for macros and points,
+ *  which are duplicated.
+ *  For each cached display, the first copy is checked
+ *  by comparing its XML with that of the original.
+ *  Displays that fail this check, or which were not loaded cleanly,
+ *  are loaded from the file each time.
+ *
+ *  <p>Local files are identified by path and modification time,
+ *  so an updated file will be re-loaded.
+ *  Other resources like URLs remain cached for the
+ *  same <code>cache_timeout</code> used for the URL content.
+ */
+@SuppressWarnings("nls")
+public class DisplayModelCache
+{
+    /** Cached model */
+    private static class Entry
+    {
+        /** Time stamp of the file, or time when entry expires */
+        final long stamp;
+
+        /** Widget classes that were applied */
+        final Object classes;
+
+        /** Model as read from file, never handed out */
+        final CompletableFuture<DisplayModel> model = new CompletableFuture<>();
+
+        /** Has a copy been compared with the original? */
+        volatile boolean verified = false;
+
+        Entry(final long stamp, final Object classes)
+        {
+            this.stamp = stamp;
+            this.classes = classes;
+        }
+    }
+
+    /** Cached models by resolved display path, least recently used first. SYNC on cache */
+    private static final Map<String, Entry> cache = new LinkedHashMap<>(16, 0.75f, true)
+    {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest)
+        {
+            return size() > Preferences.model_cache_size;
+        }
+    };
+
+    /** Widget descriptor by widget implementation class */
+    private static final Map<Class<?>, WidgetDescriptor> descriptors = new ConcurrentHashMap<>();
+
+    /** @return <code>true</code> if the cache is enabled */
+    public static boolean isEnabled()
+    {
+        return Preferences.model_cache_size > 0;
+    }
+
+    /** Clear the cache
+     *
+     *  <p>Call to force a re-load of all displays
+     */
+    public static void clear()
+    {
+        synchronized (cache)
+        {
+            cache.clear();
+        }
+    }
+
+    /** @param display_file Display path
+     *  @param now Current time in ms
+     *  @return Modification time for local file, or expiration time
+     */
+    private static long getStamp(final String display_file, final long now)
+    {
+        final File file = new File(display_file);
+        if (file.isFile())
+            return file.lastModified();
+        return now + TimeUnit.SECONDS.toMillis(Preferences.cache_timeout);
+    }
+
+    /** @param entry Entry
+     *  @param stamp Current stamp of the display file
+     *  @param local Is the display a local file?
+     *  @param now Current time in ms
+     *  @param classes Identity of current widget classes
+     *  @return Is entry still valid?
+     */
+    private static boolean isValid(final Entry entry, final long stamp, final boolean local,
+                                   final long now, final Object classes)
+    {
+        if (entry.classes != classes)
+            return false;
+        if (local)
+            return entry.stamp == stamp;
+        return entry.stamp > now;
+    }
+
+    /** Load model, with classes applied (except for *.bcf itself)
+     *
+     *  <p>Returns a copy of the cached model,
+     *  reading the file only when it is not cached
+     *  or has changed.
+     *
+     *  @param display_file Resolved model file
+     *  @return {@link DisplayModel} that the caller may modify
+     *  @throws Exception on error
+     */
+    public static DisplayModel loadModel(final String display_file) throws Exception
+    {
+        if (! isEnabled())
+            return ModelLoader.loadModel(display_file);
+
+        final Object classes = WidgetClassesService.getWidgetClassesIdentity();
+        final long now = System.currentTimeMillis();
+        final boolean local = new File(display_file).isFile();
+        final long stamp = getStamp(display_file, now);
+        final Entry entry;
+        boolean load = false;
+        synchronized (cache)
+        {
+            final Entry cached = cache.get(display_file);
+            if (cached != null  &&  isValid(cached, stamp, local, now, classes))
+                entry = cached;
+            else
+            {
+                entry = new Entry(stamp, classes);
+                cache.put(display_file, entry);
+                load = true;
+            }
+        }
+
+        if (load)
+        {
+            // Read the model that remains in the cache
+            try
+            {
+                final DisplayModel model = ModelLoader.loadModel(display_file);
+                if (! model.isClean())
+                {   // Don't cache model with errors, use it once
+                    entry.model.complete(null);
+                    return model;
+                }
+                entry.model.complete(model);
+            }
+            catch (Exception ex)
+            {
+                remove(display_file, entry);
+                entry.model.completeExceptionally(ex);
+            }
+        }
+
+        final DisplayModel original;
+        try
+        {
+            original = entry.model.get();
+        }
+        catch (ExecutionException ex)
+        {
+            // Report the original error, not the wrapper
+            if (ex.getCause() instanceof Exception)
+                throw (Exception) ex.getCause();
+            throw ex;
+        }
+
+        if (original != null)
+        {
+            try
+            {
+                final DisplayModel copy = copy(original);
+                if (entry.verified)
+                    return copy;
+                if (getXML(copy).equals(getXML(original)))
+                {
+                    entry.verified = true;
+                    return copy;
+                }
+                logger.log(Level.WARNING, "Cannot cache display " + display_file + ", copy differs from original");
+            }
+            catch (Exception ex)
+            {
+                logger.log(Level.WARNING, "Cannot cache display " + display_file, ex);
+            }
+            // Keep entry with null model to avoid copying again
+            synchronized (cache)
+            {
+                if (cache.get(display_file) == entry)
+                {
+                    final Entry uncacheable = new Entry(entry.stamp, entry.classes);
+                    uncacheable.model.complete(null);
+                    cache.put(display_file, uncacheable);
+                }
+            }
+        }
+
+        // Model cannot be cached, read it
+        return ModelLoader.loadModel(display_file);
+    }
+
+    /** @param display_file Display path
+     *  @param entry Entry to remove unless it has already been replaced
+     */
+    private static void remove(final String display_file, final Entry entry)
+    {
+        synchronized (cache)
+        {
+            if (cache.get(display_file) == entry)
+                cache.remove(display_file);
+        }
+    }
+
+    /** @param model Model
+     *  @return XML for model, without any leading comment
+     *  @throws Exception on error
+     */
+    private static String getXML(final DisplayModel model) throws Exception
+    {
+        final String xml = ModelWriter.getXML(List.of(model));
+        final int start = xml.indexOf("<" + XMLTags.DISPLAY);
+        return start > 0 ? xml.substring(start) : xml;
+    }
+
+    /** Create copy of a display model
+     *  @param original Model to copy
+     *  @return Copy of the model
+     *  @throws Exception on error
+     */
+    static DisplayModel copy(final DisplayModel original) throws Exception
+    {
+        final DisplayModel copy = (DisplayModel) copyWidget(original);
+        copy.setUserData(DisplayModel.USER_DATA_INPUT_FILE, original.getUserData(DisplayModel.USER_DATA_INPUT_FILE));
+        copy.setUserData(DisplayModel.USER_DATA_INPUT_VERSION, original.getUserData(DisplayModel.USER_DATA_INPUT_VERSION));
+        return copy;
+    }
+
+    /** @param original Widget to copy, including its child widgets
+     *  @return Copy
+     *  @throws Exception on error
+     */
+    private static Widget copyWidget(final Widget original) throws Exception
+    {
+        final Widget copy = createWidget(original);
+        for (WidgetProperty<?> property : original.getProperties())
+        {
+            // Runtime properties including 'children' are not copied
+            if (property.getCategory() == WidgetPropertyCategory.RUNTIME)
+                continue;
+            copyProperty(property, copy.getProperty(property.getName()));
+        }
+
+        final ChildrenProperty children = ChildrenProperty.getChildren(original);
+        if (children != null)
+        {
+            final ChildrenProperty copied_children = ChildrenProperty.getChildren(copy);
+            for (Widget child : children.getValue())
+                copied_children.addChild(copyWidget(child));
+        }
+        return copy;
+    }
+
+    /** @param original Widget
+     *  @return New widget of the same implementation
+     *  @throws Exception on error
+     */
+    private static Widget createWidget(final Widget original) throws Exception
+    {
+        if (original.getClass() == DisplayModel.class)
+            return new DisplayModel();
+
+        final WidgetDescriptor known = descriptors.get(original.getClass());
+        if (known != null)
+            return known.createWidget();
+
+        // Type may have alternate implementations, find the one that matches
+        for (WidgetDescriptor desc : WidgetFactory.getInstance().getAllWidgetDescriptors(original.getType()))
+        {
+            final Widget widget = desc.createWidget();
+            if (widget.getClass() == original.getClass())
+            {
+                descriptors.put(original.getClass(), desc);
+                return widget;
+            }
+        }
+        throw new Exception("Cannot create copy of " + original);
+    }
+
+    /** @param original Property to copy
+     *  @param copy Property that receives the value of the original
+     *  @throws Exception on error
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static void copyProperty(final WidgetProperty<?> original, final WidgetProperty<?> copy) throws Exception
+    {
+        copy.useWidgetClass(original.isUsingWidgetClass());
+        if (original instanceof StructuredWidgetProperty)
+        {
+            final StructuredWidgetProperty orig_struct = (StructuredWidgetProperty) original;
+            final StructuredWidgetProperty copy_struct = (StructuredWidgetProperty) copy;
+            for (int i=0; i<orig_struct.size(); ++i)
+                copyProperty(orig_struct.getElement(i), copy_struct.getElement(i));
+        }
+        else if (original instanceof ArrayWidgetProperty)
+        {
+            final ArrayWidgetProperty<?> orig_array = (ArrayWidgetProperty<?>) original;
+            final ArrayWidgetProperty<?> copy_array = (ArrayWidgetProperty<?>) copy;
+            while (copy_array.size() > orig_array.size())
+                copy_array.removeElement();
+            while (copy_array.size() < orig_array.size())
+                copy_array.addElement();
+            for (int i=0; i<orig_array.size(); ++i)
+                copyProperty(orig_array.getElement(i), copy_array.getElement(i));
+        }
+        else if (original instanceof MacroizedWidgetProperty)
+            ((MacroizedWidgetProperty) copy).setSpecification(((MacroizedWidgetProperty) original).getSpecification());
+        else if (! original.isReadonly())
+        {
+            Object value = original.getValue();
+            // Macros are expanded in place, points may be edited
+            if (value instanceof Macros)
+                value = new Macros((Macros) value);
+            else if (value instanceof Points)
+                value = ((Points) value).clone();
+            if (! Objects.equals(value, copy.getValue()))
+                ((WidgetProperty) copy).setValue(value);
+        }
+    }
+}
@@ -9,12 +9,15 @@ package org.csstudio.display.builder.model.persist;
 
 import static org.csstudio.display.builder.model.ModelPlugin.logger;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.ServiceLoader;
 import java.util.logging.Level;
 
 import org.csstudio.display.builder.model.DisplayModel;
+import org.csstudio.display.builder.model.Preferences;
 import org.csstudio.display.builder.model.WidgetClassSupport;
+import org.csstudio.display.builder.model.persist.ModelStreamReader.UnsupportedContentException;
 import org.csstudio.display.builder.model.spi.DisplayAutoConverter;
 import org.csstudio.display.builder.model.util.ModelResourceUtil;
 
@@ -40,11 +43,28 @@ public class ModelLoader
      *  @throws Exception on error
      */
     public static DisplayModel resolveAndLoadModel(final String parent_display, final String display_file) throws Exception
+    {
+        return resolveAndLoadModel(parent_display, display_file, false);
+    }
+
+    /** Load model, resolved relative to parent, with classes applied (except for *.bcf itself)
+     *
+     *  <p>Selects *.bob over *.opi.
+     *
+     *  @param parent_display Path to a 'parent' file, may be <code>null</code>
+     *  @param display_file Model file
+     *  @param use_cache Use copy of a model from the {@link DisplayModelCache}?
+     *  @return {@link DisplayModel}
+     *  @throws Exception on error
+     */
+    public static DisplayModel resolveAndLoadModel(final String parent_display, final String display_file,
+                                                   final boolean use_cache) throws Exception
     {
         try
         {
             final String resolved_name = ModelResourceUtil.resolveResource(parent_display, display_file);
-            return loadModel(resolved_name);
+            return use_cache ? DisplayModelCache.loadModel(resolved_name)
+                             : loadModel(resolved_name);
         }
         catch (Exception ex)
         {
@@ -87,8 +107,40 @@ public class ModelLoader
      */
     public static DisplayModel loadModel(final InputStream stream, final String display_file) throws Exception
     {
-        final ModelReader reader = new ModelReader(stream, display_file);
-        final DisplayModel model = reader.readModel();
+        ModelReader reader = null;
+        DisplayModel model = null;
+        if (Preferences.streaming_reader)
+        {
+            // Keep the content in case the DOM-based reader is needed after all
+            final byte[] xml;
+            try
+            {
+                xml = stream.readAllBytes();
+            }
+            finally
+            {
+                stream.close();
+            }
+            try
+            {
+                reader = new ModelStreamReader(new ByteArrayInputStream(xml), display_file);
+                model = reader.readModel();
+            }
+            catch (UnsupportedContentException ex)
+            {
+                logger.log(Level.FINE, "Cannot stream " + display_file + ": " + ex.getMessage());
+            }
+            if (model == null)
+            {
+                reader = new ModelReader(new ByteArrayInputStream(xml), display_file);
+                model = reader.readModel();
+            }
+        }
+        else
+        {
+            reader = new ModelReader(stream, display_file);
+            model = reader.readModel();
+        }
         model.setUserData(DisplayModel.USER_DATA_INPUT_FILE, display_file);
 
         // Models from version 2 on support classes
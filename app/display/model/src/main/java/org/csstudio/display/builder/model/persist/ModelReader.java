@@ -169,12 +169,24 @@ public class ModelReader
 
         // Read widgets of model
         readWidgets(model.runtimeChildren(), root);
-        if (widget_errors_during_parse > 0)
-            logger.log(Level.SEVERE, "There were " + widget_errors_during_parse + " error(s) during loading display from " + (xml_file != null ? xml_file : "stream"));
+        logWidgetErrors();
         model.setReaderResult(this);
         return model;
     }
 
+    /** Count another widget error */
+    void countWidgetError()
+    {
+        ++widget_errors_during_parse;
+    }
+
+    /** Log number of widget errors, if there were any */
+    void logWidgetErrors()
+    {
+        if (widget_errors_during_parse > 0)
+            logger.log(Level.SEVERE, "There were " + widget_errors_during_parse + " error(s) during loading display from " + (xml_file != null ? xml_file : "stream"));
+    }
+
     final private Set<String> unknown_widget_type = new HashSet<>();
 
     /** Read all '&lt;widget>..' child entries
@@ -219,61 +231,72 @@ public class ModelReader
         // don't add them as children, yet,
         // because ParseAgainException could rearrange the XML on this level.
         final List<Widget> widgets = new ArrayList<>();
-        final String source = xml_file == null ? "line" : xml_file;
         widget_errors_during_parse = 0;
         Iterable<Element> childElements = XMLUtil.getChildElements(parent_xml, XMLTags.WIDGET);
         for (final Element widget_xml : childElements)
         {
-            boolean added = false;
-
+            final Widget widget;
             try
             {
-            	//Assign widget for debugging mode
-            	Widget widget = readWidget(widget_xml);
-            	widgets.add(widget);
-                added = true;
+                widget = readWidgetOrPlaceholder(widget_xml);
             }
             catch (ParseAgainException ex)
             {
                 ex.printStackTrace();
                 return null;
             }
-            catch (WidgetTypeException ex)
-            {
-                // Mention missing widget only once per reader
-                if (! unknown_widget_type.contains(ex.getType()))
-                {
-                    logger.log(Level.SEVERE, ex.getMessage() + ", " + source + ":" + XMLUtil.getLineInfo(widget_xml) + "\tnote: each unknown widget type is reported only once for each model it appears in");
-                    unknown_widget_type.add(ex.getType());
-                }
-                // Continue with next widget
-            }
-            catch (final Throwable ex)
-            {
-                logger.log(Level.SEVERE,
-                           "Widget configuration file error, " + source + ":" + XMLUtil.getLineInfo(widget_xml), ex);
-                // Continue with next widget
-            }
+            // Check for ParseAgainException in placeholder
+            if (widget == null)
+                return null;
+            widgets.add(widget);
+        }
+        return widgets;
+    }
 
-            if (! added)
+    /** Read widget, using placeholder for widgets that cannot be read
+     *
+     *  @param widget_xml Widget's XML element, including child widgets
+     *  @return Widget or placeholder.
+     *          Returns <code>null</code> if the placeholder requested to parse again
+     *  @throws ParseAgainException if widget requested to parse again
+     */
+    Widget readWidgetOrPlaceholder(final Element widget_xml) throws ParseAgainException
+    {
+        final String source = xml_file == null ? "line" : xml_file;
+        try
+        {
+            return readWidget(widget_xml);
+        }
+        catch (ParseAgainException ex)
+        {
+            throw ex;
+        }
+        catch (WidgetTypeException ex)
+        {
+            // Mention missing widget only once per reader
+            if (! unknown_widget_type.contains(ex.getType()))
             {
-                ++widget_errors_during_parse;
-                Widget widget = createPlaceholderWidget(widget_xml);
-                // Check for ParseAgainException
-                if (widget == null)
-                    return null;
-
-                widgets.add(widget);
+                logger.log(Level.SEVERE, ex.getMessage() + ", " + source + ":" + XMLUtil.getLineInfo(widget_xml) + "\tnote: each unknown widget type is reported only once for each model it appears in");
+                unknown_widget_type.add(ex.getType());
             }
+            // Continue with next widget
         }
-        return widgets;
+        catch (final Throwable ex)
+        {
+            logger.log(Level.SEVERE,
+                       "Widget configuration file error, " + source + ":" + XMLUtil.getLineInfo(widget_xml), ex);
+            // Continue with next widget
+        }
+
+        ++widget_errors_during_parse;
+        return createPlaceholderWidget(widget_xml);
     }
 
     /** @param widget_xml Widget's XML element
      *  @return Widget type name
      *  @throws Exception on error
      */
-    private static String getWidgetType(final Element widget_xml) throws Exception
+    static String getWidgetType(final Element widget_xml) throws Exception
     {
         String type = widget_xml.getAttribute(XMLTags.TYPE);
         if (type.isEmpty())
@@ -316,7 +339,7 @@ public class ModelReader
      *  @throws WidgetTypeException when type has no matching widget
      *  @throws Exception on error
      */
-    private Widget createWidget(final String type, final Element widget_xml) throws WidgetTypeException, Exception
+    Widget createWidget(final String type, final Element widget_xml) throws WidgetTypeException, Exception
     {
         final Version xml_version = readVersion(widget_xml);
         for (WidgetDescriptor desc : WidgetFactory.getInstance().getAllWidgetDescriptors(type))
@@ -0,0 +1,312 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.csstudio.display.builder.model.persist;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+
+import org.csstudio.display.builder.model.ChildrenProperty;
+import org.csstudio.display.builder.model.DisplayModel;
+import org.csstudio.display.builder.model.Widget;
+import org.csstudio.display.builder.model.WidgetConfigurator;
+import org.csstudio.display.builder.model.WidgetConfigurator.ParseAgainException;
+import org.csstudio.display.builder.model.WidgetFactory;
+import org.csstudio.display.builder.model.WidgetFactory.WidgetTypeException;
+import org.phoebus.framework.persistence.XMLUtil;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/** Read model from XML stream
+ *
+ *  <p>The {@link ModelReader} parses the complete file into a DOM,
+ *  then creates the widgets.
+ *  For large displays, most of the time and memory is spent on the DOM.
+ *
+ *  <p>This reader uses StAX to read the file,
+ *  creating each widget as soon as its end tag has been read.
+ *  Widget configurators still receive a DOM element for the widget,
+ *  but it only holds the properties of that one widget,
+ *  not the complete display.
+ *  The DOM elements of a widget can be released once the widget has been created.
+ *  Line numbers are preserved for error messages.
+ *
+ *  <p>Only supports files of version 2 and higher.
+ *  Legacy files need the complete DOM because their
+ *  configurators may rearrange the XML and ask to parse again.
+ *  If a display cannot be read by streaming, for example because
+ *  a configurator asks to parse again, readModel() throws
+ *  an {@link UnsupportedContentException} and the caller
+ *  needs to use the {@link ModelReader}.
+ *
+ *  <p>{@link #getRoot()} only returns the properties of the display itself,
+ *  not its widgets.
+ */
+@SuppressWarnings("nls")
+public class ModelStreamReader extends ModelReader
+{
+    /** Display content that can only be read by the {@link ModelReader} */
+    public static class UnsupportedContentException extends Exception
+    {
+        private static final long serialVersionUID = 1L;
+
+        /** @param reason Explanation */
+        public UnsupportedContentException(final String reason)
+        {
+            super(reason);
+        }
+    }
+
+    private static final XMLInputFactory factory = XMLInputFactory.newInstance();
+
+    static
+    {
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    }
+
+    private final InputStream stream;
+    private final XMLStreamReader reader;
+
+    /** Create reader.
+     *  @param stream Input stream to read, will be closed
+     *  @param xml_file Name of input file. Can be null if not applicable
+     *  @throws Exception on error
+     */
+    public ModelStreamReader(final InputStream stream, final String xml_file) throws Exception
+    {
+        this(stream, factory.createXMLStreamReader(stream), xml_file);
+    }
+
+    private ModelStreamReader(final InputStream stream, final XMLStreamReader reader, final String xml_file) throws Exception
+    {
+        super(readRoot(stream, reader), xml_file);
+        this.stream = stream;
+        this.reader = reader;
+    }
+
+    /** @param stream Input stream, closed on error
+     *  @param reader Reader positioned at the start of the document
+     *  @return Root element with attributes but no content
+     *  @throws Exception on error
+     */
+    private static Element readRoot(final InputStream stream, final XMLStreamReader reader) throws Exception
+    {
+        try
+        {
+            while (reader.hasNext()  &&  reader.next() != XMLStreamConstants.START_ELEMENT)
+                ;
+            if (! reader.isStartElement()  ||  ! XMLTags.DISPLAY.equals(reader.getLocalName()))
+                throw new Exception("Wrong document type, expected <" + XMLTags.DISPLAY + ">");
+            final Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+            final Element root = createElement(doc, reader);
+            doc.appendChild(root);
+            return root;
+        }
+        catch (Exception ex)
+        {
+            stream.close();
+            throw ex;
+        }
+    }
+
+    /** @param doc Document
+     *  @param reader Reader positioned on start element
+     *  @return Element with attributes and line number, but no content
+     */
+    private static Element createElement(final Document doc, final XMLStreamReader reader)
+    {
+        final Element element = doc.createElement(reader.getLocalName());
+        for (int i=0; i<reader.getAttributeCount(); ++i)
+            element.setAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+        element.setUserData(PositionalXMLReader.LINE_NUMBER, reader.getLocation().getLineNumber(), null);
+        return element;
+    }
+
+    /** Read model from XML.
+     *  @return Model
+     *  @throws UnsupportedContentException when display needs to be read by {@link ModelReader}
+     *  @throws Exception on error
+     */
+    @Override
+    public DisplayModel readModel() throws UnsupportedContentException, Exception
+    {
+        try
+        {
+            if (getVersion().getMajor() < 2)
+                throw new UnsupportedContentException("Legacy display version " + getVersion());
+
+            final DisplayModel model = new DisplayModel();
+            model.setUserData(DisplayModel.USER_DATA_INPUT_VERSION, getVersion());
+
+            // Read properties of display into root, create widgets
+            final Element root = getRoot();
+            final List<Widget> widgets = readContent(root);
+
+            final WidgetConfigurator configurator = model.getConfigurator(getVersion());
+            configurator.configureFromXML(this, model, root);
+            if (! configurator.isClean())
+                countWidgetError();
+
+            final ChildrenProperty children = model.runtimeChildren();
+            for (Widget widget : widgets)
+                children.addChild(widget);
+
+            logWidgetErrors();
+            model.setReaderResult(this);
+            return model;
+        }
+        catch (ParseAgainException ex)
+        {
+            throw new UnsupportedContentException("Parse again requested by " + ex.getMessage());
+        }
+        finally
+        {
+            reader.close();
+            stream.close();
+        }
+    }
+
+    /** Read content of a display or widget
+     *
+     *  <p>Properties are added to the element,
+     *  widgets are created.
+     *
+     *  @param element Element of the display or widget, reader positioned on its start
+     *  @return Widgets read from the content
+     *  @throws Exception on error
+     */
+    private List<Widget> readContent(final Element element) throws Exception
+    {
+        final List<Widget> widgets = new ArrayList<>();
+        while (reader.hasNext())
+        {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT)
+            {
+                if (XMLTags.WIDGET.equals(reader.getLocalName()))
+                {
+                    final Widget widget = readWidget();
+                    if (widget != null)
+                        widgets.add(widget);
+                }
+                else if (widgets.isEmpty())
+                    element.appendChild(readElement(element.getOwnerDocument()));
+                else // Widget would be configured before it has all properties
+                    throw new UnsupportedContentException("Property <" + reader.getLocalName() + "> after child widgets, line " + reader.getLocation().getLineNumber());
+            }
+            else if (event == XMLStreamConstants.END_ELEMENT)
+                break;
+        }
+        return widgets;
+    }
+
+    /** Read widget
+     *  @return Widget, placeholder, or <code>null</code> if widget could not be read
+     *  @throws Exception on error
+     */
+    private Widget readWidget() throws Exception
+    {
+        final Element widget_xml = createElement(getRoot().getOwnerDocument(), reader);
+        final String type = getWidgetType(widget_xml);
+        try
+        {
+            WidgetFactory.getInstance().getAllWidgetDescriptors(type);
+        }
+        catch (WidgetTypeException ex)
+        {
+            // Placeholder needs the complete XML, including child widgets
+            readElementContent(widget_xml);
+            final Widget placeholder = readWidgetOrPlaceholder(widget_xml);
+            if (placeholder == null)
+                throw new UnsupportedContentException("Placeholder for " + type + " requested to parse again");
+            return placeholder;
+        }
+
+        final List<Widget> child_widgets = readContent(widget_xml);
+        final Widget widget;
+        try
+        {
+            widget = createWidget(type, widget_xml);
+        }
+        catch (ParseAgainException ex)
+        {
+            throw ex;
+        }
+        catch (Exception ex)
+        {
+            // Placeholder needs the XML of the child widgets, which has not been kept
+            throw new UnsupportedContentException("Cannot configure " + type + ", line " + XMLUtil.getLineInfo(widget_xml) + ": " + ex.getMessage());
+        }
+
+        final ChildrenProperty children = ChildrenProperty.getChildren(widget);
+        if (children != null)
+            for (Widget child : child_widgets)
+                children.addChild(child);
+        return widget;
+    }
+
+    /** @param doc Document
+     *  @return Element for current start element, including its content
+     *  @throws Exception on error
+     */
+    private Element readElement(final Document doc) throws Exception
+    {
+        final Element element = createElement(doc, reader);
+        readElementContent(element);
+        return element;
+    }
+
+    /** Read complete content of an element into the DOM
+     *  @param element Element, reader positioned on its start
+     *  @throws Exception on error
+     */
+    private void readElementContent(final Element element) throws Exception
+    {
+        final Document doc = element.getOwnerDocument();
+        // Like PositionalXMLReader, combine text around comments into one node
+        final StringBuilder text = new StringBuilder();
+        while (reader.hasNext())
+        {
+            final int event = reader.next();
+            switch (event)
+            {
+            case XMLStreamConstants.START_ELEMENT:
+                addText(element, text);
+                element.appendChild(readElement(doc));
+                break;
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.CDATA:
+            case XMLStreamConstants.SPACE:
+                text.append(reader.getText());
+                break;
+            case XMLStreamConstants.END_ELEMENT:
+                addText(element, text);
+                return;
+            default:
+                // Ignore comments, processing instructions
+            }
+        }
+    }
+
+    /** @param element Element to which text is added
+     *  @param text Accumulated text, will be cleared
+     */
+    private static void addText(final Element element, final StringBuilder text)
+    {
+        if (text.length() <= 0)
+            return;
+        element.appendChild(element.getOwnerDocument().createTextNode(text.toString()));
+        text.setLength(0);
+    }
+}
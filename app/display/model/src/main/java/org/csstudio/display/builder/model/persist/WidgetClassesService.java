@@ -77,6 +77,12 @@ public class WidgetClassesService
         });
     }
 
+    /** @return Identifies the current set of widget classes, changes when they are re-loaded. May be <code>null</code> */
+    static Object getWidgetClassesIdentity()
+    {
+        return class_support;
+    }
+
     /** Obtain current set of widget classes.
      *
      *  <p>If service is still in the process of loading
@@ -10,6 +10,8 @@ package org.csstudio.display.builder.model.util;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
+import org.phoebus.framework.jobs.TimerWheel;
+
 /** Thread pool for model related operations
  *  @author Kay Kasemir
  */
@@ -18,7 +20,7 @@ public class ModelThreadPool
 {
     private static final ExecutorService executor = NamedDaemonPool.createThreadPool("DisplayModel");
 
-    private static final ScheduledExecutorService timer = NamedDaemonPool.createTimer("DisplayModelTimer");
+    private static final ScheduledExecutorService timer = TimerWheel.getShared();
 
     /** @return {@link ExecutorService} for thread pool meant for model related background tasks */
     public static ExecutorService getExecutor()
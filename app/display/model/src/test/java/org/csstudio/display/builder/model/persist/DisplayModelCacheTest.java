@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.csstudio.display.builder.model.persist;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.csstudio.display.builder.model.DisplayModel;
+import org.csstudio.display.builder.model.Widget;
+import org.junit.jupiter.api.Test;
+import org.phoebus.framework.macros.Macros;
+
+/** JUnit test of the {@link DisplayModelCache}
+ *
+ *  <p>Compares cached copies of the example displays with
+ *  the displays loaded from the file,
+ *  and the time for loading a display 300 times,
+ *  as done when a display embeds the same file via templates.
+ */
+@SuppressWarnings("nls")
+public class DisplayModelCacheTest
+{
+    private static final File EXAMPLES = new File("src/main/resources/examples");
+
+    private static final int INSTANCES = 300;
+
+    @Test
+    public void testCopiesOfExamples() throws Exception
+    {
+        int checked = 0;
+        for (File file : EXAMPLES.listFiles((dir, name) -> name.endsWith(".bob")))
+        {
+            final String path = file.getPath();
+            final DisplayModel loaded = ModelLoader.loadModel(path);
+            // Displays with errors, for example widget types that are not
+            // available in this module, are not cached
+            if (! loaded.isClean())
+                continue;
+            final DisplayModel first = DisplayModelCache.loadModel(path);
+            final DisplayModel second = DisplayModelCache.loadModel(path);
+
+            final String xml = ModelWriter.getXML(List.of(loaded));
+            assertThat(file.getName(), ModelWriter.getXML(List.of(first)), equalTo(xml));
+            assertThat(file.getName(), ModelWriter.getXML(List.of(second)), equalTo(xml));
+            assertThat(second, not(sameInstance(first)));
+            assertThat(second.getUserData(DisplayModel.USER_DATA_INPUT_FILE), equalTo(path));
+            assertThat(second.getUserData(DisplayModel.USER_DATA_INPUT_VERSION),
+                       equalTo(loaded.getUserData(DisplayModel.USER_DATA_INPUT_VERSION)));
+            ++checked;
+        }
+        System.out.println("Compared copies of " + checked + " cached examples");
+        assertThat(checked, greaterThan(10));
+    }
+
+    @Test
+    public void testIndependentCopies() throws Exception
+    {
+        final File file = File.createTempFile("cache_test", ".bob");
+        file.deleteOnExit();
+        Files.copy(new File(EXAMPLES, "03_properties.bob").toPath(), file.toPath(),
+                   StandardCopyOption.REPLACE_EXISTING);
+        final String path = file.getPath();
+
+        // Changes to one copy, including in-place expansion of macros, don't affect the next copy
+        final DisplayModel first = DisplayModelCache.loadModel(path);
+        final String xml = ModelWriter.getXML(List.of(first));
+        final Macros macros = new Macros();
+        macros.add("S", "Changed");
+        first.propMacros().setValue(macros);
+        first.expandMacros(new Macros());
+        for (Widget widget : first.getChildren())
+            widget.propName().setValue("Changed");
+        assertThat(ModelWriter.getXML(List.of(DisplayModelCache.loadModel(path))), equalTo(xml));
+
+        // Updated file is re-loaded
+        Files.writeString(file.toPath(),
+                          "<display version=\"2.0.0\"><name>Updated</name></display>");
+        file.setLastModified(file.lastModified() + TimeUnit.SECONDS.toMillis(10));
+        assertThat(DisplayModelCache.loadModel(path).getName(), equalTo("Updated"));
+    }
+
+    @Test
+    public void testTemplateTiming() throws Exception
+    {
+        final String path = new File(EXAMPLES, "03_properties.bob").getPath();
+
+        // Warm up
+        for (int i=0; i<20; ++i)
+        {
+            ModelLoader.loadModel(path);
+            DisplayModelCache.loadModel(path);
+        }
+
+        long start = System.nanoTime();
+        for (int i=0; i<INSTANCES; ++i)
+            ModelLoader.loadModel(path);
+        final long parse_ms = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        start = System.nanoTime();
+        for (int i=0; i<INSTANCES; ++i)
+            DisplayModelCache.loadModel(path);
+        final long cached_ms = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        System.out.println("Loading " + path + " " + INSTANCES + " times: " +
+                           parse_ms + " ms, using cache: " + cached_ms + " ms");
+        assertThat(cached_ms, lessThan(parse_ms));
+    }
+}
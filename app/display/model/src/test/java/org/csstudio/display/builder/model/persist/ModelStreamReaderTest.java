@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.csstudio.display.builder.model.persist;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.csstudio.display.builder.model.DisplayModel;
+import org.csstudio.display.builder.model.persist.ModelStreamReader.UnsupportedContentException;
+import org.csstudio.display.builder.model.widgets.GroupWidget;
+import org.csstudio.display.builder.model.widgets.LabelWidget;
+import org.csstudio.display.builder.model.widgets.RectangleWidget;
+import org.junit.jupiter.api.Test;
+
+/** JUnit test of the {@link ModelStreamReader}
+ *
+ *  <p>Compares displays read by streaming with those read via the DOM,
+ *  and the time and memory used to read a large display.
+ */
+@SuppressWarnings("nls")
+public class ModelStreamReaderTest
+{
+    private static final Path EXAMPLES = Paths.get("src/main/resources/examples");
+
+    private static String toXML(final DisplayModel model) throws Exception
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ModelWriter writer = new ModelWriter(out))
+        {
+            writer.writeModel(model);
+        }
+        return out.toString();
+    }
+
+    @Test
+    public void testExamples() throws Exception
+    {
+        final List<Path> files;
+        try (Stream<Path> paths = Files.walk(EXAMPLES))
+        {
+            files = paths.filter(path -> path.toString().endsWith(".bob"))
+                         .collect(Collectors.toList());
+        }
+        int streamed = 0;
+        for (Path file : files)
+        {
+            final byte[] xml = Files.readAllBytes(file);
+            final ModelReader dom_reader = new ModelReader(new ByteArrayInputStream(xml), file.toString());
+            final DisplayModel dom_model = dom_reader.readModel();
+            final ModelReader stream_reader = new ModelStreamReader(new ByteArrayInputStream(xml), file.toString());
+            final DisplayModel stream_model;
+            try
+            {
+                stream_model = stream_reader.readModel();
+            }
+            catch (UnsupportedContentException ex)
+            {
+                // Only legacy files need the DOM
+                assertThat(file + ": " + ex.getMessage(), dom_reader.getVersion().getMajor(), lessThan(2));
+                continue;
+            }
+            assertThat(file.toString(), toXML(stream_model), equalTo(toXML(dom_model)));
+            assertThat(file.toString(), stream_model.isClean(), equalTo(dom_model.isClean()));
+            assertThat(file.toString(), stream_reader.getNumberOfWidgetErrors(), equalTo(dom_reader.getNumberOfWidgetErrors()));
+            ++streamed;
+        }
+        System.out.println("Streamed " + streamed + " of " + files.size() + " examples");
+        assertThat(streamed, greaterThan(files.size() / 2));
+    }
+
+    @Test
+    public void testLegacyAndOrder() throws Exception
+    {
+        final String legacy = "<display typeId=\"org.csstudio.opibuilder.Display\" version=\"1.0.0\"></display>";
+        assertThrows(UnsupportedContentException.class,
+                     () -> new ModelStreamReader(new ByteArrayInputStream(legacy.getBytes()), null).readModel());
+
+        // Property of group after its child widget
+        final String late_property =
+            "<display version=\"2.0.0\">" +
+            "<widget type=\"group\" version=\"2.0.0\">" +
+            "<widget type=\"label\" version=\"2.0.0\"><text>Hi</text></widget>" +
+            "<name>Late</name>" +
+            "</widget>" +
+            "</display>";
+        assertThrows(UnsupportedContentException.class,
+                     () -> new ModelStreamReader(new ByteArrayInputStream(late_property.getBytes()), null).readModel());
+
+        // ModelLoader falls back to the DOM
+        final DisplayModel model = ModelLoader.loadModel(new ByteArrayInputStream(late_property.getBytes()), "late.bob");
+        assertThat(model.getChildren().get(0).getName(), equalTo("Late"));
+    }
+
+    /** @return XML for display with groups of labels and rectangles */
+    private static byte[] createLargeDisplay(final int groups, final int widgets_per_group) throws Exception
+    {
+        final DisplayModel model = new DisplayModel();
+        for (int g=0; g<groups; ++g)
+        {
+            final GroupWidget group = new GroupWidget();
+            group.propName().setValue("Group " + g);
+            for (int i=0; i<widgets_per_group; ++i)
+            {
+                final LabelWidget label = new LabelWidget();
+                label.propName().setValue("Label " + g + "." + i);
+                label.propText().setValue("$(P)Text " + i);
+                label.propX().setValue(10 * i);
+                group.runtimeChildren().addChild(label);
+                final RectangleWidget rect = new RectangleWidget();
+                rect.propY().setValue(10 * i);
+                group.runtimeChildren().addChild(rect);
+            }
+            model.runtimeChildren().addChild(group);
+        }
+        return toXML(model).getBytes();
+    }
+
+    /** Time a read, track allocated and peak used memory */
+    private static String measure(final Callable<DisplayModel> read) throws Exception
+    {
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        final long base = runtime.totalMemory() - runtime.freeMemory();
+        final AtomicLong peak = new AtomicLong(base);
+        final AtomicBoolean run = new AtomicBoolean(true);
+        final Thread sampler = new Thread(() ->
+        {
+            while (run.get())
+            {
+                peak.accumulateAndGet(runtime.totalMemory() - runtime.freeMemory(), Math::max);
+                Thread.onSpinWait();
+            }
+        });
+        sampler.start();
+
+        final long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        final long start = System.nanoTime();
+        final DisplayModel model = read.call();
+        final long ms = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        final long alloc_mb = (threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocated) / 1024 / 1024;
+
+        run.set(false);
+        sampler.join();
+        assertThat(model.getChildren().size(), greaterThan(0));
+        return String.format("%5d ms, %5d MB allocated, %5d MB peak", ms, alloc_mb, (peak.get() - base) / 1024 / 1024);
+    }
+
+    @Test
+    public void testLargeDisplay() throws Exception
+    {
+        // 100 groups with 2 x 50 widgets, similar to a converted EDM screen
+        final byte[] xml = createLargeDisplay(100, 50);
+        // Both readers must produce the same model
+        final String dom_xml = toXML(new ModelReader(new ByteArrayInputStream(xml)).readModel());
+        final String stream_xml = toXML(new ModelStreamReader(new ByteArrayInputStream(xml), null).readModel());
+        assertThat(stream_xml, equalTo(dom_xml));
+
+        System.out.println("Reading display with 10000 widgets, " + xml.length / 1024 + " kB");
+        for (int run=0; run<3; ++run)
+        {
+            System.out.println("DOM      : " + measure(() -> new ModelReader(new ByteArrayInputStream(xml)).readModel()));
+            System.out.println("Streaming: " + measure(() -> new ModelStreamReader(new ByteArrayInputStream(xml), null).readModel()));
+        }
+
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long id = Thread.currentThread().getId();
+        long allocated = threads.getThreadAllocatedBytes(id);
+        new ModelReader(new ByteArrayInputStream(xml)).readModel();
+        final long dom_bytes = threads.getThreadAllocatedBytes(id) - allocated;
+        allocated = threads.getThreadAllocatedBytes(id);
+        new ModelStreamReader(new ByteArrayInputStream(xml), null).readModel();
+        final long stream_bytes = threads.getThreadAllocatedBytes(id) - allocated;
+        assertThat(stream_bytes, lessThan(dom_bytes));
+    }
+}
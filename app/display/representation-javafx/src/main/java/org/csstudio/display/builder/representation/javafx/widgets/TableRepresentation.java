@@ -59,6 +59,9 @@ public class TableRepresentation extends RegionBaseRepresentation<StringTable, T
     /** Most recent table data, row by row */
     private volatile List<List<String>> data = new ArrayList<>();
 
+    /** Most recent table data when received as {@link VTable}, otherwise <code>null</code> */
+    private volatile VTable table_value = null;
+
     /** Most recent cell colors, row by row */
     private volatile List<List<Color>> cell_colors = null;
 
@@ -267,16 +270,18 @@ public class TableRepresentation extends RegionBaseRepresentation<StringTable, T
             // "No PV" is very common for table to be set by script
             // Show empty table, not error nor "No PV"
             data = new ArrayList<>();
+            table_value = null;
         }
         else
         {
             // new_value == model_widget.runtimeValue().getValue() might be
             // a List<List<String>> or a VTable.
-            // getValue() fetches either one as deep-copied List<List<String>>
-            data = model_widget.getValue();
+            // A VTable is shown as is, cells are only formatted when visible.
+            // getValue() fetches a List<List<String>> as deep copy.
             if (new_value instanceof VTable)
             {   // Use table's column headers
                 final VTable table = (VTable) new_value;
+                table_value = table;
                 final int cols = table.getColumnCount();
                 final List<String> new_headers = new ArrayList<>(cols);
                 for (int c=0; c<cols; ++c)
@@ -287,6 +292,11 @@ public class TableRepresentation extends RegionBaseRepresentation<StringTable, T
                     dirty_columns.mark();
                 }
             }
+            else
+            {
+                data = model_widget.getValue();
+                table_value = null;
+            }
         }
         dirty_data.mark();
         toolkit.scheduleUpdate(this);
@@ -362,8 +372,12 @@ public class TableRepresentation extends RegionBaseRepresentation<StringTable, T
             }
         }
         if (dirty_data.checkAndClear())         // Show data with current coloring
-        { 
-            jfx_node.setData(data);
+        {
+            final VTable table = table_value;
+            if (table != null)
+                jfx_node.setData(table);
+            else
+                jfx_node.setData(data);
             jfx_node.setCellColors(cell_colors);
         }
         if (dirty_cell_colors.checkAndClear())  // Keep data, only update colors
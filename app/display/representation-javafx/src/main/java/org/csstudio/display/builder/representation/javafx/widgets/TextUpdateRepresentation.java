@@ -53,6 +53,8 @@ public class TextUpdateRepresentation extends RegionBaseRepresentation<Control,
     private final UntypedWidgetPropertyListener contentListener = this::contentChanged;
     private final WidgetPropertyListener<String> pvNameListener = this::pvnameChanged;
     private volatile String value_text = "<?>";
+    /** Buffer for formatting the value, SYNC on it */
+    private final StringBuilder text_buffer = new StringBuilder();
     private volatile Pos pos;
 
     /** Was there ever any transformation applied to the jfx_node?
@@ -166,17 +168,32 @@ public class TextUpdateRepresentation extends RegionBaseRepresentation<Control,
      *  @return Text to show, "<pv name>" if disconnected (no value)
      */
     private String computeText(final VType value)
+    {
+        final StringBuilder buf = new StringBuilder();
+        computeText(value, buf);
+        return buf.toString();
+    }
+
+    /** @param value Current value of PV
+     *  @param buf Buffer that will be cleared and then receives the text to show
+     */
+    private void computeText(final VType value, final StringBuilder buf)
     {
         Objects.requireNonNull(model_widget, "No widget");
         Alarm alarm = Alarm.alarmOf(value);
         if (value == null || alarm.equals(Alarm.disconnected()))
-            return "<" + model_widget.propPVName().getValue() + ">";
-        if (value == PVWidget.RUNTIME_VALUE_NO_PV)
-            return "";
-        return FormatOptionHandler.format(value,
-                                          model_widget.propFormat().getValue(),
-                                          model_widget.propPrecision().getValue(),
-                                          model_widget.propShowUnits().getValue());
+        {
+            buf.setLength(0);
+            buf.append('<').append(model_widget.propPVName().getValue()).append('>');
+        }
+        else if (value == PVWidget.RUNTIME_VALUE_NO_PV)
+            buf.setLength(0);
+        else
+            FormatOptionHandler.format(value,
+                                       model_widget.propFormat().getValue(),
+                                       model_widget.propPrecision().getValue(),
+                                       model_widget.propShowUnits().getValue(),
+                                       buf);
     }
 
     private void pvnameChanged(final WidgetProperty<String> property, final String old_value, final String new_value)
@@ -192,11 +209,14 @@ public class TextUpdateRepresentation extends RegionBaseRepresentation<Control,
 
     private void contentChanged(final WidgetProperty<?> property, final Object old_value, final Object new_value)
     {
-        final String new_text = computeText(model_widget.runtimePropValue().getValue());
-        // Skip update if it's the same text
-        if (value_text.equals(new_text))
-            return;
-        value_text = new_text;
+        synchronized (text_buffer)
+        {
+            computeText(model_widget.runtimePropValue().getValue(), text_buffer);
+            // Skip update if it's the same text, without creating a new string
+            if (value_text.contentEquals(text_buffer))
+                return;
+            value_text = text_buffer.toString();
+        }
         dirty_content.mark();
         toolkit.scheduleUpdate(this);
     }
@@ -24,6 +24,7 @@ import java.util.logging.Level;
 import org.csstudio.display.builder.model.DisplayModel;
 import org.csstudio.display.builder.model.Preferences;
 import org.csstudio.display.builder.model.Widget;
+import org.csstudio.display.builder.model.persist.DisplayModelCache;
 import org.csstudio.display.builder.model.persist.ModelLoader;
 import org.csstudio.display.builder.model.util.ModelResourceUtil;
 import org.csstudio.display.builder.representation.ToolkitListener;
@@ -402,6 +403,7 @@ public class DisplayRuntimeInstance implements AppInstance
     public void reload()
     {
         ModelResourceUtil.clearURLCache();
+        DisplayModelCache.clear();
         loadDisplayFile(getDisplayInfo());
     }
 
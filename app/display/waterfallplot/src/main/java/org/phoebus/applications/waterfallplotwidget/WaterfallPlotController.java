@@ -17,12 +17,9 @@ import javafx.util.Pair;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public class WaterfallPlotController {
@@ -92,6 +89,7 @@ public class WaterfallPlotController {
         });
 
         dataSet = createEmptyPVDataSet();
+        grid = new WaterfallPlotGrid();
         xyChart.getDatasets().add(dataSet);
 
         xyChart.setMouseTransparent(true); // Removes "hover"-effect along the top edge of the widget.
@@ -158,6 +156,7 @@ public class WaterfallPlotController {
     }
 
     private DoubleGridDataSet dataSet;
+    private WaterfallPlotGrid grid = new WaterfallPlotGrid();
 
     private void addAxisFontListeners(Axis axis) {
         // Workaround around the fact that the fonts get updated on
@@ -187,6 +186,7 @@ public class WaterfallPlotController {
     public synchronized void setNewPVName(boolean isWaveform, boolean usePVNumberAsLabelOnAxis, List<String> pvNames) {
         observedMin = Double.NaN;
         observedMax = Double.NaN;
+        grid.reset();
         DefaultNumericAxis dataSourceAxis;
         if (isWaveform) {
             dataSourceAxis = new DefaultNumericAxis();
@@ -308,183 +308,25 @@ public class WaterfallPlotController {
         previousT1[0] = Optional.of(t1);
         previousT2[0] = Optional.of(t2);
 
-        LinkedList<Double> timeValuesLinkedList = new LinkedList<>();
-        LinkedList<ArrayList<Double>> zValuesLinkedList = new LinkedList<>();
-        int waveformLength = 1;
-
         double minFromPV = Double.NaN;
         double maxFromPV = Double.NaN;
         if (pvData instanceof WaterfallPlotRuntime.WaveformPVData waveformPVData) {
-            garbageCollectInstantToValue(waveformPVData.instantToValue(), t1);
-
             minFromPV = waveformPVData.minFromPV().get();
             maxFromPV = waveformPVData.maxFromPV().get();
-
-            ConcurrentSkipListMap<Instant, ArrayList<Double>> instantToWaveform = waveformPVData.instantToValue();
-            Instant startKey = instantToWaveform.ceilingKey(Instant.MIN);
-
-            Optional<Instant> previousInstant = Optional.empty();
-            for (Instant t = t1.plus(stepsize); t.compareTo(t2) <= 0; t = t.plus(stepsize)) {
-                timeValuesLinkedList.add(((double) t.toEpochMilli()) / 1000.0);
-
-                if (startKey == null || t.isBefore(startKey)) {
-                    zValuesLinkedList.add(null); // null means absence of data for this point in time
-                }
-                else {
-                    var instant = instantToWaveform.floorKey(t);
-
-                    ArrayList<Double> waveform = instantToWaveform.get(instant);
-                    waveformLength = Math.max(waveformLength, waveform.size());
-                    zValuesLinkedList.add(waveform);
-
-                    if (previousInstant.isPresent()) {
-                        // Optimization: Remove data points that are not plotted.
-                        for (var key : instantToWaveform.subMap(previousInstant.get(), false, instant, false).keySet()) {
-                            instantToWaveform.remove(key);
-                        }
-                    }
-
-                    previousInstant = Optional.of(instant);
-                }
-            }
         } else if (pvData instanceof WaterfallPlotRuntime.ScalarPVsData scalarPVsData) {
-            ArrayList<Pair<String, ConcurrentSkipListMap<Instant, Double>>> pvNameToInstantToValue = scalarPVsData.pvNameToInstantToValue();
-            pvNameToInstantToValue.forEach(pvNameAndInstantToValueAtomicReference -> garbageCollectInstantToValue(pvNameAndInstantToValueAtomicReference.getValue(), t1));
-
             minFromPV = scalarPVsData.minFromPV().get();
             maxFromPV = scalarPVsData.maxFromPV().get();
-
-            waveformLength = 2 * pvNameToInstantToValue.size() + 1;
-
-            HashMap<String, Optional<Instant>> pvNameToPreviousInstant = new HashMap<>();
-            for (var pvNameAndInstantToValue : pvNameToInstantToValue) {
-                String pvName = pvNameAndInstantToValue.getKey();
-                pvNameToPreviousInstant.put(pvName, Optional.empty());
-            }
-
-            for (Instant t = t1.plus(stepsize); t.compareTo(t2) <= 0; t = t.plus(stepsize)) {
-                timeValuesLinkedList.add(((double) t.toEpochMilli()) / 1000.0);
-                ArrayList<Double> zValues = new ArrayList<>();
-
-                for (var pvNameAndInstantToValue : pvNameToInstantToValue) {
-                    String pvName = pvNameAndInstantToValue.getKey();
-
-                    ConcurrentSkipListMap<Instant, Double> instantToValue = pvNameAndInstantToValue.getValue();
-
-                    var instant = instantToValue.floorKey(t);
-                    if (instant == null) {
-                        zValues.add(Double.NaN);
-                        zValues.add(Double.NaN);
-                    } else {
-                        zValues.add(instantToValue.get(instant));
-                        zValues.add(instantToValue.get(instant));
-
-                        Optional<Instant> previousInstant = pvNameToPreviousInstant.get(pvName);
-                        if (previousInstant.isPresent()) {
-                            // Optimization: Remove data points that are not plotted.
-                            for (var key : instantToValue.subMap(previousInstant.get(), false, instant, false).keySet()) {
-                                instantToValue.remove(key);
-                            }
-                        }
-
-                        pvNameToPreviousInstant.put(pvName, Optional.of(instant));
-                    }
-                }
-
-                // Append the last value one more time in order to
-                // fix the plotting when there is only 1 scalar PV:
-                var lastValue = zValues.get(zValues.size()-1);
-                zValues.add(lastValue);
-
-                zValuesLinkedList.add(zValues);
-            }
         }
 
-        final double[][] xyValuesFinal = {{}, {}};
-        double[] finalZValues = new double[waveformLength * zValuesLinkedList.size()];
-
-        if (timeOnXAxisValue) {
-            {
-                double[] xValues = new double[timeValuesLinkedList.size()];
-                for (int j = 0; j < xValues.length; j++) {
-                    xValues[j] = timeValuesLinkedList.get(j);
-                }
-                xyValuesFinal[0] = xValues;
-            }
-
-            {
-                double[] yValues = new double[waveformLength];
-                for (int d = 0; d < waveformLength; d++) {
-                    // This is needed so that the values align correctly with the y-axis:
-                    yValues[d] = (double) d * ((double) (waveformLength + 1) / ((double) (waveformLength)));
-                }
-                xyValuesFinal[1] = yValues;
-            }
-
-            for (int n = 0; n < zValuesLinkedList.size(); n++) {
-                ArrayList<Double> waveformValues = zValuesLinkedList.get(n);
-
-                for (int m = 0; m < waveformLength; m++) {
-                    double value;
-                    if (waveformValues != null && m < waveformValues.size()) {
-                        value = waveformValues.get(m);
-                    } else {
-                        value = Double.NaN;
-                    }
-
-                    if (Double.isNaN(observedMin) || observedMin > value) {
-                        observedMin = value;
-                    }
-                    if (Double.isNaN(observedMax) || observedMax < value) {
-                        observedMax = value;
-                    }
-
-                    finalZValues[n + m * zValuesLinkedList.size()] = value;
-                }
-            }
-        } else {
-            {
-                double[] yValues = new double[timeValuesLinkedList.size()];
-                for (int j = 0; j < yValues.length; j++) {
-                    yValues[j] = timeValuesLinkedList.get(j);
-                }
-                xyValuesFinal[1] = yValues;
-            }
-
-            {
-                double[] xValues = new double[waveformLength];
-                for (int d = 0; d < waveformLength; d++) {
-                    // This is needed so that the values align correctly with the x-axis:
-                    xValues[d] = (double) d * ((double) (waveformLength + 1) / ((double) (waveformLength)));
-                }
-                xyValuesFinal[0] = xValues;
-            }
-
-            for (int n = 0; n < zValuesLinkedList.size(); n++) {
-                ArrayList<Double> waveformValues = zValuesLinkedList.get(n);
-
-                for (int m = 0; m < waveformLength; m++) {
-                    double value;
-                    if (waveformValues != null && m < waveformValues.size()) {
-                        value = waveformValues.get(m);
-                    } else {
-                        value = Double.NaN;
-                    }
-
-                    if (Double.isNaN(observedMin) || observedMin > value) {
-                        observedMin = value;
-                    }
-                    if (Double.isNaN(observedMax) || observedMax < value) {
-                        observedMax = value;
-                    }
-
-                    finalZValues[m + n * waveformLength] = value;
-                }
-            }
-        }
-
-        dataSet.set(false, xyValuesFinal, finalZValues);
+        // Only the rows for the new points in time are computed,
+        // existing rows are moved within the arrays of the data set:
+        final int finalNoOfSamplesToPlot = (int) noOfSamplesToPlot;
+        final Instant finalT2 = t2;
+        dataSet.lock().writeLockGuard(() -> grid.update(pvData, finalNoOfSamplesToPlot, stepsize, finalT2, timeOnXAxisValue));
+        dataSet.set(false, grid.getGrid(), grid.getZValues());
         dataSet.recomputeLimits();
+        observedMin = grid.getObservedMin();
+        observedMax = grid.getObservedMax();
         if (zAxisMinMax.equals(WaterfallPlotWidget.ZAxisMinMax.SetAutomaticallyBasedOnReceivedValues)) {
             if (!Double.isNaN(observedMin) && !Double.isNaN(observedMax) && observedMin < observedMax) {
                 double currentMin = zAxis.getMin();
@@ -509,16 +351,6 @@ public class WaterfallPlotController {
         }
     }
 
-    private synchronized static <T> void garbageCollectInstantToValue(ConcurrentSkipListMap<Instant, T> instantToWaveform, Instant t1) {
-        // Garbage collect old values that are no longer needed:
-        Instant instantOfOldestRelevantKey = instantToWaveform.floorKey(t1);
-        if (instantOfOldestRelevantKey != null) {
-            for (var key : instantToWaveform.subMap(Instant.MIN, instantOfOldestRelevantKey).keySet()) {
-                instantToWaveform.remove(key);
-            }
-        }
-    }
-
     private WaterfallPlotWidget.ZAxisMinMax zAxisMinMax = WaterfallPlotWidget.ZAxisMinMax.FromPVLimits;
 
     public synchronized void setZAxisMinMax(WaterfallPlotWidget.ZAxisMinMax zAxisUseAutomaticMinMax) {
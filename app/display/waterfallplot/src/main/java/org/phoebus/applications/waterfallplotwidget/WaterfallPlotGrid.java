@@ -0,0 +1,340 @@
+package org.phoebus.applications.waterfallplotwidget;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Preallocated grid of the plotted values.
+ *
+ * Each row holds the values at one point in time, spaced by a fixed step.
+ * When time advances by some steps, the existing rows are moved
+ * within the same arrays and only the new rows are computed from the samples.
+ * The arrays are used as they are by the DoubleGridDataSet of the plot,
+ * which needs the rows in time order.
+ *
+ * Each row is a time bucket that ends at the time of the row
+ * and shows the most recent sample at or before that time.
+ * Samples are assigned to their buckets in one pass in time order,
+ * and within each bucket only the most recent sample is kept,
+ * since the others would never be plotted.
+ * When the number of rows, the step or the layout changes,
+ * new arrays are allocated and all rows are computed again from those samples.
+ *
+ * For each row and PV, the time of the sample that provided the values is kept,
+ * so when samples arrive late, for example from the archive,
+ * existing rows are only updated where the late sample is more recent.
+ */
+public class WaterfallPlotGrid {
+    private int rows = 0;
+    private int width = 0;
+    private boolean timeOnXAxis = true;
+    private Duration stepsize = Duration.ZERO;
+    /** Time of the last row */
+    private Instant lastInstant = null;
+
+    private double[] timeValues = new double[0];
+    private double[] positionValues = new double[0];
+    private double[] zValues = new double[0];
+
+    private static final long NO_SAMPLE = Long.MIN_VALUE;
+    /** Number of PVs that provide samples */
+    private int sources = 0;
+    /** Time of the sample used for each row and PV, in epoch nanoseconds */
+    private long[] sampleTimes = new long[0];
+
+    private double observedMin = Double.NaN;
+    private double observedMax = Double.NaN;
+
+    /** @return Grid values {x, y} for the DoubleGridDataSet */
+    public double[][] getGrid() {
+        if (timeOnXAxis) {
+            return new double[][]{timeValues, positionValues};
+        } else {
+            return new double[][]{positionValues, timeValues};
+        }
+    }
+
+    /** Update of a row from the sample in its time bucket */
+    @FunctionalInterface
+    private interface RowUpdate<T> {
+        /**
+         * @param n Row
+         * @param sample Most recent sample at or before the time of the row, or null
+         */
+        void update(int n, Map.Entry<Instant, T> sample);
+    }
+
+    /** @return Z values for the DoubleGridDataSet */
+    public double[] getZValues() {
+        return zValues;
+    }
+
+    public double getObservedMin() {
+        return observedMin;
+    }
+
+    public double getObservedMax() {
+        return observedMax;
+    }
+
+    /**
+     * Forget the observed minimum and maximum, for example when the PVs change.
+     * All rows are computed again on the next update,
+     * so the observed range then covers all plotted values.
+     */
+    public void reset() {
+        lastInstant = null;
+        observedMin = Double.NaN;
+        observedMax = Double.NaN;
+    }
+
+    private Instant getInstant(Instant last, Duration step, int noOfRows, int row) {
+        return last.minus(step.multipliedBy(noOfRows - 1 - row));
+    }
+
+    private static int getIndex(boolean timeOnXAxis, int rows, int width, int row, int position) {
+        if (timeOnXAxis) {
+            return row + position * rows;
+        } else {
+            return position + row * width;
+        }
+    }
+
+    /**
+     * Update the grid to end at the given time.
+     *
+     * @param pvData Samples
+     * @param noOfRows Number of rows, i.e. points in time to plot
+     * @param step Time between rows
+     * @param end Time of the last row
+     * @param timeOnX Layout of the values: time along the x axis or the y axis
+     */
+    public void update(WaterfallPlotRuntime.PVData pvData, int noOfRows, Duration step, Instant end, boolean timeOnX) {
+        Instant changedSince = takeChangedSince(pvData);
+        int newWidth = getWidth(pvData);
+        int newSources = getSources(pvData);
+        Instant firstInstant = getInstant(end, step, noOfRows, 0);
+
+        // Time of the first row that did not exist before
+        Instant newFrom;
+        long stepsToShift = -1;
+        if (lastInstant != null && noOfRows == rows && newWidth == width && timeOnX == timeOnXAxis && step.equals(stepsize) && newSources == sources) {
+            Duration shift = Duration.between(lastInstant, end);
+            if (!shift.isNegative() && shift.equals(step.multipliedBy(shift.dividedBy(step)))) {
+                stepsToShift = shift.dividedBy(step);
+            }
+        }
+        if (stepsToShift >= 0) {
+            shiftRows(stepsToShift);
+            newFrom = lastInstant.plus(step);
+        } else {
+            // Compute all rows from the samples
+            resize(noOfRows, newWidth, newSources);
+            newFrom = firstInstant;
+        }
+        // Time of the first row that needs to be computed from the samples
+        Instant computeFrom = newFrom;
+        if (changedSince != null && changedSince.isBefore(computeFrom)) {
+            computeFrom = changedSince;
+        }
+
+        rows = noOfRows;
+        width = newWidth;
+        sources = newSources;
+        stepsize = step;
+        timeOnXAxis = timeOnX;
+        lastInstant = end;
+
+        for (int n = 0; n < rows; n++) {
+            timeValues[n] = ((double) getInstant(end, step, rows, n).toEpochMilli()) / 1000.0;
+        }
+
+        // Remove samples before the bucket of the first row, keeping the one that's plotted in the first row
+        removeBefore(pvData, firstInstant.minus(step));
+
+        computeRows(pvData, getRow(firstInstant, computeFrom));
+    }
+
+    /** @return Index of the first row at or after the given time */
+    private int getRow(Instant firstInstant, Instant instant) {
+        if (!instant.isAfter(firstInstant)) {
+            return 0;
+        }
+        long nanosFromFirst = Duration.between(firstInstant, instant).toNanos();
+        long stepNanos = stepsize.toNanos();
+        return (int) Math.min(rows, (nanosFromFirst + stepNanos - 1) / stepNanos);
+    }
+
+    private static Instant takeChangedSince(WaterfallPlotRuntime.PVData pvData) {
+        Instant changedSince = null;
+        if (pvData instanceof WaterfallPlotRuntime.WaveformPVData waveformPVData) {
+            changedSince = waveformPVData.samples().takeChangedSince();
+        } else if (pvData instanceof WaterfallPlotRuntime.ScalarPVsData scalarPVsData) {
+            for (var pvNameAndSamples : scalarPVsData.pvNameToSamples()) {
+                Instant instant = pvNameAndSamples.getValue().takeChangedSince();
+                if (instant != null && (changedSince == null || instant.isBefore(changedSince))) {
+                    changedSince = instant;
+                }
+            }
+        }
+        return changedSince;
+    }
+
+    private int getWidth(WaterfallPlotRuntime.PVData pvData) {
+        if (pvData instanceof WaterfallPlotRuntime.WaveformPVData waveformPVData) {
+            int waveformLength = Math.max(1, width);
+            for (double[] waveform : waveformPVData.samples().getValues()) {
+                waveformLength = Math.max(waveformLength, waveform.length);
+            }
+            return waveformLength;
+        } else if (pvData instanceof WaterfallPlotRuntime.ScalarPVsData scalarPVsData) {
+            return 2 * scalarPVsData.pvNameToSamples().size() + 1;
+        }
+        return 1;
+    }
+
+    private static int getSources(WaterfallPlotRuntime.PVData pvData) {
+        if (pvData instanceof WaterfallPlotRuntime.ScalarPVsData scalarPVsData) {
+            return scalarPVsData.pvNameToSamples().size();
+        }
+        return 1;
+    }
+
+    private static long toNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    private static void removeBefore(WaterfallPlotRuntime.PVData pvData, Instant instant) {
+        if (pvData instanceof WaterfallPlotRuntime.WaveformPVData waveformPVData) {
+            waveformPVData.samples().removeBefore(instant);
+        } else if (pvData instanceof WaterfallPlotRuntime.ScalarPVsData scalarPVsData) {
+            for (var pvNameAndSamples : scalarPVsData.pvNameToSamples()) {
+                pvNameAndSamples.getValue().removeBefore(instant);
+            }
+        }
+    }
+
+    /** Move rows towards the start, making room for new rows at the end */
+    private void shiftRows(long steps) {
+        if (steps == 0) {
+            return;
+        }
+        if (steps >= rows) {
+            Arrays.fill(zValues, Double.NaN);
+            Arrays.fill(sampleTimes, NO_SAMPLE);
+            return;
+        }
+        int shift = (int) steps;
+        if (timeOnXAxis) {
+            for (int m = 0; m < width; m++) {
+                System.arraycopy(zValues, m * rows + shift, zValues, m * rows, rows - shift);
+                Arrays.fill(zValues, m * rows + rows - shift, (m + 1) * rows, Double.NaN);
+            }
+        } else {
+            System.arraycopy(zValues, shift * width, zValues, 0, (rows - shift) * width);
+            Arrays.fill(zValues, (rows - shift) * width, rows * width, Double.NaN);
+        }
+        System.arraycopy(sampleTimes, shift * sources, sampleTimes, 0, (rows - shift) * sources);
+        Arrays.fill(sampleTimes, (rows - shift) * sources, rows * sources, NO_SAMPLE);
+    }
+
+    /** Allocate new arrays, all rows without values */
+    private void resize(int noOfRows, int newWidth, int newSources) {
+        zValues = new double[noOfRows * newWidth];
+        Arrays.fill(zValues, Double.NaN);
+        sampleTimes = new long[noOfRows * newSources];
+        Arrays.fill(sampleTimes, NO_SAMPLE);
+        timeValues = new double[noOfRows];
+        positionValues = new double[newWidth];
+        for (int d = 0; d < newWidth; d++) {
+            // This is needed so that the values align correctly with the axis:
+            positionValues[d] = (double) d * ((double) (newWidth + 1) / ((double) (newWidth)));
+        }
+    }
+
+    /** Compute rows from samples that are more recent than the ones used before */
+    private void computeRows(WaterfallPlotRuntime.PVData pvData, int firstRow) {
+        if (pvData instanceof WaterfallPlotRuntime.WaveformPVData waveformPVData) {
+            computeRows(waveformPVData.samples(), firstRow, (n, sample) -> {
+                if (sample == null || toNanos(sample.getKey()) < sampleTimes[n]) {
+                    return; // Keep row, NaN for absence of data at this point in time
+                }
+                sampleTimes[n] = toNanos(sample.getKey());
+                double[] waveform = sample.getValue();
+                for (int m = 0; m < width; m++) {
+                    setValue(n, m, m < waveform.length ? waveform[m] : Double.NaN);
+                }
+            });
+        } else if (pvData instanceof WaterfallPlotRuntime.ScalarPVsData scalarPVsData) {
+            int s = 0;
+            for (var pvNameAndSamples : scalarPVsData.pvNameToSamples()) {
+                final int source = s++;
+                computeRows(pvNameAndSamples.getValue(), firstRow, (n, sample) -> {
+                    int index = n * sources + source;
+                    if (sample == null || toNanos(sample.getKey()) < sampleTimes[index]) {
+                        return;
+                    }
+                    sampleTimes[index] = toNanos(sample.getKey());
+                    double value = sample.getValue();
+                    setValue(n, 2 * source, value);
+                    setValue(n, 2 * source + 1, value);
+                    if (source == sources - 1) {
+                        // Append the last value one more time in order to
+                        // fix the plotting when there is only 1 scalar PV:
+                        setValue(n, 2 * source + 2, value);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Assign samples to the time buckets of the rows, in one pass in time order
+     *
+     * The time bucket of row n starts after the time of row n-1 and ends at the time of row n.
+     * Only the most recent sample in a bucket is plotted, the others are removed.
+     * A row with an empty bucket shows the sample of the row before.
+     *
+     * @param samples Samples
+     * @param firstRow First row to compute
+     * @param update Called for each row with its sample
+     */
+    private <T> void computeRows(WaterfallPlotSamples<T> samples, int firstRow, RowUpdate<T> update) {
+        Instant bucketStart = getInstant(lastInstant, stepsize, rows, firstRow).minus(stepsize);
+        Iterator<Map.Entry<Instant, T>> iterator = samples.iterateFrom(bucketStart);
+        Map.Entry<Instant, T> sample = null;
+        Map.Entry<Instant, T> next = iterator.hasNext() ? iterator.next() : null;
+        // Sample that is plotted before the first bucket
+        while (next != null && !next.getKey().isAfter(bucketStart)) {
+            sample = next;
+            next = iterator.hasNext() ? iterator.next() : null;
+        }
+        for (int n = firstRow; n < rows; n++) {
+            Instant bucketEnd = getInstant(lastInstant, stepsize, rows, n);
+            boolean inBucket = false;
+            while (next != null && !next.getKey().isAfter(bucketEnd)) {
+                if (inBucket) {
+                    // Superseded by a more recent sample in the same bucket
+                    samples.remove(sample.getKey());
+                }
+                sample = next;
+                inBucket = true;
+                next = iterator.hasNext() ? iterator.next() : null;
+            }
+            update.update(n, sample);
+        }
+    }
+
+    private void setValue(int n, int m, double value) {
+        if (Double.isNaN(observedMin) || observedMin > value) {
+            observedMin = value;
+        }
+        if (Double.isNaN(observedMax) || observedMax < value) {
+            observedMax = value;
+        }
+        zValues[getIndex(timeOnXAxis, rows, width, n, m)] = value;
+    }
+}
@@ -25,7 +25,6 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Consumer;
 import java.util.logging.Level;
@@ -57,7 +56,7 @@ public class WaterfallPlotRuntime extends WidgetRuntime<WaterfallPlotWidget> {
         if (isWaveform) {
             pvData = new WaveformPVData(new AtomicDouble(Double.NaN),
                                         new AtomicDouble(Double.NaN),
-                                        new ConcurrentSkipListMap<>());
+                                        new WaterfallPlotSamples<>());
         }
         else {
             pvData = new ScalarPVsData(new AtomicDouble(Double.NaN),
@@ -69,13 +68,13 @@ public class WaterfallPlotRuntime extends WidgetRuntime<WaterfallPlotWidget> {
     }
 
     public sealed interface PVData permits WaveformPVData, ScalarPVsData {}
-    // The type ConcurrentSkipListMap is used for the data points to allow for concurrent insertions and deletions:
+    // Waveforms are kept as double[] instead of boxed values, since long time spans of large waveforms are common:
     public record WaveformPVData (AtomicDouble minFromPV,
                                   AtomicDouble maxFromPV,
-                                  ConcurrentSkipListMap<Instant, ArrayList<Double>> instantToValue) implements PVData {}
+                                  WaterfallPlotSamples<double[]> samples) implements PVData {}
     public record ScalarPVsData (AtomicDouble minFromPV,
                                  AtomicDouble maxFromPV,
-                                 ArrayList<Pair<String, ConcurrentSkipListMap<Instant, Double>>> pvNameToInstantToValue) implements PVData {}
+                                 ArrayList<Pair<String, WaterfallPlotSamples<Double>>> pvNameToSamples) implements PVData {}
 
     @Override
     public void start() {
@@ -87,11 +86,11 @@ public class WaterfallPlotRuntime extends WidgetRuntime<WaterfallPlotWidget> {
                 try {
                     RuntimePV runtimePV = PVFactory.getPV(pvName);
                     super.addPV(runtimePV, false);
-                    ConcurrentSkipListMap<Instant, Double> instantToValue = new ConcurrentSkipListMap<>();
-                    scalarPVsData.pvNameToInstantToValue.add(new Pair(pvName, instantToValue));
+                    WaterfallPlotSamples<Double> samples = new WaterfallPlotSamples<>();
+                    scalarPVsData.pvNameToSamples.add(new Pair<>(pvName, samples));
                     runtimePV.addListener((pv, vType) -> {
                         if (vType instanceof VNumber vnumber) {
-                            instantToValue.put(vnumber.getTime().getTimestamp(), vnumber.getValue().doubleValue());
+                            samples.add(vnumber.getTime().getTimestamp(), vnumber.getValue().doubleValue());
                             {
                                 Range displayRange = vnumber.getDisplay().getDisplayRange();
                                 double minFromPV = displayRange.getMinimum();
@@ -101,7 +100,7 @@ public class WaterfallPlotRuntime extends WidgetRuntime<WaterfallPlotWidget> {
                             }
                         }
                         else if (vType instanceof VEnum vEnum) {
-                            instantToValue.put(vEnum.getTime().getTimestamp(), (double) vEnum.getIndex());
+                            samples.add(vEnum.getTime().getTimestamp(), (double) vEnum.getIndex());
 
                             {
                                 int enumSize = vEnum.getDisplay().getChoices().size();
@@ -123,11 +122,11 @@ public class WaterfallPlotRuntime extends WidgetRuntime<WaterfallPlotWidget> {
                                 values -> {
                                     for (var vtype : values) {
                                         if (vtype instanceof VNumber vnumber) {
-                                            instantToValue.put(vnumber.getTime().getTimestamp(), vnumber.getValue().doubleValue());
+                                            samples.add(vnumber.getTime().getTimestamp(), vnumber.getValue().doubleValue());
                                         } else if (vtype instanceof VStatistics vstatistics) {
-                                            instantToValue.put(vstatistics.getTime().getTimestamp(), vstatistics.getAverage());
+                                            samples.add(vstatistics.getTime().getTimestamp(), vstatistics.getAverage());
                                         } else if (vtype instanceof VEnum vEnum) {
-                                            instantToValue.put(vEnum.getTime().getTimestamp(), (double) vEnum.getIndex());
+                                            samples.add(vEnum.getTime().getTimestamp(), (double) vEnum.getIndex());
                                         }
                                     }
                                 });
@@ -145,13 +144,8 @@ public class WaterfallPlotRuntime extends WidgetRuntime<WaterfallPlotWidget> {
                 runtimePV.addListener((pv, vType) -> {
                     if (vType instanceof VNumberArray vNumberArray) {
 
-                        int size = vNumberArray.getData().size();
-                        ArrayList<Double> waveform = new ArrayList<>(size);
-                        for (int m = 0; m < vNumberArray.getData().size(); m++) {
-                            var value = vNumberArray.getData().getDouble(m);
-                            waveform.add(value);
-                        }
-                        waveformPVData.instantToValue.put(vNumberArray.getTime().getTimestamp(), waveform);
+                        double[] waveform = vNumberArray.getData().toArray(new double[vNumberArray.getData().size()]);
+                        waveformPVData.samples.add(vNumberArray.getTime().getTimestamp(), waveform);
 
                         {
                             Range displayRange = vNumberArray.getDisplay().getDisplayRange();
@@ -162,15 +156,8 @@ public class WaterfallPlotRuntime extends WidgetRuntime<WaterfallPlotWidget> {
                         }
                     } else if (vType instanceof VEnumArray vEnumArray) {
 
-                        int size = vEnumArray.getData().size();
-                        ArrayList<Double> waveform = new ArrayList<>(size);
-                        ListNumber listNumber = vEnumArray.getIndexes();
-                        for (int m = 0; m < vEnumArray.getData().size(); m++) {
-                            var value = listNumber.getDouble(m);
-                            waveform.add(value);
-                        }
-
-                        waveformPVData.instantToValue.put(vEnumArray.getTime().getTimestamp(), waveform);
+                        double[] waveform = toArray(vEnumArray.getIndexes(), vEnumArray.getData().size());
+                        waveformPVData.samples.add(vEnumArray.getTime().getTimestamp(), waveform);
 
                         {
                             int enumSize = vEnumArray.getDisplay().getChoices().size();
@@ -191,26 +178,13 @@ public class WaterfallPlotRuntime extends WidgetRuntime<WaterfallPlotWidget> {
                                     for (var vtype : values) {
                                         if (vtype instanceof VNumberArray vNumberArray) {
 
-                                            int size = vNumberArray.getData().size();
-                                            ArrayList<Double> waveform = new ArrayList<>(size);
-                                            for (int m = 0; m < vNumberArray.getData().size(); m++) {
-                                                var value = vNumberArray.getData().getDouble(m);
-                                                waveform.add(value);
-                                            }
-
-                                            waveformPVData.instantToValue.put(vNumberArray.getTime().getTimestamp(), waveform);
+                                            double[] waveform = vNumberArray.getData().toArray(new double[vNumberArray.getData().size()]);
+                                            waveformPVData.samples.add(vNumberArray.getTime().getTimestamp(), waveform);
                                         }
                                         else if (vtype instanceof VEnumArray vEnumArray) {
 
-                                            int size = vEnumArray.getData().size();
-                                            ArrayList<Double> waveform = new ArrayList<>(size);
-                                            ListNumber listNumber = vEnumArray.getIndexes();
-                                            for (int m = 0; m < vEnumArray.getData().size(); m++) {
-                                                var value = listNumber.getDouble(m);
-                                                waveform.add(value);
-                                            }
-
-                                            waveformPVData.instantToValue.put(vEnumArray.getTime().getTimestamp(), waveform);
+                                            double[] waveform = toArray(vEnumArray.getIndexes(), vEnumArray.getData().size());
+                                            waveformPVData.samples.add(vEnumArray.getTime().getTimestamp(), waveform);
                                         }
                                     }
                                 }
@@ -225,6 +199,14 @@ public class WaterfallPlotRuntime extends WidgetRuntime<WaterfallPlotWidget> {
         }
     }
 
+    private static double[] toArray(ListNumber listNumber, int size) {
+        double[] waveform = new double[size];
+        for (int m = 0; m < size; m++) {
+            waveform[m] = listNumber.getDouble(m);
+        }
+        return waveform;
+    }
+
     @Override
     public void stop() {
         for (var pv : super.getPVs()) {
@@ -0,0 +1,61 @@
+package org.phoebus.applications.waterfallplotwidget;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Received samples of one PV, ordered by time.
+ *
+ * Samples are added by PV and archive threads while the plot is redrawn.
+ * The {@link WaterfallPlotGrid} removes samples that are older than its first row
+ * or superseded by a more recent sample in the time bucket of the same row.
+ * The time of the oldest sample added since the last redraw
+ * tells which rows need to be computed again, for example
+ * when archived samples arrive after live samples have been plotted.
+ */
+public class WaterfallPlotSamples<T> {
+    // The type ConcurrentSkipListMap is used for the data points to allow for concurrent insertions and deletions:
+    private final ConcurrentSkipListMap<Instant, T> instantToValue = new ConcurrentSkipListMap<>();
+
+    private final AtomicReference<Instant> changedSince = new AtomicReference<>();
+
+    public void add(Instant instant, T value) {
+        instantToValue.put(instant, value);
+        changedSince.accumulateAndGet(instant, (previous, added) -> previous == null || added.isBefore(previous) ? added : previous);
+    }
+
+    /** @return Time of the oldest sample added since the last call, or null if nothing was added */
+    public Instant takeChangedSince() {
+        return changedSince.getAndSet(null);
+    }
+
+    /** @return Samples in time order, starting with the most recent sample at or before the given time */
+    public Iterator<Map.Entry<Instant, T>> iterateFrom(Instant instant) {
+        Instant start = instantToValue.floorKey(instant);
+        if (start == null) {
+            return instantToValue.entrySet().iterator();
+        }
+        return instantToValue.tailMap(start, true).entrySet().iterator();
+    }
+
+    /** Remove the sample at the given time */
+    public void remove(Instant instant) {
+        instantToValue.remove(instant);
+    }
+
+    /** @return Values of all samples */
+    public Iterable<T> getValues() {
+        return instantToValue.values();
+    }
+
+    /** Remove samples that are no longer needed for rows at or after the given time */
+    public void removeBefore(Instant instant) {
+        Instant instantOfOldestRelevantKey = instantToValue.floorKey(instant);
+        if (instantOfOldestRelevantKey != null) {
+            instantToValue.headMap(instantOfOldestRelevantKey).clear();
+        }
+    }
+}
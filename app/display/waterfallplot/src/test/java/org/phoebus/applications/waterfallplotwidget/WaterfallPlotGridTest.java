@@ -0,0 +1,216 @@
+package org.phoebus.applications.waterfallplotwidget;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import javafx.util.Pair;
+import org.junit.jupiter.api.Test;
+import org.python.google.common.util.concurrent.AtomicDouble;
+
+/**
+ * JUnit test of the {@link WaterfallPlotGrid}
+ *
+ * Compares the grid with the algorithm that the plot used before the grid,
+ * which computed all rows from the samples on each redraw.
+ */
+public class WaterfallPlotGridTest {
+    private static final Instant START = Instant.ofEpochSecond(1_700_000_000);
+    private static final Duration STEP = Duration.ofMillis(250);
+
+    private final Random random = new Random(42);
+
+    /** Grid values as computed by the previous algorithm */
+    private record Reference(double[] timeValues, double[] zValues) {}
+
+    private static <T> void garbageCollect(ConcurrentSkipListMap<Instant, T> instantToValue, Instant t1) {
+        Instant instantOfOldestRelevantKey = instantToValue.floorKey(t1);
+        if (instantOfOldestRelevantKey != null) {
+            instantToValue.headMap(instantOfOldestRelevantKey).clear();
+        }
+    }
+
+    private static Reference reference(List<double[]> zValuesList, List<Double> timeValuesList, int width, boolean timeOnX) {
+        double[] timeValues = new double[timeValuesList.size()];
+        for (int n = 0; n < timeValues.length; n++) {
+            timeValues[n] = timeValuesList.get(n);
+        }
+        int rows = zValuesList.size();
+        double[] zValues = new double[width * rows];
+        for (int n = 0; n < rows; n++) {
+            double[] row = zValuesList.get(n);
+            for (int m = 0; m < width; m++) {
+                double value = row != null && m < row.length ? row[m] : Double.NaN;
+                zValues[timeOnX ? n + m * rows : m + n * width] = value;
+            }
+        }
+        return new Reference(timeValues, zValues);
+    }
+
+    /** Previous algorithm for a waveform PV */
+    private static Reference waveformReference(ConcurrentSkipListMap<Instant, double[]> instantToWaveform,
+                                               int rows, Duration step, Instant t2, boolean timeOnX) {
+        Instant t1 = t2.minus(step.multipliedBy(rows));
+        garbageCollect(instantToWaveform, t1);
+        List<Double> timeValues = new ArrayList<>();
+        List<double[]> zValues = new ArrayList<>();
+        int waveformLength = 1;
+        Instant startKey = instantToWaveform.isEmpty() ? null : instantToWaveform.firstKey();
+        Instant previousInstant = null;
+        for (Instant t = t1.plus(step); t.compareTo(t2) <= 0; t = t.plus(step)) {
+            timeValues.add(((double) t.toEpochMilli()) / 1000.0);
+            if (startKey == null || t.isBefore(startKey)) {
+                zValues.add(null);
+            } else {
+                Instant instant = instantToWaveform.floorKey(t);
+                double[] waveform = instantToWaveform.get(instant);
+                waveformLength = Math.max(waveformLength, waveform.length);
+                zValues.add(waveform);
+                if (previousInstant != null) {
+                    // Remove data points that are not plotted
+                    instantToWaveform.subMap(previousInstant, false, instant, false).clear();
+                }
+                previousInstant = instant;
+            }
+        }
+        return reference(zValues, timeValues, waveformLength, timeOnX);
+    }
+
+    /** Previous algorithm for scalar PVs */
+    private static Reference scalarReference(List<ConcurrentSkipListMap<Instant, Double>> pvs,
+                                             int rows, Duration step, Instant t2, boolean timeOnX) {
+        Instant t1 = t2.minus(step.multipliedBy(rows));
+        pvs.forEach(instantToValue -> garbageCollect(instantToValue, t1));
+        List<Double> timeValues = new ArrayList<>();
+        List<double[]> zValues = new ArrayList<>();
+        Instant[] previousInstants = new Instant[pvs.size()];
+        for (Instant t = t1.plus(step); t.compareTo(t2) <= 0; t = t.plus(step)) {
+            timeValues.add(((double) t.toEpochMilli()) / 1000.0);
+            double[] row = new double[2 * pvs.size() + 1];
+            for (int s = 0; s < pvs.size(); s++) {
+                ConcurrentSkipListMap<Instant, Double> instantToValue = pvs.get(s);
+                Instant instant = instantToValue.floorKey(t);
+                if (instant == null) {
+                    row[2 * s] = row[2 * s + 1] = Double.NaN;
+                } else {
+                    row[2 * s] = row[2 * s + 1] = instantToValue.get(instant);
+                    if (previousInstants[s] != null) {
+                        instantToValue.subMap(previousInstants[s], false, instant, false).clear();
+                    }
+                    previousInstants[s] = instant;
+                }
+            }
+            row[row.length - 1] = row[row.length - 2];
+            zValues.add(row);
+        }
+        return reference(zValues, timeValues, 2 * pvs.size() + 1, timeOnX);
+    }
+
+    private static void assertSame(WaterfallPlotGrid grid, Reference expected, boolean timeOnX) {
+        double[][] xy = grid.getGrid();
+        assertArrayEquals(expected.timeValues(), timeOnX ? xy[0] : xy[1]);
+        assertArrayEquals(expected.zValues(), grid.getZValues());
+    }
+
+    private double[] waveform(int length) {
+        double[] waveform = new double[length];
+        for (int i = 0; i < length; i++) {
+            waveform[i] = random.nextGaussian();
+        }
+        return waveform;
+    }
+
+    @Test
+    public void testWaveform() {
+        for (boolean timeOnX : new boolean[]{true, false}) {
+            WaterfallPlotRuntime.WaveformPVData pvData = new WaterfallPlotRuntime.WaveformPVData(new AtomicDouble(Double.NaN),
+                    new AtomicDouble(Double.NaN), new WaterfallPlotSamples<>());
+            ConcurrentSkipListMap<Instant, double[]> referenceSamples = new ConcurrentSkipListMap<>();
+            WaterfallPlotGrid grid = new WaterfallPlotGrid();
+
+            int rows = 40;
+            Instant sampleTime = START;
+            Instant t2 = START;
+            for (int redraw = 0; redraw < 300; redraw++) {
+                // Waveforms at 10 Hz, more than one per row
+                t2 = t2.plus(STEP.multipliedBy(random.nextInt(4)));
+                while (!sampleTime.isAfter(t2)) {
+                    double[] waveform = waveform(20);
+                    pvData.samples().add(sampleTime, waveform);
+                    referenceSamples.put(sampleTime, waveform);
+                    sampleTime = sampleTime.plusMillis(100);
+                }
+                // Resize the plot a few times
+                if (redraw == 100) {
+                    rows = 25;
+                } else if (redraw == 200) {
+                    rows = 60;
+                }
+                grid.update(pvData, rows, STEP, t2, timeOnX);
+                assertSame(grid, waveformReference(referenceSamples, rows, STEP, t2, timeOnX), timeOnX);
+            }
+        }
+    }
+
+    @Test
+    public void testScalarsWithLateSamples() {
+        WaterfallPlotRuntime.ScalarPVsData pvData = new WaterfallPlotRuntime.ScalarPVsData(new AtomicDouble(Double.NaN),
+                new AtomicDouble(Double.NaN), new ArrayList<>());
+        List<ConcurrentSkipListMap<Instant, Double>> referenceSamples = new ArrayList<>();
+        for (int s = 0; s < 3; s++) {
+            pvData.pvNameToSamples().add(new Pair<>("pv" + s, new WaterfallPlotSamples<>()));
+            referenceSamples.add(new ConcurrentSkipListMap<>());
+        }
+        WaterfallPlotGrid grid = new WaterfallPlotGrid();
+
+        int rows = 50;
+        Instant t2 = START;
+        for (int redraw = 0; redraw < 300; redraw++) {
+            t2 = t2.plus(STEP.multipliedBy(random.nextInt(3)));
+            for (int s = 0; s < 3; s++) {
+                // Some samples are recent, others arrive late, like archived samples
+                for (int i = random.nextInt(4); i > 0; i--) {
+                    long age = random.nextInt(4) == 0 ? random.nextInt((int) STEP.toMillis() * (rows + 10)) : random.nextInt(300);
+                    Instant time = t2.minusMillis(age);
+                    double value = random.nextDouble();
+                    pvData.pvNameToSamples().get(s).getValue().add(time, value);
+                    referenceSamples.get(s).put(time, value);
+                }
+            }
+            grid.update(pvData, rows, STEP, t2, true);
+            assertSame(grid, scalarReference(referenceSamples, rows, STEP, t2, true), true);
+        }
+    }
+
+    @Test
+    public void testObservedRange() {
+        WaterfallPlotRuntime.ScalarPVsData pvData = new WaterfallPlotRuntime.ScalarPVsData(new AtomicDouble(Double.NaN),
+                new AtomicDouble(Double.NaN), new ArrayList<>());
+        WaterfallPlotSamples<Double> samples = new WaterfallPlotSamples<>();
+        pvData.pvNameToSamples().add(new Pair<>("pv", samples));
+        WaterfallPlotGrid grid = new WaterfallPlotGrid();
+
+        samples.add(START, 100.0);
+        samples.add(START.plus(STEP), 1.0);
+        samples.add(START.plus(STEP.multipliedBy(2)), 2.0);
+        grid.update(pvData, 10, STEP, START.plus(STEP.multipliedBy(2)), true);
+        assertThat(grid.getObservedMin(), equalTo(1.0));
+        assertThat(grid.getObservedMax(), equalTo(100.0));
+
+        // The range covers values that have scrolled out of the plot until it's reset
+        Instant end = START.plus(STEP.multipliedBy(20));
+        grid.update(pvData, 10, STEP, end, true);
+        assertThat(grid.getObservedMax(), equalTo(100.0));
+        grid.reset();
+        grid.update(pvData, 10, STEP, end, true);
+        assertThat(grid.getObservedMin(), equalTo(2.0));
+        assertThat(grid.getObservedMax(), equalTo(2.0));
+    }
+}
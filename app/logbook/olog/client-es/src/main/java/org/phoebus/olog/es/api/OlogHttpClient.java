@@ -24,6 +24,7 @@ import org.phoebus.logbook.Tag;
 import org.phoebus.olog.es.api.model.OlogLog;
 import org.phoebus.olog.es.api.model.OlogObjectMappers;
 import org.phoebus.olog.es.api.model.OlogSearchResult;
+import org.phoebus.olog.es.api.model.OlogSearchResultReader;
 import org.phoebus.olog.es.authentication.LoginCredentials;
 import org.phoebus.security.authorization.AuthenticationStatus;
 import org.phoebus.security.store.SecureStore;
@@ -60,6 +61,7 @@ import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -342,10 +344,11 @@ import static java.lang.Thread.sleep;
      * Calls service to retrieve log entries based on the search parameters
      *
      * @param searchParams Potentially empty map of multi-valued search parameters.
+     * @param logEntryConsumer Called with each log entry while the response is parsed.
      * @return A {@link SearchResult} containing log entries matching search parameters.
      * @throws RuntimeException If error occurs, e.g. bad request due to unsupported or malformed search parameter(s).
      */
-    private SearchResult findLogs(MultivaluedMap<String, String> searchParams) throws RuntimeException {
+    private SearchResult findLogs(MultivaluedMap<String, String> searchParams, Consumer<LogEntry> logEntryConsumer) throws RuntimeException {
         HttpRequest request = HttpRequest.newBuilder()
                 .uri(URI.create(Preferences.olog_url +
                         "/logs/search?" + QueryParamsHelper.mapToQueryParams(searchParams)))
@@ -354,10 +357,28 @@ import static java.lang.Thread.sleep;
                 .GET()
                 .build();
         try {
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            OlogSearchResult searchResult = OlogObjectMappers.logEntryDeserializer.readValue(response.body(), OlogSearchResult.class);
-            return SearchResult.of(new ArrayList<>(searchResult.getLogs()),
-                    searchResult.getHitCount());
+            long start = System.nanoTime();
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                if (response.statusCode() >= 300) {
+                    throw new Exception("HTTP " + response.statusCode() + ": " + new String(body.readAllBytes(), StandardCharsets.UTF_8));
+                }
+                // Parse the response while it is received, handing out each log entry right away
+                List<LogEntry> logs = new ArrayList<>();
+                long[] firstEntry = {0};
+                int hitCount = OlogSearchResultReader.read(body, logEntry -> {
+                    if (logs.isEmpty()) {
+                        firstEntry[0] = System.nanoTime();
+                    }
+                    logs.add(logEntry);
+                    logEntryConsumer.accept(logEntry);
+                });
+                LOGGER.log(Level.FINE, () -> String.format("Search returned %d of %d log entries, first after %.1f ms, all after %.1f ms",
+                        logs.size(), hitCount,
+                        logs.isEmpty() ? 0.0 : (firstEntry[0] - start) / 1e6,
+                        (System.nanoTime() - start) / 1e6));
+                return SearchResult.of(logs, hitCount);
+            }
         } catch (Exception e) {
             LOGGER.log(Level.WARNING, "failed to retrieve log entries", e);
             throw new RuntimeException(e);
@@ -443,9 +464,15 @@ import static java.lang.Thread.sleep;
 
     @Override
     public SearchResult search(Map<String, String> map) {
+        return search(map, logEntry -> {
+        });
+    }
+
+    @Override
+    public SearchResult search(Map<String, String> map, Consumer<LogEntry> logEntryConsumer) {
         MultivaluedMap<String, String> mMap = new MultivaluedHashMap<>();
         map.forEach(mMap::putSingle);
-        return findLogs(mMap);
+        return findLogs(mMap, logEntryConsumer);
     }
 
     /**
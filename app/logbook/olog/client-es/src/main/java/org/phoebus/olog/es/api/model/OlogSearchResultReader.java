@@ -0,0 +1,53 @@
+package org.phoebus.olog.es.api.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.phoebus.logbook.LogEntry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Incremental reader for the response of the log entry search.
+ *
+ * <p>Unlike reading the complete {@link OlogSearchResult}, each log entry
+ * is passed on as soon as it has been parsed, while the rest of the
+ * response is still being received.
+ */
+public class OlogSearchResultReader {
+
+    private OlogSearchResultReader() {
+    }
+
+    /**
+     * Read search result
+     *
+     * @param stream   Stream with the JSON of an {@link OlogSearchResult}
+     * @param consumer Called with each log entry, in the order of the response
+     * @return Total number of log entries matching the search
+     * @throws IOException on error
+     */
+    public static int read(InputStream stream, Consumer<LogEntry> consumer) throws IOException {
+        int hitCount = 0;
+        try (JsonParser parser = OlogObjectMappers.logEntryDeserializer.getFactory().createParser(stream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected search result object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.getCurrentName();
+                final JsonToken token = parser.nextToken();
+                if ("hitCount".equals(field)) {
+                    hitCount = parser.getValueAsInt();
+                } else if ("logs".equals(field) && token == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        consumer.accept(OlogObjectMappers.logEntryDeserializer.readValue(parser, OlogLog.class));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return hitCount;
+    }
+}
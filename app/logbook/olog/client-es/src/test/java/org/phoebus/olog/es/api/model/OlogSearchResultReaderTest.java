@@ -0,0 +1,57 @@
+package org.phoebus.olog.es.api.model;
+
+import org.junit.jupiter.api.Test;
+import org.phoebus.logbook.LogEntry;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OlogSearchResultReaderTest {
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testRead() throws IOException {
+        String json = "{\"hitCount\":42,\"logs\":[" +
+                "{\"id\":1,\"title\":\"First\",\"owner\":\"a\",\"logbooks\":[{\"name\":\"ops\"}],\"properties\":[]}," +
+                "{\"id\":2,\"title\":\"Second\",\"unknown\":{\"nested\":[1,2]}}" +
+                "]}";
+        List<LogEntry> logs = new ArrayList<>();
+        int hitCount = OlogSearchResultReader.read(stream(json), logs::add);
+        assertEquals(42, hitCount);
+        assertEquals(2, logs.size());
+        assertEquals(1L, logs.get(0).getId());
+        assertEquals("First", logs.get(0).getTitle());
+        assertEquals("ops", logs.get(0).getLogbooks().iterator().next().getName());
+        assertEquals("Second", logs.get(1).getTitle());
+    }
+
+    @Test
+    public void testFieldOrder() throws IOException {
+        // Hit count after the log entries, other fields are skipped
+        String json = "{\"logs\":[{\"id\":7}],\"other\":[{\"a\":1}],\"hitCount\":1}";
+        List<LogEntry> logs = new ArrayList<>();
+        assertEquals(1, OlogSearchResultReader.read(stream(json), logs::add));
+        assertEquals(7L, logs.get(0).getId());
+
+        assertEquals(0, OlogSearchResultReader.read(stream("{\"hitCount\":0,\"logs\":[]}"), logs::add));
+        assertEquals(1, logs.size());
+    }
+
+    @Test
+    public void testError() {
+        assertThrows(IOException.class, () -> OlogSearchResultReader.read(stream("[]"), log -> {
+        }));
+        assertThrows(IOException.class, () -> OlogSearchResultReader.read(stream("{\"hitCount\":1,\"logs\":[{\"id\":"), log -> {
+        }));
+    }
+}
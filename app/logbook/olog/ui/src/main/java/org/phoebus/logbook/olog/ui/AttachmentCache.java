@@ -0,0 +1,329 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.logbook.olog.ui;
+
+import org.phoebus.framework.jobs.NamedThreadFactory;
+import org.phoebus.framework.workbench.Locations;
+import org.phoebus.logbook.Attachment;
+import org.phoebus.logbook.LogClient;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Disk cache for log entry attachments.
+ *
+ * <p>Attachments are kept in the user location, named by a hash of the service URL
+ * and their attachment id, so they are shared by the log entry views and the report export
+ * and remain available after a restart.
+ * Downloads run on a small pool of threads, so several attachments
+ * are fetched at once without flooding the service.
+ * Once the cache exceeds its size limit, the least recently used files are removed,
+ * unless a {@link Hold} keeps them while they are in use.
+ *
+ * <p>Image previews use downscaled thumbnails, which are also kept in the cache.
+ */
+@SuppressWarnings("nls")
+public class AttachmentCache {
+
+    private static final Logger logger = Logger.getLogger(AttachmentCache.class.getName());
+
+    /** Image formats that JavaFX can show without conversion */
+    private static final Set<String> JAVAFX_FORMATS = Set.of("png", "jpeg", "gif", "bmp");
+
+    /** Image formats used for thumbnails */
+    private static final List<String> THUMBNAIL_FORMATS = List.of("jpg", "png");
+
+    /** Keeps files in the cache until closed */
+    public interface Hold extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static AttachmentCache instance;
+
+    private final File directory;
+    private final File thumbnails;
+    private final long max_bytes;
+    private final ExecutorService downloads;
+    private final ExecutorService housekeeping = Executors.newSingleThreadExecutor(new NamedThreadFactory("OlogAttachmentCache"));
+
+    /** Downloads in progress, by file name */
+    private final ConcurrentHashMap<String, CompletableFuture<File>> pending = new ConcurrentHashMap<>();
+
+    /** Approximate size of all files in the cache */
+    private final AtomicLong size = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    /** Number of open holds. SYNC on this */
+    private int holds = 0;
+
+    /**
+     * @return Singleton instance, using the log-attachments folder in the user location
+     */
+    public static synchronized AttachmentCache getInstance() {
+        if (instance == null) {
+            instance = new AttachmentCache(new File(Locations.user(), "log-attachments"),
+                    LogbookUIPreferences.attachment_cache_size_mb * 1024L * 1024L,
+                    LogbookUIPreferences.attachment_fetch_threads);
+        }
+        return instance;
+    }
+
+    /**
+     * @param directory Cache directory
+     * @param max_bytes Size limit for the cache
+     * @param threads   Number of concurrent downloads
+     */
+    AttachmentCache(File directory, long max_bytes, int threads) {
+        this.directory = directory;
+        this.thumbnails = new File(directory, "thumbnails");
+        this.max_bytes = max_bytes;
+        thumbnails.mkdirs();
+        downloads = Executors.newFixedThreadPool(Math.max(1, threads), new NamedThreadFactory("OlogAttachmentFetch"));
+        // Determine size of existing files, and trim to size limit
+        evicting.set(true);
+        housekeeping.execute(this::evict);
+    }
+
+    /**
+     * @param client     Client for the service that holds the attachment
+     * @param logId      Log entry id
+     * @param attachment Attachment of that log entry
+     * @return File for the attachment in the cache. File may not exist, yet.
+     */
+    public File getFile(LogClient client, Long logId, Attachment attachment) {
+        final String name = attachment.getName() == null ? "" : attachment.getName();
+        final String id = attachment.getId();
+        // Attachment ids are only unique within one service
+        final String key = hash(client.getServiceUrl() + "/" +
+                (id == null || id.isBlank() ? logId + "/" + name : id));
+        // Keep file extension, needed to open the file in other applications
+        final int dot = name.lastIndexOf('.');
+        return new File(directory, dot >= 0 ? key + name.substring(dot) : key);
+    }
+
+    /**
+     * Fetch attachment into the cache
+     *
+     * @param client     Client used to download the attachment
+     * @param logId      Log entry id
+     * @param attachment Attachment of that log entry
+     * @return Future for the cached file
+     */
+    public CompletableFuture<File> fetch(LogClient client, Long logId, Attachment attachment) {
+        final File file = getFile(client, logId, attachment);
+        if (file.exists()) {
+            file.setLastModified(System.currentTimeMillis());
+            return CompletableFuture.completedFuture(file);
+        }
+        // Several views may request the same attachment, only download it once.
+        // Removal is attached outside of computeIfAbsent, because it runs right away
+        // when the download is already done, and must not update the map while it's computing.
+        final CompletableFuture<File> future = pending.computeIfAbsent(file.getName(), name ->
+                CompletableFuture.supplyAsync(() -> download(client, logId, attachment, file), downloads));
+        future.whenComplete((result, error) -> pending.remove(file.getName(), future));
+        return future;
+    }
+
+    /**
+     * Keep files in the cache, for example while they are copied.
+     *
+     * <p>Files are not removed from the cache until the hold is closed.
+     * The cache may exceed its size limit in the meantime.
+     *
+     * @return {@link Hold} that must be closed
+     */
+    public Hold hold() {
+        synchronized (this) {
+            ++holds;
+        }
+        final AtomicBoolean open = new AtomicBoolean(true);
+        return () -> {
+            if (!open.getAndSet(false)) {
+                return;
+            }
+            synchronized (this) {
+                --holds;
+            }
+            added(0);
+        };
+    }
+
+    private File download(LogClient client, Long logId, Attachment attachment, File file) {
+        final long start = System.nanoTime();
+        final File part = new File(directory, file.getName() + ".part");
+        try (InputStream stream = client.getAttachment(logId, attachment.getName())) {
+            if (stream == null) {
+                throw new Exception("No data for attachment '" + attachment.getName() + "' of log entry " + logId);
+            }
+            Files.copy(stream, part.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            Files.move(part.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (Exception ex) {
+            part.delete();
+            throw new CompletionException(ex);
+        }
+        logger.log(Level.FINE, () -> String.format("Fetched attachment %s (%d kB) in %.1f ms",
+                file.getName(), file.length() / 1024, (System.nanoTime() - start) / 1e6));
+        added(file.length());
+        return file;
+    }
+
+    /**
+     * Get image for a preview
+     *
+     * <p>Decodes the image at reduced resolution, scales it to fit the size
+     * and caches the result.
+     * Small images that JavaFX can show are used as they are.
+     *
+     * @param image Image file
+     * @param max_size Maximum width and height of preview
+     * @return Preview image file or <code>null</code> if file is not a supported image
+     * @throws Exception on error
+     */
+    public File getThumbnail(File image, int max_size) throws Exception {
+        final String key = hash(image.getAbsolutePath() + "/" + image.length() + "/" + image.lastModified() + "/" + max_size);
+        for (String format : THUMBNAIL_FORMATS) {
+            final File thumbnail = new File(thumbnails, key + "." + format);
+            if (thumbnail.exists()) {
+                thumbnail.setLastModified(System.currentTimeMillis());
+                return thumbnail;
+            }
+        }
+
+        final BufferedImage decoded;
+        try (ImageInputStream in = ImageIO.createImageInputStream(image)) {
+            final Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            final ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                final int width = reader.getWidth(0), height = reader.getHeight(0);
+                if (width <= max_size && height <= max_size &&
+                        JAVAFX_FORMATS.contains(reader.getFormatName().toLowerCase())) {
+                    return image;
+                }
+                // Only decode every n-th pixel, enough for the preview size
+                final ImageReadParam param = reader.getDefaultReadParam();
+                final int subsampling = Math.max(1, Math.max(width, height) / max_size);
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                decoded = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        final double scale = Math.min(1.0, (double) max_size / Math.max(decoded.getWidth(), decoded.getHeight()));
+        final int width = Math.max(1, (int) Math.round(decoded.getWidth() * scale));
+        final int height = Math.max(1, (int) Math.round(decoded.getHeight() * scale));
+        final boolean alpha = decoded.getColorModel().hasAlpha();
+        final BufferedImage scaled = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        final Graphics2D gc = scaled.createGraphics();
+        gc.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        gc.drawImage(decoded, 0, 0, width, height, null);
+        gc.dispose();
+
+        // JPEG is faster to write and smaller, but only PNG keeps transparency
+        final String format = alpha ? "png" : "jpg";
+        final File thumbnail = new File(thumbnails, key + "." + format);
+        final File part = new File(thumbnails, thumbnail.getName() + ".part");
+        ImageIO.write(scaled, format, part);
+        Files.move(part.toPath(), thumbnail.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        added(thumbnail.length());
+        return thumbnail;
+    }
+
+    private void added(long bytes) {
+        if (size.addAndGet(bytes) > max_bytes && evicting.compareAndSet(false, true)) {
+            housekeeping.execute(this::evict);
+        }
+    }
+
+    /** Remove least recently used files until cache is below its size limit */
+    private void evict() {
+        try {
+            final List<File> files = new ArrayList<>();
+            for (File dir : new File[]{directory, thumbnails}) {
+                final File[] content = dir.listFiles(file -> file.isFile() && !file.getName().endsWith(".part"));
+                if (content != null) {
+                    files.addAll(List.of(content));
+                }
+            }
+            long total = 0;
+            for (File file : files) {
+                total += file.length();
+            }
+            if (total > max_bytes) {
+                // Leave some room, so eviction doesn't run again right away
+                final long target = max_bytes / 10 * 9;
+                files.sort(Comparator.comparingLong(File::lastModified));
+                int removed = 0;
+                for (File file : files) {
+                    if (total <= target) {
+                        break;
+                    }
+                    final long length = file.length();
+                    synchronized (this) {
+                        // Closing the last hold will check the size again
+                        if (holds > 0) {
+                            break;
+                        }
+                        if (file.delete()) {
+                            total -= length;
+                            ++removed;
+                        }
+                    }
+                }
+                logger.log(Level.FINE, "Removed " + removed + " files from attachment cache " + directory);
+            }
+            size.set(total);
+        } catch (Exception ex) {
+            logger.log(Level.WARNING, "Cannot clean attachment cache " + directory, ex);
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static String hash(String text) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            return String.format("%040x", new BigInteger(1, digest.digest(text.getBytes(StandardCharsets.UTF_8))));
+        } catch (Exception ex) {
+            // SHA-1 is always supported
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -26,7 +26,6 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.embed.swing.SwingFXUtils;
 import javafx.fxml.FXML;
 import javafx.scene.Cursor;
 import javafx.scene.control.ContextMenu;
@@ -53,8 +52,6 @@ import org.phoebus.ui.application.PhoebusApplication;
 import org.phoebus.ui.dialog.ExceptionDetailsErrorDialog;
 import org.phoebus.ui.javafx.ImageCache;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
@@ -279,20 +276,22 @@ public class AttachmentsViewController {
      */
     private void showImagePreview(Attachment attachment) {
         if (attachment.getFile() != null && attachment.getFile().exists()) {
-            // Load image data off UI thread...
+            // Load image data off UI thread, using a downscaled copy for large images
             JobManager.schedule("Show image attachment", monitor -> {
                 try {
-                    BufferedImage bufferedImage = ImageIO.read(attachment.getFile());
-                    // BufferedImage may be null due to lazy loading strategy.
-                    if (bufferedImage == null) {
+                    File preview = AttachmentCache.getInstance().getThumbnail(attachment.getFile(), LogbookUIPreferences.attachment_preview_size);
+                    if (preview == null) {
                         return;
                     }
+                    Image image = new Image(preview.toURI().toString());
+                    if (image.isError()) {
+                        throw new IOException("Cannot decode " + preview, image.getException());
+                    }
                     Platform.runLater(() -> {
-                        Image image = SwingFXUtils.toFXImage(bufferedImage, null);
                         imagePreview.visibleProperty().setValue(true);
                         imagePreview.setImage(image);
                     });
-                } catch (IOException ex) {
+                } catch (Exception ex) {
                     Logger.getLogger(AttachmentsViewController.class.getName())
                             .log(Level.SEVERE, "Unable to load image file " + attachment.getFile().getAbsolutePath(), ex);
                 }
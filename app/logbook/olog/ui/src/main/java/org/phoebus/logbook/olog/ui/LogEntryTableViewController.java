@@ -66,18 +66,18 @@ import org.phoebus.ui.dialog.ExceptionDetailsErrorDialog;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.net.URI;
 import java.net.URLEncoder;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
@@ -141,6 +141,19 @@ public class LogEntryTableViewController extends LogbookSearchController impleme
     private Label openAdvancedSearchLabel;
     // Model
     private SearchResult searchResult;
+    /**
+     * Parameters of the search result shown in the table
+     */
+    private volatile Map<String, String> searchResultParams;
+    /**
+     * Recently shown and prefetched pages of the current query
+     */
+    private volatile SearchResultCache searchResultCache = new SearchResultCache(LogbookUIPreferences.search_result_cache_size,
+            LogbookUIPreferences.search_result_cache_secs * 1000L);
+    /**
+     * Incremented for each search, so that results of outdated searches are ignored
+     */
+    private final AtomicLong searchCount = new AtomicLong();
 
     /**
      * List of selected log entries
@@ -308,7 +321,7 @@ public class LogEntryTableViewController extends LogbookSearchController impleme
 
         searchResultView.disableProperty().bind(searchInProgress);
 
-        pagination.currentPageIndexProperty().addListener((a, b, c) -> search());
+        pagination.currentPageIndexProperty().addListener((a, b, c) -> searchPage());
 
         pageSizeTextField.setText(Integer.toString(pageSizeProperty.get()));
 
@@ -405,6 +418,17 @@ public class LogEntryTableViewController extends LogbookSearchController impleme
      */
     @Override
     public void search() {
+        // New query or new log entries, so previously cached pages may be outdated
+        searchResultCache = new SearchResultCache(LogbookUIPreferences.search_result_cache_size,
+                LogbookUIPreferences.search_result_cache_secs * 1000L);
+        searchPage();
+    }
+
+    /**
+     * Performs a search for the current page. A page that has been shown or prefetched recently
+     * is taken from the cache. Otherwise, the rows of a new page are shown while they are received.
+     */
+    private void searchPage() {
         // In case the page size text field is empty, or the value is zero, set the page size to the default
         if ("".equals(pageSizeTextField.getText()) || Integer.parseInt(pageSizeTextField.getText()) == 0) {
             pageSizeTextField.setText(Integer.toString(LogbookUIPreferences.search_result_page_size));
@@ -423,22 +447,27 @@ public class LogEntryTableViewController extends LogbookSearchController impleme
         params.put("size", Integer.toString(pageSizeProperty.get()));
         params.put("tz", ZoneId.systemDefault().getId());
 
+        final long searchId = searchCount.incrementAndGet();
+        final SearchResultCache cache = searchResultCache;
+        SearchResult cachedResult = cache.get(params);
+        if (cachedResult != null) {
+            logger.log(Level.FINE, () -> "Cached search: " + queryString + ", from " + params.get("from"));
+            handleSearchResult(searchId, cache, params, queryString, cachedResult);
+            return;
+        }
 
         searchInProgress.set(true);
         logger.log(Level.INFO, "Single search: " + queryString);
+        // Show rows as they arrive, unless the search only refreshes the rows already shown,
+        // which would lose the selection
+        final long start = System.nanoTime();
         search(params,
+                params.equals(searchResultParams) ? logEntry -> {
+                } : createRowConsumer(searchId, start),
                 searchResult1 -> {
-                    searchInProgress.set(false);
-                    setSearchResult(searchResult1);
-                    List<OlogQuery> queries = ologQueryManager.getQueries();
-                    if (connectivityModeObjectProperty.get().equals(ConnectivityMode.HTTP_ONLY)) {
-                        logger.log(Level.INFO, "Starting periodic search: " + queryString);
-                        periodicSearch(params, this::setSearchResult);
-                    }
-                    Platform.runLater(() -> {
-                        ologQueries.setAll(queries);
-                        query.getSelectionModel().select(ologQueries.get(0));
-                    });
+                    logger.log(Level.FINE, () -> String.format("Search result with %d rows after %.1f ms",
+                            searchResult1.getLogs().size(), (System.nanoTime() - start) / 1e6));
+                    handleSearchResult(searchId, cache, params, queryString, searchResult1);
                 },
                 (msg, ex) -> {
                     searchInProgress.set(false);
@@ -446,6 +475,95 @@ public class LogEntryTableViewController extends LogbookSearchController impleme
                 });
     }
 
+    /**
+     * @param searchId Number of the search
+     * @param start    Start time of the search, see {@link System#nanoTime()}
+     * @return Consumer that adds received log entries to the table, batched on the UI thread
+     */
+    private Consumer<LogEntry> createRowConsumer(long searchId, long start) {
+        // Log entries received but not yet shown. SYNC on this
+        final List<LogEntry> received = new ArrayList<>();
+        final AtomicBoolean updatePending = new AtomicBoolean();
+        final AtomicBoolean firstRows = new AtomicBoolean(true);
+        return logEntry -> {
+            synchronized (received) {
+                received.add(logEntry);
+            }
+            if (!updatePending.compareAndSet(false, true)) {
+                return;
+            }
+            Platform.runLater(() -> {
+                updatePending.set(false);
+                final List<LogEntry> batch;
+                synchronized (received) {
+                    batch = new ArrayList<>(received);
+                    received.clear();
+                }
+                // Skip rows of an outdated search
+                if (batch.isEmpty() || searchId != searchCount.get()) {
+                    return;
+                }
+                boolean showDetailsBoolean = showDetails.get();
+                var rows = batch.stream().map(le -> new TableViewListItem(le, showDetailsBoolean)).toList();
+                if (firstRows.getAndSet(false)) {
+                    tableView.setItems(FXCollections.observableArrayList(rows));
+                    logger.log(Level.FINE, () -> String.format("First search result rows shown after %.1f ms",
+                            (System.nanoTime() - start) / 1e6));
+                } else {
+                    tableView.getItems().addAll(rows);
+                }
+            });
+        };
+    }
+
+    private void handleSearchResult(long searchId, SearchResultCache cache, Map<String, String> params,
+                                    String queryString, SearchResult searchResult) {
+        cache.put(params, searchResult);
+        // Result of an outdated search, for example when quickly moving through the pages
+        if (searchId != searchCount.get()) {
+            return;
+        }
+        searchInProgress.set(false);
+        searchResultParams = params;
+        setSearchResult(searchResult);
+        prefetchNextPage(cache, params, searchResult.getHitCount());
+        List<OlogQuery> queries = ologQueryManager.getQueries();
+        if (connectivityModeObjectProperty.get().equals(ConnectivityMode.HTTP_ONLY)) {
+            logger.log(Level.INFO, "Starting periodic search: " + queryString);
+            periodicSearch(params, result -> {
+                cache.put(params, result);
+                setSearchResult(result);
+            });
+        }
+        Platform.runLater(() -> {
+            ologQueries.setAll(queries);
+            query.getSelectionModel().select(ologQueries.get(0));
+        });
+    }
+
+    /**
+     * Fetch the page after the current page into the cache
+     *
+     * @param cache    Cache for the current query
+     * @param params   Search parameters of the current page
+     * @param hitCount Total number of log entries matching the query
+     */
+    private void prefetchNextPage(SearchResultCache cache, Map<String, String> params, int hitCount) {
+        int from = Integer.parseInt(params.get("from"));
+        int size = Integer.parseInt(params.get("size"));
+        if (!cache.isEnabled() || from + size >= hitCount) {
+            return;
+        }
+        Map<String, String> next = new HashMap<>(params);
+        next.put("from", Integer.toString(from + size));
+        if (cache.contains(next)) {
+            return;
+        }
+        LogbookSearchJob.submit(client, next,
+                result -> cache.put(next, result),
+                (msg, ex) -> logger.log(Level.FINE, "Failed to prefetch search result page", ex));
+    }
+
     @Override
     public void setLogs(List<LogEntry> logs) {
         throw new RuntimeException(new UnsupportedOperationException());
@@ -684,9 +802,11 @@ public class LogEntryTableViewController extends LogbookSearchController impleme
     /**
      * Renders each log entry on its own page as a clean professional
      * HTML report with full metadata, rendered markdown body, embedded
-     * attachment images (via temp files), and properties.  Downloads images in
-     * a background thread, then saves the report as an HTML file and opens
-     * it in the system browser (use Print → Save as PDF from the browser).
+     * attachment images, and properties.  Asks for the report file, then
+     * writes the report to that file entry by entry in a background thread
+     * while the images are fetched concurrently via the {@link AttachmentCache}
+     * and copied into a folder next to the report. Finally opens the report
+     * in the system browser (use Print → Save as PDF from the browser).
      *
      * Report layout parameters (font, title, colours) are read from
      * {@link LogbookUIPreferences}.
@@ -743,6 +863,22 @@ public class LogEntryTableViewController extends LogbookSearchController impleme
         final String basePt    = pdfFontSize + "pt";
         final String sectionPt = metaPt;
 
+        // Offer to save the HTML report and open in system browser
+        // (WebView rendering is unreliable on busy consoles with many OPI displays)
+        javafx.stage.FileChooser fileChooser = new javafx.stage.FileChooser();
+        fileChooser.setTitle("Save Logbook Report");
+        fileChooser.getExtensionFilters().add(
+                new javafx.stage.FileChooser.ExtensionFilter("HTML files", "*.html"));
+        fileChooser.setInitialFileName("olog_report_"
+                + java.time.LocalDate.now().toString() + ".html");
+        final java.io.File saveFile = fileChooser.showSaveDialog(tableView.getScene().getWindow());
+        if (saveFile == null) {
+            return;
+        }
+        // Images are copied into a folder next to the report, referenced by relative path
+        final String imageFolder = saveFile.getName().replaceFirst("\\.html?$", "") + "_images";
+        final Path imageDir = saveFile.toPath().resolveSibling(imageFolder);
+
         // --- Progress dialog (shown on FX thread, updated from background thread) ---
         final javafx.scene.control.ProgressBar progressBar = new javafx.scene.control.ProgressBar(-1);
         progressBar.setPrefWidth(340);
@@ -775,68 +911,36 @@ public class LogEntryTableViewController extends LogbookSearchController impleme
             totalImages = 0;
         }
 
-        // Background: download images + build HTML
+        // Background: fetch images + write HTML
         JobManager.schedule("HTML Report", monitor -> {
-            try {
-                // ===== Optionally download attachment images to temp files =====
-                // Use file:// URLs instead of base64 data URIs to keep HTML small
-                Map<String, String> imageDataMap = new HashMap<>();
-                java.util.List<java.io.File> tempImageFiles = new java.util.ArrayList<>();
+            final long start = System.nanoTime();
+            try (java.io.Writer out = Files.newBufferedWriter(saveFile.toPath(), java.nio.charset.StandardCharsets.UTF_8);
+                 // Keep fetched images in the cache until they are copied
+                 AttachmentCache.Hold hold = embedImages ? AttachmentCache.getInstance().hold() : null) {
+                // ===== Start fetching all attachment images =====
+                // Downloads run concurrently while the report is written,
+                // images already in the attachment cache are available right away
+                Map<String, CompletableFuture<java.io.File>> images = new HashMap<>();
+                final AtomicInteger fetched = new AtomicInteger();
                 if (embedImages) {
-                    final int[] imgCount = {0};
-                    HttpClient httpClient = HttpClient.newBuilder()
-                            .followRedirects(HttpClient.Redirect.NORMAL)
-                            .build();
+                    AttachmentCache cache = AttachmentCache.getInstance();
                     for (TableViewListItem item : items) {
                         LogEntry entry = item.getLogEntry();
                         if (entry.getAttachments() == null) continue;
                         for (org.phoebus.logbook.Attachment att : entry.getAttachments()) {
-                            if (!isImageAttachment(att)) continue;
-                            imgCount[0]++;
-                            final int current = imgCount[0];
-                            Platform.runLater(() -> {
-                                statusLabel.setText("Downloading image " + current + " / " + totalImages + "...");
-                                progressBar.setProgress((double) current / totalImages);
-                            });
-                            String key = entry.getId() + "/" + att.getName();
-                            String encodedName = att.getName() != null
-                                    ? URLEncoder.encode(att.getName(), java.nio.charset.StandardCharsets.UTF_8).replace("+", "%20")
-                                    : "image";
-                            String imgUrl = svcUrl + "/logs/attachments/" + entry.getId() + "/" + encodedName;
-                            try {
-                                HttpRequest req = HttpRequest.newBuilder()
-                                        .uri(URI.create(imgUrl))
-                                        .GET().build();
-                                HttpResponse<byte[]> resp = httpClient.send(req,
-                                        HttpResponse.BodyHandlers.ofByteArray());
-                                if (resp.statusCode() == 200 && resp.body().length > 0) {
-                                    // Determine extension from content type or filename
-                                    String ct = att.getContentType();
-                                    String ext = ".png";
-                                    if (att.getName() != null) {
-                                        int dot = att.getName().lastIndexOf('.');
-                                        if (dot >= 0) ext = att.getName().substring(dot);
-                                    } else if (ct != null && ct.startsWith("image/")) {
-                                        ext = "." + ct.substring(6).split("[;+]")[0].trim();
-                                    }
-                                    Path imgTmp = Files.createTempFile("olog_img_", ext);
-                                    Files.write(imgTmp, resp.body());
-                                    imgTmp.toFile().deleteOnExit();
-                                    tempImageFiles.add(imgTmp.toFile());
-                                    imageDataMap.put(key, imgTmp.toUri().toString());
-                                }
-                            } catch (Exception ex) {
-                                logger.log(Level.WARNING, "Failed to download image: " + imgUrl, ex);
-                            }
+                            if (!isImageAttachment(att) || att.getName() == null || att.getName().isEmpty()) continue;
+                            images.put(entry.getId() + "/" + att.getName(),
+                                    cache.fetch(client, entry.getId(), att).whenComplete((file, error) -> fetched.incrementAndGet()));
                         }
                     }
+                    if (!images.isEmpty()) {
+                        Files.createDirectories(imageDir);
+                    }
                 }
 
-                // ===== Build HTML =====
-                Platform.runLater(() -> {
-                    statusLabel.setText("Building report layout (" + items.size() + " entries)...");
-                    progressBar.setProgress(-1); // indeterminate
-                });
+                // ===== Write HTML =====
+                // Each part of the report is built in the StringBuilder,
+                // then appended to the file, so the complete report is never held in memory
                 HtmlAwareController htmlConverter = new HtmlAwareController(svcUrl);
 
                 java.time.format.DateTimeFormatter dateTimeFmt = java.time.format.DateTimeFormatter
@@ -1007,8 +1111,18 @@ public class LogEntryTableViewController extends LogbookSearchController impleme
                     sb.append("</div>\n");
                 }
 
+                out.append(sb);
+                sb.setLength(0);
+
                 // ============= ONE ENTRY PER PAGE =============
                 for (int i = 0; i < items.size(); i++) {
+                    if (monitor.isCanceled()) break;
+                    final int current = i + 1;
+                    Platform.runLater(() -> {
+                        statusLabel.setText("Writing entry " + current + " / " + items.size()
+                                + ", fetched " + fetched.get() + " / " + totalImages + " images...");
+                        progressBar.setProgress((double) current / items.size());
+                    });
                     LogEntry entry = items.get(i).getLogEntry();
                     sb.append("<div class='entry-page'>\n");
 
@@ -1078,11 +1192,23 @@ public class LogEntryTableViewController extends LogbookSearchController impleme
                             sb.append("  <h3>Attachments</h3>\n");
                             for (org.phoebus.logbook.Attachment att : imageAtts) {
                                 String key = entry.getId() + "/" + att.getName();
-                                String dataUri = imageDataMap.get(key);
-                                if (dataUri != null) {
-                                    // Local temp file image (file:// URL)
+                                String imageSrc = null;
+                                CompletableFuture<java.io.File> image = images.get(key);
+                                if (image != null) {
+                                    try {
+                                        java.io.File file = image.get();
+                                        Files.copy(file.toPath(), imageDir.resolve(file.getName()),
+                                                java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+                                        imageSrc = URLEncoder.encode(imageFolder, java.nio.charset.StandardCharsets.UTF_8).replace("+", "%20")
+                                                + "/" + URLEncoder.encode(file.getName(), java.nio.charset.StandardCharsets.UTF_8).replace("+", "%20");
+                                    } catch (Exception ex) {
+                                        logger.log(Level.WARNING, "Failed to fetch image " + key, ex);
+                                    }
+                                }
+                                if (imageSrc != null) {
+                                    // Local copy of image (relative URL)
                                     sb.append("  <img class='att-img' src='")
-                                            .append(dataUri).append("'/>\n");
+                                            .append(imageSrc).append("'/>\n");
                                 } else {
                                     // Fallback: URL reference (encode filename for spaces/special chars)
                                     String encName = att.getName() != null
@@ -1148,88 +1274,37 @@ public class LogEntryTableViewController extends LogbookSearchController impleme
                             .append("</div>\n");
 
                     sb.append("</div>\n"); // close entry-page
+                    out.append(sb);
+                    sb.setLength(0);
                 }
 
-                sb.append("</body></html>");
-
-                final String html = sb.toString();
-
-                // Write HTML to a temp file — WebView.loadContent() chokes on large
-                // base64 strings; loading from a file URL is far more reliable.
-                final Path tmpFile;
-                try {
-                    tmpFile = Files.createTempFile("olog_report_", ".html");
-                    Files.writeString(tmpFile, html, java.nio.charset.StandardCharsets.UTF_8);
-                    tmpFile.toFile().deleteOnExit();
-                } catch (IOException ex) {
-                    logger.log(Level.WARNING, "Cannot write temp HTML", ex);
-                    Platform.runLater(() -> {
-                        progressStage.close();
-                        Alert alert = new Alert(AlertType.ERROR, "Cannot write temp file: " + ex.getMessage());
-                        alert.setHeaderText("Report Generation Error");
-                        alert.showAndWait();
-                    });
+                if (monitor.isCanceled()) {
+                    Platform.runLater(progressStage::close);
                     return;
                 }
 
+                sb.append("</body></html>");
+                out.append(sb);
+                out.flush();
+
                 logger.log(Level.INFO,
-                        "HTML report written to temp file ({0} chars, {1} KB)",
-                        new Object[]{html.length(), tmpFile.toFile().length() / 1024});
+                        String.format("HTML report with %d entries and %d images written to %s (%d KB) in %.1f s",
+                                items.size(), images.size(), saveFile.getAbsolutePath(),
+                                saveFile.length() / 1024, (System.nanoTime() - start) / 1e9));
 
-                // Switch to UI thread for save dialog
+                // Switch to UI thread to open the report
                 Platform.runLater(() -> {
                     progressStage.close();
-
-                    // Offer to save the HTML report and open in system browser
-                    // (WebView rendering is unreliable on busy consoles with many OPI displays)
-                    javafx.stage.FileChooser fileChooser = new javafx.stage.FileChooser();
-                    fileChooser.setTitle("Save Logbook Report");
-                    fileChooser.getExtensionFilters().add(
-                            new javafx.stage.FileChooser.ExtensionFilter("HTML files", "*.html"));
-                    fileChooser.setInitialFileName("olog_report_"
-                            + java.time.LocalDate.now().toString() + ".html");
-                    java.io.File saveFile = fileChooser.showSaveDialog(tableView.getScene().getWindow());
-                    if (saveFile != null) {
-                        try {
-                            Files.copy(tmpFile, saveFile.toPath(),
-                                    java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-
-                            // Copy temp images alongside the HTML so links remain valid
-                            for (java.io.File imgFile : tempImageFiles) {
-                                java.io.File dest = new java.io.File(saveFile.getParentFile(), imgFile.getName());
-                                Files.copy(imgFile.toPath(), dest.toPath(),
-                                        java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-                            }
-
-                            // Rewrite image src paths to relative filenames
-                            if (!tempImageFiles.isEmpty()) {
-                                String saved = Files.readString(saveFile.toPath(), java.nio.charset.StandardCharsets.UTF_8);
-                                for (java.io.File imgFile : tempImageFiles) {
-                                    saved = saved.replace(imgFile.toURI().toString(), imgFile.getName());
-                                }
-                                Files.writeString(saveFile.toPath(), saved, java.nio.charset.StandardCharsets.UTF_8);
-                            }
-
-                            logger.log(Level.INFO, "Report saved to {0}", saveFile.getAbsolutePath());
-
-                            // Try opening in system browser
-                            try {
-                                java.awt.Desktop.getDesktop().browse(saveFile.toURI());
-                            } catch (Exception oe) {
-                                // Fallback: show path to user
-                                Alert info = new Alert(AlertType.INFORMATION,
-                                        "Report saved to:\n" + saveFile.getAbsolutePath()
-                                                + "\n\nOpen it in a web browser, then use Print \u2192 Save as PDF.");
-                                info.setHeaderText("Report Saved");
-                                info.showAndWait();
-                            }
-                        } catch (Exception ex) {
-                            logger.log(Level.WARNING, "Failed to save report", ex);
-                            Alert alert = new Alert(AlertType.ERROR,
-                                    "Failed to save report: " + ex.getMessage());
-                            alert.setHeaderText("Save Error");
-                            alert.showAndWait();
-                        }
+                    // Try opening in system browser
+                    try {
+                        java.awt.Desktop.getDesktop().browse(saveFile.toURI());
+                    } catch (Exception oe) {
+                        // Fallback: show path to user
+                        Alert info = new Alert(AlertType.INFORMATION,
+                                "Report saved to:\n" + saveFile.getAbsolutePath()
+                                        + "\n\nOpen it in a web browser, then use Print \u2192 Save as PDF.");
+                        info.setHeaderText("Report Saved");
+                        info.showAndWait();
                     }
                 });
 
@@ -128,9 +128,25 @@ public abstract class LogbookSearchController implements WebSocketMessageHandler
      * @param errorHandler  Client side error handler that should notify user.
      */
     public void search(Map<String, String> searchParams, final Consumer<SearchResult> resultHandler, final BiConsumer<String, Exception> errorHandler) {
+        search(searchParams, logEntry -> {
+        }, resultHandler, errorHandler);
+    }
+
+    /**
+     * Starts a single search job that hands out each log entry as soon as it has been received,
+     * before the complete search result is available.
+     *
+     * @param searchParams     The search parameters
+     * @param logEntryConsumer Called with each log entry of the search result, in order
+     * @param resultHandler    Handler taking care of the complete search result.
+     * @param errorHandler     Client side error handler that should notify user.
+     */
+    public void search(Map<String, String> searchParams, final Consumer<LogEntry> logEntryConsumer,
+                       final Consumer<SearchResult> resultHandler, final BiConsumer<String, Exception> errorHandler) {
         cancelPeriodSearch();
         LogbookSearchJob.submit(this.client,
                 searchParams,
+                logEntryConsumer,
                 resultHandler,
                 errorHandler);
     }
@@ -4,6 +4,7 @@ import org.phoebus.framework.jobs.Job;
 import org.phoebus.framework.jobs.JobManager;
 import org.phoebus.framework.jobs.JobRunnableWithCancel;
 import org.phoebus.logbook.LogClient;
+import org.phoebus.logbook.LogEntry;
 import org.phoebus.logbook.SearchResult;
 
 import java.util.Map;
@@ -20,6 +21,7 @@ import java.util.logging.Logger;
 public class LogbookSearchJob extends JobRunnableWithCancel {
     private final LogClient client;
     private final Map<String, String> searchMap;
+    private final Consumer<LogEntry> logEntryConsumer;
     private final Consumer<SearchResult> logEntryHandler;
     private final BiConsumer<String, Exception> errorHandler;
 
@@ -34,15 +36,33 @@ public class LogbookSearchJob extends JobRunnableWithCancel {
      */
     public static Job submit(LogClient client, final Map<String, String> searchMap,
                              final Consumer<SearchResult> logEntryHandler, final BiConsumer<String, Exception> errorHandler) {
+        return submit(client, searchMap, logEntry -> {
+        }, logEntryHandler, errorHandler);
+    }
+
+    /**
+     * Submit a logbook search query that hands out log entries while the result is received
+     *
+     * @param client           the logbook client
+     * @param searchMap        the search parameters
+     * @param logEntryConsumer called with each {@link LogEntry} as soon as it has been received
+     * @param logEntryHandler  consumer for the complete {@link SearchResult} from the search
+     * @param errorHandler     error handler
+     * @return a logbook search job
+     */
+    public static Job submit(LogClient client, final Map<String, String> searchMap,
+                             final Consumer<LogEntry> logEntryConsumer,
+                             final Consumer<SearchResult> logEntryHandler, final BiConsumer<String, Exception> errorHandler) {
         return JobManager.schedule("searching logbook for : " + searchMap,
-                new LogbookSearchJob(client, searchMap, logEntryHandler, errorHandler));
+                new LogbookSearchJob(client, searchMap, logEntryConsumer, logEntryHandler, errorHandler));
     }
 
-    private LogbookSearchJob(LogClient client, Map<String, String> searchMap, Consumer<SearchResult> logEntryHandler,
-                             BiConsumer<String, Exception> errorHandler) {
+    private LogbookSearchJob(LogClient client, Map<String, String> searchMap, Consumer<LogEntry> logEntryConsumer,
+                             Consumer<SearchResult> logEntryHandler, BiConsumer<String, Exception> errorHandler) {
         super();
         this.client = client;
         this.searchMap = searchMap;
+        this.logEntryConsumer = logEntryConsumer;
         this.logEntryHandler = logEntryHandler;
         this.errorHandler = errorHandler;
     }
@@ -56,7 +76,7 @@ public class LogbookSearchJob extends JobRunnableWithCancel {
     public Runnable getRunnable() {
         return () -> {
             try {
-                SearchResult searchResult = client.search(searchMap);
+                SearchResult searchResult = client.search(searchMap, logEntryConsumer);
                 logEntryHandler.accept(searchResult);
             } catch (Exception exception) {
                 Logger.getLogger(LogbookSearchJob.class.getName())
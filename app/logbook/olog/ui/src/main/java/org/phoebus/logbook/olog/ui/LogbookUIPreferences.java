@@ -44,6 +44,10 @@ public class LogbookUIPreferences {
     @Preference
     public static int search_result_page_size;
     @Preference
+    public static int search_result_cache_size;
+    @Preference
+    public static int search_result_cache_secs;
+    @Preference
     public static int query_list_size;
     @Preference
     public static String search_help;
@@ -51,6 +55,12 @@ public class LogbookUIPreferences {
     public static boolean show_log_watermark;
     @Preference
     public static boolean oauth2_auth_olog_enabled;
+    @Preference
+    public static int attachment_cache_size_mb;
+    @Preference
+    public static int attachment_fetch_threads;
+    @Preference
+    public static int attachment_preview_size;
 
     // ========== PDF Export Preferences ==========
 
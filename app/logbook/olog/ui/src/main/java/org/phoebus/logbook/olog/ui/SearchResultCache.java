@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.logbook.olog.ui;
+
+import org.phoebus.logbook.SearchResult;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of recent search result pages.
+ *
+ * <p>Pages are keyed by the complete search parameters,
+ * including the page offset and size.
+ * When the cache is full, the least recently used page is dropped.
+ * Pages older than the maximum age are no longer returned.
+ */
+public class SearchResultCache {
+
+    private record Page(SearchResult result, long time) {
+    }
+
+    private final int capacity;
+    private final long max_age_ms;
+
+    /** Pages in access order. SYNC on this */
+    private final LinkedHashMap<Map<String, String>, Page> pages;
+
+    /**
+     * @param capacity   Maximum number of pages
+     * @param max_age_ms Maximum age of a page in milliseconds
+     */
+    public SearchResultCache(int capacity, long max_age_ms) {
+        this.capacity = capacity;
+        this.max_age_ms = max_age_ms;
+        pages = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Map<String, String>, Page> eldest) {
+                return size() > SearchResultCache.this.capacity;
+            }
+        };
+    }
+
+    /** @return <code>true</code> if cache can hold pages */
+    public boolean isEnabled() {
+        return capacity > 0;
+    }
+
+    /**
+     * @param params Search parameters
+     * @return Cached search result or <code>null</code>
+     */
+    public synchronized SearchResult get(Map<String, String> params) {
+        final Page page = pages.get(params);
+        if (page == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - page.time > max_age_ms) {
+            pages.remove(params);
+            return null;
+        }
+        // Copy of the list, since the table sorts the result in place
+        return SearchResult.of(new ArrayList<>(page.result.getLogs()), page.result.getHitCount());
+    }
+
+    /**
+     * @param params Search parameters
+     * @return <code>true</code> if a search result is cached
+     */
+    public synchronized boolean contains(Map<String, String> params) {
+        final Page page = pages.get(params);
+        return page != null && System.currentTimeMillis() - page.time <= max_age_ms;
+    }
+
+    /**
+     * @param params Search parameters
+     * @param result Search result for those parameters
+     */
+    public synchronized void put(Map<String, String> params, SearchResult result) {
+        if (capacity > 0) {
+            pages.put(new HashMap<>(params),
+                    new Page(SearchResult.of(new ArrayList<>(result.getLogs()), result.getHitCount()), System.currentTimeMillis()));
+        }
+    }
+}
@@ -33,15 +33,14 @@ import org.phoebus.ui.javafx.ImageCache;
 import org.phoebus.ui.web.HyperLinkRedirectListener;
 
 import java.io.File;
-import java.io.InputStream;
-import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -214,7 +213,7 @@ public class SingleLogEntryDisplayController extends HtmlAwareController {
     }
 
     /**
-     * Retrieves attachments from the remote service and copies them to temporary files. Attachments
+     * Retrieves attachments from the remote service into the {@link AttachmentCache}. Attachments
      * should be retrieved when user selects a log entry from search result list. Note that this
      * method also updates the attachments view once files have been downloaded.
      */
@@ -227,47 +226,41 @@ public class SingleLogEntryDisplayController extends HtmlAwareController {
         if (logEntry.getAttachments().isEmpty()) {
             return;
         }
-        File attachmentsDirectoryOptional;
         try {
-            attachmentsDirectoryOptional = checkAttachmentsDirectory();
+            checkAttachmentsDirectory();
         } catch (LogbookException e) {
             ExceptionDetailsErrorDialog.openError(Messages.AttachmentsNoStorage, e);
             return;
         }
-        final File attachmentsDirectory = attachmentsDirectoryOptional;
-
+        final LogEntry entry = logEntry;
         fetchAttachmentsJob = JobManager.schedule("Fetch attachment data", monitor -> {
             // Order attachments such that the list view looks the same in the list view if user returns to the log entry
-            List<Attachment> sorted = logEntry.getAttachments().stream().sorted(Comparator.comparing(Attachment::getName)).toList();
-            List<Attachment> attachmentList = new ArrayList<>();
+            List<Attachment> sorted = entry.getAttachments().stream()
+                    .filter(attachment -> attachment.getName() != null && !attachment.getName().isEmpty())
+                    .sorted(Comparator.comparing(Attachment::getName)).toList();
+            // Attachment file may already be in the cache, e.g. user has already viewed the log entry.
+            // Others are fetched concurrently.
+            AttachmentCache cache = AttachmentCache.getInstance();
+            List<CompletableFuture<File>> files = new ArrayList<>();
             for (Attachment attachment : sorted) {
+                files.add(cache.fetch(logClient, entry.getId(), attachment));
+            }
+            List<Attachment> attachmentList = new ArrayList<>();
+            for (int i = 0; i < sorted.size(); ++i) {
                 if (monitor.isCanceled()) {
                     break;
-                } else if (attachment.getName() == null || attachment.getName().isEmpty()) {
-                    continue;
                 }
+                Attachment attachment = sorted.get(i);
                 OlogAttachment fileAttachment = new OlogAttachment();
                 fileAttachment.setContentType(attachment.getContentType());
                 fileAttachment.setThumbnail(false);
                 fileAttachment.setUniqueFilename(attachment.getName());
-                // Determine file extension, needed to support transition to Image Viewer app for image attachments
-                String fileExtension = "";
-                int indexOfLastDot = attachment.getName().lastIndexOf('.');
-                if (indexOfLastDot > -1) {
-                    fileExtension = attachment.getName().substring(indexOfLastDot);
-                }
-
-                // Attachment file may already exist on disk, e.g. user has already viewed the log entry.
-
-                File attachmentFile = new File(attachmentsDirectory, attachment.getId() + fileExtension);
-                if (!attachmentFile.exists()) {
-                    InputStream stream = logClient.getAttachment(logEntry.getId(), attachment.getName());
-                    if(stream != null) {
-                        Files.copy(stream, attachmentFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
-                        attachmentFile.deleteOnExit();
-                    }
+                try {
+                    fileAttachment.setFile(files.get(i).get());
+                } catch (ExecutionException ex) {
+                    logger.log(Level.WARNING, "Cannot fetch attachment " + attachment.getName() + " of log entry " + entry.getId(), ex.getCause());
+                    fileAttachment.setFile(cache.getFile(logClient, entry.getId(), attachment));
                 }
-                fileAttachment.setFile(attachmentFile);
                 attachmentList.add(fileAttachment);
             }
             // If job is cancelled, skip setting the list of attachments
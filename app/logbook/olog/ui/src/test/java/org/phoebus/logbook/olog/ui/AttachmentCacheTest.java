@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.logbook.olog.ui;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.phoebus.logbook.Attachment;
+import org.phoebus.logbook.LogClient;
+import org.phoebus.logbook.LogEntry;
+import org.phoebus.olog.es.api.model.OlogAttachment;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test of the {@link AttachmentCache}
+ */
+public class AttachmentCacheTest {
+
+    @TempDir
+    File directory;
+
+    /** Client that serves attachments of 1000 bytes after a delay, except for "missing.txt" */
+    private static class TestClient implements LogClient {
+        final String url;
+        final long delay;
+        final AtomicInteger downloads = new AtomicInteger();
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger max_active = new AtomicInteger();
+
+        TestClient() {
+            this("http://olog", 50);
+        }
+
+        TestClient(String url, long delay) {
+            this.url = url;
+            this.delay = delay;
+        }
+
+        @Override
+        public String getServiceUrl() {
+            return url;
+        }
+
+        @Override
+        public InputStream getAttachment(Long logId, String attachmentName) {
+            if (attachmentName.equals("missing.txt")) {
+                return null;
+            }
+            downloads.incrementAndGet();
+            max_active.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException ex) {
+                // Ignore
+            } finally {
+                active.decrementAndGet();
+            }
+            return new ByteArrayInputStream(new byte[1000]);
+        }
+
+        @Override
+        public LogEntry set(LogEntry log) {
+            return null;
+        }
+
+        @Override
+        public LogEntry getLog(Long logId) {
+            return null;
+        }
+
+        @Override
+        public Collection<Attachment> listAttachments(Long logId) {
+            return null;
+        }
+
+        @Override
+        public List<LogEntry> findLogs(Map<String, String> map) {
+            return null;
+        }
+
+        @Override
+        public Collection<LogEntry> listLogs() {
+            return null;
+        }
+    }
+
+    private static Attachment createAttachment(String id, String name) {
+        OlogAttachment attachment = new OlogAttachment(id);
+        attachment.setUniqueFilename(name);
+        return attachment;
+    }
+
+    @Test
+    public void testFetch() throws Exception {
+        AttachmentCache cache = new AttachmentCache(directory, 1024 * 1024, 4);
+        TestClient client = new TestClient();
+
+        // Same attachment requested several times is only downloaded once
+        Attachment attachment = createAttachment("a1", "image.png");
+        List<CompletableFuture<File>> same = new ArrayList<>();
+        for (int i = 0; i < 5; ++i) {
+            same.add(cache.fetch(client, 1L, attachment));
+        }
+        File file = cache.getFile(client, 1L, attachment);
+        assertEquals(directory, file.getParentFile());
+        assertTrue(file.getName().endsWith(".png"));
+        for (CompletableFuture<File> future : same) {
+            assertEquals(file, future.get());
+        }
+        assertEquals(1, client.downloads.get());
+        assertEquals(1000, file.length());
+
+        // Now cached
+        assertTrue(cache.fetch(client, 1L, attachment).isDone());
+        assertEquals(1, client.downloads.get());
+
+        // Different attachments are fetched concurrently, but limited to 4 at a time
+        List<CompletableFuture<File>> files = new ArrayList<>();
+        for (int i = 0; i < 20; ++i) {
+            files.add(cache.fetch(client, 2L, createAttachment("b" + i, "file.txt")));
+        }
+        for (CompletableFuture<File> future : files) {
+            assertTrue(future.get().exists());
+        }
+        assertEquals(21, client.downloads.get());
+        assertTrue(client.max_active.get() > 1);
+        assertTrue(client.max_active.get() <= 4);
+    }
+
+    @Test
+    public void testFastFetch() throws Exception {
+        AttachmentCache cache = new AttachmentCache(directory, 1024 * 1024, 4);
+        TestClient client = new TestClient("http://olog", 0);
+        // Downloads may complete before the future is registered as pending
+        for (int i = 0; i < 200; ++i) {
+            Attachment attachment = createAttachment("f" + i, "file.txt");
+            for (int j = 0; j < 3; ++j) {
+                assertTrue(cache.fetch(client, 1L, attachment).get().exists());
+            }
+        }
+    }
+
+    @Test
+    public void testServices() throws Exception {
+        AttachmentCache cache = new AttachmentCache(directory, 1024 * 1024, 4);
+        TestClient one = new TestClient("http://one", 0), other = new TestClient("http://other", 0);
+        // Same attachment id on different services is cached separately
+        Attachment attachment = createAttachment("a1", "image.png");
+        assertNotEquals(cache.getFile(one, 1L, attachment), cache.getFile(other, 1L, attachment));
+        cache.fetch(one, 1L, attachment).get();
+        cache.fetch(other, 1L, attachment).get();
+        assertEquals(1, one.downloads.get());
+        assertEquals(1, other.downloads.get());
+    }
+
+    @Test
+    public void testMissing() {
+        AttachmentCache cache = new AttachmentCache(directory, 1024 * 1024, 4);
+        TestClient client = new TestClient();
+        Attachment attachment = createAttachment("m1", "missing.txt");
+        CompletableFuture<File> future = cache.fetch(client, 1L, attachment);
+        assertThrows(ExecutionException.class, future::get);
+        assertFalse(cache.getFile(client, 1L, attachment).exists());
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        AttachmentCache cache = new AttachmentCache(directory, 5000, 1);
+        TestClient client = new TestClient();
+        for (int i = 0; i < 10; ++i) {
+            cache.fetch(client, 1L, createAttachment("e" + i, "file.txt")).get();
+        }
+        // Eviction runs in background
+        long total = Long.MAX_VALUE;
+        for (int wait = 0; wait < 50 && total > 5000; ++wait) {
+            Thread.sleep(100);
+            total = 0;
+            for (File file : directory.listFiles(File::isFile)) {
+                total += file.length();
+            }
+        }
+        assertTrue(total <= 5000);
+        // Most recent file is kept
+        assertTrue(cache.getFile(client, 1L, createAttachment("e9", "file.txt")).exists());
+    }
+
+    @Test
+    public void testHold() throws Exception {
+        AttachmentCache cache = new AttachmentCache(directory, 5000, 1);
+        TestClient client = new TestClient("http://olog", 0);
+        List<File> files = new ArrayList<>();
+        try (AttachmentCache.Hold hold = cache.hold()) {
+            for (int i = 0; i < 10; ++i) {
+                files.add(cache.fetch(client, 1L, createAttachment("h" + i, "file.txt")).get());
+            }
+            // Files are kept while held, even though the cache exceeds its size limit
+            Thread.sleep(500);
+            for (File file : files) {
+                assertTrue(file.exists());
+            }
+        }
+        // Eviction runs in background once released
+        int remaining = files.size();
+        for (int wait = 0; wait < 50 && remaining > 5; ++wait) {
+            Thread.sleep(100);
+            remaining = 0;
+            for (File file : files) {
+                if (file.exists()) {
+                    ++remaining;
+                }
+            }
+        }
+        assertTrue(remaining <= 5);
+    }
+
+    @Test
+    public void testThumbnail() throws Exception {
+        AttachmentCache cache = new AttachmentCache(directory, 10 * 1024 * 1024, 1);
+
+        File large = new File(directory, "large.png");
+        ImageIO.write(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB), "png", large);
+        File thumbnail = cache.getThumbnail(large, 256);
+        assertNotEquals(large, thumbnail);
+        BufferedImage image = ImageIO.read(thumbnail);
+        assertEquals(256, image.getWidth());
+        assertEquals(128, image.getHeight());
+
+        // Thumbnail is cached
+        assertEquals(thumbnail, cache.getThumbnail(large, 256));
+
+        // Small image is used as is
+        File small = new File(directory, "small.png");
+        ImageIO.write(new BufferedImage(100, 50, BufferedImage.TYPE_INT_RGB), "png", small);
+        assertEquals(small, cache.getThumbnail(small, 256));
+
+        // Not an image
+        File other = new File(directory, "text.txt");
+        Files.writeString(other.toPath(), "Hello");
+        assertNull(cache.getThumbnail(other, 256));
+    }
+}
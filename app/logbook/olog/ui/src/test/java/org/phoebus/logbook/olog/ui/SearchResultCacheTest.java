@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.logbook.olog.ui;
+
+import org.junit.jupiter.api.Test;
+import org.phoebus.logbook.LogEntry;
+import org.phoebus.logbook.SearchResult;
+import org.phoebus.olog.es.api.model.OlogLog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JUnit test of the {@link SearchResultCache}
+ */
+public class SearchResultCacheTest {
+
+    private static Map<String, String> page(int from) {
+        Map<String, String> params = new HashMap<>();
+        params.put("title", "test");
+        params.put("from", Integer.toString(from));
+        params.put("size", "10");
+        return params;
+    }
+
+    private static SearchResult result(long id) {
+        List<LogEntry> logs = new ArrayList<>();
+        logs.add(new OlogLog(id));
+        return SearchResult.of(logs, 100);
+    }
+
+    @Test
+    public void testLRU() {
+        SearchResultCache cache = new SearchResultCache(2, 60000);
+        assertTrue(cache.isEnabled());
+        cache.put(page(0), result(0));
+        cache.put(page(10), result(1));
+        // Use first page, so second page is the least recently used
+        assertEquals(0L, cache.get(page(0)).getLogs().get(0).getId());
+        cache.put(page(20), result(2));
+        assertTrue(cache.contains(page(0)));
+        assertFalse(cache.contains(page(10)));
+        assertNull(cache.get(page(10)));
+        assertEquals(100, cache.get(page(20)).getHitCount());
+
+        // Changing the parameters or the returned result doesn't affect the cache
+        Map<String, String> params = page(30);
+        cache.put(params, result(3));
+        params.put("from", "40");
+        assertTrue(cache.contains(page(30)));
+        cache.get(page(30)).getLogs().clear();
+        assertEquals(1, cache.get(page(30)).getLogs().size());
+    }
+
+    @Test
+    public void testAge() throws Exception {
+        SearchResultCache cache = new SearchResultCache(10, 100);
+        cache.put(page(0), result(0));
+        assertTrue(cache.contains(page(0)));
+        Thread.sleep(200);
+        assertFalse(cache.contains(page(0)));
+        assertNull(cache.get(page(0)));
+    }
+
+    @Test
+    public void testDisabled() {
+        SearchResultCache cache = new SearchResultCache(0, 60000);
+        assertFalse(cache.isEnabled());
+        cache.put(page(0), result(0));
+        assertNull(cache.get(page(0)));
+    }
+}
@@ -19,6 +19,7 @@ public class Preferences
     @Preference public static String host;
     @Preference public static int port;
     @Preference public static int poll_period;
+    @Preference public static boolean server_events;
 
     static
     {
@@ -17,11 +17,15 @@ package org.csstudio.scan.client;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -228,21 +232,7 @@ public class ScanClient
         try
         {
             checkResponse(connection);
-            final Element root_node = parseXML(connection.getInputStream());
-            if (! "server".equals(root_node.getNodeName()))
-                throw new Exception("Expected <server/>");
-
-            final String version = XMLUtil.getChildString(root_node, "version").orElse("?");
-            final Instant start_time = Instant.ofEpochMilli(XMLUtil.getChildLong(root_node, "start_time").orElse(0l));
-            // Support deprecated server that still uses beamline_config
-            final String scan_config = XMLUtil.getChildString(root_node, "scan_config")
-                                              .orElse(XMLUtil.getChildString(root_node, "beamline_config").orElse(""));
-            final long used_mem = XMLUtil.getChildLong(root_node, "used_mem").orElse(0l);
-            final long max_mem = XMLUtil.getChildLong(root_node, "max_mem").orElse(0l);
-            final long non_heap = XMLUtil.getChildLong(root_node, "non_heap").orElse(0l);
-            final List<String> paths = PathUtil.splitPath(XMLUtil.getChildString(root_node, "script_paths").orElse(""));
-            final String macros = XMLUtil.getChildString(root_node, "macros").orElse("");
-            return new ScanServerInfo(version, start_time, scan_config, paths, macros, used_mem, max_mem, non_heap);
+            return parseServerInfo(parseXML(connection.getInputStream()));
         }
         finally
         {
@@ -250,6 +240,104 @@ public class ScanClient
         }
     }
 
+    /** Parse ScanServerInfo from XML
+     *  @param root_node Node that should contain {@link ScanServerInfo}
+     *  @return {@link ScanServerInfo}
+     *  @throws Exception on error
+     */
+    private ScanServerInfo parseServerInfo(final Element root_node) throws Exception
+    {
+        if (! "server".equals(root_node.getNodeName()))
+            throw new Exception("Expected <server/>");
+
+        final String version = XMLUtil.getChildString(root_node, "version").orElse("?");
+        final Instant start_time = Instant.ofEpochMilli(XMLUtil.getChildLong(root_node, "start_time").orElse(0l));
+        // Support deprecated server that still uses beamline_config
+        final String scan_config = XMLUtil.getChildString(root_node, "scan_config")
+                                          .orElse(XMLUtil.getChildString(root_node, "beamline_config").orElse(""));
+        final long used_mem = XMLUtil.getChildLong(root_node, "used_mem").orElse(0l);
+        final long max_mem = XMLUtil.getChildLong(root_node, "max_mem").orElse(0l);
+        final long non_heap = XMLUtil.getChildLong(root_node, "non_heap").orElse(0l);
+        final List<String> paths = PathUtil.splitPath(XMLUtil.getChildString(root_node, "script_paths").orElse(""));
+        final String macros = XMLUtil.getChildString(root_node, "macros").orElse("");
+        return new ScanServerInfo(version, start_time, scan_config, paths, macros, used_mem, max_mem, non_heap);
+    }
+
+    /** Read events pushed by the scan server
+     *
+     *  <p>Blocks, calling the listener for each received event,
+     *  until the server closes the connection
+     *  or the calling thread is interrupted.
+     *
+     *  @param listener Listener for server info, scan infos and data updates
+     *  @return <code>false</code> if the scan server does not support events
+     *  @throws InterruptedException when calling thread was interrupted
+     *  @throws Exception on error
+     */
+    public boolean readEvents(final ScanInfoModelListener listener) throws Exception
+    {
+        // Server sends info at least once per second, so read timeout detects a dead connection
+        final HttpURLConnection connection = connect("/events", null, default_timeout);
+        try
+        {
+            if (connection.getResponseCode() == HttpURLConnection.HTTP_NOT_FOUND)
+                return false;
+            checkResponse(connection);
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+            String event = "";
+            final StringBuilder data = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null)
+            {
+                if (Thread.currentThread().isInterrupted())
+                    throw new InterruptedException();
+                if (line.startsWith("event:"))
+                    event = line.substring(6).trim();
+                else if (line.startsWith("data:"))
+                {
+                    if (data.length() > 0)
+                        data.append('\n');
+                    data.append(line.substring(line.startsWith("data: ") ? 6 : 5));
+                }
+                else if (line.isEmpty())
+                {   // Blank line dispatches the event
+                    handleEvent(event, data.toString(), listener);
+                    event = "";
+                    data.setLength(0);
+                }
+            }
+            return true;
+        }
+        finally
+        {
+            connection.disconnect();
+        }
+    }
+
+    /** @param event Name of event
+     *  @param data Event data
+     *  @param listener Listener to notify
+     *  @throws Exception on error
+     */
+    private void handleEvent(final String event, final String data, final ScanInfoModelListener listener) throws Exception
+    {
+        switch (event)
+        {
+        case "server":
+            listener.scanServerUpdate(parseServerInfo(parseXML(new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8)))));
+            break;
+        case "scans":
+            listener.scanUpdate(new ScanInfoParser(new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8))).getScanInfos());
+            break;
+        case "data":
+            final String[] id_serial = data.trim().split(" ");
+            listener.scanDataUpdate(Long.parseLong(id_serial[0]), Long.parseLong(id_serial[1]));
+            break;
+        default:
+            // Ignore unknown events
+        }
+    }
+
     /** Obtain information for all scans
      *  @return {@link List} of {@link ScanInfo}s
      *  @throws Exception on error
@@ -317,7 +405,32 @@ public class ScanClient
      */
     public ScanData getScanData(final long id) throws Exception
     {
-        final HttpURLConnection connection = connect("/scan/" + id + "/data");
+        return readScanData("/scan/" + id + "/data");
+    }
+
+    /** Obtain data logged by a scan after a given sample serial
+     *
+     *  <p>Allows fetching only the new samples of a running scan.
+     *  Use {@link ScanData#merge(ScanData)} to combine them with previously fetched data.
+     *
+     *  @param id ID that uniquely identifies a scan (within JVM of the scan engine)
+     *  @param since Serial of last sample already known to the caller
+     *  @return {@link ScanData} with samples that have a serial above <code>since</code>.
+     *          An older scan server may ignore <code>since</code> and return all samples.
+     *  @throws Exception on error
+     */
+    public ScanData getScanData(final long id, final long since) throws Exception
+    {
+        return readScanData("/scan/" + id + "/data?since=" + since);
+    }
+
+    /** @param path Path of scan data request
+     *  @return {@link ScanData}
+     *  @throws Exception on error
+     */
+    private ScanData readScanData(final String path) throws Exception
+    {
+        final HttpURLConnection connection = connect(path);
         try
         {
             checkResponse(connection);
@@ -20,8 +20,10 @@ import org.csstudio.scan.info.ScanServerInfo;
 /** Model of scan information on scan server
  *
  *  <p>Based on the {@link ScanClient},
- *  this model periodically polls the scan server for its
- *  state and sends updates to a (GUI) listener.
+ *  this model receives events pushed by the scan server,
+ *  or periodically polls the scan server for its
+ *  state if it does not support events,
+ *  and sends updates to a (GUI) listener.
  *
  *  <p>Singleton to allow multiple views to monitor
  *  the scan server by using a single underlying
@@ -49,6 +51,12 @@ public class ScanInfoModel
     /** Has poller received anything in last request to server? */
     private volatile boolean is_connected = false;
 
+    /** Try to read events pushed by server? */
+    private volatile boolean use_events = Preferences.server_events;
+
+    /** Currently receiving events pushed by server? */
+    private volatile boolean receiving_events = false;
+
     /** Most recent server info from <code>server</code> */
     private volatile ScanServerInfo server_info = null;
 
@@ -136,12 +144,19 @@ public class ScanInfoModel
                 {
                     try
                     {
-                        poll();
-                        Thread.sleep(poll_period);
+                        if (use_events)
+                            readEvents();
+                        else
+                        {
+                            poll();
+                            Thread.sleep(poll_period);
+                        }
                     }
                     catch (InterruptedException ex)
                     {
-                        logger.log(Level.WARNING, "Scan Server Poll thread error", ex);
+                        // Interrupted by stop(), or an actual error?
+                        if (poller != null)
+                            logger.log(Level.WARNING, "Scan Server Poll thread error", ex);
                         return;
                     }
                 }
@@ -154,7 +169,19 @@ public class ScanInfoModel
     /** Stop model, i.e. disconnect, stop polling */
     private void stop()
     {
+        final Thread thread = poller;
         poller = null;
+        // Interrupt thread that's blocked reading events
+        if (thread != null  &&  use_events)
+            thread.interrupt();
+    }
+
+    /** @return <code>true</code> if model receives events pushed by the server,
+     *          including <code>scanDataUpdate</code>
+     */
+    public boolean isReceivingEvents()
+    {
+        return receiving_events;
     }
 
     /** @return {@link ScanClient} */
@@ -163,6 +190,64 @@ public class ScanInfoModel
         return client;
     }
 
+    /** Read events pushed by the server until disconnected
+     *  @throws InterruptedException
+     */
+    private void readEvents() throws InterruptedException
+    {
+        try
+        {
+            if (! client.readEvents(event_handler))
+            {
+                logger.log(Level.INFO, "Scan server does not push events, polling");
+                use_events = false;
+            }
+        }
+        catch (InterruptedException ex)
+        {
+            throw ex;
+        }
+        catch (Exception ex)
+        {
+            handleError(ex);
+        }
+        finally
+        {
+            receiving_events = false;
+        }
+    }
+
+    /** Handles events pushed by server */
+    private final ScanInfoModelListener event_handler = new ScanInfoModelListener()
+    {
+        @Override
+        public void scanServerUpdate(final ScanServerInfo info)
+        {
+            receiving_events = true;
+            server_info = info;
+            for (ScanInfoModelListener listener : listeners)
+                listener.scanServerUpdate(info);
+        }
+
+        @Override
+        public void scanUpdate(final List<ScanInfo> update)
+        {
+            if (update.equals(infos) && is_connected)
+                return;
+            is_connected = true;
+            infos = update;
+            for (ScanInfoModelListener listener : listeners)
+                listener.scanUpdate(infos);
+        }
+
+        @Override
+        public void scanDataUpdate(final long id, final long serial)
+        {
+            for (ScanInfoModelListener listener : listeners)
+                listener.scanDataUpdate(id, serial);
+        }
+    };
+
     /** Poll the server for info
      *  @throws InterruptedException
      */
@@ -188,17 +273,26 @@ public class ScanInfoModel
         }
         catch (Exception ex)
         {
-            logger.log(Level.WARNING, "Cannot poll ScanServer", ex);
-            infos = Collections.emptyList();
-            if (is_connected)
-            {   // Notify listeners once we get into the error state
-                is_connected = false;
-                for (ScanInfoModelListener listener : listeners)
-                    listener.connectionError();
-            }
-            // Wait a little
-            Thread.sleep(5000);
+            handleError(ex);
+        }
+    }
+
+    /** Handle error in communication with server
+     *  @param ex Error
+     *  @throws InterruptedException
+     */
+    private void handleError(final Exception ex) throws InterruptedException
+    {
+        logger.log(Level.WARNING, "Cannot poll ScanServer", ex);
+        infos = Collections.emptyList();
+        if (is_connected)
+        {   // Notify listeners once we get into the error state
+            is_connected = false;
+            for (ScanInfoModelListener listener : listeners)
+                listener.connectionError();
         }
+        // Wait a little
+        Thread.sleep(5000);
     }
 
     /** @return Scan Server info or <code>null</code> */
@@ -31,6 +31,16 @@ public interface ScanInfoModelListener
     /** Invoked when there is new scan info available */
     default void scanUpdate(List<ScanInfo> infos) {};
 
+    /** Invoked when a scan logged new data
+     *
+     *  <p>Only invoked when the scan server pushes events,
+     *  otherwise clients need to poll for new data.
+     *
+     *  @param id Scan ID
+     *  @param serial Serial of last sample in scan data
+     */
+    default void scanDataUpdate(long id, long serial) {};
+
     /** Invoked when there are errors in communication with scan server */
     default void connectionError() {};
 }
@@ -17,6 +17,7 @@ package org.csstudio.scan.data;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -56,4 +57,60 @@ public class ScanData
     {
         return device_logs.get(device_name);
     }
+
+    /** @return Highest serial of all samples, -1 if there are no samples */
+    public long getLastSerial()
+    {
+        long last = -1;
+        for (List<ScanSample> samples : device_logs.values())
+            for (ScanSample sample : samples)
+                last = Math.max(last, sample.getSerial());
+        return last;
+    }
+
+    /** Serial to use when fetching samples logged since this data was obtained
+     *
+     *  <p>Several devices are logged with the same serial,
+     *  so the last serial may not be complete, yet.
+     *  It is requested again, and {@link #merge(ScanData)}
+     *  skips the samples that are already present.
+     *
+     *  @return Serial before the last serial
+     */
+    public long getUpdateSerial()
+    {
+        return getLastSerial() - 1;
+    }
+
+    /** Merge data with an update
+     *
+     *  <p>Samples in the update are added to the samples of this data,
+     *  unless their serial is at or below the last serial already present
+     *  for the device.
+     *  This data remains unchanged.
+     *
+     *  @param update Samples logged since this data was obtained
+     *  @return {@link ScanData} with samples from this data and the update
+     */
+    public ScanData merge(final ScanData update)
+    {
+        final Map<String, List<ScanSample>> merged = new HashMap<>(device_logs);
+        for (Map.Entry<String, List<ScanSample>> entry : update.device_logs.entrySet())
+        {
+            final List<ScanSample> samples = device_logs.get(entry.getKey());
+            if (samples == null)
+            {
+                merged.put(entry.getKey(), entry.getValue());
+                continue;
+            }
+            final long last = samples.isEmpty() ? -1 : samples.get(samples.size()-1).getSerial();
+            final List<ScanSample> combined = new ArrayList<>(samples.size() + entry.getValue().size());
+            combined.addAll(samples);
+            for (ScanSample sample : entry.getValue())
+                if (sample.getSerial() > last)
+                    combined.add(sample);
+            merged.put(entry.getKey(), combined);
+        }
+        return new ScanData(merged);
+    }
 }
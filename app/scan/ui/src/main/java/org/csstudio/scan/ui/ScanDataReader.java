@@ -18,10 +18,20 @@ import java.util.function.Consumer;
 import java.util.logging.Level;
 
 import org.csstudio.scan.client.ScanClient;
+import org.csstudio.scan.client.ScanInfoModel;
+import org.csstudio.scan.client.ScanInfoModelListener;
 import org.csstudio.scan.data.ScanData;
 import org.phoebus.framework.jobs.NamedThreadFactory;
 
 /** Periodically read data of a scan until the scan completes
+ *
+ *  <p>After reading the complete data once,
+ *  only samples logged since then are read and merged.
+ *
+ *  <p>When the {@link ScanInfoModel} receives events pushed by the
+ *  scan server, data is read whenever the server reports new data
+ *  instead of periodically checking for it.
+ *
  *  @author Kay Kasemir
  */
 @SuppressWarnings("nls")
@@ -56,7 +66,25 @@ public class ScanDataReader
     private ScheduledFuture<?> updates = null;
 
     /** Last known scan serial */
-    private long last_serial = ScanClient.UNKNOWN_SCAN_SERIAL;
+    private volatile long last_serial = ScanClient.UNKNOWN_SCAN_SERIAL;
+
+    /** Data read so far, <code>null</code> until data of current scan has been read */
+    private volatile ScanData data = null;
+
+    /** Model that may receive data events, <code>null</code> if not available */
+    private final ScanInfoModel scan_info_model;
+
+    /** Triggers a read when server reports new data for the scan */
+    private final ScanInfoModelListener data_events = new ScanInfoModelListener()
+    {
+        @Override
+        public void scanDataUpdate(final long id, final long serial)
+        {
+            // Same serial may still have new samples, so re-read
+            if (id == scan_id  &&  serial >= last_serial)
+                timer.submit(() -> poll(true));
+        }
+    };
 
     /** Create reader for scan's log data
      *  @param scan_client {@link ScanClient}
@@ -66,6 +94,17 @@ public class ScanDataReader
     {
         this.scan_client = scan_client;
         this.data_listener = data_listener;
+        ScanInfoModel model = null;
+        try
+        {
+            model = ScanInfoModel.getInstance();
+            model.addListener(data_events);
+        }
+        catch (Exception ex)
+        {
+            logger.log(Level.WARNING, "Cannot receive scan data events", ex);
+        }
+        scan_info_model = model;
         trigger();
     }
 
@@ -73,6 +112,7 @@ public class ScanDataReader
     public void setScanId(final long scan_id)
     {
         last_serial = ScanClient.UNKNOWN_SCAN_SERIAL;
+        data = null;
         this.scan_id = scan_id;
         trigger();
     }
@@ -88,33 +128,52 @@ public class ScanDataReader
     {
         // If there are no updates, because scan had stopped or this is the very first call, start them.
         if (updates == null)
-            updates = timer.scheduleWithFixedDelay(this::poll, 100, 1000, TimeUnit.MILLISECONDS);
-        else
-            // Updates are running, but we want another update ASAP
-            timer.submit(this::poll);
+            updates = timer.scheduleWithFixedDelay(this::periodicPoll, 1000, 1000, TimeUnit.MILLISECONDS);
+        // Read ASAP, not waiting for the next period
+        timer.submit(() -> poll(false));
     }
 
-    private Void poll()
+    /** Periodic poll, skipped while data events are received */
+    private void periodicPoll()
+    {
+        if (scan_info_model == null  ||  ! scan_info_model.isReceivingEvents())
+            poll(false);
+    }
+
+    /** @param force Read data even if the serial did not change */
+    private Void poll(final boolean force)
     {
         final long id = scan_id;
         if (id >= 0)
             try
             {
                 final long serial = scan_client.getLastScanDataSerial(id);
+                // Is this a known scan, and it's done?
+                // Check before reading, so the last read includes all data
+                final boolean done = serial >= 0  &&
+                                     scan_client.getScanInfo(id).getState().isDone();
                 // Last_serial starts 'unknown'.
-                if (serial > last_serial)
+                // Samples may be added with the last serial,
+                // so re-read that when forced and once the scan is done.
+                if (serial > last_serial  ||  (serial >= 0  &&  (force  ||  done)))
                 {
                     // As soon as the scan is known, even with 'no data' (serial -1),
                     // fetch the data
                     logger.log(Level.FINE, "Received data for scan {0}", id);
-                    final ScanData data = scan_client.getScanData(id);
+                    ScanData data = this.data;
+                    if (data == null)
+                        data = scan_client.getScanData(id);
+                    else
+                        data = data.merge(scan_client.getScanData(id, data.getUpdateSerial()));
+                    // Ignore data if scan ID changed while reading
+                    if (id != scan_id)
+                        return null;
+                    this.data = data;
                     // Inform listener
                     data_listener.accept(data);
                     last_serial = serial;
                 }
-                // Is this a known scan, and it's done?
-                if (serial >= 0  &&
-                    scan_client.getScanInfo(id).getState().isDone())
+                if (done)
                 {
                     shutdown();
                     logger.log(Level.FINE, "Completed reading data for scan {0}", id);
@@ -140,4 +199,17 @@ public class ScanDataReader
             updates = null;
         }
     }
+
+    /** Shut down and release resources.
+     *  Reader must not be used after calling this.
+     */
+    public void dispose()
+    {
+        shutdown();
+        if (scan_info_model != null)
+        {
+            scan_info_model.removeListener(data_events);
+            scan_info_model.release();
+        }
+    }
 }
@@ -350,7 +350,7 @@ public class DataPlot extends VBox
     public void stop()
     {
         // Stop reader
-        reader.shutdown();
+        reader.dispose();
         reader = null;
     }
 }
@@ -233,6 +233,6 @@ public class DataTable extends StackPane
     /** Should be called to stop the reader (in case it's still running) */
     public void dispose()
     {
-        reader.shutdown();
+        reader.dispose();
     }
 }
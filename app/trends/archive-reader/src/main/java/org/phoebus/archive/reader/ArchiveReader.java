@@ -10,6 +10,9 @@ package org.phoebus.archive.reader;
 import java.io.Closeable;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /** Interface to archive data retrieval.
  *
@@ -107,6 +110,106 @@ public interface ArchiveReader extends Closeable
         return getRawValues(name, start, end);
     }
 
+    /** Check if multi-channel requests are handled in one request
+     *  <p>
+     *  Clients may then combine the requests for several channels
+     *  instead of issuing them one by one.
+     *
+     *  @param optimized Check optimized or raw requests?
+     *  @return <code>true</code> if {@link #getOptimizedValues(List, Instant, Instant, int)}
+     *          respectively {@link #getRawValues(List, Instant, Instant)}
+     *          read several channels with one request
+     */
+    public default boolean supportsMultiChannelRequests(boolean optimized)
+    {
+        return false;
+    }
+
+    /** Read original, raw samples for several channels
+     *  <p>
+     *  Readers that can fetch the data for several channels in one request
+     *  should override this method.
+     *  The default implementation calls {@link #getRawValues(String, Instant, Instant)}
+     *  for each channel.
+     *
+     *  @param names Channel names
+     *  @param start Start time
+     *  @param end End time
+     *  @return {@link ValueIterator} for each channel, in the order of the names.
+     *          Channels that are not known to the archive are omitted.
+     *          Caller must close all iterators.
+     *  @throws Exception on error
+     */
+    public default Map<String, ValueIterator> getRawValues(List<String> names,
+            Instant start, Instant end) throws Exception
+    {
+        final Map<String, ValueIterator> result = new LinkedHashMap<>();
+        try
+        {
+            for (String name : names)
+            {
+                try
+                {
+                    result.put(name, getRawValues(name, start, end));
+                }
+                catch (UnknownChannelException ex)
+                {
+                    // Omit unknown channel
+                }
+            }
+        }
+        catch (Exception ex)
+        {
+            for (ValueIterator iter : result.values())
+                iter.close();
+            throw ex;
+        }
+        return result;
+    }
+
+    /** Read optimized samples for several channels
+     *  <p>
+     *  Readers that can fetch the data for several channels in one request
+     *  should override this method.
+     *  The default implementation calls {@link #getOptimizedValues(String, Instant, Instant, int)}
+     *  for each channel.
+     *
+     *  @param names Channel names
+     *  @param start Start time
+     *  @param end End time
+     *  @param count Hint for number of values per channel
+     *  @return {@link ValueIterator} for each channel, in the order of the names.
+     *          Channels that are not known to the archive are omitted.
+     *          Caller must close all iterators.
+     *  @throws Exception on error
+     */
+    public default Map<String, ValueIterator> getOptimizedValues(List<String> names,
+            Instant start, Instant end, int count) throws Exception
+    {
+        final Map<String, ValueIterator> result = new LinkedHashMap<>();
+        try
+        {
+            for (String name : names)
+            {
+                try
+                {
+                    result.put(name, getOptimizedValues(name, start, end, count));
+                }
+                catch (UnknownChannelException ex)
+                {
+                    // Omit unknown channel
+                }
+            }
+        }
+        catch (Exception ex)
+        {
+            for (ValueIterator iter : result.values())
+                iter.close();
+            throw ex;
+        }
+        return result;
+    }
+
     /** Cancel an ongoing get*() call. */
     public default void cancel()
     {
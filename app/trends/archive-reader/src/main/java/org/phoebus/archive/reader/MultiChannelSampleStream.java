@@ -0,0 +1,237 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.phoebus.archive.reader;
+
+import static org.phoebus.archive.reader.ArchiveReaders.logger;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.logging.Level;
+
+import org.epics.vtype.VType;
+
+/** Samples of several channels, read from one stream that is ordered by channel
+ *
+ *  <p>Used by readers that fetch the samples of several channels
+ *  with one query that returns all samples of the first channel,
+ *  then all samples of the next channel, and so on.
+ *  Hands out one {@link ValueIterator} per channel.
+ *
+ *  <p>When the iterators are used in the order of the stream,
+ *  the samples are passed on as they are read, without holding them in memory.
+ *  When a channel is read out of order, the samples of the channels
+ *  before it in the stream are buffered until their iterators read or close them.
+ *
+ *  <p>The stream is opened when first used and closed once it has been read
+ *  or all iterators have been closed.
+ *  When reading the stream fails, the iterators of the channels
+ *  that had not been read completely throw an {@link IllegalStateException}
+ *  once they have passed on the samples received before the error.
+ */
+@SuppressWarnings("nls")
+abstract public class MultiChannelSampleStream
+{
+    /** Iterator for one channel */
+    private class ChannelIterator implements ValueIterator
+    {
+        private final ArrayDeque<VType> buffer = new ArrayDeque<>();
+        private boolean ended = false, closed = false;
+
+        /** Error that ended the samples of this channel, or <code>null</code> */
+        private Exception error = null;
+
+        @Override
+        public boolean hasNext()
+        {
+            return fetch(this);
+        }
+
+        @Override
+        public VType next()
+        {
+            synchronized (MultiChannelSampleStream.this)
+            {
+                if (! fetch(this))
+                    throw new NoSuchElementException();
+                return buffer.poll();
+            }
+        }
+
+        @Override
+        public void close()
+        {
+            closeIterator(this);
+        }
+    }
+
+    /** Channel IDs in the order of the stream */
+    private final int[] ids;
+
+    /** Channel index by ID */
+    private final Map<Integer, Integer> index_by_id = new HashMap<>();
+
+    /** Iterators by channel index */
+    private final ChannelIterator[] iterators;
+
+    /** Index of the channel for which the stream returns samples */
+    private int current = 0;
+
+    private boolean opened = false, ended = false;
+
+    /** Number of iterators that have not been closed */
+    private int open_iterators;
+
+    /** @param ids IDs of channels, in the order in which the stream returns their samples */
+    protected MultiChannelSampleStream(final List<Integer> ids)
+    {
+        this.ids = new int[ids.size()];
+        iterators = new ChannelIterator[ids.size()];
+        for (int i=0; i<this.ids.length; ++i)
+        {
+            this.ids[i] = ids.get(i);
+            index_by_id.put(this.ids[i], i);
+            iterators[i] = new ChannelIterator();
+        }
+        open_iterators = iterators.length;
+    }
+
+    /** @param channel_id ID of a channel
+     *  @return {@link ValueIterator} for the samples of that channel
+     *  @throws IllegalArgumentException if channel is not part of the stream
+     */
+    public ValueIterator getIterator(final int channel_id)
+    {
+        final Integer index = index_by_id.get(channel_id);
+        if (index == null)
+            throw new IllegalArgumentException("Channel " + channel_id + " is not in stream");
+        return iterators[index];
+    }
+
+    /** Open the stream
+     *  @throws Exception on error
+     */
+    abstract protected void open() throws Exception;
+
+    /** Move to the next sample in the stream
+     *  @return ID of the channel for that sample, or -1 at end of stream
+     *  @throws Exception on error
+     */
+    abstract protected int next() throws Exception;
+
+    /** Decode the current sample
+     *  @param channel_id ID of the channel returned by {@link #next()}
+     *  @return Sample
+     *  @throws Exception on error
+     */
+    abstract protected VType decode(int channel_id) throws Exception;
+
+    /** Called when the stream has moved past the samples of a channel
+     *  @param channel_id ID of the channel
+     */
+    protected void channelEnded(final int channel_id)
+    {
+        // NOP
+    }
+
+    /** Close the stream. Called once, if it had been opened. */
+    abstract protected void close();
+
+    /** @param ex Error
+     *  @return <code>true</code> if the error is the result of cancelling the reader
+     */
+    protected boolean isCancellation(final Exception ex)
+    {
+        return false;
+    }
+
+    /** Read the stream until a sample is available for a channel
+     *  @param channel Channel
+     *  @return <code>true</code> if channel has a sample
+     *  @throws IllegalStateException if the stream failed before all samples of the channel were read
+     */
+    private synchronized boolean fetch(final ChannelIterator channel)
+    {
+        while (channel.buffer.isEmpty()  &&  ! channel.ended  &&  ! channel.closed)
+        {
+            try
+            {
+                if (! opened)
+                {
+                    opened = true;
+                    open();
+                }
+                final int id = next();
+                if (id < 0)
+                {
+                    endStream();
+                    break;
+                }
+                final Integer index = index_by_id.get(id);
+                if (index == null  ||  index < current)
+                    throw new Exception("Samples for channel " + id + " are not in the expected order");
+                // Stream is ordered by channel, so the channels before this one have ended
+                while (current < index)
+                    endChannel(current++);
+                final ChannelIterator target = iterators[index];
+                if (! target.closed)
+                    target.buffer.add(decode(id));
+            }
+            catch (Exception ex)
+            {
+                if (! isCancellation(ex))
+                {   // Report to all channels that did not receive their samples
+                    logger.log(Level.FINE, "Error reading samples", ex);
+                    for (int i=current; i<iterators.length; ++i)
+                        iterators[i].error = ex;
+                }
+                // Else: Not a real error; end the samples
+                endStream();
+            }
+        }
+        if (channel.buffer.isEmpty()  &&  channel.error != null  &&  ! channel.closed)
+            throw new IllegalStateException("Error reading samples", channel.error);
+        return ! channel.buffer.isEmpty();
+    }
+
+    /** @param index Index of channel that has ended */
+    private void endChannel(final int index)
+    {
+        if (iterators[index].ended)
+            return;
+        iterators[index].ended = true;
+        if (opened)
+            channelEnded(ids[index]);
+    }
+
+    /** End all remaining channels and close the stream */
+    private void endStream()
+    {
+        if (ended)
+            return;
+        ended = true;
+        for (int i=current; i<iterators.length; ++i)
+            endChannel(i);
+        current = iterators.length;
+        if (opened)
+            close();
+    }
+
+    /** @param channel Iterator that has been closed */
+    private synchronized void closeIterator(final ChannelIterator channel)
+    {
+        if (channel.closed)
+            return;
+        channel.closed = true;
+        channel.buffer.clear();
+        if (--open_iterators <= 0)
+            endStream();
+    }
+}
@@ -10,9 +10,14 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.epics.archiverappliance.retrieval.client.DataRetrieval;
 import org.epics.archiverappliance.retrieval.client.EpicsMessage;
@@ -21,6 +26,7 @@ import org.epics.archiverappliance.retrieval.client.RawDataRetrieval;
 import org.phoebus.archive.reader.ArchiveReader;
 import org.phoebus.archive.reader.UnknownChannelException;
 import org.phoebus.archive.reader.ValueIterator;
+import org.phoebus.framework.jobs.NamedThreadFactory;
 import org.phoebus.ui.text.RegExHelper;
 import org.phoebus.util.time.TimestampHelper;
 
@@ -36,6 +42,11 @@ public class ApplianceArchiveReader implements ArchiveReader, IteratorListener {
     private final boolean useStatistics;
     private final boolean useNewOptimizedOperator;
 
+    /** Thread pool for the requests of {@link #getRawValues(List, Instant, Instant)} */
+    private static final ExecutorService bulk_requests =
+        Executors.newFixedThreadPool(Math.max(1, AppliancePreferences.bulkRequestThreads),
+                                     new NamedThreadFactory("ApplianceBulkRequests"));
+
     private Map<ApplianceValueIterator, ApplianceArchiveReader> iterators = Collections.synchronizedMap(
                new WeakHashMap<ApplianceValueIterator, ApplianceArchiveReader>());
 
@@ -173,6 +184,75 @@ public class ApplianceArchiveReader implements ArchiveReader, IteratorListener {
         return it;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The appliance's raw protocol handles one PV per request,
+     * so the requests for the channels are issued concurrently.
+     */
+    @Override
+    public Map<String, ValueIterator> getRawValues(List<String> names, Instant start, Instant end) throws Exception {
+        return getConcurrently(names, name -> getRawValues(name, start, end));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The appliance's raw protocol handles one PV per request,
+     * so the requests for the channels are issued concurrently.
+     */
+    @Override
+    public Map<String, ValueIterator> getOptimizedValues(List<String> names, Instant start, Instant end, int count) throws Exception {
+        return getConcurrently(names, name -> getOptimizedValues(name, start, end, count));
+    }
+
+    /** Request for the samples of one channel */
+    @FunctionalInterface
+    private interface ChannelRequest {
+        ValueIterator get(String name) throws Exception;
+    }
+
+    /**
+     * Submit requests for several channels to the bulk request pool.
+     *
+     * @param names channel names
+     * @param request request for one channel
+     * @return iterators by channel name, in order of the names, omitting unknown channels
+     * @throws Exception on error
+     */
+    private Map<String, ValueIterator> getConcurrently(List<String> names, ChannelRequest request) throws Exception {
+        final List<Future<ValueIterator>> futures = new ArrayList<>(names.size());
+        for (String name : names) {
+            futures.add(bulk_requests.submit(() -> request.get(name)));
+        }
+        final Map<String, ValueIterator> result = new LinkedHashMap<>();
+        Exception error = null;
+        for (int i = 0; i < names.size(); ++i) {
+            try {
+                result.put(names.get(i), futures.get(i).get());
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof UnknownChannelException) {
+                    continue;
+                }
+                if (error == null) {
+                    error = ex.getCause() instanceof Exception ? (Exception) ex.getCause() : ex;
+                }
+            } catch (InterruptedException ex) {
+                futures.forEach(future -> future.cancel(true));
+                if (error == null) {
+                    error = ex;
+                }
+            }
+        }
+        if (error != null) {
+            for (ValueIterator iter : result.values()) {
+                iter.close();
+            }
+            throw error;
+        }
+        return result;
+    }
+
     @Override
     public void cancel() {
         ApplianceValueIterator[] its = iterators.keySet().toArray(new ApplianceValueIterator[0]);
@@ -18,6 +18,8 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
@@ -28,6 +30,7 @@ import org.phoebus.archive.reader.AveragedValueIterator;
 import org.phoebus.archive.reader.UnknownChannelException;
 import org.phoebus.archive.reader.ValueIterator;
 import org.phoebus.framework.rdb.RDBConnectionPool;
+import org.phoebus.framework.rdb.RDBInfo.Dialect;
 import org.phoebus.pv.PVPool;
 import org.phoebus.util.time.TimeDuration;
 
@@ -57,6 +60,9 @@ public class RDBArchiveReader implements ArchiveReader
     /** Map of severity IDs to Severities */
     private final Map<Integer, AlarmSeverity> severities;
 
+    /** Maximum number of channels in one SQL 'IN (...)' clause. Oracle allows up to 1000. */
+    private static final int MAX_CHANNELS_PER_QUERY = 500;
+
     /** Active statements to cancel in cancel() */
     private final List<Statement> cancellable_statements = new ArrayList<>();
 
@@ -323,6 +329,240 @@ public class RDBArchiveReader implements ArchiveReader
         return new AveragedValueIterator(raw_data, seconds);
     }
 
+    @Override
+    public boolean supportsMultiChannelRequests(final boolean optimized)
+    {
+        // Stored procedure handles one channel at a time
+        return ! optimized  ||  RDBPreferences.stored_procedure.isEmpty();
+    }
+
+    /** {@inheritDoc}
+     *
+     *  <p>Reads the samples of all channels with one query
+     *  for each block of up to {@link #MAX_CHANNELS_PER_QUERY} channels,
+     *  starting each channel at its last sample at-or-before 'start'.
+     *  Samples are streamed as the iterators are read.
+     *  The channels are returned in the order of the names,
+     *  but each query returns its samples sorted by channel ID.
+     *  Reading the iterators in a different order, or several of them at once,
+     *  buffers the samples of channels that are earlier in the query.
+     */
+    @Override
+    public Map<String, ValueIterator> getRawValues(final List<String> names,
+                                                   final Instant start, final Instant end) throws Exception
+    {
+        return getRawValues(getChannelIDs(names), start, end);
+    }
+
+    /** {@inheritDoc}
+     *
+     *  <p>Unless a stored procedure is used, counts the samples
+     *  of all channels in one query, then streams the raw samples
+     *  as in {@link #getRawValues(List, Instant, Instant)}
+     *  and averages per channel.
+     */
+    @Override
+    public Map<String, ValueIterator> getOptimizedValues(final List<String> names,
+                                                         final Instant start, final Instant end, final int count) throws Exception
+    {
+        // Stored procedure handles one channel at a time
+        if (! RDBPreferences.stored_procedure.isEmpty())
+            return ArchiveReader.super.getOptimizedValues(names, start, end, count);
+        if (count <= 1)
+            throw new Exception("Count must be > 1");
+
+        final Map<String, Integer> ids = getChannelIDs(names);
+        final List<Integer> unique_ids = new ArrayList<>(new LinkedHashSet<>(ids.values()));
+        final Map<Integer, Integer> counted = new HashMap<>();
+        for (int i=0; i<unique_ids.size(); i+=MAX_CHANNELS_PER_QUERY)
+        {
+            final List<Integer> block = unique_ids.subList(i, Math.min(i+MAX_CHANNELS_PER_QUERY, unique_ids.size()));
+            final Connection connection = pool.getConnection();
+            try (final PreparedStatement statement = connection.prepareStatement(SQL.forChannels(sql.sample_count_by_ids_start_end, block.size())))
+            {
+                addForCancellation(statement);
+                try
+                {
+                    int p = 0;
+                    for (int id : block)
+                        statement.setInt(++p, id);
+                    statement.setTimestamp(++p, Timestamp.from(start));
+                    statement.setTimestamp(++p, Timestamp.from(end));
+                    try (final ResultSet result = statement.executeQuery())
+                    {
+                        while (result.next())
+                            counted.put(result.getInt(1), result.getInt(2));
+                    }
+                }
+                finally
+                {
+                    removeFromCancellation(statement);
+                }
+            }
+            finally
+            {
+                pool.releaseConnection(connection);
+            }
+        }
+
+        final Map<String, ValueIterator> result = getRawValues(ids, start, end);
+        final double seconds = TimeDuration.toSecondsDouble(Duration.between(start, end)) / count;
+        for (Map.Entry<String, ValueIterator> entry : result.entrySet())
+            if (counted.getOrDefault(ids.get(entry.getKey()), 0) >= count)
+                entry.setValue(new AveragedValueIterator(entry.getValue(), seconds));
+        return result;
+    }
+
+    /** @param names Channel names
+     *  @return Numeric channel IDs by name, in order of the names, omitting unknown channels
+     *  @throws Exception on error
+     */
+    private Map<String, Integer> getChannelIDs(final List<String> names) throws Exception
+    {
+        // Look for exact names in one query per block of channels
+        final Map<String, Integer> found = new HashMap<>();
+        for (int i=0; i<names.size(); i+=MAX_CHANNELS_PER_QUERY)
+        {
+            final List<String> block = names.subList(i, Math.min(i+MAX_CHANNELS_PER_QUERY, names.size()));
+            final Connection connection = pool.getConnection();
+            try (final PreparedStatement statement = connection.prepareStatement(SQL.forChannels(sql.channel_sel_by_names, block.size())))
+            {
+                addForCancellation(statement);
+                try
+                {
+                    if (RDBPreferences.timeout_secs > 0)
+                        statement.setQueryTimeout(RDBPreferences.timeout_secs);
+                    int p = 0;
+                    for (String name : block)
+                        statement.setString(++p, name);
+                    try (final ResultSet result = statement.executeQuery())
+                    {
+                        while (result.next())
+                            found.put(result.getString(2), result.getInt(1));
+                    }
+                }
+                finally
+                {
+                    removeFromCancellation(statement);
+                }
+            }
+            finally
+            {
+                pool.releaseConnection(connection);
+            }
+        }
+
+        // Check name variants for the remaining channels
+        final Map<String, Integer> ids = new LinkedHashMap<>();
+        for (String name : names)
+        {
+            Integer id = found.get(name);
+            if (id == null)
+            {
+                try
+                {
+                    id = getChannelID(name);
+                }
+                catch (UnknownChannelException ex)
+                {
+                    logger.log(Level.FINE, "Unknown channel {0}", name);
+                    continue;
+                }
+            }
+            ids.put(name, id);
+        }
+        return ids;
+    }
+
+    /** Stream raw samples for several channels
+     *  @param ids Channel IDs by name
+     *  @param start Start time
+     *  @param end End time
+     *  @return {@link ValueIterator} by name, in the order of the names
+     *  @throws Exception on error
+     */
+    private Map<String, ValueIterator> getRawValues(final Map<String, Integer> ids,
+                                                    final Instant start, final Instant end) throws Exception
+    {
+        // Names by channel ID. Usually one name per ID, but name variants may share an ID
+        final Map<Integer, List<String>> names = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : ids.entrySet())
+            names.computeIfAbsent(entry.getValue(), id -> new ArrayList<>()).add(entry.getKey());
+        final List<Integer> unique_ids = new ArrayList<>(names.keySet());
+
+        final Map<String, ValueIterator> iterators = new HashMap<>();
+        try
+        {
+            for (int i=0; i<unique_ids.size(); i+=MAX_CHANNELS_PER_QUERY)
+            {
+                // Query returns the samples ordered by channel ID
+                final List<Integer> block = new ArrayList<>(unique_ids.subList(i, Math.min(i+MAX_CHANNELS_PER_QUERY, unique_ids.size())));
+                block.sort(null);
+                final RDBSampleStream stream = new RDBSampleStream(this, block, start, end);
+                for (int id : block)
+                {
+                    final List<String> id_names = names.get(id);
+                    iterators.put(id_names.get(0), stream.getIterator(id));
+                    // Additional names for the same channel use their own query
+                    for (int n=1; n<id_names.size(); ++n)
+                        iterators.put(id_names.get(n), getRawValues(id, start, end));
+                }
+            }
+        }
+        catch (Exception ex)
+        {
+            for (ValueIterator iter : iterators.values())
+                iter.close();
+            throw ex;
+        }
+        final Map<String, ValueIterator> result = new LinkedHashMap<>();
+        for (String name : ids.keySet())
+            result.put(name, iterators.get(name));
+        return result;
+    }
+
+    /** Determine time of the last sample at-or-before the start time
+     *  @param connection Connection to use
+     *  @param channel_id Channel ID
+     *  @param start Start time
+     *  @param end End time
+     *  @return Time of initial sample, or the start time
+     *  @throws Exception on error, including cancellation
+     */
+    Timestamp determineInitialTime(final Connection connection, final int channel_id,
+                                   final Timestamp start, final Timestamp end) throws Exception
+    {
+        final PreparedStatement statement = connection.prepareStatement(sql.sample_sel_initial_time);
+        addForCancellation(statement);
+        try
+        {
+            statement.setInt(1, channel_id);
+            statement.setTimestamp(2, start);
+            if (statement.getParameterMetaData().getParameterCount() == 3)
+                statement.setTimestamp(3, end);
+            try (final ResultSet result = statement.executeQuery())
+            {
+                if (result.next())
+                {
+                    final Timestamp actual_start = result.getTimestamp(1);
+                    if (actual_start != null)
+                    {
+                        // Oracle has nanoseconds in TIMESTAMP, MySQL in separate column
+                        if (pool.getDialect() == Dialect.MySQL || pool.getDialect() == Dialect.PostgreSQL)
+                            actual_start.setNanos(result.getInt(2));
+                        return actual_start;
+                    }
+                }
+            }
+        }
+        finally
+        {
+            removeFromCancellation(statement);
+            statement.close();
+        }
+        return start;
+    }
+
     /** @param name Channel name
      *  @return Numeric channel ID
      *  @throws UnknownChannelException when channel not known
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.phoebus.archive.reader.rdb;
+
+import static org.phoebus.archive.reader.ArchiveReaders.logger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.logging.Level;
+
+import org.epics.vtype.VType;
+import org.phoebus.archive.reader.MultiChannelSampleStream;
+import org.phoebus.framework.rdb.RDBInfo.Dialect;
+
+/** Stream of the raw samples for a block of channels
+ *
+ *  <p>Reads the samples of all channels with one query,
+ *  where each channel starts at its last sample at-or-before the start time.
+ */
+@SuppressWarnings("nls")
+class RDBSampleStream extends MultiChannelSampleStream
+{
+    private final RDBArchiveReader reader;
+    private final List<Integer> ids;
+    private final Instant start, end;
+
+    private Connection connection = null;
+    private PreparedStatement statement = null;
+    private ResultSet result = null;
+    private int id_column;
+
+    /** Decoder for the current channel */
+    private SampleDecoder decoder = null;
+
+    /** @param reader {@link RDBArchiveReader}
+     *  @param ids Channel IDs, sorted
+     *  @param start Start time
+     *  @param end End time
+     */
+    RDBSampleStream(final RDBArchiveReader reader, final List<Integer> ids,
+                    final Instant start, final Instant end)
+    {
+        super(ids);
+        this.reader = reader;
+        this.ids = ids;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    protected void open() throws Exception
+    {
+        connection = reader.getPool().getConnection();
+        final Timestamp start_stamp = Timestamp.from(start);
+        final Timestamp end_stamp = Timestamp.from(end);
+        final Timestamp[] starts = new Timestamp[ids.size()];
+        for (int i=0; i<starts.length; ++i)
+            starts[i] = reader.determineInitialTime(connection, ids.get(i), start_stamp, end_stamp);
+
+        // PostgreSQL only streams the result with auto-commit disabled
+        if (reader.getPool().getDialect() == Dialect.PostgreSQL)
+            connection.setAutoCommit(false);
+        final SQL sql = reader.getSQL();
+        statement = connection.prepareStatement(SQL.forChannelsFrom(RDBPreferences.use_array_blob
+                                                                    ? sql.sample_sel_by_ids_start_end_with_blob
+                                                                    : sql.sample_sel_by_ids_start_end,
+                                                                    ids.size()),
+                                                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchDirection(ResultSet.FETCH_FORWARD);
+        statement.setFetchSize(RDBPreferences.fetch_size);
+        reader.addForCancellation(statement);
+        int p = 0;
+        for (int i=0; i<starts.length; ++i)
+        {
+            statement.setInt(++p, ids.get(i));
+            statement.setTimestamp(++p, starts[i]);
+        }
+        statement.setTimestamp(++p, end_stamp);
+        result = statement.executeQuery();
+        // Channel ID is the last column
+        id_column = result.getMetaData().getColumnCount();
+    }
+
+    @Override
+    protected int next() throws Exception
+    {
+        return result.next() ? result.getInt(id_column) : -1;
+    }
+
+    @Override
+    protected VType decode(final int channel_id) throws Exception
+    {
+        if (decoder == null  ||  decoder.channel_id != channel_id)
+        {
+            closeDecoder();
+            decoder = new SampleDecoder(reader, channel_id);
+        }
+        return decoder.decode(result);
+    }
+
+    @Override
+    protected void channelEnded(final int channel_id)
+    {
+        if (decoder != null  &&  decoder.channel_id == channel_id)
+            closeDecoder();
+    }
+
+    private void closeDecoder()
+    {
+        if (decoder != null)
+        {
+            decoder.close();
+            decoder = null;
+        }
+    }
+
+    @Override
+    protected boolean isCancellation(final Exception ex)
+    {
+        return RDBArchiveReader.isCancellation(ex);
+    }
+
+    @Override
+    protected void close()
+    {
+        closeDecoder();
+        try
+        {
+            if (result != null)
+                result.close();
+            if (statement != null)
+            {
+                reader.removeFromCancellation(statement);
+                statement.close();
+            }
+            if (connection != null  &&  reader.getPool().getDialect() == Dialect.PostgreSQL)
+            {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        }
+        catch (Exception ex)
+        {
+            logger.log(Level.WARNING, "Error closing sample stream", ex);
+        }
+        if (connection != null)
+            reader.getPool().releaseConnection(connection);
+    }
+}
@@ -37,6 +37,12 @@ class SQL
     final public String sample_sel_array_vals;
     final public String sample_count_by_id_start_end;
 
+    // Statements for several channels, with "%s" for the channel placeholders
+    final public String channel_sel_by_names;
+    final public String sample_sel_by_ids_start_end;
+    final public String sample_sel_by_ids_start_end_with_blob;
+    final public String sample_count_by_ids_start_end;
+
 
     SQL(final Dialect dialect, String prefix)
     {
@@ -95,6 +101,17 @@ class SQL
                 "   ORDER BY smpl_time";
         sample_sel_array_vals = "SELECT float_val FROM " + prefix + "array_val" +
                 " WHERE channel_id=? AND smpl_time=? ORDER BY seq_nbr";
+            sample_sel_by_ids_start_end =
+                "SELECT smpl_time, severity_id, status_id, num_val, float_val, str_val, channel_id FROM " + prefix + "sample"+
+                "   WHERE (%s)" +
+                "     AND smpl_time<=?" +
+                "   ORDER BY channel_id, smpl_time";
+            sample_sel_by_ids_start_end_with_blob =
+                "SELECT smpl_time, severity_id, status_id, num_val, float_val, str_val, datatype, array_val, channel_id" +
+                "   FROM " + prefix + "sample" +
+                "   WHERE (%s)" +
+                "     AND smpl_time<=?" +
+                "   ORDER BY channel_id, smpl_time";
         }
         else
         {    // MySQL, Postgres
@@ -115,9 +132,57 @@ class SQL
                 "   ORDER BY smpl_time, nanosecs";
             sample_sel_array_vals = "SELECT float_val FROM " + prefix + "array_val" +
                 " WHERE channel_id=? AND smpl_time=? AND nanosecs=? ORDER BY seq_nbr";
+            sample_sel_by_ids_start_end =
+                "SELECT smpl_time, severity_id, status_id, num_val, float_val, str_val, nanosecs, channel_id FROM " + prefix + "sample" +
+                "   WHERE (%s)" +
+                "     AND smpl_time<=?" +
+                "   ORDER BY channel_id, smpl_time, nanosecs";
+            sample_sel_by_ids_start_end_with_blob =
+                "SELECT smpl_time, severity_id, status_id, num_val, float_val, str_val, nanosecs, datatype, array_val, channel_id" +
+                "   FROM " + prefix + "sample" +
+                "   WHERE (%s)" +
+                "     AND smpl_time<=?" +
+                "   ORDER BY channel_id, smpl_time, nanosecs";
         }
         // Rough count, ignoring nanosecs for the non-Oracle dialects
         sample_count_by_id_start_end = "SELECT COUNT(*) FROM " + prefix + "sample" +
           "   WHERE channel_id=? AND smpl_time BETWEEN ? AND ?";
+
+        channel_sel_by_names = "SELECT channel_id, name FROM " + prefix + "channel WHERE name IN (%s)";
+        sample_count_by_ids_start_end = "SELECT channel_id, COUNT(*) FROM " + prefix + "sample" +
+          "   WHERE channel_id IN (%s) AND smpl_time BETWEEN ? AND ? GROUP BY channel_id";
+    }
+
+    /** @param statement Statement with "%s" placeholder for list of channels
+     *  @param count Number of channels
+     *  @return Statement with "?, ?, ..." for the channels
+     */
+    static String forChannels(final String statement, final int count)
+    {
+        final StringBuilder buf = new StringBuilder();
+        for (int i=0; i<count; ++i)
+        {
+            if (i > 0)
+                buf.append(',');
+            buf.append('?');
+        }
+        return String.format(statement, buf.toString());
+    }
+
+    /** @param statement Statement with "%s" placeholder for the channels
+     *  @param count Number of channels
+     *  @return Statement with "(channel_id=? AND smpl_time>=?) OR ..." for the channels,
+     *          i.e. with a start time for each channel
+     */
+    static String forChannelsFrom(final String statement, final int count)
+    {
+        final StringBuilder buf = new StringBuilder();
+        for (int i=0; i<count; ++i)
+        {
+            if (i > 0)
+                buf.append(" OR ");
+            buf.append("(channel_id=? AND smpl_time>=?)");
+        }
+        return String.format(statement, buf.toString());
     }
 }
@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.phoebus.archive.reader.rdb;
+
+import java.sql.ResultSet;
+import java.util.NoSuchElementException;
+
+import org.epics.vtype.VType;
+
+/** Decoder for the samples of one channel
+ *
+ *  <p>Used when the samples of several channels are read
+ *  in one query.
+ *  Reads the channel's meta data and then decodes
+ *  rows of the SAMPLE table, but doesn't iterate by itself.
+ */
+class SampleDecoder extends AbstractRDBValueIterator
+{
+    /** @param reader {@link RDBArchiveReader}
+     *  @param channel_id ID of channel
+     *  @throws Exception on error
+     */
+    SampleDecoder(final RDBArchiveReader reader, final int channel_id) throws Exception
+    {
+        super(reader, channel_id);
+    }
+
+    /** @param result ResultSet positioned on a sample of this channel
+     *  @return Decoded sample
+     *  @throws Exception on error, including cancellation
+     */
+    VType decode(final ResultSet result) throws Exception
+    {
+        return decodeSampleTableValue(result, true);
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return false;
+    }
+
+    @Override
+    public VType next()
+    {
+        throw new NoSuchElementException();
+    }
+}
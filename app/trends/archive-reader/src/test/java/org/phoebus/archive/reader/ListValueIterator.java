@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.phoebus.archive.reader;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.epics.vtype.VType;
+
+/** {@link ValueIterator} for samples that have already been read
+ *
+ *  <p>Used by readers that fetch the samples of several channels
+ *  in one request and then hand out one iterator per channel.
+ */
+public class ListValueIterator implements ValueIterator
+{
+    private final Iterator<VType> iter;
+
+    /** @param values Values over which to iterate */
+    public ListValueIterator(final List<VType> values)
+    {
+        iter = values.iterator();
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return iter.hasNext();
+    }
+
+    @Override
+    public VType next()
+    {
+        return iter.next();
+    }
+}
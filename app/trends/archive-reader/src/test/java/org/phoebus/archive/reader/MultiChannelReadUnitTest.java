@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.phoebus.archive.reader;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.epics.vtype.Alarm;
+import org.epics.vtype.Display;
+import org.epics.vtype.Time;
+import org.epics.vtype.VDouble;
+import org.epics.vtype.VType;
+import org.junit.jupiter.api.Test;
+
+/** JUnit test of the multi-channel {@link ArchiveReader} calls
+ *
+ *  <p>Uses a fake reader where each request has a fixed latency
+ *  to compare reading 100 channels one by one
+ *  with reading them in one request, as done by the data export.
+ */
+@SuppressWarnings("nls")
+public class MultiChannelReadUnitTest
+{
+    private static final long LATENCY_MS = 10;
+    private static final int SAMPLES = 10;
+
+    /** Reader that knows channels "PV0", "PV1", ... */
+    private static class FakeReader implements ArchiveReader
+    {
+        int requests = 0;
+
+        @Override
+        public String getDescription()
+        {
+            return "Fake";
+        }
+
+        @Override
+        public Collection<String> getNamesByPattern(final String glob_pattern) throws Exception
+        {
+            return List.of();
+        }
+
+        protected List<VType> read(final String name) throws Exception
+        {
+            if (! name.startsWith("PV"))
+                throw new UnknownChannelException(name);
+            final List<VType> values = new ArrayList<>();
+            for (int i=0; i<SAMPLES; ++i)
+                values.add(VDouble.of(i, Alarm.none(), Time.of(Instant.ofEpochSecond(i)), Display.none()));
+            return values;
+        }
+
+        @Override
+        public ValueIterator getRawValues(final String name, final Instant start, final Instant end)
+                throws UnknownChannelException, Exception
+        {
+            ++requests;
+            TimeUnit.MILLISECONDS.sleep(LATENCY_MS);
+            return new ListValueIterator(read(name));
+        }
+    }
+
+    /** Reader that handles several channels in one request */
+    private static class FakeBulkReader extends FakeReader
+    {
+        @Override
+        public Map<String, ValueIterator> getRawValues(final List<String> names,
+                                                       final Instant start, final Instant end) throws Exception
+        {
+            ++requests;
+            TimeUnit.MILLISECONDS.sleep(LATENCY_MS);
+            final Map<String, ValueIterator> result = new LinkedHashMap<>();
+            for (String name : names)
+                try
+                {
+                    result.put(name, new ListValueIterator(read(name)));
+                }
+                catch (UnknownChannelException ex)
+                {
+                    // Omit
+                }
+            return result;
+        }
+    }
+
+    private static List<String> getNames(final int count)
+    {
+        final List<String> names = new ArrayList<>();
+        for (int i=0; i<count; ++i)
+            names.add("PV" + i);
+        return names;
+    }
+
+    /** Read channels, check result
+     *  @return Read time in ms
+     */
+    private static long export(final FakeReader reader, final List<String> names) throws Exception
+    {
+        final long start = System.nanoTime();
+        final Map<String, ValueIterator> iters = reader.getRawValues(names, Instant.EPOCH, Instant.now());
+        long samples = 0;
+        for (ValueIterator iter : iters.values())
+            while (iter.hasNext())
+            {
+                iter.next();
+                ++samples;
+            }
+        final long ms = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertThat(samples, equalTo((long) names.size() * SAMPLES));
+        return ms;
+    }
+
+    @Test
+    public void testUnknownChannels() throws Exception
+    {
+        final List<String> names = List.of("PV2", "Unknown", "PV1");
+        for (FakeReader reader : List.of(new FakeReader(), new FakeBulkReader()))
+        {
+            final Map<String, ValueIterator> iters = reader.getRawValues(names, Instant.EPOCH, Instant.now());
+            // Order is preserved, unknown channel omitted
+            assertThat(new ArrayList<>(iters.keySet()), equalTo(List.of("PV2", "PV1")));
+        }
+    }
+
+    @Test
+    public void testExportBenchmark() throws Exception
+    {
+        final List<String> names = getNames(100);
+
+        final FakeReader single = new FakeReader();
+        final long single_ms = export(single, names);
+        assertThat(single.requests, equalTo(100));
+
+        final FakeReader bulk = new FakeBulkReader();
+        final long bulk_ms = export(bulk, names);
+        assertThat(bulk.requests, equalTo(1));
+
+        System.out.println("Reading " + names.size() + " channels one by one: " + single_ms + " ms, in one request: " + bulk_ms + " ms");
+        assertThat(bulk_ms, lessThan(single_ms));
+    }
+}
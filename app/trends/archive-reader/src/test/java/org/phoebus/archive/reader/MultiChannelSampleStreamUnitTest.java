@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.phoebus.archive.reader;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.epics.vtype.Alarm;
+import org.epics.vtype.Display;
+import org.epics.vtype.Time;
+import org.epics.vtype.VDouble;
+import org.epics.vtype.VType;
+import org.junit.jupiter.api.Test;
+
+/** JUnit test of the {@link MultiChannelSampleStream} */
+@SuppressWarnings("nls")
+public class MultiChannelSampleStreamUnitTest
+{
+    /** Stream of 'rows' samples for each of the channels */
+    private static class TestStream extends MultiChannelSampleStream
+    {
+        private final List<Integer> ids;
+        private final int rows;
+        private int row = -1;
+        int opened = 0, closed = 0, read = 0;
+        /** Row at which the stream fails, -1 for none */
+        int fail_at = -1;
+        boolean cancelled = false;
+        final List<Integer> ended = new ArrayList<>();
+
+        TestStream(final List<Integer> ids, final int rows)
+        {
+            super(ids);
+            this.ids = ids;
+            this.rows = rows;
+        }
+
+        @Override
+        protected void open() throws Exception
+        {
+            ++opened;
+        }
+
+        @Override
+        protected int next() throws Exception
+        {
+            if (++row >= ids.size() * rows)
+                return -1;
+            if (row == fail_at)
+                throw new Exception(cancelled ? "Cancelled" : "Failed");
+            ++read;
+            return ids.get(row / rows);
+        }
+
+        @Override
+        protected VType decode(final int channel_id) throws Exception
+        {
+            return VDouble.of(channel_id * 100 + row % rows, Alarm.none(),
+                              Time.of(Instant.ofEpochSecond(row % rows)), Display.none());
+        }
+
+        @Override
+        protected void channelEnded(final int channel_id)
+        {
+            ended.add(channel_id);
+        }
+
+        @Override
+        protected void close()
+        {
+            ++closed;
+        }
+
+        @Override
+        protected boolean isCancellation(final Exception ex)
+        {
+            return cancelled;
+        }
+    }
+
+    private static List<Double> read(final ValueIterator iter) throws Exception
+    {
+        final List<Double> values = new ArrayList<>();
+        while (iter.hasNext())
+            values.add(((VDouble) iter.next()).getValue());
+        iter.close();
+        return values;
+    }
+
+    @Test
+    public void testInOrder() throws Exception
+    {
+        final TestStream stream = new TestStream(List.of(1, 2, 3), 5);
+        assertThat(stream.opened, equalTo(0));
+
+        final ValueIterator iter1 = stream.getIterator(1);
+        assertTrue(iter1.hasNext());
+        assertThat(stream.opened, equalTo(1));
+        // Streams: Only reads what's needed
+        assertThat(stream.read, equalTo(1));
+        assertThat(read(iter1), equalTo(List.of(100.0, 101.0, 102.0, 103.0, 104.0)));
+        // Looked at first row of next channel to detect the end
+        assertThat(stream.read, equalTo(6));
+        assertThat(stream.ended, equalTo(List.of(1)));
+
+        assertThat(read(stream.getIterator(2)), equalTo(List.of(200.0, 201.0, 202.0, 203.0, 204.0)));
+        assertThat(read(stream.getIterator(3)), equalTo(List.of(300.0, 301.0, 302.0, 303.0, 304.0)));
+        assertThat(stream.ended, equalTo(List.of(1, 2, 3)));
+        assertThat(stream.opened, equalTo(1));
+        assertThat(stream.closed, equalTo(1));
+    }
+
+    @Test
+    public void testOutOfOrder() throws Exception
+    {
+        final TestStream stream = new TestStream(List.of(1, 2, 3), 5);
+        // Reading the last channel buffers the others
+        assertThat(read(stream.getIterator(3)), equalTo(List.of(300.0, 301.0, 302.0, 303.0, 304.0)));
+        assertThat(stream.closed, equalTo(1));
+        assertThat(read(stream.getIterator(1)), equalTo(List.of(100.0, 101.0, 102.0, 103.0, 104.0)));
+        assertThat(read(stream.getIterator(2)), equalTo(List.of(200.0, 201.0, 202.0, 203.0, 204.0)));
+        assertThat(stream.opened, equalTo(1));
+        assertThat(stream.closed, equalTo(1));
+    }
+
+    @Test
+    public void testClose() throws Exception
+    {
+        final TestStream stream = new TestStream(List.of(1, 2, 3), 5);
+        // Closed iterator does not buffer samples
+        stream.getIterator(1).close();
+        assertThat(read(stream.getIterator(2)), equalTo(List.of(200.0, 201.0, 202.0, 203.0, 204.0)));
+        assertThat(stream.closed, equalTo(0));
+
+        // Closing the last iterator closes the stream without reading the rest
+        final ValueIterator iter3 = stream.getIterator(3);
+        assertTrue(iter3.hasNext());
+        iter3.close();
+        assertFalse(iter3.hasNext());
+        assertThat(stream.read, equalTo(11));
+        assertThat(stream.closed, equalTo(1));
+    }
+
+    @Test
+    public void testEmptyChannels() throws Exception
+    {
+        final TestStream stream = new TestStream(List.of(1, 2), 0);
+        assertFalse(stream.getIterator(2).hasNext());
+        assertFalse(stream.getIterator(1).hasNext());
+        assertThat(stream.ended, equalTo(List.of(1, 2)));
+        assertThat(stream.closed, equalTo(1));
+        assertThrows(IllegalArgumentException.class, () -> stream.getIterator(42));
+    }
+
+    @Test
+    public void testError() throws Exception
+    {
+        final TestStream stream = new TestStream(List.of(1, 2, 3), 5);
+        stream.fail_at = 7;
+        // Channel that was read before the error is complete
+        assertThat(read(stream.getIterator(1)), equalTo(List.of(100.0, 101.0, 102.0, 103.0, 104.0)));
+        // Channel that was cut short passes on what it had, then reports the error
+        final ValueIterator iter2 = stream.getIterator(2);
+        assertThat(((VDouble) iter2.next()).getValue(), equalTo(200.0));
+        assertThat(((VDouble) iter2.next()).getValue(), equalTo(201.0));
+        assertThrows(IllegalStateException.class, () -> iter2.hasNext());
+        assertThrows(IllegalStateException.class, () -> stream.getIterator(3).next());
+        assertThat(stream.closed, equalTo(1));
+    }
+
+    @Test
+    public void testCancellation() throws Exception
+    {
+        final TestStream stream = new TestStream(List.of(1, 2), 5);
+        stream.fail_at = 3;
+        stream.cancelled = true;
+        // Cancelled stream simply ends the samples
+        assertThat(read(stream.getIterator(2)), equalTo(List.of()));
+        assertThat(read(stream.getIterator(1)), equalTo(List.of(100.0, 101.0, 102.0)));
+        assertThat(stream.closed, equalTo(1));
+    }
+}
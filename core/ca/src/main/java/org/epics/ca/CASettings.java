@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/** Channel Access Settings
+ *
+ *  <p>Settings are first read from Java properties.
+ *  If not defined, environment variables are checked.
+ *  Falling back to defaults defined in here.
+ *
+ *  <p>Applications may also set the static fields
+ *  before creating the first client or server.
+ */
+@SuppressWarnings("nls")
+public class CASettings
+{
+    /** Common logger
+     *
+     *  Usage of levels:
+     *  <ul>
+     *  <li>CONFIG - Log value of configuration settings
+     *  <li>FINE   - Log search, connection, get/put/monitor
+     *  <li>FINER  - Log detail of sockets, messages
+     *  </ul>
+     */
+    public static final Logger logger = Logger.getLogger(CASettings.class.getPackage().getName());
+
+    /** Address list.
+     *
+     *  <p>Space-separated host names or IP addresses,
+     *  each optionally followed by ":port", otherwise using EPICS_CA_SERVER_PORT.
+     */
+    public static String EPICS_CA_ADDR_LIST = "";
+
+    /** Add local IPv4 broadcast addresses to addr list? */
+    public static boolean EPICS_CA_AUTO_ADDR_LIST = true;
+
+    /** UDP port for search requests and TCP port of the server */
+    public static int EPICS_CA_SERVER_PORT = 5064;
+
+    /** UDP port of the CA repeater, used to receive beacons */
+    public static int EPICS_CA_REPEATER_PORT = 5065;
+
+    /** Connection timeout in seconds
+     *
+     *  <p>An idle TCP connection is checked with an 'echo'
+     *  after this time, and closed when there's no reply
+     *  within another period.
+     */
+    public static int EPICS_CA_CONN_TMO = 30;
+
+    /** Maximum size of a message in bytes, limiting array sizes */
+    public static int EPICS_CA_MAX_ARRAY_BYTES = 100000000;
+
+    /** Maximum search period in seconds
+     *
+     *  <p>Searches for missing channels start right away,
+     *  then double their period up to this maximum.
+     */
+    public static int EPICS_CA_MAX_SEARCH_PERIOD = 30;
+
+    /** Maximum number of search datagrams sent per address every 10 ms,
+     *  to avoid flooding the network and servers when many channels are searched at once
+     */
+    public static int EPICS_CA_MAX_SEARCH_BURST = 20;
+
+    static
+    {
+        EPICS_CA_ADDR_LIST = get("EPICS_CA_ADDR_LIST", EPICS_CA_ADDR_LIST);
+        EPICS_CA_AUTO_ADDR_LIST = get("EPICS_CA_AUTO_ADDR_LIST", EPICS_CA_AUTO_ADDR_LIST);
+        EPICS_CA_SERVER_PORT = get("EPICS_CA_SERVER_PORT", EPICS_CA_SERVER_PORT);
+        EPICS_CA_REPEATER_PORT = get("EPICS_CA_REPEATER_PORT", EPICS_CA_REPEATER_PORT);
+        EPICS_CA_CONN_TMO = get("EPICS_CA_CONN_TMO", EPICS_CA_CONN_TMO);
+        EPICS_CA_MAX_ARRAY_BYTES = get("EPICS_CA_MAX_ARRAY_BYTES", EPICS_CA_MAX_ARRAY_BYTES);
+        EPICS_CA_MAX_SEARCH_PERIOD = get("EPICS_CA_MAX_SEARCH_PERIOD", EPICS_CA_MAX_SEARCH_PERIOD);
+        EPICS_CA_MAX_SEARCH_BURST = get("EPICS_CA_MAX_SEARCH_BURST", EPICS_CA_MAX_SEARCH_BURST);
+    }
+
+    /** Get setting from property, environment or default
+     *  @param name Name of setting
+     *  @param default_value Default value
+     *  @return Value of setting
+     */
+    public static String get(final String name, final String default_value)
+    {
+        String value = System.getProperty(name);
+        if (value != null)
+        {
+            logger.log(Level.CONFIG, name + " = " + value + " (from property)");
+            return value;
+        }
+        value = System.getenv(name);
+        if (value != null)
+        {
+            logger.log(Level.CONFIG, name + " = " + value + " (from environment)");
+            return value;
+        }
+        logger.log(Level.CONFIG, name + " = " + default_value + " (default)");
+        return default_value;
+    }
+
+    /** Get setting from property, environment or default
+     *  @param name Name of setting
+     *  @param default_value Default value
+     *  @return Value of setting
+     */
+    public static boolean get(final String name, final boolean default_value)
+    {
+        final String text = get(name, default_value ? "YES" : "NO").toLowerCase();
+        return Boolean.parseBoolean(text)  ||  "yes".equals(text);
+    }
+
+    /** Get setting from property, environment or default
+     *  @param name Name of setting
+     *  @param default_value Default value
+     *  @return Value of setting
+     */
+    public static int get(final String name, final int default_value)
+    {
+        return Integer.parseInt(get(name, Integer.toString(default_value)));
+    }
+}
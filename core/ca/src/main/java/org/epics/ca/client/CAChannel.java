@@ -0,0 +1,305 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca.client;
+
+import static org.epics.ca.CASettings.logger;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+
+import org.epics.ca.common.CAProtocol;
+import org.epics.ca.common.DBREncoder;
+import org.epics.ca.common.DBRType;
+import org.epics.vtype.VType;
+
+/** Client channel
+ *
+ *  <p>Once connected, the channel reads its meta data
+ *  (units, limits, enum labels) once and then decodes
+ *  all received values directly into {@link VType}s
+ *  that include that meta data.
+ */
+@SuppressWarnings("nls")
+public class CAChannel
+{
+    private final CAClient client;
+
+    private final String name;
+
+    private final int cid;
+
+    private final ClientChannelListener listener;
+
+    private final AtomicReference<ClientChannelState> state = new AtomicReference<>(ClientChannelState.INIT);
+
+    /** Subscriptions, kept across reconnects */
+    final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    /** Circuit, set while found or connected */
+    volatile Circuit circuit = null;
+
+    /** Server ID of the channel */
+    volatile int sid = -1;
+
+    /** Field type */
+    volatile int field_type = DBRType.DOUBLE;
+
+    /** Element count */
+    volatile int field_count = 1;
+
+    /** Meta data from CTRL request, {@link org.epics.vtype.Display}, {@link org.epics.vtype.EnumDisplay} or <code>null</code> */
+    volatile Object metadata = null;
+
+    private volatile boolean readable = false, writable = false;
+
+    CAChannel(final CAClient client, final String name, final int cid, final ClientChannelListener listener)
+    {
+        this.client = client;
+        this.name = name;
+        this.cid = cid;
+        this.listener = listener;
+    }
+
+    /** @return Client that created the channel */
+    CAClient getClient()
+    {
+        return client;
+    }
+
+    /** @return Channel name */
+    public String getName()
+    {
+        return name;
+    }
+
+    /** @return Client channel ID */
+    public int getId()
+    {
+        return cid;
+    }
+
+    /** @return Channel state */
+    public ClientChannelState getState()
+    {
+        return state.get();
+    }
+
+    /** @return Is channel connected? */
+    public boolean isConnected()
+    {
+        return getState() == ClientChannelState.CONNECTED;
+    }
+
+    /** @return Native DBR type of the channel */
+    public int getFieldType()
+    {
+        return field_type;
+    }
+
+    /** @return Element count of the channel */
+    public int getElementCount()
+    {
+        return field_count;
+    }
+
+    /** @return Can the channel be read? */
+    public boolean isReadable()
+    {
+        return readable;
+    }
+
+    /** @return Can the channel be written? */
+    public boolean isWritable()
+    {
+        return writable;
+    }
+
+    /** @param new_state New state
+     *  @return <code>true</code> if state changed
+     */
+    boolean setState(final ClientChannelState new_state)
+    {
+        final ClientChannelState old = state.getAndUpdate(current ->
+            current == ClientChannelState.CLOSING  ||  current == ClientChannelState.CLOSED
+            ? (new_state == ClientChannelState.CLOSED ? new_state : current)
+            : new_state);
+        if (old == new_state  ||  state.get() != new_state)
+            return false;
+        logger.log(Level.FINE, () -> this + " " + new_state);
+        try
+        {
+            listener.channelStateChanged(this, new_state);
+        }
+        catch (Throwable ex)
+        {
+            logger.log(Level.WARNING, "Channel listener error for " + this, ex);
+        }
+        return true;
+    }
+
+    /** Start or re-start search */
+    void search()
+    {
+        circuit = null;
+        sid = -1;
+        if (setState(ClientChannelState.SEARCHING))
+            client.search.register(this);
+    }
+
+    /** Called by circuit when server created the channel
+     *  @param circuit Circuit
+     *  @param sid Server ID
+     *  @param type Field type
+     *  @param count Element count
+     */
+    void created(final Circuit circuit, final int sid, final int type, final int count)
+    {
+        this.circuit = circuit;
+        this.sid = sid;
+        this.field_type = type;
+        this.field_count = count;
+        // Record type is a plain string, no meta data
+        if (name.endsWith(".RTYP"))
+        {
+            metadata = null;
+            connected(circuit);
+            return;
+        }
+        circuit.read(this, DBRType.getCtrlType(type), 1).whenComplete((meta, error) ->
+        {
+            if (error != null)
+                logger.log(Level.WARNING, "Cannot read meta data for " + this, error);
+            else
+                metadata = meta;
+            connected(circuit);
+        });
+    }
+
+    private void connected(final Circuit circuit)
+    {
+        if (this.circuit != circuit  ||  ! setState(ClientChannelState.CONNECTED))
+            return;
+        for (Subscription subscription : subscriptions)
+            circuit.subscribe(subscription);
+    }
+
+    /** @param readable Can the channel be read?
+     *  @param writable Can the channel be written?
+     */
+    void updateAccessRights(final boolean readable, final boolean writable)
+    {
+        this.readable = readable;
+        this.writable = writable;
+        try
+        {
+            listener.accessRightsChanged(this, readable, writable);
+        }
+        catch (Throwable ex)
+        {
+            logger.log(Level.WARNING, "Channel listener error for " + this, ex);
+        }
+    }
+
+    /** @return Circuit of connected channel
+     *  @throws Exception if not connected
+     */
+    private Circuit getConnectedCircuit() throws Exception
+    {
+        final Circuit safe = circuit;
+        if (safe == null  ||  ! isConnected())
+            throw new Exception("Channel " + name + " is not connected");
+        return safe;
+    }
+
+    /** Read current value with time stamp, alarm and meta data
+     *  @return {@link CompletableFuture} for the value
+     */
+    public CompletableFuture<VType> read()
+    {
+        try
+        {
+            final Circuit safe = getConnectedCircuit();
+            return safe.read(this, DBRType.getTimeType(field_type), 0).thenApply(VType.class::cast);
+        }
+        catch (Exception ex)
+        {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    /** Subscribe to value updates
+     *
+     *  <p>Subscription remains active across disconnects
+     *  and reconnects until closed.
+     *
+     *  @param mask Combination of {@link CAProtocol#DBE_VALUE} and other masks
+     *  @param monitor_listener {@link MonitorListener}
+     *  @return {@link AutoCloseable} to cancel the subscription
+     */
+    public AutoCloseable subscribe(final int mask, final MonitorListener monitor_listener)
+    {
+        final Subscription subscription = new Subscription(this, client.allocateID(), mask, monitor_listener);
+        subscriptions.add(subscription);
+        final Circuit safe = circuit;
+        if (safe != null  &&  isConnected())
+            safe.subscribe(subscription);
+        return subscription;
+    }
+
+    /** @param subscription Subscription to cancel */
+    void unsubscribe(final Subscription subscription)
+    {
+        if (! subscriptions.remove(subscription))
+            return;
+        final Circuit safe = circuit;
+        if (safe != null)
+            safe.unsubscribe(subscription);
+    }
+
+    /** Write value
+     *
+     *  @param value Value: Number, String, or array of numbers or strings
+     *  @param completion Await completion of processing on the server?
+     *  @return {@link CompletableFuture} that completes when written
+     */
+    public CompletableFuture<Void> write(final Object value, final boolean completion)
+    {
+        try
+        {
+            final Circuit safe = getConnectedCircuit();
+            return safe.write(this, DBREncoder.forWrite(value, field_type, field_count), completion);
+        }
+        catch (Exception ex)
+        {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    /** Close the channel */
+    public void close()
+    {
+        if (! setState(ClientChannelState.CLOSING))
+            return;
+        client.search.unregister(cid);
+        final Circuit safe = circuit;
+        if (safe != null)
+            safe.removeChannel(this);
+        circuit = null;
+        client.forgetChannel(this);
+        setState(ClientChannelState.CLOSED);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "'" + name + "' [CID " + cid + ", SID " + sid + " " + state.get() + "]";
+    }
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca.client;
+
+import static org.epics.ca.CASettings.logger;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import org.epics.ca.common.Reactor;
+
+/** Channel Access client
+ *
+ *  <pre>
+ *  CAClient ca = new CAClient();
+ *  CAChannel channel = ca.getChannel("my_pv", (ch, state) -> ...);
+ *  channel.subscribe(CAProtocol.DBE_VALUE | CAProtocol.DBE_ALARM, (ch, value) -> ...);
+ *  ...
+ *  channel.close();
+ *  ca.close();
+ *  </pre>
+ *
+ *  <p>All network traffic is handled by one NIO thread.
+ *  Searches for many channels are packed into few datagrams,
+ *  and all channels on the same server share one TCP circuit.
+ */
+@SuppressWarnings("nls")
+public class CAClient implements AutoCloseable
+{
+    /** Reactor for all network I/O */
+    final Reactor reactor;
+
+    /** Search for channels */
+    final ChannelSearch search;
+
+    /** User name sent to servers */
+    final String user;
+
+    /** Host name sent to servers */
+    final String host;
+
+    /** Counter for client channel IDs */
+    private final AtomicInteger channel_ids = new AtomicInteger();
+
+    /** Counter for request and subscription IDs */
+    private final AtomicInteger request_ids = new AtomicInteger();
+
+    /** Channels by client ID */
+    private final Map<Integer, CAChannel> channels = new ConcurrentHashMap<>();
+
+    /** Circuits by server address */
+    private final Map<InetSocketAddress, Circuit> circuits = new ConcurrentHashMap<>();
+
+    /** Create client
+     *  @throws Exception on error
+     */
+    public CAClient() throws Exception
+    {
+        reactor = new Reactor("CA Client");
+        search = new ChannelSearch(this);
+        user = System.getProperty("user.name", "user");
+        String name;
+        try
+        {
+            name = InetAddress.getLocalHost().getHostName();
+        }
+        catch (Exception ex)
+        {
+            name = "localhost";
+        }
+        host = name;
+    }
+
+    /** @return Unique request or subscription ID */
+    int allocateID()
+    {
+        return request_ids.incrementAndGet();
+    }
+
+    /** Create channel
+     *
+     *  <p>Channel will be searched and connected in the background.
+     *
+     *  @param name Channel name
+     *  @param listener {@link ClientChannelListener}
+     *  @return {@link CAChannel}
+     */
+    public CAChannel getChannel(final String name, final ClientChannelListener listener)
+    {
+        final CAChannel channel = new CAChannel(this, name, channel_ids.incrementAndGet(), listener);
+        channels.put(channel.getId(), channel);
+        channel.search();
+        return channel;
+    }
+
+    /** @param channel Channel that was closed */
+    void forgetChannel(final CAChannel channel)
+    {
+        channels.remove(channel.getId());
+    }
+
+    /** Handle search reply, called on reactor thread
+     *
+     *  @param cid Client channel ID
+     *  @param server Server address
+     */
+    void handleSearchReply(final int cid, final InetSocketAddress server)
+    {
+        final CAChannel channel = channels.get(cid);
+        if (channel == null  ||  ! search.unregister(cid))
+            return;
+        logger.log(Level.FINE, () -> "Found " + channel + " on " + server);
+        if (! channel.setState(ClientChannelState.FOUND))
+            return;
+        try
+        {
+            Circuit circuit = circuits.get(server);
+            if (circuit == null)
+            {
+                circuit = new Circuit(this, server);
+                circuits.put(server, circuit);
+            }
+            circuit.addChannel(channel);
+        }
+        catch (Exception ex)
+        {
+            logger.log(Level.WARNING, "Cannot connect " + channel + " to " + server, ex);
+            channel.search();
+        }
+    }
+
+    /** @param circuit Circuit that was closed */
+    void forgetCircuit(final Circuit circuit)
+    {
+        circuits.remove(circuit.getServer(), circuit);
+    }
+
+    /** @return Channels of this client */
+    public Collection<CAChannel> getChannels()
+    {
+        return List.copyOf(channels.values());
+    }
+
+    /** Close client and all its channels */
+    @Override
+    public void close()
+    {
+        for (CAChannel channel : new ArrayList<>(channels.values()))
+            channel.close();
+        for (Circuit circuit : new ArrayList<>(circuits.values()))
+            reactor.execute(circuit::disconnect);
+        search.close();
+        reactor.close();
+    }
+}
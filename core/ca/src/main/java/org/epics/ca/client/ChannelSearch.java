@@ -0,0 +1,321 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca.client;
+
+import static org.epics.ca.CASettings.logger;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+import org.epics.ca.CASettings;
+import org.epics.ca.common.CAProtocol;
+import org.epics.ca.common.MessageHeader;
+import org.epics.ca.common.Network;
+
+/** Search for channels
+ *
+ *  <p>Channels that need to be searched are kept in a queue ordered by
+ *  the time of their next search.
+ *  Every 10 ms, due search requests are packed into datagrams of up to
+ *  {@link CAProtocol#MAX_UDP_SEND} bytes, sending at most
+ *  {@link CASettings#EPICS_CA_MAX_SEARCH_BURST} datagrams to each address.
+ *  After each search, the period of a channel doubles up to
+ *  {@link CASettings#EPICS_CA_MAX_SEARCH_PERIOD}.
+ *
+ *  <p>Registers with the CA repeater to receive beacons.
+ *  A new server or an anomaly in its beacon IDs
+ *  resets the search period of all missing channels.
+ */
+@SuppressWarnings("nls")
+class ChannelSearch
+{
+    /** Tick period of the search timer */
+    private static final long TICK_MS = 10;
+
+    /** Period after the first search */
+    private static final long MIN_PERIOD_MS = 100;
+
+    /** Period for repeating the repeater registration until confirmed */
+    private static final long REGISTER_PERIOD_MS = 10000;
+
+    /** A channel that is searched */
+    private static class SearchedChannel implements Comparable<SearchedChannel>
+    {
+        final CAChannel channel;
+        final byte[] name;
+        long due = 0;
+        long period = 0;
+
+        SearchedChannel(final CAChannel channel)
+        {
+            this.channel = channel;
+            this.name = CAProtocol.bytes(channel.getName());
+        }
+
+        @Override
+        public int compareTo(final SearchedChannel other)
+        {
+            return Long.compare(due, other.due);
+        }
+    }
+
+    private final CAClient client;
+
+    private final DatagramChannel udp;
+
+    private final List<InetSocketAddress> addresses;
+
+    /** Searched channels by client channel ID */
+    private final Map<Integer, SearchedChannel> searched = new ConcurrentHashMap<>();
+
+    /** Searched channels ordered by next search, only accessed on reactor thread.
+     *  Channels that are no longer searched are removed lazily.
+     */
+    private final PriorityQueue<SearchedChannel> queue = new PriorityQueue<>();
+
+    /** Last beacon ID by server, only accessed on reactor thread */
+    private final Map<InetSocketAddress, Integer> beacons = new HashMap<>();
+
+    private final ByteBuffer send_buffer = ByteBuffer.allocate(CAProtocol.MAX_UDP_SEND);
+
+    private final ByteBuffer receive_buffer = ByteBuffer.allocate(CAProtocol.MAX_UDP_RECV);
+
+    private final MessageHeader header = new MessageHeader();
+
+    private volatile boolean repeater_confirmed = false;
+
+    private volatile boolean running = true;
+
+    /** @param client Client
+     *  @throws Exception on error
+     */
+    ChannelSearch(final CAClient client) throws Exception
+    {
+        this.client = client;
+        addresses = Network.getSearchAddresses();
+        logger.log(Level.FINE, () -> "Search addresses: " + addresses);
+        udp = DatagramChannel.open();
+        udp.setOption(StandardSocketOptions.SO_BROADCAST, true);
+        udp.bind(new InetSocketAddress(0));
+        client.reactor.execute(() ->
+        {
+            try
+            {
+                client.reactor.register(udp, SelectionKey.OP_READ, this::handleRead);
+            }
+            catch (Exception ex)
+            {
+                logger.log(Level.SEVERE, "Cannot register search socket", ex);
+            }
+            registerWithRepeater();
+            tick();
+        });
+    }
+
+    /** Start searching for a channel
+     *  @param channel Channel to search
+     */
+    void register(final CAChannel channel)
+    {
+        final SearchedChannel entry = new SearchedChannel(channel);
+        searched.put(channel.getId(), entry);
+        client.reactor.execute(() -> queue.add(entry));
+    }
+
+    /** Stop searching for a channel
+     *  @param cid Client channel ID
+     *  @return <code>true</code> if channel was searched
+     */
+    boolean unregister(final int cid)
+    {
+        return searched.remove(cid) != null;
+    }
+
+    /** Search all missing channels right away, then restart with short periods */
+    void boost()
+    {
+        client.reactor.execute(() ->
+        {
+            queue.clear();
+            for (SearchedChannel entry : searched.values())
+            {
+                entry.due = 0;
+                entry.period = 0;
+                queue.add(entry);
+            }
+        });
+    }
+
+    /** Send due search requests, called by reactor every {@link #TICK_MS} */
+    private void tick()
+    {
+        if (! running)
+            return;
+        final long now = System.currentTimeMillis();
+        final long max_period = CASettings.EPICS_CA_MAX_SEARCH_PERIOD * 1000L;
+        int datagrams = 0;
+        send_buffer.clear();
+        while (! queue.isEmpty()  &&  queue.peek().due <= now)
+        {
+            final SearchedChannel entry = queue.peek();
+            if (searched.get(entry.channel.getId()) != entry)
+            {   // No longer searched, or registered again
+                queue.poll();
+                continue;
+            }
+            final int size = CAProtocol.HEADER_SIZE + CAProtocol.padded(entry.name.length + 1);
+            if (send_buffer.position() + size > CAProtocol.MAX_UDP_SEND)
+            {
+                send();
+                if (++datagrams >= CASettings.EPICS_CA_MAX_SEARCH_BURST)
+                    break;
+            }
+            if (send_buffer.position() == 0)
+                CAProtocol.putHeader(send_buffer, CAProtocol.CA_PROTO_VERSION, 0, 0, CAProtocol.CA_MINOR_PROTOCOL_REVISION, 0, 0);
+            queue.poll();
+            CAProtocol.putStringMessage(send_buffer, CAProtocol.CA_PROTO_SEARCH, entry.name,
+                                        CAProtocol.DONTREPLY, CAProtocol.CA_MINOR_PROTOCOL_REVISION,
+                                        entry.channel.getId(), entry.channel.getId());
+            entry.period = Math.min(max_period, Math.max(MIN_PERIOD_MS, 2 * entry.period));
+            entry.due = now + entry.period;
+            queue.add(entry);
+        }
+        if (send_buffer.position() > 0)
+            send();
+        client.reactor.schedule(this::tick, TICK_MS);
+    }
+
+    /** Send the search buffer to all addresses, then clear it */
+    private void send()
+    {
+        send_buffer.flip();
+        for (InetSocketAddress address : addresses)
+        {
+            try
+            {
+                send_buffer.rewind();
+                udp.send(send_buffer, address);
+            }
+            catch (Exception ex)
+            {
+                logger.log(Level.FINE, "Cannot send search to " + address, ex);
+            }
+        }
+        send_buffer.clear();
+    }
+
+    /** Register with CA repeater to receive beacons */
+    private void registerWithRepeater()
+    {
+        if (repeater_confirmed  ||  ! running)
+            return;
+        try
+        {
+            final InetAddress local = InetAddress.getLoopbackAddress();
+            final ByteBuffer buffer = ByteBuffer.allocate(CAProtocol.HEADER_SIZE);
+            CAProtocol.putHeader(buffer, CAProtocol.CA_PROTO_REPEATER_REGISTER, 0, 0, 0, 0, Network.toInt(local));
+            buffer.flip();
+            udp.send(buffer, new InetSocketAddress(local, CASettings.EPICS_CA_REPEATER_PORT));
+        }
+        catch (Exception ex)
+        {
+            logger.log(Level.FINE, "Cannot register with CA repeater", ex);
+        }
+        client.reactor.schedule(this::registerWithRepeater, REGISTER_PERIOD_MS);
+    }
+
+    private void handleRead(final SelectionKey key) throws Exception
+    {
+        InetSocketAddress from;
+        while ((from = (InetSocketAddress) udp.receive(receive_buffer)) != null)
+        {
+            receive_buffer.flip();
+            try
+            {
+                handleMessages(from);
+            }
+            catch (Exception ex)
+            {
+                logger.log(Level.WARNING, "Error in UDP message from " + from, ex);
+            }
+            receive_buffer.clear();
+        }
+    }
+
+    private void handleMessages(final InetSocketAddress from) throws Exception
+    {
+        while (header.decode(receive_buffer))
+        {
+            final int size = header.getMessageSize();
+            if (receive_buffer.remaining() < size)
+                return;
+            switch (header.command)
+            {
+            case CAProtocol.CA_PROTO_SEARCH:
+            {
+                final InetAddress address = header.p1 == 0  ||  header.p1 == -1
+                                          ? from.getAddress()
+                                          : Network.fromInt(header.p1);
+                client.handleSearchReply(header.p2, new InetSocketAddress(address, header.type));
+                break;
+            }
+            case CAProtocol.CA_PROTO_RSRV_IS_UP:
+            {
+                final InetAddress address = header.p2 == 0
+                                          ? from.getAddress()
+                                          : Network.fromInt(header.p2);
+                handleBeacon(new InetSocketAddress(address, header.count), header.p1);
+                break;
+            }
+            case CAProtocol.CA_PROTO_REPEATER_CONFIRM:
+                if (! repeater_confirmed)
+                    logger.log(Level.FINE, "Registered with CA repeater");
+                repeater_confirmed = true;
+                break;
+            default:
+                // Ignore VERSION, NOT_FOUND, ...
+            }
+            receive_buffer.position(receive_buffer.position() + size);
+        }
+    }
+
+    private void handleBeacon(final InetSocketAddress server, final int id)
+    {
+        final Integer last = beacons.put(server, id);
+        if (last != null  &&  id == last + 1)
+            return;
+        logger.log(Level.FINE, () -> (last == null ? "New server " : "Restarted server ") + server);
+        if (! searched.isEmpty())
+            boost();
+    }
+
+    /** Stop searching */
+    void close()
+    {
+        running = false;
+        searched.clear();
+        try
+        {
+            udp.close();
+        }
+        catch (Exception ex)
+        {
+            // Ignore
+        }
+    }
+}
@@ -0,0 +1,536 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca.client;
+
+import static org.epics.ca.CASettings.logger;
+
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+import org.epics.ca.CASettings;
+import org.epics.ca.common.BufferPool;
+import org.epics.ca.common.CAProtocol;
+import org.epics.ca.common.DBRDecoder;
+import org.epics.ca.common.DBREncoder.WriteData;
+import org.epics.ca.common.DBRType;
+import org.epics.ca.common.MessageHeader;
+import org.epics.ca.common.Reactor;
+import org.epics.vtype.VType;
+
+/** TCP connection to one server, shared by all channels on that server
+ *
+ *  <p>Messages from any thread are appended to one send buffer.
+ *  The buffer is flushed by the reactor thread, so many requests
+ *  issued in quick succession are sent in few TCP packets.
+ */
+@SuppressWarnings("nls")
+class Circuit implements Reactor.Handler
+{
+    /** Initial size of send and receive buffers */
+    private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+
+    /** Handler for the reply to a read or write request */
+    @FunctionalInterface
+    private static interface ReplyHandler
+    {
+        /** @param header Header of reply
+         *  @param buffer Buffer
+         *  @param payload Start of payload in buffer
+         *  @throws Exception on error
+         */
+        void handleReply(MessageHeader header, ByteBuffer buffer, int payload) throws Exception;
+    }
+
+    /** Pending request */
+    private static class Request
+    {
+        final ReplyHandler handler;
+        final CompletableFuture<?> result;
+
+        Request(final ReplyHandler handler, final CompletableFuture<?> result)
+        {
+            this.handler = handler;
+            this.result = result;
+        }
+    }
+
+    private final CAClient client;
+
+    private final InetSocketAddress server;
+
+    private final SocketChannel socket;
+
+    private SelectionKey key;
+
+    /** Channels by client channel ID */
+    private final Map<Integer, CAChannel> channels = new ConcurrentHashMap<>();
+
+    /** Subscriptions by subscription ID */
+    private final Map<Integer, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    /** Pending read and write requests by request ID */
+    private final Map<Integer, Request> requests = new ConcurrentHashMap<>();
+
+    /** Send buffer in 'write' mode, synchronized on the send_lock */
+    private ByteBuffer send_buffer = BufferPool.acquire(INITIAL_BUFFER_SIZE);
+
+    private final Object send_lock = new Object();
+
+    /** Is a flush of the send buffer scheduled? */
+    private final AtomicBoolean flush_scheduled = new AtomicBoolean();
+
+    /** Receive buffer in 'write' mode, only accessed on reactor thread */
+    private ByteBuffer receive_buffer = BufferPool.acquire(INITIAL_BUFFER_SIZE);
+
+    private final MessageHeader header = new MessageHeader();
+
+    private volatile boolean connected = false;
+
+    private volatile boolean closed = false;
+
+    /** Minor protocol version of server */
+    private volatile int server_version = 0;
+
+    /** Time of last received message */
+    private volatile long last_received = System.currentTimeMillis();
+
+    /** Connect to server
+     *
+     *  <p>Must be called on reactor thread
+     *
+     *  @param client Client
+     *  @param server Server address
+     *  @throws Exception on error
+     */
+    Circuit(final CAClient client, final InetSocketAddress server) throws Exception
+    {
+        this.client = client;
+        this.server = server;
+        logger.log(Level.FINE, () -> "Connecting to " + server);
+        socket = SocketChannel.open();
+        socket.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        socket.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
+        key = client.reactor.register(socket, SelectionKey.OP_CONNECT, this);
+
+        // Client version, user and host are sent first once connected
+        send(CAProtocol.HEADER_SIZE, buffer ->
+            CAProtocol.putHeader(buffer, CAProtocol.CA_PROTO_VERSION, 0, 0, CAProtocol.CA_MINOR_PROTOCOL_REVISION, 0, 0));
+        final byte[] user = CAProtocol.bytes(client.user);
+        send(CAProtocol.HEADER_SIZE + CAProtocol.padded(user.length + 1), buffer ->
+            CAProtocol.putStringMessage(buffer, CAProtocol.CA_PROTO_CLIENT_NAME, user, 0, 0, 0, 0));
+        final byte[] host = CAProtocol.bytes(client.host);
+        send(CAProtocol.HEADER_SIZE + CAProtocol.padded(host.length + 1), buffer ->
+            CAProtocol.putStringMessage(buffer, CAProtocol.CA_PROTO_HOST_NAME, host, 0, 0, 0, 0));
+
+        if (socket.connect(server))
+            handleConnect();
+    }
+
+    /** @return Server address */
+    InetSocketAddress getServer()
+    {
+        return server;
+    }
+
+    /** @param channel Channel to create on this circuit */
+    void addChannel(final CAChannel channel)
+    {
+        channel.circuit = this;
+        channels.put(channel.getId(), channel);
+        final byte[] name = CAProtocol.bytes(channel.getName());
+        send(CAProtocol.HEADER_SIZE + CAProtocol.padded(name.length + 1), buffer ->
+            CAProtocol.putStringMessage(buffer, CAProtocol.CA_PROTO_CREATE_CHAN, name, 0, 0,
+                                        channel.getId(), CAProtocol.CA_MINOR_PROTOCOL_REVISION));
+    }
+
+    /** @param channel Channel to remove from this circuit */
+    void removeChannel(final CAChannel channel)
+    {
+        if (channels.remove(channel.getId()) == null)
+            return;
+        for (Subscription subscription : channel.subscriptions)
+            subscriptions.remove(subscription.id);
+        final int sid = channel.sid;
+        if (sid >= 0)
+            send(CAProtocol.HEADER_SIZE, buffer ->
+                CAProtocol.putHeader(buffer, CAProtocol.CA_PROTO_CLEAR_CHANNEL, 0, 0, 0, sid, channel.getId()));
+    }
+
+    /** @param channel Channel to read
+     *  @param type DBR type to read
+     *  @param count Element count, 0 for 'all'
+     *  @return Value for TIME types, meta data for CTRL types
+     */
+    CompletableFuture<Object> read(final CAChannel channel, final int type, final int count)
+    {
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        final int request_count = count == 0  &&  server_version < 13 ? channel.field_count : count;
+        final int ioid = client.allocateID();
+        requests.put(ioid, new Request((header, buffer, payload) ->
+        {
+            if (header.p1 != CAProtocol.ECA_NORMAL)
+                throw new Exception("Read failed for " + channel + ", status " + header.p1);
+            if (DBRType.hasDisplay(header.type))
+                result.complete(DBRDecoder.decodeMetadata(buffer, payload, header.type));
+            else
+                result.complete(DBRDecoder.decode(buffer, payload, header.type, header.count,
+                                                  channel.field_count != 1, channel.metadata));
+        }, result));
+        final int sid = channel.sid;
+        send(CAProtocol.HEADER_SIZE, buffer ->
+            CAProtocol.putHeader(buffer, CAProtocol.CA_PROTO_READ_NOTIFY, 0, type, request_count, sid, ioid));
+        return result;
+    }
+
+    /** @param channel Channel to write
+     *  @param data Data to write
+     *  @param completion Await completion?
+     *  @return {@link CompletableFuture} that completes when written
+     */
+    CompletableFuture<Void> write(final CAChannel channel, final WriteData data, final boolean completion)
+    {
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        final int sid = channel.sid;
+        final int payload = data.getPayloadSize();
+        final int size = CAProtocol.messageSize(payload, data.count);
+        if (completion)
+        {
+            final int ioid = client.allocateID();
+            requests.put(ioid, new Request((header, buffer, pos) ->
+            {
+                if (header.p1 != CAProtocol.ECA_NORMAL)
+                    throw new Exception("Write failed for " + channel + ", status " + header.p1);
+                result.complete(null);
+            }, result));
+            send(size, buffer ->
+            {
+                CAProtocol.putHeader(buffer, CAProtocol.CA_PROTO_WRITE_NOTIFY, payload, data.type, data.count, sid, ioid);
+                data.encode(buffer);
+            });
+        }
+        else
+        {
+            send(size, buffer ->
+            {
+                CAProtocol.putHeader(buffer, CAProtocol.CA_PROTO_WRITE, payload, data.type, data.count, sid, 0);
+                data.encode(buffer);
+            });
+            result.complete(null);
+        }
+        return result;
+    }
+
+    /** @param subscription Subscription to start on this circuit */
+    void subscribe(final Subscription subscription)
+    {
+        // Subscription may be added while the channel connects, send it once
+        if (subscriptions.putIfAbsent(subscription.id, subscription) != null)
+            return;
+        final CAChannel channel = subscription.channel;
+        final int type = DBRType.getTimeType(channel.field_type);
+        final int count = server_version < 13 ? channel.field_count : 0;
+        final int sid = channel.sid;
+        send(CAProtocol.HEADER_SIZE + 16, buffer ->
+        {
+            CAProtocol.putHeader(buffer, CAProtocol.CA_PROTO_EVENT_ADD, 16, type, count, sid, subscription.id);
+            // Unused low, high, to
+            buffer.putFloat(0.0f);
+            buffer.putFloat(0.0f);
+            buffer.putFloat(0.0f);
+            buffer.putShort((short) subscription.mask);
+            buffer.putShort((short) 0);
+        });
+    }
+
+    /** @param subscription Subscription to cancel */
+    void unsubscribe(final Subscription subscription)
+    {
+        if (subscriptions.remove(subscription.id) == null)
+            return;
+        final CAChannel channel = subscription.channel;
+        final int type = DBRType.getTimeType(channel.field_type);
+        final int sid = channel.sid;
+        send(CAProtocol.HEADER_SIZE, buffer ->
+            CAProtocol.putHeader(buffer, CAProtocol.CA_PROTO_EVENT_CANCEL, 0, type, 0, sid, subscription.id));
+    }
+
+    /** Add message to send buffer
+     *  @param size Size of the message
+     *  @param encoder Code that adds the message to the buffer
+     */
+    private void send(final int size, final Consumer<ByteBuffer> encoder)
+    {
+        if (closed)
+            return;
+        synchronized (send_lock)
+        {
+            send_buffer = BufferPool.grow(send_buffer, send_buffer.position() + size);
+            encoder.accept(send_buffer);
+        }
+        if (connected  &&  flush_scheduled.compareAndSet(false, true))
+            client.reactor.execute(this::flush);
+    }
+
+    /** Write send buffer to socket, called on reactor thread */
+    private void flush()
+    {
+        flush_scheduled.set(false);
+        if (closed)
+            return;
+        try
+        {
+            final boolean more;
+            synchronized (send_lock)
+            {
+                send_buffer.flip();
+                socket.write(send_buffer);
+                send_buffer.compact();
+                more = send_buffer.position() > 0;
+            }
+            key.interestOps(more ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+        }
+        catch (Exception ex)
+        {
+            logger.log(Level.FINE, "Cannot send to " + server, ex);
+            disconnect();
+        }
+    }
+
+    @Override
+    public void handle(final SelectionKey key) throws Exception
+    {
+        try
+        {
+            if (key.isConnectable())
+            {
+                if (socket.finishConnect())
+                    handleConnect();
+                return;
+            }
+            if (key.isReadable())
+                handleRead();
+            if (key.isValid()  &&  key.isWritable())
+                flush();
+        }
+        catch (Exception ex)
+        {
+            logger.log(Level.FINE, "Circuit to " + server + " failed", ex);
+            disconnect();
+        }
+    }
+
+    private void handleConnect()
+    {
+        logger.log(Level.FINE, () -> "Connected to " + server);
+        connected = true;
+        last_received = System.currentTimeMillis();
+        key.interestOps(SelectionKey.OP_READ);
+        flush();
+        final long period = Math.max(1, CASettings.EPICS_CA_CONN_TMO) * 1000L;
+        client.reactor.schedule(() -> checkIdle(period), period);
+    }
+
+    /** Send echo when idle, disconnect when there's no reply
+     *  @param period Connection timeout in ms
+     */
+    private void checkIdle(final long period)
+    {
+        if (closed)
+            return;
+        final long idle = System.currentTimeMillis() - last_received;
+        if (idle >= 2 * period)
+        {
+            logger.log(Level.FINE, () -> "No response from " + server);
+            disconnect();
+            return;
+        }
+        if (idle >= period)
+            send(CAProtocol.HEADER_SIZE, buffer ->
+                CAProtocol.putHeader(buffer, CAProtocol.CA_PROTO_ECHO, 0, 0, 0, 0, 0));
+        client.reactor.schedule(() -> checkIdle(period), period / 2);
+    }
+
+    private void handleRead() throws Exception
+    {
+        final int read = socket.read(receive_buffer);
+        if (read < 0)
+            throw new Exception("Server closed connection");
+        if (read == 0)
+            return;
+        last_received = System.currentTimeMillis();
+        receive_buffer.flip();
+        int needed = 0;
+        while (header.decode(receive_buffer))
+        {
+            final int size = header.getMessageSize();
+            if (size > CASettings.EPICS_CA_MAX_ARRAY_BYTES + CAProtocol.EXTENDED_HEADER_SIZE  ||  size < 0)
+                throw new Exception("Message from " + server + " exceeds EPICS_CA_MAX_ARRAY_BYTES: " + header);
+            if (receive_buffer.remaining() < size)
+            {
+                needed = size;
+                break;
+            }
+            final int start = receive_buffer.position();
+            try
+            {
+                handleMessage(receive_buffer, start + header.header_size);
+            }
+            catch (Exception ex)
+            {
+                logger.log(Level.WARNING, "Error handling message from " + server + ": " + header, ex);
+            }
+            receive_buffer.position(start + size);
+        }
+        receive_buffer.compact();
+        if (needed > receive_buffer.capacity())
+            receive_buffer = BufferPool.grow(receive_buffer, needed);
+    }
+
+    private void handleMessage(final ByteBuffer buffer, final int payload) throws Exception
+    {
+        switch (header.command)
+        {
+        case CAProtocol.CA_PROTO_VERSION:
+            server_version = header.count;
+            break;
+        case CAProtocol.CA_PROTO_ECHO:
+            break;
+        case CAProtocol.CA_PROTO_ACCESS_RIGHTS:
+        {
+            final CAChannel channel = channels.get(header.p1);
+            if (channel != null)
+                channel.updateAccessRights((header.p2 & CAProtocol.CA_ACCESS_READ) != 0,
+                                           (header.p2 & CAProtocol.CA_ACCESS_WRITE) != 0);
+            break;
+        }
+        case CAProtocol.CA_PROTO_CREATE_CHAN:
+        {
+            final CAChannel channel = channels.get(header.p1);
+            if (channel != null)
+                channel.created(this, header.p2, header.type, header.count);
+            break;
+        }
+        case CAProtocol.CA_PROTO_CREATE_CH_FAIL:
+        case CAProtocol.CA_PROTO_SERVER_DISCONN:
+        {
+            final CAChannel channel = channels.remove(header.p1);
+            if (channel != null)
+            {
+                for (Subscription subscription : channel.subscriptions)
+                    subscriptions.remove(subscription.id);
+                channel.search();
+            }
+            break;
+        }
+        case CAProtocol.CA_PROTO_EVENT_ADD:
+        {
+            final Subscription subscription = subscriptions.get(header.p2);
+            // Empty reply confirms cancellation
+            if (subscription == null  ||  header.payload_size == 0)
+                break;
+            if (header.p1 != CAProtocol.ECA_NORMAL)
+            {
+                logger.log(Level.WARNING, "Subscription error for " + subscription.channel + ", status " + header.p1);
+                break;
+            }
+            final CAChannel channel = subscription.channel;
+            final VType value = DBRDecoder.decode(buffer, payload, header.type, header.count,
+                                                  channel.field_count != 1, channel.metadata);
+            subscription.listener.handleMonitor(channel, value);
+            break;
+        }
+        case CAProtocol.CA_PROTO_READ_NOTIFY:
+        case CAProtocol.CA_PROTO_WRITE_NOTIFY:
+        {
+            final Request request = requests.remove(header.p2);
+            if (request != null)
+            {
+                try
+                {
+                    request.handler.handleReply(header, buffer, payload);
+                }
+                catch (Exception ex)
+                {
+                    request.result.completeExceptionally(ex);
+                }
+            }
+            break;
+        }
+        case CAProtocol.CA_PROTO_ERROR:
+        {
+            // Payload holds the header of the failed request, then a message
+            final int command = buffer.getShort(payload);
+            final int original_p2 = buffer.getInt(payload + 12);
+            final String message = CAProtocol.getString(buffer, payload + CAProtocol.HEADER_SIZE,
+                                                        header.payload_size - CAProtocol.HEADER_SIZE);
+            logger.log(Level.WARNING, "Error from " + server + ": " + message + " (status " + header.p2 + ")");
+            if (command == CAProtocol.CA_PROTO_READ_NOTIFY  ||  command == CAProtocol.CA_PROTO_WRITE_NOTIFY)
+            {
+                final Request request = requests.remove(original_p2);
+                if (request != null)
+                    request.result.completeExceptionally(new Exception(message));
+            }
+            break;
+        }
+        default:
+            logger.log(Level.FINER, () -> "Ignoring message from " + server + ": " + header);
+        }
+    }
+
+    /** Close the circuit, channels re-start their search */
+    void disconnect()
+    {
+        if (closed)
+            return;
+        closed = true;
+        connected = false;
+        logger.log(Level.FINE, () -> "Disconnecting from " + server);
+        client.forgetCircuit(this);
+        try
+        {
+            if (key != null)
+                key.cancel();
+            socket.close();
+        }
+        catch (Exception ex)
+        {
+            // Ignore
+        }
+        final Exception error = new Exception("Disconnected from " + server);
+        for (Request request : requests.values())
+            request.result.completeExceptionally(error);
+        requests.clear();
+        subscriptions.clear();
+        final ArrayList<CAChannel> lost = new ArrayList<>(channels.values());
+        channels.clear();
+        for (CAChannel channel : lost)
+            channel.search();
+        BufferPool.release(receive_buffer);
+        synchronized (send_lock)
+        {
+            BufferPool.release(send_buffer);
+            send_buffer = ByteBuffer.allocate(0);
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Circuit to " + server;
+    }
+}
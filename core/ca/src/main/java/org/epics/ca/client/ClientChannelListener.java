@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca.client;
+
+/** Listener to channel state changes */
+@FunctionalInterface
+public interface ClientChannelListener
+{
+    /** Invoked when the channel state changes
+     *
+     *  <p>Called on the network thread, must not block.
+     *
+     *  @param channel Channel that changed state
+     *  @param state New state
+     */
+    public void channelStateChanged(CAChannel channel, ClientChannelState state);
+
+    /** Invoked when the access rights of a channel change
+     *
+     *  @param channel Channel
+     *  @param readable Can the channel be read?
+     *  @param writable Can the channel be written?
+     */
+    public default void accessRightsChanged(final CAChannel channel, final boolean readable, final boolean writable)
+    {
+        // Ignore by default
+    }
+}
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca.client;
+
+/** State of a client channel */
+public enum ClientChannelState
+{
+    /** Channel created, not yet searched */
+    INIT,
+
+    /** Searching for a server */
+    SEARCHING,
+
+    /** Server found, connecting to it */
+    FOUND,
+
+    /** Connected to server, meta data received */
+    CONNECTED,
+
+    /** Channel is being closed */
+    CLOSING,
+
+    /** Channel closed */
+    CLOSED;
+
+    /** @param state State
+     *  @return Is the state CONNECTED?
+     */
+    public static boolean isConnected(final ClientChannelState state)
+    {
+        return state == CONNECTED;
+    }
+}
@@ -0,0 +1,24 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca.client;
+
+import org.epics.vtype.VType;
+
+/** Listener to channel subscription */
+@FunctionalInterface
+public interface MonitorListener
+{
+    /** Invoked for each received value
+     *
+     *  <p>Called on the network thread, must not block.
+     *
+     *  @param channel Channel that sent an update
+     *  @param value Received value
+     */
+    public void handleMonitor(CAChannel channel, VType value);
+}
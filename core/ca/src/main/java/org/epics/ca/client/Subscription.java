@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca.client;
+
+/** Subscription of a channel */
+class Subscription implements AutoCloseable
+{
+    final CAChannel channel;
+    final int id;
+    final int mask;
+    final MonitorListener listener;
+
+    Subscription(final CAChannel channel, final int id, final int mask, final MonitorListener listener)
+    {
+        this.channel = channel;
+        this.id = id;
+        this.mask = mask;
+        this.listener = listener;
+    }
+
+    @Override
+    public void close()
+    {
+        channel.unsubscribe(this);
+    }
+}
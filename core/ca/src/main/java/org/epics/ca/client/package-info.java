@@ -0,0 +1,5 @@
+/** Channel Access Client API
+ *
+ *  <p>Main API for client code is {@link org.epics.ca.client.CAClient}.
+ */
+package org.epics.ca.client;
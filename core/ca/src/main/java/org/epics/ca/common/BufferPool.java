@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca.common;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Pool of byte buffers
+ *
+ *  <p>Buffers are allocated in power-of-two size classes
+ *  so that receive and send buffers of circuits and
+ *  datagrams can be re-used instead of allocating
+ *  new buffers for each connection or large message.
+ */
+public class BufferPool
+{
+    /** Smallest pooled buffer: 1 kB */
+    private static final int MIN_SHIFT = 10;
+
+    /** Largest pooled buffer: 16 MB */
+    private static final int MAX_SHIFT = 24;
+
+    /** Maximum number of idle buffers kept per size class */
+    private static final int MAX_IDLE = 64;
+
+    /** Idle buffers of one size */
+    private static class SizeClass
+    {
+        final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+        /** Number of buffers in queue, tracked because queue.size() is O(n) */
+        final AtomicInteger idle = new AtomicInteger();
+    }
+
+    private static final SizeClass[] pools = new SizeClass[MAX_SHIFT - MIN_SHIFT + 1];
+
+    static
+    {
+        for (int i=0; i<pools.length; ++i)
+            pools[i] = new SizeClass();
+    }
+
+    /** @param size Buffer size
+     *  @return Index of size class, -1 if not pooled
+     */
+    private static int getSizeClass(final int size)
+    {
+        final int shift = Math.max(MIN_SHIFT, 32 - Integer.numberOfLeadingZeros(size - 1));
+        return shift > MAX_SHIFT ? -1 : shift - MIN_SHIFT;
+    }
+
+    /** @param size Minimum buffer size
+     *  @return Cleared buffer with at least the requested capacity
+     */
+    public static ByteBuffer acquire(final int size)
+    {
+        final int index = getSizeClass(size);
+        if (index < 0)
+            return ByteBuffer.allocate(size);
+        final ByteBuffer buffer = pools[index].buffers.poll();
+        if (buffer == null)
+            return ByteBuffer.allocate(1 << (index + MIN_SHIFT));
+        pools[index].idle.decrementAndGet();
+        buffer.clear();
+        return buffer;
+    }
+
+    /** @param buffer Buffer that is no longer used */
+    public static void release(final ByteBuffer buffer)
+    {
+        if (buffer == null)
+            return;
+        final int capacity = buffer.capacity();
+        if (Integer.bitCount(capacity) != 1)
+            return;
+        final int index = getSizeClass(capacity);
+        if (index < 0)
+            return;
+        final SizeClass pool = pools[index];
+        if (pool.idle.incrementAndGet() > MAX_IDLE)
+        {
+            pool.idle.decrementAndGet();
+            return;
+        }
+        pool.buffers.offer(buffer);
+    }
+
+    /** Replace buffer by a larger one, keeping its content
+     *
+     *  @param buffer Buffer in 'write' mode
+     *  @param size Required capacity
+     *  @return Original buffer if large enough, otherwise larger buffer with copied content
+     */
+    public static ByteBuffer grow(final ByteBuffer buffer, final int size)
+    {
+        if (buffer.capacity() >= size)
+            return buffer;
+        final ByteBuffer larger = acquire(size);
+        buffer.flip();
+        larger.put(buffer);
+        release(buffer);
+        return larger;
+    }
+}
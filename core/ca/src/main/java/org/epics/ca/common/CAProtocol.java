@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca.common;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/** Channel Access protocol constants and message header
+ *
+ *  <p>Each message starts with a 16 byte header,
+ *  <pre>
+ *  short command
+ *  short payload size
+ *  short data type
+ *  short data count
+ *  int   parameter 1
+ *  int   parameter 2
+ *  </pre>
+ *  followed by the payload, padded to a multiple of 8 bytes.
+ *  For large payloads or counts, the header is extended by
+ *  an int payload size and int data count.
+ *  All numbers are big endian.
+ */
+@SuppressWarnings("nls")
+public class CAProtocol
+{
+    /** Protocol minor version supported by this implementation */
+    public static final short CA_MINOR_PROTOCOL_REVISION = 13;
+
+    /** Size of basic message header */
+    public static final int HEADER_SIZE = 16;
+
+    /** Size of extended message header */
+    public static final int EXTENDED_HEADER_SIZE = 24;
+
+    /** Maximum size of UDP search datagrams */
+    public static final int MAX_UDP_SEND = 1024;
+
+    /** Maximum size of UDP datagrams */
+    public static final int MAX_UDP_RECV = 0xFFFF + 16;
+
+    /** Version */
+    public static final short CA_PROTO_VERSION = 0;
+    /** Subscribe */
+    public static final short CA_PROTO_EVENT_ADD = 1;
+    /** Cancel subscription */
+    public static final short CA_PROTO_EVENT_CANCEL = 2;
+    /** Write without reply */
+    public static final short CA_PROTO_WRITE = 4;
+    /** Search */
+    public static final short CA_PROTO_SEARCH = 6;
+    /** Error */
+    public static final short CA_PROTO_ERROR = 11;
+    /** Clear channel */
+    public static final short CA_PROTO_CLEAR_CHANNEL = 12;
+    /** Beacon */
+    public static final short CA_PROTO_RSRV_IS_UP = 13;
+    /** Channel not found */
+    public static final short CA_PROTO_NOT_FOUND = 14;
+    /** Read */
+    public static final short CA_PROTO_READ_NOTIFY = 15;
+    /** Repeater confirms registration */
+    public static final short CA_PROTO_REPEATER_CONFIRM = 17;
+    /** Create channel */
+    public static final short CA_PROTO_CREATE_CHAN = 18;
+    /** Write with reply */
+    public static final short CA_PROTO_WRITE_NOTIFY = 19;
+    /** Client user name */
+    public static final short CA_PROTO_CLIENT_NAME = 20;
+    /** Client host name */
+    public static final short CA_PROTO_HOST_NAME = 21;
+    /** Access rights */
+    public static final short CA_PROTO_ACCESS_RIGHTS = 22;
+    /** Echo */
+    public static final short CA_PROTO_ECHO = 23;
+    /** Register with repeater */
+    public static final short CA_PROTO_REPEATER_REGISTER = 24;
+    /** Channel creation failed */
+    public static final short CA_PROTO_CREATE_CH_FAIL = 26;
+    /** Server disconnects channel */
+    public static final short CA_PROTO_SERVER_DISCONN = 27;
+
+    /** Search flag: Do not reply when channel is not found */
+    public static final short DONTREPLY = 5;
+
+    /** Status: Normal successful completion */
+    public static final int ECA_NORMAL = 1;
+
+    /** Status: Write failed */
+    public static final int ECA_PUTFAIL = 160;
+
+    /** Status: Read failed */
+    public static final int ECA_GETFAIL = 152;
+
+    /** Status: Unknown data type */
+    public static final int ECA_BADTYPE = 114;
+
+    /** Subscription mask: Value change */
+    public static final int DBE_VALUE = 1;
+    /** Subscription mask: Archive deadband */
+    public static final int DBE_LOG = 2;
+    /** Subscription mask: Alarm change */
+    public static final int DBE_ALARM = 4;
+    /** Subscription mask: Property change */
+    public static final int DBE_PROPERTY = 8;
+
+    /** Access rights bit: read */
+    public static final int CA_ACCESS_READ = 1;
+    /** Access rights bit: write */
+    public static final int CA_ACCESS_WRITE = 2;
+
+    /** @param size Payload size
+     *  @return Size padded to multiple of 8
+     */
+    public static int padded(final int size)
+    {
+        return (size + 7) & ~7;
+    }
+
+    /** @param payload_size Payload size (padded)
+     *  @param count Data count
+     *  @return Does message need extended header?
+     */
+    public static boolean isExtended(final int payload_size, final int count)
+    {
+        return payload_size >= 0xFFFF  ||  count > 0xFFFF;
+    }
+
+    /** @param payload_size Payload size (padded)
+     *  @param count Data count
+     *  @return Total message size
+     */
+    public static int messageSize(final int payload_size, final int count)
+    {
+        return (isExtended(payload_size, count) ? EXTENDED_HEADER_SIZE : HEADER_SIZE) + payload_size;
+    }
+
+    /** Write message header
+     *
+     *  <p>Uses extended header when needed
+     *
+     *  @param buffer Buffer
+     *  @param command Command
+     *  @param payload_size Payload size (padded)
+     *  @param type Data type
+     *  @param count Data count
+     *  @param p1 Parameter 1
+     *  @param p2 Parameter 2
+     */
+    public static void putHeader(final ByteBuffer buffer, final short command, final int payload_size,
+                                 final int type, final int count, final int p1, final int p2)
+    {
+        buffer.putShort(command);
+        if (isExtended(payload_size, count))
+        {
+            buffer.putShort((short) 0xFFFF);
+            buffer.putShort((short) type);
+            buffer.putShort((short) 0);
+            buffer.putInt(p1);
+            buffer.putInt(p2);
+            buffer.putInt(payload_size);
+            buffer.putInt(count);
+        }
+        else
+        {
+            buffer.putShort((short) payload_size);
+            buffer.putShort((short) type);
+            buffer.putShort((short) count);
+            buffer.putInt(p1);
+            buffer.putInt(p2);
+        }
+    }
+
+    /** Write message that has a string payload
+     *  @param buffer Buffer
+     *  @param command Command
+     *  @param text Text
+     *  @param type Data type
+     *  @param count Data count
+     *  @param p1 Parameter 1
+     *  @param p2 Parameter 2
+     */
+    public static void putStringMessage(final ByteBuffer buffer, final short command, final byte[] text,
+                                        final int type, final int count, final int p1, final int p2)
+    {
+        final int payload = padded(text.length + 1);
+        putHeader(buffer, command, payload, type, count, p1, p2);
+        buffer.put(text);
+        for (int i=text.length; i<payload; ++i)
+            buffer.put((byte) 0);
+    }
+
+    /** @param text Text
+     *  @return Bytes of text
+     */
+    public static byte[] bytes(final String text)
+    {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** @param buffer Buffer
+     *  @param pos Start of zero-terminated string
+     *  @param max Maximum number of bytes
+     *  @return String
+     */
+    public static String getString(final ByteBuffer buffer, final int pos, final int max)
+    {
+        int len = 0;
+        while (len < max  &&  buffer.get(pos + len) != 0)
+            ++len;
+        final byte[] bytes = new byte[len];
+        buffer.get(pos, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** Pad buffer with zeros to multiple of 8 bytes, relative to a start position
+     *  @param buffer Buffer
+     *  @param start Start of payload
+     */
+    public static void pad(final ByteBuffer buffer, final int start)
+    {
+        final int end = start + padded(buffer.position() - start);
+        while (buffer.position() < end)
+            buffer.put((byte) 0);
+    }
+}
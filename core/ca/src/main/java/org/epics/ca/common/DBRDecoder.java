@@ -0,0 +1,278 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca.common;
+
+import static org.epics.ca.CASettings.logger;
+
+import java.nio.ByteBuffer;
+import java.text.NumberFormat;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+import org.epics.util.array.ArrayByte;
+import org.epics.util.array.ArrayDouble;
+import org.epics.util.array.ArrayFloat;
+import org.epics.util.array.ArrayInteger;
+import org.epics.util.array.ArrayShort;
+import org.epics.util.stats.Range;
+import org.epics.util.text.NumberFormats;
+import org.epics.vtype.Alarm;
+import org.epics.vtype.AlarmSeverity;
+import org.epics.vtype.AlarmStatus;
+import org.epics.vtype.Display;
+import org.epics.vtype.EnumDisplay;
+import org.epics.vtype.Time;
+import org.epics.vtype.VByte;
+import org.epics.vtype.VByteArray;
+import org.epics.vtype.VDouble;
+import org.epics.vtype.VDoubleArray;
+import org.epics.vtype.VEnum;
+import org.epics.vtype.VEnumArray;
+import org.epics.vtype.VFloat;
+import org.epics.vtype.VFloatArray;
+import org.epics.vtype.VInt;
+import org.epics.vtype.VIntArray;
+import org.epics.vtype.VShort;
+import org.epics.vtype.VShortArray;
+import org.epics.vtype.VString;
+import org.epics.vtype.VStringArray;
+import org.epics.vtype.VType;
+
+/** Decode DBR data into {@link VType}
+ *
+ *  <p>Reads the received bytes directly into the value,
+ *  without intermediate DBR objects.
+ */
+@SuppressWarnings("nls")
+public class DBRDecoder
+{
+    /** Names of alarm status values, same as used by JCA */
+    static final String[] ALARM_STATUS =
+    {
+        "NO_ALARM", "READ_ALARM", "WRITE_ALARM", "HIHI_ALARM", "HIGH_ALARM", "LOLO_ALARM", "LOW_ALARM",
+        "STATE_ALARM", "COS_ALARM", "COMM_ALARM", "TIMEOUT_ALARM", "HW_LIMIT_ALARM", "CALC_ALARM",
+        "SCAN_ALARM", "LINK_ALARM", "SOFT_ALARM", "BAD_SUB_ALARM", "UDF_ALARM", "DISABLE_ALARM",
+        "SIMM_ALARM", "READ_ACCESS_ALARM", "WRITE_ACCESS_ALARM"
+    };
+
+    /** Severities by CA severity index */
+    private static final AlarmSeverity[] SEVERITIES =
+    {
+        AlarmSeverity.NONE, AlarmSeverity.MINOR, AlarmSeverity.MAJOR, AlarmSeverity.INVALID
+    };
+
+    /** @param buffer Buffer
+     *  @param pos Start of STS, TIME, .. structure
+     *  @return {@link Alarm}
+     */
+    public static Alarm decodeAlarm(final ByteBuffer buffer, final int pos)
+    {
+        final int status = buffer.getShort(pos);
+        final int severity = buffer.getShort(pos + 2);
+        final String name = status >= 0  &&  status < ALARM_STATUS.length
+                          ? ALARM_STATUS[status]
+                          : "Status " + status;
+        return Alarm.of(severity >= 0  &&  severity < SEVERITIES.length
+                        ? SEVERITIES[severity]
+                        : AlarmSeverity.UNDEFINED,
+                        AlarmStatus.NONE, name);
+    }
+
+    /** @param buffer Buffer
+     *  @param pos Start of TIME structure
+     *  @return {@link Time}
+     */
+    public static Time decodeTime(final ByteBuffer buffer, final int pos)
+    {
+        final long secs = Integer.toUnsignedLong(buffer.getInt(pos + 4));
+        final long nano = Integer.toUnsignedLong(buffer.getInt(pos + 8));
+        final Instant instant = Instant.ofEpochSecond(secs + DBRType.EPICS_EPOCH, nano);
+        if (secs <= 0)
+            return Time.of(instant, 0, false);
+        return Time.of(instant);
+    }
+
+    /** Decode meta data
+     *
+     *  @param buffer Buffer
+     *  @param pos Start of GR or CTRL structure
+     *  @param type DBR type
+     *  @return {@link Display}, {@link EnumDisplay} or <code>null</code>
+     */
+    public static Object decodeMetadata(final ByteBuffer buffer, final int pos, final int type)
+    {
+        if (! DBRType.hasDisplay(type))
+            return null;
+        final boolean ctrl = type >= DBRType.CTRL;
+        switch (DBRType.getValueType(type))
+        {
+        case DBRType.ENUM:
+        {
+            final int n = Math.min(buffer.getShort(pos + 4), DBRType.MAX_ENUM_STATES);
+            final List<String> labels = new ArrayList<>(n);
+            for (int i=0; i<n; ++i)
+                labels.add(CAProtocol.getString(buffer, pos + 6 + i*DBRType.MAX_ENUM_STRING_SIZE, DBRType.MAX_ENUM_STRING_SIZE));
+            return EnumDisplay.of(labels);
+        }
+        case DBRType.SHORT:
+        {
+            final double[] limits = new double[8];
+            for (int i=0; i<(ctrl ? 8 : 6); ++i)
+                limits[i] = buffer.getShort(pos + 12 + 2*i);
+            return createDisplay(CAProtocol.getString(buffer, pos + 4, 8), 0, limits, ctrl);
+        }
+        case DBRType.CHAR:
+        {
+            final double[] limits = new double[8];
+            for (int i=0; i<(ctrl ? 8 : 6); ++i)
+                limits[i] = Byte.toUnsignedInt(buffer.get(pos + 12 + i));
+            return createDisplay(CAProtocol.getString(buffer, pos + 4, 8), 0, limits, ctrl);
+        }
+        case DBRType.LONG:
+        {
+            final double[] limits = new double[8];
+            for (int i=0; i<(ctrl ? 8 : 6); ++i)
+                limits[i] = buffer.getInt(pos + 12 + 4*i);
+            return createDisplay(CAProtocol.getString(buffer, pos + 4, 8), 0, limits, ctrl);
+        }
+        case DBRType.FLOAT:
+        {
+            final double[] limits = new double[8];
+            for (int i=0; i<(ctrl ? 8 : 6); ++i)
+                limits[i] = buffer.getFloat(pos + 16 + 4*i);
+            return createDisplay(CAProtocol.getString(buffer, pos + 8, 8), buffer.getShort(pos + 4), limits, ctrl);
+        }
+        case DBRType.DOUBLE:
+        {
+            final double[] limits = new double[8];
+            for (int i=0; i<(ctrl ? 8 : 6); ++i)
+                limits[i] = buffer.getDouble(pos + 16 + 8*i);
+            return createDisplay(CAProtocol.getString(buffer, pos + 8, 8), buffer.getShort(pos + 4), limits, ctrl);
+        }
+        default:
+            return null;
+        }
+    }
+
+    /** @param units Units
+     *  @param precision Precision
+     *  @param limits upper_disp, lower_disp, upper_alarm, upper_warning, lower_warning, lower_alarm, upper_ctrl, lower_ctrl
+     *  @param ctrl Are control limits valid?
+     *  @return {@link Display}
+     */
+    private static Display createDisplay(final String units, final int precision, final double[] limits, final boolean ctrl)
+    {
+        final NumberFormat format = precision >= 0
+                                  ? NumberFormats.precisionFormat(precision)
+                                  : NumberFormats.toStringFormat();
+        final Range display = Range.of(limits[1], limits[0]);
+        return Display.of(display,
+                          Range.of(limits[5], limits[2]),
+                          Range.of(limits[4], limits[3]),
+                          ctrl ? Range.of(limits[7], limits[6]) : display,
+                          units, format);
+    }
+
+    /** Decode value
+     *
+     *  @param buffer Buffer
+     *  @param pos Start of DBR structure
+     *  @param type DBR type
+     *  @param count Number of elements
+     *  @param is_array Decode as array, even if count is 1?
+     *  @param metadata {@link Display}, {@link EnumDisplay} or <code>null</code>
+     *  @return {@link VType}
+     *  @throws Exception on error
+     */
+    public static VType decode(final ByteBuffer buffer, final int pos, final int type,
+                               final int count, final boolean is_array, final Object metadata) throws Exception
+    {
+        if (! DBRType.isValid(type))
+            throw new Exception("Cannot decode " + DBRType.toString(type));
+        final Alarm alarm = DBRType.hasStatus(type) ? decodeAlarm(buffer, pos) : Alarm.none();
+        final Time time = DBRType.isTime(type) ? decodeTime(buffer, pos) : Time.nowInvalid();
+        final int start = pos + DBRType.getValueOffset(type);
+        final boolean array = is_array  ||  count != 1;
+        final Display display = metadata instanceof Display ? (Display) metadata : Display.none();
+        final ByteBuffer data = buffer.duplicate().position(start);
+
+        switch (DBRType.getValueType(type))
+        {
+        case DBRType.DOUBLE:
+            if (array)
+            {
+                final double[] values = new double[count];
+                data.asDoubleBuffer().get(values);
+                return VDoubleArray.of(ArrayDouble.of(values), alarm, time, display);
+            }
+            return VDouble.of(buffer.getDouble(start), alarm, time, display);
+        case DBRType.FLOAT:
+            if (array)
+            {
+                final float[] values = new float[count];
+                data.asFloatBuffer().get(values);
+                return VFloatArray.of(ArrayFloat.of(values), alarm, time, display);
+            }
+            return VFloat.of(buffer.getFloat(start), alarm, time, display);
+        case DBRType.LONG:
+            if (array)
+            {
+                final int[] values = new int[count];
+                data.asIntBuffer().get(values);
+                return VIntArray.of(ArrayInteger.of(values), alarm, time, display);
+            }
+            return VInt.of(buffer.getInt(start), alarm, time, display);
+        case DBRType.SHORT:
+            if (array)
+            {
+                final short[] values = new short[count];
+                data.asShortBuffer().get(values);
+                return VShortArray.of(ArrayShort.of(values), alarm, time, display);
+            }
+            return VShort.of(buffer.getShort(start), alarm, time, display);
+        case DBRType.CHAR:
+            if (array)
+            {
+                final byte[] values = new byte[count];
+                data.get(values);
+                return VByteArray.of(ArrayByte.of(values), alarm, time, display);
+            }
+            return VByte.of(buffer.get(start), alarm, time, display);
+        case DBRType.ENUM:
+        {
+            final EnumDisplay labels = metadata instanceof EnumDisplay ? (EnumDisplay) metadata : EnumDisplay.of();
+            final short[] values = new short[count];
+            data.asShortBuffer().get(values);
+            try
+            {
+                if (array)
+                    return VEnumArray.of(ArrayShort.of(values), labels, alarm, time);
+                return VEnum.of(values[0], labels, alarm, time);
+            }
+            catch (IndexOutOfBoundsException ex)
+            {
+                if (count < 1)
+                    throw ex;
+                logger.log(Level.WARNING, "Invalid enum index " + values[0] + " for PV with enum options " + labels.getChoices());
+                return VShort.of(values[0], alarm, time, Display.none());
+            }
+        }
+        default:
+        {
+            final List<String> values = new ArrayList<>(count);
+            for (int i=0; i<count; ++i)
+                values.add(CAProtocol.getString(buffer, start + i*DBRType.MAX_STRING_SIZE, DBRType.MAX_STRING_SIZE));
+            if (array)
+                return VStringArray.of(values, alarm, time);
+            return VString.of(values.get(0), alarm, time);
+        }
+        }
+    }
+}
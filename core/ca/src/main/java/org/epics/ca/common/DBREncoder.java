@@ -0,0 +1,395 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca.common;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.NumberFormat;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import org.epics.util.array.ListNumber;
+import org.epics.vtype.Alarm;
+import org.epics.vtype.AlarmSeverity;
+import org.epics.vtype.Display;
+import org.epics.vtype.Time;
+import org.epics.vtype.VEnum;
+import org.epics.vtype.VEnumArray;
+import org.epics.vtype.VNumber;
+import org.epics.vtype.VNumberArray;
+import org.epics.vtype.VString;
+import org.epics.vtype.VStringArray;
+import org.epics.vtype.VType;
+
+/** Encode data for Channel Access
+ *
+ *  <p>Client writes plain values.
+ *  Server encodes {@link VType} for any requested DBR type.
+ */
+@SuppressWarnings("nls")
+public class DBREncoder
+{
+    /** Value to write, converted into an array of a CA type */
+    public static class WriteData
+    {
+        /** Plain DBR type */
+        public final int type;
+
+        /** Element count */
+        public final int count;
+
+        /** double[], float[], int[], short[], byte[] or String[] */
+        private final Object data;
+
+        private WriteData(final int type, final int count, final Object data)
+        {
+            this.type = type;
+            this.count = count;
+            this.data = data;
+        }
+
+        /** @return Padded payload size */
+        public int getPayloadSize()
+        {
+            return DBRType.getPayloadSize(type, count);
+        }
+
+        /** @param buffer Buffer where padded payload is added */
+        public void encode(final ByteBuffer buffer)
+        {
+            final int start = buffer.position();
+            switch (type)
+            {
+            case DBRType.DOUBLE:
+                for (double v : (double[]) data)
+                    buffer.putDouble(v);
+                break;
+            case DBRType.FLOAT:
+                for (float v : (float[]) data)
+                    buffer.putFloat(v);
+                break;
+            case DBRType.LONG:
+                for (int v : (int[]) data)
+                    buffer.putInt(v);
+                break;
+            case DBRType.SHORT:
+                for (short v : (short[]) data)
+                    buffer.putShort(v);
+                break;
+            case DBRType.CHAR:
+                buffer.put((byte[]) data);
+                break;
+            default:
+                for (String v : (String[]) data)
+                    putString(buffer, v);
+            }
+            CAProtocol.pad(buffer, start);
+        }
+    }
+
+    /** Convert value to write into CA data
+     *
+     *  <p>Supports the same types as the JCA-based PV.
+     *
+     *  @param value Value to write
+     *  @param field_type Field type of the channel
+     *  @param field_count Element count of the channel
+     *  @return {@link WriteData}
+     *  @throws Exception on error
+     */
+    public static WriteData forWrite(final Object value, final int field_type, final int field_count) throws Exception
+    {
+        if (value instanceof String)
+        {
+            final String text = (String) value;
+            if (field_type == DBRType.CHAR  &&  field_count > 1)
+            {   // Long string support: Write characters of string as DBF_CHAR array
+                final byte[] bytes = Arrays.copyOf(CAProtocol.bytes(text), CAProtocol.bytes(text).length + 1);
+                return new WriteData(DBRType.CHAR, bytes.length, bytes);
+            }
+            return new WriteData(DBRType.STRING, 1, new String[] { text });
+        }
+        if (value instanceof Integer  ||  value instanceof Short  ||  value instanceof Byte)
+            return new WriteData(DBRType.LONG, 1, new int[] { ((Number) value).intValue() });
+        if (value instanceof Long)
+        {   // Channel Access doesn't support long, write as int if it fits
+            final long orig = (Long) value;
+            if (orig == (int) orig  ||  Integer.toUnsignedLong((int) orig) == orig)
+                return new WriteData(DBRType.LONG, 1, new int[] { (int) orig });
+            return new WriteData(DBRType.DOUBLE, 1, new double[] { orig });
+        }
+        if (value instanceof Number)
+            return new WriteData(DBRType.DOUBLE, 1, new double[] { ((Number) value).doubleValue() });
+        if (value instanceof double[])
+            return new WriteData(DBRType.DOUBLE, ((double[]) value).length, value);
+        if (value instanceof float[])
+            return new WriteData(DBRType.FLOAT, ((float[]) value).length, value);
+        if (value instanceof int[])
+            return new WriteData(DBRType.LONG, ((int[]) value).length, value);
+        if (value instanceof short[])
+            return new WriteData(DBRType.SHORT, ((short[]) value).length, value);
+        if (value instanceof byte[])
+            return new WriteData(DBRType.CHAR, ((byte[]) value).length, value);
+        if (value instanceof String[])
+            return new WriteData(DBRType.STRING, ((String[]) value).length, value);
+        if (value instanceof long[])
+        {
+            final long[] orig = (long[]) value;
+            final int[] data = new int[orig.length];
+            for (int i=0; i<data.length; ++i)
+                data[i] = (int) orig[i];
+            return new WriteData(DBRType.LONG, data.length, data);
+        }
+        if (value instanceof Double[])
+        {
+            final Double[] orig = (Double[]) value;
+            final double[] data = new double[orig.length];
+            for (int i=0; i<data.length; ++i)
+                data[i] = orig[i];
+            return new WriteData(DBRType.DOUBLE, data.length, data);
+        }
+        if (value instanceof Integer[]  ||  value instanceof Long[])
+        {
+            final Number[] orig = (Number[]) value;
+            final int[] data = new int[orig.length];
+            for (int i=0; i<data.length; ++i)
+                data[i] = orig[i].intValue();
+            return new WriteData(DBRType.LONG, data.length, data);
+        }
+        throw new Exception("Cannot handle type " + value.getClass().getName());
+    }
+
+    /** @param buffer Buffer where string is added as 40 bytes
+     *  @param text Text
+     */
+    private static void putString(final ByteBuffer buffer, final String text)
+    {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        final int len = Math.min(bytes.length, DBRType.MAX_STRING_SIZE - 1);
+        buffer.put(bytes, 0, len);
+        for (int i=len; i<DBRType.MAX_STRING_SIZE; ++i)
+            buffer.put((byte) 0);
+    }
+
+    /** @param value Value
+     *  @return Number of elements
+     */
+    public static int getElementCount(final VType value)
+    {
+        if (value instanceof VNumberArray)
+            return ((VNumberArray) value).getData().size();
+        if (value instanceof VStringArray)
+            return ((VStringArray) value).getData().size();
+        if (value instanceof VEnumArray)
+            return ((VEnumArray) value).getIndexes().size();
+        return 1;
+    }
+
+    /** @param value Value
+     *  @return Native plain DBR type for the value
+     */
+    public static int getFieldType(final VType value)
+    {
+        if (value instanceof VEnum)
+            return DBRType.ENUM;
+        if (value instanceof VString  ||  value instanceof VStringArray)
+            return DBRType.STRING;
+        final Class<?> type = value instanceof VNumber
+                            ? ((VNumber) value).getValue().getClass()
+                            : value instanceof VNumberArray
+                            ? ((VNumberArray) value).getData().getClass()
+                            : null;
+        if (type == null)
+            return DBRType.DOUBLE;
+        final String name = type.getSimpleName();
+        if (name.contains("Float"))
+            return DBRType.FLOAT;
+        if (name.contains("Int"))
+            return DBRType.LONG;
+        if (name.contains("Short"))
+            return DBRType.SHORT;
+        if (name.contains("Byte"))
+            return DBRType.CHAR;
+        return DBRType.DOUBLE;
+    }
+
+    private static double getNumber(final VType value, final int index)
+    {
+        if (value instanceof VNumber)
+            return ((VNumber) value).getValue().doubleValue();
+        if (value instanceof VNumberArray)
+            return ((VNumberArray) value).getData().getDouble(index);
+        if (value instanceof VEnum)
+            return ((VEnum) value).getIndex();
+        if (value instanceof VEnumArray)
+            return ((VEnumArray) value).getIndexes().getInt(index);
+        final String text = getText(value, index);
+        try
+        {
+            return Double.parseDouble(text.trim());
+        }
+        catch (NumberFormatException ex)
+        {
+            return 0.0;
+        }
+    }
+
+    private static String getText(final VType value, final int index)
+    {
+        if (value instanceof VString)
+            return ((VString) value).getValue();
+        if (value instanceof VStringArray)
+            return ((VStringArray) value).getData().get(index);
+        if (value instanceof VEnum)
+            return ((VEnum) value).getValue();
+        if (value instanceof VEnumArray)
+            return ((VEnumArray) value).getData().get(index);
+        if (value instanceof VNumber)
+            return ((VNumber) value).getValue().toString();
+        if (value instanceof VNumberArray)
+        {
+            final ListNumber data = ((VNumberArray) value).getData();
+            return Double.toString(data.getDouble(index));
+        }
+        return "";
+    }
+
+    /** Encode value as requested by a client
+     *
+     *  @param buffer Buffer where padded payload is added
+     *  @param type DBR type to send
+     *  @param count Number of elements to send. Missing elements are sent as 0
+     *  @param value Value to encode
+     */
+    public static void encode(final ByteBuffer buffer, final int type, final int count, final VType value)
+    {
+        final int start = buffer.position();
+        if (DBRType.hasStatus(type))
+        {
+            final Alarm alarm = Alarm.alarmOf(value);
+            final int status = Arrays.asList(DBRDecoder.ALARM_STATUS).indexOf(alarm.getName());
+            buffer.putShort((short) Math.max(0, status));
+            buffer.putShort((short) getSeverity(alarm.getSeverity()));
+        }
+        if (DBRType.isTime(type))
+        {
+            final Time time = Time.timeOf(value);
+            final Instant stamp = time == null ? Instant.now() : time.getTimestamp();
+            buffer.putInt((int) (stamp.getEpochSecond() - DBRType.EPICS_EPOCH));
+            buffer.putInt(stamp.getNano());
+        }
+        if (DBRType.hasDisplay(type))
+            encodeMetadata(buffer, type, value);
+        // Padding between meta data and value
+        while (buffer.position() < start + DBRType.getValueOffset(type))
+            buffer.put((byte) 0);
+
+        final int available = getElementCount(value);
+        for (int i=0; i<count; ++i)
+        {
+            final boolean have = i < available;
+            switch (DBRType.getValueType(type))
+            {
+            case DBRType.DOUBLE:
+                buffer.putDouble(have ? getNumber(value, i) : 0.0);
+                break;
+            case DBRType.FLOAT:
+                buffer.putFloat(have ? (float) getNumber(value, i) : 0.0f);
+                break;
+            case DBRType.LONG:
+                buffer.putInt(have ? (int) getNumber(value, i) : 0);
+                break;
+            case DBRType.SHORT:
+            case DBRType.ENUM:
+                buffer.putShort(have ? (short) getNumber(value, i) : 0);
+                break;
+            case DBRType.CHAR:
+                buffer.put(have ? (byte) getNumber(value, i) : 0);
+                break;
+            default:
+                putString(buffer, have ? getText(value, i) : "");
+            }
+        }
+        CAProtocol.pad(buffer, start);
+    }
+
+    private static int getSeverity(final AlarmSeverity severity)
+    {
+        switch (severity)
+        {
+        case NONE:  return 0;
+        case MINOR: return 1;
+        case MAJOR: return 2;
+        default:    return 3;
+        }
+    }
+
+    private static void encodeMetadata(final ByteBuffer buffer, final int type, final VType value)
+    {
+        final int value_type = DBRType.getValueType(type);
+        if (value_type == DBRType.STRING)
+            return;
+        if (value_type == DBRType.ENUM)
+        {
+            final List<String> labels = value instanceof VEnum
+                                      ? ((VEnum) value).getDisplay().getChoices()
+                                      : value instanceof VEnumArray
+                                      ? ((VEnumArray) value).getDisplay().getChoices()
+                                      : List.of();
+            final int n = Math.min(labels.size(), DBRType.MAX_ENUM_STATES);
+            buffer.putShort((short) n);
+            for (int i=0; i<DBRType.MAX_ENUM_STATES; ++i)
+            {
+                final byte[] bytes = i < n ? labels.get(i).getBytes(StandardCharsets.UTF_8) : new byte[0];
+                final int len = Math.min(bytes.length, DBRType.MAX_ENUM_STRING_SIZE - 1);
+                buffer.put(bytes, 0, len);
+                for (int j=len; j<DBRType.MAX_ENUM_STRING_SIZE; ++j)
+                    buffer.put((byte) 0);
+            }
+            return;
+        }
+
+        final Display display = Display.displayOf(value);
+        final Display safe = display == null ? Display.none() : display;
+        if (value_type == DBRType.FLOAT  ||  value_type == DBRType.DOUBLE)
+        {
+            final NumberFormat format = safe.getFormat();
+            buffer.putShort((short) (format == null ? 0 : format.getMaximumFractionDigits()));
+            buffer.putShort((short) 0);
+        }
+        final byte[] units = safe.getUnit().getBytes(StandardCharsets.UTF_8);
+        for (int i=0; i<8; ++i)
+            buffer.put(i < Math.min(units.length, 7) ? units[i] : 0);
+
+        final double[] limits =
+        {
+            safe.getDisplayRange().getMaximum(),
+            safe.getDisplayRange().getMinimum(),
+            safe.getAlarmRange().getMaximum(),
+            safe.getWarningRange().getMaximum(),
+            safe.getWarningRange().getMinimum(),
+            safe.getAlarmRange().getMinimum(),
+            safe.getControlRange().getMaximum(),
+            safe.getControlRange().getMinimum(),
+        };
+        final int n = type >= DBRType.CTRL ? 8 : 6;
+        for (int i=0; i<n; ++i)
+        {
+            final double limit = Double.isFinite(limits[i]) ? limits[i] : 0.0;
+            switch (value_type)
+            {
+            case DBRType.DOUBLE: buffer.putDouble(limit);       break;
+            case DBRType.FLOAT:  buffer.putFloat((float) limit); break;
+            case DBRType.LONG:   buffer.putInt((int) limit);     break;
+            case DBRType.SHORT:  buffer.putShort((short) limit); break;
+            default:             buffer.put((byte) limit);
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca.common;
+
+/** Channel Access data types
+ *
+ *  <p>The plain value types 0 to 6 are also used
+ *  as the 'field type' of a channel.
+ *  Each plain type has variants that add status (STS),
+ *  time stamp (TIME), graphic (GR) and control (CTRL) information
+ *  in front of the value.
+ */
+@SuppressWarnings("nls")
+public class DBRType
+{
+    /** String, 40 characters */
+    public static final int STRING = 0;
+    /** 16 bit integer */
+    public static final int SHORT = 1;
+    /** 32 bit float */
+    public static final int FLOAT = 2;
+    /** 16 bit enum index */
+    public static final int ENUM = 3;
+    /** 8 bit integer */
+    public static final int CHAR = 4;
+    /** 32 bit integer */
+    public static final int LONG = 5;
+    /** 64 bit float */
+    public static final int DOUBLE = 6;
+
+    /** Offset of STS_... types */
+    public static final int STS = 7;
+    /** Offset of TIME_... types */
+    public static final int TIME = 14;
+    /** Offset of GR_... types */
+    public static final int GR = 21;
+    /** Offset of CTRL_... types */
+    public static final int CTRL = 28;
+
+    /** Last known type */
+    public static final int LAST = CTRL + DOUBLE;
+
+    /** Size of string elements */
+    public static final int MAX_STRING_SIZE = 40;
+
+    /** Size of enum labels */
+    public static final int MAX_ENUM_STRING_SIZE = 26;
+
+    /** Number of enum labels */
+    public static final int MAX_ENUM_STATES = 16;
+
+    /** 1990/01/01 00:00:00 epoch used by Channel Access */
+    public static final long EPICS_EPOCH = 631152000L;
+
+    private static final String[] NAMES = { "STRING", "SHORT", "FLOAT", "ENUM", "CHAR", "LONG", "DOUBLE" };
+
+    private static final int[] ELEMENT_SIZE = { MAX_STRING_SIZE, 2, 4, 2, 1, 4, 8 };
+
+    /** Offset of value within STS, TIME, GR, CTRL structures */
+    private static final int[][] VALUE_OFFSET =
+    {
+        // STRING, SHORT, FLOAT, ENUM, CHAR, LONG, DOUBLE
+        {  0,  0,  0,   0,  0,  0,  0 }, // plain
+        {  4,  4,  4,   4,  5,  4,  8 }, // STS
+        { 12, 14, 12,  14, 15, 12, 16 }, // TIME
+        {  4, 24, 40, 422, 19, 36, 64 }, // GR
+        {  4, 28, 48, 422, 21, 44, 80 }, // CTRL
+    };
+
+    /** @param type DBR type
+     *  @return Is the type valid?
+     */
+    public static boolean isValid(final int type)
+    {
+        return type >= 0  &&  type <= LAST;
+    }
+
+    /** @param type DBR type
+     *  @return Plain value type, STRING, SHORT, ...
+     */
+    public static int getValueType(final int type)
+    {
+        return type % STS;
+    }
+
+    /** @param type DBR type
+     *  @return 0 for plain, 1 for STS, 2 for TIME, 3 for GR, 4 for CTRL
+     */
+    private static int getKind(final int type)
+    {
+        return type / STS;
+    }
+
+    /** @param type DBR type
+     *  @return Is it a TIME_... type?
+     */
+    public static boolean isTime(final int type)
+    {
+        return getKind(type) == 2;
+    }
+
+    /** @param type DBR type
+     *  @return Does it include status and severity?
+     */
+    public static boolean hasStatus(final int type)
+    {
+        return type >= STS;
+    }
+
+    /** @param type DBR type
+     *  @return Is it a GR_... or CTRL_... type with display information?
+     */
+    public static boolean hasDisplay(final int type)
+    {
+        return type >= GR;
+    }
+
+    /** @param type DBR type
+     *  @return Size of one value element
+     */
+    public static int getElementSize(final int type)
+    {
+        return ELEMENT_SIZE[getValueType(type)];
+    }
+
+    /** @param type DBR type
+     *  @return Offset of the value in the structure
+     */
+    public static int getValueOffset(final int type)
+    {
+        return VALUE_OFFSET[getKind(type)][getValueType(type)];
+    }
+
+    /** @param type DBR type
+     *  @param count Element count
+     *  @return Payload size, padded
+     */
+    public static int getPayloadSize(final int type, final int count)
+    {
+        return CAProtocol.padded(getValueOffset(type) + count * getElementSize(type));
+    }
+
+    /** @param field_type Field type of a channel
+     *  @return TIME_... type to read the channel
+     */
+    public static int getTimeType(final int field_type)
+    {
+        return TIME + getValueType(field_type);
+    }
+
+    /** @param field_type Field type of a channel
+     *  @return CTRL_... type to read meta data of the channel
+     */
+    public static int getCtrlType(final int field_type)
+    {
+        return CTRL + getValueType(field_type);
+    }
+
+    /** @param type DBR type
+     *  @return Name of the type, for example "TIME_DOUBLE"
+     */
+    public static String toString(final int type)
+    {
+        if (! isValid(type))
+            return "Unknown type " + type;
+        final String name = NAMES[getValueType(type)];
+        switch (getKind(type))
+        {
+        case 1:  return "STS_" + name;
+        case 2:  return "TIME_" + name;
+        case 3:  return "GR_" + name;
+        case 4:  return "CTRL_" + name;
+        default: return name;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca.common;
+
+import java.nio.ByteBuffer;
+
+/** Header of a received message
+ *
+ *  <p>Re-used for all messages of a connection
+ *  to avoid allocations.
+ */
+@SuppressWarnings("nls")
+public class MessageHeader
+{
+    /** Command */
+    public int command;
+
+    /** Size of (padded) payload */
+    public int payload_size;
+
+    /** Data type */
+    public int type;
+
+    /** Data count */
+    public int count;
+
+    /** Parameter 1 */
+    public int p1;
+
+    /** Parameter 2 */
+    public int p2;
+
+    /** Size of header, basic or extended */
+    public int header_size;
+
+    /** Decode header at current buffer position
+     *
+     *  <p>Does not change the buffer position.
+     *
+     *  @param buffer Buffer in 'read' mode
+     *  @return <code>true</code> if complete header was available
+     */
+    public boolean decode(final ByteBuffer buffer)
+    {
+        final int pos = buffer.position();
+        if (buffer.remaining() < CAProtocol.HEADER_SIZE)
+            return false;
+        command = Short.toUnsignedInt(buffer.getShort(pos));
+        payload_size = Short.toUnsignedInt(buffer.getShort(pos + 2));
+        type = Short.toUnsignedInt(buffer.getShort(pos + 4));
+        count = Short.toUnsignedInt(buffer.getShort(pos + 6));
+        p1 = buffer.getInt(pos + 8);
+        p2 = buffer.getInt(pos + 12);
+        header_size = CAProtocol.HEADER_SIZE;
+        if (payload_size == 0xFFFF  &&  count == 0)
+        {
+            if (buffer.remaining() < CAProtocol.EXTENDED_HEADER_SIZE)
+                return false;
+            payload_size = buffer.getInt(pos + 16);
+            count = buffer.getInt(pos + 20);
+            header_size = CAProtocol.EXTENDED_HEADER_SIZE;
+        }
+        return true;
+    }
+
+    /** @return Total size of message */
+    public int getMessageSize()
+    {
+        return header_size + payload_size;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Command " + command + ", payload " + payload_size + ", type " + type +
+               ", count " + count + ", p1 " + p1 + ", p2 " + p2;
+    }
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca.common;
+
+import static org.epics.ca.CASettings.logger;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.InterfaceAddress;
+import java.net.NetworkInterface;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.logging.Level;
+
+import org.epics.ca.CASettings;
+
+/** Network helpers */
+@SuppressWarnings("nls")
+public class Network
+{
+    /** @param address Address
+     *  @return IPv4 address as int, 0 if not IPv4
+     */
+    public static int toInt(final InetAddress address)
+    {
+        final byte[] bytes = address.getAddress();
+        if (bytes.length != 4)
+            return 0;
+        return (bytes[0] & 0xFF) << 24 | (bytes[1] & 0xFF) << 16 | (bytes[2] & 0xFF) << 8 | (bytes[3] & 0xFF);
+    }
+
+    /** @param address IPv4 address as int
+     *  @return {@link InetAddress}
+     *  @throws Exception on error
+     */
+    public static InetAddress fromInt(final int address) throws Exception
+    {
+        return InetAddress.getByAddress(new byte[]
+        {
+            (byte) (address >> 24), (byte) (address >> 16), (byte) (address >> 8), (byte) address
+        });
+    }
+
+    /** @return Addresses to which searches are sent, based on {@link CASettings} */
+    public static List<InetSocketAddress> getSearchAddresses()
+    {
+        final List<InetSocketAddress> addresses = new ArrayList<>();
+        for (String setting : CASettings.EPICS_CA_ADDR_LIST.trim().split("\\s+"))
+        {
+            if (setting.isEmpty())
+                continue;
+            try
+            {
+                final int sep = setting.lastIndexOf(':');
+                if (sep > 0)
+                    addresses.add(new InetSocketAddress(setting.substring(0, sep), Integer.parseInt(setting.substring(sep+1))));
+                else
+                    addresses.add(new InetSocketAddress(setting, CASettings.EPICS_CA_SERVER_PORT));
+            }
+            catch (Exception ex)
+            {
+                logger.log(Level.WARNING, "Cannot parse EPICS_CA_ADDR_LIST entry '" + setting + "'", ex);
+            }
+        }
+        if (CASettings.EPICS_CA_AUTO_ADDR_LIST)
+            addresses.addAll(getBroadcastAddresses(CASettings.EPICS_CA_SERVER_PORT));
+        return addresses;
+    }
+
+    /** @param port Port to use
+     *  @return IPv4 broadcast addresses of all network interfaces
+     */
+    public static List<InetSocketAddress> getBroadcastAddresses(final int port)
+    {
+        final List<InetSocketAddress> addresses = new ArrayList<>();
+        try
+        {
+            final Enumeration<NetworkInterface> ifs = NetworkInterface.getNetworkInterfaces();
+            while (ifs.hasMoreElements())
+            {
+                final NetworkInterface iface = ifs.nextElement();
+                if (! iface.isUp())
+                    continue;
+                for (InterfaceAddress addr : iface.getInterfaceAddresses())
+                    if (addr.getBroadcast() != null)
+                        addresses.add(new InetSocketAddress(addr.getBroadcast(), port));
+            }
+        }
+        catch (Exception ex)
+        {
+            logger.log(Level.WARNING, "Cannot list broadcast addresses", ex);
+        }
+        if (addresses.isEmpty())
+            addresses.add(new InetSocketAddress("255.255.255.255", port));
+        return addresses;
+    }
+}
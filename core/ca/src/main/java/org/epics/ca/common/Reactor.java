@@ -0,0 +1,237 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca.common;
+
+import static org.epics.ca.CASettings.logger;
+
+import java.io.IOException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+/** Single-threaded NIO reactor
+ *
+ *  <p>One thread handles all sockets via a {@link Selector},
+ *  runs submitted tasks and timers.
+ *  Handlers are invoked on that thread and must not block.
+ */
+@SuppressWarnings("nls")
+public class Reactor implements AutoCloseable
+{
+    /** Handler for a registered channel */
+    @FunctionalInterface
+    public static interface Handler
+    {
+        /** @param key Key of the channel that is ready
+         *  @throws Exception on error
+         */
+        public void handle(SelectionKey key) throws Exception;
+    }
+
+    /** Scheduled task */
+    public class Timer implements Comparable<Timer>
+    {
+        private final Runnable task;
+        private final long due;
+        private volatile boolean cancelled = false;
+
+        private Timer(final Runnable task, final long due)
+        {
+            this.task = task;
+            this.due = due;
+        }
+
+        /** Cancel the timer */
+        public void cancel()
+        {
+            cancelled = true;
+        }
+
+        @Override
+        public int compareTo(final Timer other)
+        {
+            return Long.compare(due, other.due);
+        }
+    }
+
+    private final Selector selector;
+
+    private final Thread thread;
+
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    /** Is a wakeup of the selector pending? Used to coalesce wakeups */
+    private final AtomicBoolean wakeup_pending = new AtomicBoolean();
+
+    /** Timers, only accessed on reactor thread */
+    private final PriorityQueue<Timer> timers = new PriorityQueue<>();
+
+    private volatile boolean running = true;
+
+    /** @param name Name of reactor thread
+     *  @throws IOException on error
+     */
+    public Reactor(final String name) throws IOException
+    {
+        selector = Selector.open();
+        thread = new Thread(this::run, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** @return Is the calling thread the reactor thread? */
+    public boolean isReactorThread()
+    {
+        return Thread.currentThread() == thread;
+    }
+
+    /** Execute task on reactor thread
+     *  @param task Task to execute
+     */
+    public void execute(final Runnable task)
+    {
+        tasks.add(task);
+        if (! isReactorThread()  &&  wakeup_pending.compareAndSet(false, true))
+            selector.wakeup();
+    }
+
+    /** Schedule task to execute on reactor thread
+     *  @param task Task to execute
+     *  @param delay_ms Delay in milliseconds
+     *  @return {@link Timer} that may be cancelled
+     */
+    public Timer schedule(final Runnable task, final long delay_ms)
+    {
+        final Timer timer = new Timer(task, System.currentTimeMillis() + delay_ms);
+        if (isReactorThread())
+            timers.add(timer);
+        else
+            execute(() -> timers.add(timer));
+        return timer;
+    }
+
+    /** Register channel
+     *
+     *  <p>Must be called on reactor thread
+     *
+     *  @param channel Channel, will be configured as non-blocking
+     *  @param ops Initial interest set
+     *  @param handler {@link Handler}
+     *  @return {@link SelectionKey}
+     *  @throws IOException on error
+     */
+    public SelectionKey register(final SelectableChannel channel, final int ops, final Handler handler) throws IOException
+    {
+        if (! isReactorThread())
+            throw new IllegalStateException("Must register on reactor thread");
+        channel.configureBlocking(false);
+        return channel.register(selector, ops, handler);
+    }
+
+    private void run()
+    {
+        while (running)
+        {
+            try
+            {
+                final Timer next = timers.peek();
+                final long timeout = next == null ? 0 : Math.max(1, next.due - System.currentTimeMillis());
+                if (tasks.isEmpty())
+                    selector.select(timeout);
+                else
+                    selector.selectNow();
+                wakeup_pending.set(false);
+
+                final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext())
+                {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    if (! key.isValid())
+                        continue;
+                    try
+                    {
+                        ((Handler) key.attachment()).handle(key);
+                    }
+                    catch (Throwable ex)
+                    {
+                        logger.log(Level.WARNING, thread.getName() + " handler error", ex);
+                    }
+                }
+
+                Runnable task;
+                while ((task = tasks.poll()) != null)
+                    runSafely(task);
+
+                final long now = System.currentTimeMillis();
+                while (! timers.isEmpty()  &&  timers.peek().due <= now)
+                {
+                    final Timer timer = timers.poll();
+                    if (! timer.cancelled)
+                        runSafely(timer.task);
+                }
+            }
+            catch (Throwable ex)
+            {
+                if (running)
+                    logger.log(Level.WARNING, thread.getName() + " error", ex);
+            }
+        }
+        try
+        {
+            for (SelectionKey key : selector.keys())
+                key.channel().close();
+            selector.close();
+        }
+        catch (IOException ex)
+        {
+            logger.log(Level.FINE, thread.getName() + " close error", ex);
+        }
+    }
+
+    private void runSafely(final Runnable task)
+    {
+        try
+        {
+            task.run();
+        }
+        catch (Throwable ex)
+        {
+            logger.log(Level.WARNING, thread.getName() + " task error", ex);
+        }
+    }
+
+    /** Stop the reactor, closing all registered channels
+     *
+     *  <p>Tasks that were submitted before are still executed.
+     */
+    @Override
+    public void close()
+    {
+        if (isReactorThread())
+            running = false;
+        else
+        {
+            execute(() -> running = false);
+            try
+            {
+                thread.join(2000);
+            }
+            catch (InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,3 @@
+/** Common code internal to the server and client
+ */
+package org.epics.ca.common;
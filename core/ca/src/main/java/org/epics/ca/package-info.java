@@ -0,0 +1,7 @@
+/** Channel Access Client and Server configuration
+ *
+ *  <p>Both the {@link org.epics.ca.client.CAClient} and the {@link org.epics.ca.server.CAServer}
+ *  are configured via environment variables or system properties
+ *  described in {@link org.epics.ca.CASettings}
+ */
+package org.epics.ca;
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca.server;
+
+import static org.epics.ca.CASettings.logger;
+
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+import org.epics.ca.common.CAProtocol;
+import org.epics.ca.common.MessageHeader;
+import org.epics.ca.common.Reactor;
+import org.epics.vtype.VType;
+
+/** Minimal Channel Access server
+ *
+ *  <p>Serves PVs held in memory.
+ *  Supports search, channel creation, read, write and subscriptions,
+ *  which is sufficient for tests and benchmarks of clients.
+ *  Does not send beacons and has no access security.
+ */
+@SuppressWarnings("nls")
+public class CAServer implements AutoCloseable
+{
+    /** Reactor for all network I/O */
+    final Reactor reactor;
+
+    private final ServerSocketChannel tcp;
+
+    private final DatagramChannel udp;
+
+    private final int port;
+
+    private final Map<String, ServerPV> pvs = new ConcurrentHashMap<>();
+
+    private final ByteBuffer receive_buffer = ByteBuffer.allocate(CAProtocol.MAX_UDP_RECV);
+
+    private final ByteBuffer send_buffer = ByteBuffer.allocate(CAProtocol.MAX_UDP_SEND);
+
+    private final MessageHeader header = new MessageHeader();
+
+    /** Create server
+     *  @param port TCP and UDP port, 0 to use any free port
+     *  @throws Exception on error
+     */
+    public CAServer(final int port) throws Exception
+    {
+        tcp = ServerSocketChannel.open();
+        tcp.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+        tcp.bind(new InetSocketAddress(port));
+        this.port = ((InetSocketAddress) tcp.getLocalAddress()).getPort();
+
+        udp = DatagramChannel.open();
+        udp.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+        udp.bind(new InetSocketAddress(this.port));
+
+        reactor = new Reactor("CA Server");
+        reactor.execute(() ->
+        {
+            try
+            {
+                reactor.register(tcp, SelectionKey.OP_ACCEPT, this::handleAccept);
+                reactor.register(udp, SelectionKey.OP_READ, this::handleSearch);
+            }
+            catch (Exception ex)
+            {
+                logger.log(Level.SEVERE, "Cannot start CA server", ex);
+            }
+        });
+        logger.log(Level.FINE, () -> "CA Server on port " + this.port);
+    }
+
+    /** @return TCP and UDP port of the server */
+    public int getPort()
+    {
+        return port;
+    }
+
+    /** Create a PV
+     *  @param name PV name
+     *  @param initial Initial value, also determines type and element count
+     *  @return {@link ServerPV}
+     */
+    public ServerPV createPV(final String name, final VType initial)
+    {
+        final ServerPV pv = new ServerPV(name, initial);
+        pvs.put(name, pv);
+        return pv;
+    }
+
+    /** @param name PV name
+     *  @return {@link ServerPV} or <code>null</code>
+     */
+    ServerPV getPV(final String name)
+    {
+        return pvs.get(name);
+    }
+
+    private void handleAccept(final SelectionKey key) throws Exception
+    {
+        SocketChannel client;
+        while ((client = tcp.accept()) != null)
+            new ServerConnection(this, client);
+    }
+
+    private void handleSearch(final SelectionKey key) throws Exception
+    {
+        InetSocketAddress from;
+        while ((from = (InetSocketAddress) udp.receive(receive_buffer)) != null)
+        {
+            receive_buffer.flip();
+            send_buffer.clear();
+            while (header.decode(receive_buffer))
+            {
+                final int size = header.getMessageSize();
+                if (receive_buffer.remaining() < size)
+                    break;
+                if (header.command == CAProtocol.CA_PROTO_SEARCH)
+                {
+                    final String name = CAProtocol.getString(receive_buffer, receive_buffer.position() + header.header_size, header.payload_size);
+                    if (pvs.containsKey(name))
+                    {
+                        if (send_buffer.remaining() < 2 * CAProtocol.HEADER_SIZE + 8)
+                            sendSearchReplies(from);
+                        if (send_buffer.position() == 0)
+                            CAProtocol.putHeader(send_buffer, CAProtocol.CA_PROTO_VERSION, 0, 0, CAProtocol.CA_MINOR_PROTOCOL_REVISION, 0, 0);
+                        // Address -1: Client should use the address of the reply
+                        CAProtocol.putHeader(send_buffer, CAProtocol.CA_PROTO_SEARCH, 8, port, 0, -1, header.p2);
+                        send_buffer.putShort(CAProtocol.CA_MINOR_PROTOCOL_REVISION);
+                        CAProtocol.pad(send_buffer, send_buffer.position() - 2);
+                    }
+                }
+                receive_buffer.position(receive_buffer.position() + size);
+            }
+            if (send_buffer.position() > 0)
+                sendSearchReplies(from);
+            receive_buffer.clear();
+        }
+    }
+
+    private void sendSearchReplies(final InetSocketAddress client)
+    {
+        send_buffer.flip();
+        try
+        {
+            udp.send(send_buffer, client);
+        }
+        catch (Exception ex)
+        {
+            logger.log(Level.WARNING, "Cannot send search reply to " + client, ex);
+        }
+        send_buffer.clear();
+    }
+
+    /** Close server and all connections */
+    @Override
+    public void close()
+    {
+        pvs.clear();
+        reactor.close();
+    }
+}
@@ -0,0 +1,328 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca.server;
+
+import static org.epics.ca.CASettings.logger;
+
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+import org.epics.ca.CASettings;
+import org.epics.ca.common.BufferPool;
+import org.epics.ca.common.CAProtocol;
+import org.epics.ca.common.DBRDecoder;
+import org.epics.ca.common.DBREncoder;
+import org.epics.ca.common.DBRType;
+import org.epics.ca.common.MessageHeader;
+import org.epics.ca.common.Reactor;
+import org.epics.vtype.VType;
+
+/** TCP connection from one client to the {@link CAServer} */
+@SuppressWarnings("nls")
+class ServerConnection implements Reactor.Handler
+{
+    /** Channel created by the client */
+    private static class ServerChannel
+    {
+        final ServerPV pv;
+        final int cid;
+
+        ServerChannel(final ServerPV pv, final int cid)
+        {
+            this.pv = pv;
+            this.cid = cid;
+        }
+    }
+
+    /** Subscription of the client */
+    class ServerSubscription
+    {
+        final ServerChannel channel;
+        final int id;
+        final int type;
+        final int count;
+
+        ServerSubscription(final ServerChannel channel, final int id, final int type, final int count)
+        {
+            this.channel = channel;
+            this.id = id;
+            this.type = type;
+            this.count = count;
+        }
+
+        /** @param value Value to send to subscriber */
+        void update(final VType value)
+        {
+            sendValue(CAProtocol.CA_PROTO_EVENT_ADD, type, count, channel.pv, value, id);
+        }
+    }
+
+    private final CAServer server;
+
+    private final SocketChannel socket;
+
+    private final SelectionKey key;
+
+    private final AtomicInteger sids = new AtomicInteger();
+
+    /** Channels by server ID */
+    private final Map<Integer, ServerChannel> channels = new ConcurrentHashMap<>();
+
+    /** Subscriptions by ID */
+    private final Map<Integer, ServerSubscription> subscriptions = new ConcurrentHashMap<>();
+
+    private ByteBuffer send_buffer = BufferPool.acquire(16 * 1024);
+
+    private final Object send_lock = new Object();
+
+    private final AtomicBoolean flush_scheduled = new AtomicBoolean();
+
+    private ByteBuffer receive_buffer = BufferPool.acquire(16 * 1024);
+
+    private final MessageHeader header = new MessageHeader();
+
+    private volatile boolean closed = false;
+
+    ServerConnection(final CAServer server, final SocketChannel socket) throws Exception
+    {
+        this.server = server;
+        this.socket = socket;
+        socket.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        key = server.reactor.register(socket, SelectionKey.OP_READ, this);
+        logger.log(Level.FINE, "Client connected from " + socket.getRemoteAddress());
+        send(CAProtocol.HEADER_SIZE, buffer ->
+            CAProtocol.putHeader(buffer, CAProtocol.CA_PROTO_VERSION, 0, 0, CAProtocol.CA_MINOR_PROTOCOL_REVISION, 0, 0));
+    }
+
+    private void send(final int size, final Consumer<ByteBuffer> encoder)
+    {
+        if (closed)
+            return;
+        synchronized (send_lock)
+        {
+            send_buffer = BufferPool.grow(send_buffer, send_buffer.position() + size);
+            encoder.accept(send_buffer);
+        }
+        if (flush_scheduled.compareAndSet(false, true))
+            server.reactor.execute(this::flush);
+    }
+
+    private void sendValue(final short command, final int type, final int count, final ServerPV pv, final VType value, final int p2)
+    {
+        final int actual = count > 0 ? count : Math.max(1, DBREncoder.getElementCount(value));
+        final int payload = DBRType.getPayloadSize(type, actual);
+        send(CAProtocol.messageSize(payload, actual), buffer ->
+        {
+            CAProtocol.putHeader(buffer, command, payload, type, actual, CAProtocol.ECA_NORMAL, p2);
+            DBREncoder.encode(buffer, type, actual, value);
+        });
+    }
+
+    private void flush()
+    {
+        flush_scheduled.set(false);
+        if (closed)
+            return;
+        try
+        {
+            final boolean more;
+            synchronized (send_lock)
+            {
+                send_buffer.flip();
+                socket.write(send_buffer);
+                send_buffer.compact();
+                more = send_buffer.position() > 0;
+            }
+            key.interestOps(more ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+        }
+        catch (Exception ex)
+        {
+            logger.log(Level.FINE, "Cannot send to client", ex);
+            close();
+        }
+    }
+
+    @Override
+    public void handle(final SelectionKey key) throws Exception
+    {
+        try
+        {
+            if (key.isReadable())
+                handleRead();
+            if (key.isValid()  &&  key.isWritable())
+                flush();
+        }
+        catch (Exception ex)
+        {
+            logger.log(Level.FINE, "Client connection closed", ex);
+            close();
+        }
+    }
+
+    private void handleRead() throws Exception
+    {
+        if (socket.read(receive_buffer) < 0)
+            throw new Exception("Client closed connection");
+        receive_buffer.flip();
+        int needed = 0;
+        while (header.decode(receive_buffer))
+        {
+            final int size = header.getMessageSize();
+            if (size > CASettings.EPICS_CA_MAX_ARRAY_BYTES + CAProtocol.EXTENDED_HEADER_SIZE  ||  size < 0)
+                throw new Exception("Message exceeds EPICS_CA_MAX_ARRAY_BYTES: " + header);
+            if (receive_buffer.remaining() < size)
+            {
+                needed = size;
+                break;
+            }
+            final int start = receive_buffer.position();
+            try
+            {
+                handleMessage(receive_buffer, start + header.header_size);
+            }
+            catch (Exception ex)
+            {
+                logger.log(Level.WARNING, "Error handling client message " + header, ex);
+            }
+            receive_buffer.position(start + size);
+        }
+        receive_buffer.compact();
+        if (needed > receive_buffer.capacity())
+            receive_buffer = BufferPool.grow(receive_buffer, needed);
+    }
+
+    private void handleMessage(final ByteBuffer buffer, final int payload) throws Exception
+    {
+        final int p1 = header.p1, p2 = header.p2;
+        switch (header.command)
+        {
+        case CAProtocol.CA_PROTO_CREATE_CHAN:
+        {
+            final String name = CAProtocol.getString(buffer, payload, header.payload_size);
+            final ServerPV pv = server.getPV(name);
+            if (pv == null)
+            {
+                send(CAProtocol.HEADER_SIZE, b -> CAProtocol.putHeader(b, CAProtocol.CA_PROTO_CREATE_CH_FAIL, 0, 0, 0, p1, 0));
+                break;
+            }
+            final int sid = sids.incrementAndGet();
+            channels.put(sid, new ServerChannel(pv, p1));
+            send(2 * CAProtocol.HEADER_SIZE, b ->
+            {
+                CAProtocol.putHeader(b, CAProtocol.CA_PROTO_ACCESS_RIGHTS, 0, 0, 0, p1,
+                                     CAProtocol.CA_ACCESS_READ | CAProtocol.CA_ACCESS_WRITE);
+                CAProtocol.putHeader(b, CAProtocol.CA_PROTO_CREATE_CHAN, 0, pv.getFieldType(), pv.getElementCount(), p1, sid);
+            });
+            break;
+        }
+        case CAProtocol.CA_PROTO_READ_NOTIFY:
+        {
+            final ServerChannel channel = channels.get(p1);
+            if (channel == null  ||  ! DBRType.isValid(header.type))
+            {
+                send(CAProtocol.HEADER_SIZE, b -> CAProtocol.putHeader(b, CAProtocol.CA_PROTO_READ_NOTIFY, 0, 0, 0, CAProtocol.ECA_GETFAIL, p2));
+                break;
+            }
+            sendValue(CAProtocol.CA_PROTO_READ_NOTIFY, header.type, header.count, channel.pv, channel.pv.getValue(), p2);
+            break;
+        }
+        case CAProtocol.CA_PROTO_EVENT_ADD:
+        {
+            final ServerChannel channel = channels.get(p1);
+            if (channel == null  ||  ! DBRType.isValid(header.type))
+                break;
+            final ServerSubscription subscription = new ServerSubscription(channel, p2, header.type, header.count);
+            subscriptions.put(p2, subscription);
+            channel.pv.subscriptions.add(subscription);
+            subscription.update(channel.pv.getValue());
+            break;
+        }
+        case CAProtocol.CA_PROTO_EVENT_CANCEL:
+        {
+            final ServerSubscription subscription = subscriptions.remove(p2);
+            if (subscription != null)
+                subscription.channel.pv.subscriptions.remove(subscription);
+            final int type = header.type;
+            send(CAProtocol.HEADER_SIZE, b -> CAProtocol.putHeader(b, CAProtocol.CA_PROTO_EVENT_ADD, 0, type, 0, p1, p2));
+            break;
+        }
+        case CAProtocol.CA_PROTO_WRITE:
+        case CAProtocol.CA_PROTO_WRITE_NOTIFY:
+        {
+            final ServerChannel channel = channels.get(p1);
+            int status = CAProtocol.ECA_NORMAL;
+            try
+            {
+                if (channel == null)
+                    throw new Exception("Unknown channel");
+                channel.pv.write(DBRDecoder.decode(buffer, payload, header.type, header.count, header.count != 1, null));
+            }
+            catch (Exception ex)
+            {
+                logger.log(Level.WARNING, "Write failed", ex);
+                status = CAProtocol.ECA_PUTFAIL;
+            }
+            if (header.command == CAProtocol.CA_PROTO_WRITE_NOTIFY)
+            {
+                final int type = header.type, count = header.count, result = status;
+                send(CAProtocol.HEADER_SIZE, b -> CAProtocol.putHeader(b, CAProtocol.CA_PROTO_WRITE_NOTIFY, 0, type, count, result, p2));
+            }
+            break;
+        }
+        case CAProtocol.CA_PROTO_CLEAR_CHANNEL:
+        {
+            final ServerChannel channel = channels.remove(p1);
+            if (channel != null)
+                subscriptions.values().removeIf(subscription ->
+                {
+                    if (subscription.channel != channel)
+                        return false;
+                    channel.pv.subscriptions.remove(subscription);
+                    return true;
+                });
+            send(CAProtocol.HEADER_SIZE, b -> CAProtocol.putHeader(b, CAProtocol.CA_PROTO_CLEAR_CHANNEL, 0, 0, 0, p1, p2));
+            break;
+        }
+        case CAProtocol.CA_PROTO_ECHO:
+            send(CAProtocol.HEADER_SIZE, b -> CAProtocol.putHeader(b, CAProtocol.CA_PROTO_ECHO, 0, 0, 0, 0, 0));
+            break;
+        default:
+            // Ignore VERSION, CLIENT_NAME, HOST_NAME, ...
+        }
+    }
+
+    /** Close connection, removing all its subscriptions */
+    void close()
+    {
+        if (closed)
+            return;
+        closed = true;
+        for (ServerSubscription subscription : subscriptions.values())
+            subscription.channel.pv.subscriptions.remove(subscription);
+        subscriptions.clear();
+        channels.clear();
+        key.cancel();
+        try
+        {
+            socket.close();
+        }
+        catch (Exception ex)
+        {
+            // Ignore
+        }
+        BufferPool.release(receive_buffer);
+    }
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca.server;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.epics.ca.common.DBREncoder;
+import org.epics.util.array.ArrayDouble;
+import org.epics.vtype.Alarm;
+import org.epics.vtype.Display;
+import org.epics.vtype.Time;
+import org.epics.vtype.VDouble;
+import org.epics.vtype.VDoubleArray;
+import org.epics.vtype.VEnum;
+import org.epics.vtype.VInt;
+import org.epics.vtype.VNumber;
+import org.epics.vtype.VNumberArray;
+import org.epics.vtype.VString;
+import org.epics.vtype.VType;
+
+/** PV served by the {@link CAServer}
+ *
+ *  <p>Field type and element count are determined
+ *  by the initial value.
+ */
+public class ServerPV
+{
+    private final String name;
+
+    private final int field_type;
+
+    private final int field_count;
+
+    private volatile VType value;
+
+    /** Subscriptions to this PV */
+    final List<ServerConnection.ServerSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    ServerPV(final String name, final VType initial)
+    {
+        this.name = name;
+        this.field_type = DBREncoder.getFieldType(initial);
+        this.field_count = DBREncoder.getElementCount(initial);
+        this.value = initial;
+    }
+
+    /** @return PV name */
+    public String getName()
+    {
+        return name;
+    }
+
+    /** @return Native DBR type */
+    public int getFieldType()
+    {
+        return field_type;
+    }
+
+    /** @return Maximum element count */
+    public int getElementCount()
+    {
+        return field_count;
+    }
+
+    /** @return Current value */
+    public VType getValue()
+    {
+        return value;
+    }
+
+    /** Update the value and send it to subscribers
+     *  @param new_value New value
+     */
+    public void update(final VType new_value)
+    {
+        value = new_value;
+        for (ServerConnection.ServerSubscription subscription : subscriptions)
+            subscription.update(new_value);
+    }
+
+    /** Handle a value written by a client
+     *
+     *  <p>Default converts the received value to the type of
+     *  the current value and updates the PV.
+     *  Derived classes may override.
+     *
+     *  @param received Value received from client
+     *  @throws Exception on error
+     */
+    protected void write(final VType received) throws Exception
+    {
+        final VType current = value;
+        if (current instanceof VEnum)
+        {
+            final VEnum old = (VEnum) current;
+            final int index = received instanceof VString
+                            ? old.getDisplay().getChoices().indexOf(((VString) received).getValue())
+                            : getNumber(received).intValue();
+            update(VEnum.of(index, old.getDisplay(), Alarm.none(), Time.now()));
+        }
+        else if (current instanceof VString)
+            update(VString.of(received instanceof VString ? ((VString) received).getValue() : getNumber(received).toString(),
+                              Alarm.none(), Time.now()));
+        else if (current instanceof VNumberArray)
+        {
+            final Display display = ((VNumberArray) current).getDisplay();
+            if (received instanceof VNumberArray)
+                update(VDoubleArray.of(((VNumberArray) received).getData(), Alarm.none(), Time.now(), display));
+            else
+                update(VDoubleArray.of(ArrayDouble.of(getNumber(received).doubleValue()), Alarm.none(), Time.now(), display));
+        }
+        else if (current instanceof VInt)
+            update(VInt.of(getNumber(received).intValue(), Alarm.none(), Time.now(), ((VInt) current).getDisplay()));
+        else
+        {
+            final Display display = current instanceof VNumber ? ((VNumber) current).getDisplay() : Display.none();
+            update(VDouble.of(getNumber(received).doubleValue(), Alarm.none(), Time.now(), display));
+        }
+    }
+
+    private static Number getNumber(final VType value) throws Exception
+    {
+        if (value instanceof VNumber)
+            return ((VNumber) value).getValue();
+        if (value instanceof VNumberArray  &&  ((VNumberArray) value).getData().size() > 0)
+            return ((VNumberArray) value).getData().getDouble(0);
+        if (value instanceof VEnum)
+            return ((VEnum) value).getIndex();
+        if (value instanceof VString)
+            return Double.parseDouble(((VString) value).getValue().trim());
+        throw new Exception("Cannot convert " + value + " to number");
+    }
+
+    @Override
+    public String toString()
+    {
+        return name + " = " + value;
+    }
+}
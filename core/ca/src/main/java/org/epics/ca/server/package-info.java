@@ -0,0 +1,5 @@
+/** Channel Access Server
+ *
+ *  <p>Basic server for tests and demos, see {@link org.epics.ca.server.CAServer}.
+ */
+package org.epics.ca.server;
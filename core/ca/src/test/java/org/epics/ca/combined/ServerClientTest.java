@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca.combined;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.epics.ca.CASettings;
+import org.epics.ca.client.CAChannel;
+import org.epics.ca.client.CAClient;
+import org.epics.ca.client.ClientChannelState;
+import org.epics.ca.common.CAProtocol;
+import org.epics.ca.server.CAServer;
+import org.epics.ca.server.ServerPV;
+import org.epics.util.array.ArrayDouble;
+import org.epics.util.stats.Range;
+import org.epics.util.text.NumberFormats;
+import org.epics.vtype.Alarm;
+import org.epics.vtype.Display;
+import org.epics.vtype.EnumDisplay;
+import org.epics.vtype.Time;
+import org.epics.vtype.VDouble;
+import org.epics.vtype.VDoubleArray;
+import org.epics.vtype.VEnum;
+import org.epics.vtype.VString;
+import org.epics.vtype.VType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/** Client connected to server on localhost */
+@SuppressWarnings("nls")
+public class ServerClientTest
+{
+    private static CAServer server;
+    private static CAClient client;
+    private static ServerPV number, text, choice, array;
+
+    @BeforeAll
+    public static void setup() throws Exception
+    {
+        server = new CAServer(0);
+        final Display display = Display.of(Range.of(0, 10), Range.undefined(), Range.undefined(), Range.of(0, 10),
+                                           "V", NumberFormats.precisionFormat(2));
+        number = server.createPV("test:number", VDouble.of(3.14, Alarm.none(), Time.now(), display));
+        text = server.createPV("test:text", VString.of("Hello", Alarm.none(), Time.now()));
+        choice = server.createPV("test:choice", VEnum.of(0, EnumDisplay.of("Off", "On"), Alarm.none(), Time.now()));
+        array = server.createPV("test:array", VDoubleArray.of(ArrayDouble.of(1, 2, 3), Alarm.none(), Time.now(), display));
+        for (int i=0; i<1000; ++i)
+            server.createPV("test:many" + i, VDouble.of(i, Alarm.none(), Time.now(), display));
+
+        // Search only the test server
+        CASettings.EPICS_CA_AUTO_ADDR_LIST = false;
+        CASettings.EPICS_CA_ADDR_LIST = "127.0.0.1:" + server.getPort();
+        client = new CAClient();
+    }
+
+    @AfterAll
+    public static void shutdown()
+    {
+        client.close();
+        server.close();
+    }
+
+    private static CAChannel connect(final String name) throws Exception
+    {
+        final CountDownLatch connected = new CountDownLatch(1);
+        final CAChannel channel = client.getChannel(name, (ch, state) ->
+        {
+            if (state == ClientChannelState.CONNECTED)
+                connected.countDown();
+        });
+        assertTrue(connected.await(5, TimeUnit.SECONDS), "Connected " + name);
+        return channel;
+    }
+
+    @Test
+    public void testRead() throws Exception
+    {
+        final CAChannel channel = connect("test:number");
+        final VType value = channel.read().get(5, TimeUnit.SECONDS);
+        assertThat(value, instanceOf(VDouble.class));
+        assertThat(((VDouble) value).getValue(), equalTo(3.14));
+        assertThat(((VDouble) value).getDisplay().getUnit(), equalTo("V"));
+        channel.close();
+    }
+
+    @Test
+    public void testWriteAndMonitor() throws Exception
+    {
+        final CAChannel channel = connect("test:text");
+        final BlockingQueue<VType> updates = new LinkedBlockingQueue<>();
+        final AutoCloseable subscription = channel.subscribe(CAProtocol.DBE_VALUE | CAProtocol.DBE_ALARM,
+                                                             (ch, value) -> updates.add(value));
+        VType value = updates.poll(5, TimeUnit.SECONDS);
+        assertThat(((VString) value).getValue(), equalTo("Hello"));
+
+        channel.write("Bye", true).get(5, TimeUnit.SECONDS);
+        value = updates.poll(5, TimeUnit.SECONDS);
+        assertThat(((VString) value).getValue(), equalTo("Bye"));
+        assertThat(((VString) text.getValue()).getValue(), equalTo("Bye"));
+
+        subscription.close();
+        channel.close();
+    }
+
+    @Test
+    public void testEnum() throws Exception
+    {
+        final CAChannel channel = connect("test:choice");
+        channel.write(1, true).get(5, TimeUnit.SECONDS);
+        final VType value = channel.read().get(5, TimeUnit.SECONDS);
+        assertThat(value, instanceOf(VEnum.class));
+        assertThat(((VEnum) value).getValue(), equalTo("On"));
+        assertThat(((VEnum) choice.getValue()).getIndex(), equalTo(1));
+        channel.close();
+    }
+
+    @Test
+    public void testArray() throws Exception
+    {
+        final CAChannel channel = connect("test:array");
+        assertThat(channel.getElementCount(), equalTo(3));
+        channel.write(new double[] { 4, 5, 6 }, true).get(5, TimeUnit.SECONDS);
+        final VType value = channel.read().get(5, TimeUnit.SECONDS);
+        assertThat(((VDoubleArray) value).getData(), equalTo(ArrayDouble.of(4, 5, 6)));
+        assertThat(((VDoubleArray) array.getValue()).getData(), equalTo(ArrayDouble.of(4, 5, 6)));
+        channel.close();
+    }
+
+    @Test
+    public void testMany() throws Exception
+    {
+        final int N = 1000;
+        final CountDownLatch connected = new CountDownLatch(N);
+        final CountDownLatch updates = new CountDownLatch(N);
+        final List<CAChannel> channels = new ArrayList<>();
+        for (int i=0; i<N; ++i)
+        {
+            final CAChannel channel = client.getChannel("test:many" + i, (ch, state) ->
+            {
+                if (state == ClientChannelState.CONNECTED)
+                    connected.countDown();
+            });
+            channel.subscribe(CAProtocol.DBE_VALUE, (ch, value) -> updates.countDown());
+            channels.add(channel);
+        }
+        assertTrue(connected.await(10, TimeUnit.SECONDS), "All channels connected");
+        assertTrue(updates.await(10, TimeUnit.SECONDS), "All channels received a value");
+        for (CAChannel channel : channels)
+            channel.close();
+        // Unchanged value on server
+        assertThat(((VDouble) number.getValue()).getValue(), equalTo(3.14));
+    }
+}
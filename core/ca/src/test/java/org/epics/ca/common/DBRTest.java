@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.epics.ca.common;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+
+import org.epics.util.array.ArrayDouble;
+import org.epics.util.stats.Range;
+import org.epics.util.text.NumberFormats;
+import org.epics.vtype.Alarm;
+import org.epics.vtype.AlarmSeverity;
+import org.epics.vtype.AlarmStatus;
+import org.epics.vtype.Display;
+import org.epics.vtype.EnumDisplay;
+import org.epics.vtype.Time;
+import org.epics.vtype.VDouble;
+import org.epics.vtype.VDoubleArray;
+import org.epics.vtype.VEnum;
+import org.epics.vtype.VInt;
+import org.epics.vtype.VString;
+import org.epics.vtype.VType;
+import org.junit.jupiter.api.Test;
+
+/** Encode and decode DBR data */
+@SuppressWarnings("nls")
+public class DBRTest
+{
+    private static final Instant STAMP = Instant.ofEpochSecond(DBRType.EPICS_EPOCH + 1000000, 42);
+
+    private static final Display DISPLAY = Display.of(Range.of(0, 10), Range.of(1, 9), Range.of(2, 8), Range.of(0, 10),
+                                                      "mm", NumberFormats.precisionFormat(3));
+
+    /** Encode, then decode
+     *  @param type DBR type
+     *  @param value Value to encode
+     *  @param metadata Meta data for decoding
+     *  @return Decoded value
+     */
+    private VType roundTrip(final int type, final VType value, final Object metadata) throws Exception
+    {
+        final int count = DBREncoder.getElementCount(value);
+        final ByteBuffer buffer = ByteBuffer.allocate(DBRType.getPayloadSize(type, count));
+        DBREncoder.encode(buffer, type, count, value);
+        assertThat(buffer.position(), equalTo(DBRType.getPayloadSize(type, count)));
+        return DBRDecoder.decode(buffer, 0, type, count, count != 1, metadata);
+    }
+
+    @Test
+    public void testSizes()
+    {
+        assertThat(DBRType.getPayloadSize(DBRType.TIME + DBRType.DOUBLE, 1), equalTo(24));
+        assertThat(DBRType.getPayloadSize(DBRType.TIME + DBRType.DOUBLE, 10), equalTo(96));
+        assertThat(DBRType.getPayloadSize(DBRType.CTRL + DBRType.DOUBLE, 1), equalTo(88));
+        assertThat(DBRType.getPayloadSize(DBRType.CTRL + DBRType.ENUM, 1), equalTo(424));
+        assertThat(DBRType.toString(DBRType.TIME + DBRType.LONG), equalTo("TIME_LONG"));
+    }
+
+    @Test
+    public void testTimeDouble() throws Exception
+    {
+        final VDouble value = VDouble.of(3.14, Alarm.of(AlarmSeverity.MINOR, AlarmStatus.NONE, "HIGH_ALARM"), Time.of(STAMP), DISPLAY);
+        final VType decoded = roundTrip(DBRType.TIME + DBRType.DOUBLE, value, DISPLAY);
+        assertThat(decoded, instanceOf(VDouble.class));
+        final VDouble number = (VDouble) decoded;
+        assertThat(number.getValue(), equalTo(3.14));
+        assertThat(number.getAlarm().getSeverity(), equalTo(AlarmSeverity.MINOR));
+        assertThat(number.getAlarm().getName(), equalTo("HIGH_ALARM"));
+        assertThat(number.getTime().getTimestamp(), equalTo(STAMP));
+    }
+
+    @Test
+    public void testCtrlDouble() throws Exception
+    {
+        final VDouble value = VDouble.of(3.14, Alarm.none(), Time.of(STAMP), DISPLAY);
+        final int count = 1;
+        final int type = DBRType.CTRL + DBRType.DOUBLE;
+        final ByteBuffer buffer = ByteBuffer.allocate(DBRType.getPayloadSize(type, count));
+        DBREncoder.encode(buffer, type, count, value);
+        final Display display = (Display) DBRDecoder.decodeMetadata(buffer, 0, type);
+        assertThat(display.getUnit(), equalTo("mm"));
+        assertThat(display.getFormat().getMaximumFractionDigits(), equalTo(3));
+        assertThat(display.getDisplayRange(), equalTo(Range.of(0, 10)));
+        assertThat(display.getAlarmRange(), equalTo(Range.of(1, 9)));
+        assertThat(display.getWarningRange(), equalTo(Range.of(2, 8)));
+        assertThat(display.getControlRange(), equalTo(Range.of(0, 10)));
+    }
+
+    @Test
+    public void testLong() throws Exception
+    {
+        final VType decoded = roundTrip(DBRType.TIME + DBRType.LONG, VInt.of(-42, Alarm.none(), Time.of(STAMP), DISPLAY), DISPLAY);
+        assertThat(decoded, instanceOf(VInt.class));
+        assertThat(((VInt) decoded).getValue(), equalTo(-42));
+    }
+
+    @Test
+    public void testString() throws Exception
+    {
+        final VType decoded = roundTrip(DBRType.TIME + DBRType.STRING, VString.of("Hello", Alarm.none(), Time.of(STAMP)), null);
+        assertThat(decoded, instanceOf(VString.class));
+        assertThat(((VString) decoded).getValue(), equalTo("Hello"));
+    }
+
+    @Test
+    public void testEnum() throws Exception
+    {
+        final VEnum value = VEnum.of(1, EnumDisplay.of("Off", "On"), Alarm.none(), Time.of(STAMP));
+        final int type = DBRType.CTRL + DBRType.ENUM;
+        final ByteBuffer buffer = ByteBuffer.allocate(DBRType.getPayloadSize(type, 1));
+        DBREncoder.encode(buffer, type, 1, value);
+        final Object labels = DBRDecoder.decodeMetadata(buffer, 0, type);
+        assertThat(((EnumDisplay) labels).getChoices(), equalTo(List.of("Off", "On")));
+
+        final VType decoded = roundTrip(DBRType.TIME + DBRType.ENUM, value, labels);
+        assertThat(((VEnum) decoded).getIndex(), equalTo(1));
+    }
+
+    @Test
+    public void testArray() throws Exception
+    {
+        final VDoubleArray value = VDoubleArray.of(ArrayDouble.of(1, 2, 3, 4, 5), Alarm.none(), Time.of(STAMP), DISPLAY);
+        final VType decoded = roundTrip(DBRType.TIME + DBRType.DOUBLE, value, DISPLAY);
+        assertThat(decoded, instanceOf(VDoubleArray.class));
+        assertThat(((VDoubleArray) decoded).getData(), equalTo(ArrayDouble.of(1, 2, 3, 4, 5)));
+    }
+
+    @Test
+    public void testWriteData() throws Exception
+    {
+        DBREncoder.WriteData data = DBREncoder.forWrite(3.14, DBRType.DOUBLE, 1);
+        assertThat(data.type, equalTo(DBRType.DOUBLE));
+        ByteBuffer buffer = ByteBuffer.allocate(data.getPayloadSize());
+        data.encode(buffer);
+        assertThat(buffer.getDouble(0), equalTo(3.14));
+
+        data = DBREncoder.forWrite(42L, DBRType.LONG, 1);
+        assertThat(data.type, equalTo(DBRType.LONG));
+
+        data = DBREncoder.forWrite(Long.MAX_VALUE, DBRType.DOUBLE, 1);
+        assertThat(data.type, equalTo(DBRType.DOUBLE));
+
+        // Long string
+        data = DBREncoder.forWrite("Long text", DBRType.CHAR, 100);
+        assertThat(data.type, equalTo(DBRType.CHAR));
+        assertThat(data.count, equalTo(10));
+
+        data = DBREncoder.forWrite(new String[] { "a", "b" }, DBRType.STRING, 2);
+        assertThat(data.getPayloadSize(), equalTo(80));
+    }
+}
@@ -18,6 +18,7 @@ import java.util.logging.Logger;
 
 import org.csstudio.apputil.formula.node.AddNode;
 import org.csstudio.apputil.formula.node.AndNode;
+import org.csstudio.apputil.formula.node.CompiledNode;
 import org.csstudio.apputil.formula.node.ConstantNode;
 import org.csstudio.apputil.formula.node.DivNode;
 import org.csstudio.apputil.formula.node.EqualNode;
@@ -75,6 +76,7 @@ import org.epics.vtype.VType;
  *  <p>The formula string is parsed into a tree, so that subsequent
  *  evaluations, possibly with modified values for input variables,
  *  are reasonably fast.
+ *  Numeric sub-trees are further compiled into a {@link CompiledNode}.
  *
  *  <p>Functions can be provided via the {@link FormulaFunction} SPI.
  *
@@ -92,6 +94,9 @@ public class Formula implements Node
 
     final private Node tree;
 
+    /** Tree with numeric sub-trees compiled, used to evaluate the formula */
+    final private Node compiled;
+
     private static final VariableNode constants[] = new VariableNode[]
     {
         new VariableNode("E", Math.E),
@@ -145,6 +150,7 @@ public class Formula implements Node
         }
         this.determine_variables = false;
         tree = parse();
+        compiled = CompiledNode.compile(tree);
     }
 
     /** Create formula from string.
@@ -159,6 +165,7 @@ public class Formula implements Node
         this.variables = new ArrayList<>();
         this.determine_variables = determine_variables;
         tree = parse();
+        compiled = CompiledNode.compile(tree);
     }
 
     /** @return Original formula that got parsed. */
@@ -177,6 +184,12 @@ public class Formula implements Node
     /** {@inheritDoc} */
     @Override
     public VType eval()
+    {
+        return compiled.eval();
+    }
+
+    /** @return Value computed by the parsed tree, without compiled numeric sub-trees */
+    VType evalTree()
     {
         return tree.eval();
     }
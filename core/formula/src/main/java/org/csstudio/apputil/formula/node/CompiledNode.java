@@ -0,0 +1,348 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.csstudio.apputil.formula.node;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.csstudio.apputil.formula.Node;
+import org.csstudio.apputil.formula.VariableNode;
+import org.epics.vtype.Alarm;
+import org.epics.vtype.Display;
+import org.epics.vtype.Time;
+import org.epics.vtype.VDouble;
+import org.epics.vtype.VNumber;
+import org.epics.vtype.VString;
+import org.epics.vtype.VType;
+
+/** Numeric sub-tree of a formula, compiled into a flat stack program
+ *
+ *  <p>The tree interpreter creates a {@link VType} for each node,
+ *  merging alarm and time at every step.
+ *  For a sub-tree of numeric operations, constants and variables,
+ *  the compiled program evaluates the operations on a
+ *  <code>double</code> stack and determines
+ *  alarm, time and display once from the inputs,
+ *  with the same result as the tree.
+ *
+ *  <p>When an input is not a scalar number, for example a string or array,
+ *  the original tree is evaluated.
+ */
+public class CompiledNode implements Node
+{
+    // Op codes
+    private static final byte LEAF = 0,
+                              ADD = 1,
+                              SUB = 2,
+                              MUL = 3,
+                              DIV = 4,
+                              LT = 5,
+                              LE = 6,
+                              GT = 7,
+                              GE = 8,
+                              EQ = 9,
+                              NE = 10,
+                              AND = 11,
+                              OR = 12,
+                              NOT = 13,
+                              UNARY = 14,
+                              BINARY = 15;
+
+    /** Original tree */
+    private final Node original;
+
+    /** Constants and variables in the order they're used by the program */
+    private final Node[] leaves;
+
+    /** Op codes in postfix order */
+    private final byte[] code;
+
+    /** Nodes for UNARY resp. BINARY op codes, otherwise <code>null</code> */
+    private final Node[] ops;
+
+    /** Required stack size */
+    private final int depth;
+
+    /** Is there a binary operation that merges alarms? */
+    private final boolean merge_alarms;
+
+    /** Compile numeric sub-trees
+     *
+     *  <p>Returns the node itself if nothing can be compiled.
+     *  Otherwise returns a compiled node
+     *  or a copy of the node with compiled sub-nodes.
+     *
+     *  @param node Node to compile
+     *  @return Node for evaluating the same formula
+     */
+    public static Node compile(final Node node)
+    {
+        if (isNumeric(node))
+        {   // Plain constant or variable is already as fast as possible
+            if (node instanceof AbstractUnaryNode  ||  node instanceof AbstractBinaryNode)
+                return new CompiledNode(node);
+            return node;
+        }
+        if (node instanceof IfNode)
+        {
+            final IfNode n = (IfNode) node;
+            return new IfNode(compile(n.cond), compile(n.yes), compile(n.no));
+        }
+        if (node instanceof MinNode)
+            return new MinNode(compile(((MinNode) node).args));
+        if (node instanceof MaxNode)
+            return new MaxNode(compile(((MaxNode) node).args));
+        if (node instanceof SPIFuncNode)
+        {
+            final SPIFuncNode n = (SPIFuncNode) node;
+            return new SPIFuncNode(n.function, compile(n.args));
+        }
+        return node;
+    }
+
+    private static Node[] compile(final Node[] nodes)
+    {
+        final Node[] result = new Node[nodes.length];
+        for (int i=0; i<nodes.length; ++i)
+            result[i] = compile(nodes[i]);
+        return result;
+    }
+
+    /** @param node Node to check
+     *  @return <code>true</code> if node only uses numeric operations, constants and variables
+     */
+    private static boolean isNumeric(final Node node)
+    {
+        if (node instanceof ConstantNode)
+            return ! (((ConstantNode) node).value instanceof VString);
+        if (node instanceof VariableNode)
+            return true;
+        // AddNode also handles strings, which can only come from
+        // string constants (checked above) or variables (checked at runtime)
+        if (node instanceof AbstractUnaryNode)
+            return isNumeric(((AbstractUnaryNode) node).n);
+        if (node instanceof AbstractBinaryNode)
+        {
+            final AbstractBinaryNode binary = (AbstractBinaryNode) node;
+            return isNumeric(binary.left)  &&  isNumeric(binary.right);
+        }
+        return false;
+    }
+
+    private CompiledNode(final Node node)
+    {
+        original = node;
+        final List<Node> leaves = new ArrayList<>();
+        final List<Byte> code = new ArrayList<>();
+        final List<Node> ops = new ArrayList<>();
+        depth = emit(node, leaves, code, ops);
+        this.leaves = leaves.toArray(new Node[leaves.size()]);
+        this.code = new byte[code.size()];
+        for (int i=0; i<this.code.length; ++i)
+            this.code[i] = code.get(i);
+        this.ops = ops.toArray(new Node[ops.size()]);
+        merge_alarms = containsBinary(node);
+    }
+
+    private static boolean containsBinary(final Node node)
+    {
+        if (node instanceof AbstractBinaryNode)
+            return true;
+        if (node instanceof AbstractUnaryNode)
+            return containsBinary(((AbstractUnaryNode) node).n);
+        return false;
+    }
+
+    /** Add code for node
+     *  @param node Node to compile
+     *  @param leaves Leaves
+     *  @param code Code
+     *  @param ops Nodes for code
+     *  @return Stack depth needed to evaluate the node
+     */
+    private static int emit(final Node node, final List<Node> leaves, final List<Byte> code, final List<Node> ops)
+    {
+        if (node instanceof AbstractUnaryNode)
+        {
+            final int depth = emit(((AbstractUnaryNode) node).n, leaves, code, ops);
+            if (node instanceof NotNode)
+                add(code, ops, NOT, null);
+            else
+                add(code, ops, UNARY, node);
+            return depth;
+        }
+        if (node instanceof AbstractBinaryNode)
+        {
+            final AbstractBinaryNode binary = (AbstractBinaryNode) node;
+            final int left = emit(binary.left, leaves, code, ops);
+            final int right = emit(binary.right, leaves, code, ops);
+            add(code, ops, opcode(binary), binary);
+            // Right side is computed while left result is on the stack
+            return Math.max(left, right + 1);
+        }
+        // Constant or variable
+        leaves.add(node);
+        add(code, ops, LEAF, null);
+        return 1;
+    }
+
+    private static void add(final List<Byte> code, final List<Node> ops, final byte op, final Node node)
+    {
+        code.add(op);
+        ops.add(op == UNARY  ||  op == BINARY ? node : null);
+    }
+
+    private static byte opcode(final AbstractBinaryNode node)
+    {
+        if (node instanceof AddNode)
+            return ADD;
+        if (node instanceof SubNode)
+            return SUB;
+        if (node instanceof MulNode)
+            return MUL;
+        if (node instanceof DivNode)
+            return DIV;
+        if (node instanceof LessThanNode)
+            return LT;
+        if (node instanceof LessEqualNode)
+            return LE;
+        if (node instanceof GreaterThanNode)
+            return GT;
+        if (node instanceof GreaterEqualNode)
+            return GE;
+        if (node instanceof EqualNode)
+            return EQ;
+        if (node instanceof NotEqualNode)
+            return NE;
+        if (node instanceof AndNode)
+            return AND;
+        if (node instanceof OrNode)
+            return OR;
+        return BINARY;
+    }
+
+    @Override
+    public VType eval()
+    {
+        // Each binary node of the tree uses the highest alarm, preferring the left one,
+        // and the latest time, preferring the right one.
+        // Unary nodes pass alarm and time on.
+        // Display is always that of the left value.
+        // Determine all of these once while reading the leaves.
+        VType first = null;
+        Alarm alarm = Alarm.none();
+        Time time = null;
+
+        final double[] stack = new double[depth];
+        int sp = 0, leaf = 0;
+        for (int pc=0; pc<code.length; ++pc)
+        {
+            switch (code[pc])
+            {
+            case LEAF:
+                final VType value = leaves[leaf++].eval();
+                if (! (value instanceof VNumber))
+                    return original.eval();
+                final Alarm a = Alarm.alarmOf(value);
+                final Time t = Time.timeOf(value);
+                if (first == null)
+                {
+                    first = value;
+                    time = t;
+                    if (! merge_alarms)
+                        alarm = a;
+                }
+                else if (! time.getTimestamp().isAfter(t.getTimestamp()))
+                    time = t;
+                if (merge_alarms  &&  a.getSeverity().compareTo(alarm.getSeverity()) > 0)
+                    alarm = a;
+                stack[sp++] = ((VNumber) value).getValue().doubleValue();
+                break;
+            case ADD:
+                --sp;
+                stack[sp-1] = stack[sp-1] + stack[sp];
+                break;
+            case SUB:
+                --sp;
+                stack[sp-1] = stack[sp-1] - stack[sp];
+                break;
+            case MUL:
+                --sp;
+                stack[sp-1] = stack[sp-1] * stack[sp];
+                break;
+            case DIV:
+                --sp;
+                stack[sp-1] = stack[sp-1] / stack[sp];
+                break;
+            case LT:
+                --sp;
+                stack[sp-1] = stack[sp-1] < stack[sp] ? 1.0 : 0.0;
+                break;
+            case LE:
+                --sp;
+                stack[sp-1] = stack[sp-1] <= stack[sp] ? 1.0 : 0.0;
+                break;
+            case GT:
+                --sp;
+                stack[sp-1] = stack[sp-1] > stack[sp] ? 1.0 : 0.0;
+                break;
+            case GE:
+                --sp;
+                stack[sp-1] = stack[sp-1] >= stack[sp] ? 1.0 : 0.0;
+                break;
+            case EQ:
+                --sp;
+                stack[sp-1] = stack[sp-1] == stack[sp] ? 1.0 : 0.0;
+                break;
+            case NE:
+                --sp;
+                stack[sp-1] = stack[sp-1] != stack[sp] ? 1.0 : 0.0;
+                break;
+            case AND:
+                --sp;
+                stack[sp-1] = stack[sp-1] != 0.0  &&  stack[sp] != 0.0  ?  1.0 : 0.0;
+                break;
+            case OR:
+                --sp;
+                stack[sp-1] = stack[sp-1] != 0.0  ||  stack[sp] != 0.0  ?  1.0 : 0.0;
+                break;
+            case NOT:
+                stack[sp-1] = stack[sp-1] != 0.0  ? 0.0 : 1.0;
+                break;
+            case UNARY:
+                stack[sp-1] = ((AbstractUnaryNode) ops[pc]).calc(stack[sp-1]);
+                break;
+            default:
+                --sp;
+                stack[sp-1] = ((AbstractBinaryNode) ops[pc]).calc(stack[sp-1], stack[sp]);
+            }
+        }
+
+        return VDouble.of(stack[0], alarm, time, Display.displayOf(first));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasSubnode(final Node node)
+    {
+        return original == node  ||  original.hasSubnode(node);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasSubnode(final String name)
+    {
+        return original.hasSubnode(name);
+    }
+
+    @Override
+    public String toString()
+    {
+        return original.toString();
+    }
+}
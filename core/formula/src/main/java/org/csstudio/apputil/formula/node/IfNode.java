@@ -16,9 +16,9 @@ import org.phoebus.core.vtypes.VTypeHelper;
  */
 public class IfNode implements Node
 {
-    private final Node cond;
-    private final Node yes;
-    private final Node no;
+    final Node cond;
+    final Node yes;
+    final Node no;
 
     /**
      * Constructor
@@ -20,7 +20,7 @@ import org.phoebus.core.vtypes.VTypeHelper;
  */
 public class MinNode implements Node
 {
-    private final Node args[];
+    final Node args[];
 
     /**
      * Constructor
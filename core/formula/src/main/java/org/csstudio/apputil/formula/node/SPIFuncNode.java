@@ -24,8 +24,8 @@ import org.epics.vtype.VType;
  */
 public class SPIFuncNode implements Node
 {
-    final private FormulaFunction function;
-    final private Node args[];
+    final FormulaFunction function;
+    final Node args[];
 
     /** Construct node for SPI function.
      *
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.csstudio.apputil.formula;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.text.NumberFormat;
+import java.time.Instant;
+import java.util.Arrays;
+
+import org.csstudio.apputil.formula.node.CompiledNode;
+import org.epics.util.array.ArrayDouble;
+import org.epics.util.stats.Range;
+import org.epics.vtype.Alarm;
+import org.epics.vtype.AlarmSeverity;
+import org.epics.vtype.AlarmStatus;
+import org.epics.vtype.Display;
+import org.epics.vtype.Time;
+import org.epics.vtype.VDouble;
+import org.epics.vtype.VDoubleArray;
+import org.epics.vtype.VInt;
+import org.epics.vtype.VString;
+import org.epics.vtype.VType;
+import org.junit.jupiter.api.Test;
+import org.phoebus.core.vtypes.VTypeHelper;
+
+/** JUnit test of the {@link CompiledNode}
+ *
+ *  <p>Compares the compiled formula with the tree interpreter,
+ *  and prints the evaluation time of both.
+ */
+@SuppressWarnings("nls")
+public class FormulaCompileTest
+{
+    private static final String[] formulas =
+    {
+        "a + b * c",
+        "a - b / c + 2",
+        "(a + b) * (c - a) / 2 ^ b",
+        "-a",
+        "!a",
+        "a > b & b <= c | a == c",
+        "a != b ? a*2 : b/2",
+        "max(a, b+c) - min(a*b, c)",
+        "sqrt(a*a + b*b)",
+        "1 + 2 * 3",
+        "rnd(0) + a",
+        "a + \"x\"",
+    };
+
+    private static final Instant now = Instant.now();
+
+    private static VType value(final double value, final AlarmSeverity severity, final long secs)
+    {
+        final Alarm alarm = Alarm.of(severity, AlarmStatus.DEVICE, severity.name());
+        final Display display = Display.of(Range.of(0, 10), Range.undefined(), Range.undefined(), Range.undefined(),
+                                           "V" + value, NumberFormat.getNumberInstance());
+        return VDouble.of(value, alarm, Time.of(now.plusSeconds(secs)), display);
+    }
+
+    private static void assertSameResult(final Formula formula)
+    {
+        final VType tree = formula.evalTree(), compiled = formula.eval();
+        final String info = formula.getFormula() + " with " + Arrays.toString(formula.getVariables());
+        final double expected = VTypeHelper.toDouble(tree);
+        if (formula.getFormula().contains("rnd"))
+            assertThat(info, Double.isNaN(VTypeHelper.toDouble(compiled)), equalTo(Double.isNaN(expected)));
+        else
+            assertThat(info, VTypeHelper.toString(compiled), equalTo(VTypeHelper.toString(tree)));
+        assertThat(info, Alarm.alarmOf(compiled), equalTo(Alarm.alarmOf(tree)));
+        // Functions use the current time
+        if (! formula.getFormula().contains("max")  &&  ! formula.getFormula().contains("sqrt"))
+            assertThat(info, Time.timeOf(compiled), equalTo(Time.timeOf(tree)));
+        assertThat(info, Display.displayOf(compiled), equalTo(Display.displayOf(tree)));
+    }
+
+    @Test
+    public void testSameResult() throws Exception
+    {
+        final VType[][] inputs =
+        {
+            { value(1, AlarmSeverity.NONE, 0), value(2, AlarmSeverity.NONE, 0), value(3, AlarmSeverity.NONE, 0) },
+            { value(1, AlarmSeverity.MINOR, 3), value(2, AlarmSeverity.MAJOR, 1), value(0, AlarmSeverity.MAJOR, 3) },
+            { value(-1, AlarmSeverity.INVALID, -5), value(0, AlarmSeverity.MINOR, 2), value(Double.NaN, AlarmSeverity.NONE, 2) },
+            { value(4, AlarmSeverity.MAJOR, 1), value(4, AlarmSeverity.MAJOR, 1), value(4, AlarmSeverity.MINOR, 1) },
+            // Other types use the tree
+            { VInt.of(7, Alarm.none(), Time.now(), Display.none()), value(2, AlarmSeverity.NONE, 0), value(3, AlarmSeverity.NONE, 0) },
+            { VString.of("Text", Alarm.none(), Time.now()), value(2, AlarmSeverity.NONE, 0), value(3, AlarmSeverity.NONE, 0) },
+            { VDoubleArray.of(ArrayDouble.of(1, 2, 3), Alarm.none(), Time.now(), Display.none()), value(2, AlarmSeverity.NONE, 0), value(3, AlarmSeverity.NONE, 0) },
+        };
+
+        for (String expression : formulas)
+        {
+            final Formula formula = new Formula(expression, true);
+            for (VType[] values : inputs)
+            {
+                for (VariableNode var : formula.getVariables())
+                    var.setValue(values[var.getName().charAt(0) - 'a']);
+                assertSameResult(formula);
+            }
+        }
+    }
+
+    @Test
+    public void testRepeatedEvaluation() throws Exception
+    {
+        final Formula formula = new Formula("a > 5 & b < 3 ? (a - b) * 0.5 + c / 2 : (a + b + c) / 3", true);
+        final VariableNode[] vars = formula.getVariables();
+        final VType[] values = new VType[10];
+        for (int i=0; i<values.length; ++i)
+            values[i] = value(i, AlarmSeverity.NONE, i);
+        final int runs = 100000;
+
+        for (VariableNode var : vars)
+            var.setValue(values[0]);
+        long start = System.nanoTime();
+        double sum = 0;
+        for (int i=0; i<runs; ++i)
+        {
+            vars[i % vars.length].setValue(values[i % values.length]);
+            sum += VTypeHelper.toDouble(formula.evalTree());
+        }
+        final long tree_nanos = System.nanoTime() - start;
+
+        for (VariableNode var : vars)
+            var.setValue(values[0]);
+        start = System.nanoTime();
+        double compiled_sum = 0;
+        for (int i=0; i<runs; ++i)
+        {
+            vars[i % vars.length].setValue(values[i % values.length]);
+            compiled_sum += VTypeHelper.toDouble(formula.eval());
+        }
+        final long compiled_nanos = System.nanoTime() - start;
+        assertThat(compiled_sum, equalTo(sum));
+
+        System.out.format("Tree    : %6.0f ns per evaluation\n", (double) tree_nanos / runs);
+        System.out.format("Compiled: %6.0f ns per evaluation\n", (double) compiled_nanos / runs);
+    }
+}
@@ -0,0 +1,291 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.framework.autocomplete;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/** Compact, immutable index of PV names
+ *
+ *  <p>Names are kept as UTF-8 in one byte array,
+ *  sorted ignoring ASCII case, with an array of offsets.
+ *  Compared to a list of strings, this needs about half the memory
+ *  and can be saved and loaded as two plain arrays.
+ *
+ *  <p>A lookup returns names that start with the text,
+ *  followed by names that contain the text,
+ *  followed by 'fuzzy' matches where the characters
+ *  of the text appear in the same order, but not next to each other.
+ *  All matches ignore ASCII case.
+ *  Prefix matches use a binary search,
+ *  the other matches scan the names until the limit is reached.
+ */
+@SuppressWarnings("nls")
+public class PVNameIndex
+{
+    /** Empty index */
+    public static final PVNameIndex EMPTY = new PVNameIndex(new byte[0], new int[] { 0 });
+
+    /** Minimum text length for fuzzy matches, since shorter texts match almost everything */
+    public static final int MIN_FUZZY_LENGTH = 3;
+
+    private static final int MAGIC = 0x50564E49;
+
+    /** Check for interruption after this many names */
+    private static final int CHECK_INTERVAL = 8192;
+
+    /** Names, sorted */
+    private final byte[] data;
+
+    /** Name i is in data[offsets[i]] .. data[offsets[i+1]-1] */
+    private final int[] offsets;
+
+    private PVNameIndex(final byte[] data, final int[] offsets)
+    {
+        this.data = data;
+        this.offsets = offsets;
+    }
+
+    /** @param names Names to index, may contain duplicates
+     *  @return {@link PVNameIndex}
+     */
+    public static PVNameIndex create(final Collection<String> names)
+    {
+        final byte[][] encoded = new byte[names.size()][];
+        int count = 0;
+        for (String name : names)
+            if (! name.isEmpty())
+                encoded[count++] = name.getBytes(StandardCharsets.UTF_8);
+        Arrays.sort(encoded, 0, count, PVNameIndex::compare);
+
+        // Pack unique names
+        int size = 0;
+        for (int i=0; i<count; ++i)
+            size += encoded[i].length;
+        final byte[] data = new byte[size];
+        int[] offsets = new int[count + 1];
+        int unique = 0, pos = 0;
+        for (int i=0; i<count; ++i)
+        {
+            if (unique > 0  &&  Arrays.equals(encoded[i], encoded[i-1]))
+                continue;
+            offsets[unique++] = pos;
+            System.arraycopy(encoded[i], 0, data, pos, encoded[i].length);
+            pos += encoded[i].length;
+        }
+        offsets[unique] = pos;
+        if (unique < count)
+            offsets = Arrays.copyOf(offsets, unique + 1);
+        return new PVNameIndex(pos < size ? Arrays.copyOf(data, pos) : data, offsets);
+    }
+
+    /** Unsigned value of each byte, ASCII upper case mapped to lower case */
+    private static final int[] LOWER = new int[256];
+    static
+    {
+        for (int i=0; i<LOWER.length; ++i)
+            LOWER[i] = (i >= 'A'  &&  i <= 'Z') ? i + ('a' - 'A') : i;
+    }
+
+    private static int lower(final byte b)
+    {
+        return LOWER[b & 0xFF];
+    }
+
+    /** Compare ignoring ASCII case, then exact */
+    private static int compare(final byte[] a, final byte[] b)
+    {
+        final int len = Math.min(a.length, b.length);
+        for (int i=0; i<len; ++i)
+        {
+            final int diff = lower(a[i]) - lower(b[i]);
+            if (diff != 0)
+                return diff;
+        }
+        if (a.length != b.length)
+            return a.length - b.length;
+        return Arrays.compareUnsigned(a, b);
+    }
+
+    /** @return Number of names in index */
+    public int size()
+    {
+        return offsets.length - 1;
+    }
+
+    /** @param index Index of name
+     *  @return Name
+     */
+    private String getName(final int index)
+    {
+        return new String(data, offsets[index], offsets[index+1] - offsets[index], StandardCharsets.UTF_8);
+    }
+
+    /** @param consumer Will be called with each name in the index */
+    public void forEach(final Consumer<String> consumer)
+    {
+        for (int i=0; i<size(); ++i)
+            consumer.accept(getName(i));
+    }
+
+    /** @param index Index of name
+     *  @param text Lower case text
+     *  @return Position of text in name, or -1
+     */
+    private int indexOf(final int index, final int[] text)
+    {
+        final int start = offsets[index], end = offsets[index+1] - text.length;
+        final int first = text[0];
+        for (int pos = start; pos <= end; ++pos)
+        {
+            if (lower(data[pos]) != first)
+                continue;
+            int i = 1;
+            while (i < text.length  &&  lower(data[pos+i]) == text[i])
+                ++i;
+            if (i == text.length)
+                return pos - start;
+        }
+        return -1;
+    }
+
+    /** @param index Index of name
+     *  @param text Lower case text
+     *  @return <code>true</code> if name contains all characters of text in same order
+     */
+    private boolean containsInOrder(final int index, final int[] text)
+    {
+        final int end = offsets[index+1];
+        int i = 0;
+        for (int pos = offsets[index]; pos < end  &&  end - pos >= text.length - i; ++pos)
+            if (lower(data[pos]) == text[i]  &&  ++i == text.length)
+                return true;
+        return false;
+    }
+
+    /** @param text Lower case text
+     *  @return Index of first name that is not below the text
+     */
+    private int findFirst(final int[] text)
+    {
+        int low = 0, high = size();
+        while (low < high)
+        {
+            final int mid = (low + high) >>> 1;
+            final int start = offsets[mid], len = offsets[mid+1] - start;
+            int cmp = 0;
+            for (int i=0; cmp == 0  &&  i < Math.min(len, text.length); ++i)
+                cmp = lower(data[start + i]) - text[i];
+            if (cmp == 0)
+                cmp = len - text.length;
+            if (cmp < 0)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    /** Look up names
+     *
+     *  <p>Returns early, with the names found so far,
+     *  when the calling thread is interrupted.
+     *
+     *  @param text Text to find, case is ignored
+     *  @param limit Maximum number of names to return
+     *  @return Names that start with the text, then names that contain it, then fuzzy matches
+     */
+    public List<String> lookup(final String text, final int limit)
+    {
+        final List<String> result = new ArrayList<>();
+        if (text.isEmpty()  ||  limit <= 0)
+            return result;
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        final int[] find = new int[bytes.length];
+        for (int i=0; i<find.length; ++i)
+            find[i] = lower(bytes[i]);
+        final Thread thread = Thread.currentThread();
+
+        // Names that start with the text are next to each other in the sorted names
+        final int prefix_start = findFirst(find);
+        int prefix_end = prefix_start;
+        while (prefix_end < size()  &&  indexOf(prefix_end, find) == 0)
+        {
+            if (result.size() < limit)
+                result.add(getName(prefix_end));
+            ++prefix_end;
+        }
+
+        // Names that contain the text, then fuzzy matches.
+        // A name can only contain the text if it contains its characters in order,
+        // so one scan with that cheaper check finds both.
+        // Skip the names that start with the text, already listed
+        final boolean fuzzy = find.length >= MIN_FUZZY_LENGTH;
+        final List<String> fuzzy_matches = new ArrayList<>();
+        final int n = size();
+        for (int i=0; i<n  &&  result.size() < limit; ++i)
+        {
+            if (i == prefix_start  &&  prefix_end > prefix_start)
+            {
+                i = prefix_end - 1;
+                continue;
+            }
+            if (i % CHECK_INTERVAL == 0  &&  thread.isInterrupted())
+                break;
+            if (! containsInOrder(i, find))
+                continue;
+            if (indexOf(i, find) > 0)
+                result.add(getName(i));
+            else if (fuzzy  &&  fuzzy_matches.size() < limit)
+                fuzzy_matches.add(getName(i));
+        }
+
+        for (int i=0; i<fuzzy_matches.size()  &&  result.size() < limit; ++i)
+            result.add(fuzzy_matches.get(i));
+
+        return result;
+    }
+
+    /** @param out Stream where index is written, not closed
+     *  @throws IOException on error
+     */
+    public void write(final DataOutputStream out) throws IOException
+    {
+        out.writeInt(MAGIC);
+        out.writeInt(offsets.length);
+        for (int offset : offsets)
+            out.writeInt(offset);
+        out.write(data);
+    }
+
+    /** @param in Stream from which index is read, not closed
+     *  @return {@link PVNameIndex}
+     *  @throws IOException on error
+     */
+    public static PVNameIndex read(final DataInputStream in) throws IOException
+    {
+        if (in.readInt() != MAGIC)
+            throw new IOException("Not a PV name index");
+        final int count = in.readInt();
+        if (count < 1)
+            throw new IOException("Invalid PV name index size " + count);
+        final int[] offsets = new int[count];
+        for (int i=0; i<count; ++i)
+            offsets[i] = in.readInt();
+        final byte[] data = new byte[offsets[count-1]];
+        in.readFully(data);
+        return new PVNameIndex(data, offsets);
+    }
+}
@@ -0,0 +1,344 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.framework.autocomplete;
+
+import static org.phoebus.framework.autocomplete.ProposalService.logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.phoebus.framework.jobs.NamedThreadFactory;
+import org.phoebus.framework.preferences.PreferencesReader;
+import org.phoebus.framework.spi.PVNameSource;
+import org.phoebus.framework.spi.PVProposalProvider;
+import org.phoebus.framework.workbench.Locations;
+
+/** Provider of {@link Proposal}s from a local {@link PVNameIndex}
+ *
+ *  <p>The index is loaded from a file in the user location,
+ *  so proposals are available right after startup,
+ *  and then periodically rebuilt from the enabled {@link PVNameSource}s
+ *  and the PV names that the user entered.
+ *  Newly entered names are also saved every minute,
+ *  even when the index is not rebuilt.
+ *
+ *  <p>The names of each source are tracked separately.
+ *  When a source fails, its previous names are kept,
+ *  but only for a limited time.
+ */
+@SuppressWarnings("nls")
+public class PVNameIndexProvider implements PVProposalProvider
+{
+    /**
+     * Singleton
+     */
+    public static final PVNameIndexProvider INSTANCE = create();
+
+    /** Maximum number of proposals per lookup */
+    private static final int MAX_PROPOSALS = 20;
+
+    /** Maximum number of user entered names to keep */
+    private static final int MAX_ENTERED = 10000;
+
+    /** Seconds between saving newly entered names */
+    private static final long SAVE_SECS = 60;
+
+    /** Marks the index file, followed by the version */
+    private static final int FILE_MAGIC = 0x50564E46, FILE_VERSION = 2;
+
+    /** Names collected from one source
+     *  @param names Names
+     *  @param collected Time when names were collected, milliseconds since epoch
+     */
+    private record SourceNames(PVNameIndex names, long collected) {}
+
+    private final File file;
+    private final Set<String> enabled_sources;
+    private final long keep_millis;
+
+    /** Current index */
+    private volatile PVNameIndex index = PVNameIndex.EMPTY;
+
+    /** Names of each source, used by the synchronized load and update */
+    private final Map<String, SourceNames> source_names = new TreeMap<>();
+
+    /** Names entered by the user, oldest first. SYNC on this */
+    private final Set<String> entered = new LinkedHashSet<>();
+
+    /** Have names been entered since the file was saved? SYNC on entered */
+    private boolean entered_changed = false;
+
+    private static PVNameIndexProvider create()
+    {
+        final PreferencesReader prefs = new PreferencesReader(PVProposalService.class, "/autocomplete_preferences.properties");
+        final Set<String> sources = new HashSet<>();
+        for (String source : prefs.get("pv_name_index_sources").split(","))
+            if (! source.isBlank())
+                sources.add(source.trim().toLowerCase());
+        final long update_secs = prefs.getLong("pv_name_index_update_secs");
+        final PVNameIndexProvider provider = new PVNameIndexProvider(new File(Locations.user(), "pv_names.index"),
+                                                                     sources, prefs.getLong("pv_name_index_keep_secs"));
+        final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("PVNameIndex"));
+        timer.execute(provider::load);
+        if (update_secs > 0)
+            timer.scheduleWithFixedDelay(provider::update, 10, update_secs, TimeUnit.SECONDS);
+        timer.scheduleWithFixedDelay(provider::saveEntered, SAVE_SECS, SAVE_SECS, TimeUnit.SECONDS);
+        return provider;
+    }
+
+    /** @param file Index file
+     *  @param enabled_sources Names of the {@link PVNameSource}s to use, lower case
+     *  @param keep_secs Seconds to keep the names of a source that fails
+     */
+    PVNameIndexProvider(final File file, final Set<String> enabled_sources, final long keep_secs)
+    {
+        this.file = file;
+        this.enabled_sources = enabled_sources;
+        keep_millis = TimeUnit.SECONDS.toMillis(keep_secs);
+    }
+
+    @Override
+    public String getName()
+    {
+        return "PV Names";
+    }
+
+    /** @return Number of names in the index */
+    public int size()
+    {
+        return index.size();
+    }
+
+    /** @param name PV name entered by the user, will be added to the index */
+    public void add(String name)
+    {
+        name = name.trim();
+        // Skip formulas, names with macros or several names
+        if (name.isEmpty()  ||  name.startsWith("=")  ||  name.contains("$")  ||  name.contains(" "))
+            return;
+        final int sep = name.indexOf("://");
+        if (sep >= 0)
+        {
+            final String type = name.substring(0, sep);
+            if (! (type.equals("ca")  ||  type.equals("pva")))
+                return;
+            name = name.substring(sep + 3);
+        }
+        synchronized (entered)
+        {
+            entered.remove(name);
+            entered.add(name);
+            if (entered.size() > MAX_ENTERED)
+                entered.remove(entered.iterator().next());
+            entered_changed = true;
+        }
+    }
+
+    @Override
+    public List<Proposal> lookup(final String text)
+    {
+        // Support "ca://" and "pva://" prefix, but don't handle "loc://", "sim://" etc.
+        String type = "", name = text.trim();
+        final int sep = name.indexOf("://");
+        if (sep >= 0)
+        {
+            type = name.substring(0, sep + 3);
+            if (! (type.equals("ca://")  ||  type.equals("pva://")))
+                return List.of();
+            name = name.substring(sep + 3);
+        }
+        if (name.isEmpty()  ||  name.startsWith("="))
+            return List.of();
+
+        final List<String> matches = index.lookup(name, MAX_PROPOSALS);
+        // Names entered since the index was built
+        if (matches.size() < MAX_PROPOSALS)
+        {
+            final String lower = name.toLowerCase();
+            synchronized (entered)
+            {
+                for (String match : entered)
+                    if (matches.size() < MAX_PROPOSALS  &&
+                        match.toLowerCase().contains(lower)  &&
+                        ! matches.contains(match))
+                        matches.add(match);
+            }
+        }
+
+        final List<Proposal> result = new ArrayList<>(matches.size());
+        for (String match : matches)
+            result.add(new Proposal(type + match));
+        return result;
+    }
+
+    /** Load index from file */
+    synchronized void load()
+    {
+        if (! file.canRead())
+            return;
+        final long start = System.nanoTime();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+        {
+            if (in.readInt() != FILE_MAGIC  ||  in.readInt() != FILE_VERSION)
+                throw new Exception("Unknown file format");
+            final int sources = in.readInt();
+            for (int i=0; i<sources; ++i)
+            {
+                final String source = in.readUTF();
+                final long collected = in.readLong();
+                source_names.put(source, new SourceNames(PVNameIndex.read(in), collected));
+            }
+            final int count = in.readInt();
+            synchronized (entered)
+            {
+                for (int i=0; i<count; ++i)
+                    entered.add(in.readUTF());
+            }
+            final PVNameIndex loaded = build();
+            logger.log(Level.CONFIG, () -> String.format("Loaded %d PV names from %s in %.1f ms",
+                                                         loaded.size(), file, (System.nanoTime() - start) / 1e6));
+        }
+        catch (Exception ex)
+        {
+            logger.log(Level.WARNING, "Cannot load PV name index " + file, ex);
+        }
+    }
+
+    /** Re-build index from enabled sources and entered names, then save to file */
+    private void update()
+    {
+        final List<PVNameSource> sources = new ArrayList<>();
+        for (PVNameSource source : ServiceLoader.load(PVNameSource.class))
+            if (enabled_sources.contains(source.getName().toLowerCase()))
+                sources.add(source);
+        update(sources);
+    }
+
+    /** Re-build index from sources and entered names, then save to file
+     *  @param sources Sources to use
+     */
+    synchronized void update(final List<PVNameSource> sources)
+    {
+        final long start = System.nanoTime();
+        final long now = System.currentTimeMillis();
+        final Set<String> used = new HashSet<>();
+        for (PVNameSource source : sources)
+        {
+            final String name = source.getName();
+            used.add(name);
+            try
+            {
+                final List<String> names = new ArrayList<>();
+                source.collectPVNames(names::add);
+                source_names.put(name, new SourceNames(PVNameIndex.create(names), now));
+                logger.log(Level.FINE, "PV name source '" + name + "' provided " + names.size() + " names");
+            }
+            catch (Throwable ex)
+            {
+                // Keep the previous names for a while, so a source that's briefly offline doesn't remove its names
+                final SourceNames previous = source_names.get(name);
+                if (previous != null  &&  now - previous.collected() > keep_millis)
+                {
+                    source_names.remove(name);
+                    logger.log(Level.WARNING, "PV name source '" + name + "' failed, removing its names", ex);
+                }
+                else
+                    logger.log(Level.WARNING, "PV name source '" + name + "' failed", ex);
+            }
+        }
+        // Forget names of sources that are no longer enabled
+        source_names.keySet().retainAll(used);
+
+        final PVNameIndex updated = build();
+        logger.log(Level.FINE, () -> String.format("Updated index with %d PV names in %.1f ms",
+                                                   updated.size(), (System.nanoTime() - start) / 1e6));
+        save();
+    }
+
+    /** Save to file if names have been entered since the last save */
+    synchronized void saveEntered()
+    {
+        synchronized (entered)
+        {
+            if (! entered_changed)
+                return;
+        }
+        save();
+    }
+
+    /** @return Index of names from all sources and entered names */
+    private PVNameIndex build()
+    {
+        final List<String> names = new ArrayList<>();
+        for (SourceNames source : source_names.values())
+            source.names().forEach(names::add);
+        synchronized (entered)
+        {
+            names.addAll(entered);
+        }
+        final PVNameIndex updated = PVNameIndex.create(names);
+        index = updated;
+        return updated;
+    }
+
+    /** Save names of each source and entered names to file */
+    private void save()
+    {
+        final List<String> user_names;
+        synchronized (entered)
+        {
+            user_names = new ArrayList<>(entered);
+            entered_changed = false;
+        }
+        try
+        {
+            // Write to temporary file, then replace, so an instance starting up never reads a partial file
+            final File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+            file.getParentFile().mkdirs();
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp))))
+            {
+                out.writeInt(FILE_MAGIC);
+                out.writeInt(FILE_VERSION);
+                out.writeInt(source_names.size());
+                for (Map.Entry<String, SourceNames> entry : source_names.entrySet())
+                {
+                    out.writeUTF(entry.getKey());
+                    out.writeLong(entry.getValue().collected());
+                    entry.getValue().names().write(out);
+                }
+                out.writeInt(user_names.size());
+                for (String name : user_names)
+                    out.writeUTF(name);
+            }
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (Exception ex)
+        {
+            logger.log(Level.WARNING, "Cannot save PV name index " + file, ex);
+        }
+    }
+}
@@ -22,6 +22,8 @@ public class PVProposalService extends ProposalService
      */
 	public static final PVProposalService INSTANCE = new PVProposalService();
 
+    private final boolean index;
+
     private PVProposalService()
     {
         // Enable built-in proposal providers
@@ -38,6 +40,9 @@ public class PVProposalService extends ProposalService
             providers.add(MqttProposalProvider.INSTANCE);
         if (prefs.getBoolean("enable_formula_proposals"))
             providers.add(FormulaProposalProvider.INSTANCE);
+        index = prefs.getBoolean("enable_pv_name_index");
+        if (index)
+            providers.add(PVNameIndexProvider.INSTANCE);
 
         // Use SPI to add site-specific PV name providers
         for (PVProposalProvider add : ServiceLoader.load(PVProposalProvider.class))
@@ -46,4 +51,12 @@ public class PVProposalService extends ProposalService
             providers.add(add);
         }
     }
+
+    @Override
+    public void addToHistory(final String entry)
+    {
+        super.addToHistory(entry);
+        if (index)
+            PVNameIndexProvider.INSTANCE.add(entry);
+    }
 }
@@ -0,0 +1,491 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.phoebus.framework.jobs;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/** Scheduler based on a hashed timing wheel.
+ *
+ *  <p>The {@link ScheduledThreadPoolExecutor} keeps timers in a heap,
+ *  so scheduling and cancelling a timer costs O(log n).
+ *  With many pending timers, for example alarm delays, connection timeouts
+ *  and update throttles for each of 100k PVs, that adds up.
+ *
+ *  <p>The timing wheel hashes each timer into one of a fixed number of buckets,
+ *  one bucket per 'tick'.
+ *  Timers that are further out than one turn of the wheel
+ *  remain in their bucket for additional rounds.
+ *  Scheduling and cancelling is O(1).
+ *  New and cancelled timers are passed to the 'ticker' thread
+ *  via lock-free queues, and only the ticker thread touches the buckets.
+ *  In exchange, timers have a resolution of one tick:
+ *  They are never executed early, but may be up to one tick late.
+ *
+ *  <p>Expired timers are executed on a pool of worker threads,
+ *  so a slow task does not delay other timers.
+ *  Periodic tasks are re-scheduled once they complete,
+ *  i.e. a periodic task never runs concurrently with itself.
+ *
+ *  <p>When shut down, timers that have not yet expired are cancelled.
+ *
+ *  @see #getShared()
+ */
+@SuppressWarnings("nls")
+public class TimerWheel extends AbstractExecutorService implements ScheduledExecutorService
+{
+    private static final Logger logger = Logger.getLogger(TimerWheel.class.getName());
+
+    /** Maximum number of new timers added to the wheel per tick */
+    private static final int MAX_TRANSFER = 100000;
+
+    /** Holder of the shared instance, created on first access */
+    private static class Shared
+    {
+        static final TimerWheel instance = new TimerWheel("TimerWheel", 10, TimeUnit.MILLISECONDS, 512,
+                                                          Math.max(2, Runtime.getRuntime().availableProcessors()),
+                                                          true);
+    }
+
+    /** Bucket: Doubly linked list of timers */
+    private static class Bucket
+    {
+        private Task<?> head, tail;
+
+        void add(final Task<?> task)
+        {
+            task.bucket = this;
+            task.prev = tail;
+            task.next = null;
+            if (tail == null)
+                head = task;
+            else
+                tail.next = task;
+            tail = task;
+        }
+
+        void remove(final Task<?> task)
+        {
+            if (task.prev == null)
+                head = task.next;
+            else
+                task.prev.next = task.next;
+            if (task.next == null)
+                tail = task.prev;
+            else
+                task.next.prev = task.prev;
+            task.bucket = null;
+            task.prev = task.next = null;
+        }
+    }
+
+    /** Scheduled task */
+    private class Task<V> extends FutureTask<V> implements RunnableScheduledFuture<V>
+    {
+        /** {@link System#nanoTime()} when task is due */
+        private volatile long time;
+
+        /** 0 for one-shot, positive for fixed rate, negative for fixed delay [ns] */
+        private final long period;
+
+        // Position in wheel, only accessed by ticker thread
+        private long rounds;
+        private Bucket bucket;
+        private Task<?> prev, next;
+
+        Task(final Runnable runnable, final V result, final long time, final long period)
+        {
+            super(runnable, result);
+            this.time = time;
+            this.period = period;
+        }
+
+        Task(final Callable<V> callable, final long time)
+        {
+            super(callable);
+            this.time = time;
+            this.period = 0;
+        }
+
+        @Override
+        public long getDelay(final TimeUnit unit)
+        {
+            return unit.convert(time - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(final Delayed other)
+        {
+            if (other == this)
+                return 0;
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean isPeriodic()
+        {
+            return period != 0;
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning)
+        {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled)
+                removed.add(this);
+            return cancelled;
+        }
+
+        @Override
+        public void run()
+        {
+            if (! isPeriodic())
+                super.run();
+            else if (runAndReset())
+            {
+                // Once shut down, cancel instead of leaving the future pending
+                if (isShutdown())
+                    cancel(false);
+                else
+                {
+                    time = period > 0 ? time + period : System.nanoTime() - period;
+                    add(this);
+                }
+            }
+        }
+    }
+
+    private final boolean shared;
+    private final long tick_nanos;
+    private final Bucket[] wheel;
+    private final int mask;
+
+    /** Start of the wheel, {@link System#nanoTime()} */
+    private final long start = System.nanoTime();
+
+    /** Current tick, only accessed by ticker thread */
+    private long tick = 0;
+
+    /** Newly scheduled tasks, to be placed in the wheel by the ticker thread */
+    private final ConcurrentLinkedQueue<Task<?>> added = new ConcurrentLinkedQueue<>();
+
+    /** Cancelled tasks, to be removed from the wheel by the ticker thread */
+    private final ConcurrentLinkedQueue<Task<?>> removed = new ConcurrentLinkedQueue<>();
+
+    /** Number of scheduled tasks that are in the wheel or about to be added */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /** Is ticker thread parked because there are no pending tasks? */
+    private volatile boolean idle = false;
+
+    private final AtomicBoolean is_shutdown = new AtomicBoolean();
+    private final Thread ticker;
+    private final ThreadPoolExecutor workers;
+
+    /** @return Timer wheel shared by all users, cannot be shut down */
+    public static TimerWheel getShared()
+    {
+        return Shared.instance;
+    }
+
+    /** Create timer wheel
+     *
+     *  @param name Name used for the ticker and worker threads
+     *  @param tick_duration Duration of one tick, i.e. timer resolution
+     *  @param unit Unit of tick duration
+     *  @param ticks_per_wheel Number of buckets in the wheel, rounded up to a power of 2
+     *  @param threads Number of worker threads
+     */
+    public TimerWheel(final String name, final long tick_duration, final TimeUnit unit,
+                      final int ticks_per_wheel, final int threads)
+    {
+        this(name, tick_duration, unit, ticks_per_wheel, threads, false);
+    }
+
+    private TimerWheel(final String name, final long tick_duration, final TimeUnit unit,
+                       final int ticks_per_wheel, final int threads, final boolean shared)
+    {
+        if (tick_duration <= 0  ||  ticks_per_wheel <= 0  ||  ticks_per_wheel > (1 << 30)  ||  threads <= 0)
+            throw new IllegalArgumentException("Invalid timer wheel configuration");
+        this.shared = shared;
+        tick_nanos = Math.max(1, unit.toNanos(tick_duration));
+        int size = 1;
+        while (size < ticks_per_wheel)
+            size <<= 1;
+        wheel = new Bucket[size];
+        for (int i=0; i<size; ++i)
+            wheel[i] = new Bucket();
+        mask = size - 1;
+
+        workers = new ThreadPoolExecutor(threads, threads, 10, TimeUnit.SECONDS,
+                                         new LinkedBlockingQueue<>(),
+                                         new NamedThreadFactory(name + "Worker"));
+        workers.allowCoreThreadTimeOut(true);
+        ticker = new NamedThreadFactory(name).newThread(this::tick);
+        ticker.start();
+    }
+
+    /** @param delay Delay
+     *  @param unit Unit of delay
+     *  @return {@link System#nanoTime()} at which delay expires
+     */
+    private long triggerTime(final long delay, final TimeUnit unit)
+    {
+        // Limit to ~146 years to avoid overflow
+        return System.nanoTime() + Math.min(Math.max(0, unit.toNanos(delay)), Long.MAX_VALUE >> 2);
+    }
+
+    /** @param task Task to add to the wheel */
+    private <T> Task<T> add(final Task<T> task)
+    {
+        pending.incrementAndGet();
+        added.add(task);
+        if (idle)
+            LockSupport.unpark(ticker);
+        // Ticker may have cancelled the remaining tasks before this one was added
+        if (is_shutdown.get())
+            task.cancel(false);
+        return task;
+    }
+
+    private void checkShutdown()
+    {
+        if (is_shutdown.get())
+            throw new RejectedExecutionException("Timer wheel has been shut down");
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit)
+    {
+        Objects.requireNonNull(command);
+        checkShutdown();
+        return add(new Task<Void>(command, null, triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(final Callable<V> callable, final long delay, final TimeUnit unit)
+    {
+        Objects.requireNonNull(callable);
+        checkShutdown();
+        return add(new Task<>(callable, triggerTime(delay, unit)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(final Runnable command, final long initialDelay,
+                                                  final long period, final TimeUnit unit)
+    {
+        Objects.requireNonNull(command);
+        if (period <= 0)
+            throw new IllegalArgumentException("Period must be positive");
+        checkShutdown();
+        return add(new Task<Void>(command, null, triggerTime(initialDelay, unit), unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(final Runnable command, final long initialDelay,
+                                                     final long delay, final TimeUnit unit)
+    {
+        Objects.requireNonNull(command);
+        if (delay <= 0)
+            throw new IllegalArgumentException("Delay must be positive");
+        checkShutdown();
+        return add(new Task<Void>(command, null, triggerTime(initialDelay, unit), -unit.toNanos(delay)));
+    }
+
+    /** Execute command right away on a worker thread */
+    @Override
+    public void execute(final Runnable command)
+    {
+        Objects.requireNonNull(command);
+        checkShutdown();
+        workers.execute(command);
+    }
+
+    /** @return Number of timers that are scheduled but have not expired */
+    public int getPendingCount()
+    {
+        return pending.get();
+    }
+
+    /** Ticker thread */
+    private void tick()
+    {
+        while (! is_shutdown.get())
+        {
+            if (pending.get() <= 0)
+            {   // Nothing to do, wait for new tasks
+                idle = true;
+                if (pending.get() <= 0  &&  ! is_shutdown.get())
+                    LockSupport.park(this);
+                idle = false;
+                // Wheel is empty, so skipped ticks don't matter
+                tick = (System.nanoTime() - start) / tick_nanos;
+                continue;
+            }
+            final long deadline = start + (tick + 1) * tick_nanos;
+            long sleep;
+            while ((sleep = deadline - System.nanoTime()) > 0  &&  ! is_shutdown.get())
+                LockSupport.parkNanos(this, sleep);
+            transferAdded();
+            removeCancelled();
+            expire(wheel[(int) (tick & mask)]);
+            ++tick;
+        }
+        // Cancel remaining tasks
+        for (Bucket bucket : wheel)
+            while (bucket.head != null)
+            {
+                final Task<?> task = bucket.head;
+                bucket.remove(task);
+                task.cancel(false);
+            }
+        Task<?> task;
+        while ((task = added.poll()) != null)
+            task.cancel(false);
+        removed.clear();
+        pending.set(0);
+    }
+
+    /** Place newly added tasks in wheel */
+    private void transferAdded()
+    {
+        Task<?> task;
+        for (int i=0;  i<MAX_TRANSFER  &&  (task = added.poll()) != null;  ++i)
+        {
+            if (task.isCancelled())
+            {
+                pending.decrementAndGet();
+                continue;
+            }
+            // Bucket for the tick at or before the deadline,
+            // which is handled once that tick has passed.
+            // If that's already in the past, use current bucket.
+            final long ticks = Math.max((task.time - start) / tick_nanos, tick);
+            task.rounds = (ticks - tick) / wheel.length;
+            wheel[(int) (ticks & mask)].add(task);
+        }
+    }
+
+    /** Remove cancelled tasks from wheel */
+    private void removeCancelled()
+    {
+        Task<?> task;
+        while ((task = removed.poll()) != null)
+            // Task may not be in wheel because it already ran or was never added
+            if (task.bucket != null)
+            {
+                task.bucket.remove(task);
+                pending.decrementAndGet();
+            }
+    }
+
+    /** Execute expired tasks of a bucket
+     *  @param bucket Bucket for the current tick
+     */
+    private void expire(final Bucket bucket)
+    {
+        Task<?> task = bucket.head;
+        while (task != null)
+        {
+            final Task<?> next = task.next;
+            if (task.isCancelled())
+            {
+                bucket.remove(task);
+                pending.decrementAndGet();
+            }
+            else if (task.rounds <= 0)
+            {
+                bucket.remove(task);
+                pending.decrementAndGet();
+                try
+                {
+                    workers.execute(task);
+                }
+                catch (RejectedExecutionException ex)
+                {
+                    task.cancel(false);
+                }
+            }
+            else
+                --task.rounds;
+            task = next;
+        }
+    }
+
+    @Override
+    public void shutdown()
+    {
+        if (shared)
+        {
+            logger.log(Level.WARNING, "Ignoring attempt to shut down shared timer wheel", new Exception("Stack trace"));
+            return;
+        }
+        if (is_shutdown.compareAndSet(false, true))
+        {
+            LockSupport.unpark(ticker);
+            workers.shutdown();
+        }
+    }
+
+    /** {@inheritDoc}
+     *
+     *  <p>Returns the expired tasks that were waiting for a worker thread.
+     *  Tasks that have not expired are cancelled.
+     */
+    @Override
+    public List<Runnable> shutdownNow()
+    {
+        if (shared)
+        {
+            shutdown();
+            return List.of();
+        }
+        shutdown();
+        return workers.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown()
+    {
+        return is_shutdown.get();
+    }
+
+    @Override
+    public boolean isTerminated()
+    {
+        return is_shutdown.get()  &&  ! ticker.isAlive()  &&  workers.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException
+    {
+        final long end = System.nanoTime() + unit.toNanos(timeout);
+        TimeUnit.NANOSECONDS.timedJoin(ticker, Math.max(1, end - System.nanoTime()));
+        if (ticker.isAlive())
+            return false;
+        return workers.awaitTermination(end - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+}
@@ -1,6 +1,7 @@
 package org.phoebus.framework.spi;
 
 import java.net.URL;
+import java.util.List;
 
 /**
  * Basic interface for defining phoebus applications via java services
@@ -44,11 +45,41 @@ public interface AppDescriptor {
     /**
      * Create the resources (connects, load libraries,...) required by this
      * particular application
+     *
+     * <p>When the <code>org.phoebus.ui/startup_threads</code> preference
+     * allows more than one thread, applications are started in parallel,
+     * so this may be called concurrently with the start of other applications.
+     * By default, applications are started one by one.
      */
     public default void start() {
         // Default does nothing
     }
 
+    /**
+     * Applications that need to be started before this one.
+     *
+     * <p>Dependencies are optional: Names of applications that are not
+     * available are ignored.
+     *
+     * @return Names of applications that this application's <code>start()</code> depends on
+     */
+    public default List<String> getStartDependencies() {
+        return List.of();
+    }
+
+    /**
+     * Should the application be started on first use instead of on startup?
+     *
+     * <p>Applications with a slow <code>start()</code> that are not
+     * always used can defer their start until they are first looked up via
+     * the <code>ApplicationService</code>.
+     *
+     * @return <code>true</code> to start on first use
+     */
+    public default boolean isStartDeferred() {
+        return false;
+    }
+
     /**
      * Create an instance of the application without any specific resources
      * @return created instance
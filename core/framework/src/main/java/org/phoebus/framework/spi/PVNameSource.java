@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.framework.spi;
+
+import java.util.function.Consumer;
+
+import org.phoebus.framework.autocomplete.PVNameIndexProvider;
+
+/** Source of PV names for the local PV name index
+ *
+ *  {@link PVNameIndexProvider} uses SPI for this interface
+ *  to periodically collect all known PV names,
+ *  for example from a directory service or the alarm configuration.
+ *  Sources are only used when listed in the
+ *  <code>pv_name_index_sources</code> preference.
+ */
+public interface PVNameSource
+{
+    /** @return Name of this source, used to enable it in the preferences */
+    public String getName();
+
+    /** Collect PV names
+     *
+     *  <p>Called from a background thread,
+     *  may take some time.
+     *
+     *  @param names Will be called with each PV name
+     *  @throws Exception on error
+     */
+    public void collectPVNames(Consumer<String> names) throws Exception;
+}
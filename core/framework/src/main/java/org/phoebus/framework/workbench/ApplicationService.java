@@ -17,6 +17,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import java.util.logging.Level;
 
 import org.phoebus.framework.spi.AppDescriptor;
@@ -40,6 +42,9 @@ public class ApplicationService
     /** All applications that handle a resource by extension */
     private final Map<String, List<AppResourceDescriptor>> extensions = new HashMap<>();
 
+    /** Starter, set once applications are started */
+    private volatile ApplicationStarter starter = null;
+
     private ApplicationService()
     {
 
@@ -102,6 +107,63 @@ public class ApplicationService
         return INSTANCE.apps.values();
     }
 
+    /** Start applications
+     *
+     *  <p>Each application is started after the applications
+     *  listed in its {@link AppDescriptor#getStartDependencies()}.
+     *  With more than one thread, applications are started in parallel.
+     *  Applications with {@link AppDescriptor#isStartDeferred()}
+     *  or listed in <code>deferred</code> are started on first use,
+     *  i.e. when they are looked up via {@link #findApplication(String)}.
+     *
+     *  <p>Blocks until all applications have been started.
+     *
+     *  @param threads Number of threads to use, 1 to start applications one by one
+     *  @param deferred Names of additional applications to start on first use
+     *  @param starting Called with the number of applications that will be started now,
+     *                  not counting those that are deferred
+     *  @param started Called on the calling thread with each application as it has been started
+     */
+    public static void startApplications(final int threads, final Collection<String> deferred,
+                                         final IntConsumer starting,
+                                         final Consumer<AppDescriptor> started)
+    {
+        final ApplicationStarter starter = new ApplicationStarter(INSTANCE.apps.values(), deferred);
+        INSTANCE.starter = starter;
+        starting.accept(starter.getStartupCount());
+        starter.startApplications(threads, started);
+    }
+
+    /** Start application if it has a deferred start and hasn't been started, yet
+     *
+     *  <p>Only needed for applications that are not obtained
+     *  via {@link #findApplication(String)}.
+     *
+     *  @param app Application
+     */
+    public static void ensureStarted(final AppDescriptor app)
+    {
+        final ApplicationStarter starter = INSTANCE.starter;
+        if (starter != null  &&  starter.isDeferred(app.getName()))
+            starter.ensureStarted(app.getName());
+    }
+
+    /** Stop all applications that have been started */
+    public static void stopApplications()
+    {
+        final ApplicationStarter starter = INSTANCE.starter;
+        for (AppDescriptor app : INSTANCE.apps.values())
+            if (starter == null  ||  ! starter.isDeferred(app.getName()))
+                app.stop();
+    }
+
+    /** @return Timeline of application starts as text, empty if applications have not been started */
+    public static String getStartupTimeline()
+    {
+        final ApplicationStarter starter = INSTANCE.starter;
+        return starter == null ? "" : starter.formatTimeline();
+    }
+
     /** Find applications for this resource string
      *
      *  @param resource Resource URI
@@ -124,6 +186,9 @@ public class ApplicationService
 
     /**
      * Find application by name
+     *
+     * <p>Starts the application if its start has been deferred until first use.
+     *
      * @param <AD> application descriptor Type
      * @param name Application name
      * @return {@link AppDescriptor} or <code>null</code> if not found
@@ -131,7 +196,10 @@ public class ApplicationService
     @SuppressWarnings("unchecked")
     public static <AD extends AppDescriptor> AD findApplication(final String name)
     {
-        return (AD) INSTANCE.apps.get(name);
+        final AppDescriptor app = INSTANCE.apps.get(name);
+        if (app != null)
+            ensureStarted(app);
+        return (AD) app;
     }
 
     /**
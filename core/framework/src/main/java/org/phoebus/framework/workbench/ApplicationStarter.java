@@ -0,0 +1,321 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.framework.workbench;
+
+import static org.phoebus.framework.workbench.WorkbenchPreferences.logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+import org.phoebus.framework.jobs.NamedThreadFactory;
+import org.phoebus.framework.spi.AppDescriptor;
+
+/** Starts applications
+ *
+ *  <p>Each application is started after the applications it depends on.
+ *  With more than one thread, applications are started in parallel.
+ *  Applications with a deferred start are started on first use.
+ *  The start of each application is recorded in a timeline.
+ */
+@SuppressWarnings("nls")
+class ApplicationStarter
+{
+    /** Entry in the startup timeline */
+    static class StartInfo
+    {
+        /** Application */
+        final AppDescriptor app;
+
+        /** Thread that started the application */
+        final String thread;
+
+        /** Start time in ms since the startup began */
+        final long start_ms;
+
+        /** Duration of start in ms */
+        final long duration_ms;
+
+        /** Was application started on first use? */
+        final boolean deferred;
+
+        StartInfo(final AppDescriptor app, final String thread, final long start_ms, final long duration_ms, final boolean deferred)
+        {
+            this.app = app;
+            this.thread = thread;
+            this.start_ms = start_ms;
+            this.duration_ms = duration_ms;
+            this.deferred = deferred;
+        }
+
+        @Override
+        public String toString()
+        {
+            return String.format("%6d ms %6d ms  %-12s %s%s",
+                                 start_ms, duration_ms, thread, app.getDisplayName(),
+                                 deferred ? " (on first use)" : "");
+        }
+    }
+
+    /** Start of one application */
+    private class Start
+    {
+        final AppDescriptor app;
+        final List<String> dependencies = new ArrayList<>();
+        private Thread thread = null;
+        private boolean done = false;
+
+        Start(final AppDescriptor app)
+        {
+            this.app = app;
+        }
+
+        /** @return <code>true</code> if this thread should start the application,
+         *          <code>false</code> if it's already started or being started
+         */
+        synchronized boolean claim()
+        {
+            if (thread != null)
+                return false;
+            thread = Thread.currentThread();
+            return true;
+        }
+
+        synchronized void finish()
+        {
+            done = true;
+            notifyAll();
+        }
+
+        /** Wait for another thread to start the application */
+        synchronized void await() throws InterruptedException
+        {
+            // Application that looks itself up while starting
+            // (or a dependency cycle, which is prevented) would wait forever
+            while (! done  &&  thread != Thread.currentThread())
+                wait();
+        }
+
+        synchronized boolean isStarted()
+        {
+            return done;
+        }
+    }
+
+    /** Time when startup began */
+    private final long t0 = System.currentTimeMillis();
+
+    /** Starts by application name, in order of the applications */
+    private final Map<String, Start> starts = new LinkedHashMap<>();
+
+    /** Names of applications to start on first use */
+    private final Set<String> deferred;
+
+    /** Has the startup of all applications completed? */
+    private volatile boolean startup_done = false;
+
+    private final List<StartInfo> timeline = new CopyOnWriteArrayList<>();
+
+    /** @param apps Applications
+     *  @param deferred Names of applications to start on first use,
+     *                  in addition to those that request it
+     */
+    ApplicationStarter(final Collection<AppDescriptor> apps, final Collection<String> deferred)
+    {
+        this.deferred = new HashSet<>(deferred);
+        for (AppDescriptor app : apps)
+        {
+            starts.put(app.getName(), new Start(app));
+            if (app.isStartDeferred())
+                this.deferred.add(app.getName());
+        }
+
+        // Keep dependencies on known applications that don't result in a cycle
+        for (Start start : starts.values())
+            for (String dependency : start.app.getStartDependencies())
+            {
+                if (! starts.containsKey(dependency))
+                    logger.log(Level.FINE, () -> "Application '" + start.app.getName() + "' ignores unknown dependency '" + dependency + "'");
+                else if (dependsOn(dependency, start.app.getName(), new HashSet<>()))
+                    logger.log(Level.WARNING, "Application '" + start.app.getName() + "' ignores dependency '" + dependency + "' because of a cycle");
+                else
+                    start.dependencies.add(dependency);
+            }
+    }
+
+    /** @param name Application name
+     *  @param other Other application name
+     *  @param checked Applications that have been checked
+     *  @return Does application 'name' depend on 'other'?
+     */
+    private boolean dependsOn(final String name, final String other, final Set<String> checked)
+    {
+        if (name.equals(other))
+            return true;
+        if (! checked.add(name))
+            return false;
+        for (String dependency : starts.get(name).dependencies)
+            if (dependsOn(dependency, other, checked))
+                return true;
+        return false;
+    }
+
+    /** @return Names of applications to start, i.e. all but the deferred ones */
+    private List<String> getStartupNames()
+    {
+        final List<String> names = new ArrayList<>();
+        for (String name : starts.keySet())
+            if (! deferred.contains(name))
+                names.add(name);
+        return names;
+    }
+
+    /** @return Number of applications that {@link #startApplications(int, Consumer)} will report */
+    int getStartupCount()
+    {
+        return getStartupNames().size();
+    }
+
+    /** Start all applications except for the deferred ones
+     *
+     *  <p>Blocks until all applications have been started.
+     *
+     *  @param threads Number of threads to use
+     *  @param started Called on the calling thread with each application as it has been started
+     */
+    void startApplications(final int threads, final Consumer<AppDescriptor> started)
+    {
+        final List<String> names = getStartupNames();
+
+        final int thread_count = Math.max(1, Math.min(threads, names.size()));
+        final ExecutorService executor = Executors.newFixedThreadPool(thread_count, new NamedThreadFactory("AppStart"));
+        try
+        {
+            final CompletionService<AppDescriptor> completion = new ExecutorCompletionService<>(executor);
+            for (String name : names)
+                completion.submit(() ->
+                {
+                    start(name, false);
+                    return starts.get(name).app;
+                });
+            for (int i=0; i<names.size(); ++i)
+                started.accept(completion.take().get());
+        }
+        catch (Exception ex)
+        {
+            logger.log(Level.SEVERE, "Application startup failed", ex);
+        }
+        finally
+        {
+            executor.shutdown();
+            startup_done = true;
+        }
+
+        final int count = timeline.size();
+        logger.log(Level.INFO, "Started " + count + " applications in " + (System.currentTimeMillis() - t0) +
+                               " ms using " + thread_count + " threads, " + (starts.size() - count) +
+                               " deferred until first use. Timeline:\n" + formatTimeline());
+    }
+
+    /** Start application unless it's already started
+     *
+     *  <p>Waits if the application is being started by another thread.
+     *
+     *  @param name Application name
+     */
+    void ensureStarted(final String name)
+    {
+        final Start start = starts.get(name);
+        if (start != null  &&  ! start.isStarted())
+            start(name, startup_done);
+    }
+
+    /** @param name Application name
+     *  @return Is this an application with deferred start that has not been started?
+     */
+    boolean isDeferred(final String name)
+    {
+        final Start start = starts.get(name);
+        return start != null  &&  deferred.contains(name)  &&  ! start.isStarted();
+    }
+
+    /** @param name Application to start, after starting its dependencies
+     *  @param on_demand Is application started on first use?
+     */
+    private void start(final String name, final boolean on_demand)
+    {
+        final Start start = starts.get(name);
+        if (! start.claim())
+        {
+            try
+            {
+                start.await();
+            }
+            catch (InterruptedException ex)
+            {
+                logger.log(Level.WARNING, "Interrupted while waiting for start of " + name, ex);
+            }
+            return;
+        }
+
+        try
+        {
+            for (String dependency : start.dependencies)
+                start(dependency, on_demand);
+
+            final long begin = System.currentTimeMillis();
+            try
+            {
+                start.app.start();
+            }
+            catch (Throwable ex)
+            {
+                logger.log(Level.SEVERE, start.app.getDisplayName() + " startup failed", ex);
+            }
+            final StartInfo info = new StartInfo(start.app, Thread.currentThread().getName(),
+                                                 begin - t0, System.currentTimeMillis() - begin, on_demand);
+            timeline.add(info);
+            if (on_demand)
+                logger.log(Level.INFO, "Started on first use: " + info);
+        }
+        finally
+        {
+            start.finish();
+        }
+    }
+
+    /** @return Application starts, ordered by start time */
+    List<StartInfo> getTimeline()
+    {
+        final List<StartInfo> sorted = new ArrayList<>(timeline);
+        sorted.sort(Comparator.comparingLong(info -> info.start_ms));
+        return sorted;
+    }
+
+    /** @return Timeline as text table */
+    String formatTimeline()
+    {
+        final StringBuilder buf = new StringBuilder();
+        buf.append("    Start  Duration  Thread       Application\n");
+        for (StartInfo info : getTimeline())
+            buf.append(info).append("\n");
+        return buf.toString();
+    }
+}
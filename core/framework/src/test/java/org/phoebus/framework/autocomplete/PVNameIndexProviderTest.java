@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.framework.autocomplete;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.phoebus.framework.spi.PVNameSource;
+
+/** JUnit test of the {@link PVNameIndexProvider}
+ */
+@SuppressWarnings("nls")
+public class PVNameIndexProviderTest
+{
+    @TempDir
+    File dir;
+
+    /** Source that provides names until it's set to fail */
+    private static class TestSource implements PVNameSource
+    {
+        private final String name;
+        private final List<String> names;
+        boolean fail = false;
+
+        TestSource(final String name, final String... names)
+        {
+            this.name = name;
+            this.names = List.of(names);
+        }
+
+        @Override
+        public String getName()
+        {
+            return name;
+        }
+
+        @Override
+        public void collectPVNames(final Consumer<String> names) throws Exception
+        {
+            if (fail)
+                throw new Exception("Test failure");
+            this.names.forEach(names);
+        }
+    }
+
+    private static List<String> names(final PVNameIndexProvider provider, final String text)
+    {
+        final List<String> names = new ArrayList<>();
+        for (Proposal proposal : provider.lookup(text))
+            names.add(proposal.getValue());
+        return names;
+    }
+
+    @Test
+    public void testFailedSource() throws Exception
+    {
+        final TestSource a = new TestSource("A", "a:1", "a:2"), b = new TestSource("B", "b:1");
+        final PVNameIndexProvider provider = new PVNameIndexProvider(new File(dir, "test.index"), Set.of(), 3600);
+        provider.update(List.of(a, b));
+        assertThat(provider.size(), equalTo(3));
+
+        // Names of a failed source are kept, names of the working source are updated
+        a.fail = true;
+        provider.update(List.of(a, new TestSource("B", "b:2")));
+        assertThat(names(provider, "a:"), equalTo(List.of("a:1", "a:2")));
+        assertThat(names(provider, "b:"), equalTo(List.of("b:2")));
+
+        // Names of sources that are no longer used are removed
+        provider.update(List.of(a));
+        assertThat(provider.size(), equalTo(2));
+
+        // Saved names of each source are restored
+        final PVNameIndexProvider loaded = new PVNameIndexProvider(new File(dir, "test.index"), Set.of(), 3600);
+        loaded.load();
+        assertThat(names(loaded, "a:"), equalTo(List.of("a:1", "a:2")));
+    }
+
+    @Test
+    public void testExpiration() throws Exception
+    {
+        final TestSource a = new TestSource("A", "a:1", "a:2"), b = new TestSource("B", "b:1");
+        final PVNameIndexProvider provider = new PVNameIndexProvider(new File(dir, "test.index"), Set.of(), 0);
+        provider.add("pva://entered:1");
+        provider.update(List.of(a, b));
+        assertThat(provider.size(), equalTo(4));
+
+        // Names of a source that keeps failing expire
+        Thread.sleep(10);
+        a.fail = true;
+        provider.update(List.of(a, b));
+        assertThat(names(provider, "a:"), equalTo(List.of()));
+        assertThat(provider.size(), equalTo(2));
+        assertThat(names(provider, "entered"), equalTo(List.of("entered:1")));
+    }
+
+    @Test
+    public void testSaveEntered() throws Exception
+    {
+        final File file = new File(dir, "test.index");
+        final PVNameIndexProvider provider = new PVNameIndexProvider(file, Set.of(), 3600);
+        // Nothing to save
+        provider.saveEntered();
+        assertThat(file.exists(), equalTo(false));
+
+        // Entered names are saved without updating the index from sources
+        provider.add("entered:1");
+        provider.add("ca://entered:2");
+        provider.saveEntered();
+        final PVNameIndexProvider loaded = new PVNameIndexProvider(file, Set.of(), 3600);
+        loaded.load();
+        assertThat(loaded.size(), equalTo(2));
+        assertThat(names(loaded, "entered"), equalTo(List.of("entered:1", "entered:2")));
+    }
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.framework.autocomplete;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/** JUnit test of the {@link PVNameIndex}
+ */
+@SuppressWarnings("nls")
+public class PVNameIndexTest
+{
+    private static final PVNameIndex index = PVNameIndex.create(List.of(
+            "SR:C01-BI{BPM:1}Pos:X-I",
+            "SR:C01-BI{BPM:2}Pos:X-I",
+            "SR:C02-BI{BPM:1}Pos:Y-I",
+            "LN:Gun:Temp",
+            "ln:gun:temp",
+            "Booster:Magnet:Current",
+            "SR:C01-BI{BPM:1}Pos:X-I",
+            "Température",
+            ""));
+
+    @Test
+    public void testCreate()
+    {
+        // Duplicates and empty names removed, but case is preserved
+        assertThat(index.size(), equalTo(7));
+        final List<String> names = new ArrayList<>();
+        index.forEach(names::add);
+        assertThat(names.get(0), equalTo("Booster:Magnet:Current"));
+        assertThat(names.get(1), equalTo("LN:Gun:Temp"));
+        assertThat(names.get(2), equalTo("ln:gun:temp"));
+    }
+
+    @Test
+    public void testPrefix()
+    {
+        // Prefix matches, then a fuzzy match
+        assertThat(index.lookup("sr:c01", 10), equalTo(List.of("SR:C01-BI{BPM:1}Pos:X-I", "SR:C01-BI{BPM:2}Pos:X-I", "SR:C02-BI{BPM:1}Pos:Y-I")));
+        assertThat(index.lookup("LN:GUN", 10), equalTo(List.of("LN:Gun:Temp", "ln:gun:temp")));
+        assertThat(index.lookup("sr:c01", 1), equalTo(List.of("SR:C01-BI{BPM:1}Pos:X-I")));
+        assertThat(index.lookup("Temp", 10), equalTo(List.of("Température", "LN:Gun:Temp", "ln:gun:temp")));
+        assertThat(index.lookup("xyz", 10), equalTo(List.of()));
+    }
+
+    @Test
+    public void testSubstring()
+    {
+        // Prefix matches first, then names that contain the text
+        assertThat(index.lookup("BPM:1", 10), equalTo(List.of("SR:C01-BI{BPM:1}Pos:X-I", "SR:C02-BI{BPM:1}Pos:Y-I")));
+        assertThat(index.lookup("magnet", 10), equalTo(List.of("Booster:Magnet:Current")));
+        assertThat(index.lookup("é", 10), equalTo(List.of("Température")));
+    }
+
+    @Test
+    public void testFuzzy()
+    {
+        // Characters in order, but not next to each other
+        assertThat(index.lookup("bmc", 10), equalTo(List.of("Booster:Magnet:Current")));
+        assertThat(index.lookup("c02y", 10), equalTo(List.of("SR:C02-BI{BPM:1}Pos:Y-I")));
+        // Exact matches are listed before fuzzy matches
+        assertThat(index.lookup("gun", 10), equalTo(List.of("LN:Gun:Temp", "ln:gun:temp", "Booster:Magnet:Current")));
+        // Too short for fuzzy matches
+        assertThat(index.lookup("bc", 10), equalTo(List.of()));
+    }
+
+    @Test
+    public void testReadWrite() throws Exception
+    {
+        final ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        index.write(new DataOutputStream(buf));
+        final PVNameIndex copy = PVNameIndex.read(new DataInputStream(new ByteArrayInputStream(buf.toByteArray())));
+        assertThat(copy.size(), equalTo(index.size()));
+        assertThat(copy.lookup("BPM", 10), equalTo(index.lookup("BPM", 10)));
+
+        assertThat(PVNameIndex.EMPTY.lookup("a", 10), equalTo(List.of()));
+    }
+}
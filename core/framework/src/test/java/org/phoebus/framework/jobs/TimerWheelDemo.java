@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.phoebus.framework.jobs;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/** Benchmark of the {@link TimerWheel} against the {@link ScheduledThreadPoolExecutor}
+ *
+ *  <p>Keeps 100k one-shot timers with random 1-60 second delays pending,
+ *  as for example connection timeouts of many PVs,
+ *  and measures the time per schedule, cancel and re-schedule.
+ *  Prints the median of the last rounds, after warming up.
+ */
+@SuppressWarnings("nls")
+public class TimerWheelDemo
+{
+    private static final int TIMERS = 100000, ROUNDS = 10, THREADS = 8;
+
+    private static final Runnable NOP = () -> {};
+
+    private static final Random random = new Random(42);
+
+    private static final long[] delays = new long[TIMERS];
+
+    /** Results of one round, ns per operation */
+    private record Round(double schedule, double reschedule, double cancel, double concurrent) {}
+
+    private static Round runRound(final ScheduledExecutorService timer) throws Exception
+    {
+        final ScheduledFuture<?>[] futures = new ScheduledFuture<?>[TIMERS];
+
+        long start = System.nanoTime();
+        for (int i=0; i<TIMERS; ++i)
+            futures[i] = timer.schedule(NOP, delays[i], TimeUnit.MILLISECONDS);
+        final double schedule = (System.nanoTime() - start) / (double) TIMERS;
+
+        // Cancel and schedule again, as for a PV that received an update
+        start = System.nanoTime();
+        for (int i=0; i<TIMERS; ++i)
+        {
+            futures[i].cancel(false);
+            futures[i] = timer.schedule(NOP, delays[i], TimeUnit.MILLISECONDS);
+        }
+        final double reschedule = (System.nanoTime() - start) / (double) TIMERS;
+
+        // Same from several threads at once
+        final ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        final Future<?>[] threads = new Future<?>[THREADS];
+        start = System.nanoTime();
+        for (int t=0; t<THREADS; ++t)
+        {
+            final int first = t;
+            threads[t] = pool.submit((Callable<Void>) () ->
+            {
+                for (int i=first; i<TIMERS; i+=THREADS)
+                {
+                    futures[i].cancel(false);
+                    futures[i] = timer.schedule(NOP, delays[i], TimeUnit.MILLISECONDS);
+                }
+                return null;
+            });
+        }
+        for (Future<?> thread : threads)
+            thread.get();
+        final double concurrent = (System.nanoTime() - start) / (double) TIMERS;
+        pool.shutdown();
+
+        start = System.nanoTime();
+        for (int i=0; i<TIMERS; ++i)
+            futures[i].cancel(false);
+        final double cancel = (System.nanoTime() - start) / (double) TIMERS;
+
+        return new Round(schedule, reschedule, cancel, concurrent);
+    }
+
+    private static double median(final Round[] rounds, final ToDoubleFunction<Round> value)
+    {
+        // Skip first half of the rounds as warm-up
+        final double[] values = Arrays.stream(rounds, ROUNDS/2, ROUNDS).mapToDouble(value).sorted().toArray();
+        return values[values.length / 2];
+    }
+
+    private static void benchmark(final String name, final Supplier<ScheduledExecutorService> create) throws Exception
+    {
+        final ScheduledExecutorService timer = create.get();
+        final Round[] rounds = new Round[ROUNDS];
+        for (int r=0; r<ROUNDS; ++r)
+        {
+            rounds[r] = runRound(timer);
+            // Let cancelled timers be removed
+            Thread.sleep(100);
+        }
+        timer.shutdownNow();
+        timer.awaitTermination(10, TimeUnit.SECONDS);
+
+        System.out.format("%-32s schedule %6.0f, cancel + schedule %6.0f, cancel %6.0f, %d threads %6.0f ns\n",
+                          name,
+                          median(rounds, Round::schedule),
+                          median(rounds, Round::reschedule),
+                          median(rounds, Round::cancel),
+                          THREADS,
+                          median(rounds, Round::concurrent));
+    }
+
+    public static void main(final String[] args) throws Exception
+    {
+        for (int i=0; i<TIMERS; ++i)
+            delays[i] = 1000 + random.nextInt(59000);
+
+        benchmark("ScheduledThreadPoolExecutor", () -> new ScheduledThreadPoolExecutor(1));
+        benchmark("... with removeOnCancel", () ->
+        {
+            final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1);
+            timer.setRemoveOnCancelPolicy(true);
+            return timer;
+        });
+        benchmark("TimerWheel", () -> new TimerWheel("Demo", 10, TimeUnit.MILLISECONDS, 512, 2));
+    }
+}
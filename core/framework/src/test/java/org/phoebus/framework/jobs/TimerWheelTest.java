@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.phoebus.framework.jobs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** JUnit test of the {@link TimerWheel}
+ *  (small wheel, so timers need several rounds)
+ */
+@SuppressWarnings("nls")
+public class TimerWheelTest
+{
+    private TimerWheel timer;
+
+    @BeforeEach
+    public void setup()
+    {
+        timer = new TimerWheel("TestTimer", 10, TimeUnit.MILLISECONDS, 8, 2);
+    }
+
+    @AfterEach
+    public void shutdown() throws Exception
+    {
+        timer.shutdown();
+        assertTrue(timer.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testDelay() throws Exception
+    {
+        final long start = System.nanoTime();
+        final ScheduledFuture<Long> short_delay = timer.schedule(() -> System.nanoTime() - start, 50, TimeUnit.MILLISECONDS);
+        // More than one turn of the wheel
+        final ScheduledFuture<Long> long_delay = timer.schedule(() -> System.nanoTime() - start, 300, TimeUnit.MILLISECONDS);
+
+        final long short_ms = TimeUnit.NANOSECONDS.toMillis(short_delay.get(5, TimeUnit.SECONDS));
+        final long long_ms = TimeUnit.NANOSECONDS.toMillis(long_delay.get(5, TimeUnit.SECONDS));
+        assertThat(short_ms, greaterThanOrEqualTo(50L));
+        assertThat(short_ms, lessThan(250L));
+        assertThat(long_ms, greaterThanOrEqualTo(300L));
+        assertThat(long_ms, lessThan(500L));
+        assertThat(timer.getPendingCount(), equalTo(0));
+    }
+
+    @Test
+    public void testCancel() throws Exception
+    {
+        final AtomicInteger runs = new AtomicInteger();
+        final List<ScheduledFuture<?>> tasks = new ArrayList<>();
+        for (int i=0; i<1000; ++i)
+            tasks.add(timer.schedule(runs::incrementAndGet, 20 + i % 100, TimeUnit.MILLISECONDS));
+        // Cancel every other task, then reschedule it
+        for (int i=0; i<tasks.size(); i += 2)
+        {
+            assertTrue(tasks.get(i).cancel(false));
+            tasks.set(i, timer.schedule(runs::incrementAndGet, 200, TimeUnit.MILLISECONDS));
+        }
+        // Cancel some for good
+        for (int i=1; i<tasks.size(); i += 10)
+            assertTrue(tasks.get(i).cancel(false));
+
+        for (int i=0; i<tasks.size(); ++i)
+        {
+            final ScheduledFuture<?> task = tasks.get(i);
+            if (i % 10 == 1)
+                assertThrows(CancellationException.class, () -> task.get());
+            else
+                task.get(5, TimeUnit.SECONDS);
+        }
+        assertThat(runs.get(), equalTo(900));
+        // Removal of the cancelled tasks may still be pending
+        Thread.sleep(50);
+        assertThat(timer.getPendingCount(), equalTo(0));
+    }
+
+    @Test
+    public void testFixedRate() throws Exception
+    {
+        final CountDownLatch updates = new CountDownLatch(5);
+        final long start = System.nanoTime();
+        final ScheduledFuture<?> task = timer.scheduleAtFixedRate(updates::countDown, 20, 20, TimeUnit.MILLISECONDS);
+        assertTrue(updates.await(5, TimeUnit.SECONDS));
+        final long ms = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertThat(ms, greaterThanOrEqualTo(100L));
+        assertTrue(task.cancel(false));
+        assertTrue(task.isCancelled());
+    }
+
+    @Test
+    public void testShutdown() throws Exception
+    {
+        final ScheduledFuture<?> task = timer.schedule(() -> {}, 1, TimeUnit.HOURS);
+        timer.shutdown();
+        assertTrue(timer.awaitTermination(5, TimeUnit.SECONDS));
+        assertTrue(task.isCancelled());
+        assertThrows(Exception.class, () -> timer.schedule(() -> {}, 1, TimeUnit.SECONDS));
+
+        // Periodic task that runs while the wheel is shut down is cancelled
+        final TimerWheel other = new TimerWheel("OtherTimer", 10, TimeUnit.MILLISECONDS, 8, 2);
+        final CountDownLatch running = new CountDownLatch(1), release = new CountDownLatch(1);
+        final ScheduledFuture<?> periodic = other.scheduleWithFixedDelay(() ->
+        {
+            running.countDown();
+            try
+            {
+                release.await();
+            }
+            catch (InterruptedException ex)
+            {
+                // Ignore
+            }
+        }, 10, 10, TimeUnit.MILLISECONDS);
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        other.shutdown();
+        release.countDown();
+        assertThrows(CancellationException.class, () -> periodic.get(5, TimeUnit.SECONDS));
+        assertTrue(other.awaitTermination(5, TimeUnit.SECONDS));
+
+        // Shared timer cannot be shut down
+        TimerWheel.getShared().shutdown();
+        assertThat(TimerWheel.getShared().schedule(() -> 42, 10, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS),
+                   equalTo(42));
+    }
+}
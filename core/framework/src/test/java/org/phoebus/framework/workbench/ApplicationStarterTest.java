@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.framework.workbench;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.phoebus.framework.spi.AppDescriptor;
+import org.phoebus.framework.spi.AppInstance;
+
+/** JUnit test of the {@link ApplicationStarter}
+ *
+ *  <p>Starts applications that take 100 ms each,
+ *  in parallel and in the order of their dependencies.
+ */
+@SuppressWarnings("nls")
+public class ApplicationStarterTest
+{
+    /** Names of started applications, in order of completed start */
+    private final List<String> started = Collections.synchronizedList(new ArrayList<>());
+
+    /** "start ..." and "done ..." for each application, in order */
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    /** When set, applications wait for each other instead of taking 100 ms */
+    private CountDownLatch running = null;
+
+    private class TestApp implements AppDescriptor
+    {
+        private final String name;
+        private final List<String> dependencies;
+        private final boolean deferred;
+
+        TestApp(final String name, final boolean deferred, final String... dependencies)
+        {
+            this.name = name;
+            this.deferred = deferred;
+            this.dependencies = List.of(dependencies);
+        }
+
+        @Override
+        public String getName()
+        {
+            return name;
+        }
+
+        @Override
+        public List<String> getStartDependencies()
+        {
+            return dependencies;
+        }
+
+        @Override
+        public boolean isStartDeferred()
+        {
+            return deferred;
+        }
+
+        @Override
+        public void start()
+        {
+            events.add("start " + name);
+            try
+            {
+                if (running == null)
+                    TimeUnit.MILLISECONDS.sleep(100);
+                else
+                {
+                    running.countDown();
+                    running.await(2, TimeUnit.SECONDS);
+                }
+            }
+            catch (InterruptedException ex)
+            {
+                // Ignore
+            }
+            events.add("done " + name);
+            started.add(name);
+        }
+
+        @Override
+        public AppInstance create()
+        {
+            return null;
+        }
+    }
+
+    @Test
+    public void testParallelStart()
+    {
+        final List<AppDescriptor> apps = new ArrayList<>();
+        for (int i=0; i<10; ++i)
+            apps.add(new TestApp("app" + i, false));
+        final ApplicationStarter starter = new ApplicationStarter(apps, List.of());
+        assertThat(starter.getStartupCount(), equalTo(10));
+
+        // Each of the first 5 applications waits until all 5 are running
+        running = new CountDownLatch(5);
+        final List<AppDescriptor> reported = new ArrayList<>();
+        starter.startApplications(5, reported::add);
+
+        // Sequential start would complete one application before starting the next
+        int first_done = 0;
+        while (events.get(first_done).startsWith("start"))
+            ++first_done;
+        assertThat(first_done, greaterThanOrEqualTo(5));
+        assertThat(started.size(), equalTo(10));
+        assertThat(reported.size(), equalTo(10));
+    }
+
+    @Test
+    public void testDependencies()
+    {
+        final List<AppDescriptor> apps = List.of(new TestApp("display", false, "pv", "unknown"),
+                                                 new TestApp("alarm", false, "pv", "display"),
+                                                 new TestApp("pv", false),
+                                                 // Cycle
+                                                 new TestApp("a", false, "b"),
+                                                 new TestApp("b", false, "a"));
+        final ApplicationStarter starter = new ApplicationStarter(apps, List.of());
+        starter.startApplications(4, app -> {});
+
+        assertThat(started.size(), equalTo(5));
+        assertThat(started.indexOf("display"), greaterThan(started.indexOf("pv")));
+        assertThat(started.indexOf("alarm"), greaterThan(started.indexOf("display")));
+    }
+
+    @Test
+    public void testDeferredStart()
+    {
+        final List<AppDescriptor> apps = List.of(new TestApp("heavy", true),
+                                                 new TestApp("configured", false),
+                                                 new TestApp("needs_lazy", false, "lazy"),
+                                                 new TestApp("lazy", true));
+        final ApplicationStarter starter = new ApplicationStarter(apps, List.of("configured"));
+        // Deferred applications are not counted, even if started as a dependency
+        assertThat(starter.getStartupCount(), equalTo(1));
+        final List<AppDescriptor> reported = new ArrayList<>();
+        starter.startApplications(4, reported::add);
+        assertThat(reported.size(), equalTo(1));
+
+        // 'lazy' was started as a dependency
+        assertThat(started, equalTo(List.of("lazy", "needs_lazy")));
+        assertThat(starter.isDeferred("heavy"), equalTo(true));
+        assertThat(starter.isDeferred("lazy"), equalTo(false));
+
+        // Start on first use, only once
+        starter.ensureStarted("heavy");
+        starter.ensureStarted("heavy");
+        assertThat(started, equalTo(List.of("lazy", "needs_lazy", "heavy")));
+        assertThat(starter.isDeferred("heavy"), equalTo(false));
+        assertThat(starter.isDeferred("configured"), equalTo(true));
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * @author Eric Berryman taken from shroffk
@@ -492,6 +493,24 @@ public interface LogClient {
         throw new LogbookException(new UnsupportedOperationException());
     }
 
+    /**
+     * Search for log entries, handling each entry as soon as it is available.
+     *
+     * <p>Clients that can parse the response incrementally pass each entry to the consumer
+     * while the rest of the result is still being received.
+     * By default, the consumer is called for each entry after the complete result has been received.
+     *
+     * @param map              Search parameters
+     * @param logEntryConsumer Called with each log entry of the result, in order
+     * @return The complete {@link SearchResult}
+     * @throws LogbookException on error
+     */
+    default SearchResult search(Map<String, String> map, Consumer<LogEntry> logEntryConsumer) throws LogbookException {
+        SearchResult result = search(map);
+        result.getLogs().forEach(logEntryConsumer);
+        return result;
+    }
+
     default void groupLogEntries(List<Long> logEntryIds) throws LogbookException{
         throw new LogbookException(new UnsupportedOperationException());
     }
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.phoebus.pv.ca;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+
+import org.epics.ca.client.CAChannel;
+import org.epics.ca.client.ClientChannelListener;
+import org.epics.ca.client.ClientChannelState;
+import org.epics.ca.client.MonitorListener;
+import org.epics.vtype.VType;
+import org.phoebus.pv.PV;
+
+/** Channel Access {@link PV} based on the NIO client in org.epics.ca
+ *
+ *  <p>Alternative to the {@link JCA_PV}.
+ *  Values are decoded from the received bytes directly into {@link VType}s.
+ *
+ *  <p>The name is used as the channel name.
+ *  Options appended to the name, like the <code>{"longString":true}</code>
+ *  of other Channel Access PVs, are not supported.
+ *  Writing a text to a DBF_CHAR array does write it as a long string,
+ *  same as the {@link JCA_PV}.
+ */
+@SuppressWarnings("nls")
+public class CA_PV extends PV implements ClientChannelListener, MonitorListener
+{
+    private final CAChannel channel;
+
+    /** Subscription, created once and kept across reconnects */
+    private final AutoCloseable subscription;
+
+    /** Has the channel been connected? */
+    private volatile boolean was_connected = false;
+
+    /** @param name Full name of the PV
+     *  @param base_name Base name without optional prefix
+     *  @throws Exception on error
+     */
+    public CA_PV(final String name, String base_name) throws Exception
+    {
+        super(name);
+        logger.fine("CA PV " + base_name);
+        // Read-only until connected and we learn otherwise
+        notifyListenersOfPermissions(true);
+        base_name = base_name.trim();
+        if (base_name.isEmpty())
+            throw new Exception("Empty PV name '" + name + "'");
+        // Channel names have no spaces, so anything after a space would be options
+        if (base_name.indexOf(' ') >= 0)
+            throw new Exception("PV name options are not supported by '" + CA_PVFactory.TYPE + "://' in '" + name + "'");
+        channel = CA_PVFactory.getClient().getChannel(base_name, this);
+        subscription = channel.subscribe(JCA_Preferences.getInstance().getMonitorMask(), this);
+    }
+
+    @Override
+    public void channelStateChanged(final CAChannel channel, final ClientChannelState state)
+    {
+        if (state == ClientChannelState.CONNECTED)
+        {
+            logger.log(Level.FINE, "{0} connected", getName());
+            was_connected = true;
+        }
+        else if (state == ClientChannelState.SEARCHING  &&  was_connected)
+        {
+            logger.fine(getName() + " disconnected");
+            notifyListenersOfDisconnect();
+        }
+    }
+
+    @Override
+    public void accessRightsChanged(final CAChannel channel, final boolean readable, final boolean writable)
+    {
+        notifyListenersOfPermissions(! writable);
+    }
+
+    @Override
+    public void handleMonitor(final CAChannel channel, final VType value)
+    {
+        logger.log(Level.FINE, "{0} = {1}", new Object[] { getName(), value });
+        notifyListenersOfValue(value);
+    }
+
+    @Override
+    public CompletableFuture<VType> asyncRead() throws Exception
+    {
+        if (! channel.isConnected())
+            throw new Exception(getName() + " is not connected");
+        return channel.read();
+    }
+
+    @Override
+    public void write(final Object new_value) throws Exception
+    {
+        channel.write(new_value, false);
+    }
+
+    @Override
+    public CompletableFuture<?> asyncWrite(final Object new_value) throws Exception
+    {
+        return channel.write(new_value, true);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void close()
+    {
+        try
+        {
+            subscription.close();
+        }
+        catch (Exception ex)
+        {
+            logger.log(Level.WARNING, "Cannot close subscription of " + getName(), ex);
+        }
+        channel.close();
+    }
+}
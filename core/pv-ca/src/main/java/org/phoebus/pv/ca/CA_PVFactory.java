@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.phoebus.pv.ca;
+
+import org.epics.ca.CASettings;
+import org.epics.ca.client.CAClient;
+import org.phoebus.pv.PV;
+import org.phoebus.pv.PVFactory;
+
+/** Factory for creating {@link CA_PV}s
+ *
+ *  <p>Uses the same address list, ports and timeout
+ *  preferences as the {@link JCA_PVFactory}.
+ */
+@SuppressWarnings("nls")
+public class CA_PVFactory implements PVFactory
+{
+    /** PV type implemented by this factory */
+    final public static String TYPE = "nca";
+
+    private static final String CAJ = "com.cosylab.epics.caj.CAJContext.";
+
+    private static CAClient client = null;
+
+    /** @return Shared {@link CAClient}
+     *  @throws Exception on error
+     */
+    static synchronized CAClient getClient() throws Exception
+    {
+        if (client == null)
+        {
+            // Preferences are installed as CAJ properties, unless jca.use_env
+            JCA_Preferences.getInstance();
+            CASettings.EPICS_CA_ADDR_LIST = System.getProperty(CAJ + "addr_list", CASettings.EPICS_CA_ADDR_LIST);
+            CASettings.EPICS_CA_AUTO_ADDR_LIST = Boolean.parseBoolean(System.getProperty(CAJ + "auto_addr_list",
+                                                                      Boolean.toString(CASettings.EPICS_CA_AUTO_ADDR_LIST)));
+            CASettings.EPICS_CA_SERVER_PORT = Integer.getInteger(CAJ + "server_port", CASettings.EPICS_CA_SERVER_PORT);
+            CASettings.EPICS_CA_REPEATER_PORT = Integer.getInteger(CAJ + "repeater_port", CASettings.EPICS_CA_REPEATER_PORT);
+            CASettings.EPICS_CA_MAX_ARRAY_BYTES = Integer.getInteger(CAJ + "max_array_bytes", CASettings.EPICS_CA_MAX_ARRAY_BYTES);
+            final String timeout = System.getProperty(CAJ + "connection_timeout");
+            if (timeout != null)
+                CASettings.EPICS_CA_CONN_TMO = (int) Math.round(Double.parseDouble(timeout));
+            client = new CAClient();
+        }
+        return client;
+    }
+
+    @Override
+    public String getType()
+    {
+        return TYPE;
+    }
+
+    @Override
+    public PV createPV(final String name, final String base_name) throws Exception
+    {
+        return new CA_PV(name, base_name);
+    }
+}
@@ -35,6 +35,7 @@ public class JCAContext implements ContextMessageListener, ContextExceptionListe
     final private JCALibrary jca = JCALibrary.getInstance();
     final private Context context;
     final private boolean is_var_array_supported;
+    final private JCAFlusher flusher;
 
     private JCAContext() throws Exception
     {
@@ -69,6 +70,10 @@ public class JCAContext implements ContextMessageListener, ContextExceptionListe
         else
             supported = JCA_Preferences.getInstance().isVarArraySupported().booleanValue();
         is_var_array_supported = supported;
+
+        flusher = new JCAFlusher(context,
+                                 JCA_Preferences.getInstance().getFlushDelay(),
+                                 JCA_Preferences.getInstance().getFlushBatchSize());
     }
 
     /** @return Singleton instance
@@ -87,6 +92,25 @@ public class JCAContext implements ContextMessageListener, ContextExceptionListe
         return context;
     }
 
+    /** Request a batched flush of the context
+     *
+     *  <p>To be called after creating a channel, subscribing etc.,
+     *  when sending the request may be delayed a little
+     *  to then send it together with similar requests.
+     *  Requests that should be sent right away
+     *  still call {@link Context#flushIO()}.
+     */
+    public void requestFlush()
+    {
+        flusher.requestFlush();
+    }
+
+    /** @return Flusher, for diagnostics */
+    public JCAFlusher getFlusher()
+    {
+        return flusher;
+    }
+
     /** Determine how many array elements to request
      *  @param channel Channel
      *  @return Array request count
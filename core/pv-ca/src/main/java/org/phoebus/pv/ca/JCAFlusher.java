@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.phoebus.pv.ca;
+
+import static org.phoebus.pv.PV.logger;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+import org.phoebus.framework.jobs.NamedThreadFactory;
+
+import gov.aps.jca.Context;
+
+/** Batched 'flush' of JCA requests
+ *
+ *  <p>Creating a channel, requesting its meta data and
+ *  subscribing each queue a request in the JCA context,
+ *  which is then sent by calling {@link Context#flushIO()}.
+ *  When a display or the archive engine creates thousands of
+ *  channels at once, flushing after every single request
+ *  results in thousands of tiny network packets.
+ *
+ *  <p>Requests that are not time critical call {@link #requestFlush()}.
+ *  The first such request schedules a flush after a short delay,
+ *  during which further requests accumulate.
+ *  If the number of pending requests reaches the batch size,
+ *  they are flushed right away.
+ */
+@SuppressWarnings("nls")
+public class JCAFlusher
+{
+    private final Context context;
+
+    /** Delay in millisec, 0 to flush each request right away */
+    private final long delay_ms;
+
+    /** Number of pending requests that triggers an immediate flush */
+    private final int batch_size;
+
+    private final ScheduledExecutorService timer;
+
+    /** Number of requests since the last flush */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /** Total number of requests and actual flushes, for diagnostics */
+    private final AtomicLong requests = new AtomicLong(), flushes = new AtomicLong();
+
+    /** @param context JCA context to flush
+     *  @param delay_ms Delay in millisec, 0 to flush each request right away
+     *  @param batch_size Number of pending requests that triggers an immediate flush
+     */
+    JCAFlusher(final Context context, final long delay_ms, final int batch_size)
+    {
+        this.context = context;
+        this.delay_ms = delay_ms;
+        this.batch_size = Math.max(1, batch_size);
+        timer = delay_ms > 0
+              ? Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("JCAFlush"))
+              : null;
+    }
+
+    /** Request a flush
+     *
+     *  <p>Call after queuing a request in the context
+     */
+    public void requestFlush()
+    {
+        requests.incrementAndGet();
+        if (timer == null)
+        {
+            flush();
+            return;
+        }
+        final int count = pending.incrementAndGet();
+        if (count == 1)
+            timer.schedule(this::flushPending, delay_ms, TimeUnit.MILLISECONDS);
+        else if (count >= batch_size)
+            flushPending();
+    }
+
+    /** Flush if there are pending requests */
+    private void flushPending()
+    {
+        // A scheduled flush may find that the batch
+        // has already been flushed because it was full
+        if (pending.getAndSet(0) > 0)
+            flush();
+    }
+
+    private void flush()
+    {
+        flushes.incrementAndGet();
+        try
+        {
+            context.flushIO();
+        }
+        catch (Exception ex)
+        {
+            logger.log(Level.WARNING, "Cannot flush JCA context", ex);
+        }
+    }
+
+    /** @return Total number of flush requests */
+    public long getRequestCount()
+    {
+        return requests.get();
+    }
+
+    /** @return Number of actual flushes */
+    public long getFlushCount()
+    {
+        return flushes.get();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "JCA flush: " + requests.get() + " requests in " + flushes.get() + " flushes";
+    }
+}
@@ -159,8 +159,9 @@ public class JCA_PV extends PV implements ConnectionListener, MonitorListener, A
         final short priority = is_large_array
                              ? base_priority
                              : (short) (base_priority + 1);
-        channel = JCAContext.getInstance().getContext().createChannel(base_name, this, priority);
-        channel.getContext().flushIO();
+        final JCAContext context = JCAContext.getInstance();
+        channel = context.getContext().createChannel(base_name, this, priority);
+        context.requestFlush();
     }
 
     /** JCA connection listener */
@@ -229,7 +230,7 @@ public class JCA_PV extends PV implements ConnectionListener, MonitorListener, A
             // (https://bugs.launchpad.net/epics-base/+bug/1678494).
             // so to optimize, only fetch one value element for the meta data.
             safe_channel.get(DBRHelper.getCtrlType(plain_dbr, safe_channel.getFieldType()), 1, meta_get_listener);
-            safe_channel.getContext().flushIO();
+            JCAContext.getInstance().requestFlush();
         }
         catch (Exception ex)
         {
@@ -304,7 +305,7 @@ public class JCA_PV extends PV implements ConnectionListener, MonitorListener, A
                 }
             }
             safe_channel.addAccessRightsListener(this);
-            safe_channel.getContext().flushIO();
+            JCAContext.getInstance().requestFlush();
         }
         catch (Exception ex)
         {
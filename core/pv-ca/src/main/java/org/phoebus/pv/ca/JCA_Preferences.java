@@ -42,6 +42,8 @@ public class JCA_Preferences
     private static final String DBE_PROPERTY_SUPPORTED = "dbe_property_supported";
     private static final String MONITOR_MASK = "monitor_mask";
     private static final String NAME_SERVERS = "name_servers";
+    private static final String FLUSH_DELAY = "flush_delay";
+    private static final String FLUSH_BATCH_SIZE = "flush_batch_size";
 
     private static final JCA_Preferences instance = new JCA_Preferences();
 
@@ -53,6 +55,10 @@ public class JCA_Preferences
 
     private int large_array_threshold = 100000;
 
+    private int flush_delay = 10;
+
+    private int flush_batch_size = 1000;
+
     /** Initialize */
     private JCA_Preferences()
     {
@@ -115,6 +121,9 @@ public class JCA_Preferences
 
         large_array_threshold = prefs.getInt(LARGE_ARRAY_THRESHOLD);
 
+        flush_delay = prefs.getInt(FLUSH_DELAY);
+        flush_batch_size = prefs.getInt(FLUSH_BATCH_SIZE);
+
         // Set the 'CAJ' and 'JNI' copies of the settings
         setSystemProperty("com.cosylab.epics.caj.CAJContext.use_pure_java", "true");
 
@@ -201,4 +210,16 @@ public class JCA_Preferences
     {
         return large_array_threshold;
     }
+
+    /** @return Delay in millisec for batching requests before flushing them, 0 to flush each request */
+    public int getFlushDelay()
+    {
+        return flush_delay;
+    }
+
+    /** @return Number of requests that triggers a flush before the delay expires */
+    public int getFlushBatchSize()
+    {
+        return flush_batch_size;
+    }
 }
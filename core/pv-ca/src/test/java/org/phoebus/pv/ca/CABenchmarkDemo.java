@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.phoebus.pv.ca;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.epics.ca.server.CAServer;
+import org.epics.ca.server.ServerPV;
+import org.epics.vtype.Alarm;
+import org.epics.vtype.Display;
+import org.epics.vtype.Time;
+import org.epics.vtype.VDouble;
+import org.phoebus.pv.PV;
+import org.phoebus.pv.PVPool;
+
+import io.reactivex.rxjava3.core.BackpressureStrategy;
+import io.reactivex.rxjava3.disposables.Disposable;
+
+/** Compare JCA based "ca://" PVs with NIO based "nca://" PVs
+ *
+ *  <p>Serves many PVs from a local {@link CAServer},
+ *  then measures how long it takes to connect all of them
+ *  and to receive a number of updates for each.
+ *  Run with <code>-Dchannels=...</code> to change the number of PVs.
+ */
+@SuppressWarnings("nls")
+public class CABenchmarkDemo
+{
+    private static final int CHANNELS = Integer.getInteger("channels", 50000), UPDATES = 10;
+
+    private static void measure(final String type, final List<ServerPV> served) throws Exception
+    {
+        final List<PV> pvs = new ArrayList<>();
+        final List<Disposable> subscriptions = new ArrayList<>();
+        final CountDownLatch connected = new CountDownLatch(CHANNELS);
+        final CountDownLatch received = new CountDownLatch(CHANNELS * (UPDATES + 1));
+        final long start = System.nanoTime();
+        for (ServerPV pv : served)
+        {
+            final PV client = PVPool.getPV(type + "://" + pv.getName());
+            pvs.add(client);
+            final boolean[] first = { true };
+            subscriptions.add(client.onValueEvent(BackpressureStrategy.BUFFER).subscribe(value ->
+            {
+                if (PV.isDisconnected(value))
+                    return;
+                if (first[0])
+                {
+                    first[0] = false;
+                    connected.countDown();
+                }
+                received.countDown();
+            }));
+        }
+        final boolean all_connected = connected.await(120, TimeUnit.SECONDS);
+        final long connect_ms = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        final long publish = System.nanoTime();
+        for (int u=0; u<UPDATES; ++u)
+        {
+            for (ServerPV pv : served)
+                pv.update(VDouble.of(u, Alarm.none(), Time.now(), Display.none()));
+            // Pace updates to avoid the server simply dropping them
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+        final boolean all_received = received.await(60, TimeUnit.SECONDS);
+        final long update_ms = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - publish);
+        // Received values minus the initial value of each connected PV
+        final long count = CHANNELS * (UPDATES + 1) - received.getCount() - (CHANNELS - connected.getCount());
+        System.out.format("%-4s: %6d ms to connect %d PVs (%s), %6d ms for %d updates (%s), %.0f updates/sec\n",
+                          type, connect_ms, CHANNELS, all_connected ? "all" : connected.getCount() + " missing",
+                          update_ms, CHANNELS * UPDATES, all_received ? "all received" : received.getCount() + " missing",
+                          1000.0 * count / update_ms);
+
+        for (Disposable subscription : subscriptions)
+            subscription.dispose();
+        for (PV pv : pvs)
+            PVPool.releasePV(pv);
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        final CAServer server = new CAServer(0);
+        final List<ServerPV> served = new ArrayList<>();
+        for (int i=0; i<CHANNELS; ++i)
+            served.add(server.createPV("bench:" + i, VDouble.of(i, Alarm.none(), Time.now(), Display.none())));
+
+        // Configure both JCA and NIO client for the local server
+        // by replacing the settings that the preferences installed
+        JCA_Preferences.getInstance();
+        System.setProperty("com.cosylab.epics.caj.CAJContext.addr_list", "127.0.0.1");
+        System.setProperty("com.cosylab.epics.caj.CAJContext.auto_addr_list", "false");
+        System.setProperty("com.cosylab.epics.caj.CAJContext.server_port", Integer.toString(server.getPort()));
+        System.out.println("Serving " + CHANNELS + " PVs on port " + server.getPort());
+
+        for (int run=0; run<2; ++run)
+        {
+            measure(JCA_PVFactory.TYPE, served);
+            measure(CA_PVFactory.TYPE, served);
+        }
+        server.close();
+    }
+}
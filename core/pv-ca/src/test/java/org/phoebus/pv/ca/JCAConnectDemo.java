@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.phoebus.pv.ca;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.epics.ca.server.CAServer;
+import org.epics.vtype.Alarm;
+import org.epics.vtype.Display;
+import org.epics.vtype.Time;
+import org.epics.vtype.VDouble;
+import org.phoebus.pv.PV;
+import org.phoebus.pv.PVPool;
+
+import io.reactivex.rxjava3.core.BackpressureStrategy;
+import io.reactivex.rxjava3.disposables.Disposable;
+
+/** Connect latency of many "ca://" PVs created at once
+ *
+ *  <p>Serves PVs from a local {@link CAServer},
+ *  creates all of them in one burst and
+ *  reports the distribution of the time from
+ *  creating each PV to receiving its first value,
+ *  together with the number of JCA flushes.
+ *
+ *  <p>Run with <code>-Dchannels=...</code> to change the number of PVs.
+ *  To compare with flushing each request,
+ *  set the <code>org.phoebus.pv.ca/flush_delay</code> preference to 0.
+ */
+@SuppressWarnings("nls")
+public class JCAConnectDemo
+{
+    private static final int CHANNELS = Integer.getInteger("channels", 10000);
+
+    private static long percentile(final long[] sorted, final double percent)
+    {
+        final int index = (int) Math.ceil(percent / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length-1, index))];
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        final CAServer server = new CAServer(0);
+        for (int i=0; i<CHANNELS; ++i)
+            server.createPV("connect:" + i, VDouble.of(i, Alarm.none(), Time.now(), Display.none()));
+
+        // Replace the address settings installed by the preferences
+        JCA_Preferences.getInstance();
+        System.setProperty("com.cosylab.epics.caj.CAJContext.addr_list", "127.0.0.1");
+        System.setProperty("com.cosylab.epics.caj.CAJContext.auto_addr_list", "false");
+        System.setProperty("com.cosylab.epics.caj.CAJContext.server_port", Integer.toString(server.getPort()));
+        System.out.println("Serving " + CHANNELS + " PVs on port " + server.getPort() +
+                           ", flush delay " + JCA_Preferences.getInstance().getFlushDelay() + " ms" +
+                           ", batch size " + JCA_Preferences.getInstance().getFlushBatchSize());
+        // Create context before starting the clock
+        JCAContext.getInstance();
+
+        final long[] latency = new long[CHANNELS];
+        final CountDownLatch connected = new CountDownLatch(CHANNELS);
+        final List<PV> pvs = new ArrayList<>();
+        final List<Disposable> subscriptions = new ArrayList<>();
+        final long start = System.nanoTime();
+        for (int i=0; i<CHANNELS; ++i)
+        {
+            final int index = i;
+            final long created = System.nanoTime();
+            final PV pv = PVPool.getPV("ca://connect:" + i);
+            pvs.add(pv);
+            subscriptions.add(pv.onValueEvent(BackpressureStrategy.LATEST).subscribe(value ->
+            {
+                if (! PV.isDisconnected(value)  &&  latency[index] == 0)
+                {
+                    latency[index] = System.nanoTime() - created;
+                    connected.countDown();
+                }
+            }));
+        }
+        final long created_ms = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        final boolean all = connected.await(120, TimeUnit.SECONDS);
+        final long total_ms = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        final long[] sorted = Arrays.stream(latency)
+                                    .filter(nanos -> nanos > 0)
+                                    .map(TimeUnit.NANOSECONDS::toMillis)
+                                    .sorted()
+                                    .toArray();
+        System.out.format("Created %d PVs in %d ms, %s connected after %d ms\n",
+                          CHANNELS, created_ms, all ? "all" : connected.getCount() + " not", total_ms);
+        if (sorted.length > 0)
+            System.out.format("Connect latency [ms]: min %d, 50%% %d, 90%% %d, 99%% %d, max %d\n",
+                              sorted[0], percentile(sorted, 50), percentile(sorted, 90),
+                              percentile(sorted, 99), sorted[sorted.length-1]);
+        System.out.println(JCAContext.getInstance().getFlusher());
+
+        for (Disposable subscription : subscriptions)
+            subscription.dispose();
+        for (PV pv : pvs)
+            PVPool.releasePV(pv);
+        JCAContext.getInstance().getContext().destroy();
+        server.close();
+    }
+}
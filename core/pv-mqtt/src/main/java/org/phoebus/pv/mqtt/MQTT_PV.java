@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 Oak Ridge National Laboratory.
+ * Copyright (c) 2018-2026 Oak Ridge National Laboratory.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,6 +22,11 @@ import org.epics.vtype.VType;
 import org.phoebus.pv.PV;
 
 /** MQTT Process Variable
+ *
+ *  <p>Messages are received as text or in the binary format of {@link VTypeToFromBytes}.
+ *  Values are published in binary format when the {@link MQTT_Preferences}
+ *  request it for the topic, otherwise as text.
+ *
  *  @author Megan Grodowitz
  */
 @SuppressWarnings("nls")
@@ -148,11 +153,15 @@ public class MQTT_PV extends PV
         if (new_value == null)
             throw new Exception(getName() + " got null");
 
-        final String pubMsg;
+        final byte[] pubMsg;
         try
         {
             final VType value = VTypeToFromString.convert(new_value, type, read());
-            pubMsg = VTypeToFromString.ToString(value);
+            // Tables are only supported as text
+            if (MQTT_Preferences.useBinary(topicStr)  &&  !(value instanceof VTable))
+                pubMsg = VTypeToFromBytes.toBytes(value);
+            else
+                pubMsg = VTypeToFromString.ToString(value).getBytes();
         }
         catch (Exception ex)
         {
@@ -189,14 +198,28 @@ public class MQTT_PV extends PV
      */
     public void messageArrived(String topic, MqttMessage msg) throws Exception
     {
-        final String new_value = msg.toString();
-
         if (!topic.equals(topicStr))
         {
             logger.log(Level.SEVERE, "Got message with topic " + topic + " != " + topicStr);
             throw new Exception(getName() + " topic mismatch");
         }
 
+        final byte[] payload = msg.getPayload();
+        if (VTypeToFromBytes.isBinary(payload))
+        {
+            try
+            {
+                notifyListenersOfValue(VTypeToFromBytes.fromBytes(payload));
+            }
+            catch (Exception ex)
+            {
+                notifyListenersOfDisconnect();
+                logger.log(Level.WARNING, "Could not decode binary message for " + getName(), ex);
+            }
+            return;
+        }
+
+        final String new_value = msg.toString();
         try
         {
             final VType value = VTypeToFromString.convert(new_value, type, read());
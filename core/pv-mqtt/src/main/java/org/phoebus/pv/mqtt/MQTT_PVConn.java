@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018-2020 Oak Ridge National Laboratory.
+ * Copyright (c) 2018-2026 Oak Ridge National Laboratory.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -9,7 +9,9 @@ package org.phoebus.pv.mqtt;
 
 import java.net.InetAddress;
 import java.net.NetworkInterface;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ThreadLocalRandom;
@@ -28,6 +30,12 @@ import org.phoebus.pv.PV;
 /** MQTT Topic subscription handler
  *
  *  <p>Dispatches MQTT data to {@link MQTT_PV}s
+ *
+ *  <p>Topics that match one of the {@link MQTT_Preferences#wildcard_subscriptions}
+ *  share one broker subscription for the topic filter.
+ *  The last message received for each of their topics is kept,
+ *  so a PV added for an already subscribed filter receives
+ *  its initial value without re-subscribing.
  *  @author Megan Grodowitz
  */
 @SuppressWarnings("nls")
@@ -39,6 +47,12 @@ public class MQTT_PVConn implements MqttCallback
     /** Mapping from topic to PVs */
     final ConcurrentHashMap<String, CopyOnWriteArrayList<MQTT_PV>> subscribers = new ConcurrentHashMap<>();
 
+    /** Mapping from subscribed wildcard topic filter to number of topics that use it */
+    private final Map<String, Integer> filter_topics = new HashMap<>();
+
+    /** Last message for topics received via wildcard topic filter */
+    private final ConcurrentHashMap<String, MqttMessage> last_messages = new ConcurrentHashMap<>();
+
     volatile private String brokerURL = MQTT_Preferences.mqtt_broker;
     volatile private String clientID;
 
@@ -59,8 +73,33 @@ public class MQTT_PVConn implements MqttCallback
     @Override
     public void messageArrived(String topic, MqttMessage msg) throws Exception
     {
-        for (MQTT_PV pv : subscribers.get(topic))
-            pv.messageArrived(topic, msg);
+        if (getWildcardFilter(topic) != null)
+            last_messages.put(topic, msg);
+        // Wildcard subscription may deliver topics without PV
+        final List<MQTT_PV> pvs = subscribers.get(topic);
+        if (pvs != null)
+            for (MQTT_PV pv : pvs)
+                pv.messageArrived(topic, msg);
+    }
+
+    /** @param topic Topic
+     *  @return Configured wildcard topic filter that matches the topic, or <code>null</code>
+     */
+    static String getWildcardFilter(final String topic)
+    {
+        for (String filter : MQTT_Preferences.wildcard_subscriptions)
+        {
+            try
+            {
+                if (MqttTopic.isMatched(filter, topic))
+                    return filter;
+            }
+            catch (IllegalArgumentException ex)
+            {
+                // Invalid filter, or topic that itself contains wildcards
+            }
+        }
+        return null;
     }
 
     /** @param topicStr Topic
@@ -76,20 +115,72 @@ public class MQTT_PVConn implements MqttCallback
             throw new Exception("MQTT subscribe failed: no broker connection");
         }
 
+        final String filter = getWildcardFilter(topicStr);
         final List<MQTT_PV> pvs = subscribers.computeIfAbsent(topicStr, topic ->
         {
-            int subQoS = 0;
-            try
+            if (filter == null)
+                subscribe(topicStr);
+            else
+                addFilterTopic(filter);
+            return new CopyOnWriteArrayList<>();
+        });
+        pvs.add(pv);
+
+        // Broker only sends retained message when subscribing,
+        // so for a filter that's already subscribed use the last known message
+        if (filter != null)
+        {
+            final MqttMessage last = last_messages.get(topicStr);
+            if (last != null)
+                pv.messageArrived(topicStr, last);
+        }
+    }
+
+    private void subscribe(final String topicStr)
+    {
+        int subQoS = 0;
+        try
+        {
+            myClient.subscribe(topicStr, subQoS);
+        }
+        catch (Exception ex)
+        {
+            PV.logger.log(Level.WARNING, "Cannot subscribe to MQTT topic '" + topicStr + "'", ex);
+        }
+    }
+
+    /** @param filter Wildcard topic filter used by one more topic */
+    private void addFilterTopic(final String filter)
+    {
+        synchronized (filter_topics)
+        {
+            final int count = filter_topics.getOrDefault(filter, 0);
+            if (count == 0)
             {
-                myClient.subscribe(topicStr, subQoS);
+                PV.logger.log(Level.FINE, () -> "Subscribing to MQTT topic filter '" + filter + "'");
+                subscribe(filter);
             }
-            catch (Exception ex)
+            filter_topics.put(filter, count + 1);
+        }
+    }
+
+    /** @param filter Wildcard topic filter used by one less topic
+     *  @throws Exception on error
+     */
+    private void removeFilterTopic(final String filter) throws Exception
+    {
+        synchronized (filter_topics)
+        {
+            final int count = filter_topics.getOrDefault(filter, 0) - 1;
+            if (count > 0)
             {
-                PV.logger.log(Level.WARNING, "Cannot subscribe to MQTT topic '" + topicStr + "'", ex);
+                filter_topics.put(filter, count);
+                return;
             }
-            return new CopyOnWriteArrayList<>();
-        });
-        pvs.add(pv);
+            filter_topics.remove(filter);
+            myClient.unsubscribe(filter);
+            last_messages.keySet().removeIf(topic -> filter.equals(getWildcardFilter(topic)));
+        }
     }
 
     /** @param topicStr Topic
@@ -117,7 +208,11 @@ public class MQTT_PVConn implements MqttCallback
         if (pvs.isEmpty())
         {
             subscribers.remove(topicStr);
-            myClient.unsubscribe(topicStr);
+            final String filter = getWildcardFilter(topicStr);
+            if (filter == null)
+                myClient.unsubscribe(topicStr);
+            else
+                removeFilterTopic(filter);
             if (subscribers.isEmpty())
                 disconnect();
         }
@@ -130,6 +225,17 @@ public class MQTT_PVConn implements MqttCallback
      *  @throws Exception on error
      */
     public void publishTopic(String topicStr, String pubMsg, int pubQoS, boolean retained) throws Exception
+    {
+        publishTopic(topicStr, pubMsg.getBytes(), pubQoS, retained);
+    }
+
+    /** @param topicStr Topic
+     *  @param payload Message payload
+     *  @param pubQoS QOS
+     *  @param retained Retain message?
+     *  @throws Exception on error
+     */
+    public void publishTopic(String topicStr, byte[] payload, int pubQoS, boolean retained) throws Exception
     {
         if (!connect())
         {
@@ -139,7 +245,7 @@ public class MQTT_PVConn implements MqttCallback
         }
 
         MqttTopic topic = myClient.getTopic(topicStr);
-        MqttMessage message = new MqttMessage(pubMsg.getBytes());
+        MqttMessage message = new MqttMessage(payload);
         message.setQos(pubQoS);
         message.setRetained(retained);
 
@@ -149,7 +255,6 @@ public class MQTT_PVConn implements MqttCallback
             token = topic.publish(message);
             // Wait until the message has been delivered to the broker
             token.waitForCompletion();
-            Thread.sleep(100);
         } catch (Exception ex) {
             throw new Exception("Failed to publish message to broker", ex);
         }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018-2020 Oak Ridge National Laboratory.
+ * Copyright (c) 2018-2026 Oak Ridge National Laboratory.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,8 +20,26 @@ public class MQTT_Preferences
     /** Broker URL */
     @Preference public static String mqtt_broker;
 
+    /** Publish all values with binary payload? */
+    @Preference public static boolean binary_payload;
+
+    /** Publish values with binary payload for topics that end in this suffix */
+    @Preference public static String binary_topic_suffix;
+
+    /** Topic filters that each use one broker subscription for all matching PVs */
+    @Preference public static String[] wildcard_subscriptions;
+
     static
     {
     	AnnotatedPreferences.initialize(MQTT_Preferences.class, "/pv_mqtt_preferences.properties");
     }
+
+    /** @param topic Topic
+     *  @return Should values for the topic be published with binary payload?
+     */
+    static boolean useBinary(final String topic)
+    {
+        return binary_payload  ||
+               (! binary_topic_suffix.isEmpty()  &&  topic.endsWith(binary_topic_suffix));
+    }
 }
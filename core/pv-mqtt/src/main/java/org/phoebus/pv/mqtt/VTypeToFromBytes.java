@@ -0,0 +1,255 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.pv.mqtt;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.epics.util.array.ArrayDouble;
+import org.epics.util.array.ListNumber;
+import org.epics.vtype.Alarm;
+import org.epics.vtype.AlarmSeverity;
+import org.epics.vtype.AlarmStatus;
+import org.epics.vtype.Display;
+import org.epics.vtype.EnumDisplay;
+import org.epics.vtype.Time;
+import org.epics.vtype.VBoolean;
+import org.epics.vtype.VDouble;
+import org.epics.vtype.VDoubleArray;
+import org.epics.vtype.VEnum;
+import org.epics.vtype.VFloat;
+import org.epics.vtype.VLong;
+import org.epics.vtype.VNumber;
+import org.epics.vtype.VNumberArray;
+import org.epics.vtype.VString;
+import org.epics.vtype.VStringArray;
+import org.epics.vtype.VType;
+
+/** Compact binary encoding of values
+ *
+ *  <p>Binary payload, big endian:
+ *  <pre>
+ *  byte   0, which is never the start of a text payload
+ *  byte   type: 1 double, 2 long, 3 string, 4 double array, 5 string array, 6 enum
+ *  long   seconds since epoch
+ *  int    nanoseconds
+ *  byte   alarm severity, index of AlarmSeverity
+ *  byte   alarm status, index of AlarmStatus
+ *  string alarm name
+ *  ...    value:
+ *         double, long, string,
+ *         int count followed by count doubles resp. strings,
+ *         int index, int count followed by count enum labels
+ *  </pre>
+ *  Strings are written as int byte count followed by UTF-8 bytes.
+ *
+ *  <p>Numbers are sent without formatting or parsing,
+ *  and unlike the text payload, time stamp and alarm are
+ *  sent by the publisher.
+ */
+@SuppressWarnings("nls")
+public class VTypeToFromBytes
+{
+    /** First byte of binary payload */
+    public static final byte MAGIC = 0;
+
+    private static final byte DOUBLE = 1,
+                              LONG = 2,
+                              STRING = 3,
+                              DOUBLE_ARRAY = 4,
+                              STRING_ARRAY = 5,
+                              ENUM = 6;
+
+    /** @param payload Message payload
+     *  @return <code>true</code> if payload uses the binary encoding
+     */
+    public static boolean isBinary(final byte[] payload)
+    {
+        return payload.length > 0  &&  payload[0] == MAGIC;
+    }
+
+    /** @param value Value to encode
+     *  @return Binary payload
+     *  @throws Exception on error
+     */
+    public static byte[] toBytes(final VType value) throws Exception
+    {
+        final Time time = Time.timeOf(value);
+        final Alarm alarm = Alarm.alarmOf(value);
+        final byte[] alarm_name = alarm.getName().getBytes(StandardCharsets.UTF_8);
+
+        // Determine type and size of value
+        final byte type;
+        int size;
+        final byte[][] strings;
+        if (value instanceof VDouble  ||  value instanceof VFloat)
+        {
+            type = DOUBLE;
+            size = Double.BYTES;
+            strings = null;
+        }
+        else if (value instanceof VNumber  ||  value instanceof VBoolean)
+        {
+            type = LONG;
+            size = Long.BYTES;
+            strings = null;
+        }
+        else if (value instanceof VString)
+        {
+            type = STRING;
+            strings = new byte[][] { ((VString) value).getValue().getBytes(StandardCharsets.UTF_8) };
+            size = Integer.BYTES + strings[0].length;
+        }
+        else if (value instanceof VNumberArray)
+        {
+            type = DOUBLE_ARRAY;
+            size = Integer.BYTES + ((VNumberArray) value).getData().size() * Double.BYTES;
+            strings = null;
+        }
+        else if (value instanceof VStringArray)
+        {
+            type = STRING_ARRAY;
+            strings = encode(((VStringArray) value).getData());
+            size = Integer.BYTES;
+            for (byte[] s : strings)
+                size += Integer.BYTES + s.length;
+        }
+        else if (value instanceof VEnum)
+        {
+            type = ENUM;
+            strings = encode(((VEnum) value).getDisplay().getChoices());
+            size = 2 * Integer.BYTES;
+            for (byte[] s : strings)
+                size += Integer.BYTES + s.length;
+        }
+        else
+            throw new Exception("Cannot encode " + value);
+
+        final ByteBuffer buffer = ByteBuffer.allocate(2 + Long.BYTES + Integer.BYTES + 2 +
+                                                      Integer.BYTES + alarm_name.length + size);
+        buffer.put(MAGIC);
+        buffer.put(type);
+        final Instant stamp = time == null ? Instant.now() : time.getTimestamp();
+        buffer.putLong(stamp.getEpochSecond());
+        buffer.putInt(stamp.getNano());
+        buffer.put((byte) alarm.getSeverity().ordinal());
+        buffer.put((byte) alarm.getStatus().ordinal());
+        buffer.putInt(alarm_name.length);
+        buffer.put(alarm_name);
+
+        switch (type)
+        {
+        case DOUBLE:
+            buffer.putDouble(((VNumber) value).getValue().doubleValue());
+            break;
+        case LONG:
+            if (value instanceof VBoolean)
+                buffer.putLong(((VBoolean) value).getValue() ? 1 : 0);
+            else
+                buffer.putLong(((VNumber) value).getValue().longValue());
+            break;
+        case DOUBLE_ARRAY:
+            final ListNumber data = ((VNumberArray) value).getData();
+            final int n = data.size();
+            buffer.putInt(n);
+            for (int i=0; i<n; ++i)
+                buffer.putDouble(data.getDouble(i));
+            break;
+        case ENUM:
+            buffer.putInt(((VEnum) value).getIndex());
+            // Fall through to add labels
+        case STRING_ARRAY:
+            buffer.putInt(strings.length);
+            // Fall through to add strings
+        default:
+            for (byte[] s : strings)
+            {
+                buffer.putInt(s.length);
+                buffer.put(s);
+            }
+        }
+        return buffer.array();
+    }
+
+    private static byte[][] encode(final List<String> strings)
+    {
+        final byte[][] encoded = new byte[strings.size()][];
+        for (int i=0; i<encoded.length; ++i)
+            encoded[i] = strings.get(i).getBytes(StandardCharsets.UTF_8);
+        return encoded;
+    }
+
+    /** @param payload Binary payload
+     *  @return Decoded value
+     *  @throws Exception on error
+     */
+    public static VType fromBytes(final byte[] payload) throws Exception
+    {
+        if (! isBinary(payload))
+            throw new Exception("Not a binary payload");
+        try
+        {
+            final ByteBuffer buffer = ByteBuffer.wrap(payload);
+            buffer.get();
+            final byte type = buffer.get();
+            final Time time = Time.of(Instant.ofEpochSecond(buffer.getLong(), buffer.getInt()));
+            final Alarm alarm = Alarm.of(AlarmSeverity.values()[buffer.get()],
+                                         AlarmStatus.values()[buffer.get()],
+                                         getString(buffer));
+            switch (type)
+            {
+            case DOUBLE:
+                return VDouble.of(buffer.getDouble(), alarm, time, Display.none());
+            case LONG:
+                return VLong.of(buffer.getLong(), alarm, time, Display.none());
+            case STRING:
+                return VString.of(getString(buffer), alarm, time);
+            case DOUBLE_ARRAY:
+            {
+                final double[] data = new double[buffer.getInt()];
+                buffer.asDoubleBuffer().get(data);
+                return VDoubleArray.of(ArrayDouble.of(data), alarm, time, Display.none());
+            }
+            case STRING_ARRAY:
+                return VStringArray.of(getStrings(buffer), alarm, time);
+            case ENUM:
+            {
+                final int index = buffer.getInt();
+                return VEnum.of(index, EnumDisplay.of(getStrings(buffer)), alarm, time);
+            }
+            default:
+                throw new Exception("Unknown binary payload type " + type);
+            }
+        }
+        catch (BufferUnderflowException | IndexOutOfBoundsException ex)
+        {
+            throw new Exception("Invalid binary payload", ex);
+        }
+    }
+
+    private static String getString(final ByteBuffer buffer)
+    {
+        final int length = buffer.getInt();
+        final String text = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return text;
+    }
+
+    private static List<String> getStrings(final ByteBuffer buffer)
+    {
+        final int n = buffer.getInt();
+        final List<String> strings = new ArrayList<>(n);
+        for (int i=0; i<n; ++i)
+            strings.add(getString(buffer));
+        return strings;
+    }
+}
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.pv.mqtt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.paho.client.mqttv3.MqttClient;
+import org.eclipse.paho.client.mqttv3.MqttMessage;
+import org.eclipse.paho.client.mqttv3.persist.MemoryPersistence;
+import org.epics.util.array.ArrayDouble;
+import org.epics.vtype.Alarm;
+import org.epics.vtype.Display;
+import org.epics.vtype.Time;
+import org.epics.vtype.VDoubleArray;
+import org.epics.vtype.VType;
+import org.phoebus.pv.PV;
+import org.phoebus.pv.PVPool;
+
+import io.reactivex.rxjava3.core.BackpressureStrategy;
+import io.reactivex.rxjava3.disposables.Disposable;
+
+/** Throughput of MQTT PVs
+ *
+ *  <p>Requires a broker at {@link MQTT_Preferences#mqtt_broker},
+ *  for example a local 'mosquitto'.
+ *
+ *  <p>Publishes updates for many topics as text and as binary payload,
+ *  and measures how long it takes until all PVs received them.
+ *  Run with <code>-Dorg.phoebus.pv.mqtt/wildcard_subscriptions=demo/#</code>
+ *  to compare one subscription per PV with one wildcard subscription.
+ */
+@SuppressWarnings("nls")
+public class MQTTThroughputDemo
+{
+    private static final int TOPICS = 1000, UPDATES = 20, ARRAY_SIZE = 100;
+
+    private static void measure(final MqttClient publisher, final boolean binary) throws Exception
+    {
+        final List<PV> pvs = new ArrayList<>();
+        final List<Disposable> subscriptions = new ArrayList<>();
+        final CountDownLatch received = new CountDownLatch(TOPICS * UPDATES);
+        final long start = System.nanoTime();
+        for (int t=0; t<TOPICS; ++t)
+        {
+            final PV pv = PVPool.getPV("mqtt://demo/sensor" + t + "<VDoubleArray>");
+            pvs.add(pv);
+            subscriptions.add(pv.onValueEvent(BackpressureStrategy.BUFFER).subscribe(value ->
+            {
+                if (value instanceof VDoubleArray)
+                    received.countDown();
+            }));
+        }
+        final long connect_ns = System.nanoTime() - start;
+
+        final double[] data = new double[ARRAY_SIZE];
+        final long publish = System.nanoTime();
+        for (int u=0; u<UPDATES; ++u)
+            for (int t=0; t<TOPICS; ++t)
+            {
+                for (int i=0; i<data.length; ++i)
+                    data[i] = t + u + i * 0.01;
+                final VType value = VDoubleArray.of(ArrayDouble.of(data), Alarm.none(), Time.now(), Display.none());
+                final byte[] payload = binary
+                    ? VTypeToFromBytes.toBytes(value)
+                    : VTypeToFromString.ToString(value).getBytes();
+                publisher.publish("demo/sensor" + t, new MqttMessage(payload));
+            }
+        final boolean all = received.await(60, TimeUnit.SECONDS);
+        final long ms = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - publish);
+        System.out.format("%-6s: %4d ms to subscribe %d PVs, %5d ms for %d updates (%s), %.0f updates/sec\n",
+                          binary ? "Binary" : "Text",
+                          TimeUnit.NANOSECONDS.toMillis(connect_ns), TOPICS,
+                          ms, TOPICS * UPDATES, all ? "all received" : received.getCount() + " missing",
+                          1000.0 * (TOPICS * UPDATES - received.getCount()) / ms);
+
+        for (Disposable subscription : subscriptions)
+            subscription.dispose();
+        for (PV pv : pvs)
+            PVPool.releasePV(pv);
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        System.out.println("Broker: " + MQTT_Preferences.mqtt_broker +
+                           ", wildcard subscriptions: " + String.join(", ", MQTT_Preferences.wildcard_subscriptions));
+        final MqttClient publisher = new MqttClient(MQTT_Preferences.mqtt_broker, "MQTTThroughputDemo", new MemoryPersistence());
+        publisher.connect();
+        for (int run=0; run<3; ++run)
+        {
+            measure(publisher, false);
+            measure(publisher, true);
+        }
+        publisher.disconnect();
+        publisher.close();
+    }
+}
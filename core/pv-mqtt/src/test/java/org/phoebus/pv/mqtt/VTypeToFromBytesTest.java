@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.pv.mqtt;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.epics.util.array.ArrayDouble;
+import org.epics.util.array.ArrayInteger;
+import org.epics.vtype.Alarm;
+import org.epics.vtype.AlarmSeverity;
+import org.epics.vtype.AlarmStatus;
+import org.epics.vtype.Display;
+import org.epics.vtype.EnumDisplay;
+import org.epics.vtype.Time;
+import org.epics.vtype.VDouble;
+import org.epics.vtype.VDoubleArray;
+import org.epics.vtype.VEnum;
+import org.epics.vtype.VInt;
+import org.epics.vtype.VIntArray;
+import org.epics.vtype.VLong;
+import org.epics.vtype.VNumber;
+import org.epics.vtype.VString;
+import org.epics.vtype.VStringArray;
+import org.epics.vtype.VType;
+import org.junit.jupiter.api.Test;
+
+/** JUnit test of the {@link VTypeToFromBytes}
+ *
+ *  <p>Checks that values survive the binary encoding
+ *  and prints the time for text and binary encoding.
+ */
+@SuppressWarnings("nls")
+public class VTypeToFromBytesTest
+{
+    private static final Time time = Time.of(Instant.ofEpochSecond(1700000000, 123456789));
+    private static final Alarm alarm = Alarm.of(AlarmSeverity.MINOR, AlarmStatus.DEVICE, "High");
+
+    private static VType roundTrip(final VType value) throws Exception
+    {
+        final byte[] payload = VTypeToFromBytes.toBytes(value);
+        assertThat(VTypeToFromBytes.isBinary(payload), equalTo(true));
+        final VType decoded = VTypeToFromBytes.fromBytes(payload);
+        assertThat(Time.timeOf(decoded), equalTo(time));
+        assertThat(Alarm.alarmOf(decoded), equalTo(alarm));
+        return decoded;
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception
+    {
+        VType value = roundTrip(VDouble.of(3.14, alarm, time, Display.none()));
+        assertThat(value, instanceOf(VDouble.class));
+        assertThat(((VNumber) value).getValue(), equalTo(3.14));
+
+        value = roundTrip(VInt.of(-42, alarm, time, Display.none()));
+        assertThat(value, instanceOf(VLong.class));
+        assertThat(((VNumber) value).getValue(), equalTo(-42L));
+
+        value = roundTrip(VString.of("Grüße", alarm, time));
+        assertThat(((VString) value).getValue(), equalTo("Grüße"));
+
+        value = roundTrip(VDoubleArray.of(ArrayDouble.of(1, 2.5, -3), alarm, time, Display.none()));
+        assertThat(((VDoubleArray) value).getData(), equalTo(ArrayDouble.of(1, 2.5, -3)));
+
+        value = roundTrip(VIntArray.of(ArrayInteger.of(1, 2, 3), alarm, time, Display.none()));
+        assertThat(((VDoubleArray) value).getData(), equalTo(ArrayDouble.of(1, 2, 3)));
+
+        value = roundTrip(VStringArray.of(List.of("a", "", "c"), alarm, time));
+        assertThat(((VStringArray) value).getData(), equalTo(List.of("a", "", "c")));
+
+        value = roundTrip(VEnum.of(1, EnumDisplay.of("Off", "On"), alarm, time));
+        assertThat(((VEnum) value).getValue(), equalTo("On"));
+        assertThat(((VEnum) value).getDisplay().getChoices(), equalTo(List.of("Off", "On")));
+    }
+
+    @Test
+    public void testTextIsNotBinary() throws Exception
+    {
+        assertThat(VTypeToFromBytes.isBinary("3.14".getBytes()), equalTo(false));
+        assertThat(VTypeToFromBytes.isBinary(new byte[0]), equalTo(false));
+        assertThrows(Exception.class, () -> VTypeToFromBytes.fromBytes("3.14".getBytes()));
+
+        // Truncated payload
+        final byte[] payload = VTypeToFromBytes.toBytes(VDouble.of(3.14, alarm, time, Display.none()));
+        final byte[] truncated = new byte[payload.length - 3];
+        System.arraycopy(payload, 0, truncated, 0, truncated.length);
+        assertThrows(Exception.class, () -> VTypeToFromBytes.fromBytes(truncated));
+    }
+
+    @Test
+    public void testEncodingTime() throws Exception
+    {
+        final double[] data = new double[1000];
+        for (int i=0; i<data.length; ++i)
+            data[i] = Math.sin(i * 0.01);
+        final VType array = VDoubleArray.of(ArrayDouble.of(data), alarm, time, Display.none());
+        final int runs = 2000;
+        for (int pass=0; pass<3; ++pass)
+        {
+            long start = System.nanoTime();
+            int text_bytes = 0;
+            for (int i=0; i<runs; ++i)
+            {
+                final byte[] payload = VTypeToFromString.ToString(array).getBytes();
+                text_bytes = payload.length;
+                VTypeToFromString.FromStringVDoubleArray(new String(payload));
+            }
+            final long text_ns = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            int binary_bytes = 0;
+            for (int i=0; i<runs; ++i)
+            {
+                final byte[] payload = VTypeToFromBytes.toBytes(array);
+                binary_bytes = payload.length;
+                VTypeToFromBytes.fromBytes(payload);
+            }
+            final long binary_ns = System.nanoTime() - start;
+
+            System.out.format("Text: %5d ms, %6d bytes; binary: %5d ms, %6d bytes for %d round trips of %d element array\n",
+                              TimeUnit.NANOSECONDS.toMillis(text_ns), text_bytes,
+                              TimeUnit.NANOSECONDS.toMillis(binary_ns), binary_bytes,
+                              runs, data.length);
+        }
+    }
+}
@@ -12,7 +12,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
 import org.csstudio.apputil.formula.Formula;
@@ -23,6 +23,7 @@ import org.epics.vtype.Time;
 import org.epics.vtype.VDouble;
 import org.epics.vtype.VString;
 import org.epics.vtype.VType;
+import org.phoebus.framework.jobs.NamedThreadFactory;
 import org.phoebus.pv.PV;
 
 /** Formula-based {@link PV}
@@ -31,18 +32,20 @@ import org.phoebus.pv.PV;
 @SuppressWarnings("nls")
 public class FormulaPV extends PV
 {
-    /** Evaluate formulas on one thread
-     *  to decouple and throttle input updates
+    /** Evaluate formulas on a thread pool
+     *  to decouple and throttle input updates.
+     *
+     *  <p>Different formulas are evaluated in parallel,
+     *  each formula is only evaluated by one thread at a time.
      */
-    private static final ExecutorService update_thread = Executors.newSingleThreadExecutor(target ->
-    {
-        final Thread thread = new Thread(target, "FormulaPV");
-        thread.setDaemon(true);
-        return thread;
-    });
+    private static final ExecutorService update_threads = Executors.newFixedThreadPool(
+        FormulaPVPreferences.update_threads > 0
+        ? FormulaPVPreferences.update_threads
+        : Runtime.getRuntime().availableProcessors(),
+        new NamedThreadFactory("FormulaPV"));
 
-    /** Is there already a pending update? */
-    private AtomicBoolean pending = new AtomicBoolean();
+    /** Number of updates requested since last evaluation started, 0 when idle */
+    private final AtomicInteger pending = new AtomicInteger();
 
     private Formula formula;
     private volatile FormulaInput[] inputs;
@@ -68,7 +71,7 @@ public class FormulaPV extends PV
             }
 
             // Set initial value
-            doUpdate();
+            evaluate();
         }
         catch (Exception ex)
         {
@@ -96,16 +99,38 @@ public class FormulaPV extends PV
     /** Schedule evaluation of formula */
     void update()
     {
-        if (pending.getAndSet(true))
+        if (pending.getAndIncrement() > 0)
             logger.log(Level.FINE, () -> getName() + " skips recalc on " + Thread.currentThread());
         else
-            update_thread.submit(this::doUpdate);
+            update_threads.submit(this::doUpdate);
     }
 
-    /** Compute updated value of formula and notify listeners */
+    /** Evaluate until there are no more pending updates */
     private void doUpdate()
     {
-        pending.set(false);
+        boolean done = false;
+        try
+        {
+            int requests;
+            do
+            {
+                requests = pending.get();
+                evaluate();
+            }
+            while (! pending.compareAndSet(requests, 0));
+            done = true;
+        }
+        finally
+        {
+            // Allow the next update to be scheduled even if evaluation failed
+            if (! done)
+                pending.set(0);
+        }
+    }
+
+    /** Compute updated value of formula and notify listeners */
+    private void evaluate()
+    {
         logger.log(Level.FINE, () -> getName() + " recalc on " + Thread.currentThread());
 
         // Simulate slow evaluation
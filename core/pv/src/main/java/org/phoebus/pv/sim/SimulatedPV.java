@@ -7,12 +7,12 @@
  ******************************************************************************/
 package org.phoebus.pv.sim;
 
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
+import org.phoebus.framework.jobs.TimerWheel;
 import org.phoebus.pv.PV;
 
 /** Base for simulated PVs
@@ -23,12 +23,7 @@ import org.phoebus.pv.PV;
 abstract public class SimulatedPV extends PV
 {
     /** Timer for periodic updates */
-    private final static ScheduledExecutorService executor = Executors.newScheduledThreadPool(1, target ->
-    {
-        final Thread thread = new Thread(target, "SimPV");
-        thread.setDaemon(true);
-        return thread;
-    });
+    private final static ScheduledExecutorService executor = TimerWheel.getShared();
 
     /** Task that was submitted for periodic updates */
     private ScheduledFuture<?> task;
@@ -43,6 +43,10 @@ public class Preferences
     @Preference public static int ui_monitor_period;
     /** hide_spi_menu */
     @Preference public static String[] hide_spi_menu;
+    /** startup_threads */
+    @Preference public static int startup_threads;
+    /** deferred_apps */
+    @Preference public static String[] deferred_apps;
     /** status_show_user */
     @Preference public static boolean status_show_user;
     /** default_save_path */
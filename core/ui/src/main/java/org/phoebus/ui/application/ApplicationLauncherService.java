@@ -66,6 +66,7 @@ public class ApplicationLauncherService {
         if (application == null)
             return false;
         logger.log(Level.INFO, "Opening " + resource + " with " + application.getName());
+        ApplicationService.ensureStarted(application);
         application.create(resource);
         return true;
     }
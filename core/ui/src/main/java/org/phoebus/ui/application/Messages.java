@@ -64,6 +64,7 @@ public class Messages
     public static String HelpAboutOpenLocation;
     public static String HelpAboutPID;
     public static String HelpAboutPrefs;
+    public static String HelpAboutStartup;
     public static String HelpAboutSysFea;
     public static String HelpAboutTitle;
     public static String HelpAboutUser;
@@ -1839,25 +1839,23 @@ public class PhoebusApplication extends Application {
      * @param monitor
      */
     private void startApplications(final JobMonitor monitor) {
-        final Collection<AppDescriptor> apps = ApplicationService.getApplications();
-        monitor.beginTask(Messages.MonitorTaskApps, apps.size());
-        for (AppDescriptor app : apps) {
+        final int threads = Preferences.startup_threads > 0
+                          ? Preferences.startup_threads
+                          : Runtime.getRuntime().availableProcessors();
+        ApplicationService.startApplications(threads, List.of(Preferences.deferred_apps),
+                                             count -> monitor.beginTask(Messages.MonitorTaskApps, count),
+                                             app ->
+        {
             monitor.updateTaskName(Messages.MonitorTaskStarting + app.getDisplayName());
-            try {
-                app.start();
-            } catch (Throwable ex) {
-                logger.log(Level.SEVERE, app.getDisplayName() + " startup failed", ex);
-            }
             monitor.worked(1);
-        }
+        });
     }
 
     /**
      * Stop all applications
      */
     private void stopApplications() {
-        for (AppDescriptor app : ApplicationService.getApplications())
-            app.stop();
+        ApplicationService.stopApplications();
     }
 
     @Override
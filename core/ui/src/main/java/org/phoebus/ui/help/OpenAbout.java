@@ -170,6 +170,12 @@ public class OpenAbout implements MenuEntry
         area.setEditable(false);
         final Tab apps = new Tab(Messages.HelpAboutAppFea, area);
 
+        // Application startup timeline
+        area = new TextArea(ApplicationService.getStartupTimeline());
+        area.setEditable(false);
+        area.setStyle("-fx-font-family: monospace;");
+        final Tab startup = new Tab(Messages.HelpAboutStartup, area);
+
         // Environment variables
         final StringBuilder props_env = new StringBuilder();
         System.getenv()
@@ -217,7 +223,7 @@ public class OpenAbout implements MenuEntry
 
         final Tab prefs = new Tab(Messages.HelpAboutPrefs, webView);
 
-        final TabPane tabs = new TabPane(apps, envs, props, prefs);
+        final TabPane tabs = new TabPane(apps, startup, envs, props, prefs);
         return tabs;
     }
 }
@@ -10,6 +10,7 @@ package org.phoebus.ui.javafx;
 import static org.phoebus.ui.javafx.JFXUtil.logger;
 import static org.phoebus.ui.javafx.UpdateThrottle.TIMER;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -19,7 +20,9 @@ import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 
+import org.epics.vtype.VTable;
 import org.phoebus.ui.Messages;
+import org.phoebus.ui.vtype.VTableHelper;
 
 import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
@@ -67,6 +70,11 @@ import javafx.util.StringConverter;
  *
  *  <p>Data can be changed at runtime, columns will
  *  then be re-created.
+ *
+ *  <p>Data may also be provided as a {@link VTable}.
+ *  Rows then read their cells from the table's columns
+ *  only when the table view shows them,
+ *  and updates only refresh rows that changed.
 
  *  <p>User can edit the cells.
  *  While inefficient, the table creates a deep copy
@@ -255,6 +263,66 @@ public class StringTable extends BorderPane
         return new ObservableCellValue("<col " + col_index + "?>");
     };
 
+    /** Table row that reads its cells from the current {@link #vtable}
+     *
+     *  <p>Cells are created when the table view requests them,
+     *  i.e. when the row is visible, and then updated when the row changes.
+     */
+    private class VTableRow extends AbstractList<ObservableCellValue>
+    {
+        /** Row index in the VTable */
+        private final int row;
+
+        /** Cells that have been requested, <code>null</code> for others */
+        private final ObservableCellValue[] cells;
+
+        VTableRow(final int row, final int columns)
+        {
+            this.row = row;
+            cells = new ObservableCellValue[columns];
+        }
+
+        @Override
+        public int size()
+        {
+            return cells.length;
+        }
+
+        @Override
+        public ObservableCellValue get(final int col)
+        {
+            ObservableCellValue cell = cells[col];
+            if (cell == null)
+                cells[col] = cell = new ObservableCellValue(VTableHelper.getCellText(vtable, row, col));
+            return cell;
+        }
+
+        /** Update cells that have been requested from current {@link #vtable} */
+        void update()
+        {
+            for (int col=0; col<cells.length; ++col)
+                if (cells[col] != null)
+                    cells[col].setText(VTableHelper.getCellText(vtable, row, col));
+        }
+
+        /** @param col Column
+         *  @param color Color, <code>null</code> for default
+         */
+        void setColor(final int col, final Color color)
+        {
+            // Cells that have not been requested, yet, use the default color
+            if (color == null  &&  cells[col] == null)
+                return;
+            get(col).setColor(color);
+        }
+    }
+
+    /** Most recent data when provided as {@link VTable}, otherwise <code>null</code> */
+    private VTable vtable = null;
+
+    /** Has user edited the data since the last {@link VTable} was set? */
+    private boolean edited = false;
+
     private Color background_color = Color.WHITE;
 
     private Color text_color = Color.BLACK;
@@ -696,6 +764,7 @@ public class StringTable extends BorderPane
 
         // Start over with no data, since table columns changed
         data.clear();
+        vtable = null;
         if (table.isEditable())
             data.add(MAGIC_LAST_ROW);
         table.setItems(data);
@@ -871,23 +940,35 @@ public class StringTable extends BorderPane
      */
     public void setData(final List<List<String>> new_data)
     {
+        // Rows that read from a previous VTable cannot be updated
+        if (vtable != null)
+        {
+            data.removeIf(row -> row instanceof VTableRow);
+            vtable = null;
+        }
+
         // Try to update existing cell texts for common rows
         final int rows = getDataRowCount();
         final int both = Math.min(rows, new_data.size());
         for (int r=0; r<both; ++r)
             copyRow(r, new_data.get(r), data.get(r));
 
-        // Add new rows
-        for (int r=rows; r<new_data.size(); ++r)
+        // Add new rows, all at once to trigger just one table update
+        if (new_data.size() > rows)
         {
-            final List<ObservableCellValue> row = createEmptyRow();
-            copyRow(r, new_data.get(r), row);
-            data.add(r, row);
+            final List<List<ObservableCellValue>> new_rows = new ArrayList<>(new_data.size() - rows);
+            for (int r=rows; r<new_data.size(); ++r)
+            {
+                final List<ObservableCellValue> row = createEmptyRow();
+                copyRow(r, new_data.get(r), row);
+                new_rows.add(row);
+            }
+            data.addAll(rows, new_rows);
         }
 
         // Delete superfluous rows
-        for (int r=rows-1; r>=new_data.size(); --r)
-            data.remove(r);
+        if (new_data.size() < rows)
+            data.remove(new_data.size(), rows);
 
         if (table.isEditable()  &&  data.size() <= new_data.size())
             data.add(MAGIC_LAST_ROW);
@@ -916,6 +997,93 @@ public class StringTable extends BorderPane
             dst.get(c).setText("");
     }
 
+    /** Set or update data from a {@link VTable}
+     *
+     *  <p>Cells are read from the table when they are shown.
+     *  Compared to the previous table,
+     *  only rows that changed are updated.
+     *
+     *  @param new_table Table with one column per header
+     */
+    public void setData(final VTable new_table)
+    {
+        final long start = System.nanoTime();
+        final VTable old_table = vtable;
+        vtable = new_table;
+
+        final int cols = getColumnCount();
+        if (new_table.getColumnCount() != cols)
+            logger.log(Level.WARNING, "Table needs " + cols + " columns " + getHeaders() +
+                       " but received " + new_table.getColumnCount());
+
+        final int rows = getDataRowCount();
+        final int new_rows = new_table.getRowCount();
+        int changed = 0;
+        if (old_table == null  ||  edited)
+        {   // Replace all rows
+            final List<List<ObservableCellValue>> new_data = new ArrayList<>(new_rows + 1);
+            for (int r=0; r<new_rows; ++r)
+                new_data.add(new VTableRow(r, cols));
+            if (table.isEditable())
+                new_data.add(MAGIC_LAST_ROW);
+            data.setAll(new_data);
+            edited = false;
+            changed = new_rows;
+        }
+        else
+        {   // Update rows that changed
+            final int both = Math.min(rows, new_rows);
+            for (int r=0; r<both; ++r)
+            {
+                final List<ObservableCellValue> row = data.get(r);
+                if (row instanceof VTableRow vrow  &&  vrow.row == r  &&  vrow.size() == cols)
+                {
+                    if (VTableHelper.isRowEqual(old_table, new_table, r))
+                        continue;
+                    vrow.update();
+                }
+                else
+                    data.set(r, new VTableRow(r, cols));
+                ++changed;
+            }
+
+            // Add new rows, all at once to trigger just one table update
+            if (new_rows > rows)
+            {
+                final List<List<ObservableCellValue>> added = new ArrayList<>(new_rows - rows);
+                for (int r=rows; r<new_rows; ++r)
+                    added.add(new VTableRow(r, cols));
+                data.addAll(rows, added);
+            }
+
+            // Delete superfluous rows
+            if (new_rows < rows)
+                data.remove(new_rows, rows);
+
+            if (table.isEditable()  &&  (data.isEmpty()  ||  data.get(data.size()-1) != MAGIC_LAST_ROW))
+                data.add(MAGIC_LAST_ROW);
+        }
+
+        if (logger.isLoggable(Level.FINE))
+            logger.log(Level.FINE, String.format("Table update with %d rows, %d changed, %d added, %d removed: %.3f ms",
+                                                 new_rows, changed, Math.max(0, new_rows - rows), Math.max(0, rows - new_rows),
+                                                 (System.nanoTime() - start) / 1e6));
+    }
+
+    /** Replace rows that read from the {@link VTable} with plain rows,
+     *  for example before changing the columns
+     */
+    private void detachRows()
+    {
+        if (vtable == null)
+            return;
+        final List<List<ObservableCellValue>> rows = new ArrayList<>(data.size());
+        for (List<ObservableCellValue> row : data)
+            rows.add(row instanceof VTableRow ? new ArrayList<>(row) : row);
+        data.setAll(rows);
+        vtable = null;
+    }
+
     /** Get complete table content
      *  @return List of rows, where each row contains the list of cell strings
      */
@@ -967,6 +1135,8 @@ public class StringTable extends BorderPane
             if (row_data == MAGIC_LAST_ROW)
                 throw new IndexOutOfBoundsException("Magic Last Row");
             row_data.get(col).setText(value);
+            // Next VTable must replace the cell even if its row is unchanged
+            edited = true;
         }
         catch (IndexOutOfBoundsException ex)
         {
@@ -1017,7 +1187,10 @@ public class StringTable extends BorderPane
             final List<ObservableCellValue> row_data = data.get(row);
             if (row_data == MAGIC_LAST_ROW)
                 throw new IndexOutOfBoundsException("Magic Last Row");
-            row_data.get(col).setColor(color);
+            if (row_data instanceof VTableRow vrow)
+                vrow.setColor(col, color);
+            else
+                row_data.get(col).setColor(color);
         }
         catch (IndexOutOfBoundsException ex)
         {
@@ -1187,6 +1360,7 @@ public class StringTable extends BorderPane
         if (column < 0)
             column = table.getColumns().size();
 
+        detachRows();
         // Cannot update data and table concurrently, so detach data from table:
         table.setItems(NO_DATA);
         // Add new column
@@ -1224,6 +1398,7 @@ public class StringTable extends BorderPane
     private void moveColumn(final int column, final int target)
     {
         int row = table.getSelectionModel().getSelectedIndex();
+        detachRows();
 
         // Some table columns have special cell factories to
         // represent boolean column data as a checkbox etc.
@@ -1261,6 +1436,7 @@ public class StringTable extends BorderPane
         final int column = getSelectedColumn();
         if (column < 0)
             return;
+        detachRows();
         // Detach data from table
         table.setItems(NO_DATA);
         // Update table columns
@@ -1281,6 +1457,7 @@ public class StringTable extends BorderPane
 
     private void fireTableChanged()
     {
+        edited = true;
         final StringTableListener copy = listener;
         if (copy != null)
             copy.tableChanged(this);
@@ -1288,6 +1465,7 @@ public class StringTable extends BorderPane
 
     private void fireDataChanged()
     {
+        edited = true;
         final StringTableListener copy = listener;
         if (copy != null)
             copy.dataChanged(this);
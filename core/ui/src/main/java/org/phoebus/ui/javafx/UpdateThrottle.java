@@ -9,14 +9,13 @@ package org.phoebus.ui.javafx;
 
 import static org.phoebus.ui.application.PhoebusApplication.logger;
 
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 
-import org.phoebus.framework.jobs.NamedThreadFactory;
+import org.phoebus.framework.jobs.TimerWheel;
 
 /** Throttle for updates.
  *
@@ -35,7 +34,7 @@ import org.phoebus.framework.jobs.NamedThreadFactory;
 public class UpdateThrottle
 {
     /** Common 'throttle' executor */
-    public static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("UpdateThrottle"));
+    public static final ScheduledExecutorService TIMER = TimerWheel.getShared();
 
     /** Actual timer used by this throttle */
     private final ScheduledExecutorService timer;
@@ -52,8 +51,8 @@ public class UpdateThrottle
     /** Are updates currently suppressed? */
     private final AtomicBoolean dormant = new AtomicBoolean();
 
-    /** Scheduled wakeUp call when no longer dormant */
-    private ScheduledFuture<?> scheduled_wakeup;
+    /** Scheduled wakeUp call when no longer dormant, set on a timer thread */
+    private volatile ScheduledFuture<?> scheduled_wakeup;
 
     /** Any pending triggers while dormant */
     private final AtomicBoolean pending_trigger = new AtomicBoolean();
@@ -85,17 +84,10 @@ public class UpdateThrottle
         {   // Perform the update
             try
             {
-                // Wait a little to allow more updates to accumulate
-                Thread.sleep(accumulate_ms);
                 pending_trigger.set(false);
                 if (! disposed)
                     update.run();
             }
-            catch (InterruptedException ex)
-            {
-                // Shutdown, don't schedule another wakeup
-                return;
-            }
             catch (Throwable ex)
             {
                 logger.log(Level.WARNING, "Update failed", ex);
@@ -136,8 +128,9 @@ public class UpdateThrottle
         }
         else
         {
-            // In idle period, react to trigger, but on timer thread
-            timer.execute(update_then_wake);
+            // In idle period, react to trigger, but on timer thread,
+            // after waiting a little to allow more updates to accumulate
+            timer.schedule(update_then_wake, accumulate_ms, TimeUnit.MILLISECONDS);
         }
     }
 
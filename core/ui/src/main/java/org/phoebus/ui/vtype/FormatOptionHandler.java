@@ -8,22 +8,14 @@
 package org.phoebus.ui.vtype;
 
 import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.epics.util.array.ListNumber;
-import org.epics.util.number.UByte;
-import org.epics.util.number.UInteger;
-import org.epics.util.number.ULong;
-import org.epics.util.number.UShort;
-import org.epics.vtype.Display;
 import org.epics.vtype.DisplayProvider;
 import org.epics.vtype.VBoolean;
 import org.epics.vtype.VDouble;
@@ -48,15 +40,6 @@ public class FormatOptionHandler
     /** Neutral locale */
     static final Locale LOCALE = Locale.ROOT;
 
-    /** Use 'E' for exponential notation, not 'x10' */
-    private static final DecimalFormatSymbols SYMBOLS = DecimalFormatSymbols.getInstance(LOCALE);
-
-    /** Cached formats for DECIMAL by precision */
-    private final static ConcurrentHashMap<Integer, NumberFormat> decimal_formats = new ConcurrentHashMap<>();
-
-    /** Cached formats for EXPONENTIAL by precision */
-    private final static ConcurrentHashMap<Integer, NumberFormat> exponential_formats = new ConcurrentHashMap<>();
-
     /** Return the actual number of fraction digits.
      *
      *  @param value Value to format.
@@ -104,11 +87,9 @@ public class FormatOptionHandler
         // so there the order of checking doesn't much matter.
         if (value instanceof VNumber)
         {
-            final VNumber number = (VNumber) value;
-            final String text = formatNumber(number.getValue(), number.getDisplay(), option, precision);
-            if (show_units  &&  !number.getDisplay().getUnit().isEmpty())
-                return text + " " + number.getDisplay().getUnit();
-            return text;
+            final StringBuilder buf = new StringBuilder(24);
+            formatNumber(buf, (VNumber) value, option, precision, show_units);
+            return buf.toString();
         }
         else if (value instanceof VString)
             return ((VString)value).getValue();
@@ -121,22 +102,8 @@ public class FormatOptionHandler
             final VNumberArray array = (VNumberArray) value;
             if (option == FormatOption.STRING)
                 return LongString.fromArray(array);
-            final ListNumber data = array.getData();
-            if (data.size() <= 0)
-                return "[]";
-            final StringBuilder buf = new StringBuilder("[");
-            buf.append(formatNumber(data.getDouble(0), array.getDisplay(), option, precision));
-            final int show = Math.min(data.size(), Preferences.max_array_formatting);
-            for (int i=1; i<show; ++i)
-            {
-                buf.append(", ");
-                buf.append(formatNumber(data.getDouble(i), array.getDisplay(), option, precision));
-            }
-            if (data.size() > show)
-                buf.append(", ...");
-            buf.append("]");
-            if (show_units  &&  !array.getDisplay().getUnit().isEmpty())
-                buf.append(" ").append(array.getDisplay().getUnit());
+            final StringBuilder buf = new StringBuilder();
+            formatArray(buf, array, option, precision, show_units);
             return buf.toString();
         }
         else if (value instanceof VEnumArray)
@@ -165,136 +132,116 @@ public class FormatOptionHandler
         return "<" + value.getClass().getName() + ">";
     }
 
-
-    private static NumberFormat getDecimalFormat(final int precision)
+    /** Format value into a buffer
+     *
+     *  <p>Numbers and numeric arrays are appended to the buffer
+     *  without creating a new string for each value,
+     *  so callers that format many values can re-use one buffer.
+     *
+     *  @param value Value to format
+     *  @param option How to format the value
+     *  @param precision Precision to use. -1 will try to fetch precision from VType
+     *  @param show_units Include units?
+     *  @param buf Buffer that will be cleared and then receives the formatted value
+     */
+    public static void format(final VType value, final FormatOption option,
+                              final int precision, final boolean show_units,
+                              final StringBuilder buf)
     {
-        return decimal_formats.computeIfAbsent(precision, FormatOptionHandler::createDecimalFormat);
+        buf.setLength(0);
+        if (value instanceof VNumber)
+            formatNumber(buf, (VNumber) value, option, actualPrecision(value, precision), show_units);
+        else if (value instanceof VNumberArray  &&  option != FormatOption.STRING)
+            formatArray(buf, (VNumberArray) value, option, actualPrecision(value, precision), show_units);
+        else
+            buf.append(format(value, option, precision, show_units));
     }
 
-    private static NumberFormat createDecimalFormat(int precision)
+    /** Append formatted number with optional units
+     *  @param buf Buffer
+     *  @param number Number to format
+     *  @param option How to format the value
+     *  @param precision Precision to use
+     *  @param show_units Include units?
+     */
+    private static void formatNumber(final StringBuilder buf, final VNumber number,
+                                     final FormatOption option, final int precision,
+                                     final boolean show_units)
     {
-        final NumberFormat fmt = NumberFormat.getNumberInstance(LOCALE);
-        fmt.setGroupingUsed(false);
-        fmt.setMinimumFractionDigits(precision);
-        fmt.setMaximumFractionDigits(precision);
-        return fmt;
+        formatNumber(buf, number.getValue(), option, precision);
+        if (show_units  &&  !number.getDisplay().getUnit().isEmpty())
+            buf.append(' ').append(number.getDisplay().getUnit());
     }
 
-    private static NumberFormat getExponentialFormat(final int precision)
+    /** Append formatted numeric array with optional units
+     *  @param buf Buffer
+     *  @param array Array to format
+     *  @param option How to format the elements
+     *  @param precision Precision to use
+     *  @param show_units Include units?
+     */
+    private static void formatArray(final StringBuilder buf, final VNumberArray array,
+                                    final FormatOption option, final int precision,
+                                    final boolean show_units)
     {
-        return exponential_formats.computeIfAbsent(precision, FormatOptionHandler::createExponentialFormat);
+        final ListNumber data = array.getData();
+        if (data.size() <= 0)
+        {
+            buf.append("[]");
+            return;
+        }
+        buf.append('[');
+        formatNumber(buf, data.getDouble(0), option, precision);
+        final int show = Math.min(data.size(), Preferences.max_array_formatting);
+        for (int i=1; i<show; ++i)
+        {
+            buf.append(", ");
+            formatNumber(buf, data.getDouble(i), option, precision);
+        }
+        if (data.size() > show)
+            buf.append(", ...");
+        buf.append(']');
+        if (show_units  &&  !array.getDisplay().getUnit().isEmpty())
+            buf.append(' ').append(array.getDisplay().getUnit());
     }
 
-    private static NumberFormat createExponentialFormat(final int precision)
-    {
-        // DecimalFormat needs pattern for exponential notation,
-        // there are no factory or configuration methods
-        final StringBuilder pattern = new StringBuilder("0");
-        if (precision > 0)
-            pattern.append('.');
-        for (int i=0; i<precision; ++i)
-            pattern.append('0');
-        pattern.append("E0");
-
-        return new DecimalFormat(pattern.toString(), SYMBOLS);
-    }
 
-    private static String formatNumber(final Number value, final Display display,
-                                       final FormatOption option, final int precision)
+    /** Append formatted number
+     *  @param buf Buffer
+     *  @param value Number to format
+     *  @param option How to format the value
+     *  @param precision Precision to use
+     */
+    private static void formatNumber(final StringBuilder buf, final Number value,
+                                     final FormatOption option, final int precision)
     {
         // Handle invalid numbers
         if (Double.isNaN(value.doubleValue()))
-            return "NaN";
-        if (Double.isInfinite(value.doubleValue()))
-            return Double.toString(value.doubleValue());
-
-        if (option == FormatOption.EXPONENTIAL)
-            return getExponentialFormat(precision).format(value);
-        if (option == FormatOption.ENGINEERING)
-        {   // DecimalFormat "##0." can create 'engineering' notation,
-            // but then allows no control over the precision.
-            // Using Nick Battam's idea from BOY simplepv.VTypeHelper
-            final double num = value.doubleValue();
-            if (num == 0.0)
-                return formatNumber(value, display, FormatOption.EXPONENTIAL, precision);
-            final double log10 = Math.log10(Math.abs(num));
-            final int power = 3 * (int) Math.floor(log10 / 3);
-            return String.format(LOCALE, "%." + precision + "fE%d", num / Math.pow(10, power), power);
-        }
-        if (option == FormatOption.HEX)
-        {
-            final Optional<Long> maybeLongValue;
-            if (value instanceof Byte valueByte) {
-                maybeLongValue = Optional.of(Byte.toUnsignedLong(valueByte));
-            } else if (value instanceof Short valueShort) {
-                maybeLongValue = Optional.of(Short.toUnsignedLong(valueShort));
-            } else if (value instanceof Integer valueInt) {
-                maybeLongValue = Optional.of(Integer.toUnsignedLong(valueInt));
-            } else if (value instanceof Long valueLong) {
-                maybeLongValue = Optional.of(valueLong);
-            } else if (value instanceof Float valueFloat) {
-                maybeLongValue = Optional.of(valueFloat.longValue());
-            } else if (value instanceof Double valueDouble) {
-                maybeLongValue = Optional.of(valueDouble.longValue());
-            } else if (value instanceof UByte valueUByte) {
-                maybeLongValue = Optional.of(valueUByte.longValue());
-            } else if (value instanceof UShort valueUShort) {
-                maybeLongValue = Optional.of(valueUShort.longValue());
-            } else if (value instanceof UInteger valueUInteger) {
-                maybeLongValue = Optional.of(valueUInteger.longValue());
-            } else if (value instanceof ULong valueULong) {
-                maybeLongValue = Optional.of(valueULong.longValue());
-            } else {
-                maybeLongValue = Optional.empty();
-            }
-
-            if (maybeLongValue.isPresent()) {
-                long longValue = maybeLongValue.get();
-                final String hexString = Long.toHexString(longValue);
-                final StringBuilder buf = new StringBuilder();
-                buf.append(hexString.toUpperCase());
-                for (int i=buf.length(); i<precision; ++i)
-                    buf.insert(0, '0');
-                buf.insert(0, "0x");
-                return buf.toString();
-            } else {
-                final String numberFormat = value.getClass().getSimpleName();
-                Logger.getLogger(FormatOptionHandler.class.getPackageName())
-                        .log(Level.WARNING, "Error: Number format is unsupported for conversion to HEX format: " + numberFormat);
-                return "ERROR: Unsupported number format: " + numberFormat;
-            }
-
-        }
-        if (option == FormatOption.STRING)
-            return new String(new byte[] { value.byteValue() });
-        if (option == FormatOption.COMPACT)
-        {
-            final double criteria = Math.abs(value.doubleValue());
-            if (criteria > 0.0001  &&  criteria < 10000)
-                return formatNumber(value, display, FormatOption.DECIMAL, precision);
-            else
-                return formatNumber(value, display, FormatOption.EXPONENTIAL, precision);
-        }
-        if (option == FormatOption.BINARY)
+            buf.append("NaN");
+        else if (Double.isInfinite(value.doubleValue()))
+            buf.append(value.doubleValue());
+        else if (NumberFormatter.isSupported(option))
+            NumberFormatter.append(buf, value, option, precision);
+        else if (option == FormatOption.STRING)
+            buf.append(new String(new byte[] { value.byteValue() }));
+        else if (option == FormatOption.BINARY)
         {
-            final StringBuilder buf = new StringBuilder();
-            buf.append(Long.toBinaryString(value.longValue()));
-            for (int i=buf.length(); i<precision; ++i)
-                buf.insert(0, '0');
-            buf.insert(0, "0b");
-            return buf.toString();
+            final String binary = Long.toBinaryString(value.longValue());
+            buf.append("0b");
+            for (int i=binary.length(); i<precision; ++i)
+                buf.append('0');
+            buf.append(binary);
         }
-        if (option == FormatOption.SIGNIFICANT)
-            return String.format(LOCALE, "%." + precision + "g", value.doubleValue());
-        if (option == FormatOption.SEXAGESIMAL)
-            return SexagesimalFormat.format(value.doubleValue(), precision);
-        if (option == FormatOption.SEXAGESIMAL_HMS)
-            return SexagesimalFormat.format(value.doubleValue() * 12.0 / Math.PI, precision);
-        if (option == FormatOption.SEXAGESIMAL_DMS)
-            return SexagesimalFormat.format(value.doubleValue() * 180.0 / Math.PI, precision);
-
-        // DEFAULT, DECIMAL
-        return getDecimalFormat(precision).format(value);
+        else if (option == FormatOption.SIGNIFICANT)
+            buf.append(String.format(LOCALE, "%." + precision + "g", value.doubleValue()));
+        else if (option == FormatOption.SEXAGESIMAL)
+            buf.append(SexagesimalFormat.format(value.doubleValue(), precision));
+        else if (option == FormatOption.SEXAGESIMAL_HMS)
+            buf.append(SexagesimalFormat.format(value.doubleValue() * 12.0 / Math.PI, precision));
+        else if (option == FormatOption.SEXAGESIMAL_DMS)
+            buf.append(SexagesimalFormat.format(value.doubleValue() * 180.0 / Math.PI, precision));
+        else
+            NumberFormatter.append(buf, value, FormatOption.DECIMAL, precision);
     }
 
     /** @param value {@link VEnum}
@@ -0,0 +1,389 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.ui.vtype;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.epics.util.number.UByte;
+import org.epics.util.number.UInteger;
+import org.epics.util.number.ULong;
+import org.epics.util.number.UShort;
+
+/** Thread-safe formatting of numbers into a {@link StringBuilder}
+ *
+ *  <p>Handles the {@link FormatOption}s DEFAULT, DECIMAL, EXPONENTIAL,
+ *  ENGINEERING, COMPACT and HEX with the same result as
+ *  the {@link DecimalFormat} resp. {@link String#format(String, Object...)}
+ *  based code that {@link FormatOptionHandler} used before.
+ *
+ *  <p>Numbers are scaled and rounded as <code>long</code>,
+ *  then appended digit by digit, without creating intermediate objects.
+ *  {@link DecimalFormat} rounds 'half even' and <code>String.format</code>
+ *  rounds 'half up', both based on the decimal value of the <code>double</code>.
+ *  When a scaled number is so close to a tie that the rounding error
+ *  of the scaling could matter, or when it does not fit into a <code>long</code>,
+ *  the formatter falls back to the original, slower code.
+ *  Those fall-back formats are kept per thread because
+ *  {@link NumberFormat} is not thread-safe.
+ */
+@SuppressWarnings("nls")
+public class NumberFormatter
+{
+    /** Largest precision handled without fall-back */
+    private static final int MAX_PRECISION = 12;
+
+    /** Largest scaled value handled without fall-back */
+    private static final double MAX_SCALED = 1e13;
+
+    /** Powers of 10 that are exact as double */
+    private static final double[] POW10 = new double[23];
+
+    /** Powers of 10 as long */
+    private static final long[] POW10L = new long[19];
+
+    static
+    {
+        POW10[0] = 1.0;
+        for (int i=1; i<POW10.length; ++i)
+            POW10[i] = POW10[i-1] * 10.0;
+        POW10L[0] = 1;
+        for (int i=1; i<POW10L.length; ++i)
+            POW10L[i] = POW10L[i-1] * 10;
+    }
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    /** Use 'E' for exponential notation, not 'x10' */
+    private static final DecimalFormatSymbols SYMBOLS = DecimalFormatSymbols.getInstance(FormatOptionHandler.LOCALE);
+
+    /** Per-thread fall-back formats for DECIMAL by precision */
+    private static final ThreadLocal<Map<Integer, NumberFormat>> decimal_formats = ThreadLocal.withInitial(HashMap::new);
+
+    /** Per-thread fall-back formats for EXPONENTIAL by precision */
+    private static final ThreadLocal<Map<Integer, NumberFormat>> exponential_formats = ThreadLocal.withInitial(HashMap::new);
+
+    /** @param option Format option
+     *  @return Is option handled by this formatter?
+     */
+    public static boolean isSupported(final FormatOption option)
+    {
+        return option == FormatOption.DEFAULT     ||
+               option == FormatOption.DECIMAL     ||
+               option == FormatOption.EXPONENTIAL ||
+               option == FormatOption.ENGINEERING ||
+               option == FormatOption.COMPACT     ||
+               option == FormatOption.HEX;
+    }
+
+    /** Format number
+     *
+     *  <p>Caller must handle NaN and infinite values
+     *
+     *  @param value Number to format
+     *  @param option Supported format option
+     *  @param precision Precision
+     *  @return Formatted number
+     */
+    public static String format(final Number value, final FormatOption option, final int precision)
+    {
+        final StringBuilder buf = new StringBuilder(24);
+        append(buf, value, option, precision);
+        return buf.toString();
+    }
+
+    /** Append formatted number
+     *
+     *  <p>Caller must handle NaN and infinite values
+     *
+     *  @param buf Buffer to which the number is appended
+     *  @param value Number to format
+     *  @param option Supported format option
+     *  @param precision Precision
+     *  @return Buffer
+     *  @throws IllegalArgumentException if option is not supported
+     */
+    public static StringBuilder append(final StringBuilder buf, final Number value,
+                                       final FormatOption option, final int precision)
+    {
+        switch (option)
+        {
+        case DEFAULT:
+        case DECIMAL:
+            appendDecimal(buf, value, precision);
+            break;
+        case EXPONENTIAL:
+            appendExponential(buf, value, precision);
+            break;
+        case ENGINEERING:
+            appendEngineering(buf, value.doubleValue(), precision);
+            break;
+        case COMPACT:
+            final double criteria = Math.abs(value.doubleValue());
+            if (criteria > 0.0001  &&  criteria < 10000)
+                appendDecimal(buf, value, precision);
+            else
+                appendExponential(buf, value, precision);
+            break;
+        case HEX:
+            appendHex(buf, value, precision);
+            break;
+        default:
+            throw new IllegalArgumentException("Unsupported " + option);
+        }
+        return buf;
+    }
+
+    /** @param value Number
+     *  @return Is number formatted by {@link DecimalFormat} as an exact <code>long</code>?
+     */
+    private static boolean isIntegral(final Number value)
+    {
+        return value instanceof Long     ||
+               value instanceof Integer  ||
+               value instanceof Short    ||
+               value instanceof Byte;
+    }
+
+    /** @param value Number
+     *  @return Is the sign bit set, including "-0.0"?
+     */
+    private static boolean isNegative(final double value)
+    {
+        return Double.doubleToRawLongBits(value) < 0;
+    }
+
+    /** @param value Number
+     *  @param shift Power of 10 by which to scale
+     *  @return value * 10^shift, NaN if outside of supported range
+     */
+    private static double scale(final double value, final int shift)
+    {
+        if (shift >= 0)
+        {
+            if (shift < POW10.length)
+                return value * POW10[shift];
+            if (shift < 2*POW10.length - 1)
+                return value * POW10[POW10.length-1] * POW10[shift - POW10.length + 1];
+        }
+        else
+        {
+            if (-shift < POW10.length)
+                return value / POW10[-shift];
+            if (-shift < 2*POW10.length - 1)
+                return value / POW10[POW10.length-1] / POW10[-shift - POW10.length + 1];
+        }
+        return Double.NaN;
+    }
+
+    /** Round scaled number
+     *
+     *  <p>The scaled number may be off by a few ulp.
+     *  Unless it is closer than that to a tie,
+     *  rounding to the nearest integer is correct
+     *  for both 'half even' and 'half up'.
+     *
+     *  @param scaled Positive number
+     *  @return Rounded number, or -1 if too large or too close to a tie
+     */
+    private static long round(final double scaled)
+    {
+        if (! (scaled < MAX_SCALED))
+            return -1;
+        final double floor = Math.floor(scaled);
+        final double diff = scaled - floor - 0.5;
+        if (Math.abs(diff) <= 4*Math.ulp(scaled))
+            return -1;
+        return (long) floor + (diff > 0 ? 1 : 0);
+    }
+
+    /** Append digits, padded with leading zeros
+     *  @param buf Buffer
+     *  @param digits Positive value below 10^count
+     *  @param count Number of digits to append
+     */
+    private static void appendDigits(final StringBuilder buf, final long digits, final int count)
+    {
+        for (int d=count-1; d>0  &&  digits < POW10L[d]; --d)
+            buf.append('0');
+        buf.append(digits);
+    }
+
+    /** Append scaled value as "integer.fraction"
+     *  @param buf Buffer
+     *  @param scaled Rounded value * 10^precision
+     *  @param precision Number of fraction digits
+     */
+    private static void appendFixed(final StringBuilder buf, final long scaled, final int precision)
+    {
+        final long divider = POW10L[precision];
+        buf.append(scaled / divider);
+        if (precision > 0)
+        {
+            buf.append('.');
+            appendDigits(buf, scaled % divider, precision);
+        }
+    }
+
+    private static void appendDecimal(final StringBuilder buf, final Number value, final int precision)
+    {
+        if (isIntegral(value))
+        {
+            buf.append(value.longValue());
+            if (precision > 0)
+            {
+                buf.append('.');
+                for (int i=0; i<precision; ++i)
+                    buf.append('0');
+            }
+            return;
+        }
+
+        final double number = value.doubleValue();
+        if (precision < POW10L.length)
+        {
+            final long scaled = round(Math.abs(number) * POW10[precision]);
+            if (scaled >= 0)
+            {
+                if (isNegative(number))
+                    buf.append('-');
+                appendFixed(buf, scaled, precision);
+                return;
+            }
+        }
+        buf.append(decimal_formats.get().computeIfAbsent(precision, NumberFormatter::createDecimalFormat).format(value));
+    }
+
+    private static NumberFormat createDecimalFormat(final int precision)
+    {
+        final NumberFormat fmt = NumberFormat.getNumberInstance(FormatOptionHandler.LOCALE);
+        fmt.setGroupingUsed(false);
+        fmt.setMinimumFractionDigits(precision);
+        fmt.setMaximumFractionDigits(precision);
+        return fmt;
+    }
+
+    private static void appendExponential(final StringBuilder buf, final Number value, final int precision)
+    {
+        final double number = value.doubleValue();
+        // Large long values are not exact as double
+        if (precision <= MAX_PRECISION  &&
+            (! isIntegral(value)  ||  (value.longValue() >= -(1L << 53)  &&  value.longValue() <= (1L << 53))))
+        {
+            final double abs = Math.abs(number);
+            if (abs == 0.0)
+            {
+                if (isNegative(number))
+                    buf.append('-');
+                appendFixed(buf, 0, precision);
+                buf.append("E0");
+                return;
+            }
+
+            // Scale to precision+1 digits, correcting
+            // the exponent if log10 was off near a power of 10
+            int exponent = (int) Math.floor(Math.log10(abs));
+            double scaled = scale(abs, precision - exponent);
+            if (scaled >= POW10[precision+1])
+                scaled = scale(abs, precision - (++exponent));
+            else if (scaled < POW10[precision])
+                scaled = scale(abs, precision - (--exponent));
+            long rounded = round(scaled);
+            if (rounded >= POW10L[precision+1])
+            {   // Rounded up to next power of 10
+                rounded /= 10;
+                ++exponent;
+            }
+            if (rounded >= POW10L[precision])
+            {
+                if (number < 0)
+                    buf.append('-');
+                appendFixed(buf, rounded, precision);
+                buf.append('E').append(exponent);
+                return;
+            }
+        }
+        buf.append(exponential_formats.get().computeIfAbsent(precision, NumberFormatter::createExponentialFormat).format(value));
+    }
+
+    private static NumberFormat createExponentialFormat(final int precision)
+    {
+        // DecimalFormat needs pattern for exponential notation,
+        // there are no factory or configuration methods
+        final StringBuilder pattern = new StringBuilder("0");
+        if (precision > 0)
+            pattern.append('.');
+        for (int i=0; i<precision; ++i)
+            pattern.append('0');
+        pattern.append("E0");
+
+        return new DecimalFormat(pattern.toString(), SYMBOLS);
+    }
+
+    private static void appendEngineering(final StringBuilder buf, final double number, final int precision)
+    {   // DecimalFormat "##0." can create 'engineering' notation,
+        // but then allows no control over the precision.
+        // Using Nick Battam's idea from BOY simplepv.VTypeHelper
+        if (number == 0.0)
+        {
+            appendExponential(buf, number, precision);
+            return;
+        }
+        final double log10 = Math.log10(Math.abs(number));
+        final int power = 3 * (int) Math.floor(log10 / 3);
+        final double mantissa = number / Math.pow(10, power);
+        if (precision < POW10L.length)
+        {
+            final long scaled = round(Math.abs(mantissa) * POW10[precision]);
+            if (scaled >= 0)
+            {
+                if (mantissa < 0)
+                    buf.append('-');
+                appendFixed(buf, scaled, precision);
+                buf.append('E').append(power);
+                return;
+            }
+        }
+        buf.append(String.format(FormatOptionHandler.LOCALE, "%." + precision + "fE%d", mantissa, power));
+    }
+
+    private static void appendHex(final StringBuilder buf, final Number value, final int precision)
+    {
+        final long number;
+        if (value instanceof Byte valueByte)
+            number = Byte.toUnsignedLong(valueByte);
+        else if (value instanceof Short valueShort)
+            number = Short.toUnsignedLong(valueShort);
+        else if (value instanceof Integer valueInt)
+            number = Integer.toUnsignedLong(valueInt);
+        else if (value instanceof Long  ||  value instanceof Float   ||  value instanceof Double  ||
+                 value instanceof UByte ||  value instanceof UShort  ||  value instanceof UInteger ||
+                 value instanceof ULong)
+            number = value.longValue();
+        else
+        {
+            final String numberFormat = value.getClass().getSimpleName();
+            Logger.getLogger(NumberFormatter.class.getPackageName())
+                  .log(Level.WARNING, "Error: Number format is unsupported for conversion to HEX format: " + numberFormat);
+            buf.append("ERROR: Unsupported number format: ").append(numberFormat);
+            return;
+        }
+
+        buf.append("0x");
+        final int digits = Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(number) + 3) / 4);
+        for (int i=digits; i<precision; ++i)
+            buf.append('0');
+        for (int shift = 4*(digits-1); shift >= 0; shift -= 4)
+            buf.append(HEX_DIGITS[(int) (number >>> shift) & 0xF]);
+    }
+}
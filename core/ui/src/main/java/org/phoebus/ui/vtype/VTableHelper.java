@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.ui.vtype;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.epics.util.array.ListDouble;
+import org.epics.util.array.ListFloat;
+import org.epics.util.array.ListNumber;
+import org.epics.vtype.VTable;
+
+/** Access to cells of a {@link VTable}
+ *
+ *  <p>Reads cells straight from the table's columns,
+ *  without first converting the complete table into text.
+ */
+@SuppressWarnings("nls")
+public class VTableHelper
+{
+    /** Get text for one cell
+     *
+     *  @param table {@link VTable}
+     *  @param row Row index
+     *  @param col Column index
+     *  @return Text for that cell, "" if table has no such row or column
+     */
+    public static String getCellText(final VTable table, final int row, final int col)
+    {
+        if (col >= table.getColumnCount())
+            return "";
+        final Object col_data = table.getColumnData(col);
+        if (col_data instanceof List<?> list)
+            return row < list.size() ? Objects.toString(list.get(row)) : "";
+        if (col_data instanceof ListNumber numbers  &&  row >= numbers.size())
+            return "";
+        if (col_data instanceof ListDouble numbers)
+            return Double.toString(numbers.getDouble(row));
+        if (col_data instanceof ListFloat numbers)
+            return Float.toString(numbers.getFloat(row));
+        if (col_data instanceof ListNumber numbers)
+            return Long.toString(numbers.getLong(row));
+        return Objects.toString(col_data);
+    }
+
+    /** Compare one row of two tables
+     *
+     *  @param a {@link VTable}
+     *  @param b Other {@link VTable}
+     *  @param row Row index
+     *  @return <code>true</code> if both tables have the same cells in that row
+     */
+    public static boolean isRowEqual(final VTable a, final VTable b, final int row)
+    {
+        final int cols = a.getColumnCount();
+        if (b.getColumnCount() != cols)
+            return false;
+        for (int c=0; c<cols; ++c)
+        {
+            final Object col_a = a.getColumnData(c), col_b = b.getColumnData(c);
+            // Same column data, for example when only other columns changed
+            if (col_a == col_b)
+                continue;
+            // Columns must be formatted the same way
+            if (getKind(col_a) != getKind(col_b))
+                return false;
+            if (col_a instanceof ListNumber num_a  &&  col_b instanceof ListNumber num_b)
+            {
+                if (row >= num_a.size()  ||  row >= num_b.size())
+                {
+                    if (row < num_a.size()  ||  row < num_b.size())
+                        return false;
+                }
+                else if (col_a instanceof ListDouble  ||  col_a instanceof ListFloat)
+                {
+                    if (Double.compare(num_a.getDouble(row), num_b.getDouble(row)) != 0)
+                        return false;
+                }
+                else if (num_a.getLong(row) != num_b.getLong(row))
+                    return false;
+            }
+            else if (col_a instanceof List<?> list_a  &&  col_b instanceof List<?> list_b)
+            {
+                if (row >= list_a.size()  ||  row >= list_b.size())
+                {
+                    if (row < list_a.size()  ||  row < list_b.size())
+                        return false;
+                }
+                else if (! Objects.equals(list_a.get(row), list_b.get(row)))
+                    return false;
+            }
+            else if (! Objects.equals(col_a, col_b))
+                return false;
+        }
+        return true;
+    }
+
+    /** @param col_data Column data
+     *  @return Kind of column, matching the text conversion in {@link #getCellText(VTable, int, int)}
+     */
+    private static int getKind(final Object col_data)
+    {
+        if (col_data instanceof List)
+            return 0;
+        if (col_data instanceof ListDouble)
+            return 1;
+        if (col_data instanceof ListFloat)
+            return 2;
+        if (col_data instanceof ListNumber)
+            return 3;
+        return 4;
+    }
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.ui.javafx;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.epics.util.array.ArrayDouble;
+import org.epics.vtype.VTable;
+import org.phoebus.ui.vtype.VTableHelper;
+
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.BorderPane;
+import javafx.stage.Stage;
+
+/** {@link StringTable} with a large, periodically updated {@link VTable}
+ *
+ *  <p>Once per second, a few rows of a 10000 x 20 table change.
+ *  Shows the time spent on the UI thread to update the table,
+ *  alternating between the {@link VTable} and the
+ *  <code>List&lt;List&lt;String&gt;&gt;</code> API.
+ */
+@SuppressWarnings("nls")
+public class StringTableVTableDemo extends ApplicationWrapper
+{
+    private static final int ROWS = 10000, COLS = 20, CHANGES = 10;
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+    private final Random random = new Random();
+    private final double[][] columns = new double[COLS][ROWS];
+    private final List<String> headers = new ArrayList<>();
+    private int update = 0;
+
+    public static void main(final String[] args)
+    {
+        launch(StringTableVTableDemo.class, args);
+    }
+
+    /** @return Table with a few changed rows */
+    private VTable createTable()
+    {
+        for (int i=0; i<CHANGES; ++i)
+        {
+            final int row = random.nextInt(ROWS);
+            for (int c=0; c<COLS; ++c)
+                columns[c][row] = random.nextDouble();
+        }
+        final List<Class<?>> types = new ArrayList<>();
+        final List<Object> values = new ArrayList<>();
+        for (int c=0; c<COLS; ++c)
+        {
+            types.add(double.class);
+            values.add(ArrayDouble.of(columns[c].clone()));
+        }
+        return VTable.of(types, headers, values);
+    }
+
+    /** @param table {@link VTable}
+     *  @return Complete table as text, which the List API requires
+     */
+    private static List<List<String>> toList(final VTable table)
+    {
+        final List<List<String>> data = new ArrayList<>(table.getRowCount());
+        for (int r=0; r<table.getRowCount(); ++r)
+        {
+            final List<String> row = new ArrayList<>(COLS);
+            for (int c=0; c<COLS; ++c)
+                row.add(VTableHelper.getCellText(table, r, c));
+            data.add(row);
+        }
+        return data;
+    }
+
+    @Override
+    public void start(final Stage stage)
+    {
+        for (int c=0; c<COLS; ++c)
+            headers.add("Col " + c);
+
+        final StringTable table = new StringTable(false);
+        table.setHeaders(headers);
+        final Label info = new Label("Updating...");
+
+        final BorderPane layout = new BorderPane(table);
+        layout.setBottom(info);
+        stage.setScene(new Scene(layout, 1200, 600));
+        stage.show();
+
+        timer.scheduleAtFixedRate(() ->
+        {
+            final VTable value = createTable();
+            // Toggle between the two APIs every 10 updates
+            final boolean use_vtable = (update++ / 10) % 2 == 0;
+            // Converting the table to text is part of the List API cost
+            final long start = System.nanoTime();
+            final List<List<String>> data = use_vtable ? null : toList(value);
+            final long convert = System.nanoTime() - start;
+            Platform.runLater(() ->
+            {
+                final long ui_start = System.nanoTime();
+                if (use_vtable)
+                    table.setData(value);
+                else
+                    table.setData(data);
+                final long ui = System.nanoTime() - ui_start;
+                final String text = String.format("%s: %.3f ms on UI thread, %.3f ms to format in background",
+                                                  use_vtable ? "VTable" : "List", ui / 1e6, convert / 1e6);
+                info.setText(text);
+                System.out.println(text);
+            });
+        }, 1, 1, TimeUnit.SECONDS);
+        stage.setOnCloseRequest(event -> timer.shutdown());
+    }
+}
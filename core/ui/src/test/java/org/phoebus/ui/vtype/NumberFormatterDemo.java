@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.ui.vtype;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Random;
+
+/** Timing of {@link NumberFormatter} compared to {@link DecimalFormat}
+ *
+ *  <p>Formats the same values repeatedly, first to warm up, then timed.
+ *  The {@link DecimalFormat} is used by only one thread,
+ *  the best case for the previous implementation.
+ */
+@SuppressWarnings("nls")
+public class NumberFormatterDemo
+{
+    private static final int VALUES = 100000, RUNS = 20, PRECISION = 3;
+
+    private static long time(final String title, final double[] values, final Runnable code)
+    {
+        // Warm up
+        for (int run=0; run<RUNS; ++run)
+            code.run();
+        final long start = System.nanoTime();
+        for (int run=0; run<RUNS; ++run)
+            code.run();
+        final long nanos = (System.nanoTime() - start) / RUNS / values.length;
+        System.out.format("%-40s: %4d ns per value\n", title, nanos);
+        return nanos;
+    }
+
+    public static void main(String[] args)
+    {
+        final Random random = new Random(42);
+        final double[] values = new double[VALUES];
+        for (int i=0; i<VALUES; ++i)
+            values[i] = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(12) - 6);
+
+        final NumberFormat decimal = NumberFormat.getNumberInstance(FormatOptionHandler.LOCALE);
+        decimal.setGroupingUsed(false);
+        decimal.setMinimumFractionDigits(PRECISION);
+        decimal.setMaximumFractionDigits(PRECISION);
+        final NumberFormat exponential = new DecimalFormat("0.000E0", DecimalFormatSymbols.getInstance(FormatOptionHandler.LOCALE));
+        final StringBuilder buf = new StringBuilder();
+        final int[] length = new int[1];
+
+        time("DecimalFormat DECIMAL", values, () ->
+        {
+            for (double value : values)
+                length[0] += decimal.format(value).length();
+        });
+        time("NumberFormatter DECIMAL", values, () ->
+        {
+            for (double value : values)
+            {
+                buf.setLength(0);
+                length[0] += NumberFormatter.append(buf, value, FormatOption.DECIMAL, PRECISION).length();
+            }
+        });
+        time("DecimalFormat EXPONENTIAL", values, () ->
+        {
+            for (double value : values)
+                length[0] += exponential.format(value).length();
+        });
+        time("NumberFormatter EXPONENTIAL", values, () ->
+        {
+            for (double value : values)
+            {
+                buf.setLength(0);
+                length[0] += NumberFormatter.append(buf, value, FormatOption.EXPONENTIAL, PRECISION).length();
+            }
+        });
+        time("String.format ENGINEERING", values, () ->
+        {
+            for (double value : values)
+            {
+                final int power = 3 * (int) Math.floor(Math.log10(Math.abs(value)) / 3);
+                length[0] += String.format(FormatOptionHandler.LOCALE, "%." + PRECISION + "fE%d", value / Math.pow(10, power), power).length();
+            }
+        });
+        time("NumberFormatter ENGINEERING", values, () ->
+        {
+            for (double value : values)
+            {
+                buf.setLength(0);
+                length[0] += NumberFormatter.append(buf, value, FormatOption.ENGINEERING, PRECISION).length();
+            }
+        });
+        time("NumberFormatter COMPACT", values, () ->
+        {
+            for (double value : values)
+            {
+                buf.setLength(0);
+                length[0] += NumberFormatter.append(buf, value, FormatOption.COMPACT, PRECISION).length();
+            }
+        });
+        System.out.println("(Total length " + length[0] + ")");
+    }
+}
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.ui.vtype;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.epics.util.array.ArrayDouble;
+import org.epics.util.number.UInteger;
+import org.epics.util.stats.Range;
+import org.epics.vtype.Alarm;
+import org.epics.vtype.Display;
+import org.epics.vtype.Time;
+import org.epics.vtype.VDouble;
+import org.epics.vtype.VDoubleArray;
+import org.epics.vtype.VString;
+import org.epics.vtype.VType;
+import org.junit.jupiter.api.Test;
+
+/** JUnit test of {@link NumberFormatter}
+ *
+ *  <p>Compares with the {@link DecimalFormat} and <code>String.format</code>
+ *  based code that was used before.
+ */
+@SuppressWarnings("nls")
+public class NumberFormatterTest
+{
+    private static final FormatOption[] OPTIONS =
+    {
+        FormatOption.DECIMAL, FormatOption.EXPONENTIAL, FormatOption.ENGINEERING, FormatOption.COMPACT
+    };
+
+    /** Format as before, creating a new format each time */
+    private static String reference(final Number value, final FormatOption option, final int precision)
+    {
+        if (option == FormatOption.EXPONENTIAL)
+        {
+            final StringBuilder pattern = new StringBuilder("0");
+            if (precision > 0)
+                pattern.append('.');
+            for (int i=0; i<precision; ++i)
+                pattern.append('0');
+            pattern.append("E0");
+            return new DecimalFormat(pattern.toString(), DecimalFormatSymbols.getInstance(FormatOptionHandler.LOCALE)).format(value);
+        }
+        if (option == FormatOption.ENGINEERING)
+        {
+            final double num = value.doubleValue();
+            if (num == 0.0)
+                return reference(value, FormatOption.EXPONENTIAL, precision);
+            final double log10 = Math.log10(Math.abs(num));
+            final int power = 3 * (int) Math.floor(log10 / 3);
+            return String.format(FormatOptionHandler.LOCALE, "%." + precision + "fE%d", num / Math.pow(10, power), power);
+        }
+        if (option == FormatOption.COMPACT)
+        {
+            final double criteria = Math.abs(value.doubleValue());
+            if (criteria > 0.0001  &&  criteria < 10000)
+                return reference(value, FormatOption.DECIMAL, precision);
+            else
+                return reference(value, FormatOption.EXPONENTIAL, precision);
+        }
+        final NumberFormat fmt = NumberFormat.getNumberInstance(FormatOptionHandler.LOCALE);
+        fmt.setGroupingUsed(false);
+        fmt.setMinimumFractionDigits(precision);
+        fmt.setMaximumFractionDigits(precision);
+        return fmt.format(value);
+    }
+
+    private static void check(final Number value)
+    {
+        for (FormatOption option : OPTIONS)
+            for (int precision=0; precision<=15; ++precision)
+                assertThat(option + " " + precision + " of " + value,
+                           NumberFormatter.format(value, option, precision),
+                           equalTo(reference(value, option, precision)));
+    }
+
+    @Test
+    public void testSpecialValues()
+    {
+        final double[] values =
+        {
+            0.0, -0.0, 1.0, -1.0, 0.5, 1.5, 2.5, -2.5, 0.125, 0.135, 2.675, -0.005, 0.001, -0.001,
+            9.999e-5, 9.9995, 99.995, 999.5, 1e-4, 1e4, 12345678.0, 0.0316, 3.16, 1e20, -1e20,
+            1e-30, 4.9e-324, Double.MAX_VALUE, Double.MIN_NORMAL, Math.PI, Math.E, 1/3.0, 2/3.0
+        };
+        for (double value : values)
+            check(value);
+        for (long value : new long[] { 0, 1, -1, 42, 1000, Long.MAX_VALUE, Long.MIN_VALUE, 1L << 53, (1L << 53) + 1 })
+            check(value);
+        check(42);
+        check((short) -7);
+        check((byte) 5);
+        check(3.1f);
+        check(UInteger.valueOf(-1));
+    }
+
+    @Test
+    public void testRandomValues()
+    {
+        final Random random = new Random(42);
+        for (int i=0; i<2000; ++i)
+        {
+            // Random mantissa and exponent
+            check((random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(40) - 20));
+            // Decimal values that are close to ties
+            check((random.nextInt(2000000) - 1000000) / Math.pow(10, random.nextInt(8)) + 0.5 / Math.pow(10, random.nextInt(8)));
+            check(random.nextInt(1 << 20) / 1024.0);
+            check(random.nextLong() >> random.nextInt(64));
+        }
+    }
+
+    @Test
+    public void testHex()
+    {
+        assertThat(NumberFormatter.format(65535.0, FormatOption.HEX, 8), equalTo("0x0000FFFF"));
+        assertThat(NumberFormatter.format(0, FormatOption.HEX, 0), equalTo("0x0"));
+        assertThat(NumberFormatter.format(-1L, FormatOption.HEX, 4), equalTo("0xFFFFFFFFFFFFFFFF"));
+        assertThat(NumberFormatter.format((byte) -1, FormatOption.HEX, 4), equalTo("0x00FF"));
+        assertThat(NumberFormatter.format(0x12AB, FormatOption.HEX, 2), equalTo("0x12AB"));
+    }
+
+    @Test
+    public void testAppend()
+    {
+        final StringBuilder buf = new StringBuilder("[");
+        NumberFormatter.append(buf, 3.14159, FormatOption.DECIMAL, 2);
+        buf.append(", ");
+        NumberFormatter.append(buf, 31415.9, FormatOption.COMPACT, 2);
+        buf.append("]");
+        assertThat(buf.toString(), equalTo("[3.14, 3.14E4]"));
+    }
+
+    @Test
+    public void testConcurrency() throws Exception
+    {
+        final Random random = new Random(7);
+        final int N = 5000;
+        final double[] values = new double[N];
+        final String[][] expected = new String[OPTIONS.length][N];
+        for (int i=0; i<N; ++i)
+        {
+            values[i] = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(20) - 10);
+            for (int o=0; o<OPTIONS.length; ++o)
+                expected[o][i] = reference(values[i], OPTIONS[o], 3);
+        }
+
+        final ExecutorService pool = Executors.newFixedThreadPool(8);
+        final List<Future<Integer>> results = new ArrayList<>();
+        for (int t=0; t<8; ++t)
+            results.add(pool.submit(() ->
+            {
+                int errors = 0;
+                final StringBuilder buf = new StringBuilder();
+                for (int run=0; run<10; ++run)
+                    for (int o=0; o<OPTIONS.length; ++o)
+                        for (int i=0; i<N; ++i)
+                        {
+                            buf.setLength(0);
+                            NumberFormatter.append(buf, values[i], OPTIONS[o], 3);
+                            if (! buf.toString().equals(expected[o][i]))
+                                ++errors;
+                        }
+                return errors;
+            }));
+        for (Future<Integer> result : results)
+            assertThat(result.get(), equalTo(0));
+        pool.shutdown();
+    }
+
+    @Test
+    public void testReusedBuffer()
+    {
+        final NumberFormat format = NumberFormat.getNumberInstance(FormatOptionHandler.LOCALE);
+        format.setMaximumFractionDigits(2);
+        final Display display = Display.of(Range.undefined(), Range.undefined(), Range.undefined(), Range.undefined(), "mm", format);
+        final VType[] values =
+        {
+            VDouble.of(3.14159, Alarm.none(), Time.now(), display),
+            VDoubleArray.of(ArrayDouble.of(1, 2.5, -3), Alarm.none(), Time.now(), display),
+            VString.of("Text", Alarm.none(), Time.now()),
+            VDouble.of(-0.001, Alarm.none(), Time.now(), display),
+        };
+        // Buffer is cleared for each value and receives the same text as format()
+        final StringBuilder buf = new StringBuilder();
+        for (FormatOption option : FormatOption.values())
+            for (VType value : values)
+            {
+                FormatOptionHandler.format(value, option, -1, true, buf);
+                assertThat(buf.toString(), equalTo(FormatOptionHandler.format(value, option, -1, true)));
+            }
+    }
+}
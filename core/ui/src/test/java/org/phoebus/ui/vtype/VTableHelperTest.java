@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.ui.vtype;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+
+import org.epics.util.array.ArrayDouble;
+import org.epics.util.array.ArrayFloat;
+import org.epics.util.array.ArrayInteger;
+import org.epics.vtype.VTable;
+import org.junit.jupiter.api.Test;
+
+/** JUnit test of {@link VTableHelper}
+ */
+@SuppressWarnings("nls")
+public class VTableHelperTest
+{
+    private static VTable create(final List<String> names, final ArrayDouble values, final ArrayInteger counts)
+    {
+        return VTable.of(List.of(String.class, double.class, int.class),
+                         List.of("Name", "Value", "Count"),
+                         List.of(names, values, counts));
+    }
+
+    @Test
+    public void testCellText()
+    {
+        final VTable table = VTable.of(List.of(String.class, double.class, float.class, int.class),
+                                       List.of("Name", "Value", "Float", "Count"),
+                                       List.of(List.of("a", "b"),
+                                               ArrayDouble.of(1.5, 2.0),
+                                               ArrayFloat.of(0.1f),
+                                               ArrayInteger.of(42, -1)));
+        assertThat(VTableHelper.getCellText(table, 0, 0), equalTo("a"));
+        assertThat(VTableHelper.getCellText(table, 1, 1), equalTo("2.0"));
+        assertThat(VTableHelper.getCellText(table, 0, 2), equalTo("0.1"));
+        assertThat(VTableHelper.getCellText(table, 1, 3), equalTo("-1"));
+        // Missing cells
+        assertThat(VTableHelper.getCellText(table, 1, 2), equalTo(""));
+        assertThat(VTableHelper.getCellText(table, 5, 0), equalTo(""));
+        assertThat(VTableHelper.getCellText(table, 0, 4), equalTo(""));
+    }
+
+    @Test
+    public void testRowEqual()
+    {
+        final List<String> names = List.of("a", "b", "c");
+        final ArrayInteger counts = ArrayInteger.of(1, 2, 3);
+        final VTable a = create(names, ArrayDouble.of(1.0, 2.0, 3.0), counts);
+        final VTable b = create(names, ArrayDouble.of(1.0, 2.5, 3.0), counts);
+        assertThat(VTableHelper.isRowEqual(a, b, 0), equalTo(true));
+        assertThat(VTableHelper.isRowEqual(a, b, 1), equalTo(false));
+        assertThat(VTableHelper.isRowEqual(a, b, 2), equalTo(true));
+
+        // Same values in new column instances
+        final VTable c = create(List.of("a", "x", "c"), ArrayDouble.of(1.0, 2.0, 3.0), ArrayInteger.of(1, 2, 4));
+        assertThat(VTableHelper.isRowEqual(a, c, 0), equalTo(true));
+        assertThat(VTableHelper.isRowEqual(a, c, 1), equalTo(false));
+        assertThat(VTableHelper.isRowEqual(a, c, 2), equalTo(false));
+
+        // Row added
+        final VTable d = create(List.of("a", "b", "c", "d"), ArrayDouble.of(1.0, 2.0, 3.0, 4.0), ArrayInteger.of(1, 2, 3, 4));
+        assertThat(VTableHelper.isRowEqual(a, d, 2), equalTo(true));
+        assertThat(VTableHelper.isRowEqual(a, d, 3), equalTo(false));
+
+        // Same value but different column type would be formatted differently
+        final VTable e = VTable.of(List.of(String.class, int.class, int.class),
+                                   List.of("Name", "Value", "Count"),
+                                   List.of(names, ArrayInteger.of(1, 2, 3), counts));
+        assertThat(VTableHelper.isRowEqual(a, e, 0), equalTo(false));
+    }
+}
@@ -0,0 +1,146 @@
+package org.phoebus.alarm.logging;
+
+import static org.phoebus.applications.alarm.AlarmSystem.logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.eclipse.jgit.api.AddCommand;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.RmCommand;
+import org.eclipse.jgit.api.errors.GitAPIException;
+
+/**
+ * Commits alarm configuration changes to the git repo in batches.
+ * <p>
+ * Changes are committed once <code>batch_size</code> paths have changed, or
+ * <code>batch_secs</code> after the first uncommitted change. With
+ * <code>batch_secs=0</code>, each change is committed on its own.
+ */
+class AlarmConfigCommitter {
+
+    /** Called with the repo after each commit, for example to push the commit */
+    @FunctionalInterface
+    interface CommitListener {
+        void committed(Git git) throws GitAPIException, IOException;
+    }
+
+    private final File root;
+    // Seconds to wait for more changes before committing, 0 to commit each change
+    private final int batch_secs;
+    // Number of changed paths that triggers a commit without waiting
+    private final int batch_size;
+    // Called before each commit, for example to update config.xml
+    private final Runnable before_commit;
+    private final CommitListener after_commit;
+
+    // Uncommitted changes: git file pattern, relative to root, mapped to alarm path
+    private final Map<String, String> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> pending_commit = null;
+    private final ScheduledExecutorService commit_timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "AlarmConfigLogger-commit");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @param root Root of the git repo
+     * @param batch_secs Seconds to wait for more changes before committing, 0 to commit each change
+     * @param batch_size Number of changed paths that triggers a commit
+     * @param before_commit Called before each commit
+     * @param after_commit Called after each commit
+     */
+    AlarmConfigCommitter(File root, int batch_secs, int batch_size, Runnable before_commit, CommitListener after_commit) {
+        this.root = root;
+        this.batch_secs = batch_secs;
+        this.batch_size = Math.max(1, batch_size);
+        this.before_commit = before_commit;
+        this.after_commit = after_commit;
+    }
+
+    /**
+     * @param pattern Git file pattern of the changed file or directory, relative to the repo root
+     * @param path Alarm path, used in the commit message
+     */
+    synchronized void changed(String pattern, String path) {
+        pending.put(pattern, path);
+        if (batch_secs <= 0 || pending.size() >= batch_size) {
+            commit();
+        } else if (pending_commit == null) {
+            pending_commit = commit_timer.schedule(this::commit, batch_secs, TimeUnit.SECONDS);
+        }
+    }
+
+    /** @return Number of uncommitted changes */
+    synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Commit all pending changes
+     */
+    synchronized void commit() {
+        if (pending_commit != null) {
+            pending_commit.cancel(false);
+            pending_commit = null;
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        before_commit.run();
+
+        final String message;
+        if (pending.size() == 1) {
+            message = "Alarm config update " + pending.values().iterator().next();
+        } else {
+            final StringBuilder buf = new StringBuilder();
+            buf.append("Alarm config update of ").append(pending.size()).append(" paths\n\n");
+            pending.values().forEach(path -> buf.append(path).append('\n'));
+            message = buf.toString();
+        }
+
+        try (Git git = Git.open(root)) {
+            // Only stage the changed paths instead of scanning the complete worktree
+            final AddCommand add = git.add().addFilepattern(".restore-script");
+            RmCommand rm = null;
+            for (String pattern : pending.keySet()) {
+                if (new File(root, pattern).exists()) {
+                    add.addFilepattern(pattern);
+                } else {
+                    if (rm == null) {
+                        rm = git.rm().setCached(true);
+                    }
+                    rm.addFilepattern(pattern);
+                }
+            }
+            add.call();
+            if (rm != null) {
+                rm.call();
+            }
+            git.commit().setMessage(message).call();
+            final int count = pending.size();
+            logger.log(Level.FINE, () -> "Committed " + count + " alarm config changes");
+            pending.clear();
+
+            after_commit.committed(git);
+        } catch (GitAPIException | IOException e) {
+            // Keep the pending changes to be included in the next commit
+            logger.log(Level.WARNING, "Failed to commit the configuration changes", e);
+        }
+    }
+
+    /**
+     * Commit pending changes and stop the timer
+     */
+    void close() {
+        commit();
+        commit_timer.shutdown();
+    }
+}
@@ -12,6 +12,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Properties;
 import java.util.UUID;
@@ -56,6 +57,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 /**
  * A Runnable which creates the alarm config model for the given topic and its
  * associated local and remote git repo.
+ * <p>
+ * Configuration changes are written to the repo as they arrive, but they are
+ * committed in batches: Once <code>commit_batch_size</code> paths have changed,
+ * or <code>commit_batch_secs</code> after the first uncommitted change.
+ * With <code>commit_batch_secs=0</code>, each change is committed on its own.
  *
  * @author Kunal Shroff
  *
@@ -75,6 +81,9 @@ public class AlarmConfigLogger implements Runnable {
     private SshdSessionFactory sshdSessionFactory;
     private UsernamePasswordCredentialsProvider usernamePasswordCredentialsProvider;
 
+    // Commits the changes in batches
+    private final AlarmConfigCommitter committer;
+
     public AlarmConfigLogger(String topic, String location, String remoteLocation) {
         super();
         this.topic = topic;
@@ -93,6 +102,11 @@ public class AlarmConfigLogger implements Runnable {
 
         root = new File(location, this.topic);
         root.mkdirs();
+        committer = new AlarmConfigCommitter(root,
+                Integer.parseInt(props.getProperty("commit_batch_secs", "0").trim()),
+                Integer.parseInt(props.getProperty("commit_batch_size", "1").trim()),
+                this::writeAlarmModel,
+                this::push);
 
         model = new AlarmClient(props.getProperty(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG), this.topic, props.getProperty("kafka_properties"));
         model.start();
@@ -213,6 +227,7 @@ public class AlarmConfigLogger implements Runnable {
             @Override
             public void run() {
                 streams.close();
+                committer.close();
                 latch.countDown();
             }
         });
@@ -240,9 +255,11 @@ public class AlarmConfigLogger implements Runnable {
             if (rawPath.contains("config:/")) {
                 String path = (rawPath.split("config:/"))[1];
                 logger.log(Level.INFO, "processing message:" + path + ":" + alarm_config);
+                path = path.replaceAll("[:|?*]", "_");
+                final Path directory = Paths.get(root.getParent(), path);
+                final String pattern;
                 if (alarm_config != null) {
-                    path = path.replaceAll("[:|?*]", "_");
-                    File node = Paths.get(root.getParent(), path).toFile();
+                    File node = directory.toFile();
                     node.mkdirs();
                     File node_info = new File(node, "alarm_config.json");
                     try (FileWriter fo = new FileWriter(node_info)) {
@@ -252,40 +269,18 @@ public class AlarmConfigLogger implements Runnable {
                         logger.log(Level.WARNING,
                                 "Alarm config logging failed for path " + path + ", config " + alarm_config, e);
                     }
+                    pattern = getFilePattern(node_info.toPath());
                 } else {
-                    path = path.replaceAll("[:|?*]", "_");
-                    Path directory = Paths.get(root.getParent(), path);
                     if (directory.toFile().exists()) {
-                        Files.walk(directory).map(Path::toFile).forEach(File::delete);
-                        directory.toFile().delete();
+                        // Delete files before their directories
+                        try (var files = Files.walk(directory)) {
+                            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+                        }
                     }
+                    pattern = getFilePattern(directory);
                 }
-                writeAlarmModel();
                 if (commit) {
-                    // Commit the initialized git repo
-                    try (Git git = Git.open(root)) {
-                        git.add().addFilepattern(".").call();
-                        git.commit().setAll(true).setMessage("Alarm config update " + path).call();
-
-                        // Check if it is configured with the appropriate remotes
-                        if (remoteLocation != null && !remoteLocation.isEmpty()) {
-                            // If remote defined push to remote
-                            PushCommand pushCommand = git.push();
-                            pushCommand.setRemote(REMOTE_NAME);
-                            pushCommand.setForce(true);
-                            if (Boolean.parseBoolean(props.getProperty("use_ssh_keys"))) {
-                                pushCommand.setTransportConfigCallback(transport -> {
-                                    SshTransport sshTransport = (SshTransport) transport;
-                                    sshTransport.setSshSessionFactory(sshdSessionFactory);
-                                });
-                            } else if (usernamePasswordCredentialsProvider != null) {
-                                pushCommand.setCredentialsProvider(usernamePasswordCredentialsProvider);
-                            }
-                            pushCommand.call();
-                        }
-                    } catch (GitAPIException | IOException e) {
-                        logger.log(Level.WARNING, "Failed to commit the configuration changes", e);
-                    }
+                    committer.changed(pattern, path);
                 }
             }
         } catch (final Exception ex) {
@@ -293,6 +288,39 @@ public class AlarmConfigLogger implements Runnable {
         }
     }
 
+    /**
+     * @param file File or directory in the repo
+     * @return Git file pattern for the file, relative to the repo root
+     */
+    private String getFilePattern(Path file) {
+        String pattern = root.toPath().relativize(file).toString().replace(File.separatorChar, '/');
+        return pattern.isEmpty() ? "." : pattern;
+    }
+
+    /**
+     * Push a commit to the remote, if configured
+     *
+     * @param git Repo
+     */
+    private void push(Git git) throws GitAPIException {
+        // Check if it is configured with the appropriate remotes
+        if (remoteLocation != null && !remoteLocation.isEmpty()) {
+            // If remote defined push to remote
+            PushCommand pushCommand = git.push();
+            pushCommand.setRemote(REMOTE_NAME);
+            pushCommand.setForce(true);
+            if (Boolean.parseBoolean(props.getProperty("use_ssh_keys"))) {
+                pushCommand.setTransportConfigCallback(transport -> {
+                    SshTransport sshTransport = (SshTransport) transport;
+                    sshTransport.setSshSessionFactory(sshdSessionFactory);
+                });
+            } else if (usernamePasswordCredentialsProvider != null) {
+                pushCommand.setCredentialsProvider(usernamePasswordCredentialsProvider);
+            }
+            pushCommand.call();
+        }
+    }
+
     /**
      * Sync the local git repository with the config state as calculated from the
      * consumer records
@@ -303,6 +331,7 @@ public class AlarmConfigLogger implements Runnable {
         for (final ConsumerRecord<String, String> record : messages) {
             processAlarmConfigMessages(record.key(), record.value(), false);
         }
+        writeAlarmModel();
     }
 
     private class ProcessAlarmConfigMessage implements Processor<String, String> {
@@ -322,7 +351,9 @@ public class AlarmConfigLogger implements Runnable {
 
     }
 
-    private synchronized void writeAlarmModel() {
+    // Not synchronized: Called by the committer, which serializes the calls
+    // after the initial sync, and must not wait for the lock of this instance
+    private void writeAlarmModel() {
         // Output the model to the restore-able scripts folder.
         File node = Paths.get(root.getPath(), ".restore-script").toFile();
         if (!node.mkdirs() && !node.exists()) {
@@ -0,0 +1,151 @@
+package org.phoebus.alarm.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test of the batched commits of alarm config changes
+ */
+public class AlarmConfigCommitterTest {
+
+    @TempDir
+    File root;
+
+    private final AtomicInteger before_commit = new AtomicInteger(), after_commit = new AtomicInteger();
+
+    @BeforeEach
+    public void setup() throws Exception {
+        try (Git git = Git.init().setDirectory(root).call()) {
+            git.commit().setMessage("Initial").call();
+        }
+    }
+
+    private AlarmConfigCommitter createCommitter(int batch_secs, int batch_size) {
+        return new AlarmConfigCommitter(root, batch_secs, batch_size,
+                before_commit::incrementAndGet,
+                git -> after_commit.incrementAndGet());
+    }
+
+    /** Write config of a node, like the AlarmConfigLogger, and report it to the committer */
+    private void change(AlarmConfigCommitter committer, int i) throws Exception {
+        final String path = "Area/PV" + i;
+        final File node = new File(root, path);
+        node.mkdirs();
+        Files.writeString(new File(node, "alarm_config.json").toPath(), "{ \"description\": \"PV " + i + "\" }");
+        committer.changed(path + "/alarm_config.json", path);
+    }
+
+    private List<RevCommit> getCommits() throws Exception {
+        final List<RevCommit> commits = new ArrayList<>();
+        try (Git git = Git.open(root)) {
+            git.log().call().forEach(commits::add);
+        }
+        return commits;
+    }
+
+    private List<String> getCommittedFiles() throws Exception {
+        final List<String> files = new ArrayList<>();
+        try (Git git = Git.open(root)) {
+            final Repository repo = git.getRepository();
+            try (TreeWalk walk = new TreeWalk(repo)) {
+                walk.addTree(repo.parseCommit(repo.resolve("HEAD")).getTree());
+                walk.setRecursive(true);
+                while (walk.next()) {
+                    files.add(walk.getPathString());
+                }
+            }
+        }
+        return files;
+    }
+
+    @Test
+    public void testBurstIsOneCommit() throws Exception {
+        final AlarmConfigCommitter committer = createCommitter(60, 1000);
+        for (int i = 0; i < 100; ++i) {
+            change(committer, i);
+        }
+        // Nothing committed, yet
+        assertThat(committer.getPendingCount(), equalTo(100));
+        assertThat(getCommits().size(), equalTo(1));
+
+        // Shutdown commits all pending changes in one commit
+        committer.close();
+        assertThat(committer.getPendingCount(), equalTo(0));
+        final List<RevCommit> commits = getCommits();
+        assertThat(commits.size(), equalTo(2));
+        assertThat(commits.get(0).getFullMessage(), startsWith("Alarm config update of 100 paths"));
+        assertThat(getCommittedFiles().size(), equalTo(100));
+        assertThat(before_commit.get(), equalTo(1));
+        assertThat(after_commit.get(), equalTo(1));
+    }
+
+    @Test
+    public void testBatchSize() throws Exception {
+        final AlarmConfigCommitter committer = createCommitter(60, 10);
+        for (int i = 0; i < 25; ++i) {
+            change(committer, i);
+        }
+        // Two full batches committed, rest pending
+        assertThat(getCommits().size(), equalTo(3));
+        assertThat(committer.getPendingCount(), equalTo(5));
+        assertThat(getCommittedFiles().size(), equalTo(20));
+
+        committer.close();
+        assertThat(getCommits().size(), equalTo(4));
+        assertThat(getCommittedFiles().size(), equalTo(25));
+    }
+
+    @Test
+    public void testTimer() throws Exception {
+        final AlarmConfigCommitter committer = createCommitter(1, 1000);
+        for (int i = 0; i < 5; ++i) {
+            change(committer, i);
+        }
+        // Commit happens after the batch period
+        final long end = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (committer.getPendingCount() > 0 && System.currentTimeMillis() < end) {
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+        assertThat(committer.getPendingCount(), equalTo(0));
+        assertThat(getCommits().size(), equalTo(2));
+        assertThat(getCommittedFiles().size(), equalTo(5));
+
+        // Nothing left to commit on shutdown
+        committer.close();
+        assertThat(getCommits().size(), equalTo(2));
+    }
+
+    @Test
+    public void testDelete() throws Exception {
+        final AlarmConfigCommitter committer = createCommitter(0, 1);
+        change(committer, 1);
+        change(committer, 2);
+        assertThat(getCommittedFiles().size(), equalTo(2));
+
+        // Removed node is removed from the repo
+        final Path node = new File(root, "Area/PV1").toPath();
+        Files.delete(node.resolve("alarm_config.json"));
+        Files.delete(node);
+        committer.changed("Area/PV1", "Area/PV1");
+        assertThat(getCommittedFiles(), equalTo(List.of("Area/PV2/alarm_config.json")));
+        assertThat(getCommits().size(), equalTo(4));
+        committer.close();
+    }
+}
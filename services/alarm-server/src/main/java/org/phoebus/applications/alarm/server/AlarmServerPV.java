@@ -13,7 +13,6 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -33,6 +32,7 @@ import org.phoebus.applications.alarm.model.TitleDetailDelay;
 import org.phoebus.applications.alarm.server.actions.AutomatedActions;
 import org.phoebus.applications.alarm.server.actions.AutomatedActionsHelper;
 import org.phoebus.core.vtypes.VTypeHelper;
+import org.phoebus.framework.jobs.TimerWheel;
 import org.phoebus.pv.PV;
 import org.phoebus.pv.PVPool;
 
@@ -51,13 +51,7 @@ import io.reactivex.rxjava3.disposables.Disposable;
 public class AlarmServerPV extends AlarmTreeItem<AlarmState> implements AlarmTreeLeaf
 {
     /** Timer used to check for the initial connection */
-    private static final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable ->
-    {
-        final Thread thread = new Thread(runnable);
-        thread.setName("PVConnectionTimeout");
-        thread.setDaemon(true);
-        return thread;
-    });
+    private static final ScheduledExecutorService timer = TimerWheel.getShared();
 
     private final ServerModel model;
 
@@ -9,7 +9,6 @@ package org.phoebus.applications.alarm.server;
 
 import static org.phoebus.applications.alarm.AlarmSystem.logger;
 
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -18,6 +17,7 @@ import java.util.function.Consumer;
 import java.util.logging.Level;
 
 import org.phoebus.applications.alarm.model.AlarmState;
+import org.phoebus.framework.jobs.TimerWheel;
 
 /** Helper for checking alarms after a delay.
  *  It will trigger a transition to a new state only after a delay.
@@ -33,13 +33,7 @@ import org.phoebus.applications.alarm.model.AlarmState;
 @SuppressWarnings("nls")
 public class DelayedAlarmUpdate
 {
-    private static final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable ->
-    {
-        final Thread thread = new Thread(runnable);
-        thread.setName("DelayedAlarmUpdate");
-        thread.setDaemon(true);
-        return thread;
-    });
+    private static final ScheduledExecutorService timer = TimerWheel.getShared();
 
     /** Listener to notify when delay expires */
     private final Consumer<AlarmState> listener;
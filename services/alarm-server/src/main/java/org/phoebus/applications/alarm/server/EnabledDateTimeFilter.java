@@ -10,13 +10,12 @@ package org.phoebus.applications.alarm.server;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
-import org.phoebus.framework.jobs.NamedThreadFactory;
+import org.phoebus.framework.jobs.TimerWheel;
 
 /** Filter for alarm enablement based on datetime
  *  @author Jacqueline Garrahan
@@ -25,7 +24,7 @@ import org.phoebus.framework.jobs.NamedThreadFactory;
 public class EnabledDateTimeFilter
 {
     /** Timer for re-enable */
-    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("EnableDateTimeFilter"));
+    private static final ScheduledExecutorService TIMER = TimerWheel.getShared();
 
     /** Listener to notify when reactivated */
     final private Consumer<Boolean> listener;
@@ -46,6 +46,9 @@ import org.phoebus.applications.alarm.server.actions.InfoPVActionExecutor;
  *
  *  <p>Publishes alarm state updates to the "AcceleratorState" topic.
  *
+ *  <p>Periodically publishes a snapshot of configuration and state
+ *  to the "AcceleratorSnapshot" topic.
+ *
  *  @author Kay Kasemir
  */
 @SuppressWarnings("nls")
@@ -67,6 +70,8 @@ class ServerModel
     private volatile boolean running = true;
     private final Consumer<String, String> consumer;
     private final Producer<String, String> producer;
+    /** Snapshot publisher, <code>null</code> when disabled */
+    private final SnapshotPublisher snapshots;
     private final Thread thread;
     private long last_state_update = 0;
     private long last_annunciation = 0;
@@ -107,6 +112,9 @@ class ServerModel
                                                List.of(config_state_topic),
                                                kafka_properties_file);
         producer = KafkaHelper.connectProducer(kafka_servers, kafka_properties_file);
+        snapshots = AlarmSystem.snapshot_secs > 0
+                  ? new SnapshotPublisher(kafka_servers, config_name, kafka_properties_file)
+                  : null;
 
         thread = new Thread(this::run, "ServerModel");
         thread.setDaemon(true);
@@ -145,6 +153,8 @@ class ServerModel
             {
                 checkUpdates();
                 final long now = System.currentTimeMillis();
+                if (snapshots != null)
+                    snapshots.checkSnapshot(consumer, now);
                 checkIdle(now);
                 checkNag(now);
                 checkConnectivity(now);
@@ -222,6 +232,8 @@ class ServerModel
         }
         for (ConsumerRecord<String, String> record : records)
         {
+            if (snapshots != null)
+                snapshots.handleRecord(record);
             final int sep = record.key().indexOf(':');
             if (sep < 0)
             {
@@ -617,6 +629,8 @@ class ServerModel
         }
 
         logger.info(thread.getName() + " shut down");
+        if (snapshots != null)
+            snapshots.shutdown();
 
         // Stop all the PVs
         clearActionsAndStopPVs(root);
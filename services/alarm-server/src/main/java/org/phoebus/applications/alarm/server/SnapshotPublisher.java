@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.phoebus.applications.alarm.server;
+
+import static org.phoebus.applications.alarm.AlarmSystem.logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.phoebus.applications.alarm.AlarmSystem;
+import org.phoebus.applications.alarm.client.AlarmSnapshot;
+import org.phoebus.applications.alarm.client.KafkaHelper;
+
+/** Publishes snapshots of the alarm configuration and state
+ *
+ *  <p>Tracks the latest config and state message for each path
+ *  received by the {@link ServerModel},
+ *  and periodically publishes them as an {@link AlarmSnapshot}
+ *  together with the offsets in the configuration topic.
+ *
+ *  <p>The messages are tracked on the thread of the {@link ServerModel},
+ *  the snapshot is compressed and sent on a separate thread.
+ */
+@SuppressWarnings("nls")
+class SnapshotPublisher
+{
+    private final String config_topic, snapshot_topic;
+    private final Producer<String, byte[]> producer;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable ->
+    {
+        final Thread thread = new Thread(runnable, "SnapshotPublisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Latest message by key, least recently updated first. Only accessed by ServerModel thread */
+    private final LinkedHashMap<String, AlarmSnapshot.Message> messages = new LinkedHashMap<>();
+
+    /** Offsets of last published snapshot */
+    private Map<Integer, Long> published_offsets = Map.of();
+
+    /** Time of last snapshot (ms) */
+    private long last_snapshot = System.currentTimeMillis();
+
+    /** Number of chunks in last published snapshot */
+    private int published_chunks = 0;
+
+    /** @param kafka_servers Servers
+     *  @param config_name Name of alarm tree root
+     *  @param kafka_properties_file Additional properties to pass to the kafka client
+     */
+    public SnapshotPublisher(final String kafka_servers, final String config_name, final String kafka_properties_file)
+    {
+        config_topic = config_name;
+        snapshot_topic = config_name + AlarmSystem.SNAPSHOT_TOPIC_SUFFIX;
+        producer = KafkaHelper.connectBinaryProducer(kafka_servers, kafka_properties_file);
+    }
+
+    /** @param record Record received from the configuration topic */
+    public void handleRecord(final ConsumerRecord<String, String> record)
+    {
+        if (! record.topic().equals(config_topic))
+            return;
+        // Remove, then add to keep the messages in the order of their last update
+        messages.remove(record.key());
+        messages.put(record.key(), new AlarmSnapshot.Message(record.key(), record.value(), record.timestamp()));
+    }
+
+    /** Publish snapshot if it's time
+     *
+     *  <p>Call after handling all records of a poll,
+     *  so the consumer's position matches the tracked messages.
+     *
+     *  @param consumer Consumer of the configuration topic
+     *  @param now Current millisec
+     */
+    public void checkSnapshot(final Consumer<String, String> consumer, final long now)
+    {
+        if (now - last_snapshot < AlarmSystem.snapshot_secs * 1000L)
+            return;
+        last_snapshot = now;
+
+        final Map<Integer, Long> offsets = new HashMap<>();
+        for (TopicPartition part : consumer.assignment())
+            if (part.topic().equals(config_topic))
+                offsets.put(part.partition(), consumer.position(part));
+        // Not assigned, yet, or no change since last snapshot
+        if (offsets.isEmpty()  ||  offsets.equals(published_offsets))
+            return;
+        published_offsets = offsets;
+
+        // Messages are immutable, only the list needs to be copied
+        final AlarmSnapshot snapshot = new AlarmSnapshot(now, offsets, new ArrayList<>(messages.values()));
+        executor.execute(() -> publish(snapshot));
+    }
+
+    /** @param snapshot Snapshot to publish */
+    private void publish(final AlarmSnapshot snapshot)
+    {
+        try
+        {
+            final long start = System.currentTimeMillis();
+            final List<byte[]> chunks = snapshot.toChunks(AlarmSnapshot.CHUNK_SIZE);
+            // Send chunk 0, which identifies the snapshot, last.
+            // A client that sees the new chunk 0 will also see the other new chunks.
+            for (int i=chunks.size()-1; i>=0; --i)
+                producer.send(new ProducerRecord<>(snapshot_topic, AlarmSnapshot.CHUNK_PREFIX + i, chunks.get(i)));
+            // Remove chunks of an older, larger snapshot
+            for (int i=chunks.size(); i<published_chunks; ++i)
+                producer.send(new ProducerRecord<>(snapshot_topic, AlarmSnapshot.CHUNK_PREFIX + i, null));
+            producer.flush();
+            published_chunks = chunks.size();
+            final long bytes = chunks.stream().mapToLong(chunk -> chunk.length).sum();
+            logger.log(Level.INFO, () -> "Published snapshot of " + config_topic + " with " +
+                                         snapshot.getMessages().size() + " messages, " +
+                                         bytes / 1024 + " kB in " + chunks.size() + " chunks, " +
+                                         (System.currentTimeMillis() - start) + " ms");
+        }
+        catch (Throwable ex)
+        {
+            logger.log(Level.WARNING, "Cannot publish snapshot of " + config_topic, ex);
+        }
+    }
+
+    /** Stop publishing */
+    public void shutdown()
+    {
+        executor.shutdown();
+        try
+        {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException ex)
+        {
+            logger.log(Level.WARNING, "Snapshot publisher doesn't shut down", ex);
+        }
+        producer.close();
+    }
+}
@@ -10,6 +10,7 @@ import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.common.config.ConfigResource;
+import org.phoebus.applications.alarm.AlarmSystem;
 import org.phoebus.applications.alarm.client.KafkaHelper;
 import org.phoebus.framework.preferences.AnnotatedPreferences;
 import org.phoebus.framework.preferences.Preference;
@@ -40,7 +41,7 @@ public class TopicUtils {
     /**
      * Ensure that the required Kafka topics exist and are correctly configured.
      * <p>
-     * Creates and configures the main alarm topic (compacted) and command/talk topics (deleted).
+     * Creates and configures the main alarm and snapshot topics (compacted) and command/talk topics (deleted).
      * For more details on alarm topic configuration, see:
      * Refer to <a href="https://github.com/ControlSystemStudio/phoebus/tree/master/app/alarm#configure-alarm-topics">Configure Alarm Topics</a>
      *
@@ -55,11 +56,13 @@ public class TopicUtils {
         kafkaProps.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, server);
         try (AdminClient admin = AdminClient.create(kafkaProps)) {
             Set<String> topics = admin.listTopics().names().get(60, TimeUnit.SECONDS);
-            // Compacted topic
-            if (!topics.contains(topic)) {
-                createTopic(admin, topic);
+            // Compacted topics
+            for (String compactedTopic : List.of(topic, topic + AlarmSystem.SNAPSHOT_TOPIC_SUFFIX)) {
+                if (!topics.contains(compactedTopic)) {
+                    createTopic(admin, compactedTopic);
+                }
+                setCompactedConfig(admin, compactedTopic);
             }
-            setCompactedConfig(admin, topic);
 
             // Deleted topics
             for (String suffix : List.of("Command", "Talk")) {
@@ -12,7 +12,6 @@ import static org.phoebus.applications.alarm.AlarmSystem.logger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -25,7 +24,7 @@ import org.phoebus.applications.alarm.model.AlarmTreeItem;
 import org.phoebus.applications.alarm.model.AlarmTreeLeaf;
 import org.phoebus.applications.alarm.model.SeverityLevel;
 import org.phoebus.applications.alarm.model.TitleDetailDelay;
-import org.phoebus.framework.jobs.NamedThreadFactory;
+import org.phoebus.framework.jobs.TimerWheel;
 
 /** Handler of automated actions
  *
@@ -35,7 +34,7 @@ import org.phoebus.framework.jobs.NamedThreadFactory;
 public class AutomatedActions
 {
     /** Timer shared by all automated actions */
-    private static final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("AutomatedActions"));
+    private static final ScheduledExecutorService timer = TimerWheel.getShared();
 
     /** Item for which to handle automated actions */
     private final AlarmTreeItem<?> item;
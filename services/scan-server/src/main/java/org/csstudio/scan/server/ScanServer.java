@@ -103,6 +103,15 @@ public interface ScanServer
      */
     public ScanData getScanData(long id) throws Exception;
 
+    /** Query server for scan data logged after a given serial
+     *  @param id ID that uniquely identifies a scan
+     *  @param since Serial of last sample already known to the caller
+     *  @return Data for that scan on the server with samples that have a serial above <code>since</code>
+     *  @throws Exception on error
+     *  @see #getLastScanDataSerial(long)
+     */
+    public ScanData getScanData(long id, long since) throws Exception;
+
     /** Ask server to update a command parameter to a new value
      *  @param id ID that uniquely identifies a scan
      *  @param address Address of the command
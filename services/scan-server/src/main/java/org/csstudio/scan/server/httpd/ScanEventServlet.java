@@ -0,0 +1,378 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.csstudio.scan.server.httpd;
+
+import static org.csstudio.scan.server.ScanServerInstance.logger;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.csstudio.scan.info.ScanInfo;
+import org.csstudio.scan.server.ScanServer;
+import org.csstudio.scan.server.ScanServerInstance;
+import org.phoebus.framework.jobs.NamedThreadFactory;
+
+/** Servlet for "/events": Push scan server events to clients
+ *
+ *  <p>Uses Server-Sent Events, i.e. the response is a
+ *  "text/event-stream" that remains open.
+ *  Events:
+ *  <ul>
+ *  <li>"server": XML for server info, sent periodically
+ *  <li>"scans": XML for all scan infos, sent right away
+ *      when a scan is added, removed, or changes its state or current command,
+ *      otherwise periodically while scans make progress
+ *  <li>"data": "{id} {serial}" when a scan logged new data,
+ *      and once more when the scan is no longer active
+ *  </ul>
+ *
+ *  <p>One thread checks the scan server for changes and
+ *  queues them for all clients, replacing the
+ *  periodic requests of each client.
+ *  Events are written to each client on a separate thread,
+ *  so a slow client does not delay the others.
+ *  A client that falls too far behind is disconnected.
+ */
+@SuppressWarnings("nls")
+public class ScanEventServlet extends HttpServlet
+{
+    private final static long serialVersionUID = 1L;
+
+    /** Period for checking the scan server */
+    private static final long CHECK_MS = 100;
+
+    /** Period for sending server info and scan progress */
+    private static final long UPDATE_MS = 1000;
+
+    /** Maximum number of events waiting to be written to a client */
+    private static final int MAX_QUEUED = 100;
+
+    /** Connected client */
+    private class Client
+    {
+        final AsyncContext context;
+
+        /** Events waiting to be written. Synchronize on this client */
+        final ArrayDeque<byte[]> queue = new ArrayDeque<>();
+
+        /** Is a writer thread active, has client been closed? Synchronize on this client */
+        boolean writing = false, closed = false;
+
+        Client(final AsyncContext context)
+        {
+            this.context = context;
+        }
+    }
+
+    private final ScanServer scan_server;
+
+    /** Connected clients */
+    private final List<Client> clients = new CopyOnWriteArrayList<>();
+
+    /** Clients that still need the initial state */
+    private final ConcurrentLinkedQueue<Client> new_clients = new ConcurrentLinkedQueue<>();
+
+    private ScheduledExecutorService timer;
+
+    /** Threads that write events to clients */
+    private ExecutorService writers;
+
+    // Remaining fields only accessed by timer thread
+
+    /** Last scan infos sent to clients */
+    private List<ScanInfo> last_infos = null;
+
+    /** Last data serial sent for active scans */
+    private final Map<Long, Long> last_serials = new HashMap<>();
+
+    /** Time of last "server" and "scans" event */
+    private long last_server = 0, last_scans = 0;
+
+    /** Servlet for the scan server of this instance */
+    public ScanEventServlet()
+    {
+        this(ScanServerInstance.getScanServer());
+    }
+
+    /** @param scan_server Scan server to check for events */
+    ScanEventServlet(final ScanServer scan_server)
+    {
+        this.scan_server = scan_server;
+    }
+
+    @Override
+    public void init() throws ServletException
+    {
+        writers = Executors.newCachedThreadPool(new NamedThreadFactory("ScanEventWriter"));
+        timer = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("ScanEvents"));
+        timer.scheduleWithFixedDelay(this::check, CHECK_MS, CHECK_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /** GET events: Subscribe to events */
+    @Override
+    protected void doGet(final HttpServletRequest request,
+                         final HttpServletResponse response)
+                         throws ServletException, IOException
+    {
+        response.setContentType("text/event-stream");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader("Cache-Control", "no-cache");
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.flushBuffer();
+
+        final AsyncContext context = request.startAsync();
+        context.setTimeout(0);
+        logger.log(Level.FINE, () -> "Events for " + request.getRemoteHost());
+        new_clients.add(new Client(context));
+    }
+
+    /** Check for changes and send events */
+    private void check()
+    {
+        try
+        {
+            if (clients.isEmpty()  &&  new_clients.isEmpty())
+            {   // Nobody listening. Start over when there's a client.
+                last_infos = null;
+                last_serials.clear();
+                return;
+            }
+
+            // Clients that just connected receive the complete state
+            final List<Client> added = new ArrayList<>();
+            Client client;
+            while ((client = new_clients.poll()) != null)
+                added.add(client);
+
+            final long now = System.currentTimeMillis();
+            final String server_info;
+            if (now - last_server >= UPDATE_MS  ||  ! added.isEmpty())
+            {
+                last_server = now;
+                final StringWriter buf = new StringWriter();
+                final XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(buf);
+                ServletHelper.write(writer, scan_server.getInfo());
+                writer.flush();
+                server_info = buf.toString();
+                send("server", server_info);
+            }
+            else
+                server_info = null;
+
+            final List<ScanInfo> infos = scan_server.getScanInfos();
+            final boolean changed = last_infos == null  ||  isTransition(last_infos, infos)  ||
+                                    (! infos.equals(last_infos)  &&  now - last_scans >= UPDATE_MS);
+            final String scans = (changed  ||  ! added.isEmpty()) ? createScansXML(infos) : null;
+            if (changed)
+            {
+                last_infos = infos;
+                last_scans = now;
+                send("scans", scans);
+            }
+
+            // New clients now have the current state and receive the following changes
+            for (Client c : added)
+                if (send(c, "server", server_info)  &&  send(c, "scans", scans))
+                    clients.add(c);
+
+            // Check data of active scans, and once more when they are no longer active.
+            // That last event is sent even if the serial did not change,
+            // because more samples may have been logged with the same serial.
+            final Set<Long> ids = new HashSet<>();
+            for (ScanInfo info : infos)
+            {
+                final long id = info.getId();
+                ids.add(id);
+                final boolean active = info.getState().isActive();
+                if (! active  &&  ! last_serials.containsKey(id))
+                    continue;
+                final long serial = scan_server.getLastScanDataSerial(id);
+                final Long last = last_serials.put(id, serial);
+                if (last == null  ||  last != serial  ||  ! active)
+                    send("data", id + " " + serial);
+                if (! active)
+                    last_serials.remove(id);
+            }
+            // Forget scans that have been removed
+            last_serials.keySet().retainAll(ids);
+        }
+        catch (Throwable ex)
+        {
+            logger.log(Level.WARNING, "Cannot send scan events", ex);
+        }
+    }
+
+    /** @param infos Scan infos
+     *  @return XML as returned by "/scans"
+     *  @throws Exception on error
+     */
+    private String createScansXML(final List<ScanInfo> infos) throws Exception
+    {
+        final StringWriter buf = new StringWriter();
+        final XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(buf);
+        writer.writeStartElement("scans");
+        for (ScanInfo info : infos)
+            ServletHelper.write(writer, info);
+        writer.writeEndElement();
+        writer.flush();
+        return buf.toString();
+    }
+
+    /** @param previous Scan infos
+     *  @param current Scan infos
+     *  @return Did a scan get added, removed, or change its state or command?
+     */
+    private static boolean isTransition(final List<ScanInfo> previous, final List<ScanInfo> current)
+    {
+        if (previous.size() != current.size())
+            return true;
+        for (int i=0; i<current.size(); ++i)
+        {
+            final ScanInfo a = previous.get(i), b = current.get(i);
+            if (a.getId() != b.getId()  ||
+                a.getState() != b.getState()  ||
+                a.getCurrentAddress() != b.getCurrentAddress()  ||
+                ! Objects.equals(a.getError(), b.getError()))
+                return true;
+        }
+        return false;
+    }
+
+    /** Send event to all clients
+     *  @param event Event name
+     *  @param data Event data
+     */
+    private void send(final String event, final String data)
+    {
+        for (Client client : clients)
+            send(client, event, data);
+    }
+
+    /** Queue event for one client
+     *  @param client Client
+     *  @param event Event name
+     *  @param data Event data, may span lines
+     *  @return <code>true</code> on success, <code>false</code> when client is gone
+     */
+    private boolean send(final Client client, final String event, final String data)
+    {
+        final StringBuilder buf = new StringBuilder();
+        buf.append("event: ").append(event).append('\n');
+        for (String line : data.split("\r?\n"))
+            buf.append("data: ").append(line).append('\n');
+        buf.append('\n');
+        synchronized (client)
+        {
+            if (client.closed)
+                return false;
+            if (client.queue.size() < MAX_QUEUED)
+            {
+                client.queue.add(buf.toString().getBytes(StandardCharsets.UTF_8));
+                if (! client.writing)
+                {
+                    client.writing = true;
+                    writers.execute(() -> write(client));
+                }
+                return true;
+            }
+        }
+        logger.log(Level.FINE, "Event client does not keep up, disconnecting");
+        close(client);
+        return false;
+    }
+
+    /** Write queued events to a client
+     *  @param client Client
+     */
+    private void write(final Client client)
+    {
+        try
+        {
+            final ServletOutputStream out = client.context.getResponse().getOutputStream();
+            while (true)
+            {
+                final byte[] event;
+                synchronized (client)
+                {
+                    event = client.queue.poll();
+                    if (event == null  ||  client.closed)
+                    {
+                        client.writing = false;
+                        return;
+                    }
+                }
+                out.write(event);
+                out.flush();
+            }
+        }
+        catch (Exception ex)
+        {
+            logger.log(Level.FINE, "Event client disconnected", ex);
+            synchronized (client)
+            {
+                client.writing = false;
+            }
+            close(client);
+        }
+    }
+
+    /** @param client Client to close */
+    private void close(final Client client)
+    {
+        synchronized (client)
+        {
+            if (client.closed)
+                return;
+            client.closed = true;
+            client.queue.clear();
+        }
+        clients.remove(client);
+        try
+        {
+            client.context.complete();
+        }
+        catch (Exception ex)
+        {
+            // Already closed
+        }
+    }
+
+    @Override
+    public void destroy()
+    {
+        timer.shutdownNow();
+        for (Client client : clients)
+            close(client);
+        writers.shutdownNow();
+    }
+}
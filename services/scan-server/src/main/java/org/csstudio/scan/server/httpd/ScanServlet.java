@@ -252,6 +252,7 @@ public class ScanServlet extends HttpServlet
      *  <p>GET scan/{id} - get scan info
      *  <p>GET scan/{id}/commands - get scan commands
      *  <p>GET scan/{id}/data - get scan data
+     *  <p>GET scan/{id}/data?since={serial} - get scan data logged after given serial
      *  <p>GET scan/{id}/last_serial - get scan data's last serial
      *  <p>GET scan/{id}/devices - get devices used by a scan
      */
@@ -297,8 +298,11 @@ public class ScanServlet extends HttpServlet
                 out.flush();
             }
             else if ("data".equalsIgnoreCase(object))
-            {   // Get data
-                final ScanData data = scan_server.getScanData(id);
+            {   // Get data, all or only samples after 'since'
+                final String since = request.getParameter("since");
+                final ScanData data = since == null
+                                    ? scan_server.getScanData(id)
+                                    : scan_server.getScanData(id, Long.parseLong(since));
                 final XMLStreamWriter writer = ServletHelper.createXML(response);
                 ServletHelper.write(writer, data);
                 ServletHelper.submitXML(writer);
@@ -36,6 +36,7 @@ public class ScanWebServer
         context.addServlet(ScansServlet.class, "/scans/*");
         context.addServlet(ScanServlet.class, "/scan/*");
         context.addServlet(SimulateServlet.class, "/simulate/*");
+        context.addServlet(ScanEventServlet.class, "/events").setAsyncSupported(true);
 
         // Serve static files from webroot to "/"
         context.setContextPath("/");
@@ -77,6 +77,22 @@ public class LoggedScan extends Scan
         }
     }
 
+    /** Get samples logged after a given serial.
+     *  @param since Serial of last sample already known to the caller
+     *  @return {@link ScanData}
+     *  @throws Exception on error
+     */
+    public ScanData getScanData(final long since) throws Exception
+    {
+        try
+        (
+            final DataLog logger = DataLogFactory.getDataLog(this);
+        )
+        {
+            return logger.getScanData(since);
+        }
+    }
+
     // Compare by ID
     @Override
     public boolean equals(final Object obj)
@@ -374,6 +374,21 @@ public class ScanServerImpl implements ScanServer
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public ScanData getScanData(final long id, final long since) throws Exception
+    {
+        try
+        {
+            final LoggedScan scan = scan_engine.getScan(id);
+            return scan.getScanData(since);
+        }
+        catch (Exception ex)
+        {
+            throw new Exception("Error retrieving log data", ex);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void updateScanProperty(final long id, final long address,
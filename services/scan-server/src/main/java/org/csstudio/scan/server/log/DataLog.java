@@ -16,7 +16,10 @@
 package org.csstudio.scan.server.log;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.csstudio.scan.data.ScanData;
@@ -115,6 +118,32 @@ abstract public class DataLog implements Closeable
      */
     abstract public ScanData getScanData() throws Exception;
 
+    /** Get samples logged after a given serial
+     *
+     *  <p>Allows clients to fetch only new data.
+     *  Default implementation filters the complete data,
+     *  derived classes may override with a more efficient approach.
+     *
+     *  @param since Serial of last sample already known to the caller
+     *  @return {@link ScanData} with copy of samples that have a serial above <code>since</code>
+     *  @throws Exception on error
+     */
+    public ScanData getScanData(final long since) throws Exception
+    {
+        final ScanData data = getScanData();
+        final Map<String, List<ScanSample>> newer = new HashMap<>();
+        for (String device : data.getDevices())
+        {
+            final List<ScanSample> samples = new ArrayList<>();
+            for (ScanSample sample : data.getSamples(device))
+                if (sample.getSerial() > since)
+                    samples.add(sample);
+            if (! samples.isEmpty())
+                newer.put(device, samples);
+        }
+        return new ScanData(newer);
+    }
+
     /** Should be called when done logging samples
      *  to allow logging mechanism to release resources.
      */
@@ -17,14 +17,28 @@ import org.csstudio.scan.server.log.DataLog;
  *  Creates a logger on <code>doLog()</code> and keeps that open
  *  until <code>close()</code>
  *
+ *  <p>Samples are written in batches when the batch grows too large or old,
+ *  before reading the scan data, and on <code>close()</code>.
+ *  <code>flush()</code>, called by each 'log' command, only notifies listeners,
+ *  so fast scans avoid a transaction per logged row.
+ *
  *  @author Kay Kasemir
  */
 public class DerbyDataLog extends DataLog
 {
+    /** Number of samples after which a batch is written */
+    private static final int BATCH_SIZE = 1000;
+
+    /** Time in millisecs after which a batch is written */
+    private static final long BATCH_MILLIS = 1000;
+
     final private long scan_id;
 
     private RDBDataLogger logger = null;
 
+    /** Time of last write */
+    private long last_write = System.currentTimeMillis();
+
     /** Initialize
      *  @param scan_id ID of scan for which this logger should operate
      */
@@ -45,17 +59,32 @@ public class DerbyDataLog extends DataLog
 
     /** {@inheritDoc} */
     @Override
-    public void doLog(final String device, final ScanSample sample) throws Exception
+    public synchronized void doLog(final String device, final ScanSample sample) throws Exception
     {
         if (logger == null)
             logger = new DerbyDataLogger();
         logger.log(scan_id, device, sample);
+        if (logger.getBatchedSamples() >= BATCH_SIZE  ||
+            System.currentTimeMillis() - last_write >= BATCH_MILLIS)
+            write();
+    }
+
+    /** Write batched samples
+     *  @throws Exception on error
+     */
+    private synchronized void write() throws Exception
+    {
+        if (logger != null)
+            logger.flush();
+        last_write = System.currentTimeMillis();
     }
 
     /** {@inheritDoc} */
     @Override
     public ScanData getScanData() throws Exception
     {
+        // Include batched samples
+        write();
         // Can be called without doLog(), so use separate logger just for this call
         final RDBDataLogger logger = new DerbyDataLogger();
         try
@@ -68,6 +97,22 @@ public class DerbyDataLog extends DataLog
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public ScanData getScanData(final long since) throws Exception
+    {
+        write();
+        final RDBDataLogger logger = new DerbyDataLogger();
+        try
+        {
+            return logger.getScanData(scan_id, since);
+        }
+        finally
+        {
+            logger.close();
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public synchronized void close()
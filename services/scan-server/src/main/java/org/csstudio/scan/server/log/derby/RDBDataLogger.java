@@ -30,6 +30,9 @@ import org.csstudio.scan.info.Scan;
  *
  *  <p>Can write and read data for any scan.
  *
+ *  <p>Logged samples are added to a batch
+ *  which is written in one transaction on <code>flush()</code>.
+ *
  *  <p>Derived class needs to handle connection to specific RDB.
  *  @author Kay Kasemir
  */
@@ -47,6 +50,9 @@ abstract public class RDBDataLogger implements AutoCloseable
     /** Re-used statement */
     private PreparedStatement insert_sample_statement = null;
 
+    /** Number of samples in the batch of insert_sample_statement */
+    private int batched = 0;
+
     /** Initialize
       *  @throws Exception on error
      */
@@ -248,6 +254,10 @@ abstract public class RDBDataLogger implements AutoCloseable
     }
 
     /** Log a sample
+     *
+     *  <p>Sample is added to a batch.
+     *  Call <code>flush()</code> to write it.
+     *
      *  @param scan_id ID of associated scan
      *  @param device Device name
      *  @param sample Sample to log
@@ -266,9 +276,42 @@ abstract public class RDBDataLogger implements AutoCloseable
         insert_sample_statement.setLong(3, sample.getSerial());
         insert_sample_statement.setTimestamp(4, Timestamp.from(sample.getTimestamp()));
         insert_sample_statement.setObject(5, new SampleValue(sample.getValues()));
-        final int rows = insert_sample_statement.executeUpdate();
-        if (rows != 1)
-            throw new Exception("Sample insert affected " + rows + " rows");
+        insert_sample_statement.addBatch();
+        ++batched;
+    }
+
+    /** @return Number of logged samples that have not been written */
+    public int getBatchedSamples()
+    {
+        return batched;
+    }
+
+    /** Write all logged samples in one transaction
+     *  @throws Exception on error
+     */
+    public void flush() throws Exception
+    {
+        if (batched <= 0)
+            return;
+        connection.setAutoCommit(false);
+        try
+        {
+            final int[] rows = insert_sample_statement.executeBatch();
+            for (int row : rows)
+                if (row != 1  &&  row != Statement.SUCCESS_NO_INFO)
+                    throw new Exception("Sample insert affected " + row + " rows");
+            connection.commit();
+        }
+        catch (Exception ex)
+        {
+            connection.rollback();
+            throw ex;
+        }
+        finally
+        {
+            batched = 0;
+            connection.setAutoCommit(true);
+        }
     }
 
     /** Get serial of last logged sample.
@@ -328,6 +371,39 @@ abstract public class RDBDataLogger implements AutoCloseable
         return new ScanData(device_logs);
     }
 
+    /** Obtain data for a scan that was logged after a given serial
+     *  @param scan_id ID of the scan
+     *  @param since Serial of last sample already known to the caller
+     *  @return {@link ScanData} with samples that have a serial above <code>since</code>
+     *  @throws Exception on error
+     */
+    public ScanData getScanData(final long scan_id, final long since) throws Exception
+    {
+        final Map<String, List<ScanSample>> device_logs = new HashMap<String, List<ScanSample>>();
+        try
+        (
+            final PreparedStatement statement = connection.prepareStatement(
+                    "SELECT d.name, s.serial, s.timestamp, s.value FROM samples s JOIN devices d ON s.device_id = d.id" +
+                    " WHERE s.scan_id=? AND s.serial>? ORDER BY s.serial");
+        )
+        {
+            statement.setLong(1, scan_id);
+            statement.setLong(2, since);
+            final ResultSet result = statement.executeQuery();
+            while (result.next())
+            {
+                final String device = result.getString(1);
+                final long serial = result.getLong(2);
+                final Instant timestamp = result.getTimestamp(3).toInstant();
+                final SampleValue value = (SampleValue) result.getObject(4);
+                device_logs.computeIfAbsent(device, d -> new ArrayList<>())
+                           .add(ScanSampleFactory.createSample(timestamp, serial, value.getValues()));
+            }
+            result.close();
+        }
+        return new ScanData(device_logs);
+    }
+
     /** Get samples
      *  @param scan_id ID of the scan
      *  @param device_name Name of the device
@@ -428,11 +504,20 @@ abstract public class RDBDataLogger implements AutoCloseable
     }
 
     /** Close database.
+     *  Writes logged samples.
      *  Must be called to release resources.
      */
     @Override
     public void close()
     {
+        try
+        {
+            flush();
+        }
+        catch (Exception ex)
+        {
+            Logger.getLogger(getClass().getName()).log(Level.WARNING, "Error writing samples to log RDB", ex);
+        }
         try
         {
             if (insert_sample_statement != null)
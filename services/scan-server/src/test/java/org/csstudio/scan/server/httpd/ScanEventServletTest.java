@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.csstudio.scan.server.httpd;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.lang.reflect.Proxy;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.csstudio.scan.info.Scan;
+import org.csstudio.scan.info.ScanInfo;
+import org.csstudio.scan.info.ScanServerInfo;
+import org.csstudio.scan.info.ScanState;
+import org.csstudio.scan.server.ScanServer;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** JUnit test of the {@link ScanEventServlet}
+ *
+ *  <p>Runs the servlet on a local web server
+ *  for a scan server that only provides scan infos and serials.
+ */
+@SuppressWarnings("nls")
+public class ScanEventServletTest
+{
+    private final Scan scan = new Scan(1, "Test", Instant.now());
+    private final List<ScanInfo> infos = new CopyOnWriteArrayList<>();
+    private final Map<Long, Long> serials = new ConcurrentHashMap<>();
+    private Server server;
+    private HttpURLConnection connection;
+    private BufferedReader events;
+
+    @BeforeEach
+    public void start() throws Exception
+    {
+        final ScanServerInfo info = new ScanServerInfo("Test", Instant.now(), "", List.of(), "");
+        final ScanServer scan_server = (ScanServer) Proxy.newProxyInstance(ScanServer.class.getClassLoader(),
+            new Class<?>[] { ScanServer.class },
+            (proxy, method, args) ->
+            {
+                switch (method.getName())
+                {
+                case "getInfo":
+                    return info;
+                case "getScanInfos":
+                    return List.copyOf(infos);
+                case "getLastScanDataSerial":
+                    return serials.getOrDefault(args[0], -1L);
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+                }
+            });
+
+        server = new Server(0);
+        final ServletContextHandler context = new ServletContextHandler(ServletContextHandler.NO_SECURITY | ServletContextHandler.NO_SESSIONS);
+        final ServletHolder holder = new ServletHolder(new ScanEventServlet(scan_server));
+        holder.setAsyncSupported(true);
+        context.addServlet(holder, "/events");
+        server.setHandler(context);
+        server.start();
+
+        final int port = ((ServerConnector) server.getConnectors()[0]).getLocalPort();
+        connection = (HttpURLConnection) new URL("http://localhost:" + port + "/events").openConnection();
+        connection.setReadTimeout(5000);
+        events = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    public void stop() throws Exception
+    {
+        connection.disconnect();
+        server.stop();
+    }
+
+    /** @param name Event name to await
+     *  @return Data of that event
+     *  @throws Exception on timeout
+     */
+    private String awaitEvent(final String name) throws Exception
+    {
+        // Periodic "server" events keep the connection busy,
+        // so check for timeout in addition to the read timeout
+        final long end = System.currentTimeMillis() + 5000;
+        String event = null;
+        final StringBuilder data = new StringBuilder();
+        String line;
+        while ((line = events.readLine()) != null)
+        {
+            if (line.startsWith("event: "))
+                event = line.substring(7);
+            else if (line.startsWith("data: "))
+                data.append(line.substring(6));
+            else if (line.isEmpty())
+            {
+                if (name.equals(event))
+                    return data.toString();
+                if (System.currentTimeMillis() > end)
+                    throw new Exception("Timeout waiting for " + name + ", last event " + event + ": " + data);
+                event = null;
+                data.setLength(0);
+            }
+        }
+        throw new Exception("Events ended while waiting for " + name);
+    }
+
+    @Test
+    public void testInitialState() throws Exception
+    {
+        assertThat(awaitEvent("server"), containsString("<version>Test</version>"));
+        assertThat(awaitEvent("scans"), containsString("<scans"));
+    }
+
+    @Test
+    public void testDataUpdates() throws Exception
+    {
+        infos.add(new ScanInfo(scan, ScanState.Running));
+        serials.put(1L, 5L);
+        assertThat(awaitEvent("data"), equalTo("1 5"));
+
+        serials.put(1L, 6L);
+        assertThat(awaitEvent("data"), equalTo("1 6"));
+
+        // Scan ends without a new serial, but may have logged more samples
+        infos.set(0, new ScanInfo(scan, ScanState.Finished));
+        assertThat(awaitEvent("data"), equalTo("1 6"));
+
+        // No more data events for the finished scan,
+        // the next one is for another scan
+        final Scan other = new Scan(2, "Other", Instant.now());
+        infos.add(new ScanInfo(other, ScanState.Running));
+        serials.put(2L, 1L);
+        assertThat(awaitEvent("data"), equalTo("2 1"));
+    }
+
+    @Test
+    public void testRemovedScan() throws Exception
+    {
+        infos.add(new ScanInfo(scan, ScanState.Running));
+        serials.put(1L, 5L);
+        assertThat(awaitEvent("data"), equalTo("1 5"));
+
+        // Active scan is removed, which forgets its serial.
+        infos.clear();
+        assertThat(awaitEvent("scans"), equalTo("<scans></scans>"));
+
+        // When it's known again, its data is reported as new
+        infos.add(new ScanInfo(scan, ScanState.Running));
+        assertThat(awaitEvent("data"), equalTo("1 5"));
+    }
+}
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Oak Ridge National Laboratory.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ ******************************************************************************/
+package org.csstudio.scan.server.log.derby;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.csstudio.scan.data.NumberScanSample;
+import org.csstudio.scan.data.ScanData;
+import org.csstudio.scan.info.Scan;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/** JUnit test of the batched {@link DerbyDataLog}
+ *
+ *  <p>Compares logging with a transaction per logged row,
+ *  as when each 'log' command committed its samples,
+ *  to batched logging with the 'log' command's log-then-flush pattern,
+ *  and reads data incrementally.
+ */
+@SuppressWarnings("nls")
+public class DerbyDataLogTest
+{
+    @BeforeAll
+    public static void startup() throws Exception
+    {
+        final File location = Files.createTempDirectory("scan_log_db").toFile();
+        DerbyDataLogger.startup(location.getAbsolutePath());
+    }
+
+    @AfterAll
+    public static void shutdown() throws Exception
+    {
+        DerbyDataLogger.shutdown();
+    }
+
+    private static long createScan(final String name) throws Exception
+    {
+        try (RDBDataLogger logger = new DerbyDataLogger())
+        {
+            final Scan scan = logger.createScan(name);
+            return scan.getId();
+        }
+    }
+
+    /** Log rows like the 'log' command, which flushes after each row
+     *  @return Rows per second
+     */
+    private static double logSamples(final DerbyDataLog log, final int count) throws Exception
+    {
+        final long start = System.nanoTime();
+        for (int i=0; i<count; ++i)
+        {
+            final long serial = log.getNextScanDataSerial();
+            log.log("xpos", new NumberScanSample(Instant.now(), serial, i * 0.1));
+            log.log("signal", new NumberScanSample(Instant.now(), serial, Math.sin(i * 0.01)));
+            log.flush();
+        }
+        return count / (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) / 1000.0);
+    }
+
+    /** Log rows with one transaction per row
+     *  @return Rows per second
+     */
+    private static double commitEachRow(final long scan_id, final int count) throws Exception
+    {
+        final long start = System.nanoTime();
+        try (RDBDataLogger logger = new DerbyDataLogger())
+        {
+            for (int i=0; i<count; ++i)
+            {
+                logger.log(scan_id, "xpos", new NumberScanSample(Instant.now(), i, i * 0.1));
+                logger.log(scan_id, "signal", new NumberScanSample(Instant.now(), i, Math.sin(i * 0.01)));
+                logger.flush();
+            }
+        }
+        return count / (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) / 1000.0);
+    }
+
+    @Test
+    public void testBatchedLogging() throws Exception
+    {
+        final int count = 10000;
+
+        double rate = commitEachRow(createScan("Commit each row"), count);
+        System.out.format("Commit each row: %8.0f rows/sec\n", rate);
+
+        final long id = createScan("Batched");
+        try (DerbyDataLog log = new DerbyDataLog(id))
+        {
+            rate = logSamples(log, count);
+        }
+        System.out.format("Log and flush  : %8.0f rows/sec\n", rate);
+
+        try (DerbyDataLog log = new DerbyDataLog(id))
+        {
+            final ScanData data = log.getScanData();
+            assertThat(data.getSamples("xpos").size(), equalTo(count));
+            assertThat(data.getSamples("signal").size(), equalTo(count));
+            assertThat(data.getLastSerial(), equalTo(count - 1L));
+        }
+    }
+
+    @Test
+    public void testIncrementalData() throws Exception
+    {
+        try (DerbyDataLog log = new DerbyDataLog(createScan("Incremental")))
+        {
+            // Reading data includes the batched samples
+            logSamples(log, 10);
+            for (int i=0; i<5; ++i)
+            {
+                final long serial = log.getNextScanDataSerial();
+                log.log("xpos", new NumberScanSample(Instant.now(), serial, 42.0));
+            }
+            ScanData data = log.getScanData();
+            assertThat(data.getSamples("xpos").size(), equalTo(15));
+            assertThat(data.getSamples("signal").size(), equalTo(10));
+
+            // Nothing new
+            ScanData update = log.getScanData(data.getLastSerial());
+            assertThat(update.getDevices().size(), equalTo(0));
+
+            logSamples(log, 20);
+            update = log.getScanData(data.getLastSerial());
+            assertThat(update.getSamples("xpos").size(), equalTo(20));
+            assertThat(update.getSamples("signal").size(), equalTo(20));
+
+            data = data.merge(update);
+            assertThat(data.getSamples("xpos").size(), equalTo(35));
+            assertThat(data.getSamples("signal").size(), equalTo(30));
+            assertThat(data.getLastSerial(), equalTo(log.getLastScanDataSerial()));
+
+            // Merging the same update again, for example received from
+            // a server that ignores 'since', doesn't duplicate samples
+            data = data.merge(update);
+            assertThat(data.getSamples("xpos").size(), equalTo(35));
+        }
+    }
+
+    @Test
+    public void testSameSerialUpdates() throws Exception
+    {
+        try (DerbyDataLog log = new DerbyDataLog(createScan("Same serial")))
+        {
+            ScanData data = log.getScanData();
+            for (int i=0; i<10; ++i)
+            {
+                // Log devices with the same serial, fetching updates in between,
+                // as a client might while a 'log' command is executed
+                final long serial = log.getNextScanDataSerial();
+                for (String device : new String[] { "xpos", "ypos", "signal" })
+                {
+                    log.log(device, new NumberScanSample(Instant.now(), serial, i));
+                    data = data.merge(log.getScanData(data.getUpdateSerial()));
+                }
+            }
+
+            final ScanData full = log.getScanData();
+            for (String device : full.getDevices())
+            {
+                assertThat(data.getSamples(device).size(), equalTo(10));
+                for (int i=0; i<10; ++i)
+                    assertThat(data.getSamples(device).get(i).getSerial(),
+                               equalTo(full.getSamples(device).get(i).getSerial()));
+            }
+            assertThat(data.getDevices().size(), equalTo(3));
+        }
+    }
+}